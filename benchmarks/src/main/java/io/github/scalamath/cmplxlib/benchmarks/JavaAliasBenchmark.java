@@ -0,0 +1,72 @@
+package io.github.scalamath.cmplxlib.benchmarks;
+
+import io.github.scalamath.cmplxlib.Complex;
+import io.github.scalamath.cmplxlib.Mat4c;
+import io.github.scalamath.cmplxlib.Vec4c;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the methods that can be used in place of Scala operators when they are called from Java.
+ *
+ * The same operations called from Scala are benchmarked in {@link OperatorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaAliasBenchmark {
+
+    /** Seed used to generate the inputs */
+    @Param("42")
+    public long seed;
+
+    private Complex z;
+    private Complex w;
+    private Vec4c v;
+    private Mat4c a;
+    private Mat4c b;
+
+    @Setup
+    public void setup() {
+        var data = new BenchmarkData(this.seed);
+        this.z = data.complex();
+        this.w = data.complex();
+        this.v = data.vec4c();
+        this.a = data.mat4c();
+        this.b = data.mat4c();
+    }
+
+    @Benchmark
+    public Complex complexPlus() {
+        return this.z.plus(this.w);
+    }
+
+    @Benchmark
+    public Complex complexMultiply() {
+        return this.z.multiply(this.w);
+    }
+
+    @Benchmark
+    public Complex complexDivide() {
+        return this.z.divide(this.w);
+    }
+
+    @Benchmark
+    public Mat4c matrixPlus() {
+        return this.a.plus(this.b);
+    }
+
+    @Benchmark
+    public Mat4c matrixMultiply() {
+        return this.a.multiply(this.b);
+    }
+
+    @Benchmark
+    public Vec4c matrixVector() {
+        return this.a.multiply(this.v);
+    }
+}
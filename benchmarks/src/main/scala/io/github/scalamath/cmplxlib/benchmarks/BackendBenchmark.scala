@@ -0,0 +1,67 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, ComplexBackend}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing the kernels of the available backends.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = Array("--add-modules=jdk.incubator.vector"))
+class BackendBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Name of the backend */
+  @Param(Array("scalar", "vector"))
+  var backendName: String = _
+
+  /** Number of complex numbers in the buffers */
+  @Param(Array("1024", "65536"))
+  var length: Int = _
+
+  var backend: ComplexBackend = _
+  var a: Array[Double] = _
+  var b: Array[Double] = _
+  var dst: Array[Double] = _
+  var moduli: Array[Double] = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.backend = ComplexBackend.available.find(_.name == this.backendName).getOrElse(ComplexBackend.Scalar)
+    this.a = data.doubles(2 * this.length)
+    this.b = data.doubles(2 * this.length)
+    this.dst = new Array[Double](2 * this.length)
+    this.moduli = new Array[Double](this.length)
+  }
+
+  @Benchmark
+  def multiply(): Array[Double] = {
+    this.backend.multiply(this.a, 0, this.b, 0, this.dst, 0, this.length)
+    this.dst
+  }
+
+  @Benchmark
+  def multiplyAdd(): Array[Double] = {
+    this.backend.multiplyAdd(this.a, 0, this.b, 0, this.dst, 0, this.length)
+    this.dst
+  }
+
+  @Benchmark
+  def conjugateDot: Complex = this.backend.conjugateDot(this.a, 0, this.b, 0, this.length)
+
+  @Benchmark
+  def squaredModulus(): Array[Double] = {
+    this.backend.squaredModulus(this.a, 0, this.moduli, 0, this.length)
+    this.moduli
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, ComplexBatch}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing batch transcendental functions with calling the functions in the [[Complex]] object one element
+ * at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class BatchFunctionBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of complex numbers */
+  @Param(Array("1024", "1048576"))
+  var count: Int = _
+
+  var src: Array[Double] = _
+  var dst: Array[Double] = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.src = data.doubles(2 * this.count)
+    this.dst = new Array[Double](2 * this.count)
+  }
+
+  @Benchmark
+  def expOneByOne(): Array[Double] = {
+    var i = 0
+    while (i < this.count) {
+      val z = Complex.exp(this.src(2 * i), this.src(2 * i + 1))
+      this.dst(2 * i) = z.a
+      this.dst(2 * i + 1) = z.b
+      i += 1
+    }
+    this.dst
+  }
+
+  @Benchmark
+  def expAccurate(): Array[Double] = {
+    ComplexBatch.Accurate.exp(this.src, 0, this.dst, 0, this.count)
+    this.dst
+  }
+
+  @Benchmark
+  def expFast(): Array[Double] = {
+    ComplexBatch.Fast.exp(this.src, 0, this.dst, 0, this.count)
+    this.dst
+  }
+
+  @Benchmark
+  def sinOneByOne(): Array[Double] = {
+    var i = 0
+    while (i < this.count) {
+      val z = Complex.sin(this.src(2 * i), this.src(2 * i + 1))
+      this.dst(2 * i) = z.a
+      this.dst(2 * i + 1) = z.b
+      i += 1
+    }
+    this.dst
+  }
+
+  @Benchmark
+  def sinAccurate(): Array[Double] = {
+    ComplexBatch.Accurate.sin(this.src, 0, this.dst, 0, this.count)
+    this.dst
+  }
+
+  @Benchmark
+  def sinFast(): Array[Double] = {
+    ComplexBatch.Fast.sin(this.src, 0, this.dst, 0, this.count)
+    this.dst
+  }
+
+  @Benchmark
+  def logOneByOne(): Array[Double] = {
+    var i = 0
+    while (i < this.count) {
+      val z = Complex.log(this.src(2 * i), this.src(2 * i + 1))
+      this.dst(2 * i) = z.a
+      this.dst(2 * i + 1) = z.b
+      i += 1
+    }
+    this.dst
+  }
+
+  @Benchmark
+  def logAccurate(): Array[Double] = {
+    ComplexBatch.Accurate.log(this.src, 0, this.dst, 0, this.count)
+    this.dst
+  }
+
+  @Benchmark
+  def logFast(): Array[Double] = {
+    ComplexBatch.Fast.log(this.src, 0, this.dst, 0, this.count)
+    this.dst
+  }
+}
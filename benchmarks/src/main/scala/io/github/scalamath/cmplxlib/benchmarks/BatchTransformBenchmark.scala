@@ -0,0 +1,76 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat3x4c, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing batched matrix-vector transforms with multiplying a matrix by one vector at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class BatchTransformBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of vectors to transform */
+  @Param(Array("1024", "1048576"))
+  var count: Int = _
+
+  var mat4c: Mat4c = _
+  var mat3x4c: Mat3x4c = _
+  var vectors: Array[Vec4c] = _
+  var src: Array[Double] = _
+  var dst: Array[Double] = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.mat4c = data.mat4c
+    this.mat3x4c = data.mat3x4c
+    this.src = data.doubles(8 * this.count)
+    this.dst = new Array[Double](8 * this.count)
+    this.vectors = Array.tabulate(this.count) { i =>
+      val j = 8 * i
+      Vec4c(Complex(this.src(j), this.src(j + 1)), Complex(this.src(j + 2), this.src(j + 3)), Complex(this.src(j + 4), this.src(j + 5)), Complex(this.src(j + 6), this.src(j + 7)))
+    }
+  }
+
+  @Benchmark
+  def mat4cOneByOne(blackhole: Blackhole): Unit = {
+    var i = 0
+    while (i < this.count) {
+      blackhole.consume(this.mat4c * this.vectors(i))
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def mat4cTransformAll(): Array[Double] = {
+    this.mat4c.transformAll(this.src, this.dst, 0, this.count)
+    this.dst
+  }
+
+  @Benchmark
+  def mat3x4cOneByOne(blackhole: Blackhole): Unit = {
+    var i = 0
+    while (i < this.count) {
+      blackhole.consume(this.mat3x4c * this.vectors(i))
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def mat3x4cTransformAll(): Array[Double] = {
+    this.mat3x4c.transformAll(this.src, this.dst, 0, this.count)
+    this.dst
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib._
+
+import scala.util.Random
+
+/**
+ * Generates random inputs for benchmarks.
+ *
+ * @constructor Constructs a generator using the given seed.
+ * @param seed The seed of the random number generator.
+ */
+class BenchmarkData(seed: Long) {
+
+  /** The random number generator */
+  private val random = new Random(seed)
+
+  /**
+   * Returns a random complex number whose real and imaginary parts are in the range `[-1, 1)`.
+   *
+   * @return A random complex number.
+   */
+  def complex: Complex = Complex(this.random.nextDouble() * 2.0 - 1.0, this.random.nextDouble() * 2.0 - 1.0)
+
+  /**
+   * Returns a random 2D vector.
+   *
+   * @return A random 2D vector.
+   */
+  def vec2c: Vec2c = Vec2c(this.complex, this.complex)
+
+  /**
+   * Returns a random 3D vector.
+   *
+   * @return A random 3D vector.
+   */
+  def vec3c: Vec3c = Vec3c(this.complex, this.complex, this.complex)
+
+  /**
+   * Returns a random 4D vector.
+   *
+   * @return A random 4D vector.
+   */
+  def vec4c: Vec4c = Vec4c(this.complex, this.complex, this.complex, this.complex)
+
+  /**
+   * Returns a random 2x2 matrix.
+   *
+   * @return A random 2x2 matrix.
+   */
+  def mat2c: Mat2c = Mat2c.fromRows(this.vec2c, this.vec2c)
+
+  /**
+   * Returns a random 2x3 matrix.
+   *
+   * @return A random 2x3 matrix.
+   */
+  def mat2x3c: Mat2x3c = Mat2x3c.fromRows(this.vec3c, this.vec3c)
+
+  /**
+   * Returns a random 3x3 matrix.
+   *
+   * @return A random 3x3 matrix.
+   */
+  def mat3c: Mat3c = Mat3c.fromRows(this.vec3c, this.vec3c, this.vec3c)
+
+  /**
+   * Returns a random 3x4 matrix.
+   *
+   * @return A random 3x4 matrix.
+   */
+  def mat3x4c: Mat3x4c = Mat3x4c.fromRows(this.vec4c, this.vec4c, this.vec4c)
+
+  /**
+   * Returns a random 4x4 matrix.
+   *
+   * @return A random 4x4 matrix.
+   */
+  def mat4c: Mat4c = Mat4c.fromRows(this.vec4c, this.vec4c, this.vec4c, this.vec4c)
+
+  /**
+   * Returns an array of the given length filled with random values in the range `[-1, 1)`.
+   *
+   * @param length The length of the array.
+   * @return A random array.
+   */
+  def doubles(length: Int): Array[Double] = Array.fill(length)(this.random.nextDouble() * 2.0 - 1.0)
+}
@@ -0,0 +1,73 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{BinaryCodec, ComplexArray, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+
+import java.nio.ByteBuffer
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for [[BinaryCodec]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class BinaryCodecBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of values in the arrays */
+  @Param(Array("10000"))
+  var count: Int = _
+
+  /** True to use a direct buffer, false to use a heap buffer */
+  @Param(Array("false", "true"))
+  var direct: Boolean = _
+
+  var vectors: Array[Vec4c] = _
+  var matrices: Array[Mat4c] = _
+  var readMatrices: Array[Mat4c] = _
+  var array: ComplexArray = _
+  var buffer: ByteBuffer = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.vectors = Array.fill(this.count)(data.vec4c)
+    this.matrices = Array.fill(this.count)(data.mat4c)
+    this.readMatrices = new Array[Mat4c](this.count)
+    this.array = ComplexArray.wrap(data.doubles(32 * this.count))
+    val capacity = this.count * BinaryCodec.Mat4cBytes
+    this.buffer = if (this.direct) ByteBuffer.allocateDirect(capacity) else ByteBuffer.allocate(capacity)
+  }
+
+  @Benchmark
+  def writeVectors(): ByteBuffer = {
+    this.buffer.clear()
+    BinaryCodec.write(this.buffer, this.vectors)
+    this.buffer
+  }
+
+  @Benchmark
+  def writeAndReadMatrices(): Array[Mat4c] = {
+    this.buffer.clear()
+    BinaryCodec.write(this.buffer, this.matrices)
+    this.buffer.flip()
+    BinaryCodec.read(this.buffer, this.readMatrices)
+    this.readMatrices
+  }
+
+  @Benchmark
+  def writeAndReadComplexArray(): ComplexArray = {
+    this.buffer.clear()
+    BinaryCodec.write(this.buffer, this.array)
+    this.buffer.flip()
+    BinaryCodec.read(this.buffer, this.array)
+    this.array
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{CachedMat4c, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing repeated queries of the derived values of a matrix with and without caching.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class CachedMatrixBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of times the same matrix is queried */
+  @Param(Array("16"))
+  var queries: Int = _
+
+  var mat4c: Mat4c = _
+  var vec4c: Vec4c = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.mat4c = data.mat4c
+    this.vec4c = data.vec4c
+  }
+
+  @Benchmark
+  def inverseUncached(blackhole: Blackhole): Unit = {
+    var i = 0
+    while (i < this.queries) {
+      blackhole.consume(this.mat4c.inverse * this.vec4c)
+      blackhole.consume(this.mat4c.determinant)
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def inverseCached(blackhole: Blackhole): Unit = {
+    val cached = this.mat4c.cached
+    var i = 0
+    while (i < this.queries) {
+      blackhole.consume(cached.inverse * this.vec4c)
+      blackhole.consume(cached.determinant)
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def solveUncached(blackhole: Blackhole): Unit = {
+    var i = 0
+    while (i < this.queries) {
+      blackhole.consume(this.mat4c.luDecomposition.solve(this.vec4c))
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def solveCached(blackhole: Blackhole): Unit = {
+    val cached = new CachedMat4c(this.mat4c)
+    var i = 0
+    while (i < this.queries) {
+      blackhole.consume(cached.solve(this.vec4c))
+      i += 1
+    }
+  }
+}
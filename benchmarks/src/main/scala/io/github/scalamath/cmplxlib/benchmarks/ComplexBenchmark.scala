@@ -0,0 +1,62 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.Complex
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Complex]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class ComplexBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var z: Complex = _
+  var w: Complex = _
+  var r: Double = _
+  /** Complex number whose squared modulus overflows */
+  var large: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.z = data.complex
+    this.w = data.complex
+    this.r = data.complex.a
+    this.large = this.z * 1e200
+  }
+
+  @Benchmark def plus: Complex = this.z + this.w
+  @Benchmark def plusReal: Complex = this.z + this.r
+  @Benchmark def minus: Complex = this.z - this.w
+  @Benchmark def negated: Complex = -this.z
+  @Benchmark def times: Complex = this.z * this.w
+  @Benchmark def timesReal: Complex = this.z * this.r
+  @Benchmark def divide: Complex = this.z / this.w
+  @Benchmark def divideReal: Complex = this.z / this.r
+  @Benchmark def conjugate: Complex = this.z.conjugate
+  @Benchmark def inverse: Complex = this.z.inverse
+  @Benchmark def squaredModulus: Double = this.z.squaredModulus
+  @Benchmark def modulus: Double = this.z.modulus
+  @Benchmark def modulusLarge: Double = this.large.modulus
+  @Benchmark def divideLarge: Complex = this.large / this.w
+  @Benchmark def arg: Double = this.z.arg
+  @Benchmark def equalsApprox: Boolean = this.z ~= this.w
+  @Benchmark def fromPolar: Complex = Complex.fromPolar(this.r, this.w.a)
+  @Benchmark def sqrt: Complex = Complex.sqrt(this.z)
+  @Benchmark def exp: Complex = Complex.exp(this.z)
+  @Benchmark def log: Complex = Complex.log(this.z)
+  @Benchmark def pow: Complex = Complex.pow(this.z, this.w)
+  @Benchmark def sin: Complex = Complex.sin(this.z)
+  @Benchmark def cos: Complex = Complex.cos(this.z)
+  @Benchmark def tan: Complex = Complex.tan(this.z)
+}
@@ -0,0 +1,45 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{ComplexArray, ComplexMatrix, ParallelOps}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[ComplexMatrix]].
+ *
+ * A product of two `n`x`n` matrices performs `8 * n^3` floating point operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class ComplexMatrixBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of rows and columns of the matrices */
+  @Param(Array("64", "512", "2048"))
+  var size: Int = _
+
+  var a: ComplexMatrix = _
+  var b: ComplexMatrix = _
+  var v: ComplexArray = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.a = ComplexMatrix.wrap(this.size, this.size, data.doubles(2 * this.size * this.size))
+    this.b = ComplexMatrix.wrap(this.size, this.size, data.doubles(2 * this.size * this.size))
+    this.v = ComplexArray.wrap(data.doubles(2 * this.size))
+  }
+
+  @Benchmark def product: ComplexMatrix = this.a * this.b
+  @Benchmark def parallelProduct: ComplexMatrix = ParallelOps.Default.multiply(this.a, this.b)
+  @Benchmark def productWithVector: ComplexArray = this.a * this.v
+  @Benchmark def transposed: ComplexMatrix = this.a.transposed
+}
@@ -0,0 +1,89 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{ComplexArray, Mat2c, Mat4c}
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing the matrix exponential with a truncated power series.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class ExpmBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of terms of the power series */
+  @Param(Array("20"))
+  var terms: Int = _
+
+  /** Number of matrices in the batch */
+  @Param(Array("64"))
+  var count: Int = _
+
+  var mat2c: Mat2c = _
+  var mat4c: Mat4c = _
+  var hermitian: Mat4c = _
+  var matrices: Array[Mat4c] = _
+  var src: ComplexArray = _
+  var dst: ComplexArray = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.mat2c = data.mat2c
+    this.mat4c = data.mat4c
+    this.hermitian = this.mat4c + this.mat4c.conjugate.transposed
+    this.matrices = Array.fill(this.count)(data.mat4c)
+    this.src = new ComplexArray(16 * this.count)
+    for (i <- 0 until this.count; r <- 0 until 4; c <- 0 until 4) {
+      this.src(16 * i + 4 * r + c) = this.matrices(i)(r, c)
+    }
+    this.dst = new ComplexArray(16 * this.count)
+  }
+
+  @Benchmark
+  def seriesMat4c(): Mat4c = {
+    var sum = Mat4c.Identity
+    var factorial = 1.0
+    var k = 1
+    while (k < this.terms) {
+      factorial *= k
+      sum = sum + this.mat4c.power(k) / factorial
+      k += 1
+    }
+    sum
+  }
+
+  @Benchmark
+  def expmMat2c(): Mat2c = this.mat2c.expm
+
+  @Benchmark
+  def expmMat4c(): Mat4c = this.mat4c.expm
+
+  @Benchmark
+  def expmHermitian(): Mat4c = this.hermitian.expm
+
+  @Benchmark
+  def expmLoop(blackhole: Blackhole): Unit = {
+    var i = 0
+    while (i < this.count) {
+      blackhole.consume(this.matrices(i).expm)
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def expmAll(): ComplexArray = {
+    Mat4c.expmAll(this.src, this.dst)
+    this.dst
+  }
+}
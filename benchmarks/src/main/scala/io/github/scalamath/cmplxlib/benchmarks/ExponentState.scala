@@ -0,0 +1,14 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import org.openjdk.jmh.annotations._
+
+/**
+ * Benchmark state holding the exponent used to benchmark matrix powers.
+ */
+@State(Scope.Thread)
+class ExponentState {
+
+  /** Exponent the matrix is raised to */
+  @Param(Array("2", "16", "256", "4096"))
+  var exponent: Int = _
+}
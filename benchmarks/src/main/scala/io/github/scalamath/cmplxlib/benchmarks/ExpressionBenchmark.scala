@@ -0,0 +1,57 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares chains of operators with the same chains computed by a lazy expression.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class ExpressionBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var k: Complex = _
+  var j: Complex = _
+  var va: Vec4c = _
+  var vb: Vec4c = _
+  var vc: Vec4c = _
+  var ma: Mat4c = _
+  var mb: Mat4c = _
+  var mc: Mat4c = _
+  var dst: Array[Double] = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.k = data.complex
+    this.j = data.complex
+    this.va = data.vec4c
+    this.vb = data.vec4c
+    this.vc = data.vec4c
+    this.ma = data.mat4c
+    this.mb = data.mat4c
+    this.mc = data.mat4c
+    this.dst = new Array[Double](32)
+  }
+
+  @Benchmark def vectorOperators: Vec4c = this.va * this.k + this.vb * this.j - this.vc.conjugate
+  @Benchmark def vectorExpression: Vec4c = (this.va.lazily * this.k + this.vb.lazily * this.j - this.vc.lazily.conjugate).evaluate
+  @Benchmark def matrixOperators: Mat4c = this.ma * this.k + this.mb * this.j - this.mc.conjugate
+  @Benchmark def matrixExpression: Mat4c = (this.ma.lazily * this.k + this.mb.lazily * this.j - this.mc.lazily.conjugate).evaluate
+
+  @Benchmark
+  def matrixExpressionIntoArray(): Array[Double] = {
+    (this.ma.lazily * this.k + this.mb.lazily * this.j - this.mc.lazily.conjugate).evaluate(this.dst, 0)
+    this.dst
+  }
+}
@@ -0,0 +1,48 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.FFT
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the fast Fourier transform.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class FFTBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Size of the transform, powers of two use the radix-2 algorithm and other sizes use Bluestein's algorithm */
+  @Param(Array("1024", "1000", "65536", "65537"))
+  var size: Int = _
+
+  var fft: FFT = _
+  var data: Array[Double] = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.fft = FFT(this.size)
+    this.data = data.doubles(2 * this.size)
+  }
+
+  /**
+   * Computes the forward and the inverse transform, so that the data does not grow between invocations.
+   *
+   * @return The transformed data.
+   */
+  @Benchmark
+  def roundTrip(): Array[Double] = {
+    this.fft.forward(this.data, 0)
+    this.fft.inverse(this.data, 0)
+    this.data
+  }
+}
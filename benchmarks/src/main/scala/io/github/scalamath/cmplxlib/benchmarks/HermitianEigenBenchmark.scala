@@ -0,0 +1,76 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{ComplexArray, HermitianEigen3c, HermitianEigen4c, Mat2c, Mat3c, Mat4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks of the eigendecomposition of small hermitian matrices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class HermitianEigenBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of matrices in the batch */
+  @Param(Array("1024"))
+  var count: Int = _
+
+  var mat2c: Mat2c = _
+  var mat3c: Mat3c = _
+  var mat4c: Mat4c = _
+  var src3: ComplexArray = _
+  var src4: ComplexArray = _
+  var values: Array[Double] = _
+  var vectors: ComplexArray = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    val m2 = data.mat2c
+    val m3 = data.mat3c
+    val m4 = data.mat4c
+    this.mat2c = m2 + m2.conjugate.transposed
+    this.mat3c = m3 + m3.conjugate.transposed
+    this.mat4c = m4 + m4.conjugate.transposed
+    this.src3 = new ComplexArray(9 * this.count)
+    this.src4 = new ComplexArray(16 * this.count)
+    for (i <- 0 until this.count) {
+      val h3 = data.mat3c
+      val h4 = data.mat4c
+      for (r <- 0 until 3; c <- 0 until 3) this.src3(9 * i + 3 * r + c) = h3(r, c) + h3(c, r).conjugate
+      for (r <- 0 until 4; c <- 0 until 4) this.src4(16 * i + 4 * r + c) = h4(r, c) + h4(c, r).conjugate
+    }
+    this.values = new Array[Double](4 * this.count)
+    this.vectors = new ComplexArray(16 * this.count)
+  }
+
+  @Benchmark
+  def eigenMat2c(): Mat2c = this.mat2c.hermitianEigen.vectors
+
+  @Benchmark
+  def eigenMat3c(): HermitianEigen3c = this.mat3c.hermitianEigen
+
+  @Benchmark
+  def eigenMat4c(): HermitianEigen4c = this.mat4c.hermitianEigen
+
+  @Benchmark
+  def eigenAllMat3c(): Array[Double] = {
+    Mat3c.hermitianEigenAll(this.src3, this.values, this.vectors)
+    this.values
+  }
+
+  @Benchmark
+  def eigenAllMat4c(): Array[Double] = {
+    Mat4c.hermitianEigenAll(this.src4, this.values, this.vectors)
+    this.values
+  }
+}
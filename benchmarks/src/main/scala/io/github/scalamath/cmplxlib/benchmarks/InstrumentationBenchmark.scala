@@ -0,0 +1,47 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, LUDecomposition4c, Mat4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the cost of instrumentation on instrumented operations.
+ *
+ * This benchmark runs with instrumentation disabled and compares instrumented operations with the same computations
+ * done without instrumentation.
+ * The same benchmarks with instrumentation enabled are in [[EnabledInstrumentationBenchmark]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class InstrumentationBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var z: Complex = _
+  var m: Mat4c = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.z = data.complex
+    this.m = data.mat4c
+  }
+
+  @Benchmark def inverseMat4c: Mat4c = this.m.inverse
+  @Benchmark def inverseMat4cUninstrumented: Mat4c = LUDecomposition4c(this.m).inverse
+  @Benchmark def expComplex: Complex = Complex.exp(this.z)
+  @Benchmark def expComplexUninstrumented: Complex = Complex(math.exp(this.z.a) * math.cos(this.z.b), math.exp(this.z.a) * math.sin(this.z.b))
+}
+
+/**
+ * The benchmarks of [[InstrumentationBenchmark]] with instrumentation enabled.
+ */
+@Fork(value = 1, jvmArgsAppend = Array("-Dcmplxlib.instrumentation=true"))
+class EnabledInstrumentationBenchmark extends InstrumentationBenchmark
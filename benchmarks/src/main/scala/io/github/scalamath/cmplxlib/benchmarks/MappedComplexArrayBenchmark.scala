@@ -0,0 +1,72 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, ComplexArray, MappedComplexArray}
+import org.openjdk.jmh.annotations._
+
+import java.nio.file.{Files, Path}
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for [[MappedComplexArray]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class MappedComplexArrayBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of complex numbers in the file */
+  @Param(Array("4194304"))
+  var length: Int = _
+
+  /** Number of complex numbers in a window */
+  @Param(Array("4096", "65536"))
+  var windowSize: Int = _
+
+  var path: Path = _
+  var mapped: MappedComplexArray = _
+  var heap: ComplexArray = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.heap = ComplexArray.wrap(data.doubles(2 * this.length))
+    this.path = Files.createTempFile("cmplxlib-benchmark", ".bin")
+    this.mapped = MappedComplexArray.create(this.path, this.length)
+    this.mapped.copyFrom(this.heap, 0, 0, this.length)
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    this.mapped.close()
+    Files.deleteIfExists(this.path)
+  }
+
+  @Benchmark
+  def sumMapped(): Complex = this.mapped.sum
+
+  @Benchmark
+  def squaredNormMapped(): Double = this.mapped.squaredNorm
+
+  @Benchmark
+  def sumWindows(): Double = {
+    var res = 0.0
+    this.mapped.foreachWindow(this.windowSize) { (_, window) =>
+      res += window.squaredModulus.sum
+    }
+    res
+  }
+
+  @Benchmark
+  def copyToHeap(): ComplexArray = {
+    val dst = new ComplexArray(this.length)
+    this.mapped.copyTo(0, dst, 0, this.length)
+    dst
+  }
+}
@@ -0,0 +1,56 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat2c, Vec2c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Mat2c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Mat2cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var a: Mat2c = _
+  var b: Mat2c = _
+  var v: Vec2c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.a = data.mat2c
+    this.b = data.mat2c
+    this.v = data.vec2c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Mat2c = this.a + this.b
+  @Benchmark def minus: Mat2c = this.a - this.b
+  @Benchmark def negated: Mat2c = -this.a
+  @Benchmark def timesScalar: Mat2c = this.a * this.k
+  @Benchmark def timesReal: Mat2c = this.a * this.k.a
+  @Benchmark def divideScalar: Mat2c = this.a / this.k
+  @Benchmark def timesVector: Vec2c = this.a * this.v
+  @Benchmark def timesMatrix: Mat2c = this.a * this.b
+  @Benchmark def transposed: Mat2c = this.a.transposed
+  @Benchmark def conjugate: Mat2c = this.a.conjugate
+  @Benchmark def isSymmetric: Boolean = this.a.isSymmetric
+  @Benchmark def isSkewSymmetric: Boolean = this.a.isSkewSymmetric
+  @Benchmark def isHermitian: Boolean = this.a.isHermitian
+  @Benchmark def determinant: Complex = this.a.determinant
+  @Benchmark def adjugate: Mat2c = this.a.adjugate
+  @Benchmark def inverse: Mat2c = this.a.inverse
+  @Benchmark def power(state: ExponentState): Mat2c = this.a.power(state.exponent)
+  @Benchmark def orthonormalized: Mat2c = this.a.orthonormalized
+  @Benchmark def equalsApprox: Boolean = this.a ~= this.b
+}
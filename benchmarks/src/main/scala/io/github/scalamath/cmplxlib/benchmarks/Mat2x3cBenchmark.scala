@@ -0,0 +1,50 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat2x3c, Mat3c, Vec2c, Vec3c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Mat2x3c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Mat2x3cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var a: Mat2x3c = _
+  var b: Mat2x3c = _
+  var m: Mat3c = _
+  var v: Vec3c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.a = data.mat2x3c
+    this.b = data.mat2x3c
+    this.m = data.mat3c
+    this.v = data.vec3c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Mat2x3c = this.a + this.b
+  @Benchmark def minus: Mat2x3c = this.a - this.b
+  @Benchmark def negated: Mat2x3c = -this.a
+  @Benchmark def timesScalar: Mat2x3c = this.a * this.k
+  @Benchmark def timesReal: Mat2x3c = this.a * this.k.a
+  @Benchmark def divideScalar: Mat2x3c = this.a / this.k
+  @Benchmark def timesVector: Vec2c = this.a * this.v
+  @Benchmark def timesMatrix: Mat2x3c = this.a * this.m
+  @Benchmark def conjugate: Mat2x3c = this.a.conjugate
+  @Benchmark def orthonormalized: Mat2x3c = this.a.orthonormalized
+  @Benchmark def equalsApprox: Boolean = this.a ~= this.b
+}
@@ -0,0 +1,58 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, LUDecomposition3c, Mat3c, Vec3c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Mat3c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Mat3cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var a: Mat3c = _
+  var b: Mat3c = _
+  var v: Vec3c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.a = data.mat3c
+    this.b = data.mat3c
+    this.v = data.vec3c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Mat3c = this.a + this.b
+  @Benchmark def minus: Mat3c = this.a - this.b
+  @Benchmark def negated: Mat3c = -this.a
+  @Benchmark def timesScalar: Mat3c = this.a * this.k
+  @Benchmark def timesReal: Mat3c = this.a * this.k.a
+  @Benchmark def divideScalar: Mat3c = this.a / this.k
+  @Benchmark def timesVector: Vec3c = this.a * this.v
+  @Benchmark def timesMatrix: Mat3c = this.a * this.b
+  @Benchmark def transposed: Mat3c = this.a.transposed
+  @Benchmark def conjugate: Mat3c = this.a.conjugate
+  @Benchmark def isSymmetric: Boolean = this.a.isSymmetric
+  @Benchmark def isSkewSymmetric: Boolean = this.a.isSkewSymmetric
+  @Benchmark def isHermitian: Boolean = this.a.isHermitian
+  @Benchmark def determinant: Complex = this.a.determinant
+  @Benchmark def adjugate: Mat3c = this.a.adjugate
+  @Benchmark def inverse: Mat3c = this.a.inverse
+  @Benchmark def luDecomposition: LUDecomposition3c = this.a.luDecomposition
+  @Benchmark def solve: Vec3c = this.a.luDecomposition.solve(this.v)
+  @Benchmark def power(state: ExponentState): Mat3c = this.a.power(state.exponent)
+  @Benchmark def orthonormalized: Mat3c = this.a.orthonormalized
+  @Benchmark def equalsApprox: Boolean = this.a ~= this.b
+}
@@ -0,0 +1,50 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat3x4c, Mat4c, Vec3c, Vec4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Mat3x4c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Mat3x4cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var a: Mat3x4c = _
+  var b: Mat3x4c = _
+  var m: Mat4c = _
+  var v: Vec4c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.a = data.mat3x4c
+    this.b = data.mat3x4c
+    this.m = data.mat4c
+    this.v = data.vec4c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Mat3x4c = this.a + this.b
+  @Benchmark def minus: Mat3x4c = this.a - this.b
+  @Benchmark def negated: Mat3x4c = -this.a
+  @Benchmark def timesScalar: Mat3x4c = this.a * this.k
+  @Benchmark def timesReal: Mat3x4c = this.a * this.k.a
+  @Benchmark def divideScalar: Mat3x4c = this.a / this.k
+  @Benchmark def timesVector: Vec3c = this.a * this.v
+  @Benchmark def timesMatrix: Mat3x4c = this.a * this.m
+  @Benchmark def conjugate: Mat3x4c = this.a.conjugate
+  @Benchmark def orthonormalized: Mat3x4c = this.a.orthonormalized
+  @Benchmark def equalsApprox: Boolean = this.a ~= this.b
+}
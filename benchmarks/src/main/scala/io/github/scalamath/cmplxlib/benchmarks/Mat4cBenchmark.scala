@@ -0,0 +1,64 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, LUDecomposition4c, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Mat4c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Mat4cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var a: Mat4c = _
+  var b: Mat4c = _
+  var v: Vec4c = _
+  var k: Complex = _
+  var hermitian: Mat4c = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.a = data.mat4c
+    this.b = data.mat4c
+    this.v = data.vec4c
+    this.k = data.complex
+    this.hermitian = this.a + this.a.conjugate.transposed
+  }
+
+  @Benchmark def plus: Mat4c = this.a + this.b
+  @Benchmark def minus: Mat4c = this.a - this.b
+  @Benchmark def negated: Mat4c = -this.a
+  @Benchmark def timesScalar: Mat4c = this.a * this.k
+  @Benchmark def timesReal: Mat4c = this.a * this.k.a
+  @Benchmark def divideScalar: Mat4c = this.a / this.k
+  @Benchmark def timesVector: Vec4c = this.a * this.v
+  @Benchmark def timesMatrix: Mat4c = this.a * this.b
+  @Benchmark def transposed: Mat4c = this.a.transposed
+  @Benchmark def conjugate: Mat4c = this.a.conjugate
+  @Benchmark def isSymmetric: Boolean = this.a.isSymmetric
+  @Benchmark def isSkewSymmetric: Boolean = this.a.isSkewSymmetric
+  @Benchmark def isHermitian: Boolean = this.a.isHermitian
+  @Benchmark def determinant: Complex = this.a.determinant
+  @Benchmark def adjugate: Mat4c = this.a.adjugate
+  @Benchmark def inverse: Mat4c = this.a.inverse
+  @Benchmark def luDecomposition: LUDecomposition4c = this.a.luDecomposition
+  @Benchmark def solve: Vec4c = this.a.luDecomposition.solve(this.v)
+  @Benchmark def power(state: ExponentState): Mat4c = this.a.power(state.exponent)
+  @Benchmark def orthonormalized: Mat4c = this.a.orthonormalized
+  @Benchmark def equalsApprox: Boolean = this.a ~= this.b
+  @Benchmark def isHermitianFullScan: Boolean = this.hermitian.isHermitian
+  @Benchmark def isHermitianWithTolerance: Boolean = this.hermitian.isHermitian(1e-12)
+  @Benchmark def isUnitary: Boolean = this.a.isUnitary(1e-12)
+  @Benchmark def isTriangular: Boolean = this.a.isTriangular
+}
@@ -0,0 +1,101 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{ComplexArray, Mat2c, Mat4c, ParallelOps}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks of batched products and products of chains of small matrices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class MatrixChainBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of matrices in the chain */
+  @Param(Array("4096"))
+  var count: Int = _
+
+  var mat2c: Array[Mat2c] = _
+  var mat4c: Array[Mat4c] = _
+  var src2: ComplexArray = _
+  var src4: ComplexArray = _
+  var other4: ComplexArray = _
+  var dst2: ComplexArray = _
+  var dst4: ComplexArray = _
+  var parallel: ParallelOps = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.mat2c = Array.fill(this.count)(data.mat2c)
+    this.mat4c = Array.fill(this.count)(data.mat4c)
+    this.src2 = new ComplexArray(4 * this.count)
+    this.src4 = new ComplexArray(16 * this.count)
+    this.other4 = new ComplexArray(16 * this.count)
+    for (i <- 0 until this.count) {
+      for (r <- 0 until 2; c <- 0 until 2) this.src2(4 * i + 2 * r + c) = this.mat2c(i)(r, c)
+      for (r <- 0 until 4; c <- 0 until 4) this.src4(16 * i + 4 * r + c) = this.mat4c(i)(r, c)
+      for (r <- 0 until 4; c <- 0 until 4) this.other4(16 * i + 4 * r + c) = this.mat4c(this.count - i - 1)(r, c)
+    }
+    this.dst2 = new ComplexArray(4 * this.count)
+    this.dst4 = new ComplexArray(16 * this.count)
+    this.parallel = ParallelOps.Default.copy(granularity = 256)
+  }
+
+  @Benchmark
+  def multiplyOperatorMat4c(): Array[Mat4c] = Array.tabulate(this.count)(i => this.mat4c(i) * this.mat4c(this.count - i - 1))
+
+  @Benchmark
+  def multiplyAllMat4c(): ComplexArray = {
+    Mat4c.multiplyAll(this.src4, this.other4, this.dst4)
+    this.dst4
+  }
+
+  @Benchmark
+  def multiplyAllMat4cParallel(): ComplexArray = {
+    Mat4c.multiplyAll(this.src4, this.other4, this.dst4, this.parallel)
+    this.dst4
+  }
+
+  @Benchmark
+  def foldMat2c(): Mat2c = this.mat2c.reduceLeft(_ * _)
+
+  @Benchmark
+  def productMat2c(): Mat2c = Mat2c.product(this.src2)
+
+  @Benchmark
+  def productMat2cParallel(): Mat2c = Mat2c.product(this.src2, this.parallel)
+
+  @Benchmark
+  def foldMat4c(): Mat4c = this.mat4c.reduceLeft(_ * _)
+
+  @Benchmark
+  def productMat4c(): Mat4c = Mat4c.product(this.src4)
+
+  @Benchmark
+  def productMat4cParallel(): Mat4c = Mat4c.product(this.src4, this.parallel)
+
+  @Benchmark
+  def scanMat4c(): Array[Mat4c] = this.mat4c.scanLeft(Mat4c.Identity)(_ * _)
+
+  @Benchmark
+  def prefixProductsMat4c(): ComplexArray = {
+    Mat4c.prefixProducts(this.src4, this.dst4)
+    this.dst4
+  }
+
+  @Benchmark
+  def prefixProductsMat4cParallel(): ComplexArray = {
+    Mat4c.prefixProducts(this.src4, this.dst4, this.parallel)
+    this.dst4
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares Scala operators with the methods that can be used in their place for better interoperability with Java.
+ *
+ * The same aliases called from Java are benchmarked in [[JavaAliasBenchmark]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class OperatorBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var z: Complex = _
+  var w: Complex = _
+  var v: Vec4c = _
+  var a: Mat4c = _
+  var b: Mat4c = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.z = data.complex
+    this.w = data.complex
+    this.v = data.vec4c
+    this.a = data.mat4c
+    this.b = data.mat4c
+  }
+
+  @Benchmark def complexPlusOperator: Complex = this.z + this.w
+  @Benchmark def complexPlusAlias: Complex = this.z.plus(this.w)
+  @Benchmark def complexTimesOperator: Complex = this.z * this.w
+  @Benchmark def complexMultiplyAlias: Complex = this.z.multiply(this.w)
+  @Benchmark def complexDivideOperator: Complex = this.z / this.w
+  @Benchmark def complexDivideAlias: Complex = this.z.divide(this.w)
+  @Benchmark def matrixPlusOperator: Mat4c = this.a + this.b
+  @Benchmark def matrixPlusAlias: Mat4c = this.a.plus(this.b)
+  @Benchmark def matrixTimesOperator: Mat4c = this.a * this.b
+  @Benchmark def matrixMultiplyAlias: Mat4c = this.a.multiply(this.b)
+  @Benchmark def matrixVectorOperator: Vec4c = this.a * this.v
+  @Benchmark def matrixVectorAlias: Vec4c = this.a.multiply(this.v)
+}
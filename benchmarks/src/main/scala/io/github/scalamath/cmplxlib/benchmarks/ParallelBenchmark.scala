@@ -0,0 +1,63 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, ComplexArray, Mat4c, ParallelOps}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing sequential and parallel bulk operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class ParallelBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of complex numbers in the arrays */
+  @Param(Array("65536", "4194304"))
+  var length: Int = _
+
+  /** Granularity of the parallel operations */
+  @Param(Array("8192"))
+  var granularity: Int = _
+
+  var ops: ParallelOps = _
+  var mat: Mat4c = _
+  var a: ComplexArray = _
+  var b: ComplexArray = _
+  var dst: ComplexArray = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.ops = ParallelOps.Default.copy(granularity = this.granularity)
+    this.mat = data.mat4c
+    this.a = ComplexArray.wrap(data.doubles(2 * this.length))
+    this.b = ComplexArray.wrap(data.doubles(2 * this.length))
+    this.dst = new ComplexArray(this.length)
+  }
+
+  @Benchmark def sequentialProduct: ComplexArray = this.a * this.b
+  @Benchmark def parallelProduct: ComplexArray = this.ops.multiply(this.a, this.b)
+  @Benchmark def parallelDot: Complex = this.ops.dot(this.a, this.b)
+  @Benchmark def parallelSumOfProducts: Complex = this.ops.sumOfProducts(this.a, this.b)
+
+  @Benchmark
+  def sequentialTransform(): ComplexArray = {
+    this.mat.transformAll(this.a, this.dst)
+    this.dst
+  }
+
+  @Benchmark
+  def parallelTransform(): ComplexArray = {
+    this.ops.transformAll(this.mat, this.a, this.dst)
+    this.dst
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{ComplexArray, Mat4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing the Gram-Schmidt procedure with the QR decomposition computed with Householder reflections.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class QRDecompositionBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of matrices in the batch */
+  @Param(Array("64"))
+  var count: Int = _
+
+  var mat4c: Mat4c = _
+  var src: ComplexArray = _
+  var q: ComplexArray = _
+  var r: ComplexArray = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.mat4c = data.mat4c
+    this.src = new ComplexArray(16 * this.count)
+    (0 until this.src.length).foreach(i => this.src(i) = data.complex)
+    this.q = new ComplexArray(16 * this.count)
+    this.r = new ComplexArray(16 * this.count)
+  }
+
+  @Benchmark
+  def gramSchmidt(): Mat4c = {
+    var (v0, v1, v2, v3) = (this.mat4c.col0, this.mat4c.col1, this.mat4c.col2, this.mat4c.col3)
+    v1 = v1 - v1.project(v0)
+    v2 = v2 - v2.project(v0) - v2.project(v1)
+    v3 = v3 - v3.project(v0) - v3.project(v1) - v3.project(v2)
+    Mat4c.fromColumns(v0.normalized, v1.normalized, v2.normalized, v3.normalized)
+  }
+
+  @Benchmark
+  def householder(): Mat4c = this.mat4c.orthonormalized
+
+  @Benchmark
+  def qrDecomposition(): Mat4c = {
+    val qr = this.mat4c.qrDecomposition
+    qr.q * qr.r
+  }
+
+  @Benchmark
+  def decomposeQRAll(): ComplexArray = {
+    Mat4c.decomposeQRAll(this.src, this.q, this.r)
+    this.r
+  }
+}
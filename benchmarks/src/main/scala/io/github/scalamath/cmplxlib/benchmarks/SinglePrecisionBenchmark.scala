@@ -0,0 +1,68 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Complex32, ComplexArray, ComplexArray32, Mat4c, Mat4cf, Vec4c, Vec4cf}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing single-precision types with their double-precision counterparts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class SinglePrecisionBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of complex numbers in the arrays */
+  @Param(Array("1048576"))
+  var length: Int = _
+
+  var doubles1: ComplexArray = _
+  var doubles2: ComplexArray = _
+  var floats1: ComplexArray32 = _
+  var floats2: ComplexArray32 = _
+  var mat4c: Mat4c = _
+  var vec4c: Vec4c = _
+  var mat4cf: Mat4cf = _
+  var vec4cf: Vec4cf = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.doubles1 = ComplexArray.wrap(data.doubles(2 * this.length))
+    this.doubles2 = ComplexArray.wrap(data.doubles(2 * this.length))
+    this.floats1 = ComplexArray32.fromComplexArray(this.doubles1)
+    this.floats2 = ComplexArray32.fromComplexArray(this.doubles2)
+    this.mat4c = data.mat4c
+    this.vec4c = data.vec4c
+    this.mat4cf = Mat4cf.fromMat4c(this.mat4c)
+    this.vec4cf = Vec4cf.fromVec4c(this.vec4c)
+  }
+
+  @Benchmark
+  def multiplyArrays(): ComplexArray = this.doubles1 * this.doubles2
+
+  @Benchmark
+  def multiplyArrays32(): ComplexArray32 = this.floats1 * this.floats2
+
+  @Benchmark
+  def dotArrays(): Complex = this.doubles1.dot(this.doubles2)
+
+  @Benchmark
+  def dotArrays32(): Complex32 = this.floats1.dot(this.floats2)
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  def matrixTimesVector(): Vec4c = this.mat4c * this.vec4c
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  def matrixTimesVector32(): Vec4cf = this.mat4cf * this.vec4cf
+}
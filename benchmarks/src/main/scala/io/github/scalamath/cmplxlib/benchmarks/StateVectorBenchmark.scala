@@ -0,0 +1,75 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Circuit, ComplexArray, Mat2c, Mat4c, StateVector, Vec2c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks comparing gates applied in place to a state vector with multiplying vectors of amplitudes one at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class StateVectorBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  /** Number of qubits of the state */
+  @Param(Array("16", "22"))
+  var qubits: Int = _
+
+  var mat2c: Mat2c = _
+  var mat4c: Mat4c = _
+  var state: StateVector = _
+  var amplitudes: ComplexArray = _
+  var circuit: Circuit = _
+  var fused: Circuit = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    // Gates are unitary, so that the amplitudes do not overflow when a benchmark is repeated
+    this.mat2c = data.mat2c.orthonormalized
+    this.mat4c = data.mat4c.orthonormalized
+    this.amplitudes = ComplexArray.wrap(data.doubles(2 << this.qubits))
+    this.state = StateVector.fromAmplitudes(this.amplitudes)
+    // A layer of single-qubit gates on every qubit followed by a chain of two-qubit gates
+    this.circuit = (0 until this.qubits).foldLeft(new Circuit(this.qubits))((c, q) => c.gate(data.mat2c.orthonormalized, q))
+    this.circuit = (1 until this.qubits).foldLeft(this.circuit)((c, q) => c.gate(data.mat4c.orthonormalized, q - 1, q))
+    this.fused = this.circuit.fused
+  }
+
+  @Benchmark
+  def singleQubitGateWithVectors(): ComplexArray = {
+    val target = this.qubits / 2
+    var i = 0
+    while (i < this.amplitudes.length) {
+      if ((i & (1 << target)) == 0) {
+        val j = i | (1 << target)
+        val v = this.mat2c * Vec2c(this.amplitudes(i), this.amplitudes(j))
+        this.amplitudes(i) = v.x
+        this.amplitudes(j) = v.y
+      }
+      i += 1
+    }
+    this.amplitudes
+  }
+
+  @Benchmark
+  def singleQubitGate(): StateVector = this.state.applyGate(this.mat2c, this.qubits / 2)
+
+  @Benchmark
+  def twoQubitGate(): StateVector = this.state.applyGate(this.mat4c, this.qubits / 2, 0)
+
+  @Benchmark
+  def applyCircuit(): StateVector = this.circuit.applyTo(this.state)
+
+  @Benchmark
+  def applyFusedCircuit(): StateVector = this.fused.applyTo(this.state)
+}
@@ -0,0 +1,60 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat2c, Vec2c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Vec2c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Vec2cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var u: Vec2c = _
+  var v: Vec2c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.u = data.vec2c
+    this.v = data.vec2c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Vec2c = this.u + this.v
+  @Benchmark def minus: Vec2c = this.u - this.v
+  @Benchmark def negated: Vec2c = -this.u
+  @Benchmark def times: Vec2c = this.u * this.v
+  @Benchmark def timesScalar: Vec2c = this.u * this.k
+  @Benchmark def timesReal: Vec2c = this.u * this.k.a
+  @Benchmark def divide: Vec2c = this.u / this.v
+  @Benchmark def divideScalar: Vec2c = this.u / this.k
+  @Benchmark def inverse: Vec2c = this.u.inverse
+  @Benchmark def conjugate: Vec2c = this.u.conjugate
+  @Benchmark def dot: Complex = this.u.dot(this.v)
+  @Benchmark def lengthSquared: Double = this.u.lengthSquared
+  @Benchmark def length: Double = this.u.length
+  @Benchmark def normalized: Vec2c = this.u.normalized
+  @Benchmark def limitLength: Vec2c = this.u.limitLength(0.5)
+  @Benchmark def moveToward: Vec2c = this.u.moveToward(this.v, 0.1)
+  @Benchmark def lerp: Vec2c = this.u.lerp(this.v, 0.5)
+  @Benchmark def directionTo: Vec2c = this.u.directionTo(this.v)
+  @Benchmark def distanceTo: Double = this.u.distanceTo(this.v)
+  @Benchmark def angleTo: Double = this.u.angleTo(this.v)
+  @Benchmark def project: Vec2c = this.u.project(this.v)
+  @Benchmark def reflect: Vec2c = this.u.reflect(this.v)
+  @Benchmark def slide: Vec2c = this.u.slide(this.v)
+  @Benchmark def outer: Mat2c = this.u.outer(this.v)
+  @Benchmark def equalsApprox: Boolean = this.u ~= this.v
+}
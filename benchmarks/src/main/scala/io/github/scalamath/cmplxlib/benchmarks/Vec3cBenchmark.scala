@@ -0,0 +1,61 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat3c, Vec3c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Vec3c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Vec3cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var u: Vec3c = _
+  var v: Vec3c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.u = data.vec3c
+    this.v = data.vec3c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Vec3c = this.u + this.v
+  @Benchmark def minus: Vec3c = this.u - this.v
+  @Benchmark def negated: Vec3c = -this.u
+  @Benchmark def times: Vec3c = this.u * this.v
+  @Benchmark def timesScalar: Vec3c = this.u * this.k
+  @Benchmark def timesReal: Vec3c = this.u * this.k.a
+  @Benchmark def divide: Vec3c = this.u / this.v
+  @Benchmark def divideScalar: Vec3c = this.u / this.k
+  @Benchmark def inverse: Vec3c = this.u.inverse
+  @Benchmark def conjugate: Vec3c = this.u.conjugate
+  @Benchmark def dot: Complex = this.u.dot(this.v)
+  @Benchmark def lengthSquared: Double = this.u.lengthSquared
+  @Benchmark def length: Double = this.u.length
+  @Benchmark def normalized: Vec3c = this.u.normalized
+  @Benchmark def limitLength: Vec3c = this.u.limitLength(0.5)
+  @Benchmark def moveToward: Vec3c = this.u.moveToward(this.v, 0.1)
+  @Benchmark def lerp: Vec3c = this.u.lerp(this.v, 0.5)
+  @Benchmark def directionTo: Vec3c = this.u.directionTo(this.v)
+  @Benchmark def distanceTo: Double = this.u.distanceTo(this.v)
+  @Benchmark def angleTo: Double = this.u.angleTo(this.v)
+  @Benchmark def project: Vec3c = this.u.project(this.v)
+  @Benchmark def reflect: Vec3c = this.u.reflect(this.v)
+  @Benchmark def slide: Vec3c = this.u.slide(this.v)
+  @Benchmark def outer: Mat3c = this.u.outer(this.v)
+  @Benchmark def equalsApprox: Boolean = this.u ~= this.v
+  @Benchmark def cross: Vec3c = this.u.cross(this.v)
+}
@@ -0,0 +1,60 @@
+package io.github.scalamath.cmplxlib.benchmarks
+
+import io.github.scalamath.cmplxlib.{Complex, Mat4c, Vec4c}
+import org.openjdk.jmh.annotations._
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks for the operations of [[Vec4c]].
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+class Vec4cBenchmark {
+
+  /** Seed used to generate the inputs */
+  @Param(Array("42"))
+  var seed: Long = _
+
+  var u: Vec4c = _
+  var v: Vec4c = _
+  var k: Complex = _
+
+  @Setup
+  def setup(): Unit = {
+    val data = new BenchmarkData(this.seed)
+    this.u = data.vec4c
+    this.v = data.vec4c
+    this.k = data.complex
+  }
+
+  @Benchmark def plus: Vec4c = this.u + this.v
+  @Benchmark def minus: Vec4c = this.u - this.v
+  @Benchmark def negated: Vec4c = -this.u
+  @Benchmark def times: Vec4c = this.u * this.v
+  @Benchmark def timesScalar: Vec4c = this.u * this.k
+  @Benchmark def timesReal: Vec4c = this.u * this.k.a
+  @Benchmark def divide: Vec4c = this.u / this.v
+  @Benchmark def divideScalar: Vec4c = this.u / this.k
+  @Benchmark def inverse: Vec4c = this.u.inverse
+  @Benchmark def conjugate: Vec4c = this.u.conjugate
+  @Benchmark def dot: Complex = this.u.dot(this.v)
+  @Benchmark def lengthSquared: Double = this.u.lengthSquared
+  @Benchmark def length: Double = this.u.length
+  @Benchmark def normalized: Vec4c = this.u.normalized
+  @Benchmark def limitLength: Vec4c = this.u.limitLength(0.5)
+  @Benchmark def moveToward: Vec4c = this.u.moveToward(this.v, 0.1)
+  @Benchmark def lerp: Vec4c = this.u.lerp(this.v, 0.5)
+  @Benchmark def directionTo: Vec4c = this.u.directionTo(this.v)
+  @Benchmark def distanceTo: Double = this.u.distanceTo(this.v)
+  @Benchmark def angleTo: Double = this.u.angleTo(this.v)
+  @Benchmark def project: Vec4c = this.u.project(this.v)
+  @Benchmark def reflect: Vec4c = this.u.reflect(this.v)
+  @Benchmark def slide: Vec4c = this.u.slide(this.v)
+  @Benchmark def outer: Mat4c = this.u.outer(this.v)
+  @Benchmark def equalsApprox: Boolean = this.u ~= this.v
+}
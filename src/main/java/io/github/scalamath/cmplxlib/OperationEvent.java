@@ -0,0 +1,34 @@
+package io.github.scalamath.cmplxlib;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event emitted by a call to an operation measured by {@link Instrumentation}.
+ * <p>
+ * Events are only emitted if instrumentation is enabled and a recording that includes the
+ * {@code io.github.scalamath.cmplxlib.Operation} event is running.
+ * The event is committed when the operation ends, therefore its own duration is zero and the time spent in the
+ * operation is stored in a separate field.
+ */
+@Name("io.github.scalamath.cmplxlib.Operation")
+@Label("CmplxLib Operation")
+@Category("CmplxLib")
+@Description("A call to an expensive matrix operation or complex function")
+@StackTrace(false)
+public final class OperationEvent extends Event {
+
+    /** The name of the operation */
+    @Label("Operation")
+    String operation;
+
+    /** The time spent in the call, measured by the instrumented method */
+    @Label("Elapsed Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
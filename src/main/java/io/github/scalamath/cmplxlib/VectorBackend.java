@@ -0,0 +1,160 @@
+package io.github.scalamath.cmplxlib;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Backend implemented with the JDK Vector API.
+ * <p>
+ * Every vector contains the real and imaginary parts of several complex numbers in consecutive lanes.
+ * Products are computed by duplicating the real and the imaginary parts of the first operand across the two lanes of
+ * every complex number and by swapping the two lanes of the second operand, which gives the same operations as the
+ * scalar backend without de-interleaving the data.
+ * Elements that do not fill a whole vector are processed with scalar code.
+ * <p>
+ * This class is loaded reflectively by {@link ComplexBackend} and is only used if the {@code jdk.incubator.vector}
+ * module is present at runtime.
+ */
+final class VectorBackend implements ComplexBackend {
+
+    /** The widest vector species supported by the platform */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /** Shuffle that copies the real part of every complex number into its imaginary lane */
+    private static final VectorShuffle<Double> REAL = VectorShuffle.fromOp(SPECIES, i -> i & ~1);
+    /** Shuffle that copies the imaginary part of every complex number into its real lane */
+    private static final VectorShuffle<Double> IMAGINARY = VectorShuffle.fromOp(SPECIES, i -> i | 1);
+    /** Shuffle that swaps the real and imaginary part of every complex number */
+    private static final VectorShuffle<Double> SWAP = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+    /** Vector containing -1 in real lanes and 1 in imaginary lanes */
+    private static final DoubleVector SIGN;
+    /** Indices of the real parts of the complex numbers of a vector, used to gather them */
+    private static final int[] REAL_INDICES = new int[SPECIES.length()];
+    /** Indices of the imaginary parts of the complex numbers of a vector, used to gather them */
+    private static final int[] IMAGINARY_INDICES = new int[SPECIES.length()];
+
+    static {
+        double[] signs = new double[SPECIES.length()];
+        for (int i = 0; i < SPECIES.length(); i++) {
+            signs[i] = i % 2 == 0 ? -1.0 : 1.0;
+            REAL_INDICES[i] = 2 * i;
+            IMAGINARY_INDICES[i] = 2 * i + 1;
+        }
+        SIGN = DoubleVector.fromArray(SPECIES, signs, 0);
+    }
+
+    /**
+     * Constructs the vector backend.
+     *
+     * @throws UnsupportedOperationException if vectors of the platform cannot contain a complex number.
+     */
+    VectorBackend() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("Vectors of " + SPECIES.length() + " lanes cannot contain a complex number");
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector";
+    }
+
+    @Override
+    public String toString() {
+        return this.name();
+    }
+
+    @Override
+    public void multiply(double[] a, int aOff, double[] b, int bOff, double[] dst, int dstOff, int count) {
+        int bound = SPECIES.loopBound(2 * count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            this.product(a, 2 * aOff + i, b, 2 * bOff + i).intoArray(dst, 2 * dstOff + i);
+        }
+        for (; i < 2 * count; i += 2) {
+            double ar = a[2 * aOff + i];
+            double ai = a[2 * aOff + i + 1];
+            double br = b[2 * bOff + i];
+            double bi = b[2 * bOff + i + 1];
+            dst[2 * dstOff + i] = ar * br - ai * bi;
+            dst[2 * dstOff + i + 1] = ar * bi + ai * br;
+        }
+    }
+
+    @Override
+    public void multiplyAdd(double[] a, int aOff, double[] b, int bOff, double[] dst, int dstOff, int count) {
+        int bound = SPECIES.loopBound(2 * count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector acc = DoubleVector.fromArray(SPECIES, dst, 2 * dstOff + i);
+            acc.add(this.product(a, 2 * aOff + i, b, 2 * bOff + i)).intoArray(dst, 2 * dstOff + i);
+        }
+        for (; i < 2 * count; i += 2) {
+            double ar = a[2 * aOff + i];
+            double ai = a[2 * aOff + i + 1];
+            double br = b[2 * bOff + i];
+            double bi = b[2 * bOff + i + 1];
+            dst[2 * dstOff + i] += ar * br - ai * bi;
+            dst[2 * dstOff + i + 1] += ar * bi + ai * br;
+        }
+    }
+
+    @Override
+    public Complex conjugateDot(double[] a, int aOff, double[] b, int bOff, int count) {
+        int bound = SPECIES.loopBound(2 * count);
+        DoubleVector re = DoubleVector.zero(SPECIES);
+        DoubleVector im = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, 2 * aOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, 2 * bOff + i);
+            // Lanes contain (ar * br, ai * bi) and (-ar * bi, ai * br)
+            re = re.add(x.mul(y));
+            im = im.add(x.mul(y.rearrange(SWAP)).mul(SIGN));
+        }
+        double sumRe = re.reduceLanes(VectorOperators.ADD);
+        double sumIm = im.reduceLanes(VectorOperators.ADD);
+        for (; i < 2 * count; i += 2) {
+            double ar = a[2 * aOff + i];
+            double ai = a[2 * aOff + i + 1];
+            double br = b[2 * bOff + i];
+            double bi = b[2 * bOff + i + 1];
+            sumRe += ar * br + ai * bi;
+            sumIm += ai * br - ar * bi;
+        }
+        return new Complex(sumRe, sumIm);
+    }
+
+    @Override
+    public void squaredModulus(double[] a, int aOff, double[] dst, int dstOff, int count) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector re = DoubleVector.fromArray(SPECIES, a, 2 * (aOff + i), REAL_INDICES, 0);
+            DoubleVector im = DoubleVector.fromArray(SPECIES, a, 2 * (aOff + i), IMAGINARY_INDICES, 0);
+            re.mul(re).add(im.mul(im)).intoArray(dst, dstOff + i);
+        }
+        for (; i < count; i++) {
+            double re = a[2 * (aOff + i)];
+            double im = a[2 * (aOff + i) + 1];
+            dst[dstOff + i] = re * re + im * im;
+        }
+    }
+
+    /**
+     * Computes the products between the complex numbers of two vectors.
+     *
+     * @param a The first array.
+     * @param aIndex Index of the first element of the first vector.
+     * @param b The second array.
+     * @param bIndex Index of the first element of the second vector.
+     * @return A vector containing the interleaved real and imaginary parts of the products.
+     */
+    private DoubleVector product(double[] a, int aIndex, double[] b, int bIndex) {
+        DoubleVector x = DoubleVector.fromArray(SPECIES, a, aIndex);
+        DoubleVector y = DoubleVector.fromArray(SPECIES, b, bIndex);
+        // Lanes contain (ar * br, ar * bi) + (-ai * bi, ai * br)
+        return x.rearrange(REAL).mul(y).add(x.rearrange(IMAGINARY).mul(y.rearrange(SWAP)).mul(SIGN));
+    }
+}
@@ -0,0 +1,1094 @@
+package io.github.scalamath.cmplxlib
+
+import java.nio.{BufferOverflowException, BufferUnderflowException, ByteBuffer, ByteOrder}
+
+/**
+ * Binary encoding of complex numbers, vectors, and matrices.
+ *
+ * Values are written to and read from byte buffers as sequences of doubles in little-endian byte order, regardless of the
+ * order of the buffer, which is left unchanged.
+ * A complex number is encoded as its real part followed by its imaginary part, vectors are encoded as their components in
+ * order, and matrices are encoded as their elements in row-major order.
+ * There is no header, so the encoding of a [[Vec4c]] is the same as the encoding of its four components and the encoding
+ * of an array of vectors is the same as the encoding of a [[ComplexArray]] containing their components.
+ *
+ * All methods read or write at the current position of the buffer and advance it by the number of bytes that were read
+ * or written.
+ * If the buffer does not have enough remaining bytes, an exception is thrown and the buffer is left unchanged.
+ *
+ * Reading and writing complex arrays and complex matrices copies their data in bulk and does not allocate an object for
+ * every element.
+ */
+object BinaryCodec {
+
+  /** Number of bytes used to encode a [[Complex]] */
+  val ComplexBytes: Int = 16
+
+  /** Number of bytes used to encode a [[Vec2c]] */
+  val Vec2cBytes: Int = 32
+
+  /** Number of bytes used to encode a [[Vec3c]] */
+  val Vec3cBytes: Int = 48
+
+  /** Number of bytes used to encode a [[Vec4c]] */
+  val Vec4cBytes: Int = 64
+
+  /** Number of bytes used to encode a [[Mat2c]] */
+  val Mat2cBytes: Int = 64
+
+  /** Number of bytes used to encode a [[Mat3c]] */
+  val Mat3cBytes: Int = 144
+
+  /** Number of bytes used to encode a [[Mat4c]] */
+  val Mat4cBytes: Int = 256
+
+  /** Number of bytes used to encode a [[Mat2x3c]] */
+  val Mat2x3cBytes: Int = 96
+
+  /** Number of bytes used to encode a [[Mat3x4c]] */
+  val Mat3x4cBytes: Int = 192
+
+  /**
+   * Writes the given complex number into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param z The complex number to write.
+   * @throws BufferOverflowException if the buffer has less than [[ComplexBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, z: Complex): Unit = {
+    val order = this.beginWrite(buffer, ComplexBytes)
+    try {
+      this.put(buffer, z)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given vector into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param v The vector to write.
+   * @throws BufferOverflowException if the buffer has less than [[Vec2cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, v: Vec2c): Unit = {
+    val order = this.beginWrite(buffer, Vec2cBytes)
+    try {
+      this.put(buffer, v.x)
+      this.put(buffer, v.y)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given vector into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param v The vector to write.
+   * @throws BufferOverflowException if the buffer has less than [[Vec3cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, v: Vec3c): Unit = {
+    val order = this.beginWrite(buffer, Vec3cBytes)
+    try {
+      this.put(buffer, v.x)
+      this.put(buffer, v.y)
+      this.put(buffer, v.z)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given vector into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param v The vector to write.
+   * @throws BufferOverflowException if the buffer has less than [[Vec4cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, v: Vec4c): Unit = {
+    val order = this.beginWrite(buffer, Vec4cBytes)
+    try {
+      this.put(buffer, v.x)
+      this.put(buffer, v.y)
+      this.put(buffer, v.z)
+      this.put(buffer, v.w)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given matrix into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param m The matrix to write.
+   * @throws BufferOverflowException if the buffer has less than [[Mat2cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, m: Mat2c): Unit = {
+    val order = this.beginWrite(buffer, Mat2cBytes)
+    try {
+      this.put(buffer, m.m00)
+      this.put(buffer, m.m01)
+      this.put(buffer, m.m10)
+      this.put(buffer, m.m11)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given matrix into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param m The matrix to write.
+   * @throws BufferOverflowException if the buffer has less than [[Mat3cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, m: Mat3c): Unit = {
+    val order = this.beginWrite(buffer, Mat3cBytes)
+    try {
+      this.put(buffer, m.m00)
+      this.put(buffer, m.m01)
+      this.put(buffer, m.m02)
+      this.put(buffer, m.m10)
+      this.put(buffer, m.m11)
+      this.put(buffer, m.m12)
+      this.put(buffer, m.m20)
+      this.put(buffer, m.m21)
+      this.put(buffer, m.m22)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given matrix into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param m The matrix to write.
+   * @throws BufferOverflowException if the buffer has less than [[Mat4cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, m: Mat4c): Unit = {
+    val order = this.beginWrite(buffer, Mat4cBytes)
+    try {
+      this.put(buffer, m.m00)
+      this.put(buffer, m.m01)
+      this.put(buffer, m.m02)
+      this.put(buffer, m.m03)
+      this.put(buffer, m.m10)
+      this.put(buffer, m.m11)
+      this.put(buffer, m.m12)
+      this.put(buffer, m.m13)
+      this.put(buffer, m.m20)
+      this.put(buffer, m.m21)
+      this.put(buffer, m.m22)
+      this.put(buffer, m.m23)
+      this.put(buffer, m.m30)
+      this.put(buffer, m.m31)
+      this.put(buffer, m.m32)
+      this.put(buffer, m.m33)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given matrix into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param m The matrix to write.
+   * @throws BufferOverflowException if the buffer has less than [[Mat2x3cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, m: Mat2x3c): Unit = {
+    val order = this.beginWrite(buffer, Mat2x3cBytes)
+    try {
+      this.put(buffer, m.m00)
+      this.put(buffer, m.m01)
+      this.put(buffer, m.m02)
+      this.put(buffer, m.m10)
+      this.put(buffer, m.m11)
+      this.put(buffer, m.m12)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the given matrix into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param m The matrix to write.
+   * @throws BufferOverflowException if the buffer has less than [[Mat3x4cBytes]] remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, m: Mat3x4c): Unit = {
+    val order = this.beginWrite(buffer, Mat3x4cBytes)
+    try {
+      this.put(buffer, m.m00)
+      this.put(buffer, m.m01)
+      this.put(buffer, m.m02)
+      this.put(buffer, m.m03)
+      this.put(buffer, m.m10)
+      this.put(buffer, m.m11)
+      this.put(buffer, m.m12)
+      this.put(buffer, m.m13)
+      this.put(buffer, m.m20)
+      this.put(buffer, m.m21)
+      this.put(buffer, m.m22)
+      this.put(buffer, m.m23)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a complex number from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The complex number that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[ComplexBytes]] remaining bytes.
+   */
+  def readComplex(buffer: ByteBuffer): Complex = {
+    val order = this.beginRead(buffer, ComplexBytes)
+    try {
+      this.get(buffer)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a vector from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The vector that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Vec2cBytes]] remaining bytes.
+   */
+  def readVec2c(buffer: ByteBuffer): Vec2c = {
+    val order = this.beginRead(buffer, Vec2cBytes)
+    try {
+      Vec2c(
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a vector from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The vector that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Vec3cBytes]] remaining bytes.
+   */
+  def readVec3c(buffer: ByteBuffer): Vec3c = {
+    val order = this.beginRead(buffer, Vec3cBytes)
+    try {
+      Vec3c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a vector from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The vector that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Vec4cBytes]] remaining bytes.
+   */
+  def readVec4c(buffer: ByteBuffer): Vec4c = {
+    val order = this.beginRead(buffer, Vec4cBytes)
+    try {
+      Vec4c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a matrix from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The matrix that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Mat2cBytes]] remaining bytes.
+   */
+  def readMat2c(buffer: ByteBuffer): Mat2c = {
+    val order = this.beginRead(buffer, Mat2cBytes)
+    try {
+      Mat2c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a matrix from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The matrix that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Mat3cBytes]] remaining bytes.
+   */
+  def readMat3c(buffer: ByteBuffer): Mat3c = {
+    val order = this.beginRead(buffer, Mat3cBytes)
+    try {
+      Mat3c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a matrix from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The matrix that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Mat4cBytes]] remaining bytes.
+   */
+  def readMat4c(buffer: ByteBuffer): Mat4c = {
+    val order = this.beginRead(buffer, Mat4cBytes)
+    try {
+      Mat4c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a matrix from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The matrix that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Mat2x3cBytes]] remaining bytes.
+   */
+  def readMat2x3c(buffer: ByteBuffer): Mat2x3c = {
+    val order = this.beginRead(buffer, Mat2x3cBytes)
+    try {
+      Mat2x3c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads a matrix from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @return The matrix that was read.
+   * @throws BufferUnderflowException if the buffer has less than [[Mat3x4cBytes]] remaining bytes.
+   */
+  def readMat3x4c(buffer: ByteBuffer): Mat3x4c = {
+    val order = this.beginRead(buffer, Mat3x4cBytes)
+    try {
+      Mat3x4c(
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer),
+        this.get(buffer)
+      )
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the complex numbers in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The complex numbers to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Complex]): Unit = {
+    val order = this.beginWrite(buffer, ComplexBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val z = values(i)
+        this.put(buffer, z)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads complex numbers from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the complex numbers are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Complex]): Unit = {
+    val order = this.beginRead(buffer, ComplexBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = this.get(buffer)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the vectors in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The vectors to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Vec2c]): Unit = {
+    val order = this.beginWrite(buffer, Vec2cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val v = values(i)
+        this.put(buffer, v.x)
+        this.put(buffer, v.y)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads vectors from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the vectors are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Vec2c]): Unit = {
+    val order = this.beginRead(buffer, Vec2cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Vec2c(this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the vectors in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The vectors to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Vec3c]): Unit = {
+    val order = this.beginWrite(buffer, Vec3cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val v = values(i)
+        this.put(buffer, v.x)
+        this.put(buffer, v.y)
+        this.put(buffer, v.z)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads vectors from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the vectors are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Vec3c]): Unit = {
+    val order = this.beginRead(buffer, Vec3cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Vec3c(this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the vectors in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The vectors to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Vec4c]): Unit = {
+    val order = this.beginWrite(buffer, Vec4cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val v = values(i)
+        this.put(buffer, v.x)
+        this.put(buffer, v.y)
+        this.put(buffer, v.z)
+        this.put(buffer, v.w)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads vectors from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the vectors are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Vec4c]): Unit = {
+    val order = this.beginRead(buffer, Vec4cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Vec4c(this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the matrices in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The matrices to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Mat2c]): Unit = {
+    val order = this.beginWrite(buffer, Mat2cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val m = values(i)
+        this.put(buffer, m.m00)
+        this.put(buffer, m.m01)
+        this.put(buffer, m.m10)
+        this.put(buffer, m.m11)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads matrices from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the matrices are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Mat2c]): Unit = {
+    val order = this.beginRead(buffer, Mat2cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Mat2c(this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the matrices in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The matrices to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Mat3c]): Unit = {
+    val order = this.beginWrite(buffer, Mat3cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val m = values(i)
+        this.put(buffer, m.m00)
+        this.put(buffer, m.m01)
+        this.put(buffer, m.m02)
+        this.put(buffer, m.m10)
+        this.put(buffer, m.m11)
+        this.put(buffer, m.m12)
+        this.put(buffer, m.m20)
+        this.put(buffer, m.m21)
+        this.put(buffer, m.m22)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads matrices from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the matrices are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Mat3c]): Unit = {
+    val order = this.beginRead(buffer, Mat3cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Mat3c(this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the matrices in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The matrices to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Mat4c]): Unit = {
+    val order = this.beginWrite(buffer, Mat4cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val m = values(i)
+        this.put(buffer, m.m00)
+        this.put(buffer, m.m01)
+        this.put(buffer, m.m02)
+        this.put(buffer, m.m03)
+        this.put(buffer, m.m10)
+        this.put(buffer, m.m11)
+        this.put(buffer, m.m12)
+        this.put(buffer, m.m13)
+        this.put(buffer, m.m20)
+        this.put(buffer, m.m21)
+        this.put(buffer, m.m22)
+        this.put(buffer, m.m23)
+        this.put(buffer, m.m30)
+        this.put(buffer, m.m31)
+        this.put(buffer, m.m32)
+        this.put(buffer, m.m33)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads matrices from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the matrices are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Mat4c]): Unit = {
+    val order = this.beginRead(buffer, Mat4cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Mat4c(this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the matrices in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The matrices to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Mat2x3c]): Unit = {
+    val order = this.beginWrite(buffer, Mat2x3cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val m = values(i)
+        this.put(buffer, m.m00)
+        this.put(buffer, m.m01)
+        this.put(buffer, m.m02)
+        this.put(buffer, m.m10)
+        this.put(buffer, m.m11)
+        this.put(buffer, m.m12)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads matrices from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the matrices are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Mat2x3c]): Unit = {
+    val order = this.beginRead(buffer, Mat2x3cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Mat2x3c(this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes all the matrices in the given array into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param values The matrices to write.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, values: Array[Mat3x4c]): Unit = {
+    val order = this.beginWrite(buffer, Mat3x4cBytes.toLong * values.length)
+    try {
+      var i = 0
+      while (i < values.length) {
+        val m = values(i)
+        this.put(buffer, m.m00)
+        this.put(buffer, m.m01)
+        this.put(buffer, m.m02)
+        this.put(buffer, m.m03)
+        this.put(buffer, m.m10)
+        this.put(buffer, m.m11)
+        this.put(buffer, m.m12)
+        this.put(buffer, m.m13)
+        this.put(buffer, m.m20)
+        this.put(buffer, m.m21)
+        this.put(buffer, m.m22)
+        this.put(buffer, m.m23)
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads matrices from the given buffer until the given array is full.
+   *
+   * @param buffer The buffer.
+   * @param dst The array in which the matrices are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: Array[Mat3x4c]): Unit = {
+    val order = this.beginRead(buffer, Mat3x4cBytes.toLong * dst.length)
+    try {
+      var i = 0
+      while (i < dst.length) {
+        dst(i) = Mat3x4c(this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer), this.get(buffer))
+        i += 1
+      }
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes the elements of the given complex array into the given buffer.
+   *
+   * The elements are copied in bulk without allocating any object.
+   *
+   * @param buffer The buffer.
+   * @param a The complex array.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, a: ComplexArray): Unit = this.write(buffer, a, 0, a.length)
+
+  /**
+   * Writes `count` elements of the given complex array starting from the given offset into the given buffer.
+   *
+   * The elements are copied in bulk without allocating any object.
+   *
+   * @param buffer The buffer.
+   * @param a The complex array.
+   * @param offset Index of the first element to write.
+   * @param count The number of elements to write.
+   * @throws IllegalArgumentException if the given range is not inside the array.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, a: ComplexArray, offset: Int, count: Int): Unit = {
+    this.checkRange(a.length, offset, count)
+    this.writeDoubles(buffer, a.data, 2 * offset, 2 * count)
+  }
+
+  /**
+   * Reads complex numbers from the given buffer until the given complex array is full.
+   *
+   * The elements are copied in bulk without allocating any object.
+   *
+   * @param buffer The buffer.
+   * @param dst The complex array in which the complex numbers are stored.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: ComplexArray): Unit = this.read(buffer, dst, 0, dst.length)
+
+  /**
+   * Reads `count` complex numbers from the given buffer and stores them in the given complex array starting from the given
+   * offset.
+   *
+   * The elements are copied in bulk without allocating any object.
+   *
+   * @param buffer The buffer.
+   * @param dst The complex array in which the complex numbers are stored.
+   * @param offset Index of the first element to store.
+   * @param count The number of elements to read.
+   * @throws IllegalArgumentException if the given range is not inside the array.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def read(buffer: ByteBuffer, dst: ComplexArray, offset: Int, count: Int): Unit = {
+    this.checkRange(dst.length, offset, count)
+    this.readDoubles(buffer, dst.data, 2 * offset, 2 * count)
+  }
+
+  /**
+   * Reads a complex array of the given length from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param length The number of complex numbers to read.
+   * @return A complex array containing the complex numbers that were read.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def readComplexArray(buffer: ByteBuffer, length: Int): ComplexArray = {
+    val res = new ComplexArray(length)
+    this.read(buffer, res)
+    res
+  }
+
+  /**
+   * Writes the elements of the given complex matrix into the given buffer in row-major order.
+   *
+   * The size of the matrix is not written.
+   * The elements are copied in bulk without allocating any object.
+   *
+   * @param buffer The buffer.
+   * @param m The complex matrix.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  def write(buffer: ByteBuffer, m: ComplexMatrix): Unit = this.writeDoubles(buffer, m.data, 0, m.data.length)
+
+  /**
+   * Reads a complex matrix of the given size from the given buffer.
+   *
+   * The elements are copied in bulk without allocating any object.
+   *
+   * @param buffer The buffer.
+   * @param rows The number of rows of the matrix.
+   * @param columns The number of columns of the matrix.
+   * @return The complex matrix that was read.
+   * @throws IllegalArgumentException if the number of rows or columns is negative.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  def readComplexMatrix(buffer: ByteBuffer, rows: Int, columns: Int): ComplexMatrix = {
+    val res = new ComplexMatrix(rows, columns)
+    this.readDoubles(buffer, res.data, 0, res.data.length)
+    res
+  }
+
+  /**
+   * Writes doubles in bulk into the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param src The source array.
+   * @param from Index of the first double to write.
+   * @param length The number of doubles to write.
+   */
+  private def writeDoubles(buffer: ByteBuffer, src: Array[Double], from: Int, length: Int): Unit = {
+    val order = this.beginWrite(buffer, 8L * length)
+    try {
+      buffer.asDoubleBuffer().put(src, from, length)
+      buffer.position(buffer.position() + 8 * length)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Reads doubles in bulk from the given buffer.
+   *
+   * @param buffer The buffer.
+   * @param dst The destination array.
+   * @param from Index of the first double to store.
+   * @param length The number of doubles to read.
+   */
+  private def readDoubles(buffer: ByteBuffer, dst: Array[Double], from: Int, length: Int): Unit = {
+    val order = this.beginRead(buffer, 8L * length)
+    try {
+      buffer.asDoubleBuffer().get(dst, from, length)
+      buffer.position(buffer.position() + 8 * length)
+    } finally {
+      buffer.order(order)
+    }
+  }
+
+  /**
+   * Writes a complex number at the current position of the buffer.
+   *
+   * @param buffer The buffer, whose byte order must already be little-endian.
+   * @param z The complex number.
+   */
+  private def put(buffer: ByteBuffer, z: Complex): Unit = {
+    buffer.putDouble(z.a)
+    buffer.putDouble(z.b)
+  }
+
+  /**
+   * Reads a complex number at the current position of the buffer.
+   *
+   * @param buffer The buffer, whose byte order must already be little-endian.
+   * @return The complex number.
+   */
+  private def get(buffer: ByteBuffer): Complex = Complex(buffer.getDouble(), buffer.getDouble())
+
+  /**
+   * Checks that the buffer has the given number of remaining bytes and sets its byte order to little-endian.
+   *
+   * @param buffer The buffer.
+   * @param bytes The number of bytes that will be written.
+   * @return The previous byte order of the buffer.
+   * @throws BufferOverflowException if the buffer does not have enough remaining bytes.
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+   */
+  private def beginWrite(buffer: ByteBuffer, bytes: Long): ByteOrder = {
+    if (buffer.isReadOnly) {
+      throw new java.nio.ReadOnlyBufferException()
+    }
+    if (buffer.remaining() < bytes) {
+      throw new BufferOverflowException()
+    }
+    val order = buffer.order()
+    buffer.order(ByteOrder.LITTLE_ENDIAN)
+    order
+  }
+
+  /**
+   * Checks that the buffer has the given number of remaining bytes and sets its byte order to little-endian.
+   *
+   * @param buffer The buffer.
+   * @param bytes The number of bytes that will be read.
+   * @return The previous byte order of the buffer.
+   * @throws BufferUnderflowException if the buffer does not have enough remaining bytes.
+   */
+  private def beginRead(buffer: ByteBuffer, bytes: Long): ByteOrder = {
+    if (buffer.remaining() < bytes) {
+      throw new BufferUnderflowException()
+    }
+    val order = buffer.order()
+    buffer.order(ByteOrder.LITTLE_ENDIAN)
+    order
+  }
+
+  /**
+   * Checks that the given range is inside an array of the given length.
+   *
+   * @param length The length of the array.
+   * @param offset The start of the range.
+   * @param count The length of the range.
+   * @throws IllegalArgumentException if the given range is not inside the array.
+   */
+  private def checkRange(length: Int, offset: Int, count: Int): Unit = {
+    require(offset >= 0 && count >= 0 && offset.toLong + count <= length, s"Range of $count elements at offset $offset is out of bounds for length $length")
+  }
+}
@@ -0,0 +1,148 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * A 4x4 complex matrix that computes its derived matrices and properties at most once.
+ *
+ * Since [[Mat4c]] is immutable, its determinant, inverse, adjugate, and conjugate transpose never change, but the methods
+ * of [[Mat4c]] compute them again every time they are called.
+ * A cached matrix computes each of them the first time it is requested and returns the same result afterwards, which
+ * avoids redundant work when the same matrix is queried repeatedly.
+ * All results are equal to the ones computed by [[Mat4c]].
+ *
+ * Cached values are computed lazily and can safely be requested from multiple threads.
+ * A cached matrix holds a reference to every value it has computed, therefore it uses more memory than a [[Mat4c]].
+ *
+ * @constructor Constructs a cached matrix that wraps the given matrix.
+ * @param matrix The wrapped matrix.
+ */
+final class CachedMat4c(val matrix: Mat4c) {
+
+  /**
+   * The LU decomposition with partial pivoting of this matrix.
+   *
+   * @see [[Mat4c.luDecomposition]]
+   */
+  lazy val luDecomposition: LUDecomposition4c = this.matrix.luDecomposition
+
+  /**
+   * The determinant of this matrix.
+   *
+   * @see [[Mat4c.determinant]]
+   */
+  lazy val determinant: Complex = this.luDecomposition.determinant
+
+  /**
+   * The adjugate of this matrix.
+   *
+   * @see [[Mat4c.adjugate]]
+   */
+  lazy val adjugate: Mat4c = this.matrix.adjugate
+
+  /**
+   * The inverse of this matrix.
+   *
+   * The result is undefined if this matrix is not invertible.
+   *
+   * @see [[Mat4c.inverse]]
+   */
+  lazy val inverse: Mat4c = this.luDecomposition.inverse
+
+  /**
+   * The [[Mat4c.conjugate conjugate]] [[Mat4c.transposed transposed]] of this matrix.
+   */
+  lazy val conjugateTransposed: Mat4c = this.matrix.conjugate.transposed
+
+  /**
+   * True if this matrix is equal to its [[conjugateTransposed]], otherwise false.
+   *
+   * @see [[Mat4c.isHermitian]]
+   */
+  lazy val isHermitian: Boolean = this.matrix.isHermitian
+
+  /**
+   * Raises this matrix to the given power and returns the result.
+   *
+   * If the given exponent is negative, the cached [[inverse]] is raised to `-exp`.
+   * The result is undefined if the given exponent is negative and this matrix is not invertible.
+   *
+   * @param exp The exponent to raise this matrix to.
+   * @return This matrix raised to the given power.
+   * @see [[Mat4c.power]]
+   */
+  def power(exp: Int): Mat4c = {
+    if (exp >= 0) {
+      this.matrix.power(exp)
+    } else {
+      val m = new Array[Double](32)
+      val res = new Array[Double](32)
+      ComplexKernels.pack(this.inverse, m, 0)
+      ComplexKernels.power(4, m, 0, -exp.toLong, res, 0)
+      ComplexKernels.unpack4(res, 0)
+    }
+  }
+
+  /**
+   * Solves the linear system `M * x = b`, where `M` is this matrix, and returns the vector `x`.
+   *
+   * The cached [[luDecomposition]] is used, therefore this matrix is only decomposed once.
+   * The result is undefined if this matrix is not invertible.
+   *
+   * @param b The right-hand side of the system.
+   * @return The solution of the system.
+   */
+  def solve(b: Vec4c): Vec4c = this.luDecomposition.solve(b)
+
+  /**
+   * Solves the linear system `M * X = b`, where `M` is this matrix, and returns the matrix `X`.
+   *
+   * The cached [[luDecomposition]] is used, therefore this matrix is only decomposed once.
+   * The result is undefined if this matrix is not invertible.
+   *
+   * @param b The right-hand side of the system.
+   * @return The solution of the system.
+   */
+  def solve(b: Mat4c): Mat4c = this.luDecomposition.solve(b)
+
+  /**
+   * Multiplies this matrix by the given vector and returns the result.
+   *
+   * @param v The vector to multiply this matrix by.
+   * @return The product between this matrix and the given vector.
+   */
+  def *(v: Vec4c): Vec4c = this.matrix * v
+
+  /**
+   * Multiplies this matrix by the given vector and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param v The vector to multiply this matrix by.
+   * @return The product between this matrix and the given vector.
+   */
+  def multiply(v: Vec4c): Vec4c = this * v
+
+  /**
+   * Checks if the given object is a cached matrix that wraps a matrix equal to the one wrapped by this cached matrix.
+   *
+   * @param obj The object to compare.
+   * @return True if the given object is a cached matrix wrapping an equal matrix, otherwise false.
+   */
+  override def equals(obj: Any): Boolean = obj match {
+    case m: CachedMat4c => this.matrix == m.matrix
+    case _ => false
+  }
+
+  /**
+   * Returns the hash code of the wrapped matrix.
+   *
+   * @return The hash code of the wrapped matrix.
+   */
+  override def hashCode: Int = this.matrix.hashCode
+
+  /**
+   * Returns a string representation of the wrapped matrix.
+   *
+   * @return A string representation of the wrapped matrix.
+   */
+  override def toString: String = this.matrix.toString
+}
@@ -0,0 +1,258 @@
+package io.github.scalamath.cmplxlib
+
+import scala.collection.mutable.ArrayBuffer
+
+/**
+ * A sequence of single-qubit and two-qubit gates that can be applied to a [[StateVector]].
+ *
+ * Circuits are immutable: adding a gate returns a new circuit.
+ *
+ * Every gate applied to a state requires a pass over all its amplitudes, therefore the cost of simulating a large state
+ * is mostly determined by the number of gates.
+ * The [[fused]] circuit is an equivalent circuit with fewer gates, in which consecutive gates acting on the same qubits
+ * are multiplied into a single matrix.
+ *
+ * @constructor Constructs a circuit with the given gates.
+ * @param qubits The number of qubits the circuit acts on.
+ * @param gates The gates of the circuit, in the order in which they are applied.
+ */
+final class Circuit private(val qubits: Int, private[cmplxlib] val gates: Vector[Circuit.Gate]) {
+
+  /**
+   * Constructs an empty circuit acting on the given number of qubits.
+   *
+   * @param qubits The number of qubits. Must be between 1 and [[StateVector.MaxQubits]].
+   * @throws IllegalArgumentException if the number of qubits is out of range.
+   */
+  def this(qubits: Int) = this(StateVector.checkQubits(qubits), Vector.empty)
+
+  /**
+   * Returns the number of gates in this circuit.
+   *
+   * @return The number of gates in this circuit.
+   */
+  def size: Int = this.gates.length
+
+  /**
+   * Returns a circuit that applies the gates of this circuit followed by the given single-qubit gate.
+   *
+   * @param gate The gate.
+   * @param target The index of the target qubit.
+   * @return A circuit with the given gate added at the end.
+   * @throws IllegalArgumentException if the target qubit is out of range.
+   * @see [[StateVector.applyGate]]
+   */
+  def gate(gate: Mat2c, target: Int): Circuit = {
+    this.checkTarget(target)
+    new Circuit(this.qubits, this.gates :+ Circuit.Single(gate, target))
+  }
+
+  /**
+   * Returns a circuit that applies the gates of this circuit followed by the given two-qubit gate.
+   *
+   * The rows and columns of the gate correspond to the basis states `|00>, |01>, |10>, |11>` of the two target qubits,
+   * where the first target is the most significant bit.
+   *
+   * @param gate The gate.
+   * @param first The index of the first target qubit.
+   * @param second The index of the second target qubit.
+   * @return A circuit with the given gate added at the end.
+   * @throws IllegalArgumentException if one of the target qubits is out of range or if the two targets are equal.
+   * @see [[StateVector.applyGate]]
+   */
+  def gate(gate: Mat4c, first: Int, second: Int): Circuit = {
+    this.checkTarget(first)
+    this.checkTarget(second)
+    require(first != second, s"Target qubits must be different: $first and $second")
+    new Circuit(this.qubits, this.gates :+ Circuit.Pair(gate, first, second))
+  }
+
+  /**
+   * Returns a circuit equivalent to this one with consecutive gates on the same qubits multiplied into a single gate.
+   *
+   * Single-qubit gates are multiplied with the following single-qubit gates on the same qubit and are then merged into
+   * the first two-qubit gate that acts on that qubit, or into the last one if no other two-qubit gate follows.
+   * Two-qubit gates acting on the same pair of qubits are merged if the gates between them act on other qubits.
+   * Since gates acting on different qubits commute, the fused circuit transforms a state in the same way as this
+   * circuit, up to rounding errors.
+   *
+   * @return A fused circuit equivalent to this one.
+   */
+  def fused: Circuit = {
+    // Product of the single-qubit gates on every qubit that have not been merged yet
+    val pending = new Array[Mat2c](this.qubits)
+    val res = ArrayBuffer.empty[Circuit.Gate]
+    this.gates.foreach {
+      case Circuit.Single(m, target) =>
+        pending(target) = if (pending(target) == null) m else m * pending(target)
+      case Circuit.Pair(m, first, second) =>
+        val gate = m * Circuit.kronecker(Circuit.orIdentity(pending(first)), Circuit.orIdentity(pending(second)))
+        pending(first) = null
+        pending(second) = null
+        // Look for a gate on the same qubits that is only followed by gates on other qubits
+        var i = res.length - 1
+        while (i >= 0 && !res(i).actsOn(first) && !res(i).actsOn(second)) {
+          i -= 1
+        }
+        res.lift(i) match {
+          case Some(Circuit.Pair(previous, `first`, `second`)) => res(i) = Circuit.Pair(gate * previous, first, second)
+          case Some(Circuit.Pair(previous, `second`, `first`)) => res(i) = Circuit.Pair(gate * Circuit.swapped(previous), first, second)
+          case _ => res += Circuit.Pair(gate, first, second)
+        }
+    }
+    for (target <- pending.indices if pending(target) != null) {
+      res.lastIndexWhere(_.actsOn(target)) match {
+        case -1 => res += Circuit.Single(pending(target), target)
+        case i =>
+          val Circuit.Pair(m, first, second) = res(i)
+          val gate = if (target == first) {
+            Circuit.kronecker(pending(target), Mat2c.Identity)
+          } else {
+            Circuit.kronecker(Mat2c.Identity, pending(target))
+          }
+          res(i) = Circuit.Pair(gate * m, first, second)
+      }
+    }
+    new Circuit(this.qubits, res.toVector)
+  }
+
+  /**
+   * Applies the gates of this circuit to the given state.
+   *
+   * States with more than [[StateVector.ParallelQubits]] qubits are processed in parallel with [[ParallelOps.Default]].
+   *
+   * @param state The state. Must have at least as many qubits as this circuit.
+   * @return The given state.
+   * @throws IllegalArgumentException if the state has fewer qubits than this circuit.
+   */
+  def applyTo(state: StateVector): StateVector = {
+    this.checkState(state)
+    this.gates.foreach {
+      case Circuit.Single(m, target) => state.applyGate(m, target)
+      case Circuit.Pair(m, first, second) => state.applyGate(m, first, second)
+    }
+    state
+  }
+
+  /**
+   * Applies the gates of this circuit to the given state, processing groups of amplitudes in parallel with the given
+   * parallel operations.
+   *
+   * @param state The state. Must have at least as many qubits as this circuit.
+   * @param parallel The parallel operations used to process groups of amplitudes.
+   * @return The given state.
+   * @throws IllegalArgumentException if the state has fewer qubits than this circuit.
+   */
+  def applyTo(state: StateVector, parallel: ParallelOps): StateVector = {
+    this.checkState(state)
+    this.gates.foreach {
+      case Circuit.Single(m, target) => state.applyGate(m, target, parallel)
+      case Circuit.Pair(m, first, second) => state.applyGate(m, first, second, parallel)
+    }
+    state
+  }
+
+  /**
+   * Returns a string representation of this circuit.
+   *
+   * @return A string representation of this circuit.
+   */
+  override def toString: String = s"Circuit(${this.qubits} qubits, ${this.size} gates)"
+
+  /**
+   * Checks that the given qubit is in range.
+   *
+   * @param qubit The index of the qubit.
+   * @throws IllegalArgumentException if the given qubit is out of range.
+   */
+  private def checkTarget(qubit: Int): Unit = {
+    require(qubit >= 0 && qubit < this.qubits, s"Qubit $qubit is out of range for a circuit of ${this.qubits} qubits")
+  }
+
+  /**
+   * Checks that this circuit can be applied to the given state.
+   *
+   * @param state The state.
+   * @throws IllegalArgumentException if the state has fewer qubits than this circuit.
+   */
+  private def checkState(state: StateVector): Unit = {
+    require(state.qubits >= this.qubits, s"A circuit of ${this.qubits} qubits cannot be applied to a state of ${state.qubits} qubits")
+  }
+}
+
+/**
+ * Gates of circuits and helper methods used for gate fusion.
+ */
+object Circuit {
+
+  /**
+   * A gate of a circuit.
+   */
+  private[cmplxlib] sealed trait Gate {
+
+    /**
+     * Checks if this gate acts on the given qubit.
+     *
+     * @param qubit The index of the qubit.
+     * @return True if this gate acts on the given qubit, otherwise false.
+     */
+    def actsOn(qubit: Int): Boolean
+  }
+
+  /**
+   * A single-qubit gate.
+   *
+   * @param m The matrix of the gate.
+   * @param target The index of the target qubit.
+   */
+  private[cmplxlib] case class Single(m: Mat2c, target: Int) extends Gate {
+    override def actsOn(qubit: Int): Boolean = qubit == this.target
+  }
+
+  /**
+   * A two-qubit gate.
+   *
+   * @param m The matrix of the gate.
+   * @param first The index of the first target qubit, which is the most significant bit of the rows and columns of the matrix.
+   * @param second The index of the second target qubit.
+   */
+  private[cmplxlib] case class Pair(m: Mat4c, first: Int, second: Int) extends Gate {
+    override def actsOn(qubit: Int): Boolean = qubit == this.first || qubit == this.second
+  }
+
+  /**
+   * Returns the given matrix, or the identity matrix if the given matrix is `null`.
+   *
+   * @param m The matrix or `null`.
+   * @return The given matrix, or the identity matrix if the given matrix is `null`.
+   */
+  private def orIdentity(m: Mat2c): Mat2c = if (m == null) Mat2c.Identity else m
+
+  /**
+   * Returns the Kronecker product between two single-qubit gates, which is the two-qubit gate that applies the first
+   * gate to the first target and the second gate to the second target.
+   *
+   * @param p The gate applied to the first target.
+   * @param q The gate applied to the second target.
+   * @return The Kronecker product between the two gates.
+   */
+  private def kronecker(p: Mat2c, q: Mat2c): Mat4c = Mat4c(
+    p.m00 * q.m00, p.m00 * q.m01, p.m01 * q.m00, p.m01 * q.m01,
+    p.m00 * q.m10, p.m00 * q.m11, p.m01 * q.m10, p.m01 * q.m11,
+    p.m10 * q.m00, p.m10 * q.m01, p.m11 * q.m00, p.m11 * q.m01,
+    p.m10 * q.m10, p.m10 * q.m11, p.m11 * q.m10, p.m11 * q.m11
+  )
+
+  /**
+   * Returns the two-qubit gate equivalent to the given one with its two targets swapped.
+   *
+   * @param m The gate.
+   * @return The gate with its two targets swapped.
+   */
+  private def swapped(m: Mat4c): Mat4c = Mat4c(
+    m.m00, m.m02, m.m01, m.m03,
+    m.m20, m.m22, m.m21, m.m23,
+    m.m10, m.m12, m.m11, m.m13,
+    m.m30, m.m32, m.m31, m.m33
+  )
+}
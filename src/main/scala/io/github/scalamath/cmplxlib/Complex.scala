@@ -251,7 +251,7 @@ case class Complex(a: Double, b: Double) {
    *
    * @return The modulus of this complex number.
    */
-  def modulus: Double = math.sqrt(this.squaredModulus)
+  def modulus: Double = Complex.abs(this.a, this.b)
 
   /**
    * Returns the argument of this complex number, the angle between the real axis and the point representing this number in the complex plane.
@@ -265,18 +265,18 @@ case class Complex(a: Double, b: Double) {
    *
    * @return The multiplicative inverse of this complex number.
    */
-  def inverse: Complex = this.conjugate / this.squaredModulus
+  def inverse: Complex = Complex.One / this
 
   /**
-   * Multiplies this complex number by the [[inverse]] of the given one and returns the result.
+   * Divides this complex number by the given one and returns the result.
    * 
    * @param z The complex number to divide this one by.
    * @return The division between this complex number and the given one.
    */
-  def /(z: Complex): Complex = this * z.inverse
+  def /(z: Complex): Complex = this / (z.a, z.b)
 
   /**
-   * Multiplies this complex number by the [[inverse]] of the given one and returns the result.
+   * Divides this complex number by the given one and returns the result.
    *
    * This method can be used in place of the `/` operator for better interoperability with Java.
    *
@@ -292,7 +292,12 @@ case class Complex(a: Double, b: Double) {
    * @param b The imaginary part of the complex number to divide this one by.
    * @return The division between this complex number and the given one.
    */
-  def /(a: Double, b: Double): Complex = this / Complex(a, b)
+  def /(a: Double, b: Double): Complex = {
+    // The scratch array does not escape and is eliminated by the JIT compiler once the kernel is inlined
+    val res = new Array[Double](2)
+    ComplexKernels.divide(this.a, this.b, a, b, res, 0)
+    Complex(res(0), res(1))
+  }
 
   /**
    * Divides this complex number by the one with the given real and imaginary part and returns the result.
@@ -424,6 +429,19 @@ object Complex {
    */
   def fromPolar(r: Double, arg: Double): Complex = Complex(r * math.cos(arg), r * math.sin(arg))
 
+  /**
+   * Returns the root of unity `exp(2 * pi * i * k / n)`.
+   *
+   * This is equivalent to `fromPolar(1.0, 2.0 * math.Pi * k / n)`, but takes the result from the cached tables of
+   * [[RootsOfUnity]] instead of computing a sine and a cosine.
+   *
+   * @param k Index of the root. Any integer is valid and is reduced modulo `n`.
+   * @param n Order of the root. Must be positive.
+   * @return The root of unity at the given index.
+   * @throws IllegalArgumentException if `n` is not positive.
+   */
+  def rootOfUnity(k: Int, n: Int): Complex = RootsOfUnity(n)(k)
+
   /**
    * Returns the modulus of the complex number with the given real and imaginary parts.
    *
@@ -431,7 +449,11 @@ object Complex {
    * @param b The imaginary part of the complex number.
    * @return The modulus of the complex number with the given real and imaginary parts.
    */
-  def abs(a: Double, b: Double): Double = math.sqrt(a * a + b * b)
+  def abs(a: Double, b: Double): Double = {
+    val sq = a * a + b * b
+    // The squared modulus is only accurate if it did not overflow or underflow
+    if (sq >= java.lang.Double.MIN_NORMAL && sq < Double.PositiveInfinity) math.sqrt(sq) else math.hypot(a, b)
+  }
 
   /**
    * Returns the absolute value, or modulus, of the given complex number.
@@ -450,12 +472,17 @@ object Complex {
    * @return The principal square root of the complex number with the given real and imaginary parts.
    */
   def sqrt(a: Double, b: Double): Complex = {
-    if(a < 0.0 && (b ~= 0.0)) {
-      Complex(0.0, math.sqrt(-a))
-    } else {
-      val r = abs(a, b)
-      val zr = Complex(a + r, b)
-      (zr / zr.modulus) * math.sqrt(r)
+    val start = Operation.start()
+    try {
+      if(a < 0.0 && (b ~= 0.0)) {
+        Complex(0.0, math.sqrt(-a))
+      } else {
+        val r = abs(a, b)
+        val zr = Complex(a + r, b)
+        (zr / zr.modulus) * math.sqrt(r)
+      }
+    } finally {
+      Operation.ComplexSqrt.stop(start)
     }
   }
 
@@ -476,7 +503,15 @@ object Complex {
    * @param b The imaginary part of the complex number.
    * @return The exponential of the complex number with the given real and imaginary parts.
    */
-  def exp(a: Double, b: Double): Complex = Complex(math.cos(b), math.sin(b)) * math.exp(a)
+  def exp(a: Double, b: Double): Complex = {
+    val start = Operation.start()
+    try {
+      val e = math.exp(a)
+      Complex(e * math.cos(b), e * math.sin(b))
+    } finally {
+      Operation.ComplexExp.stop(start)
+    }
+  }
 
   /**
    * Returns the exponential of the given complex number, or Euler's number raised to the power of the given number.
@@ -493,7 +528,10 @@ object Complex {
    * @param b The imaginary part of the complex number.
    * @return The natural logarithm of the complex number with the given real and imaginary parts.
    */
-  def log(a: Double, b: Double): Complex = Complex(math.log(math.sqrt(a * a + b * b)), math.atan2(b, a))
+  def log(a: Double, b: Double): Complex = {
+    val start = Operation.start()
+    try Complex(math.log(abs(a, b)), math.atan2(b, a)) finally Operation.ComplexLog.stop(start)
+  }
 
   /**
    * Returns the natural logarithm of the given complex number.
@@ -501,7 +539,10 @@ object Complex {
    * @param z The number to take the natural logarithm of.
    * @return The natural logarithm of the given complex number.
    */
-  def log(z: Complex): Complex = Complex(math.log(z.modulus), z.arg)
+  def log(z: Complex): Complex = {
+    val start = Operation.start()
+    try Complex(math.log(z.modulus), z.arg) finally Operation.ComplexLog.stop(start)
+  }
 
   /**
    * Returns the first value raised to the power of the second one.
@@ -510,7 +551,10 @@ object Complex {
    * @param z The exponent.
    * @return The value `x^z`.
    */
-  def pow(x: Double, z: Complex): Complex = exp(z * math.log(x))
+  def pow(x: Double, z: Complex): Complex = {
+    val start = Operation.start()
+    try exp(z * math.log(x)) finally Operation.ComplexPow.stop(start)
+  }
 
   /**
    * Returns the first value raised to the power of the second one.
@@ -519,7 +563,10 @@ object Complex {
    * @param z The exponent.
    * @return The value `x^z`.
    */
-  def pow(x: Complex, z: Complex): Complex = exp(z * Complex(math.log(x.modulus), x.arg))
+  def pow(x: Complex, z: Complex): Complex = {
+    val start = Operation.start()
+    try exp(z * Complex(math.log(x.modulus), x.arg)) finally Operation.ComplexPow.stop(start)
+  }
 
   /**
    * Returns the sine of the complex number with the given real and imaginary parts.
@@ -528,7 +575,10 @@ object Complex {
    * @param b The imaginary part of the complex number.
    * @return The sine of the complex number with the given real and imaginary parts.
    */
-  def sin(a: Double, b: Double): Complex = Complex(math.sin(a) * math.cosh(b), math.cos(a) * math.sinh(b))
+  def sin(a: Double, b: Double): Complex = {
+    val start = Operation.start()
+    try Complex(math.sin(a) * math.cosh(b), math.cos(a) * math.sinh(b)) finally Operation.ComplexSin.stop(start)
+  }
 
   /**
    * Returns the sine of the given complex number.
@@ -545,7 +595,10 @@ object Complex {
    * @param b The imaginary part of the complex number.
    * @return The cosine of the complex number with the given real and imaginary parts.
    */
-  def cos(a: Double, b: Double): Complex = Complex(math.cos(a) * math.cosh(b), -math.sin(a) * math.sinh(b))
+  def cos(a: Double, b: Double): Complex = {
+    val start = Operation.start()
+    try Complex(math.cos(a) * math.cosh(b), -math.sin(a) * math.sinh(b)) finally Operation.ComplexCos.stop(start)
+  }
 
   /**
    * Returns the cosine of the given complex number.
@@ -563,9 +616,14 @@ object Complex {
    * @return The tangent of the complex number with the given real and imaginary parts.
    */
   def tan(a: Double, b: Double): Complex = {
-    val tanA = math.tan(a)
-    val tanH = math.tanh(b)
-    Complex(tanA, tanH) / (1.0, -tanA * tanH)
+    val start = Operation.start()
+    try {
+      val tanA = math.tan(a)
+      val tanH = math.tanh(b)
+      Complex(tanA, tanH) / (1.0, -tanA * tanH)
+    } finally {
+      Operation.ComplexTan.stop(start)
+    }
   }
 
   /**
@@ -613,7 +671,7 @@ object Complex {
      * @param z The complex number by which this one is divided
      * @return The result of the division of this real number by the given complex number
      */
-    def /(z: Complex): Complex = z.inverse * r
+    def /(z: Complex): Complex = Complex(r, 0.0) / z
   }
 
   /**
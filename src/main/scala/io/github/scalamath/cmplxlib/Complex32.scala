@@ -0,0 +1,697 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.FloatEqualsApprox
+
+/**
+ * Cartesian representation of a single-precision complex number expressed in the form `a + ib`.
+ *
+ * This class has the same operations as [[Complex]], but stores its real and imaginary part as floats, which halves the
+ * memory needed to store large amounts of complex numbers.
+ * Arithmetic operations are computed in single precision.
+ * The modulus, the argument, and the transcendental functions of the companion object are computed in double precision
+ * and rounded to single precision.
+ *
+ * Complex numbers can be converted to double precision with [[toComplex]] and from double precision with
+ * [[Complex32.fromComplex]].
+ *
+ * @constructor Constructs a complex number with the given real and imaginary part.
+ * @param a The real part of the complex number
+ * @param b The imaginary part of a complex number
+ */
+case class Complex32(a: Float, b: Float) {
+
+  /**
+   * Adds the given values to this complex number and returns the result.
+   *
+   * @param a The value to add to the real part.
+   * @param b The value to add to the imaginary part.
+   * @return The sum between this complex number and the given one.
+   */
+  def +(a: Float, b: Float): Complex32 = Complex32(this.a + a, this.b + b)
+
+  /**
+   * Adds the given values to this complex number and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param a The value to add to the real part.
+   * @param b The value to add to the imaginary part.
+   * @return The sum between this complex number and the given one.
+   */
+  def plus(a: Float, b: Float): Complex32 = this + (a, b)
+
+  /**
+   * Adds the given real number to this complex number and returns the result.
+   *
+   * @param r The real number to add.
+   * @return The sum between this complex number and the given real number.
+   */
+  def +(r: Float): Complex32 = this + (r, 0.0f)
+
+  /**
+   * Adds the given real number to this complex number and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param r The real number to add.
+   * @return The sum between this complex number and the given real number.
+   */
+  def plus(r: Float): Complex32 = this + r
+
+  /**
+   * Adds the given complex number to this one and returns the result.
+   *
+   * @param z The complex number to add.
+   * @return The sum between this complex number and the given one.
+   */
+  def +(z: Complex32): Complex32 = this + (z.a, z.b)
+
+  /**
+   * Adds the given complex number to this one and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param z The complex number to add.
+   * @return The sum between this complex number and the given one.
+   */
+  def plus(z: Complex32): Complex32 = this + z
+
+  /**
+   * Returns this same complex number.
+   *
+   * The unary `+` operator does nothing, but can sometimes make the code more readable.
+   *
+   * @return This same complex.
+   */
+  def unary_+ : Complex32 = this
+
+  /**
+   * Subtracts the given values from this complex number and returns the result.
+   *
+   * @param a The value to subtract from the real part.
+   * @param b The value to subtract from the imaginary part.
+   * @return The subtraction between this complex number and the given one.
+   */
+  def -(a: Float, b: Float): Complex32 = Complex32(this.a - a, this.b - b)
+
+  /**
+   * Subtracts the given values from this complex number and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param a The value to subtract from the real part.
+   * @param b The value to subtract from the imaginary part.
+   * @return The subtraction between this complex number and the given one.
+   */
+  def minus(a: Float, b: Float): Complex32 = this - (a, b)
+
+  /**
+   * Subtracts the given real number from this complex number and returns the result.
+   *
+   * @param r The real number to subtract.
+   * @return The subtraction between this complex number and the given real number.
+   */
+  def -(r: Float): Complex32 = this - (r, 0.0f)
+
+  /**
+   * Subtracts the given real number from this complex number and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param r The real number to subtract.
+   * @return The subtraction between this complex number and the given real number.
+   */
+  def minus(r: Float): Complex32 = this - r
+
+  /**
+   * Subtracts the given complex number from this one and returns the result.
+   *
+   * @param z The complex number to subtract.
+   * @return The subtraction between this complex number and the given one.
+   */
+  def -(z: Complex32): Complex32 = this - (z.a, z.b)
+
+  /**
+   * Subtracts the given complex number from this one and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param z The complex number to subtract.
+   * @return The subtraction between this complex number and the given one.
+   */
+  def minus(z: Complex32): Complex32 = this - z
+
+  /**
+   * Returns the additive inverse of this complex number.
+   *
+   * The additive inverse of a complex number `a + ib` is the complex number `-a - ib`.
+   *
+   * @return The additive inverse of this complex number.
+   */
+  def unary_- : Complex32 = Complex32(-this.a, -this.b)
+
+  /**
+   * Returns the additive inverse of this complex number.
+   *
+   * The additive inverse of a complex number `a + ib` is the complex number `-a - ib`.
+   *
+   * This method can be used in place of the unary `-` operator for better interoperability with Java.
+   *
+   * @return The additive inverse of this complex number.
+   */
+  def negated: Complex32 = -this
+
+  /**
+   * Multiplies this complex number by the given real number and returns the result.
+   *
+   * @param r The real number to multiply this complex number by.
+   * @return The product between this complex number and the given real number.
+   */
+  def *(r: Float): Complex32 = Complex32(this.a * r, this.b * r)
+
+  /**
+   * Multiplies this complex number by the given real number and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param r The real number to multiply this complex number by.
+   * @return The product between this complex number and the given real number.
+   */
+  def multiply(r: Float): Complex32 = this * r
+
+  /**
+   * Multiplies this complex number by the complex number with the given real part and imaginary part and returns the result.
+   *
+   * @param a The real part of the complex number to multiply this one by.
+   * @param b The imaginary part of the complex number to multiply this one by.
+   * @return The product between this complex number and the given one.
+   */
+  def *(a: Float, b: Float): Complex32 = Complex32(this.a * a - this.b * b, this.a * b + this.b * a)
+
+  /**
+   * Multiplies this complex number by the complex number with the given real part and imaginary part and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param a The real part of the complex number to multiply this one by.
+   * @param b The imaginary part of the complex number to multiply this one by.
+   * @return The product between this complex number and the given one.
+   */
+  def multiply(a: Float, b: Float): Complex32 = this * (a, b)
+
+  /**
+   * Multiplies this complex number by the given one and returns the result.
+   *
+   * @param z The complex number to multiply this one by.
+   * @return The product between this complex number and the given one.
+   */
+  def *(z: Complex32): Complex32 = this * (z.a, z.b)
+
+  /**
+   * Multiplies this complex number by the given one and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param z The complex number to multiply this one by.
+   * @return The product between this complex number and the given one.
+   */
+  def multiply(z: Complex32): Complex32 = this * z
+
+  /**
+   * Divides this complex number by the given real number and returns the result.
+   *
+   * @param r The real number to divide this complex number by.
+   * @return The division between this complex number and the given real number.
+   */
+  def /(r: Float): Complex32 = Complex32(this.a / r, this.b / r)
+
+  /**
+   * Divides this complex number by the given real number and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param r The real number to divide this complex number by.
+   * @return The division between this complex number and the given real number.
+   */
+  def divide(r: Float): Complex32 = this / r
+
+  /**
+   * Returns the complex conjugate of this complex number.
+   *
+   * The conjugate of a complex number `a + ib` is the complex number `a - ib`.
+   *
+   * @return The complex conjugate of this complex number.
+   */
+  def conjugate: Complex32 = Complex32(this.a, -this.b)
+
+  /**
+   * Returns the squared modulus of this complex number.
+   *
+   * The squared modulus is also the result of multiplying a complex number by its [[conjugate]].
+   *
+   * @return The squared modulus of this complex number.
+   */
+  def squaredModulus: Float = this.a * this.a + this.b * this.b
+
+  /**
+   * Returns the modulus, or absolute value, of this complex number.
+   *
+   * The modulus of a complex number represents its distance from the origin of the complex plane.
+   *
+   * @return The modulus of this complex number.
+   */
+  def modulus: Float = Complex32.abs(this.a, this.b)
+
+  /**
+   * Returns the argument of this complex number, the angle between the real axis and the point representing this number in the complex plane.
+   *
+   * @return The argument of this complex number.
+   */
+  def arg: Float = math.atan2(this.imaginary, this.real).toFloat
+
+  /**
+   * Returns the multiplicative inverse, or the reciprocal, of this complex number.
+   *
+   * @return The multiplicative inverse of this complex number.
+   */
+  def inverse: Complex32 = Complex32.One / this
+
+  /**
+   * Divides this complex number by the given one and returns the result.
+   * 
+   * @param z The complex number to divide this one by.
+   * @return The division between this complex number and the given one.
+   */
+  def /(z: Complex32): Complex32 = this / (z.a, z.b)
+
+  /**
+   * Divides this complex number by the given one and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param z The complex number to divide this one by.
+   * @return The division between this complex number and the given one.
+   */
+  def divide(z: Complex32): Complex32 = this / z
+
+  /**
+   * Divides this complex number by the one with the given real and imaginary part and returns the result.
+   *
+   * @param a The real part of the complex number to divide this one by.
+   * @param b The imaginary part of the complex number to divide this one by.
+   * @return The division between this complex number and the given one.
+   */
+  def /(a: Float, b: Float): Complex32 = {
+    // Smith's algorithm with Baudin's refinement for when the ratio underflows
+    if (math.abs(b) <= math.abs(a)) {
+      val r = b / a
+      val d = a + b * r
+      if (r != 0.0f) {
+        Complex32((this.a + this.b * r) / d, (this.b - this.a * r) / d)
+      } else {
+        Complex32((this.a + b * (this.b / a)) / d, (this.b - b * (this.a / a)) / d)
+      }
+    } else {
+      val r = a / b
+      val d = a * r + b
+      if (r != 0.0f) {
+        Complex32((this.a * r + this.b) / d, (this.b * r - this.a) / d)
+      } else {
+        Complex32((a * (this.a / b) + this.b) / d, (a * (this.b / b) - this.a) / d)
+      }
+    }
+  }
+
+  /**
+   * Divides this complex number by the one with the given real and imaginary part and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param a The real part of the complex number to divide this one by.
+   * @param b The imaginary part of the complex number to divide this one by.
+   * @return The division between this complex number and the given one.
+   */
+  def divide(a: Float, b: Float): Complex32 = this / (a, b)
+
+  /**
+   * Returns the real part of this complex number.
+   *
+   * This method is an alias for `a`.
+   *
+   * @return The the real part of this complex number.
+   */
+  def real: Float = this.a
+
+  /**
+   * Returns the imaginary part of this complex number.
+   *
+   * This method is an alias for `b`.
+   *
+   * @return The the imaginary part of this complex number.
+   */
+  def imaginary: Float = this.b
+
+  /**
+   * Checks if the real and imaginary parts of this complex number are equal to the given values.
+   *
+   * @param a The real part.
+   * @param b The imaginary part.
+   * @return True if the real and imaginary parts of this complex number are equal to the given values, otherwise false.
+   */
+  def ==(a: Float, b: Float): Boolean = this.a == a && this.b == b
+
+  /**
+   * Checks if the real and imaginary parts of this complex number are equal to the given values.
+   *
+   * This method can be used in place of the `==` operator for better interoperability with Java.
+   *
+   * @param a The real part.
+   * @param b The imaginary part.
+   * @return True if the real and imaginary parts of this complex number are equal to the given values, otherwise false.
+   */
+  def equals(a: Float, b: Float): Boolean = this == (a, b)
+
+  /**
+   * Checks if the real and imaginary parts of this complex number are approximately equal to the given values using an internal epsilon.
+   *
+   * The epsilon is relative to the magnitude of the values and is suitable for single precision.
+   *
+   * @param a The real part.
+   * @param b The imaginary part.
+   * @return True if the real and imaginary parts of this complex number are approximately equal to the given values, otherwise false.
+   */
+  def ~=(a: Float, b: Float): Boolean = (this.a ~= a) && (this.b ~= b)
+
+  /**
+   * Checks if the real and imaginary parts of this complex number are approximately equal to the given values using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param a The real part.
+   * @param b The imaginary part.
+   * @return True if the real and imaginary parts of this complex number are approximately equal to the given values, otherwise false.
+   */
+  def equalsApprox(a: Float, b: Float): Boolean = this ~= (a, b)
+
+  /**
+   * Checks if this complex number is approximately equal to the given one using an internal epsilon.
+   *
+   * @param z The complex number.
+   * @return True if this complex number is approximately equal to the given one, otherwise false.
+   */
+  def ~=(z: Complex32): Boolean = this ~= (z.a, z.b)
+
+  /**
+   * Checks if this complex number is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param z The complex number.
+   * @return True if this complex number is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(z: Complex32): Boolean = this ~= z
+
+  /**
+   * Converts this complex number to a double-precision complex number.
+   *
+   * The conversion is exact.
+   *
+   * @return A double-precision complex number equal to this one.
+   */
+  def toComplex: Complex = Complex(this.a, this.b)
+
+  /**
+   * Returns a string representation of this complex number in the form `a + ib`.
+   *
+   * @return A string representation of this complex number.
+   */
+  override def toString: String = {
+    if (this.a == 0.0f && this.b == 0.0f) {
+      "0.0"
+    } else if (this.b == 0.0f) {
+      this.a.toString
+    } else if (this.a == 0.0f) {
+      if (this.b == 1.0f) {
+        "i"
+      } else {
+        f"${b}i"
+      }
+    } else {
+      f"$a ${if(b > 0.0f) "+" else "-"} ${b.abs}i"
+    }
+  }
+}
+
+/**
+ * Constants, implicits, and static methods for single-precision complex numbers.
+ */
+object Complex32 {
+
+  /** Shorthand for `Complex32(1.0f, 0.0f)` */
+  val One: Complex32 = Complex32(1.0f, 0.0f)
+  /** Shorthand for the imaginary unit `Complex32(0.0f, 1.0f)` */
+  val I: Complex32 = Complex32(0.0f, 1.0f)
+  /** Shorthand for `Complex32(0.0f, 0.0f)` */
+  val Zero: Complex32 = Complex32(0.0f, 0.0f)
+
+  /** Relative tolerance used to compare single-precision numbers approximately */
+  private val Epsilon = 1e-5f
+
+  /**
+   * Converts the given double-precision complex number to single precision.
+   *
+   * The real and imaginary part are rounded to the nearest float.
+   *
+   * @param z The double-precision complex number.
+   * @return The single-precision complex number nearest to the given one.
+   */
+  def fromComplex(z: Complex): Complex32 = Complex32(z.a.toFloat, z.b.toFloat)
+
+  /**
+   * Converts a complex number from the polar form to the cartesian form.
+   *
+   * @param r The modulus of the complex number.
+   * @param arg The argument of the complex number.
+   * @return A complex number in the cartesian form from the given modulus and argument.
+   */
+  def fromPolar(r: Float, arg: Float): Complex32 = this.fromComplex(Complex.fromPolar(r, arg))
+
+  /**
+   * Returns the root of unity `exp(2 * pi * i * k / n)`.
+   *
+   * The result is taken from the cached tables of [[RootsOfUnity]] and rounded to single precision.
+   *
+   * @param k Index of the root. Any integer is valid and is reduced modulo `n`.
+   * @param n Order of the root. Must be positive.
+   * @return The root of unity at the given index.
+   * @throws IllegalArgumentException if `n` is not positive.
+   */
+  def rootOfUnity(k: Int, n: Int): Complex32 = this.fromComplex(RootsOfUnity(n)(k))
+
+  /**
+   * Returns the modulus of the complex number with the given real and imaginary parts.
+   *
+   * The modulus is computed in double precision, therefore it does not overflow if the squared modulus is larger than
+   * the largest float.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The modulus of the complex number with the given real and imaginary parts.
+   */
+  def abs(a: Float, b: Float): Float = math.sqrt(a.toDouble * a + b.toDouble * b).toFloat
+
+  /**
+   * Returns the absolute value, or modulus, of the given complex number.
+   *
+   * @return The absolute value of the given complex number.
+   */
+  def abs(z: Complex32): Float = z.modulus
+
+  /**
+   * Returns the principal square root of the complex number with the given real and imaginary parts.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The principal square root of the complex number with the given real and imaginary parts.
+   * @see [[Complex.sqrt]]
+   */
+  def sqrt(a: Float, b: Float): Complex32 = this.fromComplex(Complex.sqrt(a, b))
+
+  /**
+   * Returns the principal square root of the given complex number.
+   *
+   * @param z The number to take the square root of.
+   * @return The principal square root of the given complex number.
+   * @see [[Complex.sqrt]]
+   */
+  def sqrt(z: Complex32): Complex32 = sqrt(z.a, z.b)
+
+  /**
+   * Returns the exponential of the complex number with the given real and imaginary parts, or Euler's number raised to the power of the given number.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The exponential of the complex number with the given real and imaginary parts.
+   */
+  def exp(a: Float, b: Float): Complex32 = this.fromComplex(Complex.exp(a, b))
+
+  /**
+   * Returns the exponential of the given complex number, or Euler's number raised to the power of the given number.
+   *
+   * @param z The exponent to raise e to.
+   * @return The exponential of the given complex number.
+   */
+  def exp(z: Complex32): Complex32 = exp(z.a, z.b)
+
+  /**
+   * Returns the natural logarithm of the complex number with the given real and imaginary parts.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The natural logarithm of the complex number with the given real and imaginary parts.
+   */
+  def log(a: Float, b: Float): Complex32 = this.fromComplex(Complex.log(a, b))
+
+  /**
+   * Returns the natural logarithm of the given complex number.
+   *
+   * @param z The number to take the natural logarithm of.
+   * @return The natural logarithm of the given complex number.
+   */
+  def log(z: Complex32): Complex32 = log(z.a, z.b)
+
+  /**
+   * Returns the first value raised to the power of the second one.
+   *
+   * @param x The base.
+   * @param z The exponent.
+   * @return The value `x^z`.
+   */
+  def pow(x: Float, z: Complex32): Complex32 = this.fromComplex(Complex.pow(x, z.toComplex))
+
+  /**
+   * Returns the first value raised to the power of the second one.
+   *
+   * @param x The base.
+   * @param z The exponent.
+   * @return The value `x^z`.
+   */
+  def pow(x: Complex32, z: Complex32): Complex32 = this.fromComplex(Complex.pow(x.toComplex, z.toComplex))
+
+  /**
+   * Returns the sine of the complex number with the given real and imaginary parts.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The sine of the complex number with the given real and imaginary parts.
+   */
+  def sin(a: Float, b: Float): Complex32 = this.fromComplex(Complex.sin(a, b))
+
+  /**
+   * Returns the sine of the given complex number.
+   *
+   * @param z The number to take the sine of.
+   * @return The sine of the given complex number.
+   */
+  def sin(z: Complex32): Complex32 = sin(z.a, z.b)
+
+  /**
+   * Returns the cosine of the complex number with the given real and imaginary parts.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The cosine of the complex number with the given real and imaginary parts.
+   */
+  def cos(a: Float, b: Float): Complex32 = this.fromComplex(Complex.cos(a, b))
+
+  /**
+   * Returns the cosine of the given complex number.
+   *
+   * @param z The number to take the cosine of.
+   * @return The cosine of the given complex number.
+   */
+  def cos(z: Complex32): Complex32 = cos(z.a, z.b)
+
+  /**
+   * Returns the tangent of the complex number with the given real and imaginary parts.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @return The tangent of the complex number with the given real and imaginary parts.
+   */
+  def tan(a: Float, b: Float): Complex32 = this.fromComplex(Complex.tan(a, b))
+
+  /**
+   * Returns the tangent of the given complex number.
+   *
+   * @param z The number to take the tangent of.
+   * @return The tangent of the given complex number.
+   */
+  def tan(z: Complex32): Complex32 = tan(z.a, z.b)
+
+  /**
+   * Allows to use commutative operators between complex and real numbers.
+   *
+   * @param r The real number
+   */
+  implicit class RealExtender(val r: Float) extends AnyVal {
+
+    /**
+     * Returns the sum between this real number and the given complex number.
+     *
+     * @param z The complex number to add
+     * @return The sum between this real number and the given complex number
+     */
+    def +(z: Complex32): Complex32 = z + r
+
+    /**
+     * Returns the subtraction between the given complex number and this real number.
+     *
+     * @param z The complex number to subtract
+     * @return The subtraction between the given complex number and this real number
+     */
+    def -(z: Complex32): Complex32 = -z + r
+
+    /**
+     * Returns the product between this real number and the given complex number.
+     *
+     * @param z The complex number to multiply
+     * @return The product between this real number and the given complex number
+     */
+    def *(z: Complex32): Complex32 = z * r
+
+    /**
+     * Returns the result of the division of this real number by the given complex number.
+     *
+     * @param z The complex number by which this one is divided
+     * @return The result of the division of this real number by the given complex number
+     */
+    def /(z: Complex32): Complex32 = Complex32(r, 0.0f) / z
+  }
+
+  /**
+   * Allows to compare single-precision numbers approximately with a tolerance suitable for single precision.
+   *
+   * @param self The first number.
+   */
+  private[cmplxlib] implicit class FloatEqualsApprox(val self: Float) extends AnyVal {
+
+    /**
+     * Checks if this number is approximately equal to the given one.
+     *
+     * @param that The second number.
+     * @return True if the difference between the two numbers is small relative to their magnitude, otherwise false.
+     */
+    def ~=(that: Float): Boolean = math.abs(self - that) <= Epsilon * math.max(1.0f, math.max(math.abs(self), math.abs(that)))
+  }
+
+  /**
+   * Implicit conversion from [[Float]] to [[Complex32]].
+   */
+  implicit val realToComplex: Float => Complex32 = r => Complex32(r, 0.0f)
+
+  /**
+   * Implicit conversion from [[Complex32]] to [[Complex]].
+   */
+  implicit val complex32ToComplex: Complex32 => Complex = z => z.toComplex
+}
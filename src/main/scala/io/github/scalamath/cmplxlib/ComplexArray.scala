@@ -0,0 +1,612 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+
+/**
+ * A fixed-length array of complex numbers.
+ *
+ * Complex arrays store their elements as a single array of doubles in which real and imaginary parts are interleaved,
+ * so that the element at index `i` has its real part at index `2 * i` and its imaginary part at index `2 * i + 1`.
+ * Unlike an `Array[Complex]`, a complex array does not require an object for each of its elements.
+ *
+ * Elements of a complex array can be modified with [[update]], but, like all other operations in this library,
+ * arithmetic operations do not modify the array on which they are invoked and return a new array instead.
+ *
+ * @constructor Constructs a complex array backed by the given array of interleaved real and imaginary parts.
+ * @param data The array of interleaved real and imaginary parts.
+ */
+class ComplexArray private(private[cmplxlib] val data: Array[Double]) {
+
+  /**
+   * Constructs a complex array of the given length with all elements set to zero.
+   *
+   * @param length The length of the array.
+   */
+  def this(length: Int) = this(new Array[Double](length * 2))
+
+  /**
+   * Returns the number of complex numbers in this array.
+   *
+   * @return The length of this array.
+   */
+  def length: Int = this.data.length / 2
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The element at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def apply(i: Int): Complex = Complex(this.data(i * 2), this.data(i * 2 + 1))
+
+  /**
+   * Returns the real part of the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The real part of the element at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def realAt(i: Int): Double = this.data(i * 2)
+
+  /**
+   * Returns the imaginary part of the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The imaginary part of the element at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def imaginaryAt(i: Int): Double = this.data(i * 2 + 1)
+
+  /**
+   * Sets the element at the given index to the complex number with the given real and imaginary part.
+   *
+   * @param i The index of the element to set.
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def update(i: Int, a: Double, b: Double): Unit = {
+    this.data(i * 2) = a
+    this.data(i * 2 + 1) = b
+  }
+
+  /**
+   * Sets the element at the given index to the given complex number.
+   *
+   * @param i The index of the element to set.
+   * @param z The complex number.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def update(i: Int, z: Complex): Unit = this.update(i, z.a, z.b)
+
+  /**
+   * Adds the given array to this one element-wise and returns the result.
+   *
+   * @param that The array to add.
+   * @return The element-wise sum between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def +(that: ComplexArray): ComplexArray = {
+    this.checkLength(that)
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) + that.data(i)
+      i += 1
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Adds the given array to this one element-wise and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param that The array to add.
+   * @return The element-wise sum between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def plus(that: ComplexArray): ComplexArray = this + that
+
+  /**
+   * Adds the given complex number to all the elements of this array and returns the result.
+   *
+   * @param z The complex number to add.
+   * @return An array containing the sum between each element of this array and the given complex number.
+   */
+  def +(z: Complex): ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) + z.a
+      res(i + 1) = this.data(i + 1) + z.b
+      i += 2
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Adds the given complex number to all the elements of this array and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param z The complex number to add.
+   * @return An array containing the sum between each element of this array and the given complex number.
+   */
+  def plus(z: Complex): ComplexArray = this + z
+
+  /**
+   * Subtracts the given array from this one element-wise and returns the result.
+   *
+   * @param that The array to subtract.
+   * @return The element-wise subtraction between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def -(that: ComplexArray): ComplexArray = {
+    this.checkLength(that)
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) - that.data(i)
+      i += 1
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Subtracts the given array from this one element-wise and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param that The array to subtract.
+   * @return The element-wise subtraction between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def minus(that: ComplexArray): ComplexArray = this - that
+
+  /**
+   * Subtracts the given complex number from all the elements of this array and returns the result.
+   *
+   * @param z The complex number to subtract.
+   * @return An array containing the subtraction between each element of this array and the given complex number.
+   */
+  def -(z: Complex): ComplexArray = this + (-z)
+
+  /**
+   * Subtracts the given complex number from all the elements of this array and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param z The complex number to subtract.
+   * @return An array containing the subtraction between each element of this array and the given complex number.
+   */
+  def minus(z: Complex): ComplexArray = this - z
+
+  /**
+   * Returns the additive inverse of this array.
+   *
+   * @return An array containing the additive inverse of each element of this array.
+   */
+  def unary_- : ComplexArray = this * -1.0
+
+  /**
+   * Returns the additive inverse of this array.
+   *
+   * This method can be used in place of the unary `-` operator for better interoperability with Java.
+   *
+   * @return An array containing the additive inverse of each element of this array.
+   */
+  def negated: ComplexArray = -this
+
+  /**
+   * Multiplies this array by the given one element-wise and returns the result.
+   *
+   * @param that The array to multiply this one by.
+   * @return The element-wise product between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def *(that: ComplexArray): ComplexArray = {
+    this.checkLength(that)
+    val res = new Array[Double](this.data.length)
+    ComplexBackend.current.multiply(this.data, 0, that.data, 0, res, 0, this.length)
+    new ComplexArray(res)
+  }
+
+  /**
+   * Multiplies this array by the given one element-wise and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param that The array to multiply this one by.
+   * @return The element-wise product between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def multiply(that: ComplexArray): ComplexArray = this * that
+
+  /**
+   * Returns the dot product between this array and the given one, that is the sum of the products between each element of
+   * this array and the [[Complex.conjugate]] of the corresponding element of the given array.
+   *
+   * @param that The second array.
+   * @return The dot product between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   * @see [[ParallelOps.dot]]
+   */
+  def dot(that: ComplexArray): Complex = {
+    this.checkLength(that)
+    ComplexBackend.current.conjugateDot(this.data, 0, that.data, 0, this.length)
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given complex number and returns the result.
+   *
+   * @param z The complex number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given complex number.
+   */
+  def *(z: Complex): ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      val a = this.data(i)
+      val b = this.data(i + 1)
+      res(i) = a * z.a - b * z.b
+      res(i + 1) = a * z.b + b * z.a
+      i += 2
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given complex number and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param z The complex number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given complex number.
+   */
+  def multipliedBy(z: Complex): ComplexArray = this * z
+
+  /**
+   * Multiplies all the elements of this array by the given real number and returns the result.
+   *
+   * @param k The real number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given real number.
+   */
+  def *(k: Double): ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) * k
+      i += 1
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given real number and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The real number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given real number.
+   */
+  def multipliedBy(k: Double): ComplexArray = this * k
+
+  /**
+   * Divides this array by the given one element-wise and returns the result.
+   *
+   * @param that The array to divide this one by.
+   * @return The element-wise division between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def /(that: ComplexArray): ComplexArray = {
+    this.checkLength(that)
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      ComplexKernels.divide(this.data(i), this.data(i + 1), that.data(i), that.data(i + 1), res, i)
+      i += 2
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Divides this array by the given one element-wise and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param that The array to divide this one by.
+   * @return The element-wise division between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def divide(that: ComplexArray): ComplexArray = this / that
+
+  /**
+   * Divides all the elements of this array by the given complex number and returns the result.
+   *
+   * @param z The complex number to divide this array by.
+   * @return An array containing the division between each element of this array and the given complex number.
+   */
+  def /(z: Complex): ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      ComplexKernels.divide(this.data(i), this.data(i + 1), z.a, z.b, res, i)
+      i += 2
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Divides all the elements of this array by the given complex number and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param z The complex number to divide this array by.
+   * @return An array containing the division between each element of this array and the given complex number.
+   */
+  def dividedBy(z: Complex): ComplexArray = this / z
+
+  /**
+   * Divides all the elements of this array by the given real number and returns the result.
+   *
+   * @param k The real number to divide this array by.
+   * @return An array containing the division between each element of this array and the given real number.
+   */
+  def /(k: Double): ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) / k
+      i += 1
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Divides all the elements of this array by the given real number and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The real number to divide this array by.
+   * @return An array containing the division between each element of this array and the given real number.
+   */
+  def dividedBy(k: Double): ComplexArray = this / k
+
+  /**
+   * Returns an array containing the complex conjugate of each element of this array.
+   *
+   * @return An array containing the complex conjugate of each element of this array.
+   * @see [[Complex.conjugate]]
+   */
+  def conjugate: ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i)
+      res(i + 1) = -this.data(i + 1)
+      i += 2
+    }
+    new ComplexArray(res)
+  }
+
+  /**
+   * Returns an array containing the squared modulus of each element of this array.
+   *
+   * @return An array containing the squared modulus of each element of this array.
+   * @see [[Complex.squaredModulus]]
+   */
+  def squaredModulus: Array[Double] = {
+    val res = new Array[Double](this.length)
+    ComplexBackend.current.squaredModulus(this.data, 0, res, 0, this.length)
+    res
+  }
+
+  /**
+   * Returns an array containing the modulus, or absolute value, of each element of this array.
+   *
+   * @return An array containing the modulus of each element of this array.
+   * @see [[Complex.modulus]]
+   */
+  def modulus: Array[Double] = {
+    val res = new Array[Double](this.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = Complex.abs(this.data(i * 2), this.data(i * 2 + 1))
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns an array containing the argument of each element of this array.
+   *
+   * @return An array containing the argument of each element of this array.
+   * @see [[Complex.arg]]
+   */
+  def arg: Array[Double] = {
+    val res = new Array[Double](this.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = math.atan2(this.data(i * 2 + 1), this.data(i * 2))
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns an array containing the real part of each element of this array.
+   *
+   * @return An array containing the real part of each element of this array.
+   */
+  def real: Array[Double] = Array.tabulate(this.length)(i => this.realAt(i))
+
+  /**
+   * Returns an array containing the imaginary part of each element of this array.
+   *
+   * @return An array containing the imaginary part of each element of this array.
+   */
+  def imaginary: Array[Double] = Array.tabulate(this.length)(i => this.imaginaryAt(i))
+
+  /**
+   * Returns the discrete Fourier transform of this array computed with a fast Fourier transform.
+   *
+   * @return The discrete Fourier transform of this array.
+   * @throws IllegalArgumentException if this array is empty.
+   * @see [[FFT.forward]]
+   */
+  def fft: ComplexArray = {
+    val res = this.copy
+    FFT(this.length).forward(res)
+    res
+  }
+
+  /**
+   * Returns the inverse discrete Fourier transform of this array computed with a fast Fourier transform.
+   *
+   * The result is divided by the length of this array, so that the inverse transform of the [[fft]] of an array is equal
+   * to the array itself.
+   *
+   * @return The inverse discrete Fourier transform of this array.
+   * @throws IllegalArgumentException if this array is empty.
+   * @see [[FFT.inverse]]
+   */
+  def ifft: ComplexArray = {
+    val res = this.copy
+    FFT(this.length).inverse(res)
+    res
+  }
+
+  /**
+   * Checks if the elements of this array are approximately equal to the ones of the given array using an internal epsilon.
+   *
+   * @param that The second array.
+   * @return True if the two arrays have the same length and their elements are approximately equal, otherwise false.
+   */
+  def ~=(that: ComplexArray): Boolean = {
+    this.data.length == that.data.length && this.data.indices.forall(i => this.data(i) ~= that.data(i))
+  }
+
+  /**
+   * Checks if the elements of this array are approximately equal to the ones of the given array using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param that The second array.
+   * @return True if the two arrays have the same length and their elements are approximately equal, otherwise false.
+   */
+  def equalsApprox(that: ComplexArray): Boolean = this ~= that
+
+  /**
+   * Returns a copy of this array.
+   *
+   * @return A copy of this array.
+   */
+  def copy: ComplexArray = new ComplexArray(this.data.clone())
+
+  /**
+   * Returns an `Array[Complex]` containing the elements of this array.
+   *
+   * @return An array of complex numbers containing the elements of this array.
+   */
+  def toArray: Array[Complex] = Array.tabulate(this.length)(i => this(i))
+
+  /**
+   * Checks if the given object is a complex array with the same elements as this one.
+   *
+   * @param obj The object to compare.
+   * @return True if the given object is a complex array with the same elements as this one, otherwise false.
+   */
+  override def equals(obj: Any): Boolean = obj match {
+    case that: ComplexArray => this.data.length == that.data.length && this.data.indices.forall(i => this.data(i) == that.data(i))
+    case _ => false
+  }
+
+  /**
+   * Returns a hash code computed from the elements of this array.
+   *
+   * @return A hash code computed from the elements of this array.
+   */
+  override def hashCode(): Int = java.util.Arrays.hashCode(this.data)
+
+  /**
+   * Returns a string representation of this array in the form `[a + ib, c + id, ...]`.
+   *
+   * @return A string representation of this array.
+   */
+  override def toString: String = this.toArray.mkString("[", ", ", "]")
+
+  /**
+   * Checks that the given array has the same length as this one.
+   *
+   * @param that The second array.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  private def checkLength(that: ComplexArray): Unit = {
+    require(this.data.length == that.data.length, s"Arrays must have the same length, but were ${this.length} and ${that.length}")
+  }
+}
+
+/**
+ * Factory methods for complex arrays.
+ */
+object ComplexArray {
+
+  /**
+   * Returns a complex array containing the given elements.
+   *
+   * @param values The elements of the array.
+   * @return A complex array containing the given elements.
+   */
+  def apply(values: Complex*): ComplexArray = {
+    val res = new ComplexArray(values.length)
+    var i = 0
+    values.foreach { z =>
+      res(i) = z
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns a complex array containing the elements of the given array.
+   *
+   * @param values The array of complex numbers.
+   * @return A complex array containing the elements of the given array.
+   */
+  def fromArray(values: Array[Complex]): ComplexArray = this.apply(values.toIndexedSeq: _*)
+
+  /**
+   * Returns a complex array whose elements have the given real and imaginary parts.
+   *
+   * @param real The real parts of the elements.
+   * @param imaginary The imaginary parts of the elements.
+   * @return A complex array whose elements have the given real and imaginary parts.
+   * @throws IllegalArgumentException If the two given arrays do not have the same length.
+   */
+  def fromParts(real: Array[Double], imaginary: Array[Double]): ComplexArray = {
+    require(real.length == imaginary.length, s"Arrays must have the same length, but were ${real.length} and ${imaginary.length}")
+    val res = new ComplexArray(real.length)
+    var i = 0
+    while (i < real.length) {
+      res.update(i, real(i), imaginary(i))
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns a complex array backed by the given array of interleaved real and imaginary parts.
+   *
+   * The given array is not copied, therefore changes to the given array will be reflected in the complex array and vice versa.
+   *
+   * @param data An array containing the real part of each element at even indices and the imaginary part at odd indices.
+   * @return A complex array backed by the given array.
+   * @throws IllegalArgumentException If the length of the given array is not even.
+   */
+  def wrap(data: Array[Double]): ComplexArray = {
+    require(data.length % 2 == 0, s"The length of an interleaved complex array must be even, but was ${data.length}")
+    new ComplexArray(data)
+  }
+}
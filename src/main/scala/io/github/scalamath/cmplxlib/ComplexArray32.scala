@@ -0,0 +1,700 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.FloatEqualsApprox
+
+/**
+ * A fixed-length array of single-precision complex numbers.
+ *
+ * This class has the same operations as [[ComplexArray]], but stores its elements as floats, which halves the memory
+ * and the bandwidth needed by passes over large arrays.
+ * Arithmetic operations are computed in single precision, except for divisions, dot products, and Fourier transforms,
+ * which are computed in double precision and rounded to single precision.
+ *
+ * Complex arrays store their elements as a single array of floats in which real and imaginary parts are interleaved,
+ * so that the element at index `i` has its real part at index `2 * i` and its imaginary part at index `2 * i + 1`.
+ * Unlike an `Array[Complex32]`, a complex array does not require an object for each of its elements.
+ *
+ * Elements of a complex array can be modified with [[update]], but, like all other operations in this library,
+ * arithmetic operations do not modify the array on which they are invoked and return a new array instead.
+ *
+ * @constructor Constructs a complex array backed by the given array of interleaved real and imaginary parts.
+ * @param data The array of interleaved real and imaginary parts.
+ */
+class ComplexArray32 private(private[cmplxlib] val data: Array[Float]) {
+
+  /**
+   * Constructs a complex array of the given length with all elements set to zero.
+   *
+   * @param length The length of the array.
+   */
+  def this(length: Int) = this(new Array[Float](length * 2))
+
+  /**
+   * Returns the number of complex numbers in this array.
+   *
+   * @return The length of this array.
+   */
+  def length: Int = this.data.length / 2
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The element at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def apply(i: Int): Complex32 = Complex32(this.data(i * 2), this.data(i * 2 + 1))
+
+  /**
+   * Returns the real part of the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The real part of the element at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def realAt(i: Int): Float = this.data(i * 2)
+
+  /**
+   * Returns the imaginary part of the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The imaginary part of the element at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def imaginaryAt(i: Int): Float = this.data(i * 2 + 1)
+
+  /**
+   * Sets the element at the given index to the complex number with the given real and imaginary part.
+   *
+   * @param i The index of the element to set.
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def update(i: Int, a: Float, b: Float): Unit = {
+    this.data(i * 2) = a
+    this.data(i * 2 + 1) = b
+  }
+
+  /**
+   * Sets the element at the given index to the given complex number.
+   *
+   * @param i The index of the element to set.
+   * @param z The complex number.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def update(i: Int, z: Complex32): Unit = this.update(i, z.a, z.b)
+
+  /**
+   * Adds the given array to this one element-wise and returns the result.
+   *
+   * @param that The array to add.
+   * @return The element-wise sum between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def +(that: ComplexArray32): ComplexArray32 = {
+    this.checkLength(that)
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) + that.data(i)
+      i += 1
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Adds the given array to this one element-wise and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param that The array to add.
+   * @return The element-wise sum between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def plus(that: ComplexArray32): ComplexArray32 = this + that
+
+  /**
+   * Adds the given complex number to all the elements of this array and returns the result.
+   *
+   * @param z The complex number to add.
+   * @return An array containing the sum between each element of this array and the given complex number.
+   */
+  def +(z: Complex32): ComplexArray32 = {
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) + z.a
+      res(i + 1) = this.data(i + 1) + z.b
+      i += 2
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Adds the given complex number to all the elements of this array and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param z The complex number to add.
+   * @return An array containing the sum between each element of this array and the given complex number.
+   */
+  def plus(z: Complex32): ComplexArray32 = this + z
+
+  /**
+   * Subtracts the given array from this one element-wise and returns the result.
+   *
+   * @param that The array to subtract.
+   * @return The element-wise subtraction between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def -(that: ComplexArray32): ComplexArray32 = {
+    this.checkLength(that)
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) - that.data(i)
+      i += 1
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Subtracts the given array from this one element-wise and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param that The array to subtract.
+   * @return The element-wise subtraction between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def minus(that: ComplexArray32): ComplexArray32 = this - that
+
+  /**
+   * Subtracts the given complex number from all the elements of this array and returns the result.
+   *
+   * @param z The complex number to subtract.
+   * @return An array containing the subtraction between each element of this array and the given complex number.
+   */
+  def -(z: Complex32): ComplexArray32 = this + (-z)
+
+  /**
+   * Subtracts the given complex number from all the elements of this array and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param z The complex number to subtract.
+   * @return An array containing the subtraction between each element of this array and the given complex number.
+   */
+  def minus(z: Complex32): ComplexArray32 = this - z
+
+  /**
+   * Returns the additive inverse of this array.
+   *
+   * @return An array containing the additive inverse of each element of this array.
+   */
+  def unary_- : ComplexArray32 = this * -1.0f
+
+  /**
+   * Returns the additive inverse of this array.
+   *
+   * This method can be used in place of the unary `-` operator for better interoperability with Java.
+   *
+   * @return An array containing the additive inverse of each element of this array.
+   */
+  def negated: ComplexArray32 = -this
+
+  /**
+   * Multiplies this array by the given one element-wise and returns the result.
+   *
+   * @param that The array to multiply this one by.
+   * @return The element-wise product between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def *(that: ComplexArray32): ComplexArray32 = {
+    this.checkLength(that)
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      val a = this.data(i)
+      val b = this.data(i + 1)
+      res(i) = a * that.data(i) - b * that.data(i + 1)
+      res(i + 1) = a * that.data(i + 1) + b * that.data(i)
+      i += 2
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Multiplies this array by the given one element-wise and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param that The array to multiply this one by.
+   * @return The element-wise product between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def multiply(that: ComplexArray32): ComplexArray32 = this * that
+
+  /**
+   * Returns the dot product between this array and the given one, that is the sum of the products between each element of
+   * this array and the [[Complex32.conjugate]] of the corresponding element of the given array.
+   *
+   * The sum is accumulated in double precision.
+   *
+   * @param that The second array.
+   * @return The dot product between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def dot(that: ComplexArray32): Complex32 = {
+    this.checkLength(that)
+    var re = 0.0
+    var im = 0.0
+    var i = 0
+    while (i < this.data.length) {
+      val ar = this.data(i).toDouble
+      val ai = this.data(i + 1).toDouble
+      val br = that.data(i).toDouble
+      val bi = that.data(i + 1).toDouble
+      re += ar * br + ai * bi
+      im += ai * br - ar * bi
+      i += 2
+    }
+    Complex32(re.toFloat, im.toFloat)
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given complex number and returns the result.
+   *
+   * @param z The complex number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given complex number.
+   */
+  def *(z: Complex32): ComplexArray32 = {
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      val a = this.data(i)
+      val b = this.data(i + 1)
+      res(i) = a * z.a - b * z.b
+      res(i + 1) = a * z.b + b * z.a
+      i += 2
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given complex number and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param z The complex number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given complex number.
+   */
+  def multipliedBy(z: Complex32): ComplexArray32 = this * z
+
+  /**
+   * Multiplies all the elements of this array by the given real number and returns the result.
+   *
+   * @param k The real number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given real number.
+   */
+  def *(k: Float): ComplexArray32 = {
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) * k
+      i += 1
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given real number and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The real number to multiply this array by.
+   * @return An array containing the product between each element of this array and the given real number.
+   */
+  def multipliedBy(k: Float): ComplexArray32 = this * k
+
+  /**
+   * Divides this array by the given one element-wise and returns the result.
+   *
+   * @param that The array to divide this one by.
+   * @return The element-wise division between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def /(that: ComplexArray32): ComplexArray32 = {
+    this.checkLength(that)
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      ComplexArray32.divide(this.data(i), this.data(i + 1), that.data(i), that.data(i + 1), res, i)
+      i += 2
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Divides this array by the given one element-wise and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param that The array to divide this one by.
+   * @return The element-wise division between this array and the given one.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  def divide(that: ComplexArray32): ComplexArray32 = this / that
+
+  /**
+   * Divides all the elements of this array by the given complex number and returns the result.
+   *
+   * @param z The complex number to divide this array by.
+   * @return An array containing the division between each element of this array and the given complex number.
+   */
+  def /(z: Complex32): ComplexArray32 = {
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      ComplexArray32.divide(this.data(i), this.data(i + 1), z.a, z.b, res, i)
+      i += 2
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Divides all the elements of this array by the given complex number and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param z The complex number to divide this array by.
+   * @return An array containing the division between each element of this array and the given complex number.
+   */
+  def dividedBy(z: Complex32): ComplexArray32 = this / z
+
+  /**
+   * Divides all the elements of this array by the given real number and returns the result.
+   *
+   * @param k The real number to divide this array by.
+   * @return An array containing the division between each element of this array and the given real number.
+   */
+  def /(k: Float): ComplexArray32 = {
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) / k
+      i += 1
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Divides all the elements of this array by the given real number and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The real number to divide this array by.
+   * @return An array containing the division between each element of this array and the given real number.
+   */
+  def dividedBy(k: Float): ComplexArray32 = this / k
+
+  /**
+   * Returns an array containing the complex conjugate of each element of this array.
+   *
+   * @return An array containing the complex conjugate of each element of this array.
+   * @see [[Complex32.conjugate]]
+   */
+  def conjugate: ComplexArray32 = {
+    val res = new Array[Float](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i)
+      res(i + 1) = -this.data(i + 1)
+      i += 2
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Returns an array containing the squared modulus of each element of this array.
+   *
+   * @return An array containing the squared modulus of each element of this array.
+   * @see [[Complex32.squaredModulus]]
+   */
+  def squaredModulus: Array[Float] = {
+    val res = new Array[Float](this.length)
+    var i = 0
+    while (i < res.length) {
+      val re = this.data(i * 2)
+      val im = this.data(i * 2 + 1)
+      res(i) = re * re + im * im
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns an array containing the modulus, or absolute value, of each element of this array.
+   *
+   * @return An array containing the modulus of each element of this array.
+   * @see [[Complex32.modulus]]
+   */
+  def modulus: Array[Float] = {
+    val res = new Array[Float](this.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = Complex32.abs(this.data(i * 2), this.data(i * 2 + 1))
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns an array containing the argument of each element of this array.
+   *
+   * @return An array containing the argument of each element of this array.
+   * @see [[Complex32.arg]]
+   */
+  def arg: Array[Float] = {
+    val res = new Array[Float](this.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = math.atan2(this.data(i * 2 + 1), this.data(i * 2)).toFloat
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns an array containing the real part of each element of this array.
+   *
+   * @return An array containing the real part of each element of this array.
+   */
+  def real: Array[Float] = Array.tabulate(this.length)(i => this.realAt(i))
+
+  /**
+   * Returns an array containing the imaginary part of each element of this array.
+   *
+   * @return An array containing the imaginary part of each element of this array.
+   */
+  def imaginary: Array[Float] = Array.tabulate(this.length)(i => this.imaginaryAt(i))
+
+  /**
+   * Returns the discrete Fourier transform of this array computed with a fast Fourier transform.
+   *
+   * The transform is computed in double precision and rounded to single precision.
+   *
+   * @return The discrete Fourier transform of this array.
+   * @throws IllegalArgumentException if this array is empty.
+   * @see [[FFT.forward]]
+   */
+  def fft: ComplexArray32 = {
+    val res = this.toComplexArray
+    FFT(this.length).forward(res)
+    ComplexArray32.fromComplexArray(res)
+  }
+
+  /**
+   * Returns the inverse discrete Fourier transform of this array computed with a fast Fourier transform.
+   *
+   * The transform is computed in double precision and rounded to single precision.
+   *
+   * The result is divided by the length of this array, so that the inverse transform of the [[fft]] of an array is equal
+   * to the array itself.
+   *
+   * @return The inverse discrete Fourier transform of this array.
+   * @throws IllegalArgumentException if this array is empty.
+   * @see [[FFT.inverse]]
+   */
+  def ifft: ComplexArray32 = {
+    val res = this.toComplexArray
+    FFT(this.length).inverse(res)
+    ComplexArray32.fromComplexArray(res)
+  }
+
+  /**
+   * Checks if the elements of this array are approximately equal to the ones of the given array using an internal epsilon.
+   *
+   * @param that The second array.
+   * @return True if the two arrays have the same length and their elements are approximately equal, otherwise false.
+   */
+  def ~=(that: ComplexArray32): Boolean = {
+    this.data.length == that.data.length && this.data.indices.forall(i => this.data(i) ~= that.data(i))
+  }
+
+  /**
+   * Checks if the elements of this array are approximately equal to the ones of the given array using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param that The second array.
+   * @return True if the two arrays have the same length and their elements are approximately equal, otherwise false.
+   */
+  def equalsApprox(that: ComplexArray32): Boolean = this ~= that
+
+  /**
+   * Returns a copy of this array.
+   *
+   * @return A copy of this array.
+   */
+  def copy: ComplexArray32 = new ComplexArray32(this.data.clone())
+
+  /**
+   * Converts this array to a double-precision complex array.
+   *
+   * The conversion is exact.
+   *
+   * @return A double-precision complex array with the same elements as this one.
+   */
+  def toComplexArray: ComplexArray = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i)
+      i += 1
+    }
+    ComplexArray.wrap(res)
+  }
+
+  /**
+   * Returns an `Array[Complex32]` containing the elements of this array.
+   *
+   * @return An array of complex numbers containing the elements of this array.
+   */
+  def toArray: Array[Complex32] = Array.tabulate(this.length)(i => this(i))
+
+  /**
+   * Checks if the given object is a complex array with the same elements as this one.
+   *
+   * @param obj The object to compare.
+   * @return True if the given object is a complex array with the same elements as this one, otherwise false.
+   */
+  override def equals(obj: Any): Boolean = obj match {
+    case that: ComplexArray32 => this.data.length == that.data.length && this.data.indices.forall(i => this.data(i) == that.data(i))
+    case _ => false
+  }
+
+  /**
+   * Returns a hash code computed from the elements of this array.
+   *
+   * @return A hash code computed from the elements of this array.
+   */
+  override def hashCode(): Int = java.util.Arrays.hashCode(this.data)
+
+  /**
+   * Returns a string representation of this array in the form `[a + ib, c + id, ...]`.
+   *
+   * @return A string representation of this array.
+   */
+  override def toString: String = this.toArray.mkString("[", ", ", "]")
+
+  /**
+   * Checks that the given array has the same length as this one.
+   *
+   * @param that The second array.
+   * @throws IllegalArgumentException If the two arrays do not have the same length.
+   */
+  private def checkLength(that: ComplexArray32): Unit = {
+    require(this.data.length == that.data.length, s"Arrays must have the same length, but were ${this.length} and ${that.length}")
+  }
+}
+
+/**
+ * Factory methods for complex arrays.
+ */
+object ComplexArray32 {
+
+  /**
+   * Returns a complex array containing the given elements.
+   *
+   * @param values The elements of the array.
+   * @return A complex array containing the given elements.
+   */
+  def apply(values: Complex32*): ComplexArray32 = {
+    val res = new ComplexArray32(values.length)
+    var i = 0
+    values.foreach { z =>
+      res(i) = z
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns a complex array containing the elements of the given array.
+   *
+   * @param values The array of complex numbers.
+   * @return A complex array containing the elements of the given array.
+   */
+  def fromArray(values: Array[Complex32]): ComplexArray32 = this.apply(values.toIndexedSeq: _*)
+
+  /**
+   * Returns a complex array whose elements have the given real and imaginary parts.
+   *
+   * @param real The real parts of the elements.
+   * @param imaginary The imaginary parts of the elements.
+   * @return A complex array whose elements have the given real and imaginary parts.
+   * @throws IllegalArgumentException If the two given arrays do not have the same length.
+   */
+  def fromParts(real: Array[Float], imaginary: Array[Float]): ComplexArray32 = {
+    require(real.length == imaginary.length, s"Arrays must have the same length, but were ${real.length} and ${imaginary.length}")
+    val res = new ComplexArray32(real.length)
+    var i = 0
+    while (i < real.length) {
+      res.update(i, real(i), imaginary(i))
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns a complex array backed by the given array of interleaved real and imaginary parts.
+   *
+   * The given array is not copied, therefore changes to the given array will be reflected in the complex array and vice versa.
+   *
+   * @param data An array containing the real part of each element at even indices and the imaginary part at odd indices.
+   * @return A complex array backed by the given array.
+   * @throws IllegalArgumentException If the length of the given array is not even.
+   */
+  def wrap(data: Array[Float]): ComplexArray32 = {
+    require(data.length % 2 == 0, s"The length of an interleaved complex array must be even, but was ${data.length}")
+    new ComplexArray32(data)
+  }
+
+  /**
+   * Converts the given double-precision complex array to single precision.
+   *
+   * The real and imaginary part of every element are rounded to the nearest float.
+   *
+   * @param a The double-precision complex array.
+   * @return A single-precision complex array with the elements of the given array rounded to single precision.
+   */
+  def fromComplexArray(a: ComplexArray): ComplexArray32 = {
+    val res = new Array[Float](a.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = a.data(i).toFloat
+      i += 1
+    }
+    new ComplexArray32(res)
+  }
+
+  /**
+   * Divides the complex number `x + iy` by the complex number `a + ib` and writes the result into the given array.
+   *
+   * The division is computed in double precision, in which the squared modulus of a float cannot overflow or underflow.
+   *
+   * @param x The real part of the dividend.
+   * @param y The imaginary part of the dividend.
+   * @param a The real part of the divisor.
+   * @param b The imaginary part of the divisor.
+   * @param dst The destination array.
+   * @param off Index of the real part of the result in the destination array.
+   */
+  private def divide(x: Float, y: Float, a: Float, b: Float, dst: Array[Float], off: Int): Unit = {
+    val d = a.toDouble * a + b.toDouble * b
+    dst(off) = ((x.toDouble * a + y.toDouble * b) / d).toFloat
+    dst(off + 1) = ((y.toDouble * a - x.toDouble * b) / d).toFloat
+  }
+}
@@ -0,0 +1,205 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * A set of kernels for bulk operations on arrays of interleaved real and imaginary parts.
+ *
+ * Offsets and counts are expressed in complex numbers, so that the complex number at offset `i` of an array has its real
+ * part at index `2 * i` and its imaginary part at index `2 * i + 1`.
+ *
+ * The backend used by [[ComplexArray]] and [[ParallelOps]] can be queried with [[ComplexBackend.current]] and changed
+ * with [[ComplexBackend.select]].
+ * All backends compute element-wise products and squared moduli with the same operations in the same order, therefore
+ * their results are identical.
+ * Reductions may add the partial results in a different order, therefore their results may differ in the last bits.
+ */
+trait ComplexBackend {
+
+  /**
+   * Returns the name of this backend.
+   *
+   * @return The name of this backend.
+   */
+  def name: String
+
+  /**
+   * Multiplies `count` complex numbers of the first array by the corresponding ones of the second array and writes the
+   * results into the destination array.
+   *
+   * The destination may be one of the two operands.
+   *
+   * @param a The first array.
+   * @param aOff Offset of the first complex number in the first array.
+   * @param b The second array.
+   * @param bOff Offset of the first complex number in the second array.
+   * @param dst The destination array.
+   * @param dstOff Offset of the first result in the destination array.
+   * @param count The number of complex numbers to multiply.
+   */
+  def multiply(a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int, count: Int): Unit
+
+  /**
+   * Multiplies `count` complex numbers of the first array by the corresponding ones of the second array and adds the
+   * results to the corresponding complex numbers of the destination array.
+   *
+   * The destination must not overlap with any of the two operands.
+   *
+   * @param a The first array.
+   * @param aOff Offset of the first complex number in the first array.
+   * @param b The second array.
+   * @param bOff Offset of the first complex number in the second array.
+   * @param dst The destination array.
+   * @param dstOff Offset of the first complex number in the destination array.
+   * @param count The number of complex numbers to multiply.
+   */
+  def multiplyAdd(a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int, count: Int): Unit
+
+  /**
+   * Returns the sum of the products between `count` complex numbers of the first array and the [[Complex.conjugate]] of
+   * the corresponding ones of the second array.
+   *
+   * @param a The first array.
+   * @param aOff Offset of the first complex number in the first array.
+   * @param b The second array.
+   * @param bOff Offset of the first complex number in the second array.
+   * @param count The number of complex numbers to multiply.
+   * @return The dot product between the two sequences.
+   */
+  def conjugateDot(a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, count: Int): Complex
+
+  /**
+   * Computes the [[Complex.squaredModulus]] of `count` complex numbers and writes them into the destination array.
+   *
+   * @param a The source array.
+   * @param aOff Offset of the first complex number in the source array.
+   * @param dst The destination array, which contains one real number for every complex number.
+   * @param dstOff Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   */
+  def squaredModulus(a: Array[Double], aOff: Int, dst: Array[Double], dstOff: Int, count: Int): Unit
+}
+
+/**
+ * Registry of the available backends.
+ *
+ * The scalar backend is always available.
+ * The vector backend uses the JDK Vector API and is only available if the `jdk.incubator.vector` module is present at
+ * runtime, for example by running the JVM with `--add-modules jdk.incubator.vector`.
+ *
+ * The initial backend is the one named by the `cmplxlib.backend` system property or, if the property is not set, the
+ * vector backend if it is available and the scalar backend otherwise.
+ */
+object ComplexBackend {
+
+  /** Name of the system property used to choose the initial backend */
+  val Property: String = "cmplxlib.backend"
+
+  /** The scalar backend, which is always available */
+  val Scalar: ComplexBackend = ScalarBackend
+
+  /** The vector backend, if it is available */
+  val Vector: Option[ComplexBackend] = {
+    try {
+      val backend = Class.forName("io.github.scalamath.cmplxlib.VectorBackend").getDeclaredConstructor().newInstance()
+      Some(backend.asInstanceOf[ComplexBackend])
+    } catch {
+      case _: ReflectiveOperationException | _: LinkageError | _: RuntimeException => None
+    }
+  }
+
+  /** The backends that can be used */
+  val available: Seq[ComplexBackend] = this.Vector.toSeq :+ this.Scalar
+
+  /** The backend in use */
+  @volatile private var selected: ComplexBackend = System.getProperty(this.Property) match {
+    case null => this.available.head
+    case name => this.available.find(_.name == name).getOrElse(this.Scalar)
+  }
+
+  /**
+   * Returns the backend in use.
+   *
+   * @return The backend in use.
+   */
+  def current: ComplexBackend = this.selected
+
+  /**
+   * Selects the backend with the given name.
+   *
+   * @param name The name of the backend.
+   * @throws IllegalArgumentException if there is no available backend with the given name.
+   */
+  def select(name: String): Unit = {
+    this.selected = this.available.find(_.name == name).getOrElse {
+      throw new IllegalArgumentException(s"Backend $name is not available, available backends are ${this.available.mkString(", ")}")
+    }
+  }
+
+  /**
+   * Selects the given backend.
+   *
+   * @param backend The backend.
+   */
+  def select(backend: ComplexBackend): Unit = this.selected = backend
+
+  /**
+   * Backend implemented with plain loops.
+   */
+  private object ScalarBackend extends ComplexBackend {
+
+    override def name: String = "scalar"
+
+    override def toString: String = this.name
+
+    override def multiply(a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int, count: Int): Unit = {
+      var i = 0
+      while (i < 2 * count) {
+        val ar = a(2 * aOff + i)
+        val ai = a(2 * aOff + i + 1)
+        val br = b(2 * bOff + i)
+        val bi = b(2 * bOff + i + 1)
+        dst(2 * dstOff + i) = ar * br - ai * bi
+        dst(2 * dstOff + i + 1) = ar * bi + ai * br
+        i += 2
+      }
+    }
+
+    override def multiplyAdd(a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int, count: Int): Unit = {
+      var i = 0
+      while (i < 2 * count) {
+        val ar = a(2 * aOff + i)
+        val ai = a(2 * aOff + i + 1)
+        val br = b(2 * bOff + i)
+        val bi = b(2 * bOff + i + 1)
+        dst(2 * dstOff + i) += ar * br - ai * bi
+        dst(2 * dstOff + i + 1) += ar * bi + ai * br
+        i += 2
+      }
+    }
+
+    override def conjugateDot(a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, count: Int): Complex = {
+      var re = 0.0
+      var im = 0.0
+      var i = 0
+      while (i < 2 * count) {
+        val ar = a(2 * aOff + i)
+        val ai = a(2 * aOff + i + 1)
+        val br = b(2 * bOff + i)
+        val bi = b(2 * bOff + i + 1)
+        re += ar * br + ai * bi
+        im += ai * br - ar * bi
+        i += 2
+      }
+      Complex(re, im)
+    }
+
+    override def squaredModulus(a: Array[Double], aOff: Int, dst: Array[Double], dstOff: Int, count: Int): Unit = {
+      var i = 0
+      while (i < count) {
+        val re = a(2 * (aOff + i))
+        val im = a(2 * (aOff + i) + 1)
+        dst(dstOff + i) = re * re + im * im
+        i += 1
+      }
+    }
+  }
+}
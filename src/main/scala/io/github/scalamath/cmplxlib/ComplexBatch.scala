@@ -0,0 +1,591 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+
+/**
+ * Batch versions of the transcendental functions of [[Complex]] operating on arrays of interleaved real and imaginary
+ * parts.
+ *
+ * Every function reads `count` complex numbers from the source array and writes their results into the destination
+ * array without allocating any object.
+ * The source and the destination may be the same array if the two offsets are equal.
+ *
+ * The sine and the cosine of the same argument are computed together with a single argument reduction, and the
+ * hyperbolic sine and cosine of the same argument are computed together from a single exponential, therefore a batch
+ * function is faster than calling the corresponding function of [[Complex]] on every element.
+ *
+ * Two instances are available.
+ * [[ComplexBatch.Accurate]] reduces arguments with the same algorithm as `fdlibm`, so that sines and cosines are within
+ * one unit in the last place of the exact result, and gives the same results as the functions of [[Complex]] up to
+ * rounding.
+ * [[ComplexBatch.Fast]] uses a shorter argument reduction and shorter polynomials.
+ * For arguments whose real and imaginary parts are at most `1e5` in absolute value, every result of the fast instance
+ * differs from the accurate one by at most [[ComplexBatch.FastTolerance]] times the larger between one and the modulus
+ * of the accurate result.
+ * Larger arguments are processed with the accurate algorithm.
+ *
+ * @param fast True if this instance uses the faster and less accurate algorithms.
+ */
+final class ComplexBatch private(val fast: Boolean) {
+
+  /**
+   * Computes the exponential of `count` complex numbers.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.exp]]
+   */
+  def exp(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      val a = src(2 * (srcOffset + i))
+      val b = src(2 * (srcOffset + i) + 1)
+      val e = this.realExp(a)
+      this.sincos(b, dst, j)
+      dst(j) *= e
+      dst(j + 1) *= e
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the natural logarithm of `count` complex numbers.
+   *
+   * The fast instance computes the logarithm of the modulus as half of the logarithm of the squared modulus, therefore it
+   * gives infinite or zero moduli for complex numbers whose modulus is larger than `1e154` or smaller than `1e-154`.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.log]]
+   */
+  def log(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      val a = src(2 * (srcOffset + i))
+      val b = src(2 * (srcOffset + i) + 1)
+      this.complexLog(a, b, dst, j)
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the principal square root of `count` complex numbers.
+   *
+   * Both instances compute square roots with the same algorithm.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.sqrt]]
+   */
+  def sqrt(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      val a = src(2 * (srcOffset + i))
+      val b = src(2 * (srcOffset + i) + 1)
+      if (a < 0.0 && (b ~= 0.0)) {
+        dst(j) = 0.0
+        dst(j + 1) = math.sqrt(-a)
+      } else {
+        val r = Complex.abs(a, b)
+        val k = math.sqrt(r) / Complex.abs(a + r, b)
+        dst(j) = (a + r) * k
+        dst(j + 1) = b * k
+      }
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the sine of `count` complex numbers.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.sin]]
+   */
+  def sin(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      val a = src(2 * (srcOffset + i))
+      val b = src(2 * (srcOffset + i) + 1)
+      this.coshSinh(b, dst, j)
+      val ch = dst(j)
+      val sh = dst(j + 1)
+      this.sincos(a, dst, j)
+      val cos = dst(j)
+      dst(j) = dst(j + 1) * ch
+      dst(j + 1) = cos * sh
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the cosine of `count` complex numbers.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.cos]]
+   */
+  def cos(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      val a = src(2 * (srcOffset + i))
+      val b = src(2 * (srcOffset + i) + 1)
+      this.coshSinh(b, dst, j)
+      val ch = dst(j)
+      val sh = dst(j + 1)
+      this.sincos(a, dst, j)
+      val sin = dst(j + 1)
+      dst(j) *= ch
+      dst(j + 1) = -sin * sh
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the tangent of `count` complex numbers.
+   *
+   * The tangent of `a + ib` is computed as `(sin(a) * cos(a) + i * sinh(b) * cosh(b)) / (cos(a)^2 + sinh(b)^2)`, whose
+   * denominator does not suffer from cancellation.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.tan]]
+   */
+  def tan(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      val a = src(2 * (srcOffset + i))
+      val b = src(2 * (srcOffset + i) + 1)
+      this.sincos(a, dst, j)
+      val cos = dst(j)
+      val sin = dst(j + 1)
+      if (math.abs(b) > ComplexBatch.LargeHyperbolic) {
+        // The hyperbolic sine and cosine are equal up to rounding and their square overflows
+        dst(j) = 4.0 * sin * cos * this.realExp(-2.0 * math.abs(b))
+        dst(j + 1) = math.signum(b)
+      } else {
+        this.coshSinh(b, dst, j)
+        val ch = dst(j)
+        val sh = dst(j + 1)
+        val d = cos * cos + sh * sh
+        dst(j) = sin * cos / d
+        dst(j + 1) = sh * ch / d
+      }
+      i += 1
+    }
+  }
+
+  /**
+   * Raises `count` complex numbers to the given power.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first complex number in the source array.
+   * @param exponent The exponent.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of complex numbers.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   * @see [[Complex.pow]]
+   */
+  def pow(src: Array[Double], srcOffset: Int, exponent: Complex, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 1, dst, dstOffset, 1, count)
+    var i = 0
+    while (i < count) {
+      val j = 2 * (dstOffset + i)
+      this.complexLog(src(2 * (srcOffset + i)), src(2 * (srcOffset + i) + 1), dst, j)
+      val a = dst(j) * exponent.a - dst(j + 1) * exponent.b
+      val b = dst(j) * exponent.b + dst(j + 1) * exponent.a
+      val e = this.realExp(a)
+      this.sincos(b, dst, j)
+      dst(j) *= e
+      dst(j + 1) *= e
+      i += 1
+    }
+  }
+
+  /**
+   * Returns a complex array containing the exponential of each element of the given array.
+   *
+   * @param a The complex array.
+   * @return A complex array containing the exponential of each element of the given array.
+   */
+  def exp(a: ComplexArray): ComplexArray = this.map(a)(this.exp)
+
+  /**
+   * Returns a complex array containing the natural logarithm of each element of the given array.
+   *
+   * @param a The complex array.
+   * @return A complex array containing the natural logarithm of each element of the given array.
+   */
+  def log(a: ComplexArray): ComplexArray = this.map(a)(this.log)
+
+  /**
+   * Returns a complex array containing the principal square root of each element of the given array.
+   *
+   * @param a The complex array.
+   * @return A complex array containing the principal square root of each element of the given array.
+   */
+  def sqrt(a: ComplexArray): ComplexArray = this.map(a)(this.sqrt)
+
+  /**
+   * Returns a complex array containing the sine of each element of the given array.
+   *
+   * @param a The complex array.
+   * @return A complex array containing the sine of each element of the given array.
+   */
+  def sin(a: ComplexArray): ComplexArray = this.map(a)(this.sin)
+
+  /**
+   * Returns a complex array containing the cosine of each element of the given array.
+   *
+   * @param a The complex array.
+   * @return A complex array containing the cosine of each element of the given array.
+   */
+  def cos(a: ComplexArray): ComplexArray = this.map(a)(this.cos)
+
+  /**
+   * Returns a complex array containing the tangent of each element of the given array.
+   *
+   * @param a The complex array.
+   * @return A complex array containing the tangent of each element of the given array.
+   */
+  def tan(a: ComplexArray): ComplexArray = this.map(a)(this.tan)
+
+  /**
+   * Returns a complex array containing each element of the given array raised to the given power.
+   *
+   * @param a The complex array.
+   * @param exponent The exponent.
+   * @return A complex array containing each element of the given array raised to the given power.
+   */
+  def pow(a: ComplexArray, exponent: Complex): ComplexArray = this.map(a)((src, srcOffset, dst, dstOffset, count) => this.pow(src, srcOffset, exponent, dst, dstOffset, count))
+
+  /**
+   * Returns a string representation of this instance.
+   *
+   * @return A string representation of this instance.
+   */
+  override def toString: String = if (this.fast) "ComplexBatch.Fast" else "ComplexBatch.Accurate"
+
+  /**
+   * Applies the given batch function to all the elements of the given array.
+   *
+   * @param a The complex array.
+   * @param f The batch function.
+   * @return A complex array containing the results.
+   */
+  private def map(a: ComplexArray)(f: (Array[Double], Int, Array[Double], Int, Int) => Unit): ComplexArray = {
+    val res = new ComplexArray(a.length)
+    f(a.data, 0, res.data, 0, a.length)
+    res
+  }
+
+  /**
+   * Computes the exponential of a real number.
+   *
+   * @param x The real number.
+   * @return The exponential of the given number.
+   */
+  private def realExp(x: Double): Double = if (this.fast) ComplexBatch.fastExp(x) else math.exp(x)
+
+  /**
+   * Computes the cosine and the sine of a real number and writes them into the given array.
+   *
+   * @param x The real number.
+   * @param out The destination array.
+   * @param off Index of the cosine in the destination array. The sine is written at the following index.
+   */
+  private def sincos(x: Double, out: Array[Double], off: Int): Unit = {
+    if (this.fast && math.abs(x) <= ComplexBatch.FastMaxReduction) {
+      ComplexBatch.fastSincos(x, out, off)
+    } else {
+      ComplexBatch.sincos(x, out, off)
+    }
+  }
+
+  /**
+   * Computes the hyperbolic cosine and the hyperbolic sine of a real number and writes them into the given array.
+   *
+   * @param x The real number.
+   * @param out The destination array.
+   * @param off Index of the hyperbolic cosine in the destination array. The hyperbolic sine is written at the following index.
+   */
+  private def coshSinh(x: Double, out: Array[Double], off: Int): Unit = {
+    val t = math.abs(x)
+    if (t > ComplexBatch.LargeHyperbolic) {
+      // The reciprocal of the exponential is negligible
+      val e = if (t < ComplexBatch.MaxExp) 0.5 * this.realExp(t) else math.cosh(t)
+      out(off) = e
+      out(off + 1) = math.copySign(e, x)
+    } else if (this.fast) {
+      val e = ComplexBatch.fastExp(t)
+      out(off) = 0.5 * (e + 1.0 / e)
+      out(off + 1) = math.copySign(0.5 * (e - 1.0 / e), x)
+    } else {
+      // The hyperbolic sine is computed from exp(x) - 1 to avoid cancellation
+      val m = math.expm1(t)
+      out(off) = 0.5 * (m + 1.0) + 0.5 / (m + 1.0)
+      out(off + 1) = math.copySign(0.5 * (m + m / (m + 1.0)), x)
+    }
+  }
+
+  /**
+   * Computes the natural logarithm of a complex number and writes it into the given array.
+   *
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @param out The destination array.
+   * @param off Index of the real part of the result in the destination array.
+   */
+  private def complexLog(a: Double, b: Double, out: Array[Double], off: Int): Unit = {
+    out(off) = if (this.fast) 0.5 * math.log(a * a + b * b) else math.log(Complex.abs(a, b))
+    out(off + 1) = math.atan2(b, a)
+  }
+}
+
+/**
+ * Instances and kernels of the batch transcendental functions.
+ */
+object ComplexBatch {
+
+  /** Batch functions that give the same results as the functions of [[Complex]] up to rounding */
+  val Accurate: ComplexBatch = new ComplexBatch(false)
+
+  /** Faster batch functions whose results are within [[FastTolerance]] of the accurate ones */
+  val Fast: ComplexBatch = new ComplexBatch(true)
+
+  /** Largest difference between the results of [[Fast]] and [[Accurate]] relative to the larger between one and the modulus of the result */
+  val FastTolerance: Double = 1e-9
+
+  /** Largest argument reduced by the fast sine and cosine */
+  private val FastMaxReduction = 1e5
+  /** Largest argument reduced with the Cody-Waite method, larger arguments use [[math.sin]] and [[math.cos]] */
+  private val MaxReduction = 823549.6
+  /** Arguments of hyperbolic functions above which the reciprocal of the exponential is negligible */
+  private val LargeHyperbolic = 20.0
+  /** Largest argument whose exponential does not overflow */
+  private val MaxExp = 709.0
+
+  /** `pi / 4` */
+  private val PiOver4 = 7.85398163397448278999e-01
+  /** `2 / pi` */
+  private val InvPiOver2 = 6.36619772367581382433e-01
+  /** First 33 bits of `pi / 2` */
+  private val PiOver2_1 = 1.57079632673412561417e+00
+  /** `pi / 2 - PiOver2_1` */
+  private val PiOver2_1t = 6.07710050650619224932e-11
+  /** Second 33 bits of `pi / 2` */
+  private val PiOver2_2 = 6.07710050630396597660e-11
+  /** `pi / 2 - (PiOver2_1 + PiOver2_2)` */
+  private val PiOver2_2t = 2.02226624879595063154e-21
+  /** Third 33 bits of `pi / 2` */
+  private val PiOver2_3 = 2.02226624871116645580e-21
+  /** `pi / 2 - (PiOver2_1 + PiOver2_2 + PiOver2_3)` */
+  private val PiOver2_3t = 8.47842766036889956997e-32
+
+  /** Coefficients of the polynomial approximating the sine in `[-pi/4, pi/4]` */
+  private val S1 = -1.66666666666666324348e-01
+  private val S2 = 8.33333333332248946124e-03
+  private val S3 = -1.98412698298579493134e-04
+  private val S4 = 2.75573137070700676789e-06
+  private val S5 = -2.50507602534068634195e-08
+  private val S6 = 1.58969099521155010221e-10
+  /** Coefficients of the polynomial approximating the cosine in `[-pi/4, pi/4]` */
+  private val C1 = 4.16666666666666019037e-02
+  private val C2 = -1.38888888888741095749e-03
+  private val C3 = 2.48015872894767294178e-05
+  private val C4 = -2.75573143513906633035e-07
+  private val C5 = 2.08757232129817482790e-09
+  private val C6 = -1.13596475577881948265e-11
+
+  /** High bits of `ln(2)` */
+  private val Ln2Hi = 6.93147180369123816490e-01
+  /** `ln(2) - Ln2Hi` */
+  private val Ln2Lo = 1.90821492927058770002e-10
+  /** `1 / ln(2)` */
+  private val InvLn2 = 1.44269504088896338700e+00
+
+  /**
+   * Computes the cosine and the sine of a real number with a single argument reduction.
+   *
+   * The argument is reduced to `[-pi/4, pi/4]` with the three-step Cody-Waite method of `fdlibm`, which keeps the
+   * reduced argument as the sum of two doubles, and the two results are computed with the polynomials of `fdlibm`.
+   *
+   * @param x The real number.
+   * @param out The destination array.
+   * @param off Index of the cosine in the destination array. The sine is written at the following index.
+   */
+  private def sincos(x: Double, out: Array[Double], off: Int): Unit = {
+    val t = math.abs(x)
+    if (t <= PiOver4) {
+      out(off) = this.kernelCos(x, 0.0)
+      out(off + 1) = this.kernelSin(x, 0.0)
+    } else if (t <= MaxReduction) {
+      val n = (t * InvPiOver2 + 0.5).toInt
+      val fn = n.toDouble
+      var r = t - fn * PiOver2_1
+      var w = fn * PiOver2_1t
+      var y0 = r - w
+      // Further steps are only needed if the first one cancelled too many bits
+      val e = this.exponent(t)
+      if (e - this.exponent(y0) > 16) {
+        var u = r
+        w = fn * PiOver2_2
+        r = u - w
+        w = fn * PiOver2_2t - ((u - r) - w)
+        y0 = r - w
+        if (e - this.exponent(y0) > 49) {
+          u = r
+          w = fn * PiOver2_3
+          r = u - w
+          w = fn * PiOver2_3t - ((u - r) - w)
+          y0 = r - w
+        }
+      }
+      val y1 = (r - y0) - w
+      val s = this.kernelSin(y0, y1)
+      val c = this.kernelCos(y0, y1)
+      (n & 3) match {
+        case 0 =>
+          out(off) = c
+          out(off + 1) = s
+        case 1 =>
+          out(off) = -s
+          out(off + 1) = c
+        case 2 =>
+          out(off) = -c
+          out(off + 1) = -s
+        case _ =>
+          out(off) = s
+          out(off + 1) = -c
+      }
+      if (x < 0.0) {
+        out(off + 1) = -out(off + 1)
+      }
+    } else {
+      out(off) = math.cos(x)
+      out(off + 1) = math.sin(x)
+    }
+  }
+
+  /**
+   * Computes the cosine and the sine of a real number with a two-step argument reduction and shorter polynomials.
+   *
+   * @param x The real number, whose absolute value must not be larger than [[FastMaxReduction]].
+   * @param out The destination array.
+   * @param off Index of the cosine in the destination array. The sine is written at the following index.
+   */
+  private def fastSincos(x: Double, out: Array[Double], off: Int): Unit = {
+    val fn = math.rint(x * InvPiOver2)
+    val r = (x - fn * PiOver2_1) - fn * PiOver2_1t
+    val z = r * r
+    val s = r + r * z * (S1 + z * (S2 + z * (S3 + z * (S4 + z * S5))))
+    val c = 1.0 - 0.5 * z + z * z * (C1 + z * (C2 + z * (C3 + z * C4)))
+    (fn.toLong & 3) match {
+      case 0 =>
+        out(off) = c
+        out(off + 1) = s
+      case 1 =>
+        out(off) = -s
+        out(off + 1) = c
+      case 2 =>
+        out(off) = -c
+        out(off + 1) = -s
+      case _ =>
+        out(off) = s
+        out(off + 1) = -c
+    }
+  }
+
+  /**
+   * Computes the exponential of a real number with a shorter polynomial than [[math.exp]].
+   *
+   * @param x The real number.
+   * @return The exponential of the given number.
+   */
+  private def fastExp(x: Double): Double = {
+    if (math.abs(x) < MaxExp) {
+      // exp(x) = 2^k * exp(r) with |r| <= ln(2) / 2
+      val k = math.rint(x * InvLn2)
+      val r = (x - k * Ln2Hi) - k * Ln2Lo
+      val p = 1.0 + r * (1.0 + r * (1.0 / 2 + r * (1.0 / 6 + r * (1.0 / 24 + r * (1.0 / 120 + r * (1.0 / 720 + r * (1.0 / 5040 + r * (1.0 / 40320 + r * (1.0 / 362880)))))))))
+      p * java.lang.Double.longBitsToDouble((k.toLong + 1023) << 52)
+    } else {
+      math.exp(x)
+    }
+  }
+
+  /**
+   * Computes the sine of the reduced argument `x + y`, where `y` is the tail of `x`.
+   *
+   * @param x The reduced argument, whose absolute value must not be larger than `pi / 4`.
+   * @param y The tail of the reduced argument.
+   * @return The sine of `x + y`.
+   */
+  private def kernelSin(x: Double, y: Double): Double = {
+    val z = x * x
+    val v = z * x
+    val r = S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)))
+    x - ((z * (0.5 * y - v * r) - y) - v * S1)
+  }
+
+  /**
+   * Computes the cosine of the reduced argument `x + y`, where `y` is the tail of `x`.
+   *
+   * @param x The reduced argument, whose absolute value must not be larger than `pi / 4`.
+   * @param y The tail of the reduced argument.
+   * @return The cosine of `x + y`.
+   */
+  private def kernelCos(x: Double, y: Double): Double = {
+    val z = x * x
+    val w = z * z
+    val r = z * (C1 + z * (C2 + z * C3)) + w * w * (C4 + z * (C5 + z * C6))
+    val hz = 0.5 * z
+    val u = 1.0 - hz
+    u + (((1.0 - u) - hz) + (z * r - x * y))
+  }
+
+  /**
+   * Returns the biased exponent of the given number.
+   *
+   * @param x The number.
+   * @return The biased exponent of the given number.
+   */
+  private def exponent(x: Double): Int = (java.lang.Double.doubleToRawLongBits(x) >>> 52).toInt & 0x7ff
+}
@@ -0,0 +1,1603 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * Internal kernels operating on complex vectors and matrices stored in arrays of interleaved real and imaginary parts.
+ *
+ * Square matrices are stored in row-major order, so that the real part of the element at row `r` and column `c` of an
+ * `n`x`n` matrix starting at `off` is at index `off + 2 * (r * n + c)` and its imaginary part is at the following index.
+ */
+private[cmplxlib] object ComplexKernels {
+
+  /**
+   * Writes the given matrix into the given array.
+   *
+   * @param m The matrix to write.
+   * @param dst The destination array.
+   * @param off Index of the first element in the destination array.
+   */
+  def pack(m: Mat2c, dst: Array[Double], off: Int): Unit = {
+    this.put(m.m00, dst, off)
+    this.put(m.m01, dst, off + 2)
+    this.put(m.m10, dst, off + 4)
+    this.put(m.m11, dst, off + 6)
+  }
+
+  /**
+   * Writes the given matrix into the given array.
+   *
+   * @param m The matrix to write.
+   * @param dst The destination array.
+   * @param off Index of the first element in the destination array.
+   */
+  def pack(m: Mat3c, dst: Array[Double], off: Int): Unit = {
+    this.put(m.m00, dst, off)
+    this.put(m.m01, dst, off + 2)
+    this.put(m.m02, dst, off + 4)
+    this.put(m.m10, dst, off + 6)
+    this.put(m.m11, dst, off + 8)
+    this.put(m.m12, dst, off + 10)
+    this.put(m.m20, dst, off + 12)
+    this.put(m.m21, dst, off + 14)
+    this.put(m.m22, dst, off + 16)
+  }
+
+  /**
+   * Writes the given matrix into the given array.
+   *
+   * @param m The matrix to write.
+   * @param dst The destination array.
+   * @param off Index of the first element in the destination array.
+   */
+  def pack(m: Mat4c, dst: Array[Double], off: Int): Unit = {
+    this.put(m.m00, dst, off)
+    this.put(m.m01, dst, off + 2)
+    this.put(m.m02, dst, off + 4)
+    this.put(m.m03, dst, off + 6)
+    this.put(m.m10, dst, off + 8)
+    this.put(m.m11, dst, off + 10)
+    this.put(m.m12, dst, off + 12)
+    this.put(m.m13, dst, off + 14)
+    this.put(m.m20, dst, off + 16)
+    this.put(m.m21, dst, off + 18)
+    this.put(m.m22, dst, off + 20)
+    this.put(m.m23, dst, off + 22)
+    this.put(m.m30, dst, off + 24)
+    this.put(m.m31, dst, off + 26)
+    this.put(m.m32, dst, off + 28)
+    this.put(m.m33, dst, off + 30)
+  }
+
+  /**
+   * Writes the given matrix into the given array.
+   *
+   * @param m The matrix to write.
+   * @param dst The destination array.
+   * @param off Index of the first element in the destination array.
+   */
+  def pack(m: Mat3x4c, dst: Array[Double], off: Int): Unit = {
+    this.put(m.m00, dst, off)
+    this.put(m.m01, dst, off + 2)
+    this.put(m.m02, dst, off + 4)
+    this.put(m.m03, dst, off + 6)
+    this.put(m.m10, dst, off + 8)
+    this.put(m.m11, dst, off + 10)
+    this.put(m.m12, dst, off + 12)
+    this.put(m.m13, dst, off + 14)
+    this.put(m.m20, dst, off + 16)
+    this.put(m.m21, dst, off + 18)
+    this.put(m.m22, dst, off + 20)
+    this.put(m.m23, dst, off + 22)
+  }
+
+  /**
+   * Writes the given vector into the given array.
+   *
+   * @param v The vector to write.
+   * @param dst The destination array.
+   * @param off Index of the first component in the destination array.
+   */
+  def pack(v: Vec2c, dst: Array[Double], off: Int): Unit = {
+    this.put(v.x, dst, off)
+    this.put(v.y, dst, off + 2)
+  }
+
+  /**
+   * Writes the given vector into the given array.
+   *
+   * @param v The vector to write.
+   * @param dst The destination array.
+   * @param off Index of the first component in the destination array.
+   */
+  def pack(v: Vec3c, dst: Array[Double], off: Int): Unit = {
+    this.put(v.x, dst, off)
+    this.put(v.y, dst, off + 2)
+    this.put(v.z, dst, off + 4)
+  }
+
+  /**
+   * Writes the given vector into the given array.
+   *
+   * @param v The vector to write.
+   * @param dst The destination array.
+   * @param off Index of the first component in the destination array.
+   */
+  def pack(v: Vec4c, dst: Array[Double], off: Int): Unit = {
+    this.put(v.x, dst, off)
+    this.put(v.y, dst, off + 2)
+    this.put(v.z, dst, off + 4)
+    this.put(v.w, dst, off + 6)
+  }
+
+  /**
+   * Checks if two real numbers are equal or if they differ by at most the given tolerance.
+   *
+   * Equal numbers are always close, which includes infinities of the same sign.
+   *
+   * @param x The first number.
+   * @param y The second number.
+   * @param tolerance The tolerance.
+   * @return True if the two numbers are equal or if they differ by at most the given tolerance, otherwise false.
+   */
+  def close(x: Double, y: Double, tolerance: Double): Boolean = x == y || math.abs(x - y) <= tolerance
+
+  /**
+   * Checks if two single-precision numbers are equal or if they differ by at most the given tolerance.
+   *
+   * Equal numbers are always close, which includes infinities of the same sign.
+   *
+   * @param x The first number.
+   * @param y The second number.
+   * @param tolerance The tolerance.
+   * @return True if the two numbers are equal or if they differ by at most the given tolerance, otherwise false.
+   */
+  def close(x: Float, y: Float, tolerance: Float): Boolean = x == y || math.abs(x - y) <= tolerance
+
+  /**
+   * Writes the given complex number into the given array.
+   *
+   * @param z The complex number to write.
+   * @param dst The destination array.
+   * @param off Index of the real part in the destination array.
+   */
+  def put(z: Complex, dst: Array[Double], off: Int): Unit = {
+    dst(off) = z.a
+    dst(off + 1) = z.b
+  }
+
+  /**
+   * Divides the complex number `x + iy` by the complex number `a + ib` and writes the result into the given array.
+   *
+   * Uses Smith's algorithm with Baudin's refinement, which scales the operands by the ratio of the parts of the divisor
+   * instead of computing its squared modulus, so that the result does not overflow or underflow unless the quotient does.
+   * This is the implementation of double-precision division used by [[Complex]], [[MutableComplex]], and [[ComplexArray]].
+   *
+   * @param x The real part of the dividend.
+   * @param y The imaginary part of the dividend.
+   * @param a The real part of the divisor.
+   * @param b The imaginary part of the divisor.
+   * @param dst The destination array.
+   * @param off Index of the real part in the destination array.
+   */
+  def divide(x: Double, y: Double, a: Double, b: Double, dst: Array[Double], off: Int): Unit = {
+    if (math.abs(b) <= math.abs(a)) {
+      val r = b / a
+      val d = a + b * r
+      if (r != 0.0) {
+        dst(off) = (x + y * r) / d
+        dst(off + 1) = (y - x * r) / d
+      } else {
+        dst(off) = (x + b * (y / a)) / d
+        dst(off + 1) = (y - b * (x / a)) / d
+      }
+    } else {
+      val r = a / b
+      val d = a * r + b
+      if (r != 0.0) {
+        dst(off) = (x * r + y) / d
+        dst(off + 1) = (y * r - x) / d
+      } else {
+        dst(off) = (a * (x / b) + y) / d
+        dst(off + 1) = (a * (y / b) - x) / d
+      }
+    }
+  }
+
+  /**
+   * Reads a 2x2 matrix from the given array.
+   *
+   * @param src The source array.
+   * @param off Index of the first element in the source array.
+   * @return The matrix read from the given array.
+   */
+  def unpack2(src: Array[Double], off: Int): Mat2c = Mat2c(
+    Complex(src(off), src(off + 1)), Complex(src(off + 2), src(off + 3)),
+    Complex(src(off + 4), src(off + 5)), Complex(src(off + 6), src(off + 7))
+  )
+
+  /**
+   * Reads a 3x3 matrix from the given array.
+   *
+   * @param src The source array.
+   * @param off Index of the first element in the source array.
+   * @return The matrix read from the given array.
+   */
+  def unpack3(src: Array[Double], off: Int): Mat3c = Mat3c(
+    Complex(src(off), src(off + 1)), Complex(src(off + 2), src(off + 3)), Complex(src(off + 4), src(off + 5)),
+    Complex(src(off + 6), src(off + 7)), Complex(src(off + 8), src(off + 9)), Complex(src(off + 10), src(off + 11)),
+    Complex(src(off + 12), src(off + 13)), Complex(src(off + 14), src(off + 15)), Complex(src(off + 16), src(off + 17))
+  )
+
+  /**
+   * Reads a 4x4 matrix from the given array.
+   *
+   * @param src The source array.
+   * @param off Index of the first element in the source array.
+   * @return The matrix read from the given array.
+   */
+  def unpack4(src: Array[Double], off: Int): Mat4c = Mat4c(
+    Complex(src(off), src(off + 1)), Complex(src(off + 2), src(off + 3)), Complex(src(off + 4), src(off + 5)), Complex(src(off + 6), src(off + 7)),
+    Complex(src(off + 8), src(off + 9)), Complex(src(off + 10), src(off + 11)), Complex(src(off + 12), src(off + 13)), Complex(src(off + 14), src(off + 15)),
+    Complex(src(off + 16), src(off + 17)), Complex(src(off + 18), src(off + 19)), Complex(src(off + 20), src(off + 21)), Complex(src(off + 22), src(off + 23)),
+    Complex(src(off + 24), src(off + 25)), Complex(src(off + 26), src(off + 27)), Complex(src(off + 28), src(off + 29)), Complex(src(off + 30), src(off + 31))
+  )
+
+  /**
+   * Reads a 3x4 matrix from the given array.
+   *
+   * @param src The source array.
+   * @param off Index of the first element in the source array.
+   * @return The matrix read from the given array.
+   */
+  def unpack3x4(src: Array[Double], off: Int): Mat3x4c = Mat3x4c(
+    Complex(src(off), src(off + 1)), Complex(src(off + 2), src(off + 3)), Complex(src(off + 4), src(off + 5)), Complex(src(off + 6), src(off + 7)),
+    Complex(src(off + 8), src(off + 9)), Complex(src(off + 10), src(off + 11)), Complex(src(off + 12), src(off + 13)), Complex(src(off + 14), src(off + 15)),
+    Complex(src(off + 16), src(off + 17)), Complex(src(off + 18), src(off + 19)), Complex(src(off + 20), src(off + 21)), Complex(src(off + 22), src(off + 23))
+  )
+
+  /**
+   * Checks that the given arrays contain enough elements for a batched operation.
+   *
+   * @param src The source array.
+   * @param srcOff Index of the first vector in the source array.
+   * @param srcSize Number of components of the vectors in the source array.
+   * @param dst The destination array.
+   * @param dstOff Index of the first vector in the destination array.
+   * @param dstSize Number of components of the vectors in the destination array.
+   * @param count Number of vectors.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def checkBatch(src: Array[Double], srcOff: Int, srcSize: Int, dst: Array[Double], dstOff: Int, dstSize: Int, count: Int): Unit = {
+    require(count >= 0, s"Count must not be negative: $count")
+    require(srcOff >= 0 && 2L * srcSize * (srcOff.toLong + count) <= src.length, s"Source array is too small for $count vectors at offset $srcOff")
+    require(dstOff >= 0 && 2L * dstSize * (dstOff.toLong + count) <= dst.length, s"Destination array is too small for $count vectors at offset $dstOff")
+  }
+
+  /**
+   * Multiplies two `n`x`n` matrices and writes the result into the given array.
+   *
+   * The destination must not overlap with any of the two operands.
+   *
+   * @param n The size of the matrices.
+   * @param a The array containing the first operand.
+   * @param aOff Index of the first element of the first operand.
+   * @param b The array containing the second operand.
+   * @param bOff Index of the first element of the second operand.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def multiply(n: Int, a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int): Unit = {
+    var r = 0
+    while (r < n) {
+      var c = 0
+      while (c < n) {
+        var re = 0.0
+        var im = 0.0
+        var k = 0
+        while (k < n) {
+          val i = aOff + 2 * (r * n + k)
+          val j = bOff + 2 * (k * n + c)
+          re += a(i) * b(j) - a(i + 1) * b(j + 1)
+          im += a(i) * b(j + 1) + a(i + 1) * b(j)
+          k += 1
+        }
+        dst(dstOff + 2 * (r * n + c)) = re
+        dst(dstOff + 2 * (r * n + c) + 1) = im
+        c += 1
+      }
+      r += 1
+    }
+  }
+
+  /**
+   * Multiplies an `n`x`n` matrix by an `n`-dimensional vector and writes the result into the given array.
+   *
+   * The destination must not overlap with any of the two operands.
+   *
+   * @param n The size of the matrix and of the vector.
+   * @param m The array containing the matrix.
+   * @param mOff Index of the first element of the matrix.
+   * @param v The array containing the vector.
+   * @param vOff Index of the first component of the vector.
+   * @param dst The destination array.
+   * @param dstOff Index of the first component of the result.
+   */
+  def transform(n: Int, m: Array[Double], mOff: Int, v: Array[Double], vOff: Int, dst: Array[Double], dstOff: Int): Unit = {
+    var r = 0
+    while (r < n) {
+      var re = 0.0
+      var im = 0.0
+      var k = 0
+      while (k < n) {
+        val i = mOff + 2 * (r * n + k)
+        val j = vOff + 2 * k
+        re += m(i) * v(j) - m(i + 1) * v(j + 1)
+        im += m(i) * v(j + 1) + m(i + 1) * v(j)
+        k += 1
+      }
+      dst(dstOff + 2 * r) = re
+      dst(dstOff + 2 * r + 1) = im
+      r += 1
+    }
+  }
+
+  /** Number of rows of the right operand in a block of [[gemm]] */
+  val GemmBlockDepth: Int = 64
+  /** Number of columns of the right operand in a block of [[gemm]] */
+  val GemmBlockColumns: Int = 256
+  /** Maximum number of sweeps of the Jacobi method used by [[eigenHermitian]] */
+  private val JacobiSweeps: Int = 64
+
+  /**
+   * Multiplies the rows in the range `[rowFrom, rowUntil)` of an `m`x`k` matrix by a `k`x`n` matrix and adds the result
+   * to the corresponding rows of an `m`x`n` matrix.
+   *
+   * The right operand is processed in blocks of [[GemmBlockDepth]] rows and [[GemmBlockColumns]] columns, which are small
+   * enough to stay in cache while they are multiplied by all the given rows of the left operand.
+   * Two rows of the result are updated at the same time, so that every element of the block is loaded once for every two
+   * rows instead of once for every row.
+   * The innermost loop runs over contiguous elements of a row of the block and of a row of the result.
+   *
+   * All matrices are stored in row-major order and the destination must not overlap with any of the two operands.
+   *
+   * @param m The number of rows of the left operand and of the result.
+   * @param n The number of columns of the right operand and of the result.
+   * @param k The number of columns of the left operand and of rows of the right operand.
+   * @param a The array containing the left operand.
+   * @param aOff Index of the first element of the left operand.
+   * @param b The array containing the right operand.
+   * @param bOff Index of the first element of the right operand.
+   * @param dst The array containing the result.
+   * @param dstOff Index of the first element of the result.
+   * @param rowFrom The first row to compute, inclusive.
+   * @param rowUntil The last row to compute, exclusive.
+   */
+  def gemm(m: Int, n: Int, k: Int, a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int, rowFrom: Int, rowUntil: Int): Unit = {
+    var jj = 0
+    while (jj < n) {
+      val jEnd = math.min(jj + GemmBlockColumns, n)
+      var pp = 0
+      while (pp < k) {
+        val pEnd = math.min(pp + GemmBlockDepth, k)
+        var i = rowFrom
+        while (i + 1 < rowUntil) {
+          val a0 = aOff + 2 * i * k
+          val a1 = a0 + 2 * k
+          val c0 = dstOff + 2 * (i * n + jj)
+          val c1 = c0 + 2 * n
+          var p = pp
+          while (p < pEnd) {
+            val ar0 = a(a0 + 2 * p)
+            val ai0 = a(a0 + 2 * p + 1)
+            val ar1 = a(a1 + 2 * p)
+            val ai1 = a(a1 + 2 * p + 1)
+            val b0 = bOff + 2 * (p * n + jj)
+            var j = 0
+            while (j < 2 * (jEnd - jj)) {
+              val br = b(b0 + j)
+              val bi = b(b0 + j + 1)
+              dst(c0 + j) += ar0 * br - ai0 * bi
+              dst(c0 + j + 1) += ar0 * bi + ai0 * br
+              dst(c1 + j) += ar1 * br - ai1 * bi
+              dst(c1 + j + 1) += ar1 * bi + ai1 * br
+              j += 2
+            }
+            p += 1
+          }
+          i += 2
+        }
+        if (i < rowUntil) {
+          val a0 = aOff + 2 * i * k
+          val c0 = dstOff + 2 * (i * n + jj)
+          var p = pp
+          while (p < pEnd) {
+            val ar0 = a(a0 + 2 * p)
+            val ai0 = a(a0 + 2 * p + 1)
+            val b0 = bOff + 2 * (p * n + jj)
+            var j = 0
+            while (j < 2 * (jEnd - jj)) {
+              val br = b(b0 + j)
+              val bi = b(b0 + j + 1)
+              dst(c0 + j) += ar0 * br - ai0 * bi
+              dst(c0 + j + 1) += ar0 * bi + ai0 * br
+              j += 2
+            }
+            p += 1
+          }
+        }
+        pp = pEnd
+      }
+      jj = jEnd
+    }
+  }
+
+  /**
+   * Multiplies an `n`x`n` matrix by another one and stores the result in the first matrix.
+   *
+   * The second operand must not overlap with the first one.
+   *
+   * @param n The size of the matrices.
+   * @param a The array containing the first operand, which is replaced by the result.
+   * @param aOff Index of the first element of the first operand.
+   * @param b The array containing the second operand.
+   * @param bOff Index of the first element of the second operand.
+   * @param row Scratch space of at least `2 * n` elements.
+   */
+  def multiplyInPlace(n: Int, a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, row: Array[Double]): Unit = {
+    var r = 0
+    while (r < n) {
+      val rowOff = aOff + 2 * r * n
+      var c = 0
+      while (c < n) {
+        var re = 0.0
+        var im = 0.0
+        var k = 0
+        while (k < n) {
+          val i = rowOff + 2 * k
+          val j = bOff + 2 * (k * n + c)
+          re += a(i) * b(j) - a(i + 1) * b(j + 1)
+          im += a(i) * b(j + 1) + a(i + 1) * b(j)
+          k += 1
+        }
+        row(2 * c) = re
+        row(2 * c + 1) = im
+        c += 1
+      }
+      System.arraycopy(row, 0, a, rowOff, 2 * n)
+      r += 1
+    }
+  }
+
+  /**
+   * Raises an `n`x`n` matrix to the given non-negative power using exponentiation by squaring and writes the result into
+   * the given array.
+   *
+   * The destination must not overlap with the matrix.
+   *
+   * @param n The size of the matrix.
+   * @param m The array containing the matrix.
+   * @param mOff Index of the first element of the matrix.
+   * @param exp The exponent. Must not be negative.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def power(n: Int, m: Array[Double], mOff: Int, exp: Long, dst: Array[Double], dstOff: Int): Unit = {
+    val size = 2 * n * n
+    var base = new Array[Double](size)
+    var tmp = new Array[Double](size)
+    val row = new Array[Double](2 * n)
+    System.arraycopy(m, mOff, base, 0, size)
+    java.util.Arrays.fill(dst, dstOff, dstOff + size, 0.0)
+    var i = 0
+    while (i < n) {
+      dst(dstOff + 2 * (i * n + i)) = 1.0
+      i += 1
+    }
+    var identity = true
+    var e = exp
+    while (e != 0) {
+      if ((e & 1) != 0) {
+        if (identity) {
+          System.arraycopy(base, 0, dst, dstOff, size)
+          identity = false
+        } else {
+          this.multiplyInPlace(n, dst, dstOff, base, 0, row)
+        }
+      }
+      e >>>= 1
+      if (e != 0) {
+        this.multiply(n, base, 0, base, 0, tmp, 0)
+        val t = base
+        base = tmp
+        tmp = t
+      }
+    }
+  }
+
+  /**
+   * Computes the LU decomposition with partial pivoting of an `n`x`n` matrix in place.
+   *
+   * After the decomposition, the elements below the diagonal contain the lower triangular factor, whose diagonal elements
+   * are all ones and are not stored, and the remaining elements contain the upper triangular factor.
+   * At step `k`, row `k` was exchanged with row `pivots(k)`.
+   *
+   * If no nonzero pivot can be found for a column, the column is left as it is and the upper triangular factor will have
+   * a zero on its diagonal.
+   *
+   * @param n The size of the matrix.
+   * @param a The array containing the matrix, which is replaced by its decomposition.
+   * @param off Index of the first element of the matrix.
+   * @param pivots Array of at least `n` elements where the row exchanges are stored.
+   * @return 1 if an even number of rows were exchanged, otherwise -1.
+   */
+  def decomposeLU(n: Int, a: Array[Double], off: Int, pivots: Array[Int]): Int = {
+    var sign = 1
+    var k = 0
+    while (k < n) {
+      var p = k
+      var max = math.abs(a(off + 2 * (k * n + k))) + math.abs(a(off + 2 * (k * n + k) + 1))
+      var r = k + 1
+      while (r < n) {
+        val i = off + 2 * (r * n + k)
+        val m = math.abs(a(i)) + math.abs(a(i + 1))
+        if (m > max) {
+          p = r
+          max = m
+        }
+        r += 1
+      }
+      pivots(k) = p
+      if (p != k) {
+        var c = 2 * k * n
+        val end = c + 2 * n
+        val d = 2 * (p - k) * n
+        while (c < end) {
+          val t = a(off + c)
+          a(off + c) = a(off + c + d)
+          a(off + c + d) = t
+          c += 1
+        }
+        sign = -sign
+      }
+      if (max != 0.0) {
+        val pi = off + 2 * (k * n + k)
+        val sq = a(pi) * a(pi) + a(pi + 1) * a(pi + 1)
+        val invRe = a(pi) / sq
+        val invIm = -a(pi + 1) / sq
+        r = k + 1
+        while (r < n) {
+          val li = off + 2 * (r * n + k)
+          val lRe = a(li) * invRe - a(li + 1) * invIm
+          val lIm = a(li) * invIm + a(li + 1) * invRe
+          a(li) = lRe
+          a(li + 1) = lIm
+          var c = k + 1
+          while (c < n) {
+            val ui = off + 2 * (k * n + c)
+            val ai = off + 2 * (r * n + c)
+            a(ai) -= lRe * a(ui) - lIm * a(ui + 1)
+            a(ai + 1) -= lRe * a(ui + 1) + lIm * a(ui)
+            c += 1
+          }
+          r += 1
+        }
+      }
+      k += 1
+    }
+    sign
+  }
+
+  /**
+   * Solves the linear system `M * x = b` in place given the LU decomposition of `M` computed by [[decomposeLU]].
+   *
+   * The vector `b` is read from the given array and is replaced by the solution.
+   * Its components are `stride` elements apart, which allows to solve a system for one column of a row-major matrix.
+   *
+   * @param n The size of the matrix.
+   * @param lu The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param pivots The row exchanges computed by the decomposition.
+   * @param b The array containing the right-hand side, which is replaced by the solution.
+   * @param bOff Index of the real part of the first component of the right-hand side.
+   * @param stride Distance between the real parts of two consecutive components of the right-hand side.
+   */
+  def solveLU(n: Int, lu: Array[Double], off: Int, pivots: Array[Int], b: Array[Double], bOff: Int, stride: Int): Unit = {
+    var k = 0
+    while (k < n) {
+      val p = pivots(k)
+      if (p != k) {
+        val i = bOff + k * stride
+        val j = bOff + p * stride
+        val re = b(i)
+        val im = b(i + 1)
+        b(i) = b(j)
+        b(i + 1) = b(j + 1)
+        b(j) = re
+        b(j + 1) = im
+      }
+      k += 1
+    }
+    var r = 1
+    while (r < n) {
+      var re = b(bOff + r * stride)
+      var im = b(bOff + r * stride + 1)
+      k = 0
+      while (k < r) {
+        val i = off + 2 * (r * n + k)
+        val j = bOff + k * stride
+        re -= lu(i) * b(j) - lu(i + 1) * b(j + 1)
+        im -= lu(i) * b(j + 1) + lu(i + 1) * b(j)
+        k += 1
+      }
+      b(bOff + r * stride) = re
+      b(bOff + r * stride + 1) = im
+      r += 1
+    }
+    r = n - 1
+    while (r >= 0) {
+      var re = b(bOff + r * stride)
+      var im = b(bOff + r * stride + 1)
+      k = r + 1
+      while (k < n) {
+        val i = off + 2 * (r * n + k)
+        val j = bOff + k * stride
+        re -= lu(i) * b(j) - lu(i + 1) * b(j + 1)
+        im -= lu(i) * b(j + 1) + lu(i + 1) * b(j)
+        k += 1
+      }
+      val d = off + 2 * (r * n + r)
+      val sq = lu(d) * lu(d) + lu(d + 1) * lu(d + 1)
+      b(bOff + r * stride) = (re * lu(d) + im * lu(d + 1)) / sq
+      b(bOff + r * stride + 1) = (im * lu(d) - re * lu(d + 1)) / sq
+      r -= 1
+    }
+  }
+
+  /**
+   * Computes the determinant of an `n`x`n` matrix given its LU decomposition computed by [[decomposeLU]].
+   *
+   * @param n The size of the matrix.
+   * @param lu The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param sign The value returned by the decomposition.
+   * @return The determinant of the matrix.
+   */
+  def determinantLU(n: Int, lu: Array[Double], off: Int, sign: Int): Complex = {
+    var re = sign.toDouble
+    var im = 0.0
+    var k = 0
+    while (k < n) {
+      val d = off + 2 * (k * n + k)
+      val t = re * lu(d) - im * lu(d + 1)
+      im = re * lu(d + 1) + im * lu(d)
+      re = t
+      k += 1
+    }
+    Complex(re, im)
+  }
+
+  /**
+   * Computes the inverse of an `n`x`n` matrix given its LU decomposition computed by [[decomposeLU]] and writes it into
+   * the given array.
+   *
+   * The destination must not overlap with the decomposition.
+   *
+   * @param n The size of the matrix.
+   * @param lu The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param pivots The row exchanges computed by the decomposition.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def invertLU(n: Int, lu: Array[Double], off: Int, pivots: Array[Int], dst: Array[Double], dstOff: Int): Unit = {
+    java.util.Arrays.fill(dst, dstOff, dstOff + 2 * n * n, 0.0)
+    var c = 0
+    while (c < n) {
+      dst(dstOff + 2 * (c * n + c)) = 1.0
+      c += 1
+    }
+    c = 0
+    while (c < n) {
+      this.solveLU(n, lu, off, pivots, dst, dstOff + 2 * c, 2 * n)
+      c += 1
+    }
+  }
+
+  /**
+   * Writes the lower triangular factor of an LU decomposition computed by [[decomposeLU]] into the given array.
+   *
+   * @param n The size of the matrix.
+   * @param lu The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def lowerLU(n: Int, lu: Array[Double], off: Int, dst: Array[Double], dstOff: Int): Unit = {
+    var r = 0
+    while (r < n) {
+      var c = 0
+      while (c < n) {
+        val i = 2 * (r * n + c)
+        if (c < r) {
+          dst(dstOff + i) = lu(off + i)
+          dst(dstOff + i + 1) = lu(off + i + 1)
+        } else {
+          dst(dstOff + i) = if (c == r) 1.0 else 0.0
+          dst(dstOff + i + 1) = 0.0
+        }
+        c += 1
+      }
+      r += 1
+    }
+  }
+
+  /**
+   * Writes the upper triangular factor of an LU decomposition computed by [[decomposeLU]] into the given array.
+   *
+   * @param n The size of the matrix.
+   * @param lu The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def upperLU(n: Int, lu: Array[Double], off: Int, dst: Array[Double], dstOff: Int): Unit = {
+    var r = 0
+    while (r < n) {
+      var c = 0
+      while (c < n) {
+        val i = 2 * (r * n + c)
+        if (c >= r) {
+          dst(dstOff + i) = lu(off + i)
+          dst(dstOff + i + 1) = lu(off + i + 1)
+        } else {
+          dst(dstOff + i) = 0.0
+          dst(dstOff + i + 1) = 0.0
+        }
+        c += 1
+      }
+      r += 1
+    }
+  }
+
+  /**
+   * Writes the permutation matrix of an LU decomposition computed by [[decomposeLU]] into the given array.
+   *
+   * @param n The size of the matrix.
+   * @param pivots The row exchanges computed by the decomposition.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def permutationLU(n: Int, pivots: Array[Int], dst: Array[Double], dstOff: Int): Unit = {
+    val rows = Array.range(0, n)
+    var k = 0
+    while (k < n) {
+      val t = rows(k)
+      rows(k) = rows(pivots(k))
+      rows(pivots(k)) = t
+      k += 1
+    }
+    java.util.Arrays.fill(dst, dstOff, dstOff + 2 * n * n, 0.0)
+    var r = 0
+    while (r < n) {
+      dst(dstOff + 2 * (r * n + rows(r))) = 1.0
+      r += 1
+    }
+  }
+
+  /**
+   * Checks if the upper triangular factor of an LU decomposition computed by [[decomposeLU]] has a zero on its diagonal.
+   *
+   * @param n The size of the matrix.
+   * @param lu The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @return True if the decomposed matrix is singular, otherwise false.
+   */
+  def isSingularLU(n: Int, lu: Array[Double], off: Int): Boolean = {
+    var singular = false
+    var k = 0
+    while (!singular && k < n) {
+      val d = off + 2 * (k * n + k)
+      singular = lu(d) == 0.0 && lu(d + 1) == 0.0
+      k += 1
+    }
+    singular
+  }
+
+  /**
+   * Computes the QR decomposition of an `m`x`n` matrix in place using Householder reflections.
+   *
+   * After the decomposition, the upper triangle contains the upper triangular factor and the elements below the diagonal
+   * contain the Householder vectors, whose first element is an implicit one.
+   * The reflection of step `k` is `I - tau(k) * v * v^H`, where `v` is the vector stored below the `k`-th diagonal element
+   * and `tau(k)` is the complex number stored at index `2 * k` of the given array.
+   *
+   * The diagonal of the upper triangular factor may contain negative or complex numbers.
+   * [[orthogonalQR]] and [[upperQR]] scale the factors so that the diagonal of `R` is real and non-negative.
+   *
+   * @param m The number of rows of the matrix.
+   * @param n The number of columns of the matrix.
+   * @param a The array containing the matrix, which is replaced by its decomposition.
+   * @param off Index of the first element of the matrix.
+   * @param tau Array of at least `2 * min(m, n)` elements where the scalar factors of the reflections are stored.
+   */
+  def decomposeQR(m: Int, n: Int, a: Array[Double], off: Int, tau: Array[Double]): Unit = {
+    val k = math.min(m, n)
+    var j = 0
+    while (j < k) {
+      val d = off + 2 * (j * n + j)
+      val ar = a(d)
+      val ai = a(d + 1)
+      var xnorm = 0.0
+      var r = j + 1
+      while (r < m) {
+        val i = off + 2 * (r * n + j)
+        xnorm += a(i) * a(i) + a(i + 1) * a(i + 1)
+        r += 1
+      }
+      if (xnorm == 0.0) {
+        tau(2 * j) = 0.0
+        tau(2 * j + 1) = 0.0
+      } else {
+        val norm = math.sqrt(ar * ar + ai * ai + xnorm)
+        val beta = if (ar >= 0.0) -norm else norm
+        tau(2 * j) = (beta - ar) / beta
+        tau(2 * j + 1) = -ai / beta
+        // The vector is scaled so that its first element is one
+        val sq = (ar - beta) * (ar - beta) + ai * ai
+        val sr = (ar - beta) / sq
+        val si = -ai / sq
+        r = j + 1
+        while (r < m) {
+          val i = off + 2 * (r * n + j)
+          val re = a(i) * sr - a(i + 1) * si
+          a(i + 1) = a(i) * si + a(i + 1) * sr
+          a(i) = re
+          r += 1
+        }
+        a(d) = beta
+        a(d + 1) = 0.0
+        var c = j + 1
+        while (c < n) {
+          this.reflect(m, n, a, off, j, tau(2 * j), -tau(2 * j + 1), a, off + 2 * c, 2 * n)
+          c += 1
+        }
+      }
+      j += 1
+    }
+  }
+
+  /**
+   * Writes the `m`x`min(m, n)` matrix with orthonormal columns of a QR decomposition computed by [[decomposeQR]] into the
+   * given array.
+   *
+   * @param m The number of rows of the matrix.
+   * @param n The number of columns of the matrix.
+   * @param qr The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param tau The scalar factors of the reflections.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def orthogonalQR(m: Int, n: Int, qr: Array[Double], off: Int, tau: Array[Double], dst: Array[Double], dstOff: Int): Unit = {
+    val k = math.min(m, n)
+    java.util.Arrays.fill(dst, dstOff, dstOff + 2 * m * k, 0.0)
+    var j = 0
+    while (j < k) {
+      dst(dstOff + 2 * (j * k + j)) = 1.0
+      j += 1
+    }
+    // Reflections of later steps do not change the first columns of the identity
+    j = k - 1
+    while (j >= 0) {
+      if (tau(2 * j) != 0.0 || tau(2 * j + 1) != 0.0) {
+        var c = j
+        while (c < k) {
+          this.reflect(m, n, qr, off, j, tau(2 * j), tau(2 * j + 1), dst, dstOff + 2 * c, 2 * k)
+          c += 1
+        }
+      }
+      j -= 1
+    }
+    j = 0
+    while (j < k) {
+      val d = off + 2 * (j * n + j)
+      val abs = math.hypot(qr(d), qr(d + 1))
+      if (abs != 0.0 && (qr(d) < 0.0 || qr(d + 1) != 0.0)) {
+        val pr = qr(d) / abs
+        val pi = qr(d + 1) / abs
+        var r = 0
+        while (r < m) {
+          val i = dstOff + 2 * (r * k + j)
+          val re = dst(i) * pr - dst(i + 1) * pi
+          dst(i + 1) = dst(i) * pi + dst(i + 1) * pr
+          dst(i) = re
+          r += 1
+        }
+      }
+      j += 1
+    }
+  }
+
+  /**
+   * Writes the `min(m, n)`x`n` upper triangular factor of a QR decomposition computed by [[decomposeQR]] into the given
+   * array.
+   *
+   * The rows of the factor are scaled so that its diagonal elements are real and non-negative.
+   *
+   * @param m The number of rows of the matrix.
+   * @param n The number of columns of the matrix.
+   * @param qr The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def upperQR(m: Int, n: Int, qr: Array[Double], off: Int, dst: Array[Double], dstOff: Int): Unit = {
+    val k = math.min(m, n)
+    var r = 0
+    while (r < k) {
+      val d = off + 2 * (r * n + r)
+      val abs = math.hypot(qr(d), qr(d + 1))
+      val (pr, pi) = if (abs != 0.0) (qr(d) / abs, -qr(d + 1) / abs) else (1.0, 0.0)
+      var c = 0
+      while (c < n) {
+        val i = 2 * (r * n + c)
+        if (c < r) {
+          dst(dstOff + i) = 0.0
+          dst(dstOff + i + 1) = 0.0
+        } else if (c == r) {
+          dst(dstOff + i) = abs
+          dst(dstOff + i + 1) = 0.0
+        } else {
+          dst(dstOff + i) = qr(off + i) * pr - qr(off + i + 1) * pi
+          dst(dstOff + i + 1) = qr(off + i) * pi + qr(off + i + 1) * pr
+        }
+        c += 1
+      }
+      r += 1
+    }
+  }
+
+  /**
+   * Solves the linear system `M * x = b` in place given the QR decomposition of the `n`x`n` matrix `M` computed by
+   * [[decomposeQR]].
+   *
+   * The vector `b` is read from the given array and is replaced by the solution.
+   * Its components are `stride` elements apart, which allows to solve a system for one column of a row-major matrix.
+   *
+   * @param n The size of the matrix.
+   * @param qr The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param tau The scalar factors of the reflections.
+   * @param b The array containing the right-hand side, which is replaced by the solution.
+   * @param bOff Index of the real part of the first component of the right-hand side.
+   * @param stride Distance between the real parts of two consecutive components of the right-hand side.
+   */
+  def solveQR(n: Int, qr: Array[Double], off: Int, tau: Array[Double], b: Array[Double], bOff: Int, stride: Int): Unit = {
+    var j = 0
+    while (j < n) {
+      if (tau(2 * j) != 0.0 || tau(2 * j + 1) != 0.0) {
+        this.reflect(n, n, qr, off, j, tau(2 * j), -tau(2 * j + 1), b, bOff, stride)
+      }
+      j += 1
+    }
+    var r = n - 1
+    while (r >= 0) {
+      var re = b(bOff + r * stride)
+      var im = b(bOff + r * stride + 1)
+      var k = r + 1
+      while (k < n) {
+        val i = off + 2 * (r * n + k)
+        val l = bOff + k * stride
+        re -= qr(i) * b(l) - qr(i + 1) * b(l + 1)
+        im -= qr(i) * b(l + 1) + qr(i + 1) * b(l)
+        k += 1
+      }
+      val d = off + 2 * (r * n + r)
+      this.divide(re, im, qr(d), qr(d + 1), b, bOff + r * stride)
+      r -= 1
+    }
+  }
+
+  /**
+   * Checks if the upper triangular factor of a QR decomposition computed by [[decomposeQR]] has a negligible element on
+   * its diagonal.
+   *
+   * Since the factor is computed with rounding errors, an element is considered negligible if its modulus is not greater
+   * than the largest modulus on the diagonal times the machine epsilon times the number of rows.
+   *
+   * @param m The number of rows of the matrix.
+   * @param n The number of columns of the matrix.
+   * @param qr The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @return True if the decomposed matrix does not have full rank, otherwise false.
+   */
+  def isRankDeficientQR(m: Int, n: Int, qr: Array[Double], off: Int): Boolean = {
+    val k = math.min(m, n)
+    var max = 0.0
+    var min = Double.PositiveInfinity
+    var i = 0
+    while (i < k) {
+      val d = off + 2 * (i * n + i)
+      val abs = math.hypot(qr(d), qr(d + 1))
+      max = math.max(max, abs)
+      min = math.min(min, abs)
+      i += 1
+    }
+    min <= max * m * math.ulp(1.0)
+  }
+
+  /**
+   * Applies the reflection `I - t * v * v^H` of step `j` of a QR decomposition to a vector of `m` components in place.
+   *
+   * Only the components from `j` to `m - 1` are changed.
+   * Passing the conjugate of the scalar factor applies the conjugate transpose of the reflection.
+   *
+   * @param m The number of rows of the decomposed matrix.
+   * @param n The number of columns of the decomposed matrix.
+   * @param qr The array containing the decomposition.
+   * @param off Index of the first element of the decomposition.
+   * @param j The step of the decomposition.
+   * @param tr The real part of the scalar factor.
+   * @param ti The imaginary part of the scalar factor.
+   * @param b The array containing the vector.
+   * @param bOff Index of the real part of the first component of the vector.
+   * @param stride Distance between the real parts of two consecutive components of the vector.
+   */
+  private def reflect(m: Int, n: Int, qr: Array[Double], off: Int, j: Int, tr: Double, ti: Double, b: Array[Double], bOff: Int, stride: Int): Unit = {
+    // w = v^H * b, where the first component of v is one
+    var wr = b(bOff + j * stride)
+    var wi = b(bOff + j * stride + 1)
+    var r = j + 1
+    while (r < m) {
+      val v = off + 2 * (r * n + j)
+      val i = bOff + r * stride
+      wr += qr(v) * b(i) + qr(v + 1) * b(i + 1)
+      wi += qr(v) * b(i + 1) - qr(v + 1) * b(i)
+      r += 1
+    }
+    val fr = tr * wr - ti * wi
+    val fi = tr * wi + ti * wr
+    b(bOff + j * stride) -= fr
+    b(bOff + j * stride + 1) -= fi
+    r = j + 1
+    while (r < m) {
+      val v = off + 2 * (r * n + j)
+      val i = bOff + r * stride
+      b(i) -= qr(v) * fr - qr(v + 1) * fi
+      b(i + 1) -= qr(v) * fi + qr(v + 1) * fr
+      r += 1
+    }
+  }
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of an `n`x`n` hermitian matrix with the cyclic Jacobi method.
+   *
+   * Every step applies a unitary rotation that zeroes a pair of off-diagonal elements, until all the off-diagonal
+   * elements are zero or negligible compared to the diagonal ones.
+   * The matrix is overwritten and its diagonal contains the eigenvalues at the end.
+   * The eigenvalues are not sorted.
+   *
+   * Only the lower triangle and the real part of the diagonal of the matrix are read, the result is undefined if the matrix
+   * is not hermitian.
+   *
+   * @param n The size of the matrix.
+   * @param a The array containing the matrix, which is overwritten.
+   * @param off Index of the first element of the matrix.
+   * @param values The array where the `n` eigenvalues are written.
+   * @param valOff Index of the first eigenvalue.
+   * @param vectors The array where the unitary matrix whose columns are the eigenvectors is written.
+   * @param vOff Index of the first element of the eigenvectors.
+   */
+  def eigenHermitian(n: Int, a: Array[Double], off: Int, values: Array[Double], valOff: Int, vectors: Array[Double], vOff: Int): Unit = {
+    // Make the matrix exactly hermitian using its lower triangle
+    var r = 0
+    while (r < n) {
+      a(off + 2 * (r * n + r) + 1) = 0.0
+      var c = r + 1
+      while (c < n) {
+        a(off + 2 * (r * n + c)) = a(off + 2 * (c * n + r))
+        a(off + 2 * (r * n + c) + 1) = -a(off + 2 * (c * n + r) + 1)
+        c += 1
+      }
+      r += 1
+    }
+    // The matrix is scaled by a power of two to avoid underflows and overflows in the rotations
+    var max = 0.0
+    var i = off
+    while (i < off + 2 * n * n) {
+      max = math.max(max, math.abs(a(i)))
+      i += 1
+    }
+    val exponent = if (max > 0.0 && max < Double.PositiveInfinity) math.getExponent(max) else 0
+    if (exponent != 0) {
+      i = off
+      while (i < off + 2 * n * n) {
+        a(i) = math.scalb(a(i), -exponent)
+        i += 1
+      }
+    }
+    java.util.Arrays.fill(vectors, vOff, vOff + 2 * n * n, 0.0)
+    r = 0
+    while (r < n) {
+      vectors(vOff + 2 * (r * n + r)) = 1.0
+      r += 1
+    }
+    var sweep = 0
+    var rotated = true
+    while (rotated && sweep < JacobiSweeps) {
+      rotated = false
+      var p = 0
+      while (p < n - 1) {
+        var q = p + 1
+        while (q < n) {
+          val pq = off + 2 * (p * n + q)
+          val app = a(off + 2 * (p * n + p))
+          val aqq = a(off + 2 * (q * n + q))
+          val g = math.hypot(a(pq), a(pq + 1))
+          if (g != 0.0 && (math.abs(app) + 100.0 * g != math.abs(app) || math.abs(aqq) + 100.0 * g != math.abs(aqq))) {
+            rotated = true
+            // Phase of the element, which is removed by the rotation
+            val er = a(pq) / g
+            val ei = a(pq + 1) / g
+            val theta = (aqq - app) / (2.0 * g)
+            // Smaller root of t^2 + 2 * theta * t - 1 = 0, which is the tangent of the rotation angle
+            val t = if (math.abs(theta) > 1e150) {
+              0.5 / theta
+            } else if (theta >= 0.0) {
+              1.0 / (theta + math.sqrt(theta * theta + 1.0))
+            } else {
+              -1.0 / (-theta + math.sqrt(theta * theta + 1.0))
+            }
+            val cos = 1.0 / math.sqrt(t * t + 1.0)
+            val sin = t * cos
+            // Columns p and q are multiplied by the rotation J = [c, s; -s * conj(e), c * conj(e)]
+            this.rotateColumns(n, a, off, p, q, cos, sin, er, -ei)
+            this.rotateColumns(n, vectors, vOff, p, q, cos, sin, er, -ei)
+            // Rows p and q are multiplied by the conjugate transposed of the rotation
+            this.rotateRows(n, a, off, p, q, cos, sin, er, ei)
+            a(pq) = 0.0
+            a(pq + 1) = 0.0
+            a(off + 2 * (q * n + p)) = 0.0
+            a(off + 2 * (q * n + p) + 1) = 0.0
+            a(off + 2 * (p * n + p) + 1) = 0.0
+            a(off + 2 * (q * n + q) + 1) = 0.0
+          } else if (g != 0.0) {
+            // The element is negligible
+            a(pq) = 0.0
+            a(pq + 1) = 0.0
+            a(off + 2 * (q * n + p)) = 0.0
+            a(off + 2 * (q * n + p) + 1) = 0.0
+          }
+          q += 1
+        }
+        p += 1
+      }
+      sweep += 1
+    }
+    r = 0
+    while (r < n) {
+      values(valOff + r) = math.scalb(a(off + 2 * (r * n + r)), exponent)
+      r += 1
+    }
+  }
+
+  /**
+   * Replaces columns `p` and `q` of an `n`x`n` matrix with `c * x - s * w * y` and `s * x + c * w * y`, where `x` and `y`
+   * are the two columns and `w` is a complex number.
+   *
+   * @param n The size of the matrix.
+   * @param a The array containing the matrix.
+   * @param off Index of the first element of the matrix.
+   * @param p Index of the first column.
+   * @param q Index of the second column.
+   * @param c The cosine of the rotation.
+   * @param s The sine of the rotation.
+   * @param wr Real part of `w`.
+   * @param wi Imaginary part of `w`.
+   */
+  private def rotateColumns(n: Int, a: Array[Double], off: Int, p: Int, q: Int, c: Double, s: Double, wr: Double, wi: Double): Unit = {
+    var k = 0
+    while (k < n) {
+      val i = off + 2 * (k * n + p)
+      val j = off + 2 * (k * n + q)
+      val xr = a(i)
+      val xi = a(i + 1)
+      val yr = a(j) * wr - a(j + 1) * wi
+      val yi = a(j) * wi + a(j + 1) * wr
+      a(i) = c * xr - s * yr
+      a(i + 1) = c * xi - s * yi
+      a(j) = s * xr + c * yr
+      a(j + 1) = s * xi + c * yi
+      k += 1
+    }
+  }
+
+  /**
+   * Replaces rows `p` and `q` of an `n`x`n` matrix with `c * x - s * w * y` and `s * x + c * w * y`, where `x` and `y`
+   * are the two rows and `w` is a complex number.
+   *
+   * @param n The size of the matrix.
+   * @param a The array containing the matrix.
+   * @param off Index of the first element of the matrix.
+   * @param p Index of the first row.
+   * @param q Index of the second row.
+   * @param c The cosine of the rotation.
+   * @param s The sine of the rotation.
+   * @param wr Real part of `w`.
+   * @param wi Imaginary part of `w`.
+   */
+  private def rotateRows(n: Int, a: Array[Double], off: Int, p: Int, q: Int, c: Double, s: Double, wr: Double, wi: Double): Unit = {
+    var k = 0
+    while (k < n) {
+      val i = off + 2 * (p * n + k)
+      val j = off + 2 * (q * n + k)
+      val xr = a(i)
+      val xi = a(i + 1)
+      val yr = a(j) * wr - a(j + 1) * wi
+      val yi = a(j) * wi + a(j + 1) * wr
+      a(i) = c * xr - s * yr
+      a(i + 1) = c * xi - s * yi
+      a(j) = s * xr + c * yr
+      a(j + 1) = s * xi + c * yi
+      k += 1
+    }
+  }
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of a 2x2 hermitian matrix in closed form.
+   *
+   * The eigenvalues are written in ascending order and the columns of the unitary matrix written into the `vectors`
+   * array are the corresponding eigenvectors.
+   * Only the lower triangle and the real part of the diagonal of the matrix are read, the result is undefined if the matrix
+   * is not hermitian.
+   *
+   * @param a The array containing the matrix.
+   * @param off Index of the first element of the matrix.
+   * @param values The array where the 2 eigenvalues are written.
+   * @param valOff Index of the first eigenvalue.
+   * @param vectors The array where the eigenvectors are written.
+   * @param vOff Index of the first element of the eigenvectors.
+   */
+  def eigenHermitian2(a: Array[Double], off: Int, values: Array[Double], valOff: Int, vectors: Array[Double], vOff: Int): Unit = {
+    this.eigen2(a(off), a(off + 6), a(off + 4), a(off + 5), values, valOff, vectors, vOff)
+  }
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of a 3x3 hermitian matrix analytically.
+   *
+   * The eigenvalue that is farthest from the other two is computed from the roots of the characteristic polynomial with
+   * the trigonometric method and its eigenvector is the cross product of two rows of the shifted matrix.
+   * The other two are computed by projecting the matrix onto the orthogonal complement of that eigenvector and by solving
+   * the resulting 2x2 problem in closed form, so that the eigenvectors are orthogonal even if two eigenvalues are close.
+   *
+   * The eigenvalues are written in ascending order and the columns of the unitary matrix written into the `vectors`
+   * array are the corresponding eigenvectors.
+   * Only the lower triangle and the real part of the diagonal of the matrix are read, the result is undefined if the matrix
+   * is not hermitian.
+   *
+   * @param a The array containing the matrix.
+   * @param off Index of the first element of the matrix.
+   * @param values The array where the 3 eigenvalues are written.
+   * @param valOff Index of the first eigenvalue.
+   * @param vectors The array where the eigenvectors are written.
+   * @param vOff Index of the first element of the eigenvectors.
+   */
+  def eigenHermitian3(a: Array[Double], off: Int, values: Array[Double], valOff: Int, vectors: Array[Double], vOff: Int): Unit = {
+    // The shifted matrix is scaled by a power of two close to its largest element to avoid underflows and overflows
+    val scale = math.max(math.max(math.max(math.abs(a(off)), math.abs(a(off + 8))), math.max(math.abs(a(off + 16)), math.abs(a(off + 6)))),
+      math.max(math.max(math.abs(a(off + 7)), math.abs(a(off + 12))), math.max(math.max(math.abs(a(off + 13)), math.abs(a(off + 14))), math.abs(a(off + 15)))))
+    val exponent = if (scale > 0.0 && scale < Double.PositiveInfinity) math.getExponent(scale) else 0
+    val inv = math.scalb(1.0, -exponent)
+    val q = (a(off) + a(off + 8) + a(off + 16)) / 3.0
+    val b0 = (a(off) - q) * inv
+    val b1 = (a(off + 8) - q) * inv
+    val b2 = (a(off + 16) - q) * inv
+    val xr = a(off + 6) * inv
+    val xi = a(off + 7) * inv
+    val yr = a(off + 12) * inv
+    val yi = a(off + 13) * inv
+    val zr = a(off + 14) * inv
+    val zi = a(off + 15) * inv
+    val x2 = xr * xr + xi * xi
+    val y2 = yr * yr + yi * yi
+    val z2 = zr * zr + zi * zi
+    if (x2 + y2 + z2 == 0.0) {
+      // The matrix is diagonal
+      values(valOff) = a(off)
+      values(valOff + 1) = a(off + 8)
+      values(valOff + 2) = a(off + 16)
+      java.util.Arrays.fill(vectors, vOff, vOff + 18, 0.0)
+      vectors(vOff) = 1.0
+      vectors(vOff + 8) = 1.0
+      vectors(vOff + 16) = 1.0
+      this.sortEigen(3, values, valOff, vectors, vOff)
+    } else {
+      // Eigenvalues of the shifted matrix B are 2 * p * cos(phi + 2 * k * pi / 3)
+      val p = math.sqrt((b0 * b0 + b1 * b1 + b2 * b2 + 2.0 * (x2 + y2 + z2)) / 6.0)
+      val det = b0 * (b1 * b2 - z2) - b1 * y2 - b2 * x2 + 2.0 * ((xr * zr - xi * zi) * yr + (xr * zi + xi * zr) * yi)
+      val r = math.max(-1.0, math.min(1.0, det / (2.0 * p * p * p)))
+      val phi = math.acos(r) / 3.0
+      val l0 = if (r >= 0.0) 2.0 * p * math.cos(phi) else 2.0 * p * math.cos(phi + 2.0 * math.Pi / 3.0)
+      // Rows of B - l0 * I, whose cross products are orthogonal to both rows
+      this.putHermitian3(b0 - l0, b1 - l0, b2 - l0, xr, xi, yr, yi, zr, zi, vectors, vOff)
+      val n01 = this.crossNorm(vectors, vOff, vOff + 6)
+      val n02 = this.crossNorm(vectors, vOff, vOff + 12)
+      val n12 = this.crossNorm(vectors, vOff + 6, vOff + 12)
+      var ri = vOff
+      var rj = vOff + 6
+      var norm = n01
+      if (n02 > norm && n02 >= n12) {
+        rj = vOff + 12
+        norm = n02
+      } else if (n12 > norm) {
+        ri = vOff + 6
+        rj = vOff + 12
+        norm = n12
+      }
+      var v0r = 1.0
+      var v0i = 0.0
+      var v1r = 0.0
+      var v1i = 0.0
+      var v2r = 0.0
+      var v2i = 0.0
+      if (norm > 0.0) {
+        val s = 1.0 / math.sqrt(norm)
+        v0r = this.crossRe(vectors, ri, rj, 0) * s
+        v0i = this.crossIm(vectors, ri, rj, 0) * s
+        v1r = this.crossRe(vectors, ri, rj, 1) * s
+        v1i = this.crossIm(vectors, ri, rj, 1) * s
+        v2r = this.crossRe(vectors, ri, rj, 2) * s
+        v2i = this.crossIm(vectors, ri, rj, 2) * s
+      }
+      // Orthonormal basis u, w of the orthogonal complement of v
+      var ur = 0.0
+      var ui = 0.0
+      var u1r = 0.0
+      var u1i = 0.0
+      var u2r = 0.0
+      var u2i = 0.0
+      if (v0r * v0r + v0i * v0i > v1r * v1r + v1i * v1i) {
+        val s = 1.0 / math.sqrt(v0r * v0r + v0i * v0i + v2r * v2r + v2i * v2i)
+        ur = -v2r * s
+        ui = v2i * s
+        u2r = v0r * s
+        u2i = -v0i * s
+      } else {
+        val s = 1.0 / math.sqrt(v1r * v1r + v1i * v1i + v2r * v2r + v2i * v2i)
+        u1r = v2r * s
+        u1i = -v2i * s
+        u2r = -v1r * s
+        u2i = v1i * s
+      }
+      // w is the conjugate of the cross product of v and u
+      val wr = v1r * u2r - v1i * u2i - (v2r * u1r - v2i * u1i)
+      val wi = -(v1r * u2i + v1i * u2r - (v2r * u1i + v2i * u1r))
+      val w1r = v2r * ur - v2i * ui - (v0r * u2r - v0i * u2i)
+      val w1i = -(v2r * ui + v2i * ur - (v0r * u2i + v0i * u2r))
+      val w2r = v0r * u1r - v0i * u1i - (v1r * ur - v1i * ui)
+      val w2i = -(v0r * u1i + v0i * u1r - (v1r * ui + v1i * ur))
+      // Projection of B onto the basis v, u, w
+      this.putHermitian3(b0, b1, b2, xr, xi, yr, yi, zr, zi, vectors, vOff)
+      val lv = this.quadratic(vectors, vOff, v0r, v0i, v1r, v1i, v2r, v2i, v0r, v0i, v1r, v1i, v2r, v2i, re = true)
+      val luu = this.quadratic(vectors, vOff, ur, ui, u1r, u1i, u2r, u2i, ur, ui, u1r, u1i, u2r, u2i, re = true)
+      val lww = this.quadratic(vectors, vOff, wr, wi, w1r, w1i, w2r, w2i, wr, wi, w1r, w1i, w2r, w2i, re = true)
+      val lwr = this.quadratic(vectors, vOff, wr, wi, w1r, w1i, w2r, w2i, ur, ui, u1r, u1i, u2r, u2i, re = true)
+      val lwi = this.quadratic(vectors, vOff, wr, wi, w1r, w1i, w2r, w2i, ur, ui, u1r, u1i, u2r, u2i, re = false)
+      this.eigen2(luu, lww, lwr, lwi, values, valOff + 1, vectors, vOff)
+      val y00r = vectors(vOff)
+      val y00i = vectors(vOff + 1)
+      val y01r = vectors(vOff + 2)
+      val y01i = vectors(vOff + 3)
+      val y10r = vectors(vOff + 4)
+      val y10i = vectors(vOff + 5)
+      val y11r = vectors(vOff + 6)
+      val y11i = vectors(vOff + 7)
+      values(valOff) = math.scalb(lv, exponent) + q
+      values(valOff + 1) = math.scalb(values(valOff + 1), exponent) + q
+      values(valOff + 2) = math.scalb(values(valOff + 2), exponent) + q
+      this.putColumn3(vectors, vOff, 0, v0r, v0i, v1r, v1i, v2r, v2i)
+      this.putColumn3(vectors, vOff, 1,
+        ur * y00r - ui * y00i + wr * y10r - wi * y10i, ur * y00i + ui * y00r + wr * y10i + wi * y10r,
+        u1r * y00r - u1i * y00i + w1r * y10r - w1i * y10i, u1r * y00i + u1i * y00r + w1r * y10i + w1i * y10r,
+        u2r * y00r - u2i * y00i + w2r * y10r - w2i * y10i, u2r * y00i + u2i * y00r + w2r * y10i + w2i * y10r
+      )
+      this.putColumn3(vectors, vOff, 2,
+        ur * y01r - ui * y01i + wr * y11r - wi * y11i, ur * y01i + ui * y01r + wr * y11i + wi * y11r,
+        u1r * y01r - u1i * y01i + w1r * y11r - w1i * y11i, u1r * y01i + u1i * y01r + w1r * y11i + w1i * y11r,
+        u2r * y01r - u2i * y01i + w2r * y11r - w2i * y11i, u2r * y01i + u2i * y01r + w2r * y11i + w2i * y11r
+      )
+      this.sortEigen(3, values, valOff, vectors, vOff)
+    }
+  }
+
+  /**
+   * Sorts the eigenvalues of an `n`x`n` matrix in ascending order together with the columns of the matrix of their
+   * eigenvectors.
+   *
+   * @param n The size of the matrix.
+   * @param values The array containing the `n` eigenvalues.
+   * @param valOff Index of the first eigenvalue.
+   * @param vectors The array containing the eigenvectors.
+   * @param vOff Index of the first element of the eigenvectors.
+   */
+  def sortEigen(n: Int, values: Array[Double], valOff: Int, vectors: Array[Double], vOff: Int): Unit = {
+    var k = 0
+    while (k < n - 1) {
+      var min = k
+      var j = k + 1
+      while (j < n) {
+        if (values(valOff + j) < values(valOff + min)) min = j
+        j += 1
+      }
+      if (min != k) {
+        val t = values(valOff + k)
+        values(valOff + k) = values(valOff + min)
+        values(valOff + min) = t
+        var r = 0
+        while (r < n) {
+          val i = vOff + 2 * (r * n + k)
+          val l = vOff + 2 * (r * n + min)
+          val re = vectors(i)
+          val im = vectors(i + 1)
+          vectors(i) = vectors(l)
+          vectors(i + 1) = vectors(l + 1)
+          vectors(l) = re
+          vectors(l + 1) = im
+          r += 1
+        }
+      }
+      k += 1
+    }
+  }
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of the 2x2 hermitian matrix `[a00, conj(b); b, a11]`.
+   *
+   * @param a00 The first diagonal element.
+   * @param a11 The second diagonal element.
+   * @param br The real part of the element below the diagonal.
+   * @param bi The imaginary part of the element below the diagonal.
+   * @param values The array where the 2 eigenvalues are written in ascending order.
+   * @param valOff Index of the first eigenvalue.
+   * @param vectors The array where the 2x2 matrix of the eigenvectors is written.
+   * @param vOff Index of the first element of the eigenvectors.
+   */
+  private def eigen2(a00: Double, a11: Double, br: Double, bi: Double, values: Array[Double], valOff: Int, vectors: Array[Double], vOff: Int): Unit = {
+    val m = (a00 + a11) / 2.0
+    val h = (a00 - a11) / 2.0
+    val g = math.hypot(br, bi)
+    val r = math.hypot(h, g)
+    values(valOff) = m - r
+    values(valOff + 1) = m + r
+    java.util.Arrays.fill(vectors, vOff, vOff + 8, 0.0)
+    if (g == 0.0) {
+      // The matrix is diagonal
+      if (a00 <= a11) {
+        vectors(vOff) = 1.0
+        vectors(vOff + 6) = 1.0
+      } else {
+        vectors(vOff + 2) = 1.0
+        vectors(vOff + 4) = 1.0
+      }
+    } else {
+      // Eigenvector (x, y) of the largest eigenvalue, computed from the row that does not cancel
+      val xr = if (h >= 0.0) h + r else br
+      val xi = if (h >= 0.0) 0.0 else -bi
+      val yr = if (h >= 0.0) br else r - h
+      val yi = if (h >= 0.0) bi else 0.0
+      val s = 1.0 / math.hypot(math.hypot(xr, xi), math.hypot(yr, yi))
+      // The eigenvector of the smallest eigenvalue is (-conj(y), conj(x))
+      vectors(vOff) = -yr * s
+      vectors(vOff + 1) = yi * s
+      vectors(vOff + 2) = xr * s
+      vectors(vOff + 3) = xi * s
+      vectors(vOff + 4) = xr * s
+      vectors(vOff + 5) = -xi * s
+      vectors(vOff + 6) = yr * s
+      vectors(vOff + 7) = yi * s
+    }
+  }
+
+  /**
+   * Writes the 3x3 hermitian matrix with the given diagonal and the given elements below the diagonal into the given
+   * array.
+   */
+  private def putHermitian3(d0: Double, d1: Double, d2: Double, xr: Double, xi: Double, yr: Double, yi: Double, zr: Double, zi: Double, dst: Array[Double], off: Int): Unit = {
+    dst(off) = d0
+    dst(off + 1) = 0.0
+    dst(off + 2) = xr
+    dst(off + 3) = -xi
+    dst(off + 4) = yr
+    dst(off + 5) = -yi
+    dst(off + 6) = xr
+    dst(off + 7) = xi
+    dst(off + 8) = d1
+    dst(off + 9) = 0.0
+    dst(off + 10) = zr
+    dst(off + 11) = -zi
+    dst(off + 12) = yr
+    dst(off + 13) = yi
+    dst(off + 14) = zr
+    dst(off + 15) = zi
+    dst(off + 16) = d2
+    dst(off + 17) = 0.0
+  }
+
+  /**
+   * Writes the given components into column `c` of a 3x3 matrix.
+   */
+  private def putColumn3(dst: Array[Double], off: Int, c: Int, x0r: Double, x0i: Double, x1r: Double, x1i: Double, x2r: Double, x2i: Double): Unit = {
+    dst(off + 2 * c) = x0r
+    dst(off + 2 * c + 1) = x0i
+    dst(off + 2 * c + 6) = x1r
+    dst(off + 2 * c + 7) = x1i
+    dst(off + 2 * c + 12) = x2r
+    dst(off + 2 * c + 13) = x2i
+  }
+
+  /**
+   * Returns the real part of component `k` of the cross product of the two vectors of 3 components
+   * starting at the given indices.
+   */
+  private def crossRe(v: Array[Double], i: Int, j: Int, k: Int): Double = {
+    val k1 = 2 * ((k + 1) % 3)
+    val k2 = 2 * ((k + 2) % 3)
+    v(i + k1) * v(j + k2) - v(i + k1 + 1) * v(j + k2 + 1) - (v(i + k2) * v(j + k1) - v(i + k2 + 1) * v(j + k1 + 1))
+  }
+
+  /**
+   * Returns the imaginary part of component `k` of the cross product of the two vectors of 3 components starting at the
+   * given indices.
+   */
+  private def crossIm(v: Array[Double], i: Int, j: Int, k: Int): Double = {
+    val k1 = 2 * ((k + 1) % 3)
+    val k2 = 2 * ((k + 2) % 3)
+    v(i + k1) * v(j + k2 + 1) + v(i + k1 + 1) * v(j + k2) - (v(i + k2) * v(j + k1 + 1) + v(i + k2 + 1) * v(j + k1))
+  }
+
+  /**
+   * Returns the squared norm of the cross product of the two vectors of 3 components starting at the given indices.
+   */
+  private def crossNorm(v: Array[Double], i: Int, j: Int): Double = {
+    var sum = 0.0
+    var k = 0
+    while (k < 3) {
+      val re = this.crossRe(v, i, j, k)
+      val im = this.crossIm(v, i, j, k)
+      sum += re * re + im * im
+      k += 1
+    }
+    sum
+  }
+
+  /**
+   * Returns the real or the imaginary part of `x^H * M * y`, where `M` is the 3x3 matrix at the given index.
+   */
+  private def quadratic(m: Array[Double], off: Int, x0r: Double, x0i: Double, x1r: Double, x1i: Double, x2r: Double, x2i: Double,
+                        y0r: Double, y0i: Double, y1r: Double, y1i: Double, y2r: Double, y2i: Double, re: Boolean): Double = {
+    val p0r = this.rowRe(m, off, y0r, y0i, y1r, y1i, y2r, y2i)
+    val p0i = this.rowIm(m, off, y0r, y0i, y1r, y1i, y2r, y2i)
+    val p1r = this.rowRe(m, off + 6, y0r, y0i, y1r, y1i, y2r, y2i)
+    val p1i = this.rowIm(m, off + 6, y0r, y0i, y1r, y1i, y2r, y2i)
+    val p2r = this.rowRe(m, off + 12, y0r, y0i, y1r, y1i, y2r, y2i)
+    val p2i = this.rowIm(m, off + 12, y0r, y0i, y1r, y1i, y2r, y2i)
+    if (re) {
+      x0r * p0r + x0i * p0i + x1r * p1r + x1i * p1i + x2r * p2r + x2i * p2i
+    } else {
+      x0r * p0i - x0i * p0r + x1r * p1i - x1i * p1r + x2r * p2i - x2i * p2r
+    }
+  }
+
+  /**
+   * Returns the real part of the product between the row of 3 elements at the given index and the given vector.
+   */
+  private def rowRe(m: Array[Double], i: Int, y0r: Double, y0i: Double, y1r: Double, y1i: Double, y2r: Double, y2i: Double): Double = {
+    m(i) * y0r - m(i + 1) * y0i + m(i + 2) * y1r - m(i + 3) * y1i + m(i + 4) * y2r - m(i + 5) * y2i
+  }
+
+  /**
+   * Returns the imaginary part of the product between the row of 3 elements at the given index and the given vector.
+   */
+  private def rowIm(m: Array[Double], i: Int, y0r: Double, y0i: Double, y1r: Double, y1i: Double, y2r: Double, y2i: Double): Double = {
+    m(i) * y0i + m(i + 1) * y0r + m(i + 2) * y1i + m(i + 3) * y1r + m(i + 4) * y2i + m(i + 5) * y2r
+  }
+}
@@ -0,0 +1,623 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+
+/**
+ * A complex matrix of arbitrary size.
+ *
+ * Complex matrices store their elements in row-major order as a single array of doubles in which real and imaginary parts
+ * are interleaved, so that the element at row `r` and column `c` has its real part at index `2 * (r * columns + c)` and
+ * its imaginary part at the following index.
+ * Unlike the fixed-size matrices of this library, a complex matrix does not require an object for each of its elements.
+ *
+ * The product between two matrices is computed with a cache-blocked algorithm, which makes it suitable for large
+ * matrices.
+ * [[ParallelOps.multiply]] can be used to compute the product on multiple threads.
+ *
+ * Elements of a complex matrix can be modified with [[update]], but, like all other operations in this library,
+ * arithmetic operations do not modify the matrix on which they are invoked and return a new matrix instead.
+ *
+ * @constructor Constructs a complex matrix backed by the given array of interleaved real and imaginary parts.
+ * @param rows The number of rows of the matrix.
+ * @param columns The number of columns of the matrix.
+ * @param data The array of interleaved real and imaginary parts in row-major order.
+ */
+class ComplexMatrix private(val rows: Int, val columns: Int, private[cmplxlib] val data: Array[Double]) {
+
+  /**
+   * Constructs a complex matrix with the given number of rows and columns with all elements set to zero.
+   *
+   * @param rows The number of rows of the matrix. Must not be negative.
+   * @param columns The number of columns of the matrix. Must not be negative.
+   * @throws IllegalArgumentException If the number of rows or columns is negative.
+   */
+  def this(rows: Int, columns: Int) = this(rows, columns, ComplexMatrix.allocate(rows, columns))
+
+  /**
+   * Checks if this matrix has the same number of rows and columns.
+   *
+   * @return True if this matrix is square, otherwise false.
+   */
+  def isSquare: Boolean = this.rows == this.columns
+
+  /**
+   * Returns the element at the given row and column.
+   *
+   * @param row The row of the requested element.
+   * @param col The column of the requested element.
+   * @return The element at the given row and column.
+   * @throws IndexOutOfBoundsException If the given row or column is out of bounds.
+   */
+  def apply(row: Int, col: Int): Complex = {
+    val i = this.index(row, col)
+    Complex(this.data(i), this.data(i + 1))
+  }
+
+  /**
+   * Returns the real part of the element at the given row and column.
+   *
+   * @param row The row of the requested element.
+   * @param col The column of the requested element.
+   * @return The real part of the element at the given row and column.
+   * @throws IndexOutOfBoundsException If the given row or column is out of bounds.
+   */
+  def realAt(row: Int, col: Int): Double = this.data(this.index(row, col))
+
+  /**
+   * Returns the imaginary part of the element at the given row and column.
+   *
+   * @param row The row of the requested element.
+   * @param col The column of the requested element.
+   * @return The imaginary part of the element at the given row and column.
+   * @throws IndexOutOfBoundsException If the given row or column is out of bounds.
+   */
+  def imaginaryAt(row: Int, col: Int): Double = this.data(this.index(row, col) + 1)
+
+  /**
+   * Sets the element at the given row and column to the complex number with the given real and imaginary part.
+   *
+   * @param row The row of the element to set.
+   * @param col The column of the element to set.
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @throws IndexOutOfBoundsException If the given row or column is out of bounds.
+   */
+  def update(row: Int, col: Int, a: Double, b: Double): Unit = {
+    val i = this.index(row, col)
+    this.data(i) = a
+    this.data(i + 1) = b
+  }
+
+  /**
+   * Sets the element at the given row and column to the given complex number.
+   *
+   * @param row The row of the element to set.
+   * @param col The column of the element to set.
+   * @param z The complex number.
+   * @throws IndexOutOfBoundsException If the given row or column is out of bounds.
+   */
+  def update(row: Int, col: Int, z: Complex): Unit = this.update(row, col, z.a, z.b)
+
+  /**
+   * Adds the given matrix to this one and returns the result.
+   *
+   * @param m The matrix to add.
+   * @return The sum between this matrix and the given one.
+   * @throws IllegalArgumentException If the two matrices do not have the same size.
+   */
+  def +(m: ComplexMatrix): ComplexMatrix = {
+    this.checkSize(m)
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) + m.data(i)
+      i += 1
+    }
+    new ComplexMatrix(this.rows, this.columns, res)
+  }
+
+  /**
+   * Adds the given matrix to this one and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param m The matrix to add.
+   * @return The sum between this matrix and the given one.
+   * @throws IllegalArgumentException If the two matrices do not have the same size.
+   */
+  def plus(m: ComplexMatrix): ComplexMatrix = this + m
+
+  /**
+   * Returns this same matrix.
+   *
+   * This method is needed to allow the unary plus operator.
+   *
+   * @return This same matrix.
+   */
+  def unary_+ : ComplexMatrix = this
+
+  /**
+   * Subtracts the given matrix from this one and returns the result.
+   *
+   * @param m The matrix to subtract.
+   * @return The subtraction between this matrix and the given one.
+   * @throws IllegalArgumentException If the two matrices do not have the same size.
+   */
+  def -(m: ComplexMatrix): ComplexMatrix = {
+    this.checkSize(m)
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) - m.data(i)
+      i += 1
+    }
+    new ComplexMatrix(this.rows, this.columns, res)
+  }
+
+  /**
+   * Subtracts the given matrix from this one and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param m The matrix to subtract.
+   * @return The subtraction between this matrix and the given one.
+   * @throws IllegalArgumentException If the two matrices do not have the same size.
+   */
+  def minus(m: ComplexMatrix): ComplexMatrix = this - m
+
+  /**
+   * Returns the negation of this matrix.
+   *
+   * @return The negation of this matrix.
+   */
+  def unary_- : ComplexMatrix = this * -1.0
+
+  /**
+   * Returns the negation of this matrix.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @return The negation of this matrix.
+   */
+  def negated: ComplexMatrix = -this
+
+  /**
+   * Returns the product between this matrix and the given complex number.
+   *
+   * @param k The complex number to multiply this matrix by.
+   * @return The product between this matrix and the given complex number.
+   */
+  def *(k: Complex): ComplexMatrix = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      val a = this.data(i)
+      val b = this.data(i + 1)
+      res(i) = a * k.a - b * k.b
+      res(i + 1) = a * k.b + b * k.a
+      i += 2
+    }
+    new ComplexMatrix(this.rows, this.columns, res)
+  }
+
+  /**
+   * Returns the product between this matrix and the given complex number.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The complex number to multiply this matrix by.
+   * @return The product between this matrix and the given complex number.
+   */
+  def multipliedBy(k: Complex): ComplexMatrix = this * k
+
+  /**
+   * Returns the product between this matrix and the given real number.
+   *
+   * @param k The real number to multiply this matrix by.
+   * @return The product between this matrix and the given real number.
+   */
+  def *(k: Double): ComplexMatrix = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i) * k
+      i += 1
+    }
+    new ComplexMatrix(this.rows, this.columns, res)
+  }
+
+  /**
+   * Returns the product between this matrix and the given real number.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The real number to multiply this matrix by.
+   * @return The product between this matrix and the given real number.
+   */
+  def multipliedBy(k: Double): ComplexMatrix = this * k
+
+  /**
+   * Returns the product between this matrix and the given vector.
+   *
+   * @param v The vector to multiply this matrix by. Its length must be equal to the number of columns of this matrix.
+   * @return The resulting vector, whose length is equal to the number of rows of this matrix.
+   * @throws IllegalArgumentException If the length of the vector is not equal to the number of columns of this matrix.
+   */
+  def *(v: ComplexArray): ComplexArray = {
+    require(v.length == this.columns, s"Cannot multiply a ${this.rows}x${this.columns} matrix by a vector of length ${v.length}")
+    val res = new ComplexArray(this.rows)
+    var r = 0
+    while (r < this.rows) {
+      var re = 0.0
+      var im = 0.0
+      var i = 2 * r * this.columns
+      var j = 0
+      while (j < v.data.length) {
+        re += this.data(i) * v.data(j) - this.data(i + 1) * v.data(j + 1)
+        im += this.data(i) * v.data(j + 1) + this.data(i + 1) * v.data(j)
+        i += 2
+        j += 2
+      }
+      res.update(r, re, im)
+      r += 1
+    }
+    res
+  }
+
+  /**
+   * Returns the product between this matrix and the given vector.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param v The vector to multiply this matrix by. Its length must be equal to the number of columns of this matrix.
+   * @return The resulting vector, whose length is equal to the number of rows of this matrix.
+   * @throws IllegalArgumentException If the length of the vector is not equal to the number of columns of this matrix.
+   */
+  def multiply(v: ComplexArray): ComplexArray = this * v
+
+  /**
+   * Returns the product between this matrix and the given one.
+   *
+   * The product is computed with a cache-blocked algorithm on the calling thread.
+   *
+   * @param m The matrix to multiply this one by. Its number of rows must be equal to the number of columns of this matrix.
+   * @return The product between this matrix and the given one.
+   * @throws IllegalArgumentException If the number of rows of the given matrix is not equal to the number of columns of
+   *                                  this matrix.
+   * @see [[ParallelOps.multiply]]
+   */
+  def *(m: ComplexMatrix): ComplexMatrix = {
+    ComplexMatrix.checkProduct(this, m)
+    val res = new ComplexMatrix(this.rows, m.columns)
+    ComplexKernels.gemm(this.rows, m.columns, this.columns, this.data, 0, m.data, 0, res.data, 0, 0, this.rows)
+    res
+  }
+
+  /**
+   * Returns the product between this matrix and the given one.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param m The matrix to multiply this one by. Its number of rows must be equal to the number of columns of this matrix.
+   * @return The product between this matrix and the given one.
+   * @throws IllegalArgumentException If the number of rows of the given matrix is not equal to the number of columns of
+   *                                  this matrix.
+   */
+  def multiply(m: ComplexMatrix): ComplexMatrix = this * m
+
+  /**
+   * Returns the transposed of this matrix.
+   *
+   * @return The transposed of this matrix.
+   */
+  def transposed: ComplexMatrix = {
+    val res = new ComplexMatrix(this.columns, this.rows)
+    var r = 0
+    while (r < this.rows) {
+      var c = 0
+      while (c < this.columns) {
+        val i = 2 * (r * this.columns + c)
+        val j = 2 * (c * this.rows + r)
+        res.data(j) = this.data(i)
+        res.data(j + 1) = this.data(i + 1)
+        c += 1
+      }
+      r += 1
+    }
+    res
+  }
+
+  /**
+   * Returns the conjugate of this matrix, that is the matrix obtained by taking the complex conjugate of each element.
+   *
+   * @return The conjugate of this matrix.
+   */
+  def conjugate: ComplexMatrix = {
+    val res = new Array[Double](this.data.length)
+    var i = 0
+    while (i < res.length) {
+      res(i) = this.data(i)
+      res(i + 1) = -this.data(i + 1)
+      i += 2
+    }
+    new ComplexMatrix(this.rows, this.columns, res)
+  }
+
+  /**
+   * Returns the row at the given index.
+   *
+   * @param i The index of the requested row.
+   * @return A complex array containing the elements of the row at the given index.
+   * @throws IndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def row(i: Int): ComplexArray = {
+    java.util.Objects.checkIndex(i, this.rows)
+    val res = new ComplexArray(this.columns)
+    System.arraycopy(this.data, 2 * i * this.columns, res.data, 0, 2 * this.columns)
+    res
+  }
+
+  /**
+   * Returns the column at the given index.
+   *
+   * @param i The index of the requested column.
+   * @return A complex array containing the elements of the column at the given index.
+   * @throws IndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def col(i: Int): ComplexArray = {
+    java.util.Objects.checkIndex(i, this.columns)
+    val res = new ComplexArray(this.rows)
+    var r = 0
+    while (r < this.rows) {
+      val j = 2 * (r * this.columns + i)
+      res.update(r, this.data(j), this.data(j + 1))
+      r += 1
+    }
+    res
+  }
+
+  /**
+   * Checks if the elements of this matrix are approximately equal to the ones of the given matrix using an internal epsilon.
+   *
+   * @param m The second matrix.
+   * @return True if the two matrices have the same size and their elements are approximately equal, otherwise false.
+   */
+  def ~=(m: ComplexMatrix): Boolean = {
+    this.rows == m.rows && this.columns == m.columns && this.data.indices.forall(i => this.data(i) ~= m.data(i))
+  }
+
+  /**
+   * Checks if the elements of this matrix are approximately equal to the ones of the given matrix using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param m The second matrix.
+   * @return True if the two matrices have the same size and their elements are approximately equal, otherwise false.
+   */
+  def equalsApprox(m: ComplexMatrix): Boolean = this ~= m
+
+  /**
+   * Returns a copy of this matrix.
+   *
+   * @return A copy of this matrix.
+   */
+  def copy: ComplexMatrix = new ComplexMatrix(this.rows, this.columns, this.data.clone())
+
+  /**
+   * Converts this matrix to a [[Mat2c]].
+   *
+   * @return A 2x2 matrix with the same elements as this one.
+   * @throws IllegalArgumentException If this matrix is not a 2x2 matrix.
+   */
+  def toMat2c: Mat2c = {
+    this.checkSize(2, 2)
+    ComplexKernels.unpack2(this.data, 0)
+  }
+
+  /**
+   * Converts this matrix to a [[Mat3c]].
+   *
+   * @return A 3x3 matrix with the same elements as this one.
+   * @throws IllegalArgumentException If this matrix is not a 3x3 matrix.
+   */
+  def toMat3c: Mat3c = {
+    this.checkSize(3, 3)
+    ComplexKernels.unpack3(this.data, 0)
+  }
+
+  /**
+   * Converts this matrix to a [[Mat4c]].
+   *
+   * @return A 4x4 matrix with the same elements as this one.
+   * @throws IllegalArgumentException If this matrix is not a 4x4 matrix.
+   */
+  def toMat4c: Mat4c = {
+    this.checkSize(4, 4)
+    ComplexKernels.unpack4(this.data, 0)
+  }
+
+  /**
+   * Checks if the given object is a complex matrix with the same size and the same elements as this one.
+   *
+   * @param obj The object to compare.
+   * @return True if the given object is a complex matrix with the same size and the same elements as this one, otherwise
+   *         false.
+   */
+  override def equals(obj: Any): Boolean = obj match {
+    case m: ComplexMatrix => this.rows == m.rows && this.columns == m.columns && this.data.indices.forall(i => this.data(i) == m.data(i))
+    case _ => false
+  }
+
+  /**
+   * Returns a hash code computed from the size and the elements of this matrix.
+   *
+   * @return A hash code computed from the size and the elements of this matrix.
+   */
+  override def hashCode(): Int = 31 * (31 * this.rows + this.columns) + java.util.Arrays.hashCode(this.data)
+
+  /**
+   * Returns a string representation of this matrix in the form `[[a + ib, c + id, ...], ...]`.
+   *
+   * @return A string representation of this matrix.
+   */
+  override def toString: String = (0 until this.rows).map(this.row).mkString("[", ", ", "]")
+
+  /**
+   * Returns the index of the real part of the element at the given row and column.
+   *
+   * @param row The row of the element.
+   * @param col The column of the element.
+   * @return The index of the real part of the element.
+   * @throws IndexOutOfBoundsException If the given row or column is out of bounds.
+   */
+  private def index(row: Int, col: Int): Int = {
+    java.util.Objects.checkIndex(row, this.rows)
+    java.util.Objects.checkIndex(col, this.columns)
+    2 * (row * this.columns + col)
+  }
+
+  /**
+   * Checks that the given matrix has the same size as this one.
+   *
+   * @param m The second matrix.
+   * @throws IllegalArgumentException If the two matrices do not have the same size.
+   */
+  private def checkSize(m: ComplexMatrix): Unit = this.checkSize(m.rows, m.columns)
+
+  /**
+   * Checks that this matrix has the given size.
+   *
+   * @param rows The expected number of rows.
+   * @param columns The expected number of columns.
+   * @throws IllegalArgumentException If this matrix does not have the given size.
+   */
+  private def checkSize(rows: Int, columns: Int): Unit = {
+    require(this.rows == rows && this.columns == columns, s"Matrices must have the same size, but were ${this.rows}x${this.columns} and ${rows}x$columns")
+  }
+}
+
+/**
+ * Factory methods for complex matrices.
+ */
+object ComplexMatrix {
+
+  /**
+   * Returns the identity matrix of the given size.
+   *
+   * @param n The number of rows and columns of the matrix. Must not be negative.
+   * @return The identity matrix of the given size.
+   * @throws IllegalArgumentException If the given size is negative.
+   */
+  def identity(n: Int): ComplexMatrix = {
+    val res = new ComplexMatrix(n, n)
+    var i = 0
+    while (i < n) {
+      res.data(2 * (i * n + i)) = 1.0
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns a matrix whose elements are computed by the given function.
+   *
+   * @param rows The number of rows of the matrix. Must not be negative.
+   * @param columns The number of columns of the matrix. Must not be negative.
+   * @param f Function that returns the element at the given row and column.
+   * @return A matrix whose elements are computed by the given function.
+   * @throws IllegalArgumentException If the number of rows or columns is negative.
+   */
+  def tabulate(rows: Int, columns: Int)(f: (Int, Int) => Complex): ComplexMatrix = {
+    val res = new ComplexMatrix(rows, columns)
+    var r = 0
+    while (r < rows) {
+      var c = 0
+      while (c < columns) {
+        res.update(r, c, f(r, c))
+        c += 1
+      }
+      r += 1
+    }
+    res
+  }
+
+  /**
+   * Returns a 2x2 complex matrix with the same elements as the given one.
+   *
+   * @param m The matrix.
+   * @return A complex matrix with the same elements as the given one.
+   */
+  def fromMat(m: Mat2c): ComplexMatrix = {
+    val res = new ComplexMatrix(2, 2)
+    ComplexKernels.pack(m, res.data, 0)
+    res
+  }
+
+  /**
+   * Returns a 3x3 complex matrix with the same elements as the given one.
+   *
+   * @param m The matrix.
+   * @return A complex matrix with the same elements as the given one.
+   */
+  def fromMat(m: Mat3c): ComplexMatrix = {
+    val res = new ComplexMatrix(3, 3)
+    ComplexKernels.pack(m, res.data, 0)
+    res
+  }
+
+  /**
+   * Returns a 4x4 complex matrix with the same elements as the given one.
+   *
+   * @param m The matrix.
+   * @return A complex matrix with the same elements as the given one.
+   */
+  def fromMat(m: Mat4c): ComplexMatrix = {
+    val res = new ComplexMatrix(4, 4)
+    ComplexKernels.pack(m, res.data, 0)
+    res
+  }
+
+  /**
+   * Returns a complex matrix backed by the given array of interleaved real and imaginary parts in row-major order.
+   *
+   * The given array is not copied, therefore changes to the given array will be reflected in the complex matrix and vice
+   * versa.
+   *
+   * @param rows The number of rows of the matrix. Must not be negative.
+   * @param columns The number of columns of the matrix. Must not be negative.
+   * @param data An array containing the real part of each element at even indices and the imaginary part at odd indices.
+   * @return A complex matrix backed by the given array.
+   * @throws IllegalArgumentException If the length of the given array is not `2 * rows * columns`.
+   */
+  def wrap(rows: Int, columns: Int, data: Array[Double]): ComplexMatrix = {
+    require(rows >= 0 && columns >= 0, s"Size of a matrix must not be negative: ${rows}x$columns")
+    require(data.length == 2L * rows * columns, s"Array of length ${data.length} cannot contain a ${rows}x$columns matrix")
+    new ComplexMatrix(rows, columns, data)
+  }
+
+  /**
+   * Allocates the array of interleaved real and imaginary parts of a matrix of the given size.
+   *
+   * @param rows The number of rows of the matrix.
+   * @param columns The number of columns of the matrix.
+   * @return An array of zeros large enough to contain the matrix.
+   * @throws IllegalArgumentException If the number of rows or columns is negative or if the matrix is too large.
+   */
+  private def allocate(rows: Int, columns: Int): Array[Double] = {
+    require(rows >= 0 && columns >= 0, s"Size of a matrix must not be negative: ${rows}x$columns")
+    require(2L * rows * columns <= Int.MaxValue, s"Matrix is too large: ${rows}x$columns")
+    new Array[Double](2 * rows * columns)
+  }
+
+  /**
+   * Checks that the two given matrices can be multiplied.
+   *
+   * @param a The left operand.
+   * @param b The right operand.
+   * @throws IllegalArgumentException If the number of rows of the right operand is not equal to the number of columns of
+   *                                  the left operand.
+   */
+  private[cmplxlib] def checkProduct(a: ComplexMatrix, b: ComplexMatrix): Unit = {
+    require(a.columns == b.rows, s"Cannot multiply a ${a.rows}x${a.columns} matrix by a ${b.rows}x${b.columns} matrix")
+  }
+}
@@ -0,0 +1,485 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * A lazy arithmetic expression on complex vectors or matrices of the same type.
+ *
+ * Operators on [[Vec4c]] or [[Mat4c]] create a new object for every intermediate result, therefore an expression such as
+ * `a * k + b * j - c.conjugate` creates five temporary objects.
+ * An expression records the operations instead, so that the result can be computed in a single pass over the elements
+ * of the operands and written into a new object or into an array, without creating any intermediate result.
+ *
+ * Expressions support sums, differences, negation, multiplication and division by a scalar, and conjugation, which act
+ * on every element independently.
+ * Since all these operations are linear, an expression is stored as a sum of terms, where every term is one of the
+ * operands multiplied by a real 2x2 matrix that acts on the real and imaginary part of each of its elements.
+ * Operands that appear more than once, as in `a + a * k`, give a single term.
+ *
+ * The result of an expression is equal to the one computed with the operators of its operands up to rounding.
+ * Expressions are immutable and can be shared between threads.
+ *
+ * @tparam T The type of the operands and of the result.
+ */
+final class Expression[T] private(private val shape: Expression.Shape[T], private val operands: Array[Any], private val coefficients: Array[Double]) {
+
+  /**
+   * Returns the sum between this expression and the given one.
+   *
+   * @param e The second operand of the addition.
+   * @return The sum between this expression and the given one.
+   */
+  def +(e: Expression[T]): Expression[T] = this.combine(e, 1.0)
+
+  /**
+   * Returns the sum between this expression and the given one.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param e The second operand of the addition.
+   * @return The sum between this expression and the given one.
+   */
+  def plus(e: Expression[T]): Expression[T] = this + e
+
+  /**
+   * Returns the sum between this expression and the given value.
+   *
+   * @param t The second operand of the addition.
+   * @return The sum between this expression and the given value.
+   */
+  def +(t: T): Expression[T] = this + Expression(t, this.shape)
+
+  /**
+   * Returns the sum between this expression and the given value.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param t The second operand of the addition.
+   * @return The sum between this expression and the given value.
+   */
+  def plus(t: T): Expression[T] = this + t
+
+  /**
+   * Returns the subtraction between this expression and the given one.
+   *
+   * @param e The second operand of the subtraction.
+   * @return The subtraction between this expression and the given one.
+   */
+  def -(e: Expression[T]): Expression[T] = this.combine(e, -1.0)
+
+  /**
+   * Returns the subtraction between this expression and the given one.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param e The second operand of the subtraction.
+   * @return The subtraction between this expression and the given one.
+   */
+  def minus(e: Expression[T]): Expression[T] = this - e
+
+  /**
+   * Returns the subtraction between this expression and the given value.
+   *
+   * @param t The second operand of the subtraction.
+   * @return The subtraction between this expression and the given value.
+   */
+  def -(t: T): Expression[T] = this - Expression(t, this.shape)
+
+  /**
+   * Returns the subtraction between this expression and the given value.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param t The second operand of the subtraction.
+   * @return The subtraction between this expression and the given value.
+   */
+  def minus(t: T): Expression[T] = this - t
+
+  /**
+   * Returns this same expression.
+   *
+   * @return This same expression.
+   */
+  def unary_+ : Expression[T] = this
+
+  /**
+   * Returns the negation of this expression.
+   *
+   * @return The negation of this expression.
+   */
+  def unary_- : Expression[T] = this * -1.0
+
+  /**
+   * Returns the negation of this expression.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @return The negation of this expression.
+   */
+  def negated: Expression[T] = -this
+
+  /**
+   * Returns the product between this expression and the given scalar.
+   *
+   * @param k The scalar by which this expression is multiplied.
+   * @return The product between this expression and the given scalar.
+   */
+  def *(k: Complex): Expression[T] = this.transform(k.a, -k.b, k.b, k.a)
+
+  /**
+   * Returns the product between this expression and the given scalar.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar by which this expression is multiplied.
+   * @return The product between this expression and the given scalar.
+   */
+  def multipliedBy(k: Complex): Expression[T] = this * k
+
+  /**
+   * Returns the product between this expression and the given scalar.
+   *
+   * @param k The scalar by which this expression is multiplied.
+   * @return The product between this expression and the given scalar.
+   */
+  def *(k: Double): Expression[T] = this.transform(k, 0.0, 0.0, k)
+
+  /**
+   * Returns the product between this expression and the given scalar.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar by which this expression is multiplied.
+   * @return The product between this expression and the given scalar.
+   */
+  def multipliedBy(k: Double): Expression[T] = this * k
+
+  /**
+   * Returns the division between this expression and the given scalar.
+   *
+   * @param k The scalar by which this expression is divided.
+   * @return The division between this expression and the given scalar.
+   */
+  def /(k: Complex): Expression[T] = this * k.inverse
+
+  /**
+   * Returns the division between this expression and the given scalar.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar by which this expression is divided.
+   * @return The division between this expression and the given scalar.
+   */
+  def dividedBy(k: Complex): Expression[T] = this / k
+
+  /**
+   * Returns the division between this expression and the given scalar.
+   *
+   * @param k The scalar by which this expression is divided.
+   * @return The division between this expression and the given scalar.
+   */
+  def /(k: Double): Expression[T] = this * (1.0 / k)
+
+  /**
+   * Returns the division between this expression and the given scalar.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar by which this expression is divided.
+   * @return The division between this expression and the given scalar.
+   */
+  def dividedBy(k: Double): Expression[T] = this / k
+
+  /**
+   * Returns the conjugate of this expression.
+   *
+   * @return The conjugate of this expression.
+   * @see [[Complex.conjugate]]
+   */
+  def conjugate: Expression[T] = this.transform(1.0, 0.0, 0.0, -1.0)
+
+  /**
+   * Returns the number of terms of this expression, which is the number of distinct operands.
+   *
+   * @return The number of terms of this expression.
+   */
+  def terms: Int = this.operands.length
+
+  /**
+   * Computes the result of this expression.
+   *
+   * @return The result of this expression.
+   */
+  def evaluate: T = {
+    val dst = new Array[Double](2 * this.shape.size)
+    this.evaluate(dst, 0)
+    this.shape.unpack(dst)
+  }
+
+  /**
+   * Computes the result of this expression and writes its elements into the given array as interleaved real and
+   * imaginary parts.
+   *
+   * Elements of matrices are written in row-major order.
+   *
+   * @param dst The destination array.
+   * @param offset Index of the first element in the destination array, counted in complex numbers.
+   * @throws IllegalArgumentException if the offset is negative or if the array is too small.
+   */
+  def evaluate(dst: Array[Double], offset: Int): Unit = {
+    require(offset >= 0 && offset <= dst.length / 2 - this.shape.size, s"Cannot write ${this.shape.size} elements at offset $offset of an array of length ${dst.length}")
+    var i = 0
+    while (i < this.shape.size) {
+      var re = 0.0
+      var im = 0.0
+      var t = 0
+      while (t < this.operands.length) {
+        val z = this.shape.element(this.operands(t).asInstanceOf[T], i)
+        val c = 4 * t
+        re += this.product(this.coefficients(c), z.a, this.coefficients(c + 1), z.b)
+        im += this.product(this.coefficients(c + 2), z.a, this.coefficients(c + 3), z.b)
+        t += 1
+      }
+      dst(2 * (offset + i)) = re
+      dst(2 * (offset + i) + 1) = im
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the result of this expression and writes its elements into the given complex array.
+   *
+   * Elements of matrices are written in row-major order.
+   *
+   * @param dst The destination array.
+   * @param offset Index of the first element in the destination array.
+   * @throws IllegalArgumentException if the offset is negative or if the array is too small.
+   */
+  def evaluate(dst: ComplexArray, offset: Int): Unit = this.evaluate(dst.data, offset)
+
+  /**
+   * Returns `x * a + y * b`, skipping the products whose coefficient is zero so that an infinite part of an element does
+   * not give NaN in the other part.
+   *
+   * @param x The first coefficient.
+   * @param a The first value.
+   * @param y The second coefficient.
+   * @param b The second value.
+   * @return The sum of the two products.
+   */
+  private def product(x: Double, a: Double, y: Double, b: Double): Double = {
+    if (y == 0.0) x * a
+    else if (x == 0.0) y * b
+    else x * a + y * b
+  }
+
+  /**
+   * Returns the sum between this expression and the given one multiplied by the given sign.
+   *
+   * @param e The second operand.
+   * @param sign The sign of the second operand.
+   * @return The sum of the two expressions.
+   */
+  private def combine(e: Expression[T], sign: Double): Expression[T] = {
+    val operands = this.operands.toBuffer
+    val coefficients = this.coefficients.toBuffer
+    for (t <- e.operands.indices) {
+      val index = operands.indexWhere(_.asInstanceOf[AnyRef] eq e.operands(t).asInstanceOf[AnyRef])
+      if (index < 0) {
+        operands += e.operands(t)
+        coefficients ++= e.coefficients.slice(4 * t, 4 * t + 4).map(_ * sign)
+      } else {
+        for (c <- 0 until 4) coefficients(4 * index + c) += sign * e.coefficients(4 * t + c)
+      }
+    }
+    new Expression(this.shape, operands.toArray, coefficients.toArray)
+  }
+
+  /**
+   * Returns this expression with the coefficients of every term multiplied on the left by the given matrix.
+   *
+   * @param m00 The element at row 0, column 0 of the matrix.
+   * @param m01 The element at row 0, column 1 of the matrix.
+   * @param m10 The element at row 1, column 0 of the matrix.
+   * @param m11 The element at row 1, column 1 of the matrix.
+   * @return The transformed expression.
+   */
+  private def transform(m00: Double, m01: Double, m10: Double, m11: Double): Expression[T] = {
+    val coefficients = new Array[Double](this.coefficients.length)
+    for (c <- coefficients.indices by 4) {
+      coefficients(c) = m00 * this.coefficients(c) + m01 * this.coefficients(c + 2)
+      coefficients(c + 1) = m00 * this.coefficients(c + 1) + m01 * this.coefficients(c + 3)
+      coefficients(c + 2) = m10 * this.coefficients(c) + m11 * this.coefficients(c + 2)
+      coefficients(c + 3) = m10 * this.coefficients(c + 1) + m11 * this.coefficients(c + 3)
+    }
+    new Expression(this.shape, this.operands, coefficients)
+  }
+}
+
+/**
+ * Factory for expressions.
+ */
+object Expression {
+
+  /**
+   * Returns an expression whose result is the given value.
+   *
+   * @param t The value.
+   * @param shape Access to the elements of the value.
+   * @tparam T The type of the value.
+   * @return An expression whose result is the given value.
+   */
+  private[cmplxlib] def apply[T](t: T, shape: Shape[T]): Expression[T] = new Expression(shape, Array(t), Array(1.0, 0.0, 0.0, 1.0))
+
+  /**
+   * Access to the elements of a complex vector or matrix type.
+   *
+   * @param size The number of complex elements of the type.
+   * @tparam T The type.
+   */
+  private[cmplxlib] abstract class Shape[T](val size: Int) {
+
+    /**
+     * Returns the element at the given index, with elements of matrices in row-major order.
+     *
+     * @param t The vector or matrix.
+     * @param i The index of the element.
+     * @return The element at the given index.
+     */
+    def element(t: T, i: Int): Complex
+
+    /**
+     * Creates a vector or matrix from the interleaved real and imaginary parts of its elements.
+     *
+     * @param src The array containing the elements.
+     * @return The vector or matrix.
+     */
+    def unpack(src: Array[Double]): T
+  }
+
+  /** Access to the elements of a [[Vec2c]] */
+  private[cmplxlib] val Vec2cShape: Shape[Vec2c] = new Shape[Vec2c](2) {
+
+    override def element(t: Vec2c, i: Int): Complex = i match {
+      case 0 => t.x
+      case 1 => t.y
+    }
+
+    override def unpack(src: Array[Double]): Vec2c = Vec2c(Complex(src(0), src(1)), Complex(src(2), src(3)))
+  }
+
+  /** Access to the elements of a [[Vec3c]] */
+  private[cmplxlib] val Vec3cShape: Shape[Vec3c] = new Shape[Vec3c](3) {
+
+    override def element(t: Vec3c, i: Int): Complex = i match {
+      case 0 => t.x
+      case 1 => t.y
+      case 2 => t.z
+    }
+
+    override def unpack(src: Array[Double]): Vec3c = Vec3c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)))
+  }
+
+  /** Access to the elements of a [[Vec4c]] */
+  private[cmplxlib] val Vec4cShape: Shape[Vec4c] = new Shape[Vec4c](4) {
+
+    override def element(t: Vec4c, i: Int): Complex = i match {
+      case 0 => t.x
+      case 1 => t.y
+      case 2 => t.z
+      case 3 => t.w
+    }
+
+    override def unpack(src: Array[Double]): Vec4c = Vec4c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)), Complex(src(6), src(7)))
+  }
+
+  /** Access to the elements of a [[Mat2c]] */
+  private[cmplxlib] val Mat2cShape: Shape[Mat2c] = new Shape[Mat2c](4) {
+
+    override def element(t: Mat2c, i: Int): Complex = i match {
+      case 0 => t.m00
+      case 1 => t.m01
+      case 2 => t.m10
+      case 3 => t.m11
+    }
+
+    override def unpack(src: Array[Double]): Mat2c = Mat2c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)), Complex(src(6), src(7)))
+  }
+
+  /** Access to the elements of a [[Mat2x3c]] */
+  private[cmplxlib] val Mat2x3cShape: Shape[Mat2x3c] = new Shape[Mat2x3c](6) {
+
+    override def element(t: Mat2x3c, i: Int): Complex = i match {
+      case 0 => t.m00
+      case 1 => t.m01
+      case 2 => t.m02
+      case 3 => t.m10
+      case 4 => t.m11
+      case 5 => t.m12
+    }
+
+    override def unpack(src: Array[Double]): Mat2x3c = Mat2x3c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)), Complex(src(6), src(7)), Complex(src(8), src(9)), Complex(src(10), src(11)))
+  }
+
+  /** Access to the elements of a [[Mat3c]] */
+  private[cmplxlib] val Mat3cShape: Shape[Mat3c] = new Shape[Mat3c](9) {
+
+    override def element(t: Mat3c, i: Int): Complex = i match {
+      case 0 => t.m00
+      case 1 => t.m01
+      case 2 => t.m02
+      case 3 => t.m10
+      case 4 => t.m11
+      case 5 => t.m12
+      case 6 => t.m20
+      case 7 => t.m21
+      case 8 => t.m22
+    }
+
+    override def unpack(src: Array[Double]): Mat3c = Mat3c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)), Complex(src(6), src(7)), Complex(src(8), src(9)), Complex(src(10), src(11)), Complex(src(12), src(13)), Complex(src(14), src(15)), Complex(src(16), src(17)))
+  }
+
+  /** Access to the elements of a [[Mat3x4c]] */
+  private[cmplxlib] val Mat3x4cShape: Shape[Mat3x4c] = new Shape[Mat3x4c](12) {
+
+    override def element(t: Mat3x4c, i: Int): Complex = i match {
+      case 0 => t.m00
+      case 1 => t.m01
+      case 2 => t.m02
+      case 3 => t.m03
+      case 4 => t.m10
+      case 5 => t.m11
+      case 6 => t.m12
+      case 7 => t.m13
+      case 8 => t.m20
+      case 9 => t.m21
+      case 10 => t.m22
+      case 11 => t.m23
+    }
+
+    override def unpack(src: Array[Double]): Mat3x4c = Mat3x4c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)), Complex(src(6), src(7)), Complex(src(8), src(9)), Complex(src(10), src(11)), Complex(src(12), src(13)), Complex(src(14), src(15)), Complex(src(16), src(17)), Complex(src(18), src(19)), Complex(src(20), src(21)), Complex(src(22), src(23)))
+  }
+
+  /** Access to the elements of a [[Mat4c]] */
+  private[cmplxlib] val Mat4cShape: Shape[Mat4c] = new Shape[Mat4c](16) {
+
+    override def element(t: Mat4c, i: Int): Complex = i match {
+      case 0 => t.m00
+      case 1 => t.m01
+      case 2 => t.m02
+      case 3 => t.m03
+      case 4 => t.m10
+      case 5 => t.m11
+      case 6 => t.m12
+      case 7 => t.m13
+      case 8 => t.m20
+      case 9 => t.m21
+      case 10 => t.m22
+      case 11 => t.m23
+      case 12 => t.m30
+      case 13 => t.m31
+      case 14 => t.m32
+      case 15 => t.m33
+    }
+
+    override def unpack(src: Array[Double]): Mat4c = Mat4c(Complex(src(0), src(1)), Complex(src(2), src(3)), Complex(src(4), src(5)), Complex(src(6), src(7)), Complex(src(8), src(9)), Complex(src(10), src(11)), Complex(src(12), src(13)), Complex(src(14), src(15)), Complex(src(16), src(17)), Complex(src(18), src(19)), Complex(src(20), src(21)), Complex(src(22), src(23)), Complex(src(24), src(25)), Complex(src(26), src(27)), Complex(src(28), src(29)), Complex(src(30), src(31)))
+  }
+}
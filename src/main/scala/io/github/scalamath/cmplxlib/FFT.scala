@@ -0,0 +1,302 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * A fast Fourier transform of a fixed size.
+ *
+ * Transforms operate in place on arrays of interleaved real and imaginary parts and do not allocate any object.
+ * Sizes that are a power of two use an iterative radix-2 algorithm.
+ * All other sizes use Bluestein's algorithm, which expresses the transform as a convolution computed with a radix-2
+ * transform of a larger size.
+ *
+ * The forward transform computes `X(k) = sum(x(j) * exp(-2 * pi * i * j * k / n))` and the inverse transform computes
+ * `x(j) = sum(X(k) * exp(2 * pi * i * j * k / n)) / n`, so that the inverse transform of the forward transform of a
+ * sequence is the sequence itself.
+ *
+ * Instances of this class are obtained with [[FFT.apply]] and are cached.
+ * Twiddle factors are taken from the tables of [[RootsOfUnity]], so that they are only computed once for every size.
+ * Instances are immutable and can be shared between threads.
+ *
+ * @param size The number of complex numbers in the sequences this object can transform.
+ */
+final class FFT private(val size: Int) {
+
+  /** True if the size is a power of two */
+  private val radix2 = (this.size & (this.size - 1)) == 0
+
+  /** Twiddle factors of the radix-2 transform */
+  private val roots = if (this.radix2) RootsOfUnity(this.size) else null
+
+  /** Radix-2 transform used to compute the convolution of Bluestein's algorithm */
+  private val inner = if (this.radix2) null else FFT(Integer.highestOneBit(2 * this.size - 1) << 1)
+
+  /** Chirp `exp(-pi * i * k^2 / n)` of Bluestein's algorithm as interleaved real and imaginary parts */
+  private val chirp = if (this.radix2) null else {
+    // The chirp is the conjugate of the root of unity of order 2n at k^2 modulo 2n
+    val roots = RootsOfUnity(2 * this.size)
+    val res = new Array[Double](2 * this.size)
+    for (k <- 0 until this.size) {
+      val i = ((k.toLong * k) % (2L * this.size)).toInt
+      res(2 * k) = roots.cos(i)
+      res(2 * k + 1) = -roots.sin(i)
+    }
+    res
+  }
+
+  /** Transform of the conjugate chirp, zero-padded and wrapped around, used as the convolution kernel */
+  private val kernel = if (this.radix2) null else {
+    val res = new Array[Double](2 * this.inner.size)
+    for (k <- 0 until this.size) {
+      res(2 * k) = this.chirp(2 * k)
+      res(2 * k + 1) = -this.chirp(2 * k + 1)
+      if (k > 0) {
+        res(2 * (this.inner.size - k)) = this.chirp(2 * k)
+        res(2 * (this.inner.size - k) + 1) = -this.chirp(2 * k + 1)
+      }
+    }
+    this.inner.forward(res, 0)
+    res
+  }
+
+  /** Scratch space of Bluestein's algorithm for every thread */
+  private val scratch = if (this.radix2) null else ThreadLocal.withInitial[Array[Double]](() => new Array[Double](2 * this.inner.size))
+
+  /**
+   * Computes the forward transform of the sequence of complex numbers starting at the given offset in the given array and
+   * replaces the sequence with its transform.
+   *
+   * @param data Array of interleaved real and imaginary parts.
+   * @param offset Index of the first complex number of the sequence, which starts at index `2 * offset` of the array.
+   * @throws IllegalArgumentException if the array is too small.
+   */
+  def forward(data: Array[Double], offset: Int): Unit = {
+    this.checkBounds(data, offset)
+    if (this.radix2) {
+      this.radix2Transform(data, 2 * offset, inverse = false)
+    } else {
+      this.bluesteinTransform(data, 2 * offset)
+    }
+  }
+
+  /**
+   * Computes the forward transform of the given complex array and replaces its elements with the transform.
+   *
+   * @param a The complex array. Its length must be equal to the size of this transform.
+   * @throws IllegalArgumentException if the length of the array is not equal to the size of this transform.
+   */
+  def forward(a: ComplexArray): Unit = {
+    require(a.length == this.size, s"Array of length ${a.length} cannot be transformed by a transform of size ${this.size}")
+    this.forward(a.data, 0)
+  }
+
+  /**
+   * Computes the inverse transform of the sequence of complex numbers starting at the given offset in the given array and
+   * replaces the sequence with its transform.
+   *
+   * The result is divided by the size of the transform.
+   *
+   * @param data Array of interleaved real and imaginary parts.
+   * @param offset Index of the first complex number of the sequence, which starts at index `2 * offset` of the array.
+   * @throws IllegalArgumentException if the array is too small.
+   */
+  def inverse(data: Array[Double], offset: Int): Unit = {
+    this.checkBounds(data, offset)
+    val off = 2 * offset
+    if (this.radix2) {
+      this.radix2Transform(data, off, inverse = true)
+      this.scale(data, off, 1.0 / this.size, conjugate = false)
+    } else {
+      // The inverse transform is the conjugate of the forward transform of the conjugate
+      this.scale(data, off, 1.0, conjugate = true)
+      this.bluesteinTransform(data, off)
+      this.scale(data, off, 1.0 / this.size, conjugate = true)
+    }
+  }
+
+  /**
+   * Computes the inverse transform of the given complex array and replaces its elements with the transform.
+   *
+   * The result is divided by the size of the transform.
+   *
+   * @param a The complex array. Its length must be equal to the size of this transform.
+   * @throws IllegalArgumentException if the length of the array is not equal to the size of this transform.
+   */
+  def inverse(a: ComplexArray): Unit = {
+    require(a.length == this.size, s"Array of length ${a.length} cannot be transformed by a transform of size ${this.size}")
+    this.inverse(a.data, 0)
+  }
+
+  /**
+   * Checks that the given array contains a sequence at the given offset.
+   *
+   * @param data The array.
+   * @param offset Index of the first complex number of the sequence.
+   * @throws IllegalArgumentException if the array is too small.
+   */
+  private def checkBounds(data: Array[Double], offset: Int): Unit = {
+    require(offset >= 0 && 2L * (offset.toLong + this.size) <= data.length, s"Array is too small for a transform of size ${this.size} at offset $offset")
+  }
+
+  /**
+   * Computes the iterative radix-2 transform in place.
+   *
+   * @param data Array of interleaved real and imaginary parts.
+   * @param off Index of the real part of the first element.
+   * @param inverse True to compute the unscaled inverse transform, false to compute the forward transform.
+   */
+  private def radix2Transform(data: Array[Double], off: Int, inverse: Boolean): Unit = {
+    val n = this.size
+    // Bit-reversal permutation
+    var j = 0
+    var i = 1
+    while (i < n) {
+      var bit = n >> 1
+      while ((j & bit) != 0) {
+        j ^= bit
+        bit >>= 1
+      }
+      j ^= bit
+      if (i < j) {
+        val a = off + 2 * i
+        val b = off + 2 * j
+        val re = data(a)
+        val im = data(a + 1)
+        data(a) = data(b)
+        data(a + 1) = data(b + 1)
+        data(b) = re
+        data(b + 1) = im
+      }
+      i += 1
+    }
+    // Butterflies
+    val sign = if (inverse) 1.0 else -1.0
+    var len = 2
+    while (len <= n) {
+      val half = len >> 1
+      val step = n / len
+      var start = 0
+      while (start < n) {
+        var k = 0
+        while (k < half) {
+          val wr = this.roots.cos(k * step)
+          val wi = sign * this.roots.sin(k * step)
+          val a = off + 2 * (start + k)
+          val b = a + 2 * half
+          val tr = wr * data(b) - wi * data(b + 1)
+          val ti = wr * data(b + 1) + wi * data(b)
+          data(b) = data(a) - tr
+          data(b + 1) = data(a + 1) - ti
+          data(a) += tr
+          data(a + 1) += ti
+          k += 1
+        }
+        start += len
+      }
+      len <<= 1
+    }
+  }
+
+  /**
+   * Computes the forward transform in place using Bluestein's algorithm.
+   *
+   * @param data Array of interleaved real and imaginary parts.
+   * @param off Index of the real part of the first element.
+   */
+  private def bluesteinTransform(data: Array[Double], off: Int): Unit = {
+    val n = this.size
+    val m = this.inner.size
+    val s = this.scratch.get()
+    var k = 0
+    while (k < n) {
+      val xr = data(off + 2 * k)
+      val xi = data(off + 2 * k + 1)
+      val cr = this.chirp(2 * k)
+      val ci = this.chirp(2 * k + 1)
+      s(2 * k) = xr * cr - xi * ci
+      s(2 * k + 1) = xr * ci + xi * cr
+      k += 1
+    }
+    java.util.Arrays.fill(s, 2 * n, 2 * m, 0.0)
+    this.inner.forward(s, 0)
+    k = 0
+    while (k < m) {
+      val re = s(2 * k) * this.kernel(2 * k) - s(2 * k + 1) * this.kernel(2 * k + 1)
+      val im = s(2 * k) * this.kernel(2 * k + 1) + s(2 * k + 1) * this.kernel(2 * k)
+      s(2 * k) = re
+      s(2 * k + 1) = im
+      k += 1
+    }
+    this.inner.inverse(s, 0)
+    k = 0
+    while (k < n) {
+      val yr = s(2 * k)
+      val yi = s(2 * k + 1)
+      val cr = this.chirp(2 * k)
+      val ci = this.chirp(2 * k + 1)
+      data(off + 2 * k) = yr * cr - yi * ci
+      data(off + 2 * k + 1) = yr * ci + yi * cr
+      k += 1
+    }
+  }
+
+  /**
+   * Multiplies the sequence by the given factor and optionally conjugates it.
+   *
+   * @param data Array of interleaved real and imaginary parts.
+   * @param off Index of the real part of the first element.
+   * @param k The factor.
+   * @param conjugate True to conjugate the sequence.
+   */
+  private def scale(data: Array[Double], off: Int, k: Double, conjugate: Boolean): Unit = {
+    val ki = if (conjugate) -k else k
+    var i = off
+    while (i < off + 2 * this.size) {
+      data(i) *= k
+      data(i + 1) *= ki
+      i += 2
+    }
+  }
+}
+
+/**
+ * Factory method for fast Fourier transforms.
+ */
+object FFT {
+
+  /** The default number of transforms kept in the cache */
+  val DefaultCapacity: Int = 64
+
+  /** Transforms that have already been created */
+  private val plans = new LruCache[Integer, FFT](DefaultCapacity)
+
+  /**
+   * Returns a fast Fourier transform of the given size.
+   *
+   * Transforms are kept in a cache of bounded size, therefore calling this method more than once with the same size
+   * returns the same object unless the transform was evicted from the cache.
+   *
+   * @param size The number of complex numbers in the sequences to transform. Must be positive.
+   * @return A fast Fourier transform of the given size.
+   * @throws IllegalArgumentException if the given size is not positive.
+   */
+  def apply(size: Int): FFT = {
+    require(size > 0, s"Size of the transform must be positive: $size")
+    this.plans.getOrCreate(size, n => new FFT(n))
+  }
+
+  /**
+   * Sets the maximum number of transforms kept in the cache.
+   *
+   * If the cache contains more transforms, the least recently used ones are evicted.
+   *
+   * @param capacity The maximum number of transforms. Must be positive.
+   * @throws IllegalArgumentException if the given capacity is not positive.
+   */
+  def setCapacity(capacity: Int): Unit = this.plans.setCapacity(capacity)
+
+  /**
+   * Returns the maximum number of transforms kept in the cache.
+   *
+   * @return The maximum number of transforms kept in the cache.
+   */
+  def capacity: Int = this.plans.capacity
+}
@@ -0,0 +1,64 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.vecmatlib.Vec2d
+
+/**
+ * Eigenvalues and eigenvectors of a 2x2 hermitian matrix, computed in closed form.
+ *
+ * The decomposition factors a hermitian matrix `M` as `M = V * D * V^H`, where `D` is the diagonal matrix of the
+ * eigenvalues, which are real and sorted in ascending order, and `V` is the unitary matrix whose columns are the
+ * corresponding eigenvectors.
+ * Eigenvectors are only defined up to a complex factor of unit modulus.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @constructor Constructs a decomposition from the given eigenvalues and eigenvectors.
+ * @param values The eigenvalues in ascending order.
+ * @param vectors The unitary matrix whose columns are the eigenvectors.
+ */
+class HermitianEigen2c private(val values: Vec2d, val vectors: Mat2c) {
+
+  /**
+   * Returns the eigenvalue at the given index.
+   *
+   * @param i The index of the eigenvalue, where 0 is the smallest one.
+   * @return The eigenvalue at the given index.
+   * @throws MatchError if the given index is out of bounds.
+   */
+  def value(i: Int): Double = i match {
+    case 0 => this.values.x
+    case 1 => this.values.y
+  }
+
+  /**
+   * Returns the eigenvector of the eigenvalue at the given index.
+   *
+   * @param i The index of the eigenvalue, where 0 is the smallest one.
+   * @return The eigenvector of the eigenvalue at the given index.
+   * @throws MatchError if the given index is out of bounds.
+   */
+  def vector(i: Int): Vec2c = this.vectors.col(i)
+}
+
+/**
+ * Factory methods for eigendecompositions.
+ */
+object HermitianEigen2c {
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of the given hermitian matrix.
+   *
+   * Only the lower triangle and the real part of the diagonal of the matrix are read, the result is undefined if the matrix
+   * is not hermitian.
+   *
+   * @param m The hermitian matrix.
+   * @return The eigendecomposition of the given matrix.
+   */
+  def apply(m: Mat2c): HermitianEigen2c = {
+    val values = new Array[Double](2)
+    val vectors = new Array[Double](8)
+    ComplexKernels.pack(m, vectors, 0)
+    ComplexKernels.eigenHermitian2(vectors, 0, values, 0, vectors, 0)
+    new HermitianEigen2c(Vec2d(values(0), values(1)), ComplexKernels.unpack2(vectors, 0))
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.vecmatlib.Vec3d
+
+/**
+ * Eigenvalues and eigenvectors of a 3x3 hermitian matrix, computed analytically from the roots of the characteristic polynomial.
+ *
+ * The decomposition factors a hermitian matrix `M` as `M = V * D * V^H`, where `D` is the diagonal matrix of the
+ * eigenvalues, which are real and sorted in ascending order, and `V` is the unitary matrix whose columns are the
+ * corresponding eigenvectors.
+ * Eigenvectors are only defined up to a complex factor of unit modulus.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @constructor Constructs a decomposition from the given eigenvalues and eigenvectors.
+ * @param values The eigenvalues in ascending order.
+ * @param vectors The unitary matrix whose columns are the eigenvectors.
+ */
+class HermitianEigen3c private(val values: Vec3d, val vectors: Mat3c) {
+
+  /**
+   * Returns the eigenvalue at the given index.
+   *
+   * @param i The index of the eigenvalue, where 0 is the smallest one.
+   * @return The eigenvalue at the given index.
+   * @throws MatchError if the given index is out of bounds.
+   */
+  def value(i: Int): Double = i match {
+    case 0 => this.values.x
+    case 1 => this.values.y
+    case 2 => this.values.z
+  }
+
+  /**
+   * Returns the eigenvector of the eigenvalue at the given index.
+   *
+   * @param i The index of the eigenvalue, where 0 is the smallest one.
+   * @return The eigenvector of the eigenvalue at the given index.
+   * @throws MatchError if the given index is out of bounds.
+   */
+  def vector(i: Int): Vec3c = this.vectors.col(i)
+}
+
+/**
+ * Factory methods for eigendecompositions.
+ */
+object HermitianEigen3c {
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of the given hermitian matrix.
+   *
+   * Only the lower triangle and the real part of the diagonal of the matrix are read, the result is undefined if the matrix
+   * is not hermitian.
+   *
+   * @param m The hermitian matrix.
+   * @return The eigendecomposition of the given matrix.
+   */
+  def apply(m: Mat3c): HermitianEigen3c = {
+    val values = new Array[Double](3)
+    val vectors = new Array[Double](18)
+    ComplexKernels.pack(m, vectors, 0)
+    ComplexKernels.eigenHermitian3(vectors, 0, values, 0, vectors, 0)
+    new HermitianEigen3c(Vec3d(values(0), values(1), values(2)), ComplexKernels.unpack3(vectors, 0))
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.vecmatlib.Vec4d
+
+/**
+ * Eigenvalues and eigenvectors of a 4x4 hermitian matrix, computed with the cyclic Jacobi method.
+ *
+ * The decomposition factors a hermitian matrix `M` as `M = V * D * V^H`, where `D` is the diagonal matrix of the
+ * eigenvalues, which are real and sorted in ascending order, and `V` is the unitary matrix whose columns are the
+ * corresponding eigenvectors.
+ * Eigenvectors are only defined up to a complex factor of unit modulus.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @constructor Constructs a decomposition from the given eigenvalues and eigenvectors.
+ * @param values The eigenvalues in ascending order.
+ * @param vectors The unitary matrix whose columns are the eigenvectors.
+ */
+class HermitianEigen4c private(val values: Vec4d, val vectors: Mat4c) {
+
+  /**
+   * Returns the eigenvalue at the given index.
+   *
+   * @param i The index of the eigenvalue, where 0 is the smallest one.
+   * @return The eigenvalue at the given index.
+   * @throws MatchError if the given index is out of bounds.
+   */
+  def value(i: Int): Double = i match {
+    case 0 => this.values.x
+    case 1 => this.values.y
+    case 2 => this.values.z
+    case 3 => this.values.w
+  }
+
+  /**
+   * Returns the eigenvector of the eigenvalue at the given index.
+   *
+   * @param i The index of the eigenvalue, where 0 is the smallest one.
+   * @return The eigenvector of the eigenvalue at the given index.
+   * @throws MatchError if the given index is out of bounds.
+   */
+  def vector(i: Int): Vec4c = this.vectors.col(i)
+}
+
+/**
+ * Factory methods for eigendecompositions.
+ */
+object HermitianEigen4c {
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of the given hermitian matrix.
+   *
+   * Only the lower triangle and the real part of the diagonal of the matrix are read, the result is undefined if the matrix
+   * is not hermitian.
+   *
+   * @param m The hermitian matrix.
+   * @return The eigendecomposition of the given matrix.
+   */
+  def apply(m: Mat4c): HermitianEigen4c = {
+    val values = new Array[Double](4)
+    val vectors = new Array[Double](32)
+    val a = new Array[Double](32)
+    ComplexKernels.pack(m, a, 0)
+    ComplexKernels.eigenHermitian(4, a, 0, values, 0, vectors, 0)
+    ComplexKernels.sortEigen(4, values, 0, vectors, 0)
+    new HermitianEigen4c(Vec4d(values(0), values(1), values(2), values(3)), ComplexKernels.unpack4(vectors, 0))
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * Counters of the calls to expensive operations, which help find the operations that are responsible for a latency
+ * spike.
+ *
+ * The measured operations are the decompositions, inverses, powers, exponentials, eigendecompositions, and
+ * orthonormalizations of matrices, the determinant of [[Mat4c]], and the square root, exponential, logarithm, power, and
+ * trigonometric functions of [[Complex]].
+ * An operation that calls another measured operation, such as `Mat4c.inverse` calling `Mat4c.luDecomposition`, is
+ * counted by both.
+ *
+ * Instrumentation is disabled by default and is enabled by starting the JVM with `-Dcmplxlib.instrumentation=true`.
+ * When it is disabled, the measured operations do not read the clock nor update any counter.
+ * When it is enabled, every call increments low-overhead striped counters and, if a Java Flight Recorder recording is
+ * running, emits an event named `io.github.scalamath.cmplxlib.Operation` with the name and the duration of the call.
+ */
+object Instrumentation {
+
+  /** Name of the system property that enables instrumentation */
+  val Property: String = Operation.Property
+
+  /**
+   * Checks if instrumentation is enabled.
+   *
+   * @return True if instrumentation is enabled, otherwise false.
+   */
+  def enabled: Boolean = Operation.Enabled
+
+  /**
+   * Returns the names of the measured operations.
+   *
+   * @return The names of the measured operations.
+   */
+  def operations: Seq[String] = Operation.values.map(_.label)
+
+  /**
+   * Returns the number of calls and the time spent in every measured operation since the start of the JVM or since the
+   * last call to [[reset]].
+   *
+   * Counters are read one at a time, therefore the result is not an atomic snapshot if operations are running on other
+   * threads.
+   *
+   * @return The statistics of every measured operation.
+   */
+  def snapshot: Seq[OperationStats] = Operation.values.map(this.stats)
+
+  /**
+   * Returns the number of calls and the time spent in the operation with the given name since the start of the JVM or
+   * since the last call to [[reset]].
+   *
+   * @param operation The name of the operation, such as `Mat4c.inverse`.
+   * @return The statistics of the given operation.
+   * @throws IllegalArgumentException if there is no measured operation with the given name.
+   */
+  def stats(operation: String): OperationStats = this.stats(Operation.values.find(_.label == operation).getOrElse {
+    throw new IllegalArgumentException(s"Operation $operation is not measured, measured operations are ${this.operations.mkString(", ")}")
+  })
+
+  /**
+   * Resets the counters of all the measured operations.
+   */
+  def reset(): Unit = Operation.values.foreach(_.reset())
+
+  /**
+   * Returns the statistics of the given operation.
+   *
+   * @param operation The operation.
+   * @return The statistics of the given operation.
+   */
+  private def stats(operation: Operation): OperationStats = OperationStats(operation.label, operation.count, operation.nanos)
+}
@@ -0,0 +1,133 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * LU decomposition with partial pivoting of a 3x3 complex matrix.
+ *
+ * The decomposition factors a matrix `M` as `P * M = L * U`, where `P` is a permutation matrix, `L` is a lower
+ * triangular matrix whose diagonal elements are all ones, and `U` is an upper triangular matrix.
+ *
+ * Once the decomposition is computed, it can be used to compute the determinant and the inverse of the matrix, or to
+ * solve linear systems, without decomposing the matrix again.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ */
+class LUDecomposition3c private(lu: Array[Double], pivots: Array[Int], sign: Int) {
+
+  /**
+   * Returns the lower triangular factor `L` of this decomposition.
+   *
+   * @return The lower triangular factor of this decomposition.
+   */
+  def lower: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.lowerLU(3, this.lu, 0, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Returns the upper triangular factor `U` of this decomposition.
+   *
+   * @return The upper triangular factor of this decomposition.
+   */
+  def upper: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.upperLU(3, this.lu, 0, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Returns the permutation matrix `P` of this decomposition.
+   *
+   * @return The permutation matrix of this decomposition.
+   */
+  def permutation: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.permutationLU(3, this.pivots, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Checks if the decomposed matrix is singular.
+   *
+   * A matrix is singular if and only if the upper triangular factor of its decomposition has a zero on its diagonal.
+   *
+   * @return True if the decomposed matrix is singular, otherwise false.
+   */
+  def isSingular: Boolean = ComplexKernels.isSingularLU(3, this.lu, 0)
+
+  /**
+   * Returns the determinant of the decomposed matrix.
+   *
+   * @return The determinant of the decomposed matrix.
+   * @see [[Mat3c.determinant]]
+   */
+  def determinant: Complex = ComplexKernels.determinantLU(3, this.lu, 0, this.sign)
+
+  /**
+   * Returns the inverse of the decomposed matrix.
+   *
+   * The result is undefined if the decomposed matrix is [[isSingular singular]].
+   *
+   * @return The inverse of the decomposed matrix.
+   * @see [[Mat3c.inverse]]
+   */
+  def inverse: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.invertLU(3, this.lu, 0, this.pivots, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Solves the linear system `M * x = b`, where `M` is the decomposed matrix, and returns the vector `x`.
+   *
+   * The result is undefined if the decomposed matrix is [[isSingular singular]].
+   *
+   * @param b The right-hand side of the system.
+   * @return The solution of the system.
+   */
+  def solve(b: Vec3c): Vec3c = {
+    val x = new Array[Double](6)
+    ComplexKernels.pack(b, x, 0)
+    ComplexKernels.solveLU(3, this.lu, 0, this.pivots, x, 0, 2)
+    Vec3c(Complex(x(0), x(1)), Complex(x(2), x(3)), Complex(x(4), x(5)))
+  }
+
+  /**
+   * Solves the linear system `M * X = B`, where `M` is the decomposed matrix, and returns the matrix `X`.
+   *
+   * The result is undefined if the decomposed matrix is [[isSingular singular]].
+   *
+   * @param b The right-hand side of the system.
+   * @return The solution of the system.
+   */
+  def solve(b: Mat3c): Mat3c = {
+    val x = new Array[Double](18)
+    ComplexKernels.pack(b, x, 0)
+    var c = 0
+    while (c < 3) {
+      ComplexKernels.solveLU(3, this.lu, 0, this.pivots, x, 2 * c, 6)
+      c += 1
+    }
+    ComplexKernels.unpack3(x, 0)
+  }
+}
+
+/**
+ * Factory methods for LU decompositions.
+ */
+object LUDecomposition3c {
+
+  /**
+   * Computes the LU decomposition of the given matrix.
+   *
+   * @param m The matrix to decompose.
+   * @return The LU decomposition of the given matrix.
+   */
+  def apply(m: Mat3c): LUDecomposition3c = {
+    val lu = new Array[Double](18)
+    val pivots = new Array[Int](3)
+    ComplexKernels.pack(m, lu, 0)
+    val sign = ComplexKernels.decomposeLU(3, lu, 0, pivots)
+    new LUDecomposition3c(lu, pivots, sign)
+  }
+}
@@ -0,0 +1,122 @@
+package io.github.scalamath.cmplxlib
+
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Internal thread-safe cache that keeps at most a given number of entries and evicts the least recently used one when a
+ * new entry is added to a full cache.
+ *
+ * Values are created outside the lock, so that creating a value may look up another value in the same cache.
+ * If two threads create a value for the same key at the same time, both values are created but only the first one is
+ * stored and returned to both threads.
+ *
+ * @constructor Constructs an empty cache with the given capacity.
+ * @param initialCapacity The maximum number of entries in the cache. Must be positive.
+ * @tparam K Type of the keys.
+ * @tparam V Type of the values.
+ */
+private[cmplxlib] class LruCache[K, V <: AnyRef](initialCapacity: Int) {
+  require(initialCapacity > 0, s"Capacity must be positive: $initialCapacity")
+
+  /** The maximum number of entries */
+  @volatile private var maxSize = initialCapacity
+
+  /** Cached entries in access order */
+  private val entries = new java.util.LinkedHashMap[K, V](16, 0.75f, true) {
+    override def removeEldestEntry(eldest: java.util.Map.Entry[K, V]): Boolean = this.size() > LruCache.this.maxSize
+  }
+
+  /** Number of lookups that found a cached value */
+  private val hitCount = new LongAdder()
+  /** Number of lookups that had to create a value */
+  private val missCount = new LongAdder()
+
+  /**
+   * Returns the value associated with the given key, creating and caching it if it is not in the cache.
+   *
+   * @param key The key.
+   * @param create Function used to create the value if it is not in the cache.
+   * @return The value associated with the given key.
+   */
+  def getOrCreate(key: K, create: K => V): V = {
+    val cached = this.entries.synchronized(this.entries.get(key))
+    if (cached != null) {
+      this.hitCount.increment()
+      cached
+    } else {
+      this.missCount.increment()
+      val created = create(key)
+      this.entries.synchronized {
+        val previous = this.entries.putIfAbsent(key, created)
+        if (previous != null) previous else created
+      }
+    }
+  }
+
+  /**
+   * Returns the maximum number of entries in this cache.
+   *
+   * @return The maximum number of entries in this cache.
+   */
+  def capacity: Int = this.maxSize
+
+  /**
+   * Sets the maximum number of entries in this cache and evicts the least recently used entries if the cache contains more
+   * entries.
+   *
+   * @param capacity The maximum number of entries. Must be positive.
+   */
+  def setCapacity(capacity: Int): Unit = {
+    require(capacity > 0, s"Capacity must be positive: $capacity")
+    this.entries.synchronized {
+      this.maxSize = capacity
+      val iterator = this.entries.entrySet().iterator()
+      while (this.entries.size() > capacity && iterator.hasNext) {
+        iterator.next()
+        iterator.remove()
+      }
+    }
+  }
+
+  /**
+   * Returns the number of entries in this cache.
+   *
+   * @return The number of entries in this cache.
+   */
+  def size: Int = this.entries.synchronized(this.entries.size())
+
+  /**
+   * Checks if this cache contains the given key without affecting the order of the entries.
+   *
+   * @param key The key.
+   * @return True if this cache contains the given key, otherwise false.
+   */
+  def contains(key: K): Boolean = this.entries.synchronized(this.entries.containsKey(key))
+
+  /**
+   * Returns the number of lookups that found a cached value.
+   *
+   * @return The number of cache hits.
+   */
+  def hits: Long = this.hitCount.sum()
+
+  /**
+   * Returns the number of lookups that had to create a value.
+   *
+   * @return The number of cache misses.
+   */
+  def misses: Long = this.missCount.sum()
+
+  /**
+   * Removes all the entries from this cache.
+   */
+  def clear(): Unit = this.entries.synchronized(this.entries.clear())
+
+  /**
+   * Resets the hit and miss counters.
+   */
+  def resetStatistics(): Unit = {
+    this.hitCount.reset()
+    this.missCount.reset()
+  }
+}
@@ -0,0 +1,444 @@
+package io.github.scalamath.cmplxlib
+
+import java.nio.channels.FileChannel
+import java.nio.file.{Path, StandardOpenOption}
+import java.nio.{ByteOrder, DoubleBuffer, MappedByteBuffer}
+
+/**
+ * A complex array backed by a memory-mapped file.
+ *
+ * The file contains the elements of the array as interleaved real and imaginary parts encoded as little-endian doubles,
+ * which is the same layout used by [[BinaryCodec]] and by [[ComplexArray]], so that element `i` starts at byte `16 * i`.
+ * Since a single mapping cannot be larger than 2 GB, the file is mapped in segments of [[MappedComplexArray.SegmentBytes]]
+ * bytes, which allows arrays larger than the heap and longer than `Int.MaxValue` elements.
+ *
+ * Elements are read and written directly in the mapped memory.
+ * Bulk operations such as [[sum]], [[dot]], and [[*=]] run over the mapped memory without copying it into the heap.
+ * Sequential passes that need a [[ComplexArray]], for example to compute a [[FFT]], can use [[foreachWindow]] and
+ * [[transformWindows]], which copy one window at a time into a single reusable array.
+ *
+ * Unlike all other types in CmplxLib except mutable types, operations on mapped arrays may modify the array on which they
+ * are invoked.
+ * Changes made to an array opened for writing are written back to the file by the operating system or when [[force]] is
+ * called.
+ * Reading from a mapped array from multiple threads is safe, writing to it while other threads read from it is not.
+ *
+ * @constructor Constructs a mapped array from the given channel and segments.
+ * @param channel The channel of the mapped file.
+ * @param length The number of complex numbers in the array.
+ * @param shift Base 2 logarithm of the number of elements in a segment.
+ * @param segments Views of the mapped segments of the file as doubles.
+ * @param mapped The mapped segments of the file.
+ */
+final class MappedComplexArray private(channel: FileChannel, val length: Long, shift: Int, private val segments: Array[DoubleBuffer], mapped: Array[MappedByteBuffer]) extends AutoCloseable {
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The element at the given index.
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  def apply(i: Long): Complex = {
+    val segment = this.segment(i)
+    val j = this.indexInSegment(i)
+    Complex(segment.get(j), segment.get(j + 1))
+  }
+
+  /**
+   * Returns the real part of the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The real part of the element at the given index.
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  def realAt(i: Long): Double = this.segment(i).get(this.indexInSegment(i))
+
+  /**
+   * Returns the imaginary part of the element at the given index.
+   *
+   * @param i The index of the requested element.
+   * @return The imaginary part of the element at the given index.
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  def imaginaryAt(i: Long): Double = this.segment(i).get(this.indexInSegment(i) + 1)
+
+  /**
+   * Sets the element at the given index to the complex number with the given real and imaginary part.
+   *
+   * @param i The index of the element to set.
+   * @param a The real part of the complex number.
+   * @param b The imaginary part of the complex number.
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws java.nio.ReadOnlyBufferException if the array was not opened for writing.
+   */
+  def update(i: Long, a: Double, b: Double): Unit = {
+    val segment = this.segment(i)
+    val j = this.indexInSegment(i)
+    segment.put(j, a)
+    segment.put(j + 1, b)
+  }
+
+  /**
+   * Sets the element at the given index to the given complex number.
+   *
+   * @param i The index of the element to set.
+   * @param z The complex number.
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws java.nio.ReadOnlyBufferException if the array was not opened for writing.
+   */
+  def update(i: Long, z: Complex): Unit = this.update(i, z.a, z.b)
+
+  /**
+   * Checks if this array was opened for writing.
+   *
+   * @return True if the elements of this array can be modified, otherwise false.
+   */
+  def isWritable: Boolean = this.segments.forall(!_.isReadOnly)
+
+  /**
+   * Copies `count` elements of this array starting from the given index into the given complex array.
+   *
+   * @param from Index of the first element to copy.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first element in the destination array.
+   * @param count The number of elements to copy.
+   * @throws IndexOutOfBoundsException if one of the two ranges is out of bounds.
+   */
+  def copyTo(from: Long, dst: ComplexArray, dstOffset: Int, count: Int): Unit = {
+    java.util.Objects.checkFromIndexSize(from, count.toLong, this.length)
+    java.util.Objects.checkFromIndexSize(dstOffset, count, dst.length)
+    this.forEachRange(from, count, (segment, index, done, n) => segment.get(index, dst.data, 2 * (dstOffset + done), 2 * n))
+  }
+
+  /**
+   * Copies `count` elements of the given complex array into this array starting from the given index.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first element in the source array.
+   * @param from Index of the first element of this array to write.
+   * @param count The number of elements to copy.
+   * @throws IndexOutOfBoundsException if one of the two ranges is out of bounds.
+   * @throws java.nio.ReadOnlyBufferException if the array was not opened for writing.
+   */
+  def copyFrom(src: ComplexArray, srcOffset: Int, from: Long, count: Int): Unit = {
+    java.util.Objects.checkFromIndexSize(from, count.toLong, this.length)
+    java.util.Objects.checkFromIndexSize(srcOffset, count, src.length)
+    this.forEachRange(from, count, (segment, index, done, n) => segment.put(index, src.data, 2 * (srcOffset + done), 2 * n))
+  }
+
+  /**
+   * Returns the sum of all the elements of this array.
+   *
+   * @return The sum of all the elements of this array.
+   */
+  def sum: Complex = {
+    var re = 0.0
+    var im = 0.0
+    for (segment <- this.segments) {
+      var j = 0
+      while (j < segment.limit()) {
+        re += segment.get(j)
+        im += segment.get(j + 1)
+        j += 2
+      }
+    }
+    Complex(re, im)
+  }
+
+  /**
+   * Returns the dot product between this array and the given one, that is the sum of the products between each element of
+   * this array and the [[Complex.conjugate]] of the corresponding element of the given array.
+   *
+   * @param that The second array.
+   * @return The dot product between this array and the given one.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   * @see [[ComplexArray.dot]]
+   */
+  def dot(that: MappedComplexArray): Complex = {
+    require(this.length == that.length, s"Arrays must have the same length, but were ${this.length} and ${that.length}")
+    var re = 0.0
+    var im = 0.0
+    var s = 0
+    while (s < this.segments.length) {
+      val x = this.segments(s)
+      val y = that.segments(s)
+      var j = 0
+      while (j < x.limit()) {
+        val ar = x.get(j)
+        val ai = x.get(j + 1)
+        val br = y.get(j)
+        val bi = y.get(j + 1)
+        re += ar * br + ai * bi
+        im += ai * br - ar * bi
+        j += 2
+      }
+      s += 1
+    }
+    Complex(re, im)
+  }
+
+  /**
+   * Returns the sum of the squared moduli of all the elements of this array, which is the energy of a signal.
+   *
+   * @return The sum of the squared moduli of all the elements of this array.
+   */
+  def squaredNorm: Double = {
+    var res = 0.0
+    for (segment <- this.segments) {
+      var j = 0
+      while (j < segment.limit()) {
+        res += segment.get(j) * segment.get(j)
+        j += 1
+      }
+    }
+    res
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given complex number.
+   *
+   * @param z The complex number to multiply this array by.
+   * @return This same array.
+   * @throws java.nio.ReadOnlyBufferException if the array was not opened for writing.
+   */
+  def *=(z: Complex): MappedComplexArray = {
+    for (segment <- this.segments) {
+      var j = 0
+      while (j < segment.limit()) {
+        val a = segment.get(j)
+        val b = segment.get(j + 1)
+        segment.put(j, a * z.a - b * z.b)
+        segment.put(j + 1, a * z.b + b * z.a)
+        j += 2
+      }
+    }
+    this
+  }
+
+  /**
+   * Multiplies all the elements of this array by the given complex number.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to multiply this array by.
+   * @return This same array.
+   * @throws java.nio.ReadOnlyBufferException if the array was not opened for writing.
+   */
+  def mulAssign(z: Complex): MappedComplexArray = this *= z
+
+  /**
+   * Calls the given function on consecutive windows of this array.
+   *
+   * Every window is copied into the same complex array, which is passed to the function together with the index of its
+   * first element in this array.
+   * All windows have the given size except the last one, whose size is the number of remaining elements, therefore the
+   * function should use the length of the given array.
+   *
+   * @param windowSize The number of elements in a window. Must be positive.
+   * @param f Function called with the index of the first element of every window and with the window.
+   * @throws IllegalArgumentException if the window size is not positive.
+   */
+  def foreachWindow(windowSize: Int)(f: (Long, ComplexArray) => Unit): Unit = {
+    require(windowSize > 0, s"Window size must be positive: $windowSize")
+    var window = new ComplexArray(windowSize)
+    var from = 0L
+    while (from < this.length) {
+      val count = math.min(windowSize.toLong, this.length - from).toInt
+      if (count != window.length) {
+        window = new ComplexArray(count)
+      }
+      this.copyTo(from, window, 0, count)
+      f(from, window)
+      from += count
+    }
+  }
+
+  /**
+   * Calls the given function on consecutive windows of this array and writes every window back into this array after the
+   * function returns.
+   *
+   * Windows are the same as the ones of [[foreachWindow]], the function may modify the elements of the given array to
+   * modify the elements of this array.
+   *
+   * @param windowSize The number of elements in a window. Must be positive.
+   * @param f Function called with the index of the first element of every window and with the window.
+   * @throws IllegalArgumentException if the window size is not positive.
+   * @throws java.nio.ReadOnlyBufferException if the array was not opened for writing.
+   */
+  def transformWindows(windowSize: Int)(f: (Long, ComplexArray) => Unit): Unit = {
+    this.foreachWindow(windowSize) { (from, window) =>
+      f(from, window)
+      this.copyFrom(window, 0, from, window.length)
+    }
+  }
+
+  /**
+   * Writes the changes made to this array to the file.
+   */
+  def force(): Unit = this.mapped.foreach(_.force())
+
+  /**
+   * Closes the file backing this array.
+   *
+   * The mapped memory remains valid until this array is garbage collected.
+   */
+  override def close(): Unit = this.channel.close()
+
+  /**
+   * Returns a string representation of this array.
+   *
+   * @return A string representation of this array.
+   */
+  override def toString: String = s"MappedComplexArray(${this.length})"
+
+  /**
+   * Returns the segment that contains the element at the given index.
+   *
+   * @param i The index of the element.
+   * @return The segment that contains the element.
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  private def segment(i: Long): DoubleBuffer = {
+    java.util.Objects.checkIndex(i, this.length)
+    this.segments((i >>> this.shift).toInt)
+  }
+
+  /**
+   * Returns the index of the real part of the element at the given index in its segment.
+   *
+   * @param i The index of the element.
+   * @return The index of the real part of the element in its segment.
+   */
+  private def indexInSegment(i: Long): Int = 2 * (i & ((1L << this.shift) - 1)).toInt
+
+  /**
+   * Calls the given function on the parts of the given range that belong to different segments.
+   *
+   * @param from Index of the first element of the range.
+   * @param count The number of elements in the range.
+   * @param f Function called with the segment, the index of the first double of the part in the segment, the number of
+   *          elements before the part, and the number of elements in the part.
+   */
+  private def forEachRange(from: Long, count: Int, f: (DoubleBuffer, Int, Int, Int) => Unit): Unit = {
+    var done = 0
+    while (done < count) {
+      val i = from + done
+      val index = this.indexInSegment(i)
+      val n = math.min(count - done, (1 << this.shift) - index / 2)
+      f(this.segments((i >>> this.shift).toInt), index, done, n)
+      done += n
+    }
+  }
+}
+
+/**
+ * Factory methods for memory-mapped complex arrays.
+ */
+object MappedComplexArray {
+
+  /** Base 2 logarithm of the number of elements in a segment */
+  private val SegmentShift = 26
+  /** The number of bytes in a segment */
+  val SegmentBytes: Long = 16L << SegmentShift
+
+  /**
+   * Maps the given file for reading.
+   *
+   * @param path Path to the file.
+   * @return A read-only complex array backed by the given file.
+   * @throws IllegalArgumentException if the size of the file is not a multiple of 16 bytes.
+   * @throws java.io.IOException if the file cannot be opened.
+   */
+  def open(path: Path): MappedComplexArray = this.open(path, writable = false)
+
+  /**
+   * Maps the given file for reading and optionally for writing.
+   *
+   * @param path Path to the file.
+   * @param writable True to allow modifying the array and the file, false to map the file as read-only.
+   * @return A complex array backed by the given file.
+   * @throws IllegalArgumentException if the size of the file is not a multiple of 16 bytes.
+   * @throws java.io.IOException if the file cannot be opened.
+   */
+  def open(path: Path, writable: Boolean): MappedComplexArray = this.open(path, writable, SegmentShift)
+
+  /**
+   * Maps the given file for reading and optionally for writing using segments of the given size.
+   *
+   * @param path Path to the file.
+   * @param writable True to allow modifying the array and the file, false to map the file as read-only.
+   * @param shift Base 2 logarithm of the number of elements in a segment.
+   * @return A complex array backed by the given file.
+   */
+  private[cmplxlib] def open(path: Path, writable: Boolean, shift: Int): MappedComplexArray = {
+    val channel = if (writable) {
+      FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+    } else {
+      FileChannel.open(path, StandardOpenOption.READ)
+    }
+    try {
+      val size = channel.size()
+      require(size % 16 == 0, s"Size of a file of complex numbers must be a multiple of 16 bytes, but was $size")
+      this.map(channel, size / 16, if (writable) FileChannel.MapMode.READ_WRITE else FileChannel.MapMode.READ_ONLY, shift)
+    } catch {
+      case e: Throwable =>
+        channel.close()
+        throw e
+    }
+  }
+
+  /**
+   * Creates a file that can contain the given number of complex numbers and maps it for reading and writing.
+   *
+   * If the file already exists, it is truncated.
+   * All the elements of the new array are zero.
+   *
+   * @param path Path to the file.
+   * @param length The number of complex numbers in the array. Must not be negative.
+   * @return A complex array backed by the new file.
+   * @throws IllegalArgumentException if the length is negative.
+   * @throws java.io.IOException if the file cannot be created.
+   */
+  def create(path: Path, length: Long): MappedComplexArray = this.create(path, length, SegmentShift)
+
+  /**
+   * Creates a file that can contain the given number of complex numbers and maps it using segments of the given size.
+   *
+   * @param path Path to the file.
+   * @param length The number of complex numbers in the array. Must not be negative.
+   * @param shift Base 2 logarithm of the number of elements in a segment.
+   * @return A complex array backed by the new file.
+   */
+  private[cmplxlib] def create(path: Path, length: Long, shift: Int): MappedComplexArray = {
+    require(length >= 0, s"Length must not be negative: $length")
+    val channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)
+    try {
+      this.map(channel, length, FileChannel.MapMode.READ_WRITE, shift)
+    } catch {
+      case e: Throwable =>
+        channel.close()
+        throw e
+    }
+  }
+
+  /**
+   * Maps the given channel in segments.
+   *
+   * @param channel The channel.
+   * @param length The number of complex numbers in the file.
+   * @param mode The mapping mode.
+   * @param shift Base 2 logarithm of the number of elements in a segment.
+   * @return A complex array backed by the given channel.
+   */
+  private def map(channel: FileChannel, length: Long, mode: FileChannel.MapMode, shift: Int): MappedComplexArray = {
+    val segmentBytes = 16L << shift
+    val count = ((16 * length + segmentBytes - 1) / segmentBytes).toInt
+    val mapped = Array.tabulate(count) { s =>
+      val position = s * segmentBytes
+      channel.map(mode, position, math.min(segmentBytes, 16 * length - position))
+    }
+    val segments = mapped.map(_.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer())
+    new MappedComplexArray(channel, length, shift, segments, mapped)
+  }
+}
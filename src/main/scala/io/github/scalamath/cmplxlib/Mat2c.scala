@@ -263,6 +263,81 @@ case class Mat2c(m00: Complex, m01: Complex, m10: Complex, m11: Complex) {
    */
   def multiply(v: Vec2c): Vec2c = this * v
 
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array.
+   *
+   * Vectors are stored as interleaved real and imaginary parts of their components, so that the vector at index `i` of
+   * an array starts at index `4 * i`.
+   * The result of the vector at index `srcOffset + i` is written at index `dstOffset + i`.
+   *
+   * This method does not allocate any object and gives the same result as multiplying this matrix by every vector.
+   * The source and the destination may be the same array if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first vector in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def transformAll(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 2, dst, dstOffset, 2, count)
+    val m00a = this.m00.a
+    val m00b = this.m00.b
+    val m01a = this.m01.a
+    val m01b = this.m01.b
+    val m10a = this.m10.a
+    val m10b = this.m10.b
+    val m11a = this.m11.a
+    val m11b = this.m11.b
+    var s = 4 * srcOffset
+    var d = 4 * dstOffset
+    var i = 0
+    while (i < count) {
+      val xa = src(s)
+      val xb = src(s + 1)
+      val ya = src(s + 2)
+      val yb = src(s + 3)
+      dst(d) = (m00a * xa - m00b * xb) + (m01a * ya - m01b * yb)
+      dst(d + 1) = (m00a * xb + m00b * xa) + (m01a * yb + m01b * ya)
+      dst(d + 2) = (m10a * xa - m10b * xb) + (m11a * ya - m11b * yb)
+      dst(d + 3) = (m10a * xb + m10b * xa) + (m11a * yb + m11b * ya)
+      s += 4
+      d += 4
+      i += 1
+    }
+  }
+
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array at the same index.
+   *
+   * @param src The source array.
+   * @param dst The destination array.
+   * @param offset Index of the first vector in the source array and of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offset are negative or if one of the arrays is too small.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: Array[Double], dst: Array[Double], offset: Int, count: Int): Unit = this.transformAll(src, offset, dst, offset, count)
+
+  /**
+   * Multiplies this matrix by all the vectors stored in the given complex array and writes the results into the given
+   * destination array.
+   *
+   * The source array is treated as a sequence of vectors of 2 components.
+   *
+   * @param src The source array. Its length must be a multiple of 2.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: ComplexArray, dst: ComplexArray): Unit = {
+    require(src.length % 2 == 0, s"Length of the source array is not a multiple of 2: ${src.length}")
+    this.transformAll(src.data, 0, dst.data, 0, src.length / 2)
+  }
+
   /**
    * Multiplies this matrix by the given one and returns the result.
    *
@@ -327,26 +402,214 @@ case class Mat2c(m00: Complex, m01: Complex, m10: Complex, m11: Complex) {
     this.m10.conjugate, this.m11.conjugate
   )
 
+  /**
+   * Returns an [[Expression]] whose result is this matrix.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate matrix.
+   *
+   * @return An expression whose result is this matrix.
+   */
+  def lazily: Expression[Mat2c] = Expression(this, Expression.Mat2cShape)
+
   /**
    * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
    *
    * @return True if this matrix is equal to its transposed, otherwise false.
+   * @see [[isSymmetric(tolerance:Double)*]]
    */
-  def isSymmetric: Boolean = this == this.transposed
+  def isSymmetric: Boolean = this.isSymmetric(0.0)
+
+  /**
+   * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
+   *
+   * Two elements are considered equal if their real parts and their imaginary parts differ by at most the given
+   * tolerance. The elements of this matrix are compared in place, without computing the transposed matrix, and the
+   * check stops at the first pair of elements that are not equal.
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSymmetric(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, this.m10.b, tolerance)
+  }
 
   /**
    * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
    *
    * @return True if this matrix is equal to its negated transposed, otherwise false.
+   * @see [[isSkewSymmetric(tolerance:Double)*]]
    */
-  def isSkewSymmetric: Boolean = this == this.negated.transposed
+  def isSkewSymmetric: Boolean = this.isSkewSymmetric(0.0)
+
+  /**
+   * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its negated transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSkewSymmetric(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.a, -this.m00.a, tolerance) &&
+      ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.a, -this.m11.a, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, -this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance)
+  }
 
   /**
    * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
    *
    * @return True if this matrix is equal to its conjugate transposed, otherwise false.
+   * @see [[isHermitian(tolerance:Double)*]]
+   */
+  def isHermitian: Boolean = this.isHermitian(0.0)
+
+  /**
+   * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its conjugate transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isHermitian(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * @return True if this matrix is diagonal, otherwise false.
+   * @see [[isDiagonal(tolerance:Double)*]]
+   */
+  def isDiagonal: Boolean = this.isDiagonal(0.0)
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * An element is considered zero if its real part and its imaginary part are at most equal to the given tolerance in
+   * absolute value. The elements of this matrix are checked in place and the check stops at the first element that is
+   * not zero.
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements outside of the main diagonal are zero within the given tolerance, otherwise
+   *         false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isDiagonal(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m10.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * @return True if this matrix is upper triangular, otherwise false.
+   * @see [[isUpperTriangular(tolerance:Double)*]]
    */
-  def isHermitian: Boolean = this == this.conjugate.transposed
+  def isUpperTriangular: Boolean = this.isUpperTriangular(0.0)
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements below the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUpperTriangular(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m10.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * @return True if this matrix is lower triangular, otherwise false.
+   * @see [[isLowerTriangular(tolerance:Double)*]]
+   */
+  def isLowerTriangular: Boolean = this.isLowerTriangular(0.0)
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements above the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isLowerTriangular(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * @return True if this matrix is upper triangular or lower triangular, otherwise false.
+   * @see [[isTriangular(tolerance:Double)*]]
+   */
+  def isTriangular: Boolean = this.isTriangular(0.0)
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if this matrix is upper triangular or lower triangular within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isTriangular(tolerance: Double): Boolean = this.isUpperTriangular(tolerance) || this.isLowerTriangular(tolerance)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * @return True if this matrix is unitary, otherwise false.
+   * @see [[isUnitary(tolerance:Double)*]]
+   */
+  def isUnitary: Boolean = this.isUnitary(0.0)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * The product is considered equal to the identity if its real parts and its imaginary parts differ from the ones of
+   * the identity by at most the given tolerance. It is computed one pair of rows at a time and the check stops at the
+   * first pair of rows that are not orthonormal.
+   *
+   * @param tolerance The maximum difference between the parts of the product and of the identity. Must not be
+   *                  negative.
+   * @return True if this matrix is unitary within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUnitary(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    Mat2c.isRowProduct(this.m00, this.m01, this.m00, this.m01, 1.0, tolerance) &&
+      Mat2c.isRowProduct(this.m00, this.m01, this.m10, this.m11, 0.0, tolerance) &&
+      Mat2c.isRowProduct(this.m10, this.m11, this.m10, this.m11, 1.0, tolerance)
+  }
 
   /**
    * Returns the determinant of this matrix.
@@ -377,10 +640,16 @@ case class Mat2c(m00: Complex, m01: Complex, m10: Complex, m11: Complex) {
    *
    * @return The inverse of this matrix.
    */
-  def inverse: Mat2c = this.adjugate / this.determinant
+  def inverse: Mat2c = {
+    val start = Operation.start()
+    try this.adjugate / this.determinant finally Operation.Mat2cInverse.stop(start)
+  }
 
   /**
-   * Raises this matrix to the given power by multiplying it with itself `exp` times and returns the result.
+   * Raises this matrix to the given power and returns the result.
+   *
+   * The power is computed by exponentiation by squaring, which only requires a number of matrix multiplications
+   * proportional to the logarithm of the exponent.
    *
    * If the given exponent is zero, the result will be the identity matrix.
    *
@@ -389,16 +658,65 @@ case class Mat2c(m00: Complex, m01: Complex, m10: Complex, m11: Complex) {
    *
    * @param exp The exponent to raise this matrix to.
    * @return This matrix raised to the given power.
+   * @see [[PowerSequence]]
    */
   def power(exp: Int): Mat2c = {
-    if (exp < 0) {
-      this.inverse.power(-exp)
-    } else if (exp == 1) {
-      this
-    } else if (exp == 0) {
-      Mat2c.Identity
-    } else {
-      this * this.power(exp - 1)
+    val start = Operation.start()
+    try {
+      if (exp == 1) {
+        this
+      } else if (exp == 0) {
+        Mat2c.Identity
+      } else {
+        val m = new Array[Double](8)
+        val res = new Array[Double](8)
+        ComplexKernels.pack(if (exp < 0) this.inverse else this, m, 0)
+        ComplexKernels.power(2, m, 0, math.abs(exp.toLong), res, 0)
+        ComplexKernels.unpack2(res, 0)
+      }
+    } finally {
+      Operation.Mat2cPower.stop(start)
+    }
+  }
+
+  /**
+   * Wraps this matrix into a [[CachedMat2c]], which computes the determinant, the inverse, and the other derived values
+   * of this matrix at most once.
+   *
+   * @return A cached matrix that wraps this matrix.
+   */
+  def cached: CachedMat2c = new CachedMat2c(this)
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of this matrix, which must be hermitian.
+   *
+   * Only the lower triangle and the real part of the diagonal of this matrix are read, the result is undefined if this
+   * matrix is not [[isHermitian hermitian]].
+   *
+   * @return The eigendecomposition of this matrix.
+   */
+  def hermitianEigen: HermitianEigen2c = {
+    val start = Operation.start()
+    try HermitianEigen2c(this) finally Operation.Mat2cHermitianEigen.stop(start)
+  }
+
+  /**
+   * Returns the matrix exponential of this matrix, which is the sum of the series `I + M + M^2 / 2! + M^3 / 3! + ...`.
+   *
+   * The exponential of a 2x2 matrix is computed in closed form from its eigenvalues.
+   *
+   * @return The exponential of this matrix.
+   * @see [[Mat2c.expmAll]]
+   */
+  def expm: Mat2c = {
+    val start = Operation.start()
+    try {
+      val m = new Array[Double](8)
+      ComplexKernels.pack(this, m, 0)
+      new MatrixExponential(2)(m, 0, m, 0)
+      ComplexKernels.unpack2(m, 0)
+    } finally {
+      Operation.Mat2cExpm.stop(start)
     }
   }
 
@@ -418,9 +736,14 @@ case class Mat2c(m00: Complex, m01: Complex, m10: Complex, m11: Complex) {
    * @return This matrix with orthogonal columns of unit length.
    */
   def orthonormalized: Mat2c = {
-    var (v0, v1) = (this.col0, this.col1)
-    v1 = v1 - v1.project(v0)
-    Mat2c.fromColumns(v0.normalized, v1.normalized)
+    val start = Operation.start()
+    try {
+      var (v0, v1) = (this.col0, this.col1)
+      v1 = v1 - v1.project(v0)
+      Mat2c.fromColumns(v0.normalized, v1.normalized)
+    } finally {
+      Operation.Mat2cOrthonormalized.stop(start)
+    }
   }
 
   /**
@@ -488,6 +811,227 @@ object Mat2c {
   /** Shorthand for the zero matrix */
   val Zero: Mat2c = Mat2c(0.0, 0.0, 0.0, 0.0)
 
+  /**
+   * Computes the [[Mat2c.expm matrix exponential]] of `count` consecutive matrices stored in the given source array and
+   * writes the results into the given destination array.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of an array starts at index `8 * i`.
+   * The result of the matrix at index `srcOffset + i` is written at index `dstOffset + i`.
+   *
+   * All the matrices share the same work arrays, therefore this method does not allocate any object for each matrix and
+   * is faster than calling [[Mat2c.expm]] on every matrix.
+   * The results are the same as the ones of [[Mat2c.expm]].
+   * The source and the destination may be the same array if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first matrix in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of matrices.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def expmAll(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 4, dst, dstOffset, 4, count)
+    val kernel = new MatrixExponential(2)
+    var i = 0
+    while (i < count) {
+      kernel(src, 8 * (srcOffset + i), dst, 8 * (dstOffset + i))
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the [[Mat2c.expm matrix exponential]] of all the matrices stored in the given complex array and writes the
+   * results into the given destination array.
+   *
+   * The source array is treated as a sequence of 2x2 matrices stored in row-major order.
+   *
+   * @param src The source array. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[expmAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def expmAll(src: ComplexArray, dst: ComplexArray): Unit = {
+    require(src.length % 4 == 0, s"Length of the source array is not a multiple of 4: ${src.length}")
+    this.expmAll(src.data, 0, dst.data, 0, src.length / 4)
+  }
+
+  /**
+   * Computes the [[Mat2c.hermitianEigen eigenvalues and eigenvectors]] of `count` consecutive hermitian matrices stored in
+   * the given source array.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of the source array starts at index `8 * i`.
+   * The 2 eigenvalues of the matrix at index `srcOffset + i` are written in ascending order into the array of eigenvalues
+   * starting at index `2 * (valuesOffset + i)` and the unitary matrix whose columns are the corresponding eigenvectors is
+   * written into the array of eigenvectors at index `vectorsOffset + i`.
+   *
+   * This method does not allocate any object.
+   * The results are the same as the ones of [[Mat2c.hermitianEigen]].
+   * The source array may be the array of eigenvectors if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first matrix in the source array.
+   * @param values The destination array of the eigenvalues.
+   * @param valuesOffset Index of the first matrix whose eigenvalues are written into the array of eigenvalues.
+   * @param vectors The destination array of the eigenvectors.
+   * @param vectorsOffset Index of the first matrix of eigenvectors in its destination array.
+   * @param count The number of matrices.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def hermitianEigenAll(src: Array[Double], srcOffset: Int, values: Array[Double], valuesOffset: Int, vectors: Array[Double], vectorsOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 4, vectors, vectorsOffset, 4, count)
+    require(valuesOffset >= 0 && 2L * (valuesOffset.toLong + count) <= values.length, s"Array of eigenvalues is too small for $count matrices at offset $valuesOffset")
+    var i = 0
+    while (i < count) {
+      ComplexKernels.eigenHermitian2(src, 8 * (srcOffset + i), values, 2 * (valuesOffset + i), vectors, 8 * (vectorsOffset + i))
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the [[Mat2c.hermitianEigen eigenvalues and eigenvectors]] of all the hermitian matrices stored in the given
+   * complex array.
+   *
+   * The source array is treated as a sequence of 2x2 matrices stored in row-major order.
+   *
+   * @param src The source array. Its length must be a multiple of 4.
+   * @param values The destination array of the eigenvalues. Its length must be at least 2 times the number of matrices.
+   * @param vectors The destination array of the eigenvectors. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[hermitianEigenAll(src:Array[Double],srcOffset:Int,values:Array[Double],valuesOffset:Int,vectors:Array[Double],vectorsOffset:Int,count:Int)*]]
+   */
+  def hermitianEigenAll(src: ComplexArray, values: Array[Double], vectors: ComplexArray): Unit = {
+    require(src.length % 4 == 0, s"Length of the source array is not a multiple of 4: ${src.length}")
+    this.hermitianEigenAll(src.data, 0, values, 0, vectors.data, 0, src.length / 4)
+  }
+
+  /**
+   * Multiplies `count` consecutive matrices stored in the first array by the corresponding matrices stored in the second
+   * array and writes the results into the given destination array.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of an array starts at index `8 * i`.
+   * The product of the matrices at index `aOffset + i` and `bOffset + i` is written at index `dstOffset + i`.
+   *
+   * This method does not allocate any object for each matrix and gives the same results as the `*` operator.
+   * The destination may be one of the two operands if the two offsets are equal.
+   *
+   * @param a The array of the left operands.
+   * @param aOffset Index of the first left operand.
+   * @param b The array of the right operands.
+   * @param bOffset Index of the first right operand.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of products.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def multiplyAll(a: Array[Double], aOffset: Int, b: Array[Double], bOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(a, aOffset, 4, dst, dstOffset, 4, count)
+    ComplexKernels.checkBatch(b, bOffset, 4, dst, dstOffset, 4, count)
+    MatrixChain.multiplyAll(2, a, aOffset, b, bOffset, dst, dstOffset, count, ParallelOps.Sequential)
+  }
+
+  /**
+   * Multiplies all the matrices stored in the first complex array by the corresponding matrices stored in the second
+   * complex array and writes the results into the given destination array.
+   *
+   * The arrays are treated as sequences of 2x2 matrices stored in row-major order.
+   *
+   * @param a The array of the left operands. Its length must be a multiple of 4.
+   * @param b The array of the right operands. Its length must be equal to the one of the first array.
+   * @param dst The destination array. Its length must be at least the one of the first array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[multiplyAll(a:Array[Double],aOffset:Int,b:Array[Double],bOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def multiplyAll(a: ComplexArray, b: ComplexArray, dst: ComplexArray): Unit = this.multiplyAll(a, b, dst, ParallelOps.Sequential)
+
+  /**
+   * Multiplies all the matrices stored in the first complex array by the corresponding matrices stored in the second
+   * complex array in parallel and writes the results into the given destination array.
+   *
+   * The arrays are treated as sequences of 2x2 matrices stored in row-major order.
+   *
+   * @param a The array of the left operands. Its length must be a multiple of 4.
+   * @param b The array of the right operands. Its length must be equal to the one of the first array.
+   * @param dst The destination array. Its length must be at least the one of the first array.
+   * @param parallel The object used to execute the products in parallel.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  def multiplyAll(a: ComplexArray, b: ComplexArray, dst: ComplexArray, parallel: ParallelOps): Unit = {
+    require(a.length % 4 == 0, s"Length of the first array is not a multiple of 4: ${a.length}")
+    require(a.length == b.length, s"Arrays must have the same length: ${a.length} and ${b.length}")
+    ComplexKernels.checkBatch(a.data, 0, 4, dst.data, 0, 4, a.length / 4)
+    MatrixChain.multiplyAll(2, a.data, 0, b.data, 0, dst.data, 0, a.length / 4, parallel)
+  }
+
+  /**
+   * Returns the product of all the matrices stored in the given complex array, from the first one to the last one.
+   *
+   * The array is treated as a sequence of 2x2 matrices `M0, M1, ..., Mk` stored in row-major order and the result is
+   * `M0 * M1 * ... * Mk`.
+   * The product is computed on packed arrays without allocating any object for each matrix.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 4.
+   * @return The product of all the matrices, or the identity matrix if the array is empty.
+   * @throws IllegalArgumentException if the array does not have a valid length.
+   */
+  def product(src: ComplexArray): Mat2c = this.product(src, ParallelOps.Sequential)
+
+  /**
+   * Returns the product of all the matrices stored in the given complex array, from the first one to the last one.
+   *
+   * The array is split in ranges of at most [[ParallelOps.granularity]] matrices, whose products are computed in parallel
+   * and then multiplied in pairs as in a tree.
+   * The result may differ from the one of the sequential version in the last bits, but it only depends on the length of
+   * the array and on the granularity.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 4.
+   * @param parallel The object used to execute the products in parallel.
+   * @return The product of all the matrices, or the identity matrix if the array is empty.
+   * @throws IllegalArgumentException if the array does not have a valid length.
+   */
+  def product(src: ComplexArray, parallel: ParallelOps): Mat2c = {
+    require(src.length % 4 == 0, s"Length of the source array is not a multiple of 4: ${src.length}")
+    ComplexKernels.unpack2(MatrixChain.product(2, src.data, 0, src.length / 4, parallel), 0)
+  }
+
+  /**
+   * Computes all the partial products of the matrices stored in the given complex array and writes them into the given
+   * destination array.
+   *
+   * The array is treated as a sequence of 2x2 matrices `M0, M1, ..., Mk` stored in row-major order and the matrix at
+   * index `i` of the destination array is `M0 * M1 * ... * Mi`.
+   * The destination may be the source array.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  def prefixProducts(src: ComplexArray, dst: ComplexArray): Unit = this.prefixProducts(src, dst, ParallelOps.Sequential)
+
+  /**
+   * Computes all the partial products of the matrices stored in the given complex array in parallel and writes them into
+   * the given destination array.
+   *
+   * The array is split in blocks of at most [[ParallelOps.granularity]] matrices.
+   * The partial products of every block are computed in parallel, then they are multiplied in parallel by the product of
+   * all the previous blocks, which requires about twice as many products as a sequential scan.
+   * The result may differ from the one of the sequential version in the last bits, but it only depends on the length of
+   * the array and on the granularity.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @param parallel The object used to execute the products in parallel.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  def prefixProducts(src: ComplexArray, dst: ComplexArray, parallel: ParallelOps): Unit = {
+    require(src.length % 4 == 0, s"Length of the source array is not a multiple of 4: ${src.length}")
+    ComplexKernels.checkBatch(src.data, 0, 4, dst.data, 0, 4, src.length / 4)
+    MatrixChain.prefixProducts(2, src.data, 0, dst.data, 0, src.length / 4, parallel)
+  }
+
   /**
    * Returns a 2x2 matrix from the given rows.
    *
@@ -542,4 +1086,22 @@ object Mat2c {
    * Implicit conversion from [[Mat2d]] to [[Mat2c]].
    */
   implicit val mat2dToMat2c: Mat2d => Mat2c = m => Mat2c(m.m00, m.m01, m.m10, m.m11)
-}
\ No newline at end of file
+
+  /**
+   * Checks if the product between a row and the [[Complex.conjugate conjugate]] of another row is equal to the given value
+   * within the given tolerance.
+   *
+   * @param x0 Element 0 of the first row.
+   * @param x1 Element 1 of the first row.
+   * @param y0 Element 0 of the second row.
+   * @param y1 Element 1 of the second row.
+   * @param expected The expected value of the product.
+   * @param tolerance The tolerance.
+   * @return True if the product is equal to the expected value within the given tolerance, otherwise false.
+   */
+  private def isRowProduct(x0: Complex, x1: Complex, y0: Complex, y1: Complex, expected: Double, tolerance: Double): Boolean = {
+    val re = x0.a * y0.a + x0.b * y0.b + x1.a * y1.a + x1.b * y1.b
+    val im = x0.b * y0.a - x0.a * y0.b + x1.b * y1.a - x1.a * y1.b
+    ComplexKernels.close(re, expected, tolerance) && ComplexKernels.close(im, 0.0, tolerance)
+  }
+}
@@ -279,6 +279,87 @@ case class Mat2x3c(m00: Complex, m01: Complex, m02: Complex, m10: Complex, m11:
    */
   def multiply(v: Vec3c): Vec2c = this * v
 
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array.
+   *
+   * Vectors are stored as interleaved real and imaginary parts of their components, so that the vector at index `i` of
+   * the source array starts at index `6 * i` and its result starts at index `4 * i` of the destination array.
+   * The result of the vector at index `srcOffset + i` is written at index `dstOffset + i`.
+   *
+   * This method does not allocate any object and gives the same result as multiplying this matrix by every vector.
+   * The source and the destination may be the same array if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first vector in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def transformAll(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 3, dst, dstOffset, 2, count)
+    val m00a = this.m00.a
+    val m00b = this.m00.b
+    val m01a = this.m01.a
+    val m01b = this.m01.b
+    val m02a = this.m02.a
+    val m02b = this.m02.b
+    val m10a = this.m10.a
+    val m10b = this.m10.b
+    val m11a = this.m11.a
+    val m11b = this.m11.b
+    val m12a = this.m12.a
+    val m12b = this.m12.b
+    var s = 6 * srcOffset
+    var d = 4 * dstOffset
+    var i = 0
+    while (i < count) {
+      val xa = src(s)
+      val xb = src(s + 1)
+      val ya = src(s + 2)
+      val yb = src(s + 3)
+      val za = src(s + 4)
+      val zb = src(s + 5)
+      dst(d) = (m00a * xa - m00b * xb) + (m01a * ya - m01b * yb) + (m02a * za - m02b * zb)
+      dst(d + 1) = (m00a * xb + m00b * xa) + (m01a * yb + m01b * ya) + (m02a * zb + m02b * za)
+      dst(d + 2) = (m10a * xa - m10b * xb) + (m11a * ya - m11b * yb) + (m12a * za - m12b * zb)
+      dst(d + 3) = (m10a * xb + m10b * xa) + (m11a * yb + m11b * ya) + (m12a * zb + m12b * za)
+      s += 6
+      d += 4
+      i += 1
+    }
+  }
+
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array at the same index.
+   *
+   * @param src The source array.
+   * @param dst The destination array.
+   * @param offset Index of the first vector in the source array and of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offset are negative or if one of the arrays is too small.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: Array[Double], dst: Array[Double], offset: Int, count: Int): Unit = this.transformAll(src, offset, dst, offset, count)
+
+  /**
+   * Multiplies this matrix by all the vectors stored in the given complex array and writes the results into the given
+   * destination array.
+   *
+   * The source array is treated as a sequence of vectors of 3 components, the destination as a sequence of vectors of 2 components.
+   *
+   * @param src The source array. Its length must be a multiple of 3.
+   * @param dst The destination array. Its length must be at least 2 times the number of vectors in the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: ComplexArray, dst: ComplexArray): Unit = {
+    require(src.length % 3 == 0, s"Length of the source array is not a multiple of 3: ${src.length}")
+    this.transformAll(src.data, 0, dst.data, 0, src.length / 3)
+  }
+
   /**
    * Multiplies this matrix by the vector with the given components and returns the result.
    *
@@ -338,6 +419,16 @@ case class Mat2x3c(m00: Complex, m01: Complex, m02: Complex, m10: Complex, m11:
     this.m10.conjugate, this.m11.conjugate, this.m12.conjugate
   )
 
+  /**
+   * Returns an [[Expression]] whose result is this matrix.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate matrix.
+   *
+   * @return An expression whose result is this matrix.
+   */
+  def lazily: Expression[Mat2x3c] = Expression(this, Expression.Mat2x3cShape)
+
   /**
    * Returns a matrix with all elements in absolute value.
    *
@@ -354,10 +445,15 @@ case class Mat2x3c(m00: Complex, m01: Complex, m02: Complex, m10: Complex, m11:
    * @return This matrix with orthogonal columns of unit length.
    */
   def orthonormalized: Mat2x3c = {
-    var (v0, v1, v2) = (this.col0, this.col1, this.col2)
-    v1 = v1 - v1.project(v0)
-    v2 = v2 - v2.project(v0) - v2.project(v1)
-    Mat2x3c.fromColumns(v0.normalized, v1.normalized, v2.normalized)
+    val start = Operation.start()
+    try {
+      var (v0, v1, v2) = (this.col0, this.col1, this.col2)
+      v1 = v1 - v1.project(v0)
+      v2 = v2 - v2.project(v0) - v2.project(v1)
+      Mat2x3c.fromColumns(v0.normalized, v1.normalized, v2.normalized)
+    } finally {
+      Operation.Mat2x3cOrthonormalized.stop(start)
+    }
   }
 
   /**
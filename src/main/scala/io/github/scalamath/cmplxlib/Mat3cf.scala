@@ -0,0 +1,905 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.vecmatlib.Mat3f
+
+/**
+ * A 3x3 single-precision complex matrix.
+ *
+ * This class has the same operations as [[Mat3c]], but its components are [[Complex32]] numbers, which halves the memory
+ * needed to store large amounts of matrices.
+ * Matrices can be converted to double precision with [[toMat3c]] and from double precision with [[Mat3cf.fromMat3c]].
+ *
+ * @constructor Constructs a matrix from the given values.
+ * @param m00 Element 0 0
+ * @param m01 Element 0 1
+ * @param m02 Element 0 2
+ * @param m10 Element 1 0
+ * @param m11 Element 1 1
+ * @param m12 Element 1 2
+ * @param m20 Element 2 0
+ * @param m21 Element 2 1
+ * @param m22 Element 2 2
+ */
+case class Mat3cf(
+                  m00: Complex32, m01: Complex32, m02: Complex32,
+                  m10: Complex32, m11: Complex32, m12: Complex32,
+                  m20: Complex32, m21: Complex32, m22: Complex32
+                ) {
+
+  /**
+   * Adds the given matrix to this one and returns the result.
+   *
+   * @param m The matrix to add.
+   * @return The sum between this matrix and the given one.
+   */
+  def +(m: Mat3cf): Mat3cf = Mat3cf(
+    this.m00 + m.m00, this.m01 + m.m01, this.m02 + m.m02,
+    this.m10 + m.m10, this.m11 + m.m11, this.m12 + m.m12,
+    this.m20 + m.m20, this.m21 + m.m21, this.m22 + m.m22
+  )
+
+  /**
+   * Adds the given matrix to this one and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param m The matrix to add.
+   * @return The sum between this matrix and the given one.
+   */
+  def plus(m: Mat3cf): Mat3cf = this + m
+
+  /**
+   * Returns this same matrix.
+   *
+   * The unary `+` operator does nothing, but can sometimes make the code more readable.
+   *
+   * @return This matrix.
+   */
+  def unary_+ : Mat3cf = this
+
+  /**
+   * Subtracts the given matrix from this one and returns the result.
+   *
+   * @param m The matrix to subtract.
+   * @return The subtraction between this matrix and the given one.
+   */
+  def -(m: Mat3cf): Mat3cf = Mat3cf(
+    this.m00 - m.m00, this.m01 - m.m01, this.m02 - m.m02,
+    this.m10 - m.m10, this.m11 - m.m11, this.m12 - m.m12,
+    this.m20 - m.m20, this.m21 - m.m21, this.m22 - m.m22
+  )
+
+  /**
+   * Subtracts the given matrix from this one and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param m The matrix to subtract.
+   * @return The subtraction between this matrix and the given one.
+   */
+  def minus(m: Mat3cf): Mat3cf = this - m
+
+  /**
+   * Returns the additive inverse of this matrix.
+   *
+   * @return The additive inverse of this matrix.
+   */
+  def unary_- : Mat3cf = Mat3cf(
+    -this.m00, -this.m01, -this.m02,
+    -this.m10, -this.m11, -this.m12,
+    -this.m20, -this.m21, -this.m22
+  )
+
+  /**
+   * Returns the additive inverse of this matrix.
+   *
+   * This method can be used in place of the unary `-` operator for better interoperability with Java.
+   *
+   * @return The additive inverse of this matrix.
+   */
+  def negated: Mat3cf = -this
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def *(k: Complex32): Mat3cf = Mat3cf(
+    this.m00 * k, this.m01 * k, this.m02 * k,
+    this.m10 * k, this.m11 * k, this.m12 * k,
+    this.m20 * k, this.m21 * k, this.m22 * k
+  )
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def multipliedBy(k: Complex32): Mat3cf = this * k
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def *(k: Float): Mat3cf = Mat3cf(
+    this.m00 * k, this.m01 * k, this.m02 * k,
+    this.m10 * k, this.m11 * k, this.m12 * k,
+    this.m20 * k, this.m21 * k, this.m22 * k
+  )
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def multipliedBy(k: Float): Mat3cf = this * k
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def /(k: Complex32): Mat3cf = Mat3cf(
+    this.m00 / k, this.m01 / k, this.m02 / k,
+    this.m10 / k, this.m11 / k, this.m12 / k,
+    this.m20 / k, this.m21 / k, this.m22 / k
+  )
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def dividedBy(k: Complex32): Mat3cf = this / k
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def /(k: Float): Mat3cf = Mat3cf(
+    this.m00 / k, this.m01 / k, this.m02 / k,
+    this.m10 / k, this.m11 / k, this.m12 / k,
+    this.m20 / k, this.m21 / k, this.m22 / k
+  )
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def dividedBy(k: Float): Mat3cf = this / k
+
+  /**
+   * Returns the first row of this matrix as a [[Vec3cf]].
+   *
+   * @return The first row of this matrix.
+   * @see [[row]]
+   */
+  def row0: Vec3cf = Vec3cf(this.m00, this.m01, this.m02)
+
+  /**
+   * Returns the second row of this matrix as a [[Vec3cf]].
+   *
+   * @return The second row of this matrix.
+   * @see [[row]]
+   */
+  def row1: Vec3cf = Vec3cf(this.m10, this.m11, this.m12)
+
+  /**
+   * Returns the third row of this matrix as a [[Vec3cf]].
+   *
+   * @return The third row of this matrix.
+   * @see [[row]]
+   */
+  def row2: Vec3cf = Vec3cf(this.m20, this.m21, this.m22)
+
+  /**
+   * Returns the row at the given index as a [[Vec3cf]].
+   *
+   * @param i The index of the requested row. Must be either 0, 1, or 2.
+   * @return The row at the given index.
+   * @throws MatchError If the given index is out of bounds.
+   * @see [[row0]], [[row1]], and [[row2]]
+   */
+  def row(i: Int): Vec3cf = i match {
+    case 0 => this.row0
+    case 1 => this.row1
+    case 2 => this.row2
+  }
+
+  /**
+   * Returns the first column of this matrix as a [[Vec3cf]].
+   *
+   * @return The first column of this matrix.
+   * @see [[col]]
+   */
+  def col0: Vec3cf = Vec3cf(this.m00, this.m10, this.m20)
+
+  /**
+   * Returns the second column of this matrix as a [[Vec3cf]].
+   *
+   * @return The second column of this matrix.
+   * @see [[col]]
+   */
+  def col1: Vec3cf = Vec3cf(this.m01, this.m11, this.m21)
+
+  /**
+   * Returns the third column of this matrix as a [[Vec3cf]].
+   *
+   * @return The third column of this matrix.
+   * @see [[col]]
+   */
+  def col2: Vec3cf = Vec3cf(this.m02, this.m12, this.m22)
+
+  /**
+   * Returns the column at the given index as a [[Vec3cf]].
+   *
+   * @param i The index of the requested column. Must be either 0, 1, or 2.
+   * @return The column at the given index.
+   * @throws MatchError If the given index is out of bounds.
+   * @see [[col0]], [[col1]], and [[col2]]
+   */
+  def col(i: Int): Vec3cf = i match {
+    case 0 => this.col0
+    case 1 => this.col1
+    case 2 => this.col2
+  }
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * @param x The vector's x component.
+   * @param y The vector's y component.
+   * @param z The vector's z component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def *(x: Complex32, y: Complex32, z: Complex32): Vec3cf = Vec3cf(
+    this.m00 * x + this.m01 * y + this.m02 * z,
+    this.m10 * x + this.m11 * y + this.m12 * z,
+    this.m20 * x + this.m21 * y + this.m22 * z
+  )
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param x The vector's x component.
+   * @param y The vector's y component.
+   * @param z The vector's z component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def multiply(x: Complex32, y: Complex32, z: Complex32): Vec3cf = this * (x, y, z)
+
+  /**
+   * Multiplies this matrix by the given vector and returns the result.
+   *
+   * @param v The vector to multiply this matrix by.
+   * @return The product of this matrix by the given vector.
+   */
+  def *(v: Vec3cf): Vec3cf = this * (v.x, v.y, v.z)
+
+  /**
+   * Multiplies this matrix by the given vector and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param v The vector to multiply this matrix by.
+   * @return The product of this matrix by the given vector.
+   */
+  def multiply(v: Vec3cf): Vec3cf = this * v
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * Useful to simplify the transformation of a 2D point.
+   *
+   * @param xy The vector's x and y components.
+   * @param z The vector's z component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def *(xy: Vec2cf, z: Complex32): Vec3cf = this * (xy.x, xy.y, z)
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * Useful to simplify the transformation of a 2D point.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param xy The vector's x and y components.
+   * @param z The vector's z component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def multiply(xy: Vec2cf, z: Complex32): Vec3cf = this * (xy, z)
+
+  /**
+   * Multiplies this matrix by the given one and returns the result.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return The product between this matrix and the given one.
+   */
+  def *(m: Mat3cf): Mat3cf = Mat3cf(
+    this.m00 * m.m00 + this.m01 * m.m10 + this.m02 * m.m20,
+    this.m00 * m.m01 + this.m01 * m.m11 + this.m02 * m.m21,
+    this.m00 * m.m02 + this.m01 * m.m12 + this.m02 * m.m22,
+    this.m10 * m.m00 + this.m11 * m.m10 + this.m12 * m.m20,
+    this.m10 * m.m01 + this.m11 * m.m11 + this.m12 * m.m21,
+    this.m10 * m.m02 + this.m11 * m.m12 + this.m12 * m.m22,
+    this.m20 * m.m00 + this.m21 * m.m10 + this.m22 * m.m20,
+    this.m20 * m.m01 + this.m21 * m.m11 + this.m22 * m.m21,
+    this.m20 * m.m02 + this.m21 * m.m12 + this.m22 * m.m22
+  )
+
+  /**
+   * Multiplies this matrix by the given one and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return The product between this matrix and the given one.
+   */
+  def multiply(m: Mat3cf): Mat3cf = this * m
+
+  /**
+   * Returns the transposed of this matrix.
+   *
+   * The transposed of a matrix is obtained by switching its rows and its columns.
+   *
+   * @return The transposed of this matrix.
+   */
+  def transposed: Mat3cf = Mat3cf(
+    this.m00, this.m10, this.m20,
+    this.m01, this.m11, this.m21,
+    this.m02, this.m12, this.m22
+  )
+
+  /**
+   * Returns the conjugate of this complex matrix.
+   *
+   * @return The conjugate of this complex matrix.
+   */
+  def conjugate: Mat3cf = Mat3cf(
+    this.m00.conjugate, this.m01.conjugate, this.m02.conjugate,
+    this.m10.conjugate, this.m11.conjugate, this.m12.conjugate,
+    this.m20.conjugate, this.m21.conjugate, this.m22.conjugate
+  )
+
+  /**
+   * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
+   *
+   * @return True if this matrix is equal to its transposed, otherwise false.
+   * @see [[isSymmetric(tolerance:Float)*]]
+   */
+  def isSymmetric: Boolean = this.isSymmetric(0.0f)
+
+  /**
+   * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
+   *
+   * Two elements are considered equal if their real parts and their imaginary parts differ by at most the given
+   * tolerance. The elements of this matrix are compared in place, without computing the transposed matrix, and the
+   * check stops at the first pair of elements that are not equal.
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSymmetric(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, this.m21.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
+   *
+   * @return True if this matrix is equal to its negated transposed, otherwise false.
+   * @see [[isSkewSymmetric(tolerance:Float)*]]
+   */
+  def isSkewSymmetric: Boolean = this.isSkewSymmetric(0.0f)
+
+  /**
+   * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its negated transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSkewSymmetric(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.a, -this.m00.a, tolerance) &&
+      ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.a, -this.m11.a, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m22.a, -this.m22.a, tolerance) &&
+      ComplexKernels.close(this.m22.b, -this.m22.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, -this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, -this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, -this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, -this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, -this.m21.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
+   *
+   * @return True if this matrix is equal to its conjugate transposed, otherwise false.
+   * @see [[isHermitian(tolerance:Float)*]]
+   */
+  def isHermitian: Boolean = this.isHermitian(0.0f)
+
+  /**
+   * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its conjugate transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isHermitian(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m22.b, -this.m22.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, -this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, -this.m21.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * @return True if this matrix is diagonal, otherwise false.
+   * @see [[isDiagonal(tolerance:Float)*]]
+   */
+  def isDiagonal: Boolean = this.isDiagonal(0.0f)
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * An element is considered zero if its real part and its imaginary part are at most equal to the given tolerance in
+   * absolute value. The elements of this matrix are checked in place and the check stops at the first element that is
+   * not zero.
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements outside of the main diagonal are zero within the given tolerance, otherwise
+   *         false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isDiagonal(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m10.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.b, 0.0f, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * @return True if this matrix is upper triangular, otherwise false.
+   * @see [[isUpperTriangular(tolerance:Float)*]]
+   */
+  def isUpperTriangular: Boolean = this.isUpperTriangular(0.0f)
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements below the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUpperTriangular(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m10.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.b, 0.0f, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * @return True if this matrix is lower triangular, otherwise false.
+   * @see [[isLowerTriangular(tolerance:Float)*]]
+   */
+  def isLowerTriangular: Boolean = this.isLowerTriangular(0.0f)
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements above the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isLowerTriangular(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.b, 0.0f, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * @return True if this matrix is upper triangular or lower triangular, otherwise false.
+   * @see [[isTriangular(tolerance:Float)*]]
+   */
+  def isTriangular: Boolean = this.isTriangular(0.0f)
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if this matrix is upper triangular or lower triangular within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isTriangular(tolerance: Float): Boolean = this.isUpperTriangular(tolerance) || this.isLowerTriangular(tolerance)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * @return True if this matrix is unitary, otherwise false.
+   * @see [[isUnitary(tolerance:Float)*]]
+   */
+  def isUnitary: Boolean = this.isUnitary(0.0f)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * The product is considered equal to the identity if its real parts and its imaginary parts differ from the ones of
+   * the identity by at most the given tolerance. It is computed one pair of rows at a time and the check stops at the
+   * first pair of rows that are not orthonormal.
+   *
+   * @param tolerance The maximum difference between the parts of the product and of the identity. Must not be
+   *                  negative.
+   * @return True if this matrix is unitary within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUnitary(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    Mat3cf.isRowProduct(this.m00, this.m01, this.m02, this.m00, this.m01, this.m02, 1.0f, tolerance) &&
+      Mat3cf.isRowProduct(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, 0.0f, tolerance) &&
+      Mat3cf.isRowProduct(this.m00, this.m01, this.m02, this.m20, this.m21, this.m22, 0.0f, tolerance) &&
+      Mat3cf.isRowProduct(this.m10, this.m11, this.m12, this.m10, this.m11, this.m12, 1.0f, tolerance) &&
+      Mat3cf.isRowProduct(this.m10, this.m11, this.m12, this.m20, this.m21, this.m22, 0.0f, tolerance) &&
+      Mat3cf.isRowProduct(this.m20, this.m21, this.m22, this.m20, this.m21, this.m22, 1.0f, tolerance)
+  }
+
+  /**
+   * Returns a submatrix of this matrix obtained by removing the row at index `i` and the column at index `j`.
+   *
+   * @param i Index of the row to remove. Must be either 0, 1, or 2.
+   * @param j Index of the column to remove. Must be either 0, 1, or 2.
+   * @return A submatrix of this matrix.
+   * @throws MatchError if one of the given indices is out of bounds.
+   */
+  def submatrix(i: Int, j: Int): Mat2cf = (i, j) match {
+    case (0, 0) => Mat2cf(this.m11, this.m12, this.m21, this.m22)
+    case (0, 1) => Mat2cf(this.m10, this.m12, this.m20, this.m22)
+    case (0, 2) => Mat2cf(this.m10, this.m11, this.m20, this.m21)
+    case (1, 0) => Mat2cf(this.m01, this.m02, this.m21, this.m22)
+    case (1, 1) => Mat2cf(this.m00, this.m02, this.m20, this.m22)
+    case (1, 2) => Mat2cf(this.m00, this.m01, this.m20, this.m21)
+    case (2, 0) => Mat2cf(this.m01, this.m02, this.m11, this.m12)
+    case (2, 1) => Mat2cf(this.m00, this.m02, this.m10, this.m12)
+    case (2, 2) => Mat2cf(this.m00, this.m01, this.m10, this.m11)
+  }
+
+  /**
+   * Returns the determinant of this matrix.
+   *
+   * @return The determinant of this matrix.
+   */
+  def determinant: Complex32 = this.m00 * (this.m11 * this.m22 - this.m21 * this.m12) - this.m01 * (this.m10 * this.m22 - this.m20 * this.m12) + this.m02 * (this.m10 * this.m21 - this.m20 * this.m11)
+
+  /**
+   * Returns the adjugate of this matrix.
+   *
+   * @return The adjugate of this matrix.
+   */
+  def adjugate: Mat3cf = Mat3cf(
+    this.m11 * this.m22 - this.m21 * this.m12, this.m02 * this.m21 - this.m01 * this.m22, this.m01 * this.m12 - this.m11 * this.m02,
+    this.m12 * this.m20 - this.m10 * this.m22, this.m00 * this.m22 - this.m20 * this.m02, this.m02 * this.m10 - this.m00 * this.m12,
+    this.m10 * this.m21 - this.m20 * this.m11, this.m20 * this.m01 - this.m00 * this.m21, this.m00 * this.m11 - this.m10 * this.m01
+  )
+
+  /**
+   * Returns the inverse of this matrix.
+   *
+   * The result is undefined if this matrix is not invertible.
+   * It is possible to check if the matrix is invertible by checking if its [[determinant]] is not zero.
+   *
+   * @return The inverse of this matrix.
+   */
+  def inverse: Mat3cf = Mat3cf.fromMat3c(this.toMat3c.inverse)
+
+  /**
+   * Raises this matrix to the given power and returns the result.
+   *
+   * The power is computed in double precision by exponentiation by squaring and is rounded to single precision.
+   *
+   * If the given exponent is zero, the result will be the identity matrix.
+   *
+   * A matrix raised to a negative power is defined as the [[inverse]] matrix raised to `-exp`.
+   * The result is undefined if the given exponent is negative and this matrix is not invertible.
+   *
+   * @param exp The exponent to raise this matrix to.
+   * @return This matrix raised to the given power.
+   */
+  def power(exp: Int): Mat3cf = Mat3cf.fromMat3c(this.toMat3c.power(exp))
+
+  /**
+   * Returns the matrix exponential of this matrix, which is the sum of the series `I + M + M^2 / 2! + M^3 / 3! + ...`.
+   *
+   * The exponential is computed in double precision and rounded.
+   *
+   * @return The exponential of this matrix.
+   * @see [[Mat3c.expm]]
+   */
+  def expm: Mat3cf = Mat3cf.fromMat3c(this.toMat3c.expm)
+
+  /**
+   * Returns a matrix with all elements in absolute value.
+   *
+   * @return A matrix with all elements in absolute value.
+   */
+  def abs: Mat3f = Mat3f(
+    Complex32.abs(this.m00), Complex32.abs(this.m01), Complex32.abs(this.m02),
+    Complex32.abs(this.m10), Complex32.abs(this.m11), Complex32.abs(this.m12),
+    Complex32.abs(this.m20), Complex32.abs(this.m21), Complex32.abs(this.m22)
+  )
+
+  /**
+   * Constructs an orthonormal matrix from the columns of this matrix using the Gram-Schmidt procedure.
+   *
+   * @return This matrix with orthogonal columns of unit length.
+   */
+  def orthonormalized: Mat3cf = {
+    var (v0, v1, v2) = (this.col0, this.col1, this.col2)
+    v1 = v1 - v1.project(v0)
+    v2 = v2 - v2.project(v0) - v2.project(v1)
+    Mat3cf.fromColumns(v0.normalized, v1.normalized, v2.normalized)
+  }
+
+  /**
+   * Checks if this matrix is approximately equal to the given one using an internal epsilon.
+   *
+   * @param m The second matrix.
+   * @return True if this matrix is approximately equal to the given one, otherwise false.
+   */
+  def ~=(m: Mat3cf): Boolean = (this.m00 ~= m.m00) && (this.m01 ~= m.m01) && (this.m02 ~= m.m02) &&
+    (this.m10 ~= m.m10) && (this.m11 ~= m.m11) && (this.m12 ~= m.m12) &&
+    (this.m20 ~= m.m20) && (this.m21 ~= m.m21) && (this.m22 ~= m.m22)
+
+  /**
+   * Checks if this matrix is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator.
+   *
+   * @param m The second matrix.
+   * @return True if this matrix is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(m: Mat3cf): Boolean = this ~= m
+
+  /**
+   * Returns the element at the given row and column index.
+   *
+   * @param row The row index of the desired element. Must be either 0, 1, or 2.
+   * @param col The column index of the desired element. Must be either 0, 1, or 2.
+   * @return The element at the given row and column index.
+   * @throws MatchError If any of the given indices is out of bounds.
+   */
+  def apply(row: Int, col: Int): Complex32 = (row, col) match {
+    case (0, 0) => this.m00
+    case (0, 1) => this.m01
+    case (0, 2) => this.m02
+    case (1, 0) => this.m10
+    case (1, 1) => this.m11
+    case (1, 2) => this.m12
+    case (2, 0) => this.m20
+    case (2, 1) => this.m21
+    case (2, 2) => this.m22
+  }
+
+  /**
+   * Returns a matrix whose elements are the real part of the elements of this matrix.
+   *
+   * @return A matrix whose elements are the real part of the elements of this matrix.
+   */
+  def real: Mat3f = Mat3f(
+    this.m00.real, this.m01.real, this.m02.real,
+    this.m10.real, this.m11.real, this.m12.real,
+    this.m20.real, this.m21.real, this.m22.real
+  )
+
+  /**
+   * Returns a matrix whose elements are the imaginary part of the elements of this matrix.
+   *
+   * @return A matrix whose elements are the imaginary part of the elements of this matrix.
+   */
+  def imaginary: Mat3f = Mat3f(
+    this.m00.imaginary, this.m01.imaginary, this.m02.imaginary,
+    this.m10.imaginary, this.m11.imaginary, this.m12.imaginary,
+    this.m20.imaginary, this.m21.imaginary, this.m22.imaginary
+  )
+
+  /**
+   * Converts this matrix to a double-precision matrix.
+   *
+   * The conversion is exact.
+   *
+   * @return A double-precision matrix equal to this one.
+   */
+  def toMat3c: Mat3c = Mat3c(
+    this.m00.toComplex, this.m01.toComplex, this.m02.toComplex,
+    this.m10.toComplex, this.m11.toComplex, this.m12.toComplex,
+    this.m20.toComplex, this.m21.toComplex, this.m22.toComplex
+  )
+}
+
+/**
+ * Constants, factory methods, and implicits for matrices.
+ */
+object Mat3cf {
+
+  /** Shorthand for the zero matrix */
+  val Zero: Mat3cf = Mat3cf(0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f)
+
+  /** Shorthand for the identity matrix */
+  val Identity: Mat3cf = Mat3cf(1.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 1.0f)
+
+  /**
+   * Converts the given double-precision matrix to single precision.
+   *
+   * The real and imaginary part of every component are rounded to the nearest float.
+   *
+   * @param m The double-precision matrix.
+   * @return The single-precision matrix nearest to the given one.
+   */
+  def fromMat3c(m: Mat3c): Mat3cf = Mat3cf(
+    Complex32.fromComplex(m.m00), Complex32.fromComplex(m.m01), Complex32.fromComplex(m.m02),
+    Complex32.fromComplex(m.m10), Complex32.fromComplex(m.m11), Complex32.fromComplex(m.m12),
+    Complex32.fromComplex(m.m20), Complex32.fromComplex(m.m21), Complex32.fromComplex(m.m22)
+  )
+
+  /**
+   * Returns a 3x3 matrix from the given rows.
+   *
+   * @param row0 The first row.
+   * @param row1 The second row.
+   * @param row2 The third row.
+   * @return A 3x3 matrix from the given rows.
+   */
+  def fromRows(row0: Vec3cf, row1: Vec3cf, row2: Vec3cf): Mat3cf = Mat3cf(
+    row0.x, row0.y, row0.z,
+    row1.x, row1.y, row1.z,
+    row2.x, row2.y, row2.z
+  )
+
+  /**
+   * Returns a 3x3 matrix from the given columns.
+   *
+   * @param col0 The first column.
+   * @param col1 The second column.
+   * @param col2 The third column.
+   * @return A 3x3 matrix from the given columns.
+   */
+  def fromColumns(col0: Vec3cf, col1: Vec3cf, col2: Vec3cf): Mat3cf = Mat3cf(
+    col0.x, col1.x, col2.x,
+    col0.y, col1.y, col2.y,
+    col0.z, col1.z, col2.z
+  )
+
+  /**
+   * Allows to use the `*` operator with a complex number as `z * matrix`.
+   *
+   * @param self The scalar value.
+   */
+  implicit class ComplexExtender(val self: Complex32) extends AnyVal {
+
+    /**
+     * Multiplies the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the given vector.
+     */
+    def *(v: Mat3cf): Mat3cf = v * self
+  }
+
+  /**
+   * Allows to use the `*` operator with a real number as `k * matrix`.
+   *
+   * @param self The scalar value.
+   */
+  implicit class RealExtender(val self: Float) extends AnyVal {
+
+    /**
+     * Multiplies the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the given vector.
+     */
+    def *(v: Mat3cf): Mat3cf = v * self
+  }
+
+  /**
+   * Implicit conversion from [[Mat3f]] to [[Mat3cf]].
+   */
+  implicit val mat3fToMat3cf: Mat3f => Mat3cf = m => Mat3cf(m.m00, m.m01, m.m02, m.m10, m.m11, m.m12, m.m20, m.m21, m.m22)
+
+  /**
+   * Implicit conversion from [[Mat3cf]] to [[Mat3c]].
+   */
+  implicit val mat3cfToMat3c: Mat3cf => Mat3c = m => m.toMat3c
+
+  /**
+   * Checks if the product between a row and the [[Complex32.conjugate conjugate]] of another row is equal to the given value
+   * within the given tolerance.
+   *
+   * @param x0 Element 0 of the first row.
+   * @param x1 Element 1 of the first row.
+   * @param x2 Element 2 of the first row.
+   * @param y0 Element 0 of the second row.
+   * @param y1 Element 1 of the second row.
+   * @param y2 Element 2 of the second row.
+   * @param expected The expected value of the product.
+   * @param tolerance The tolerance.
+   * @return True if the product is equal to the expected value within the given tolerance, otherwise false.
+   */
+  private def isRowProduct(x0: Complex32, x1: Complex32, x2: Complex32, y0: Complex32, y1: Complex32, y2: Complex32, expected: Float, tolerance: Float): Boolean = {
+    val re = x0.a * y0.a + x0.b * y0.b + x1.a * y1.a + x1.b * y1.b + x2.a * y2.a + x2.b * y2.b
+    val im = x0.b * y0.a - x0.a * y0.b + x1.b * y1.a - x1.a * y1.b + x2.b * y2.a - x2.a * y2.b
+    ComplexKernels.close(re, expected, tolerance) && ComplexKernels.close(im, 0.0f, tolerance)
+  }
+}
@@ -316,6 +316,103 @@ case class Mat3x4c(
    */
   def multiply(v: Vec4c): Vec3c = this * v
 
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array.
+   *
+   * Vectors are stored as interleaved real and imaginary parts of their components, so that the vector at index `i` of
+   * the source array starts at index `8 * i` and its result starts at index `6 * i` of the destination array.
+   * The result of the vector at index `srcOffset + i` is written at index `dstOffset + i`.
+   *
+   * This method does not allocate any object and gives the same result as multiplying this matrix by every vector.
+   * The source and the destination may be the same array if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first vector in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def transformAll(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 4, dst, dstOffset, 3, count)
+    val m00a = this.m00.a
+    val m00b = this.m00.b
+    val m01a = this.m01.a
+    val m01b = this.m01.b
+    val m02a = this.m02.a
+    val m02b = this.m02.b
+    val m03a = this.m03.a
+    val m03b = this.m03.b
+    val m10a = this.m10.a
+    val m10b = this.m10.b
+    val m11a = this.m11.a
+    val m11b = this.m11.b
+    val m12a = this.m12.a
+    val m12b = this.m12.b
+    val m13a = this.m13.a
+    val m13b = this.m13.b
+    val m20a = this.m20.a
+    val m20b = this.m20.b
+    val m21a = this.m21.a
+    val m21b = this.m21.b
+    val m22a = this.m22.a
+    val m22b = this.m22.b
+    val m23a = this.m23.a
+    val m23b = this.m23.b
+    var s = 8 * srcOffset
+    var d = 6 * dstOffset
+    var i = 0
+    while (i < count) {
+      val xa = src(s)
+      val xb = src(s + 1)
+      val ya = src(s + 2)
+      val yb = src(s + 3)
+      val za = src(s + 4)
+      val zb = src(s + 5)
+      val wa = src(s + 6)
+      val wb = src(s + 7)
+      dst(d) = (m00a * xa - m00b * xb) + (m01a * ya - m01b * yb) + (m02a * za - m02b * zb) + (m03a * wa - m03b * wb)
+      dst(d + 1) = (m00a * xb + m00b * xa) + (m01a * yb + m01b * ya) + (m02a * zb + m02b * za) + (m03a * wb + m03b * wa)
+      dst(d + 2) = (m10a * xa - m10b * xb) + (m11a * ya - m11b * yb) + (m12a * za - m12b * zb) + (m13a * wa - m13b * wb)
+      dst(d + 3) = (m10a * xb + m10b * xa) + (m11a * yb + m11b * ya) + (m12a * zb + m12b * za) + (m13a * wb + m13b * wa)
+      dst(d + 4) = (m20a * xa - m20b * xb) + (m21a * ya - m21b * yb) + (m22a * za - m22b * zb) + (m23a * wa - m23b * wb)
+      dst(d + 5) = (m20a * xb + m20b * xa) + (m21a * yb + m21b * ya) + (m22a * zb + m22b * za) + (m23a * wb + m23b * wa)
+      s += 8
+      d += 6
+      i += 1
+    }
+  }
+
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array at the same index.
+   *
+   * @param src The source array.
+   * @param dst The destination array.
+   * @param offset Index of the first vector in the source array and of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offset are negative or if one of the arrays is too small.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: Array[Double], dst: Array[Double], offset: Int, count: Int): Unit = this.transformAll(src, offset, dst, offset, count)
+
+  /**
+   * Multiplies this matrix by all the vectors stored in the given complex array and writes the results into the given
+   * destination array.
+   *
+   * The source array is treated as a sequence of vectors of 4 components, the destination as a sequence of vectors of 3 components.
+   *
+   * @param src The source array. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least 3 times the number of vectors in the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: ComplexArray, dst: ComplexArray): Unit = {
+    require(src.length % 4 == 0, s"Length of the source array is not a multiple of 4: ${src.length}")
+    this.transformAll(src.data, 0, dst.data, 0, src.length / 4)
+  }
+
   /**
    * Multiplies this matrix by the vector with the given components and returns the result.
    *
@@ -408,6 +505,16 @@ case class Mat3x4c(
     this.m20.conjugate, this.m21.conjugate, this.m22.conjugate, this.m23.conjugate
   )
 
+  /**
+   * Returns an [[Expression]] whose result is this matrix.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate matrix.
+   *
+   * @return An expression whose result is this matrix.
+   */
+  def lazily: Expression[Mat3x4c] = Expression(this, Expression.Mat3x4cShape)
+
   /**
    * Returns a matrix with all elements in absolute value.
    *
@@ -420,16 +527,38 @@ case class Mat3x4c(
   )
 
   /**
-   * Constructs an orthonormal matrix from the columns of this matrix using the Gram-Schmidt procedure.
+   * Computes the QR decomposition of this matrix using Householder reflections.
    *
-   * @return This matrix with orthogonal columns of unit length.
+   * The decomposition factors this matrix into a 3x3 unitary matrix and a 3x4 upper trapezoidal matrix.
+   *
+   * @return The QR decomposition of this matrix.
+   */
+  def qrDecomposition: QRDecomposition3x4c = {
+    val start = Operation.start()
+    try QRDecomposition3x4c(this) finally Operation.Mat3x4cQrDecomposition.stop(start)
+  }
+
+  /**
+   * Constructs an orthonormal matrix from the columns of this matrix.
+   *
+   * The first three columns of the result are the columns of the unitary factor of the
+   * [[qrDecomposition QR decomposition]] of this matrix, which is computed with Householder reflections.
+   * Since four vectors in three dimensions cannot be orthogonal, the last column of the result is zero.
+   *
+   * If the first three columns of this matrix are linearly independent, the result is the same as the one of the
+   * Gram-Schmidt procedure, but its columns stay orthogonal up to rounding errors even if the columns of this matrix are
+   * almost linearly dependent.
+   *
+   * @return This matrix with orthogonal columns of unit length and a zero last column.
    */
   def orthonormalized: Mat3x4c = {
-    var (v0, v1, v2, v3) = (this.col0, this.col1, this.col2, this.col3)
-    v1 = v1 - v1.project(v0)
-    v2 = v2 - v2.project(v0) - v2.project(v1)
-    v3 = v3 - v3.project(v0) - v3.project(v1) - v3.project(v2)
-    Mat3x4c.fromColumns(v0.normalized, v1.normalized, v2.normalized, v3.normalized)
+    val start = Operation.start()
+    try {
+      val q = this.qrDecomposition.q
+      Mat3x4c.fromColumns(q.col0, q.col1, q.col2, Vec3c.Zero)
+    } finally {
+      Operation.Mat3x4cOrthonormalized.stop(start)
+    }
   }
 
   /**
@@ -506,6 +635,60 @@ object Mat3x4c {
   /** Shorthand for the zero matrix */
   val Zero: Mat3x4c = Mat3x4c(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0)
 
+  /**
+   * Computes the [[Mat3x4c.qrDecomposition QR decomposition]] of `count` consecutive matrices stored in the given source
+   * array and writes their factors into the given destination arrays.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of the source array starts at index `24 * i`, its factor `Q` starts at index `18 * i` of the
+   * first destination array, and its factor `R` starts at index `24 * i` of the second destination array.
+   * The factors of the matrix at index `srcOffset + i` are written at index `qOffset + i` and `rOffset + i`.
+   *
+   * All the matrices share the same work arrays, therefore this method does not allocate any object for each matrix.
+   * The results are the same as the ones of [[Mat3x4c.qrDecomposition]].
+   * The source array may be one of the destination arrays if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first matrix in the source array.
+   * @param q The destination array of the unitary factors.
+   * @param qOffset Index of the first unitary factor in its destination array.
+   * @param r The destination array of the upper triangular factors.
+   * @param rOffset Index of the first upper triangular factor in its destination array.
+   * @param count The number of matrices.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def decomposeQRAll(src: Array[Double], srcOffset: Int, q: Array[Double], qOffset: Int, r: Array[Double], rOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 12, q, qOffset, 9, count)
+    ComplexKernels.checkBatch(src, srcOffset, 12, r, rOffset, 12, count)
+    val qr = new Array[Double](24)
+    val tau = new Array[Double](6)
+    var i = 0
+    while (i < count) {
+      System.arraycopy(src, 24 * (srcOffset + i), qr, 0, 24)
+      ComplexKernels.decomposeQR(3, 4, qr, 0, tau)
+      ComplexKernels.orthogonalQR(3, 4, qr, 0, tau, q, 18 * (qOffset + i))
+      ComplexKernels.upperQR(3, 4, qr, 0, r, 24 * (rOffset + i))
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the [[Mat3x4c.qrDecomposition QR decomposition]] of all the matrices stored in the given complex array and
+   * writes their factors into the given destination arrays.
+   *
+   * The source array is treated as a sequence of 3x4 matrices stored in row-major order.
+   *
+   * @param src The source array. Its length must be a multiple of 12.
+   * @param q The destination array of the unitary factors. Its length must be at least 9 times the number of matrices.
+   * @param r The destination array of the upper triangular factors. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[decomposeQRAll(src:Array[Double],srcOffset:Int,q:Array[Double],qOffset:Int,r:Array[Double],rOffset:Int,count:Int)*]]
+   */
+  def decomposeQRAll(src: ComplexArray, q: ComplexArray, r: ComplexArray): Unit = {
+    require(src.length % 12 == 0, s"Length of the source array is not a multiple of 12: ${src.length}")
+    this.decomposeQRAll(src.data, 0, q.data, 0, r.data, 0, src.length / 12)
+  }
+
   /**
    * Returns a 3x4 matrix from the given rows.
    *
@@ -338,6 +338,113 @@ case class Mat4c(
    */
   def multiply(v: Vec4c): Vec4c = this * v
 
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array.
+   *
+   * Vectors are stored as interleaved real and imaginary parts of their components, so that the vector at index `i` of
+   * an array starts at index `8 * i`.
+   * The result of the vector at index `srcOffset + i` is written at index `dstOffset + i`.
+   *
+   * This method does not allocate any object and gives the same result as multiplying this matrix by every vector.
+   * The source and the destination may be the same array if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first vector in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def transformAll(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 4, dst, dstOffset, 4, count)
+    val m00a = this.m00.a
+    val m00b = this.m00.b
+    val m01a = this.m01.a
+    val m01b = this.m01.b
+    val m02a = this.m02.a
+    val m02b = this.m02.b
+    val m03a = this.m03.a
+    val m03b = this.m03.b
+    val m10a = this.m10.a
+    val m10b = this.m10.b
+    val m11a = this.m11.a
+    val m11b = this.m11.b
+    val m12a = this.m12.a
+    val m12b = this.m12.b
+    val m13a = this.m13.a
+    val m13b = this.m13.b
+    val m20a = this.m20.a
+    val m20b = this.m20.b
+    val m21a = this.m21.a
+    val m21b = this.m21.b
+    val m22a = this.m22.a
+    val m22b = this.m22.b
+    val m23a = this.m23.a
+    val m23b = this.m23.b
+    val m30a = this.m30.a
+    val m30b = this.m30.b
+    val m31a = this.m31.a
+    val m31b = this.m31.b
+    val m32a = this.m32.a
+    val m32b = this.m32.b
+    val m33a = this.m33.a
+    val m33b = this.m33.b
+    var s = 8 * srcOffset
+    var d = 8 * dstOffset
+    var i = 0
+    while (i < count) {
+      val xa = src(s)
+      val xb = src(s + 1)
+      val ya = src(s + 2)
+      val yb = src(s + 3)
+      val za = src(s + 4)
+      val zb = src(s + 5)
+      val wa = src(s + 6)
+      val wb = src(s + 7)
+      dst(d) = (m00a * xa - m00b * xb) + (m01a * ya - m01b * yb) + (m02a * za - m02b * zb) + (m03a * wa - m03b * wb)
+      dst(d + 1) = (m00a * xb + m00b * xa) + (m01a * yb + m01b * ya) + (m02a * zb + m02b * za) + (m03a * wb + m03b * wa)
+      dst(d + 2) = (m10a * xa - m10b * xb) + (m11a * ya - m11b * yb) + (m12a * za - m12b * zb) + (m13a * wa - m13b * wb)
+      dst(d + 3) = (m10a * xb + m10b * xa) + (m11a * yb + m11b * ya) + (m12a * zb + m12b * za) + (m13a * wb + m13b * wa)
+      dst(d + 4) = (m20a * xa - m20b * xb) + (m21a * ya - m21b * yb) + (m22a * za - m22b * zb) + (m23a * wa - m23b * wb)
+      dst(d + 5) = (m20a * xb + m20b * xa) + (m21a * yb + m21b * ya) + (m22a * zb + m22b * za) + (m23a * wb + m23b * wa)
+      dst(d + 6) = (m30a * xa - m30b * xb) + (m31a * ya - m31b * yb) + (m32a * za - m32b * zb) + (m33a * wa - m33b * wb)
+      dst(d + 7) = (m30a * xb + m30b * xa) + (m31a * yb + m31b * ya) + (m32a * zb + m32b * za) + (m33a * wb + m33b * wa)
+      s += 8
+      d += 8
+      i += 1
+    }
+  }
+
+  /**
+   * Multiplies this matrix by `count` consecutive vectors stored in the given source array and writes the results into
+   * the given destination array at the same index.
+   *
+   * @param src The source array.
+   * @param dst The destination array.
+   * @param offset Index of the first vector in the source array and of the first result in the destination array.
+   * @param count The number of vectors to multiply.
+   * @throws IllegalArgumentException if `count` or the offset are negative or if one of the arrays is too small.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: Array[Double], dst: Array[Double], offset: Int, count: Int): Unit = this.transformAll(src, offset, dst, offset, count)
+
+  /**
+   * Multiplies this matrix by all the vectors stored in the given complex array and writes the results into the given
+   * destination array.
+   *
+   * The source array is treated as a sequence of vectors of 4 components.
+   *
+   * @param src The source array. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[transformAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def transformAll(src: ComplexArray, dst: ComplexArray): Unit = {
+    require(src.length % 4 == 0, s"Length of the source array is not a multiple of 4: ${src.length}")
+    this.transformAll(src.data, 0, dst.data, 0, src.length / 4)
+  }
+
   /**
    * Multiplies this matrix by the vector with the given components and returns the result.
    *
@@ -449,26 +556,297 @@ case class Mat4c(
     this.m30.conjugate, this.m31.conjugate, this.m32.conjugate, this.m33.conjugate
   )
 
+  /**
+   * Returns an [[Expression]] whose result is this matrix.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate matrix.
+   *
+   * @return An expression whose result is this matrix.
+   */
+  def lazily: Expression[Mat4c] = Expression(this, Expression.Mat4cShape)
+
   /**
    * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
    *
    * @return True if this matrix is equal to its transposed, otherwise false.
+   * @see [[isSymmetric(tolerance:Double)*]]
    */
-  def isSymmetric: Boolean = this == this.transposed
+  def isSymmetric: Boolean = this.isSymmetric(0.0)
+
+  /**
+   * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
+   *
+   * Two elements are considered equal if their real parts and their imaginary parts differ by at most the given
+   * tolerance. The elements of this matrix are compared in place, without computing the transposed matrix, and the
+   * check stops at the first pair of elements that are not equal.
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSymmetric(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m03.a, this.m30.a, tolerance) &&
+      ComplexKernels.close(this.m03.b, this.m30.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, this.m21.b, tolerance) &&
+      ComplexKernels.close(this.m13.a, this.m31.a, tolerance) &&
+      ComplexKernels.close(this.m13.b, this.m31.b, tolerance) &&
+      ComplexKernels.close(this.m23.a, this.m32.a, tolerance) &&
+      ComplexKernels.close(this.m23.b, this.m32.b, tolerance)
+  }
 
   /**
    * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
    *
    * @return True if this matrix is equal to its negated transposed, otherwise false.
+   * @see [[isSkewSymmetric(tolerance:Double)*]]
+   */
+  def isSkewSymmetric: Boolean = this.isSkewSymmetric(0.0)
+
+  /**
+   * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its negated transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
    */
-  def isSkewSymmetric: Boolean = this == this.negated.transposed
+  def isSkewSymmetric(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.a, -this.m00.a, tolerance) &&
+      ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.a, -this.m11.a, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m22.a, -this.m22.a, tolerance) &&
+      ComplexKernels.close(this.m22.b, -this.m22.b, tolerance) &&
+      ComplexKernels.close(this.m33.a, -this.m33.a, tolerance) &&
+      ComplexKernels.close(this.m33.b, -this.m33.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, -this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, -this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, -this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m03.a, -this.m30.a, tolerance) &&
+      ComplexKernels.close(this.m03.b, -this.m30.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, -this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, -this.m21.b, tolerance) &&
+      ComplexKernels.close(this.m13.a, -this.m31.a, tolerance) &&
+      ComplexKernels.close(this.m13.b, -this.m31.b, tolerance) &&
+      ComplexKernels.close(this.m23.a, -this.m32.a, tolerance) &&
+      ComplexKernels.close(this.m23.b, -this.m32.b, tolerance)
+  }
 
   /**
    * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
    *
    * @return True if this matrix is equal to its conjugate transposed, otherwise false.
+   * @see [[isHermitian(tolerance:Double)*]]
+   */
+  def isHermitian: Boolean = this.isHermitian(0.0)
+
+  /**
+   * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its conjugate transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isHermitian(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m22.b, -this.m22.b, tolerance) &&
+      ComplexKernels.close(this.m33.b, -this.m33.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, -this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m03.a, this.m30.a, tolerance) &&
+      ComplexKernels.close(this.m03.b, -this.m30.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, -this.m21.b, tolerance) &&
+      ComplexKernels.close(this.m13.a, this.m31.a, tolerance) &&
+      ComplexKernels.close(this.m13.b, -this.m31.b, tolerance) &&
+      ComplexKernels.close(this.m23.a, this.m32.a, tolerance) &&
+      ComplexKernels.close(this.m23.b, -this.m32.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * @return True if this matrix is diagonal, otherwise false.
+   * @see [[isDiagonal(tolerance:Double)*]]
+   */
+  def isDiagonal: Boolean = this.isDiagonal(0.0)
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * An element is considered zero if its real part and its imaginary part are at most equal to the given tolerance in
+   * absolute value. The elements of this matrix are checked in place and the check stops at the first element that is
+   * not zero.
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements outside of the main diagonal are zero within the given tolerance, otherwise
+   *         false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
    */
-  def isHermitian: Boolean = this == this.conjugate.transposed
+  def isDiagonal(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m02.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m02.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m03.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m03.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m10.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m12.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m12.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m13.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m13.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m20.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m20.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m21.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m21.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m23.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m23.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m30.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m30.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m31.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m31.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m32.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m32.b, 0.0, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * @return True if this matrix is upper triangular, otherwise false.
+   * @see [[isUpperTriangular(tolerance:Double)*]]
+   */
+  def isUpperTriangular: Boolean = this.isUpperTriangular(0.0)
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements below the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUpperTriangular(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m10.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m20.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m20.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m21.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m21.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m30.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m30.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m31.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m31.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m32.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m32.b, 0.0, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * @return True if this matrix is lower triangular, otherwise false.
+   * @see [[isLowerTriangular(tolerance:Double)*]]
+   */
+  def isLowerTriangular: Boolean = this.isLowerTriangular(0.0)
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements above the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isLowerTriangular(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m02.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m02.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m03.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m03.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m12.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m12.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m13.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m13.b, 0.0, tolerance) &&
+      ComplexKernels.close(this.m23.a, 0.0, tolerance) &&
+      ComplexKernels.close(this.m23.b, 0.0, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * @return True if this matrix is upper triangular or lower triangular, otherwise false.
+   * @see [[isTriangular(tolerance:Double)*]]
+   */
+  def isTriangular: Boolean = this.isTriangular(0.0)
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Double)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if this matrix is upper triangular or lower triangular within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isTriangular(tolerance: Double): Boolean = this.isUpperTriangular(tolerance) || this.isLowerTriangular(tolerance)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * @return True if this matrix is unitary, otherwise false.
+   * @see [[isUnitary(tolerance:Double)*]]
+   */
+  def isUnitary: Boolean = this.isUnitary(0.0)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * The product is considered equal to the identity if its real parts and its imaginary parts differ from the ones of
+   * the identity by at most the given tolerance. It is computed one pair of rows at a time and the check stops at the
+   * first pair of rows that are not orthonormal.
+   *
+   * @param tolerance The maximum difference between the parts of the product and of the identity. Must not be
+   *                  negative.
+   * @return True if this matrix is unitary within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUnitary(tolerance: Double): Boolean = {
+    require(tolerance >= 0.0, s"Tolerance must not be negative: $tolerance")
+    Mat4c.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m00, this.m01, this.m02, this.m03, 1.0, tolerance) &&
+      Mat4c.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m10, this.m11, this.m12, this.m13, 0.0, tolerance) &&
+      Mat4c.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m20, this.m21, this.m22, this.m23, 0.0, tolerance) &&
+      Mat4c.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m30, this.m31, this.m32, this.m33, 0.0, tolerance) &&
+      Mat4c.isRowProduct(this.m10, this.m11, this.m12, this.m13, this.m10, this.m11, this.m12, this.m13, 1.0, tolerance) &&
+      Mat4c.isRowProduct(this.m10, this.m11, this.m12, this.m13, this.m20, this.m21, this.m22, this.m23, 0.0, tolerance) &&
+      Mat4c.isRowProduct(this.m10, this.m11, this.m12, this.m13, this.m30, this.m31, this.m32, this.m33, 0.0, tolerance) &&
+      Mat4c.isRowProduct(this.m20, this.m21, this.m22, this.m23, this.m20, this.m21, this.m22, this.m23, 1.0, tolerance) &&
+      Mat4c.isRowProduct(this.m20, this.m21, this.m22, this.m23, this.m30, this.m31, this.m32, this.m33, 0.0, tolerance) &&
+      Mat4c.isRowProduct(this.m30, this.m31, this.m32, this.m33, this.m30, this.m31, this.m32, this.m33, 1.0, tolerance)
+  }
 
   /**
    * Returns a submatrix of this matrix obtained by removing the row at index `i` and the column at index `j`.
@@ -497,12 +875,41 @@ case class Mat4c(
     case (3, 3) => Mat3c(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22)
   }
 
+  /**
+   * Computes the LU decomposition with partial pivoting of this matrix.
+   *
+   * The decomposition can be used to compute the determinant and the inverse of this matrix, or to solve linear
+   * systems, without decomposing the matrix again.
+   *
+   * @return The LU decomposition of this matrix.
+   */
+  def luDecomposition: LUDecomposition4c = {
+    val start = Operation.start()
+    try LUDecomposition4c(this) finally Operation.Mat4cLuDecomposition.stop(start)
+  }
+
+  /**
+   * Computes the QR decomposition of this matrix using Householder reflections.
+   *
+   * The decomposition can be used to solve linear systems without decomposing the matrix again.
+   * Unlike the [[luDecomposition LU decomposition]], it does not need pivoting and its factor `Q` is unitary.
+   *
+   * @return The QR decomposition of this matrix.
+   */
+  def qrDecomposition: QRDecomposition4c = {
+    val start = Operation.start()
+    try QRDecomposition4c(this) finally Operation.Mat4cQrDecomposition.stop(start)
+  }
+
   /**
    * Returns the determinant of this matrix.
    *
    * @return The determinant of this matrix.
    */
-  def determinant: Complex = this.m00 * this.submatrix(0, 0).determinant - this.m01 * this.submatrix(0, 1).determinant + this.m02 * this.submatrix(0, 2).determinant - this.m03 * this.submatrix(0, 3).determinant
+  def determinant: Complex = {
+    val start = Operation.start()
+    try this.luDecomposition.determinant finally Operation.Mat4cDeterminant.stop(start)
+  }
 
   /**
    * Returns the adjugate of this matrix.
@@ -524,10 +931,16 @@ case class Mat4c(
    *
    * @return The inverse of this matrix.
    */
-  def inverse: Mat4c = this.adjugate / this.determinant
+  def inverse: Mat4c = {
+    val start = Operation.start()
+    try this.luDecomposition.inverse finally Operation.Mat4cInverse.stop(start)
+  }
 
   /**
-   * Raises this matrix to the given power by multiplying it with itself `exp` times and returns the result.
+   * Raises this matrix to the given power and returns the result.
+   *
+   * The power is computed by exponentiation by squaring, which only requires a number of matrix multiplications
+   * proportional to the logarithm of the exponent.
    *
    * If the given exponent is zero, the result will be the identity matrix.
    *
@@ -536,16 +949,68 @@ case class Mat4c(
    *
    * @param exp The exponent to raise this matrix to.
    * @return This matrix raised to the given power.
+   * @see [[PowerSequence]]
    */
   def power(exp: Int): Mat4c = {
-    if (exp < 0) {
-      this.inverse.power(-exp)
-    } else if (exp == 1) {
-      this
-    } else if (exp == 0) {
-      Mat4c.Identity
-    } else {
-      this * this.power(exp - 1)
+    val start = Operation.start()
+    try {
+      if (exp == 1) {
+        this
+      } else if (exp == 0) {
+        Mat4c.Identity
+      } else {
+        val m = new Array[Double](32)
+        val res = new Array[Double](32)
+        ComplexKernels.pack(if (exp < 0) this.inverse else this, m, 0)
+        ComplexKernels.power(4, m, 0, math.abs(exp.toLong), res, 0)
+        ComplexKernels.unpack4(res, 0)
+      }
+    } finally {
+      Operation.Mat4cPower.stop(start)
+    }
+  }
+
+  /**
+   * Wraps this matrix into a [[CachedMat4c]], which computes the determinant, the inverse, and the other derived values
+   * of this matrix at most once.
+   *
+   * @return A cached matrix that wraps this matrix.
+   */
+  def cached: CachedMat4c = new CachedMat4c(this)
+
+  /**
+   * Computes the eigenvalues and the eigenvectors of this matrix, which must be hermitian.
+   *
+   * Only the lower triangle and the real part of the diagonal of this matrix are read, the result is undefined if this
+   * matrix is not [[isHermitian hermitian]].
+   *
+   * @return The eigendecomposition of this matrix.
+   */
+  def hermitianEigen: HermitianEigen4c = {
+    val start = Operation.start()
+    try HermitianEigen4c(this) finally Operation.Mat4cHermitianEigen.stop(start)
+  }
+
+  /**
+   * Returns the matrix exponential of this matrix, which is the sum of the series `I + M + M^2 / 2! + M^3 / 3! + ...`.
+   *
+   * The exponential of a hermitian or skew-hermitian matrix, such as the propagator `-i * H * t` of a Hamiltonian `H`, is
+   * computed by diagonalizing the matrix.
+   * The exponential of any other matrix is computed with the scaling and squaring method and a Padé approximant, which is
+   * faster and more accurate than summing the terms of the series.
+   *
+   * @return The exponential of this matrix.
+   * @see [[Mat4c.expmAll]]
+   */
+  def expm: Mat4c = {
+    val start = Operation.start()
+    try {
+      val m = new Array[Double](32)
+      ComplexKernels.pack(this, m, 0)
+      new MatrixExponential(4)(m, 0, m, 0)
+      ComplexKernels.unpack4(m, 0)
+    } finally {
+      Operation.Mat4cExpm.stop(start)
     }
   }
 
@@ -562,16 +1027,29 @@ case class Mat4c(
   )
 
   /**
-   * Constructs an orthonormal matrix from the columns of this matrix using the Gram-Schmidt procedure.
+   * Constructs an orthonormal matrix from the columns of this matrix.
+   *
+   * The result is the unitary factor of the [[qrDecomposition QR decomposition]] of this matrix, which is computed with
+   * Householder reflections.
+   * If the columns of this matrix are linearly independent, the result is the same as the one of the Gram-Schmidt
+   * procedure, but its columns stay orthogonal up to rounding errors even if the columns of this matrix are almost
+   * linearly dependent.
    *
    * @return This matrix with orthogonal columns of unit length.
    */
   def orthonormalized: Mat4c = {
-    var (v0, v1, v2, v3) = (this.col0, this.col1, this.col2, this.col3)
-    v1 = v1 - v1.project(v0)
-    v2 = v2 - v2.project(v0) - v2.project(v1)
-    v3 = v3 - v3.project(v0) - v3.project(v1) - v3.project(v2)
-    Mat4c.fromColumns(v0.normalized, v1.normalized, v2.normalized, v3.normalized)
+    val start = Operation.start()
+    try {
+      val qr = new Array[Double](32)
+      val tau = new Array[Double](8)
+      ComplexKernels.pack(this, qr, 0)
+      ComplexKernels.decomposeQR(4, 4, qr, 0, tau)
+      val res = new Array[Double](32)
+      ComplexKernels.orthogonalQR(4, 4, qr, 0, tau, res, 0)
+      ComplexKernels.unpack4(res, 0)
+    } finally {
+      Operation.Mat4cOrthonormalized.stop(start)
+    }
   }
 
   /**
@@ -658,6 +1136,284 @@ object Mat4c {
   /** Shorthand for the identity matrix */
   val Identity: Mat4c = Mat4c(1.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 0.0, 1.0)
 
+  /**
+   * Computes the [[Mat4c.expm matrix exponential]] of `count` consecutive matrices stored in the given source array and
+   * writes the results into the given destination array.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of an array starts at index `32 * i`.
+   * The result of the matrix at index `srcOffset + i` is written at index `dstOffset + i`.
+   *
+   * All the matrices share the same work arrays, therefore this method does not allocate any object for each matrix and
+   * is faster than calling [[Mat4c.expm]] on every matrix.
+   * The results are the same as the ones of [[Mat4c.expm]].
+   * The source and the destination may be the same array if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first matrix in the source array.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of matrices.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def expmAll(src: Array[Double], srcOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 16, dst, dstOffset, 16, count)
+    val kernel = new MatrixExponential(4)
+    var i = 0
+    while (i < count) {
+      kernel(src, 32 * (srcOffset + i), dst, 32 * (dstOffset + i))
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the [[Mat4c.expm matrix exponential]] of all the matrices stored in the given complex array and writes the
+   * results into the given destination array.
+   *
+   * The source array is treated as a sequence of 4x4 matrices stored in row-major order.
+   *
+   * @param src The source array. Its length must be a multiple of 16.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[expmAll(src:Array[Double],srcOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def expmAll(src: ComplexArray, dst: ComplexArray): Unit = {
+    require(src.length % 16 == 0, s"Length of the source array is not a multiple of 16: ${src.length}")
+    this.expmAll(src.data, 0, dst.data, 0, src.length / 16)
+  }
+
+  /**
+   * Computes the [[Mat4c.hermitianEigen eigenvalues and eigenvectors]] of `count` consecutive hermitian matrices stored in
+   * the given source array.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of the source array starts at index `32 * i`.
+   * The 4 eigenvalues of the matrix at index `srcOffset + i` are written in ascending order into the array of eigenvalues
+   * starting at index `4 * (valuesOffset + i)` and the unitary matrix whose columns are the corresponding eigenvectors is
+   * written into the array of eigenvectors at index `vectorsOffset + i`.
+   *
+   * All the matrices share the same work array, therefore this method does not allocate any object for each matrix.
+   * The results are the same as the ones of [[Mat4c.hermitianEigen]].
+   * The source array may be the array of eigenvectors if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first matrix in the source array.
+   * @param values The destination array of the eigenvalues.
+   * @param valuesOffset Index of the first matrix whose eigenvalues are written into the array of eigenvalues.
+   * @param vectors The destination array of the eigenvectors.
+   * @param vectorsOffset Index of the first matrix of eigenvectors in its destination array.
+   * @param count The number of matrices.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def hermitianEigenAll(src: Array[Double], srcOffset: Int, values: Array[Double], valuesOffset: Int, vectors: Array[Double], vectorsOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 16, vectors, vectorsOffset, 16, count)
+    require(valuesOffset >= 0 && 4L * (valuesOffset.toLong + count) <= values.length, s"Array of eigenvalues is too small for $count matrices at offset $valuesOffset")
+    val a = new Array[Double](32)
+    var i = 0
+    while (i < count) {
+      System.arraycopy(src, 32 * (srcOffset + i), a, 0, 32)
+      ComplexKernels.eigenHermitian(4, a, 0, values, 4 * (valuesOffset + i), vectors, 32 * (vectorsOffset + i))
+      ComplexKernels.sortEigen(4, values, 4 * (valuesOffset + i), vectors, 32 * (vectorsOffset + i))
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the [[Mat4c.hermitianEigen eigenvalues and eigenvectors]] of all the hermitian matrices stored in the given
+   * complex array.
+   *
+   * The source array is treated as a sequence of 4x4 matrices stored in row-major order.
+   *
+   * @param src The source array. Its length must be a multiple of 16.
+   * @param values The destination array of the eigenvalues. Its length must be at least 4 times the number of matrices.
+   * @param vectors The destination array of the eigenvectors. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[hermitianEigenAll(src:Array[Double],srcOffset:Int,values:Array[Double],valuesOffset:Int,vectors:Array[Double],vectorsOffset:Int,count:Int)*]]
+   */
+  def hermitianEigenAll(src: ComplexArray, values: Array[Double], vectors: ComplexArray): Unit = {
+    require(src.length % 16 == 0, s"Length of the source array is not a multiple of 16: ${src.length}")
+    this.hermitianEigenAll(src.data, 0, values, 0, vectors.data, 0, src.length / 16)
+  }
+
+  /**
+   * Multiplies `count` consecutive matrices stored in the first array by the corresponding matrices stored in the second
+   * array and writes the results into the given destination array.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of an array starts at index `32 * i`.
+   * The product of the matrices at index `aOffset + i` and `bOffset + i` is written at index `dstOffset + i`.
+   *
+   * This method does not allocate any object for each matrix and gives the same results as the `*` operator.
+   * The destination may be one of the two operands if the two offsets are equal.
+   *
+   * @param a The array of the left operands.
+   * @param aOffset Index of the first left operand.
+   * @param b The array of the right operands.
+   * @param bOffset Index of the first right operand.
+   * @param dst The destination array.
+   * @param dstOffset Index of the first result in the destination array.
+   * @param count The number of products.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def multiplyAll(a: Array[Double], aOffset: Int, b: Array[Double], bOffset: Int, dst: Array[Double], dstOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(a, aOffset, 16, dst, dstOffset, 16, count)
+    ComplexKernels.checkBatch(b, bOffset, 16, dst, dstOffset, 16, count)
+    MatrixChain.multiplyAll(4, a, aOffset, b, bOffset, dst, dstOffset, count, ParallelOps.Sequential)
+  }
+
+  /**
+   * Multiplies all the matrices stored in the first complex array by the corresponding matrices stored in the second
+   * complex array and writes the results into the given destination array.
+   *
+   * The arrays are treated as sequences of 4x4 matrices stored in row-major order.
+   *
+   * @param a The array of the left operands. Its length must be a multiple of 16.
+   * @param b The array of the right operands. Its length must be equal to the one of the first array.
+   * @param dst The destination array. Its length must be at least the one of the first array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[multiplyAll(a:Array[Double],aOffset:Int,b:Array[Double],bOffset:Int,dst:Array[Double],dstOffset:Int,count:Int)*]]
+   */
+  def multiplyAll(a: ComplexArray, b: ComplexArray, dst: ComplexArray): Unit = this.multiplyAll(a, b, dst, ParallelOps.Sequential)
+
+  /**
+   * Multiplies all the matrices stored in the first complex array by the corresponding matrices stored in the second
+   * complex array in parallel and writes the results into the given destination array.
+   *
+   * The arrays are treated as sequences of 4x4 matrices stored in row-major order.
+   *
+   * @param a The array of the left operands. Its length must be a multiple of 16.
+   * @param b The array of the right operands. Its length must be equal to the one of the first array.
+   * @param dst The destination array. Its length must be at least the one of the first array.
+   * @param parallel The object used to execute the products in parallel.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  def multiplyAll(a: ComplexArray, b: ComplexArray, dst: ComplexArray, parallel: ParallelOps): Unit = {
+    require(a.length % 16 == 0, s"Length of the first array is not a multiple of 16: ${a.length}")
+    require(a.length == b.length, s"Arrays must have the same length: ${a.length} and ${b.length}")
+    ComplexKernels.checkBatch(a.data, 0, 16, dst.data, 0, 16, a.length / 16)
+    MatrixChain.multiplyAll(4, a.data, 0, b.data, 0, dst.data, 0, a.length / 16, parallel)
+  }
+
+  /**
+   * Returns the product of all the matrices stored in the given complex array, from the first one to the last one.
+   *
+   * The array is treated as a sequence of 4x4 matrices `M0, M1, ..., Mk` stored in row-major order and the result is
+   * `M0 * M1 * ... * Mk`.
+   * The product is computed on packed arrays without allocating any object for each matrix.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 16.
+   * @return The product of all the matrices, or the identity matrix if the array is empty.
+   * @throws IllegalArgumentException if the array does not have a valid length.
+   */
+  def product(src: ComplexArray): Mat4c = this.product(src, ParallelOps.Sequential)
+
+  /**
+   * Returns the product of all the matrices stored in the given complex array, from the first one to the last one.
+   *
+   * The array is split in ranges of at most [[ParallelOps.granularity]] matrices, whose products are computed in parallel
+   * and then multiplied in pairs as in a tree.
+   * The result may differ from the one of the sequential version in the last bits, but it only depends on the length of
+   * the array and on the granularity.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 16.
+   * @param parallel The object used to execute the products in parallel.
+   * @return The product of all the matrices, or the identity matrix if the array is empty.
+   * @throws IllegalArgumentException if the array does not have a valid length.
+   */
+  def product(src: ComplexArray, parallel: ParallelOps): Mat4c = {
+    require(src.length % 16 == 0, s"Length of the source array is not a multiple of 16: ${src.length}")
+    ComplexKernels.unpack4(MatrixChain.product(4, src.data, 0, src.length / 16, parallel), 0)
+  }
+
+  /**
+   * Computes all the partial products of the matrices stored in the given complex array and writes them into the given
+   * destination array.
+   *
+   * The array is treated as a sequence of 4x4 matrices `M0, M1, ..., Mk` stored in row-major order and the matrix at
+   * index `i` of the destination array is `M0 * M1 * ... * Mi`.
+   * The destination may be the source array.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 16.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  def prefixProducts(src: ComplexArray, dst: ComplexArray): Unit = this.prefixProducts(src, dst, ParallelOps.Sequential)
+
+  /**
+   * Computes all the partial products of the matrices stored in the given complex array in parallel and writes them into
+   * the given destination array.
+   *
+   * The array is split in blocks of at most [[ParallelOps.granularity]] matrices.
+   * The partial products of every block are computed in parallel, then they are multiplied in parallel by the product of
+   * all the previous blocks, which requires about twice as many products as a sequential scan.
+   * The result may differ from the one of the sequential version in the last bits, but it only depends on the length of
+   * the array and on the granularity.
+   *
+   * @param src The array of the matrices. Its length must be a multiple of 16.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @param parallel The object used to execute the products in parallel.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  def prefixProducts(src: ComplexArray, dst: ComplexArray, parallel: ParallelOps): Unit = {
+    require(src.length % 16 == 0, s"Length of the source array is not a multiple of 16: ${src.length}")
+    ComplexKernels.checkBatch(src.data, 0, 16, dst.data, 0, 16, src.length / 16)
+    MatrixChain.prefixProducts(4, src.data, 0, dst.data, 0, src.length / 16, parallel)
+  }
+
+  /**
+   * Computes the [[Mat4c.qrDecomposition QR decomposition]] of `count` consecutive matrices stored in the given source
+   * array and writes their factors into the given destination arrays.
+   *
+   * Matrices are stored in row-major order as interleaved real and imaginary parts of their elements, so that the matrix
+   * at index `i` of the source array starts at index `32 * i`, its factor `Q` starts at index `32 * i` of the
+   * first destination array, and its factor `R` starts at index `32 * i` of the second destination array.
+   * The factors of the matrix at index `srcOffset + i` are written at index `qOffset + i` and `rOffset + i`.
+   *
+   * All the matrices share the same work arrays, therefore this method does not allocate any object for each matrix.
+   * The results are the same as the ones of [[Mat4c.qrDecomposition]].
+   * The source array may be one of the destination arrays if the two offsets are equal.
+   *
+   * @param src The source array.
+   * @param srcOffset Index of the first matrix in the source array.
+   * @param q The destination array of the unitary factors.
+   * @param qOffset Index of the first unitary factor in its destination array.
+   * @param r The destination array of the upper triangular factors.
+   * @param rOffset Index of the first upper triangular factor in its destination array.
+   * @param count The number of matrices.
+   * @throws IllegalArgumentException if `count` or the offsets are negative or if one of the arrays is too small.
+   */
+  def decomposeQRAll(src: Array[Double], srcOffset: Int, q: Array[Double], qOffset: Int, r: Array[Double], rOffset: Int, count: Int): Unit = {
+    ComplexKernels.checkBatch(src, srcOffset, 16, q, qOffset, 16, count)
+    ComplexKernels.checkBatch(src, srcOffset, 16, r, rOffset, 16, count)
+    val qr = new Array[Double](32)
+    val tau = new Array[Double](8)
+    var i = 0
+    while (i < count) {
+      System.arraycopy(src, 32 * (srcOffset + i), qr, 0, 32)
+      ComplexKernels.decomposeQR(4, 4, qr, 0, tau)
+      ComplexKernels.orthogonalQR(4, 4, qr, 0, tau, q, 32 * (qOffset + i))
+      ComplexKernels.upperQR(4, 4, qr, 0, r, 32 * (rOffset + i))
+      i += 1
+    }
+  }
+
+  /**
+   * Computes the [[Mat4c.qrDecomposition QR decomposition]] of all the matrices stored in the given complex array and
+   * writes their factors into the given destination arrays.
+   *
+   * The source array is treated as a sequence of 4x4 matrices stored in row-major order.
+   *
+   * @param src The source array. Its length must be a multiple of 16.
+   * @param q The destination array of the unitary factors. Its length must be at least the one of the source array.
+   * @param r The destination array of the upper triangular factors. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[decomposeQRAll(src:Array[Double],srcOffset:Int,q:Array[Double],qOffset:Int,r:Array[Double],rOffset:Int,count:Int)*]]
+   */
+  def decomposeQRAll(src: ComplexArray, q: ComplexArray, r: ComplexArray): Unit = {
+    require(src.length % 16 == 0, s"Length of the source array is not a multiple of 16: ${src.length}")
+    this.decomposeQRAll(src.data, 0, q.data, 0, r.data, 0, src.length / 16)
+  }
+
   /**
    * Returns a 4x4 matrix from the given rows.
    *
@@ -726,4 +1482,26 @@ object Mat4c {
    * Implicit conversion from [[Mat4d]] to [[Mat4c]].
    */
   implicit val mat4dToMat4c: Mat4d => Mat4c = m => Mat4c(m.m00, m.m01, m.m02, m.m03, m.m10, m.m11, m.m12, m.m13, m.m20, m.m21, m.m22, m.m23, m.m30, m.m31, m.m32, m.m33)
+
+  /**
+   * Checks if the product between a row and the [[Complex.conjugate conjugate]] of another row is equal to the given value
+   * within the given tolerance.
+   *
+   * @param x0 Element 0 of the first row.
+   * @param x1 Element 1 of the first row.
+   * @param x2 Element 2 of the first row.
+   * @param x3 Element 3 of the first row.
+   * @param y0 Element 0 of the second row.
+   * @param y1 Element 1 of the second row.
+   * @param y2 Element 2 of the second row.
+   * @param y3 Element 3 of the second row.
+   * @param expected The expected value of the product.
+   * @param tolerance The tolerance.
+   * @return True if the product is equal to the expected value within the given tolerance, otherwise false.
+   */
+  private def isRowProduct(x0: Complex, x1: Complex, x2: Complex, x3: Complex, y0: Complex, y1: Complex, y2: Complex, y3: Complex, expected: Double, tolerance: Double): Boolean = {
+    val re = x0.a * y0.a + x0.b * y0.b + x1.a * y1.a + x1.b * y1.b + x2.a * y2.a + x2.b * y2.b + x3.a * y3.a + x3.b * y3.b
+    val im = x0.b * y0.a - x0.a * y0.b + x1.b * y1.a - x1.a * y1.b + x2.b * y2.a - x2.a * y2.b + x3.b * y3.a - x3.a * y3.b
+    ComplexKernels.close(re, expected, tolerance) && ComplexKernels.close(im, 0.0, tolerance)
+  }
 }
@@ -0,0 +1,1052 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.vecmatlib.Mat4f
+
+/**
+ * A 4x4 single-precision complex matrix.
+ *
+ * This class has the same operations as [[Mat4c]], but its components are [[Complex32]] numbers, which halves the memory
+ * needed to store large amounts of matrices.
+ * Matrices can be converted to double precision with [[toMat4c]] and from double precision with [[Mat4cf.fromMat4c]].
+ *
+ * @constructor Constructs a matrix from the given values.
+ * @param m00 Element 0 0
+ * @param m01 Element 0 1
+ * @param m02 Element 0 2
+ * @param m03 Element 0 3
+ * @param m10 Element 1 0
+ * @param m11 Element 1 1
+ * @param m12 Element 1 2
+ * @param m13 Element 1 3
+ * @param m20 Element 2 0
+ * @param m21 Element 2 1
+ * @param m22 Element 2 2
+ * @param m23 Element 2 3
+ * @param m30 Element 3 0
+ * @param m31 Element 3 1
+ * @param m32 Element 3 2
+ * @param m33 Element 3 3
+ */
+case class Mat4cf(
+                  m00: Complex32, m01: Complex32, m02: Complex32, m03: Complex32,
+                  m10: Complex32, m11: Complex32, m12: Complex32, m13: Complex32,
+                  m20: Complex32, m21: Complex32, m22: Complex32, m23: Complex32,
+                  m30: Complex32, m31: Complex32, m32: Complex32, m33: Complex32
+                ) {
+
+  /**
+   * Adds the given matrix to this one and returns the result.
+   *
+   * @param m The matrix to add.
+   * @return The sum between this matrix and the given one.
+   */
+  def +(m: Mat4cf): Mat4cf = Mat4cf(
+    this.m00 + m.m00, this.m01 + m.m01, this.m02 + m.m02, this.m03 + m.m03,
+    this.m10 + m.m10, this.m11 + m.m11, this.m12 + m.m12, this.m13 + m.m13,
+    this.m20 + m.m20, this.m21 + m.m21, this.m22 + m.m22, this.m23 + m.m23,
+    this.m30 + m.m30, this.m31 + m.m31, this.m32 + m.m32, this.m33 + m.m33
+  )
+
+  /**
+   * Adds the given matrix to this one and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param m The matrix to add.
+   * @return The sum between this matrix and the given one.
+   */
+  def plus(m: Mat4cf): Mat4cf = this + m
+
+  /**
+   * Returns this same matrix.
+   *
+   * The unary `+` operator does nothing, but can sometimes make the code more readable.
+   *
+   * @return This matrix.
+   */
+  def unary_+ : Mat4cf = this
+
+  /**
+   * Subtracts the given matrix from this one and returns the result.
+   *
+   * @param m The matrix to subtract.
+   * @return The subtraction between this matrix and the given one.
+   */
+  def -(m: Mat4cf): Mat4cf = Mat4cf(
+    this.m00 - m.m00, this.m01 - m.m01, this.m02 - m.m02, this.m03 - m.m03,
+    this.m10 - m.m10, this.m11 - m.m11, this.m12 - m.m12, this.m13 - m.m13,
+    this.m20 - m.m20, this.m21 - m.m21, this.m22 - m.m22, this.m23 - m.m23,
+    this.m30 - m.m30, this.m31 - m.m31, this.m32 - m.m32, this.m33 - m.m33
+  )
+
+  /**
+   * Subtracts the given matrix from this one and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param m The matrix to subtract.
+   * @return The subtraction between this matrix and the given one.
+   */
+  def minus(m: Mat4cf): Mat4cf = this - m
+
+  /**
+   * Returns the additive inverse of this matrix.
+   *
+   * @return The additive inverse of this matrix.
+   */
+  def unary_- : Mat4cf = Mat4cf(
+    -this.m00, -this.m01, -this.m02, -this.m03,
+    -this.m10, -this.m11, -this.m12, -this.m13,
+    -this.m20, -this.m21, -this.m22, -this.m23,
+    -this.m30, -this.m31, -this.m32, -this.m33
+  )
+
+  /**
+   * Returns the additive inverse of this matrix.
+   *
+   * This method can be used in place of the unary `-` operator for better interoperability with Java.
+   *
+   * @return The additive inverse of this matrix.
+   */
+  def negated: Mat4cf = -this
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def *(k: Complex32): Mat4cf = Mat4cf(
+    this.m00 * k, this.m01 * k, this.m02 * k, this.m03 * k,
+    this.m10 * k, this.m11 * k, this.m12 * k, this.m13 * k,
+    this.m20 * k, this.m21 * k, this.m22 * k, this.m23 * k,
+    this.m30 * k, this.m31 * k, this.m32 * k, this.m33 * k
+  )
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def multipliedBy(k: Complex32): Mat4cf = this * k
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def *(k: Float): Mat4cf = Mat4cf(
+    this.m00 * k, this.m01 * k, this.m02 * k, this.m03 * k,
+    this.m10 * k, this.m11 * k, this.m12 * k, this.m13 * k,
+    this.m20 * k, this.m21 * k, this.m22 * k, this.m23 * k,
+    this.m30 * k, this.m31 * k, this.m32 * k, this.m33 * k
+  )
+
+  /**
+   * Multiplies this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return The product between this matrix and the given scalar.
+   */
+  def multipliedBy(k: Float): Mat4cf = this * k
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def /(k: Complex32): Mat4cf = Mat4cf(
+    this.m00 / k, this.m01 / k, this.m02 / k, this.m03 / k,
+    this.m10 / k, this.m11 / k, this.m12 / k, this.m13 / k,
+    this.m20 / k, this.m21 / k, this.m22 / k, this.m23 / k,
+    this.m30 / k, this.m31 / k, this.m32 / k, this.m33 / k
+  )
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def dividedBy(k: Complex32): Mat4cf = this / k
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def /(k: Float): Mat4cf = Mat4cf(
+    this.m00 / k, this.m01 / k, this.m02 / k, this.m03 / k,
+    this.m10 / k, this.m11 / k, this.m12 / k, this.m13 / k,
+    this.m20 / k, this.m21 / k, this.m22 / k, this.m23 / k,
+    this.m30 / k, this.m31 / k, this.m32 / k, this.m33 / k
+  )
+
+  /**
+   * Divides this matrix by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return The division between this matrix and the given scalar.
+   */
+  def dividedBy(k: Float): Mat4cf = this / k
+
+  /**
+   * Returns the first row of this matrix as a [[Vec4cf]].
+   *
+   * @return The first row of this matrix.
+   * @see [[row]]
+   */
+  def row0: Vec4cf = Vec4cf(this.m00, this.m01, this.m02, this.m03)
+
+  /**
+   * Returns the second row of this matrix as a [[Vec4cf]].
+   *
+   * @return The second row of this matrix.
+   * @see [[row]]
+   */
+  def row1: Vec4cf = Vec4cf(this.m10, this.m11, this.m12, this.m13)
+
+  /**
+   * Returns the third row of this matrix as a [[Vec4cf]].
+   *
+   * @return The third row of this matrix.
+   * @see [[row]]
+   */
+  def row2: Vec4cf = Vec4cf(this.m20, this.m21, this.m22, this.m23)
+
+  /**
+   * Returns the fourth row of this matrix as a [[Vec4cf]].
+   *
+   * @return The fourth row of this matrix.
+   * @see [[row]]
+   */
+  def row3: Vec4cf = Vec4cf(this.m30, this.m31, this.m32, this.m33)
+
+  /**
+   * Returns the row at the given index as a [[Vec4cf]].
+   *
+   * @param i The index of the requested row. Must be either 0, 1, 2, or 3.
+   * @return The row at the given index.
+   * @throws MatchError If the given index is out of bounds.
+   * @see [[row0]], [[row1]], [[row2]], and [[row3]]
+   */
+  def row(i: Int): Vec4cf = i match {
+    case 0 => this.row0
+    case 1 => this.row1
+    case 2 => this.row2
+    case 3 => this.row3
+  }
+
+  /**
+   * Returns the first column of this matrix as a [[Vec4cf]].
+   *
+   * @return The first column of this matrix.
+   * @see [[col]]
+   */
+  def col0: Vec4cf = Vec4cf(this.m00, this.m10, this.m20, this.m30)
+
+  /**
+   * Returns the second column of this matrix as a [[Vec4cf]].
+   *
+   * @return The second column of this matrix.
+   * @see [[col]]
+   */
+  def col1: Vec4cf = Vec4cf(this.m01, this.m11, this.m21, this.m31)
+
+  /**
+   * Returns the third column of this matrix as a [[Vec4cf]].
+   *
+   * @return The third column of this matrix.
+   * @see [[col]]
+   */
+  def col2: Vec4cf = Vec4cf(this.m02, this.m12, this.m22, this.m32)
+
+  /**
+   * Returns the fourth column of this matrix as a [[Vec4cf]].
+   *
+   * @return The fourth column of this matrix.
+   * @see [[col]]
+   */
+  def col3: Vec4cf = Vec4cf(this.m03, this.m13, this.m23, this.m33)
+
+  /**
+   * Returns the column at the given index as a [[Vec4cf]].
+   *
+   * @param i The index of the requested column. Must be either 0, 1, 2, or 3.
+   * @return The column at the given index.
+   * @throws MatchError If the given index is out of bounds.
+   * @see [[col0]], [[col1]], [[col2]], and [[col3]]
+   */
+  def col(i: Int): Vec4cf = i match {
+    case 0 => this.col0
+    case 1 => this.col1
+    case 2 => this.col2
+    case 3 => this.col3
+  }
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * @param x The vector's x component.
+   * @param y The vector's y component.
+   * @param z The vector's z component.
+   * @param w The vector's w component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def *(x: Complex32, y: Complex32, z: Complex32, w: Complex32): Vec4cf = Vec4cf(
+    this.m00 * x + this.m01 * y + this.m02 * z + this.m03 * w,
+    this.m10 * x + this.m11 * y + this.m12 * z + this.m13 * w,
+    this.m20 * x + this.m21 * y + this.m22 * z + this.m23 * w,
+    this.m30 * x + this.m31 * y + this.m32 * z + this.m33 * w
+  )
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param x The vector's x component.
+   * @param y The vector's y component.
+   * @param z The vector's z component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def multiply(x: Complex32, y: Complex32, z: Complex32, w: Complex32): Vec4cf = this * (x, y, z, w)
+
+  /**
+   * Multiplies this matrix by the given vector and returns the result.
+   *
+   * @param v The vector to multiply this matrix by.
+   * @return The product of this matrix by the given vector.
+   */
+  def *(v: Vec4cf): Vec4cf = this * (v.x, v.y, v.z, v.w)
+
+  /**
+   * Multiplies this matrix by the given vector and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param v The vector to multiply this matrix by.
+   * @return The product of this matrix by the given vector.
+   */
+  def multiply(v: Vec4cf): Vec4cf = this * v
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * Useful to simplify the transformation of a 3D point.
+   *
+   * @param xyz The vector's x, y, and z components.
+   * @param w The vector's w component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def *(xyz: Vec3cf, w: Complex32): Vec4cf = this * (xyz.x, xyz.y, xyz.z, w)
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * Useful to simplify the transformation of a 3D point.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param xyz The vector's x, y, and z components.
+   * @param w The vector's w component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def multiply(xyz: Vec3cf, w: Complex32): Vec4cf = this * (xyz, w)
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * Useful to simplify the transformation of a 2D point.
+   *
+   * @param xy The vector's x and y components.
+   * @param z The vector's z component.
+   * @param w The vector's w component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def *(xy: Vec2cf, z: Complex32, w: Complex32): Vec4cf = this * (xy.x, xy.y, z, w)
+
+  /**
+   * Multiplies this matrix by the vector with the given components and returns the result.
+   *
+   * Useful to simplify the transformation of a 2D point.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param xy The vector's x and y components.
+   * @param z The vector's z component.
+   * @param w The vector's w component.
+   * @return The product of this matrix by the vector with the given components.
+   */
+  def multiply(xy: Vec2cf, z: Complex32, w: Complex32): Vec4cf = this * (xy, z, w)
+
+  /**
+   * Multiplies this matrix by the given one and returns the result.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return The product between this matrix and the given one.
+   */
+  def *(m: Mat4cf): Mat4cf = Mat4cf(
+    this.m00 * m.m00 + this.m01 * m.m10 + this.m02 * m.m20 + this.m03 * m.m30,
+    this.m00 * m.m01 + this.m01 * m.m11 + this.m02 * m.m21 + this.m03 * m.m31,
+    this.m00 * m.m02 + this.m01 * m.m12 + this.m02 * m.m22 + this.m03 * m.m32,
+    this.m00 * m.m03 + this.m01 * m.m13 + this.m02 * m.m23 + this.m03 * m.m33,
+    this.m10 * m.m00 + this.m11 * m.m10 + this.m12 * m.m20 + this.m13 * m.m30,
+    this.m10 * m.m01 + this.m11 * m.m11 + this.m12 * m.m21 + this.m13 * m.m31,
+    this.m10 * m.m02 + this.m11 * m.m12 + this.m12 * m.m22 + this.m13 * m.m32,
+    this.m10 * m.m03 + this.m11 * m.m13 + this.m12 * m.m23 + this.m13 * m.m33,
+    this.m20 * m.m00 + this.m21 * m.m10 + this.m22 * m.m20 + this.m23 * m.m30,
+    this.m20 * m.m01 + this.m21 * m.m11 + this.m22 * m.m21 + this.m23 * m.m31,
+    this.m20 * m.m02 + this.m21 * m.m12 + this.m22 * m.m22 + this.m23 * m.m32,
+    this.m20 * m.m03 + this.m21 * m.m13 + this.m22 * m.m23 + this.m23 * m.m33,
+    this.m30 * m.m00 + this.m31 * m.m10 + this.m32 * m.m20 + this.m33 * m.m30,
+    this.m30 * m.m01 + this.m31 * m.m11 + this.m32 * m.m21 + this.m33 * m.m31,
+    this.m30 * m.m02 + this.m31 * m.m12 + this.m32 * m.m22 + this.m33 * m.m32,
+    this.m30 * m.m03 + this.m31 * m.m13 + this.m32 * m.m23 + this.m33 * m.m33
+  )
+
+  /**
+   * Multiplies this matrix by the given one and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return The product between this matrix and the given one.
+   */
+  def multiply(m: Mat4cf): Mat4cf = this * m
+
+  /**
+   * Returns the transposed of this matrix.
+   *
+   * The transposed of a matrix is obtained by switching its rows and its columns.
+   *
+   * @return The transposed of this matrix.
+   */
+  def transposed: Mat4cf = Mat4cf(
+    this.m00, this.m10, this.m20, this.m30,
+    this.m01, this.m11, this.m21, this.m31,
+    this.m02, this.m12, this.m22, this.m32,
+    this.m03, this.m13, this.m23, this.m33
+  )
+
+  /**
+   * Returns the conjugate of this complex matrix.
+   *
+   * @return The conjugate of this complex matrix.
+   */
+  def conjugate: Mat4cf = Mat4cf(
+    this.m00.conjugate, this.m01.conjugate, this.m02.conjugate, this.m03.conjugate,
+    this.m10.conjugate, this.m11.conjugate, this.m12.conjugate, this.m13.conjugate,
+    this.m20.conjugate, this.m21.conjugate, this.m22.conjugate, this.m23.conjugate,
+    this.m30.conjugate, this.m31.conjugate, this.m32.conjugate, this.m33.conjugate
+  )
+
+  /**
+   * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
+   *
+   * @return True if this matrix is equal to its transposed, otherwise false.
+   * @see [[isSymmetric(tolerance:Float)*]]
+   */
+  def isSymmetric: Boolean = this.isSymmetric(0.0f)
+
+  /**
+   * Checks if this matrix is symmetric by checking if it is equal to its [[transposed]].
+   *
+   * Two elements are considered equal if their real parts and their imaginary parts differ by at most the given
+   * tolerance. The elements of this matrix are compared in place, without computing the transposed matrix, and the
+   * check stops at the first pair of elements that are not equal.
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSymmetric(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m03.a, this.m30.a, tolerance) &&
+      ComplexKernels.close(this.m03.b, this.m30.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, this.m21.b, tolerance) &&
+      ComplexKernels.close(this.m13.a, this.m31.a, tolerance) &&
+      ComplexKernels.close(this.m13.b, this.m31.b, tolerance) &&
+      ComplexKernels.close(this.m23.a, this.m32.a, tolerance) &&
+      ComplexKernels.close(this.m23.b, this.m32.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
+   *
+   * @return True if this matrix is equal to its negated transposed, otherwise false.
+   * @see [[isSkewSymmetric(tolerance:Float)*]]
+   */
+  def isSkewSymmetric: Boolean = this.isSkewSymmetric(0.0f)
+
+  /**
+   * Checks if this matrix is skew-symmetric by checking if it is equal to its [[negated]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its negated transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isSkewSymmetric(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.a, -this.m00.a, tolerance) &&
+      ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.a, -this.m11.a, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m22.a, -this.m22.a, tolerance) &&
+      ComplexKernels.close(this.m22.b, -this.m22.b, tolerance) &&
+      ComplexKernels.close(this.m33.a, -this.m33.a, tolerance) &&
+      ComplexKernels.close(this.m33.b, -this.m33.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, -this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, -this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, -this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m03.a, -this.m30.a, tolerance) &&
+      ComplexKernels.close(this.m03.b, -this.m30.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, -this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, -this.m21.b, tolerance) &&
+      ComplexKernels.close(this.m13.a, -this.m31.a, tolerance) &&
+      ComplexKernels.close(this.m13.b, -this.m31.b, tolerance) &&
+      ComplexKernels.close(this.m23.a, -this.m32.a, tolerance) &&
+      ComplexKernels.close(this.m23.b, -this.m32.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
+   *
+   * @return True if this matrix is equal to its conjugate transposed, otherwise false.
+   * @see [[isHermitian(tolerance:Float)*]]
+   */
+  def isHermitian: Boolean = this.isHermitian(0.0f)
+
+  /**
+   * Checks if this matrix is hermitian by checking if it is equal to its [[conjugate]] [[transposed]].
+   *
+   * Elements are compared in the same way as in [[isSymmetric(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum difference between the parts of two equal elements. Must not be negative.
+   * @return True if this matrix is equal to its conjugate transposed within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isHermitian(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m00.b, -this.m00.b, tolerance) &&
+      ComplexKernels.close(this.m11.b, -this.m11.b, tolerance) &&
+      ComplexKernels.close(this.m22.b, -this.m22.b, tolerance) &&
+      ComplexKernels.close(this.m33.b, -this.m33.b, tolerance) &&
+      ComplexKernels.close(this.m01.a, this.m10.a, tolerance) &&
+      ComplexKernels.close(this.m01.b, -this.m10.b, tolerance) &&
+      ComplexKernels.close(this.m02.a, this.m20.a, tolerance) &&
+      ComplexKernels.close(this.m02.b, -this.m20.b, tolerance) &&
+      ComplexKernels.close(this.m03.a, this.m30.a, tolerance) &&
+      ComplexKernels.close(this.m03.b, -this.m30.b, tolerance) &&
+      ComplexKernels.close(this.m12.a, this.m21.a, tolerance) &&
+      ComplexKernels.close(this.m12.b, -this.m21.b, tolerance) &&
+      ComplexKernels.close(this.m13.a, this.m31.a, tolerance) &&
+      ComplexKernels.close(this.m13.b, -this.m31.b, tolerance) &&
+      ComplexKernels.close(this.m23.a, this.m32.a, tolerance) &&
+      ComplexKernels.close(this.m23.b, -this.m32.b, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * @return True if this matrix is diagonal, otherwise false.
+   * @see [[isDiagonal(tolerance:Float)*]]
+   */
+  def isDiagonal: Boolean = this.isDiagonal(0.0f)
+
+  /**
+   * Checks if this matrix is diagonal by checking if all the elements outside of its main diagonal are zero.
+   *
+   * An element is considered zero if its real part and its imaginary part are at most equal to the given tolerance in
+   * absolute value. The elements of this matrix are checked in place and the check stops at the first element that is
+   * not zero.
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements outside of the main diagonal are zero within the given tolerance, otherwise
+   *         false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isDiagonal(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m03.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m03.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m10.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m13.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m13.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m23.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m23.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m30.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m30.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m31.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m31.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m32.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m32.b, 0.0f, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * @return True if this matrix is upper triangular, otherwise false.
+   * @see [[isUpperTriangular(tolerance:Float)*]]
+   */
+  def isUpperTriangular: Boolean = this.isUpperTriangular(0.0f)
+
+  /**
+   * Checks if this matrix is upper triangular by checking if all the elements below its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements below the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUpperTriangular(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m10.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m10.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m20.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m21.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m30.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m30.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m31.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m31.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m32.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m32.b, 0.0f, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * @return True if this matrix is lower triangular, otherwise false.
+   * @see [[isLowerTriangular(tolerance:Float)*]]
+   */
+  def isLowerTriangular: Boolean = this.isLowerTriangular(0.0f)
+
+  /**
+   * Checks if this matrix is lower triangular by checking if all the elements above its main diagonal are zero.
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if all the elements above the main diagonal are zero within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isLowerTriangular(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    ComplexKernels.close(this.m01.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m01.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m02.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m03.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m03.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m12.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m13.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m13.b, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m23.a, 0.0f, tolerance) &&
+      ComplexKernels.close(this.m23.b, 0.0f, tolerance)
+  }
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * @return True if this matrix is upper triangular or lower triangular, otherwise false.
+   * @see [[isTriangular(tolerance:Float)*]]
+   */
+  def isTriangular: Boolean = this.isTriangular(0.0f)
+
+  /**
+   * Checks if this matrix is either [[isUpperTriangular upper triangular]] or [[isLowerTriangular lower triangular]].
+   *
+   * Elements are checked in the same way as in [[isDiagonal(tolerance:Float)*]].
+   *
+   * @param tolerance The maximum absolute value of the parts of a zero element. Must not be negative.
+   * @return True if this matrix is upper triangular or lower triangular within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isTriangular(tolerance: Float): Boolean = this.isUpperTriangular(tolerance) || this.isLowerTriangular(tolerance)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * @return True if this matrix is unitary, otherwise false.
+   * @see [[isUnitary(tolerance:Float)*]]
+   */
+  def isUnitary: Boolean = this.isUnitary(0.0f)
+
+  /**
+   * Checks if this matrix is unitary by checking if its rows are orthonormal, which is equivalent to checking if the
+   * product between this matrix and its [[conjugate]] [[transposed]] is the identity matrix.
+   *
+   * The product is considered equal to the identity if its real parts and its imaginary parts differ from the ones of
+   * the identity by at most the given tolerance. It is computed one pair of rows at a time and the check stops at the
+   * first pair of rows that are not orthonormal.
+   *
+   * @param tolerance The maximum difference between the parts of the product and of the identity. Must not be
+   *                  negative.
+   * @return True if this matrix is unitary within the given tolerance, otherwise false.
+   * @throws IllegalArgumentException if the given tolerance is negative.
+   */
+  def isUnitary(tolerance: Float): Boolean = {
+    require(tolerance >= 0.0f, s"Tolerance must not be negative: $tolerance")
+    Mat4cf.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m00, this.m01, this.m02, this.m03, 1.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m10, this.m11, this.m12, this.m13, 0.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m20, this.m21, this.m22, this.m23, 0.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m00, this.m01, this.m02, this.m03, this.m30, this.m31, this.m32, this.m33, 0.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m10, this.m11, this.m12, this.m13, this.m10, this.m11, this.m12, this.m13, 1.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m10, this.m11, this.m12, this.m13, this.m20, this.m21, this.m22, this.m23, 0.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m10, this.m11, this.m12, this.m13, this.m30, this.m31, this.m32, this.m33, 0.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m20, this.m21, this.m22, this.m23, this.m20, this.m21, this.m22, this.m23, 1.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m20, this.m21, this.m22, this.m23, this.m30, this.m31, this.m32, this.m33, 0.0f, tolerance) &&
+      Mat4cf.isRowProduct(this.m30, this.m31, this.m32, this.m33, this.m30, this.m31, this.m32, this.m33, 1.0f, tolerance)
+  }
+
+  /**
+   * Returns a submatrix of this matrix obtained by removing the row at index `i` and the column at index `j`.
+   *
+   * @param i Index of the row to remove. Must be either 0, 1, 2, or 3.
+   * @param j Index of the column to remove. Must be either 0, 1, 2, or 3.
+   * @return A submatrix of this matrix.
+   * @throws MatchError if one of the given indices is out of bounds.
+   */
+  def submatrix(i: Int, j: Int): Mat3cf = (i, j) match {
+    case (0, 0) => Mat3cf(this.m11, this.m12, this.m13, this.m21, this.m22, this.m23, this.m31, this.m32, this.m33)
+    case (0, 1) => Mat3cf(this.m10, this.m12, this.m13, this.m20, this.m22, this.m23, this.m30, this.m32, this.m33)
+    case (0, 2) => Mat3cf(this.m10, this.m11, this.m13, this.m20, this.m21, this.m23, this.m30, this.m31, this.m33)
+    case (0, 3) => Mat3cf(this.m10, this.m11, this.m12, this.m20, this.m21, this.m22, this.m30, this.m31, this.m32)
+    case (1, 0) => Mat3cf(this.m01, this.m02, this.m03, this.m21, this.m22, this.m23, this.m31, this.m32, this.m33)
+    case (1, 1) => Mat3cf(this.m00, this.m02, this.m03, this.m20, this.m22, this.m23, this.m30, this.m32, this.m33)
+    case (1, 2) => Mat3cf(this.m00, this.m01, this.m03, this.m20, this.m21, this.m23, this.m30, this.m31, this.m33)
+    case (1, 3) => Mat3cf(this.m00, this.m01, this.m02, this.m20, this.m21, this.m22, this.m30, this.m31, this.m32)
+    case (2, 0) => Mat3cf(this.m01, this.m02, this.m03, this.m11, this.m12, this.m13, this.m31, this.m32, this.m33)
+    case (2, 1) => Mat3cf(this.m00, this.m02, this.m03, this.m10, this.m12, this.m13, this.m30, this.m32, this.m33)
+    case (2, 2) => Mat3cf(this.m00, this.m01, this.m03, this.m10, this.m11, this.m13, this.m30, this.m31, this.m33)
+    case (2, 3) => Mat3cf(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m30, this.m31, this.m32)
+    case (3, 0) => Mat3cf(this.m01, this.m02, this.m03, this.m11, this.m12, this.m13, this.m21, this.m22, this.m23)
+    case (3, 1) => Mat3cf(this.m00, this.m02, this.m03, this.m10, this.m12, this.m13, this.m20, this.m22, this.m23)
+    case (3, 2) => Mat3cf(this.m00, this.m01, this.m03, this.m10, this.m11, this.m13, this.m20, this.m21, this.m23)
+    case (3, 3) => Mat3cf(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22)
+  }
+
+  /**
+   * Returns the determinant of this matrix.
+   *
+   * @return The determinant of this matrix.
+   */
+  def determinant: Complex32 = Complex32.fromComplex(this.toMat4c.determinant)
+
+  /**
+   * Returns the adjugate of this matrix.
+   *
+   * @return The adjugate of this matrix.
+   */
+  def adjugate: Mat4cf = Mat4cf(
+    this.submatrix(0, 0).determinant, -this.submatrix(1, 0).determinant, this.submatrix(2, 0).determinant, -this.submatrix(3, 0).determinant,
+    -this.submatrix(0, 1).determinant, this.submatrix(1, 1).determinant, -this.submatrix(2, 1).determinant, this.submatrix(3, 1).determinant,
+    this.submatrix(0, 2).determinant, -this.submatrix(1, 2).determinant, this.submatrix(2, 2).determinant, -this.submatrix(3, 2).determinant,
+    -this.submatrix(0, 3).determinant, this.submatrix(1, 3).determinant, -this.submatrix(2, 3).determinant, this.submatrix(3, 3).determinant
+  )
+
+  /**
+   * Returns the inverse of this matrix.
+   *
+   * The result is undefined if this matrix is not invertible.
+   * It is possible to check if the matrix is invertible by checking if its [[determinant]] is not zero.
+   *
+   * @return The inverse of this matrix.
+   */
+  def inverse: Mat4cf = Mat4cf.fromMat4c(this.toMat4c.inverse)
+
+  /**
+   * Raises this matrix to the given power and returns the result.
+   *
+   * The power is computed in double precision by exponentiation by squaring and is rounded to single precision.
+   *
+   * If the given exponent is zero, the result will be the identity matrix.
+   *
+   * A matrix raised to a negative power is defined as the [[inverse]] matrix raised to `-exp`.
+   * The result is undefined if the given exponent is negative and this matrix is not invertible.
+   *
+   * @param exp The exponent to raise this matrix to.
+   * @return This matrix raised to the given power.
+   */
+  def power(exp: Int): Mat4cf = Mat4cf.fromMat4c(this.toMat4c.power(exp))
+
+  /**
+   * Returns the matrix exponential of this matrix, which is the sum of the series `I + M + M^2 / 2! + M^3 / 3! + ...`.
+   *
+   * The exponential is computed in double precision and rounded.
+   *
+   * @return The exponential of this matrix.
+   * @see [[Mat4c.expm]]
+   */
+  def expm: Mat4cf = Mat4cf.fromMat4c(this.toMat4c.expm)
+
+  /**
+   * Returns a matrix with all elements in absolute value.
+   *
+   * @return A matrix with all elements in absolute value.
+   */
+  def abs: Mat4f = Mat4f(
+    Complex32.abs(this.m00), Complex32.abs(this.m01), Complex32.abs(this.m02), Complex32.abs(this.m03),
+    Complex32.abs(this.m10), Complex32.abs(this.m11), Complex32.abs(this.m12), Complex32.abs(this.m13),
+    Complex32.abs(this.m20), Complex32.abs(this.m21), Complex32.abs(this.m22), Complex32.abs(this.m23),
+    Complex32.abs(this.m30), Complex32.abs(this.m31), Complex32.abs(this.m32), Complex32.abs(this.m33)
+  )
+
+  /**
+   * Constructs an orthonormal matrix from the columns of this matrix using the Gram-Schmidt procedure.
+   *
+   * @return This matrix with orthogonal columns of unit length.
+   */
+  def orthonormalized: Mat4cf = {
+    var (v0, v1, v2, v3) = (this.col0, this.col1, this.col2, this.col3)
+    v1 = v1 - v1.project(v0)
+    v2 = v2 - v2.project(v0) - v2.project(v1)
+    v3 = v3 - v3.project(v0) - v3.project(v1) - v3.project(v2)
+    Mat4cf.fromColumns(v0.normalized, v1.normalized, v2.normalized, v3.normalized)
+  }
+
+  /**
+   * Checks if this matrix is approximately equal to the given one using an internal epsilon.
+   *
+   * @param m The second matrix.
+   * @return True if this matrix is approximately equal to the given one, otherwise false.
+   */
+  def ~=(m: Mat4cf): Boolean = (this.m00 ~= m.m00) && (this.m01 ~= m.m01) && (this.m02 ~= m.m02) && (this.m03 ~= m.m03) &&
+    (this.m10 ~= m.m10) && (this.m11 ~= m.m11) && (this.m12 ~= m.m12) && (this.m13 ~= m.m13) &&
+    (this.m20 ~= m.m20) && (this.m21 ~= m.m21) && (this.m22 ~= m.m22) && (this.m23 ~= m.m23) &&
+    (this.m30 ~= m.m30) && (this.m31 ~= m.m31) && (this.m32 ~= m.m32) && (this.m33 ~= m.m33)
+
+  /**
+   * Checks if this matrix is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator.
+   *
+   * @param m The second matrix.
+   * @return True if this matrix is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(m: Mat4cf): Boolean = this ~= m
+
+  /**
+   * Returns the element at the given row and column index.
+   *
+   * @param row The row index of the desired element. Must be either 0, 1, 2, or 3.
+   * @param col The column index of the desired element. Must be either 0, 1, 2, or 3.
+   * @return The element at the given row and column index.
+   * @throws MatchError If any of the given indices is out of bounds.
+   */
+  def apply(row: Int, col: Int): Complex32 = (row, col) match {
+    case (0, 0) => this.m00
+    case (0, 1) => this.m01
+    case (0, 2) => this.m02
+    case (0, 3) => this.m03
+    case (1, 0) => this.m10
+    case (1, 1) => this.m11
+    case (1, 2) => this.m12
+    case (1, 3) => this.m13
+    case (2, 0) => this.m20
+    case (2, 1) => this.m21
+    case (2, 2) => this.m22
+    case (2, 3) => this.m23
+    case (3, 0) => this.m30
+    case (3, 1) => this.m31
+    case (3, 2) => this.m32
+    case (3, 3) => this.m33
+  }
+
+  /**
+   * Returns a matrix whose elements are the real part of the elements of this matrix.
+   *
+   * @return A matrix whose elements are the real part of the elements of this matrix.
+   */
+  def real: Mat4f = Mat4f(
+    this.m00.real, this.m01.real, this.m02.real, this.m03.real,
+    this.m10.real, this.m11.real, this.m12.real, this.m13.real,
+    this.m20.real, this.m21.real, this.m22.real, this.m23.real,
+    this.m30.real, this.m31.real, this.m32.real, this.m33.real
+  )
+
+  /**
+   * Returns a matrix whose elements are the imaginary part of the elements of this matrix.
+   *
+   * @return A matrix whose elements are the imaginary part of the elements of this matrix.
+   */
+  def imaginary: Mat4f = Mat4f(
+    this.m00.imaginary, this.m01.imaginary, this.m02.imaginary, this.m03.imaginary,
+    this.m10.imaginary, this.m11.imaginary, this.m12.imaginary, this.m13.imaginary,
+    this.m20.imaginary, this.m21.imaginary, this.m22.imaginary, this.m23.imaginary,
+    this.m30.imaginary, this.m31.imaginary, this.m32.imaginary, this.m33.imaginary
+  )
+
+  /**
+   * Converts this matrix to a double-precision matrix.
+   *
+   * The conversion is exact.
+   *
+   * @return A double-precision matrix equal to this one.
+   */
+  def toMat4c: Mat4c = Mat4c(
+    this.m00.toComplex, this.m01.toComplex, this.m02.toComplex, this.m03.toComplex,
+    this.m10.toComplex, this.m11.toComplex, this.m12.toComplex, this.m13.toComplex,
+    this.m20.toComplex, this.m21.toComplex, this.m22.toComplex, this.m23.toComplex,
+    this.m30.toComplex, this.m31.toComplex, this.m32.toComplex, this.m33.toComplex
+  )
+}
+
+/**
+ * Constants, factory methods, and implicits for matrices.
+ */
+object Mat4cf {
+
+  /** Shorthand for the zero matrix */
+  val Zero: Mat4cf = Mat4cf(0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f)
+
+  /** Shorthand for the identity matrix */
+  val Identity: Mat4cf = Mat4cf(1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f)
+
+  /**
+   * Converts the given double-precision matrix to single precision.
+   *
+   * The real and imaginary part of every component are rounded to the nearest float.
+   *
+   * @param m The double-precision matrix.
+   * @return The single-precision matrix nearest to the given one.
+   */
+  def fromMat4c(m: Mat4c): Mat4cf = Mat4cf(
+    Complex32.fromComplex(m.m00), Complex32.fromComplex(m.m01), Complex32.fromComplex(m.m02), Complex32.fromComplex(m.m03),
+    Complex32.fromComplex(m.m10), Complex32.fromComplex(m.m11), Complex32.fromComplex(m.m12), Complex32.fromComplex(m.m13),
+    Complex32.fromComplex(m.m20), Complex32.fromComplex(m.m21), Complex32.fromComplex(m.m22), Complex32.fromComplex(m.m23),
+    Complex32.fromComplex(m.m30), Complex32.fromComplex(m.m31), Complex32.fromComplex(m.m32), Complex32.fromComplex(m.m33)
+  )
+
+  /**
+   * Returns a 4x4 matrix from the given rows.
+   *
+   * @param row0 The first row.
+   * @param row1 The second row.
+   * @param row2 The third row.
+   * @param row3 The fourth row.
+   * @return A 4x4 matrix from the given rows.
+   */
+  def fromRows(row0: Vec4cf, row1: Vec4cf, row2: Vec4cf, row3: Vec4cf): Mat4cf = Mat4cf(
+    row0.x, row0.y, row0.z, row0.w,
+    row1.x, row1.y, row1.z, row1.w,
+    row2.x, row2.y, row2.z, row2.w,
+    row3.x, row3.y, row3.z, row3.w
+  )
+
+  /**
+   * Returns a 4x4 matrix from the given columns.
+   *
+   * @param col0 The first column.
+   * @param col1 The second column.
+   * @param col2 The third column.
+   * @param col3 The fourth column.
+   * @return A 4x4 matrix from the given columns.
+   */
+  def fromColumns(col0: Vec4cf, col1: Vec4cf, col2: Vec4cf, col3: Vec4cf): Mat4cf = Mat4cf(
+    col0.x, col1.x, col2.x, col3.x,
+    col0.y, col1.y, col2.y, col3.y,
+    col0.z, col1.z, col2.z, col3.z,
+    col0.w, col1.w, col2.w, col3.w
+  )
+
+  /**
+   * Allows to use the `*` operator with a complex number as `z * matrix`.
+   *
+   * @param self The scalar value.
+   */
+  implicit class ComplexExtender(val self: Complex32) extends AnyVal {
+
+    /**
+     * Multiplies the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the given vector.
+     */
+    def *(v: Mat4cf): Mat4cf = v * self
+  }
+
+  /**
+   * Allows to use the `*` operator with a real number as `k * matrix`.
+   *
+   * @param self The scalar value.
+   */
+  implicit class RealExtender(val self: Float) extends AnyVal {
+
+    /**
+     * Multiplies the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the given vector.
+     */
+    def *(v: Mat4cf): Mat4cf = v * self
+  }
+
+  /**
+   * Implicit conversion from [[Mat4f]] to [[Mat4cf]].
+   */
+  implicit val mat4fToMat4cf: Mat4f => Mat4cf = m => Mat4cf(m.m00, m.m01, m.m02, m.m03, m.m10, m.m11, m.m12, m.m13, m.m20, m.m21, m.m22, m.m23, m.m30, m.m31, m.m32, m.m33)
+
+  /**
+   * Implicit conversion from [[Mat4cf]] to [[Mat4c]].
+   */
+  implicit val mat4cfToMat4c: Mat4cf => Mat4c = m => m.toMat4c
+
+  /**
+   * Checks if the product between a row and the [[Complex32.conjugate conjugate]] of another row is equal to the given value
+   * within the given tolerance.
+   *
+   * @param x0 Element 0 of the first row.
+   * @param x1 Element 1 of the first row.
+   * @param x2 Element 2 of the first row.
+   * @param x3 Element 3 of the first row.
+   * @param y0 Element 0 of the second row.
+   * @param y1 Element 1 of the second row.
+   * @param y2 Element 2 of the second row.
+   * @param y3 Element 3 of the second row.
+   * @param expected The expected value of the product.
+   * @param tolerance The tolerance.
+   * @return True if the product is equal to the expected value within the given tolerance, otherwise false.
+   */
+  private def isRowProduct(x0: Complex32, x1: Complex32, x2: Complex32, x3: Complex32, y0: Complex32, y1: Complex32, y2: Complex32, y3: Complex32, expected: Float, tolerance: Float): Boolean = {
+    val re = x0.a * y0.a + x0.b * y0.b + x1.a * y1.a + x1.b * y1.b + x2.a * y2.a + x2.b * y2.b + x3.a * y3.a + x3.b * y3.b
+    val im = x0.b * y0.a - x0.a * y0.b + x1.b * y1.a - x1.a * y1.b + x2.b * y2.a - x2.a * y2.b + x3.b * y3.a - x3.a * y3.b
+    ComplexKernels.close(re, expected, tolerance) && ComplexKernels.close(im, 0.0f, tolerance)
+  }
+}
@@ -0,0 +1,197 @@
+package io.github.scalamath.cmplxlib
+
+import java.util.concurrent.RecursiveTask
+
+/**
+ * Internal kernels that multiply batches and chains of `n`x`n` complex matrices stored in arrays of interleaved real and
+ * imaginary parts, as described in [[ComplexKernels]].
+ *
+ * Offsets and counts are expressed in matrices, so that the matrix at index `i` of an array starts at index
+ * `2 * n * n * i`.
+ * The product of a chain is always computed from left to right, so that the product of the matrices `M0, M1, ..., Mk`
+ * is `M0 * M1 * ... * Mk`.
+ *
+ * Work is split with the given [[ParallelOps]], whose granularity is the maximum number of matrices processed by a
+ * single task.
+ * Since the way the input is split only depends on its length and on the granularity, results are deterministic and do
+ * not depend on the number of threads.
+ */
+private[cmplxlib] object MatrixChain {
+
+  /**
+   * Multiplies `count` consecutive matrices of the first array by the corresponding ones of the second array.
+   *
+   * The destination may be one of the operands if the offsets are equal.
+   *
+   * @param n The size of the matrices.
+   * @param a The array containing the left operands.
+   * @param aOff Index of the first left operand.
+   * @param b The array containing the right operands.
+   * @param bOff Index of the first right operand.
+   * @param dst The destination array.
+   * @param dstOff Index of the first result.
+   * @param count The number of products.
+   * @param parallel The object used to split the work.
+   */
+  def multiplyAll(n: Int, a: Array[Double], aOff: Int, b: Array[Double], bOff: Int, dst: Array[Double], dstOff: Int, count: Int, parallel: ParallelOps): Unit = {
+    val size = 2 * n * n
+    val aliased = (dst eq a) || (dst eq b)
+    parallel.forEach(count, (from, until) => {
+      val tmp = if (aliased) new Array[Double](size) else dst
+      var i = from
+      while (i < until) {
+        if (aliased) {
+          ComplexKernels.multiply(n, a, size * (aOff + i), b, size * (bOff + i), tmp, 0)
+          System.arraycopy(tmp, 0, dst, size * (dstOff + i), size)
+        } else {
+          ComplexKernels.multiply(n, a, size * (aOff + i), b, size * (bOff + i), dst, size * (dstOff + i))
+        }
+        i += 1
+      }
+    })
+  }
+
+  /**
+   * Computes the product of a chain of `count` consecutive matrices.
+   *
+   * Every task multiplies a range of matrices sequentially and the products of the ranges are multiplied in pairs
+   * following the same tree used to split the input.
+   *
+   * @param n The size of the matrices.
+   * @param src The array containing the matrices.
+   * @param off Index of the first matrix.
+   * @param count The number of matrices.
+   * @param parallel The object used to split the work.
+   * @return An array containing the product, which is the identity matrix if `count` is zero.
+   */
+  def product(n: Int, src: Array[Double], off: Int, count: Int, parallel: ParallelOps): Array[Double] = {
+    if (count <= parallel.granularity) {
+      this.sequentialProduct(n, src, off, 0, count)
+    } else {
+      parallel.pool.invoke(new Product(n, src, off, 0, count, parallel.granularity))
+    }
+  }
+
+  /**
+   * Computes all the partial products of a chain of `count` consecutive matrices, so that the result at index `i` is the
+   * product of the matrices from index `0` to index `i`.
+   *
+   * The chain is split in blocks of at most [[ParallelOps.granularity]] matrices.
+   * The partial products of every block are computed in parallel, then the product of all the previous blocks is
+   * computed sequentially for every block and multiplied in parallel to the left of its partial products.
+   *
+   * The destination may be the source array if the offsets are equal.
+   *
+   * @param n The size of the matrices.
+   * @param src The array containing the matrices.
+   * @param srcOff Index of the first matrix.
+   * @param dst The destination array.
+   * @param dstOff Index of the first result.
+   * @param count The number of matrices.
+   * @param parallel The object used to split the work.
+   */
+  def prefixProducts(n: Int, src: Array[Double], srcOff: Int, dst: Array[Double], dstOff: Int, count: Int, parallel: ParallelOps): Unit = {
+    val size = 2 * n * n
+    val block = parallel.granularity
+    val blocks = ((count.toLong + block - 1) / block).toInt
+    parallel.forEach(blocks, 1, (from, until) => {
+      val tmp = new Array[Double](size)
+      var k = from
+      while (k < until) {
+        val start = k * block
+        val end = math.min(start.toLong + block, count.toLong).toInt
+        System.arraycopy(src, size * (srcOff + start), dst, size * (dstOff + start), size)
+        var i = start + 1
+        while (i < end) {
+          ComplexKernels.multiply(n, dst, size * (dstOff + i - 1), src, size * (srcOff + i), tmp, 0)
+          System.arraycopy(tmp, 0, dst, size * (dstOff + i), size)
+          i += 1
+        }
+        k += 1
+      }
+    })
+    if (blocks > 1) {
+      // Products of all the matrices before every block, starting from the second one
+      val carries = new Array[Double](size * blocks)
+      System.arraycopy(dst, size * (dstOff + block - 1), carries, size, size)
+      var k = 2
+      while (k < blocks) {
+        ComplexKernels.multiply(n, carries, size * (k - 1), dst, size * (dstOff + k * block - 1), carries, size * k)
+        k += 1
+      }
+      parallel.forEach(blocks - 1, 1, (from, until) => {
+        val tmp = new Array[Double](size)
+        var k = from + 1
+        while (k < until + 1) {
+          val start = k * block
+          val end = math.min(start.toLong + block, count.toLong).toInt
+          var i = start
+          while (i < end) {
+            ComplexKernels.multiply(n, carries, size * k, dst, size * (dstOff + i), tmp, 0)
+            System.arraycopy(tmp, 0, dst, size * (dstOff + i), size)
+            i += 1
+          }
+          k += 1
+        }
+      })
+    }
+  }
+
+  /**
+   * Computes the product of the matrices in the range `[from, until)` sequentially.
+   *
+   * @param n The size of the matrices.
+   * @param src The array containing the matrices.
+   * @param off Index of the first matrix of the chain.
+   * @param from Start of the range, inclusive.
+   * @param until End of the range, exclusive.
+   * @return An array containing the product.
+   */
+  private def sequentialProduct(n: Int, src: Array[Double], off: Int, from: Int, until: Int): Array[Double] = {
+    val size = 2 * n * n
+    val res = new Array[Double](size)
+    if (from == until) {
+      var i = 0
+      while (i < n) {
+        res(2 * (i * n + i)) = 1.0
+        i += 1
+      }
+    } else {
+      System.arraycopy(src, size * (off + from), res, 0, size)
+      val row = new Array[Double](2 * n)
+      var i = from + 1
+      while (i < until) {
+        ComplexKernels.multiplyInPlace(n, res, 0, src, size * (off + i), row)
+        i += 1
+      }
+    }
+    res
+  }
+
+  /**
+   * Task that computes the product of a range of matrices by splitting the range in halves.
+   *
+   * @param n The size of the matrices.
+   * @param src The array containing the matrices.
+   * @param off Index of the first matrix of the chain.
+   * @param from Start of the range, inclusive.
+   * @param until End of the range, exclusive.
+   * @param granularity Maximum length of a range that is not split.
+   */
+  private class Product(n: Int, src: Array[Double], off: Int, from: Int, until: Int, granularity: Int) extends RecursiveTask[Array[Double]] {
+
+    override def compute(): Array[Double] = {
+      if (this.until - this.from <= this.granularity) {
+        MatrixChain.sequentialProduct(this.n, this.src, this.off, this.from, this.until)
+      } else {
+        val mid = (this.from + this.until) >>> 1
+        val left = new Product(this.n, this.src, this.off, this.from, mid, this.granularity)
+        left.fork()
+        val right = new Product(this.n, this.src, this.off, mid, this.until, this.granularity).compute()
+        val res = left.join()
+        ComplexKernels.multiplyInPlace(this.n, res, 0, right, 0, new Array[Double](2 * this.n))
+        res
+      }
+    }
+  }
+}
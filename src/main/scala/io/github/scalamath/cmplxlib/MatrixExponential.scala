@@ -0,0 +1,425 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * Internal kernel that computes the exponential of `n`x`n` complex matrices stored in arrays of interleaved real and
+ * imaginary parts, as described in [[ComplexKernels]].
+ *
+ * The exponential is computed with one of the following methods:
+ *
+ *  - 2x2 matrices use the closed form `exp(M) = exp(mu) * (cosh(delta) * I + sinh(delta) / delta * (M - mu * I))`, where
+ *    `mu` is half the trace of `M` and `mu + delta` and `mu - delta` are its eigenvalues.
+ *  - Hermitian matrices `H` are diagonalized as `H = Q * D * Q^H` with the Jacobi method and their exponential is
+ *    `Q * exp(D) * Q^H`. Skew-hermitian matrices `iH`, such as the propagator `-i * H * t` of a Hamiltonian, are
+ *    diagonalized in the same way.
+ *  - All other matrices use the scaling and squaring method with a diagonal Padé approximant of degree 3, 5, 7, 9, or 13
+ *    chosen from the 1-norm of the matrix, as described by Higham in "The scaling and squaring method for the matrix
+ *    exponential revisited" (2005). Since the approximant is evaluated with a few products of powers of the matrix and a
+ *    linear solve, the result is both faster and more accurate than a truncated series of powers.
+ *
+ * All work arrays are allocated by the constructor, therefore one instance can compute the exponential of many matrices
+ * without allocating any object.
+ * Instances are not thread-safe.
+ *
+ * @constructor Constructs a kernel for matrices of the given size.
+ * @param n The size of the matrices.
+ */
+private[cmplxlib] final class MatrixExponential(n: Int) {
+
+  /** Number of doubles in a matrix */
+  private val size = 2 * this.n * this.n
+
+  /** The scaled matrix */
+  private val a = new Array[Double](this.size)
+  /** Even powers of the scaled matrix */
+  private val a2 = new Array[Double](this.size)
+  private val a4 = new Array[Double](this.size)
+  private val a6 = new Array[Double](this.size)
+  private val a8 = new Array[Double](this.size)
+  /** Odd and even parts of the Padé approximant */
+  private val u = new Array[Double](this.size)
+  private val v = new Array[Double](this.size)
+  /** Temporary matrices */
+  private val t1 = new Array[Double](this.size)
+  private val t2 = new Array[Double](this.size)
+  /** Row exchanges of the LU decomposition */
+  private val pivots = new Array[Int](this.n)
+  /** Eigenvalues of a hermitian matrix */
+  private val values = new Array[Double](this.n)
+
+  /**
+   * Computes the exponential of the matrix at the given offset of the source array and writes it into the destination
+   * array.
+   *
+   * The destination may be the same as the source.
+   *
+   * @param src The source array.
+   * @param srcOff Index of the first element of the matrix.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  def apply(src: Array[Double], srcOff: Int, dst: Array[Double], dstOff: Int): Unit = {
+    if (this.n == 2) {
+      this.closedForm(src, srcOff, dst, dstOff)
+    } else {
+      System.arraycopy(src, srcOff, this.a, 0, this.size)
+      MatrixExponential.hermitianSign(this.n, this.a) match {
+        case 0 => this.pade(dst, dstOff)
+        case sign => this.hermitian(sign, dst, dstOff)
+      }
+    }
+  }
+
+  /**
+   * Computes the exponential of a 2x2 matrix in closed form.
+   *
+   * @param src The source array.
+   * @param srcOff Index of the first element of the matrix.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  private def closedForm(src: Array[Double], srcOff: Int, dst: Array[Double], dstOff: Int): Unit = {
+    val m01r = src(srcOff + 2)
+    val m01i = src(srcOff + 3)
+    val m10r = src(srcOff + 4)
+    val m10i = src(srcOff + 5)
+    // mu = (m00 + m11) / 2 and M - mu * I = [h, m01; m10, -h]
+    val muR = 0.5 * (src(srcOff) + src(srcOff + 6))
+    val muI = 0.5 * (src(srcOff + 1) + src(srcOff + 7))
+    val hr = 0.5 * (src(srcOff) - src(srcOff + 6))
+    val hi = 0.5 * (src(srcOff + 1) - src(srcOff + 7))
+    // x = delta^2 = h^2 + m01 * m10
+    val xr = hr * hr - hi * hi + m01r * m10r - m01i * m10i
+    val xi = 2.0 * hr * hi + m01r * m10i + m01i * m10r
+    // Real and imaginary parts of exp(mu) * cosh(delta) and of exp(mu) * sinh(delta) / delta
+    var cr = 0.0
+    var ci = 0.0
+    var sr = 0.0
+    var si = 0.0
+    if (xr * xr + xi * xi < 1e-4) {
+      // Taylor series of cosh(delta) and sinh(delta) / delta, which only contain even powers of delta
+      var chR = MatrixExponential.InverseFactorials(8)
+      var chI = 0.0
+      var shR = MatrixExponential.InverseFactorials(9)
+      var shI = 0.0
+      var k = 6
+      while (k >= 0) {
+        val t = chR * xr - chI * xi + MatrixExponential.InverseFactorials(k)
+        chI = chR * xi + chI * xr
+        chR = t
+        val u = shR * xr - shI * xi + MatrixExponential.InverseFactorials(k + 1)
+        shI = shR * xi + shI * xr
+        shR = u
+        k -= 2
+      }
+      val e = math.exp(muR)
+      val er = e * math.cos(muI)
+      val ei = e * math.sin(muI)
+      cr = er * chR - ei * chI
+      ci = er * chI + ei * chR
+      sr = er * shR - ei * shI
+      si = er * shI + ei * shR
+    } else {
+      // Principal square root of delta^2, the sign of delta does not change the result
+      val r = math.hypot(xr, xi)
+      var dr = 0.0
+      var di = 0.0
+      if (xr >= 0.0) {
+        dr = math.sqrt(0.5 * (r + xr))
+        di = xi / (2.0 * dr)
+      } else {
+        di = math.copySign(math.sqrt(0.5 * (r - xr)), xi)
+        dr = xi / (2.0 * di)
+      }
+      // exp(mu + delta) and exp(mu - delta)
+      val e1 = math.exp(muR + dr)
+      val e1r = e1 * math.cos(muI + di)
+      val e1i = e1 * math.sin(muI + di)
+      val e2 = math.exp(muR - dr)
+      val e2r = e2 * math.cos(muI - di)
+      val e2i = e2 * math.sin(muI - di)
+      cr = 0.5 * (e1r + e2r)
+      ci = 0.5 * (e1i + e2i)
+      // (e1 - e2) / (2 * delta)
+      val nr = 0.5 * (e1r - e2r)
+      val ni = 0.5 * (e1i - e2i)
+      val dd = dr * dr + di * di
+      sr = (nr * dr + ni * di) / dd
+      si = (ni * dr - nr * di) / dd
+    }
+    dst(dstOff) = cr + sr * hr - si * hi
+    dst(dstOff + 1) = ci + sr * hi + si * hr
+    dst(dstOff + 2) = sr * m01r - si * m01i
+    dst(dstOff + 3) = sr * m01i + si * m01r
+    dst(dstOff + 4) = sr * m10r - si * m10i
+    dst(dstOff + 5) = sr * m10i + si * m10r
+    dst(dstOff + 6) = cr - sr * hr + si * hi
+    dst(dstOff + 7) = ci - sr * hi - si * hr
+  }
+
+  /**
+   * Computes the exponential of the hermitian or skew-hermitian matrix in [[a]] by diagonalizing it.
+   *
+   * @param sign `1` if the matrix is hermitian, `-1` if it is skew-hermitian.
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  private def hermitian(sign: Int, dst: Array[Double], dstOff: Int): Unit = {
+    if (sign < 0) {
+      // Multiply by -i to obtain a hermitian matrix
+      var i = 0
+      while (i < this.size) {
+        val re = this.a(i)
+        this.a(i) = this.a(i + 1)
+        this.a(i + 1) = -re
+        i += 2
+      }
+    }
+    ComplexKernels.eigenHermitian(this.n, this.a, 0, this.values, 0, this.u, 0)
+    // Q * exp(D) * Q^H, where exp(D) is exp(lambda) for a hermitian matrix and exp(i * lambda) for a skew-hermitian one
+    var k = 0
+    while (k < this.n) {
+      val lambda = this.values(k)
+      val fr = if (sign > 0) math.exp(lambda) else math.cos(lambda)
+      val fi = if (sign > 0) 0.0 else math.sin(lambda)
+      var r = 0
+      while (r < this.n) {
+        val i = 2 * (r * this.n + k)
+        this.v(i) = this.u(i) * fr - this.u(i + 1) * fi
+        this.v(i + 1) = this.u(i) * fi + this.u(i + 1) * fr
+        r += 1
+      }
+      k += 1
+    }
+    var r = 0
+    while (r < this.n) {
+      var c = 0
+      while (c < this.n) {
+        var re = 0.0
+        var im = 0.0
+        k = 0
+        while (k < this.n) {
+          val i = 2 * (r * this.n + k)
+          val j = 2 * (c * this.n + k)
+          re += this.v(i) * this.u(j) + this.v(i + 1) * this.u(j + 1)
+          im += this.v(i + 1) * this.u(j) - this.v(i) * this.u(j + 1)
+          k += 1
+        }
+        dst(dstOff + 2 * (r * this.n + c)) = re
+        dst(dstOff + 2 * (r * this.n + c) + 1) = im
+        c += 1
+      }
+      r += 1
+    }
+  }
+
+  /**
+   * Computes the exponential of the matrix in [[a]] with the scaling and squaring method.
+   *
+   * @param dst The destination array.
+   * @param dstOff Index of the first element of the result.
+   */
+  private def pade(dst: Array[Double], dstOff: Int): Unit = {
+    val norm = MatrixExponential.norm1(this.n, this.a)
+    val degree = MatrixExponential.Degrees.indexWhere(d => norm <= MatrixExponential.Theta(d)) match {
+      case -1 => 13
+      case i => MatrixExponential.Degrees(i)
+    }
+    // Number of squarings needed to bring the norm below the bound of the approximant of degree 13
+    val squarings = if (degree < 13 || norm.isNaN || norm.isInfinite) {
+      0
+    } else {
+      math.max(0, math.ceil(math.log(norm / MatrixExponential.Theta(13)) / math.log(2.0)).toInt)
+    }
+    if (squarings > 0) {
+      val scale = math.scalb(1.0, -squarings)
+      var i = 0
+      while (i < this.size) {
+        this.a(i) *= scale
+        i += 1
+      }
+    }
+    val b = MatrixExponential.Coefficients(degree)
+    ComplexKernels.multiply(this.n, this.a, 0, this.a, 0, this.a2, 0)
+    if (degree >= 5) ComplexKernels.multiply(this.n, this.a2, 0, this.a2, 0, this.a4, 0)
+    if (degree >= 7) ComplexKernels.multiply(this.n, this.a4, 0, this.a2, 0, this.a6, 0)
+    if (degree == 9) ComplexKernels.multiply(this.n, this.a4, 0, this.a4, 0, this.a8, 0)
+    if (degree < 13) {
+      // U = A * (b1 * I + b3 * A^2 + ...) and V = b0 * I + b2 * A^2 + ...
+      this.combine(this.t1, b, 1, degree, 1)
+      ComplexKernels.multiply(this.n, this.a, 0, this.t1, 0, this.u, 0)
+      this.combine(this.v, b, 0, degree, 0)
+    } else {
+      // U = A * (A^6 * (b13 * A^6 + b11 * A^4 + b9 * A^2) + b7 * A^6 + b5 * A^4 + b3 * A^2 + b1 * I)
+      this.combine(this.t1, b, 9, 13, 7)
+      ComplexKernels.multiply(this.n, this.a6, 0, this.t1, 0, this.t2, 0)
+      this.combine(this.t1, b, 1, 7, 1)
+      this.add(this.t2, this.t1)
+      ComplexKernels.multiply(this.n, this.a, 0, this.t2, 0, this.u, 0)
+      // V = A^6 * (b12 * A^6 + b10 * A^4 + b8 * A^2) + b6 * A^6 + b4 * A^4 + b2 * A^2 + b0 * I
+      this.combine(this.t1, b, 8, 12, 6)
+      ComplexKernels.multiply(this.n, this.a6, 0, this.t1, 0, this.v, 0)
+      this.combine(this.t1, b, 0, 6, 0)
+      this.add(this.v, this.t1)
+    }
+    // Solve (V - U) * R = V + U
+    var i = 0
+    while (i < this.size) {
+      val p = this.v(i) + this.u(i)
+      this.t1(i) = this.v(i) - this.u(i)
+      this.t2(i) = p
+      i += 1
+    }
+    ComplexKernels.decomposeLU(this.n, this.t1, 0, this.pivots)
+    var c = 0
+    while (c < this.n) {
+      ComplexKernels.solveLU(this.n, this.t1, 0, this.pivots, this.t2, 2 * c, 2 * this.n)
+      c += 1
+    }
+    // Undo the scaling by squaring the result
+    var res = this.t2
+    var tmp = this.t1
+    var s = 0
+    while (s < squarings) {
+      ComplexKernels.multiply(this.n, res, 0, res, 0, tmp, 0)
+      val t = res
+      res = tmp
+      tmp = t
+      s += 1
+    }
+    System.arraycopy(res, 0, dst, dstOff, this.size)
+  }
+
+  /**
+   * Writes the linear combination of even powers of the scaled matrix `b(first) * A^(first - shift) +
+   * b(first + 2) * A^(first + 2 - shift) + ...` up to the coefficient `b(last)` into the given array.
+   *
+   * @param dst The destination array.
+   * @param b The coefficients of the Padé approximant.
+   * @param first Index of the first coefficient.
+   * @param last Index of the last coefficient.
+   * @param shift Difference between the index of a coefficient and the exponent of the power it multiplies.
+   */
+  private def combine(dst: Array[Double], b: Array[Double], first: Int, last: Int, shift: Int): Unit = {
+    java.util.Arrays.fill(dst, 0.0)
+    var k = first
+    while (k <= last) {
+      val power = (k - shift) match {
+        case 0 => null
+        case 2 => this.a2
+        case 4 => this.a4
+        case 6 => this.a6
+        case _ => this.a8
+      }
+      if (power == null) {
+        var d = 0
+        while (d < this.n) {
+          dst(2 * (d * this.n + d)) += b(k)
+          d += 1
+        }
+      } else {
+        var i = 0
+        while (i < this.size) {
+          dst(i) += b(k) * power(i)
+          i += 1
+        }
+      }
+      k += 2
+    }
+  }
+
+  /**
+   * Adds the second matrix to the first one.
+   *
+   * @param dst The first matrix, which is replaced by the sum.
+   * @param m The second matrix.
+   */
+  private def add(dst: Array[Double], m: Array[Double]): Unit = {
+    var i = 0
+    while (i < this.size) {
+      dst(i) += m(i)
+      i += 1
+    }
+  }
+}
+
+/**
+ * Constants and helper methods for the matrix exponential.
+ */
+private[cmplxlib] object MatrixExponential {
+
+  /** Degrees of the Padé approximants that can be used without scaling */
+  private val Degrees = Array(3, 5, 7, 9)
+
+  /** Largest 1-norm for which the Padé approximant of each degree has a relative error below the unit roundoff */
+  private val Theta = Map(
+    3 -> 1.495585217958292e-2,
+    5 -> 2.539398330063230e-1,
+    7 -> 9.504178996162932e-1,
+    9 -> 2.097847961257068e0,
+    13 -> 5.371920351148152e0
+  )
+
+  /** Coefficients of the Padé approximants of each degree */
+  private val Coefficients = Map(
+    3 -> Array[Double](120, 60, 12, 1),
+    5 -> Array[Double](30240, 15120, 3360, 420, 30, 1),
+    7 -> Array[Double](17297280, 8648640, 1995840, 277200, 25200, 1512, 56, 1),
+    9 -> Array[Double](17643225600.0, 8821612800.0, 2075673600, 302702400, 30270240, 2162160, 110880, 3960, 90, 1),
+    13 -> Array[Double](
+      64764752532480000.0, 32382376266240000.0, 7771770303897600.0, 1187353796428800.0, 129060195264000.0,
+      10559470521600.0, 670442572800.0, 33522128640.0, 1323241920, 40840800, 960960, 16380, 182, 1
+    )
+  )
+
+  /** The values `1 / k!` for `k` from 0 to 9 */
+  private val InverseFactorials = Array(1.0, 1.0, 1.0 / 2, 1.0 / 6, 1.0 / 24, 1.0 / 120, 1.0 / 720, 1.0 / 5040, 1.0 / 40320, 1.0 / 362880)
+
+  /**
+   * Returns the 1-norm of an `n`x`n` matrix, which is the maximum sum of the moduli of the elements of a column.
+   *
+   * @param n The size of the matrix.
+   * @param m The matrix.
+   * @return The 1-norm of the matrix.
+   */
+  private def norm1(n: Int, m: Array[Double]): Double = {
+    var max = 0.0
+    var c = 0
+    while (c < n) {
+      var sum = 0.0
+      var r = 0
+      while (r < n) {
+        val i = 2 * (r * n + c)
+        sum += math.hypot(m(i), m(i + 1))
+        r += 1
+      }
+      max = if (sum.isNaN) sum else math.max(max, sum)
+      c += 1
+    }
+    max
+  }
+
+  /**
+   * Checks if an `n`x`n` matrix is hermitian or skew-hermitian.
+   *
+   * @param n The size of the matrix.
+   * @param m The matrix.
+   * @return `1` if the matrix is hermitian, `-1` if it is skew-hermitian, `0` otherwise.
+   */
+  private def hermitianSign(n: Int, m: Array[Double]): Int = {
+    var hermitian = true
+    var skew = true
+    var r = 0
+    while ((hermitian || skew) && r < n) {
+      var c = r
+      while ((hermitian || skew) && c < n) {
+        val i = 2 * (r * n + c)
+        val j = 2 * (c * n + r)
+        hermitian &&= m(i) == m(j) && m(i + 1) == -m(j + 1)
+        skew &&= m(i) == -m(j) && m(i + 1) == m(j + 1)
+        c += 1
+      }
+      r += 1
+    }
+    if (hermitian) 1 else if (skew) -1 else 0
+  }
+}
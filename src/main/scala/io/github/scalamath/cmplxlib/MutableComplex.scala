@@ -0,0 +1,436 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+
+/**
+ * Mutable counterpart of [[Complex]].
+ *
+ * Unlike all other operations in this library, operations on a mutable complex number modify the object on which they are invoked.
+ * This allows to accumulate values in a loop without allocating a new object at every iteration.
+ *
+ * Mutable complex numbers are not thread-safe.
+ *
+ * @constructor Constructs a mutable complex number with the given real and imaginary part.
+ * @param a The real part of the complex number.
+ * @param b The imaginary part of the complex number.
+ */
+class MutableComplex(var a: Double, var b: Double) {
+
+  /**
+   * Constructs a mutable complex number equal to zero.
+   */
+  def this() = this(0.0, 0.0)
+
+  /**
+   * Constructs a mutable complex number equal to the given complex number.
+   *
+   * @param z The complex number.
+   */
+  def this(z: Complex) = this(z.a, z.b)
+
+  /**
+   * Sets the real and imaginary part of this complex number.
+   *
+   * @param a The real part.
+   * @param b The imaginary part.
+   * @return This same object.
+   */
+  def set(a: Double, b: Double): MutableComplex = {
+    this.a = a
+    this.b = b
+    this
+  }
+
+  /**
+   * Sets this complex number to the given one.
+   *
+   * @param z The complex number.
+   * @return This same object.
+   */
+  def set(z: Complex): MutableComplex = this.set(z.a, z.b)
+
+  /**
+   * Sets this complex number to the given one.
+   *
+   * @param z The complex number.
+   * @return This same object.
+   */
+  def set(z: MutableComplex): MutableComplex = this.set(z.a, z.b)
+
+  /**
+   * Adds the given values to this complex number.
+   *
+   * @param a The value to add to the real part.
+   * @param b The value to add to the imaginary part.
+   * @return This same object.
+   */
+  def +=(a: Double, b: Double): MutableComplex = this.set(this.a + a, this.b + b)
+
+  /**
+   * Adds the given values to this complex number.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param a The value to add to the real part.
+   * @param b The value to add to the imaginary part.
+   * @return This same object.
+   */
+  def addAssign(a: Double, b: Double): MutableComplex = this += (a, b)
+
+  /**
+   * Adds the given real number to this complex number.
+   *
+   * @param r The real number to add.
+   * @return This same object.
+   */
+  def +=(r: Double): MutableComplex = this += (r, 0.0)
+
+  /**
+   * Adds the given real number to this complex number.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param r The real number to add.
+   * @return This same object.
+   */
+  def addAssign(r: Double): MutableComplex = this += r
+
+  /**
+   * Adds the given complex number to this one.
+   *
+   * @param z The complex number to add.
+   * @return This same object.
+   */
+  def +=(z: Complex): MutableComplex = this += (z.a, z.b)
+
+  /**
+   * Adds the given complex number to this one.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to add.
+   * @return This same object.
+   */
+  def addAssign(z: Complex): MutableComplex = this += z
+
+  /**
+   * Adds the given complex number to this one.
+   *
+   * @param z The complex number to add.
+   * @return This same object.
+   */
+  def +=(z: MutableComplex): MutableComplex = this += (z.a, z.b)
+
+  /**
+   * Adds the given complex number to this one.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to add.
+   * @return This same object.
+   */
+  def addAssign(z: MutableComplex): MutableComplex = this += z
+
+  /**
+   * Subtracts the given values from this complex number.
+   *
+   * @param a The value to subtract from the real part.
+   * @param b The value to subtract from the imaginary part.
+   * @return This same object.
+   */
+  def -=(a: Double, b: Double): MutableComplex = this.set(this.a - a, this.b - b)
+
+  /**
+   * Subtracts the given values from this complex number.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param a The value to subtract from the real part.
+   * @param b The value to subtract from the imaginary part.
+   * @return This same object.
+   */
+  def subAssign(a: Double, b: Double): MutableComplex = this -= (a, b)
+
+  /**
+   * Subtracts the given real number from this complex number.
+   *
+   * @param r The real number to subtract.
+   * @return This same object.
+   */
+  def -=(r: Double): MutableComplex = this -= (r, 0.0)
+
+  /**
+   * Subtracts the given real number from this complex number.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param r The real number to subtract.
+   * @return This same object.
+   */
+  def subAssign(r: Double): MutableComplex = this -= r
+
+  /**
+   * Subtracts the given complex number from this one.
+   *
+   * @param z The complex number to subtract.
+   * @return This same object.
+   */
+  def -=(z: Complex): MutableComplex = this -= (z.a, z.b)
+
+  /**
+   * Subtracts the given complex number from this one.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to subtract.
+   * @return This same object.
+   */
+  def subAssign(z: Complex): MutableComplex = this -= z
+
+  /**
+   * Subtracts the given complex number from this one.
+   *
+   * @param z The complex number to subtract.
+   * @return This same object.
+   */
+  def -=(z: MutableComplex): MutableComplex = this -= (z.a, z.b)
+
+  /**
+   * Subtracts the given complex number from this one.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to subtract.
+   * @return This same object.
+   */
+  def subAssign(z: MutableComplex): MutableComplex = this -= z
+
+  /**
+   * Multiplies this complex number by the complex number with the given real part and imaginary part.
+   *
+   * @param a The real part of the complex number to multiply this one by.
+   * @param b The imaginary part of the complex number to multiply this one by.
+   * @return This same object.
+   */
+  def *=(a: Double, b: Double): MutableComplex = this.set(this.a * a - this.b * b, this.a * b + this.b * a)
+
+  /**
+   * Multiplies this complex number by the complex number with the given real part and imaginary part.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param a The real part of the complex number to multiply this one by.
+   * @param b The imaginary part of the complex number to multiply this one by.
+   * @return This same object.
+   */
+  def mulAssign(a: Double, b: Double): MutableComplex = this *= (a, b)
+
+  /**
+   * Multiplies this complex number by the given real number.
+   *
+   * @param r The real number to multiply this complex number by.
+   * @return This same object.
+   */
+  def *=(r: Double): MutableComplex = this.set(this.a * r, this.b * r)
+
+  /**
+   * Multiplies this complex number by the given real number.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param r The real number to multiply this complex number by.
+   * @return This same object.
+   */
+  def mulAssign(r: Double): MutableComplex = this *= r
+
+  /**
+   * Multiplies this complex number by the given one.
+   *
+   * @param z The complex number to multiply this one by.
+   * @return This same object.
+   */
+  def *=(z: Complex): MutableComplex = this *= (z.a, z.b)
+
+  /**
+   * Multiplies this complex number by the given one.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to multiply this one by.
+   * @return This same object.
+   */
+  def mulAssign(z: Complex): MutableComplex = this *= z
+
+  /**
+   * Multiplies this complex number by the given one.
+   *
+   * @param z The complex number to multiply this one by.
+   * @return This same object.
+   */
+  def *=(z: MutableComplex): MutableComplex = this *= (z.a, z.b)
+
+  /**
+   * Multiplies this complex number by the given one.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to multiply this one by.
+   * @return This same object.
+   */
+  def mulAssign(z: MutableComplex): MutableComplex = this *= z
+
+  /**
+   * Divides this complex number by the given real number.
+   *
+   * @param r The real number to divide this complex number by.
+   * @return This same object.
+   */
+  def /=(r: Double): MutableComplex = this.set(this.a / r, this.b / r)
+
+  /**
+   * Divides this complex number by the given real number.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param r The real number to divide this complex number by.
+   * @return This same object.
+   */
+  def divAssign(r: Double): MutableComplex = this /= r
+
+  /**
+   * Divides this complex number by the one with the given real and imaginary part.
+   *
+   * @param a The real part of the complex number to divide this one by.
+   * @param b The imaginary part of the complex number to divide this one by.
+   * @return This same object.
+   */
+  def /=(a: Double, b: Double): MutableComplex = {
+    // The scratch array does not escape and is eliminated by the JIT compiler once the kernel is inlined
+    val res = new Array[Double](2)
+    ComplexKernels.divide(this.a, this.b, a, b, res, 0)
+    this.set(res(0), res(1))
+  }
+
+  /**
+   * Divides this complex number by the one with the given real and imaginary part.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param a The real part of the complex number to divide this one by.
+   * @param b The imaginary part of the complex number to divide this one by.
+   * @return This same object.
+   */
+  def divAssign(a: Double, b: Double): MutableComplex = this /= (a, b)
+
+  /**
+   * Divides this complex number by the given one.
+   *
+   * @param z The complex number to divide this one by.
+   * @return This same object.
+   */
+  def /=(z: Complex): MutableComplex = this /= (z.a, z.b)
+
+  /**
+   * Divides this complex number by the given one.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to divide this one by.
+   * @return This same object.
+   */
+  def divAssign(z: Complex): MutableComplex = this /= z
+
+  /**
+   * Divides this complex number by the given one.
+   *
+   * @param z The complex number to divide this one by.
+   * @return This same object.
+   */
+  def /=(z: MutableComplex): MutableComplex = this /= (z.a, z.b)
+
+  /**
+   * Divides this complex number by the given one.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param z The complex number to divide this one by.
+   * @return This same object.
+   */
+  def divAssign(z: MutableComplex): MutableComplex = this /= z
+
+  /**
+   * Adds the product of the two given complex numbers to this one.
+   *
+   * This is equivalent to `this += z * w`, but does not allocate an intermediate object for the product.
+   *
+   * @param z The first factor.
+   * @param w The second factor.
+   * @return This same object.
+   */
+  def addProduct(z: Complex, w: Complex): MutableComplex = this += (z.a * w.a - z.b * w.b, z.a * w.b + z.b * w.a)
+
+  /**
+   * Sets this complex number to its complex conjugate.
+   *
+   * @return This same object.
+   * @see [[Complex.conjugate]]
+   */
+  def conjugateAssign(): MutableComplex = this.set(this.a, -this.b)
+
+  /**
+   * Sets this complex number to its additive inverse.
+   *
+   * @return This same object.
+   * @see [[Complex.negated]]
+   */
+  def negateAssign(): MutableComplex = this.set(-this.a, -this.b)
+
+  /**
+   * Returns the squared modulus of this complex number.
+   *
+   * @return The squared modulus of this complex number.
+   * @see [[Complex.squaredModulus]]
+   */
+  def squaredModulus: Double = this.a * this.a + this.b * this.b
+
+  /**
+   * Returns the modulus, or absolute value, of this complex number.
+   *
+   * @return The modulus of this complex number.
+   * @see [[Complex.modulus]]
+   */
+  def modulus: Double = Complex.abs(this.a, this.b)
+
+  /**
+   * Returns an immutable complex number equal to the current value of this one.
+   *
+   * @return An immutable complex number equal to this one.
+   */
+  def toComplex: Complex = Complex(this.a, this.b)
+
+  /**
+   * Checks if this complex number is approximately equal to the given one using an internal epsilon.
+   *
+   * @param z The complex number.
+   * @return True if this complex number is approximately equal to the given one, otherwise false.
+   */
+  def ~=(z: Complex): Boolean = (this.a ~= z.a) && (this.b ~= z.b)
+
+  /**
+   * Checks if this complex number is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param z The complex number.
+   * @return True if this complex number is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(z: Complex): Boolean = this ~= z
+
+  /**
+   * Returns a string representation of the current value of this complex number.
+   *
+   * @return A string representation of this complex number.
+   * @see [[Complex.toString]]
+   */
+  override def toString: String = this.toComplex.toString
+}
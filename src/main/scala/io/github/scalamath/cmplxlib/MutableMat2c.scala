@@ -0,0 +1,442 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+
+/**
+ * Mutable counterpart of [[Mat2c]].
+ *
+ * Unlike all other operations in this library, operations on a mutable matrix modify the object on which they are invoked.
+ * This allows to accumulate values in a loop without allocating a new object at every iteration.
+ *
+ * Mutable matrices are not thread-safe.
+ *
+ * @constructor Constructs a mutable 2x2 matrix with all elements set to zero.
+ */
+class MutableMat2c {
+
+  /** Interleaved real and imaginary parts of the elements of this matrix in row-major order */
+  private[cmplxlib] val data = new Array[Double](8)
+  /** Scratch space used to store a matrix operand */
+  private val operand = new Array[Double](8)
+  /** Scratch space used to store a row of the result of a matrix product */
+  private val row = new Array[Double](4)
+
+  /**
+   * Constructs a mutable 2x2 matrix equal to the given matrix.
+   *
+   * @param m The matrix.
+   */
+  def this(m: Mat2c) = {
+    this()
+    this.set(m)
+  }
+
+  /**
+   * Returns the element at the given row and column index.
+   *
+   * @param row The row index of the desired element. Must be either 0 or 1.
+   * @param col The column index of the desired element. Must be either 0 or 1.
+   * @return The element at the given row and column index.
+   * @throws ArrayIndexOutOfBoundsException If any of the given indices is out of bounds.
+   */
+  def apply(row: Int, col: Int): Complex = {
+    val i = this.index(row, col)
+    Complex(this.data(i), this.data(i + 1))
+  }
+
+  /**
+   * Sets the element at the given row and column index to the complex number with the given real and imaginary part.
+   *
+   * @param row The row index of the element to set. Must be either 0 or 1.
+   * @param col The column index of the element to set. Must be either 0 or 1.
+   * @param a The real part of the element.
+   * @param b The imaginary part of the element.
+   * @throws ArrayIndexOutOfBoundsException If any of the given indices is out of bounds.
+   */
+  def update(row: Int, col: Int, a: Double, b: Double): Unit = {
+    val i = this.index(row, col)
+    this.data(i) = a
+    this.data(i + 1) = b
+  }
+
+  /**
+   * Sets the element at the given row and column index to the given complex number.
+   *
+   * @param row The row index of the element to set. Must be either 0 or 1.
+   * @param col The column index of the element to set. Must be either 0 or 1.
+   * @param z The value of the element.
+   * @throws ArrayIndexOutOfBoundsException If any of the given indices is out of bounds.
+   */
+  def update(row: Int, col: Int, z: Complex): Unit = this.update(row, col, z.a, z.b)
+
+  /**
+   * Sets this matrix to the given one.
+   *
+   * @param m The matrix.
+   * @return This same object.
+   */
+  def set(m: Mat2c): MutableMat2c = {
+    ComplexKernels.pack(m, this.data, 0)
+    this
+  }
+
+  /**
+   * Sets this matrix to the given one.
+   *
+   * @param m The matrix.
+   * @return This same object.
+   */
+  def set(m: MutableMat2c): MutableMat2c = {
+    System.arraycopy(m.data, 0, this.data, 0, 8)
+    this
+  }
+
+  /**
+   * Sets all the elements of this matrix to zero.
+   *
+   * @return This same object.
+   */
+  def setZero(): MutableMat2c = {
+    java.util.Arrays.fill(this.data, 0.0)
+    this
+  }
+
+  /**
+   * Sets this matrix to the identity matrix.
+   *
+   * @return This same object.
+   */
+  def setIdentity(): MutableMat2c = {
+    this.setZero()
+    var i = 0
+    while (i < 2) {
+      this.data(this.index(i, i)) = 1.0
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Adds the given matrix to this one.
+   *
+   * @param m The matrix to add.
+   * @return This same object.
+   */
+  def +=(m: Mat2c): MutableMat2c = {
+    ComplexKernels.pack(m, this.operand, 0)
+    this.addScratch(this.operand, 1.0)
+  }
+
+  /**
+   * Adds the given matrix to this one.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param m The matrix to add.
+   * @return This same object.
+   */
+  def addAssign(m: Mat2c): MutableMat2c = this += m
+
+  /**
+   * Adds the given matrix to this one.
+   *
+   * @param m The matrix to add.
+   * @return This same object.
+   */
+  def +=(m: MutableMat2c): MutableMat2c = this.addScratch(m.data, 1.0)
+
+  /**
+   * Adds the given matrix to this one.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param m The matrix to add.
+   * @return This same object.
+   */
+  def addAssign(m: MutableMat2c): MutableMat2c = this += m
+
+  /**
+   * Subtracts the given matrix from this one.
+   *
+   * @param m The matrix to subtract.
+   * @return This same object.
+   */
+  def -=(m: Mat2c): MutableMat2c = {
+    ComplexKernels.pack(m, this.operand, 0)
+    this.addScratch(this.operand, -1.0)
+  }
+
+  /**
+   * Subtracts the given matrix from this one.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param m The matrix to subtract.
+   * @return This same object.
+   */
+  def subAssign(m: Mat2c): MutableMat2c = this -= m
+
+  /**
+   * Subtracts the given matrix from this one.
+   *
+   * @param m The matrix to subtract.
+   * @return This same object.
+   */
+  def -=(m: MutableMat2c): MutableMat2c = this.addScratch(m.data, -1.0)
+
+  /**
+   * Subtracts the given matrix from this one.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param m The matrix to subtract.
+   * @return This same object.
+   */
+  def subAssign(m: MutableMat2c): MutableMat2c = this -= m
+
+  /**
+   * Multiplies this matrix by the given scalar.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return This same object.
+   */
+  def *=(k: Complex): MutableMat2c = {
+    var i = 0
+    while (i < 8) {
+      val a = this.data(i)
+      val b = this.data(i + 1)
+      this.data(i) = a * k.a - b * k.b
+      this.data(i + 1) = a * k.b + b * k.a
+      i += 2
+    }
+    this
+  }
+
+  /**
+   * Multiplies this matrix by the given scalar.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return This same object.
+   */
+  def mulAssign(k: Complex): MutableMat2c = this *= k
+
+  /**
+   * Multiplies this matrix by the given scalar.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return This same object.
+   */
+  def *=(k: Double): MutableMat2c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) *= k
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Multiplies this matrix by the given scalar.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this matrix by.
+   * @return This same object.
+   */
+  def mulAssign(k: Double): MutableMat2c = this *= k
+
+  /**
+   * Multiplies this matrix by the given one, so that this matrix becomes `this * m`.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return This same object.
+   */
+  def *=(m: Mat2c): MutableMat2c = {
+    ComplexKernels.pack(m, this.operand, 0)
+    ComplexKernels.multiplyInPlace(2, this.data, 0, this.operand, 0, this.row)
+    this
+  }
+
+  /**
+   * Multiplies this matrix by the given one, so that this matrix becomes `this * m`.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return This same object.
+   */
+  def mulAssign(m: Mat2c): MutableMat2c = this *= m
+
+  /**
+   * Multiplies this matrix by the given one, so that this matrix becomes `this * m`.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return This same object.
+   */
+  def *=(m: MutableMat2c): MutableMat2c = {
+    System.arraycopy(m.data, 0, this.operand, 0, 8)
+    ComplexKernels.multiplyInPlace(2, this.data, 0, this.operand, 0, this.row)
+    this
+  }
+
+  /**
+   * Multiplies this matrix by the given one, so that this matrix becomes `this * m`.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param m The matrix to multiply this one by.
+   * @return This same object.
+   */
+  def mulAssign(m: MutableMat2c): MutableMat2c = this *= m
+
+  /**
+   * Divides this matrix by the given scalar.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return This same object.
+   */
+  def /=(k: Complex): MutableMat2c = this *= k.inverse
+
+  /**
+   * Divides this matrix by the given scalar.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return This same object.
+   */
+  def divAssign(k: Complex): MutableMat2c = this /= k
+
+  /**
+   * Divides this matrix by the given scalar.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return This same object.
+   */
+  def /=(k: Double): MutableMat2c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) /= k
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Divides this matrix by the given scalar.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this matrix by.
+   * @return This same object.
+   */
+  def divAssign(k: Double): MutableMat2c = this /= k
+
+  /**
+   * Sets this matrix to its transposed.
+   *
+   * @return This same object.
+   * @see [[Mat2c.transposed]]
+   */
+  def transposeAssign(): MutableMat2c = {
+    var r = 0
+    while (r < 2) {
+      var c = r + 1
+      while (c < 2) {
+        val i = this.index(r, c)
+        val j = this.index(c, r)
+        val a = this.data(i)
+        val b = this.data(i + 1)
+        this.data(i) = this.data(j)
+        this.data(i + 1) = this.data(j + 1)
+        this.data(j) = a
+        this.data(j + 1) = b
+        c += 1
+      }
+      r += 1
+    }
+    this
+  }
+
+  /**
+   * Sets this matrix to its complex conjugate.
+   *
+   * @return This same object.
+   * @see [[Mat2c.conjugate]]
+   */
+  def conjugateAssign(): MutableMat2c = {
+    var i = 1
+    while (i < 8) {
+      this.data(i) = -this.data(i)
+      i += 2
+    }
+    this
+  }
+
+  /**
+   * Returns an immutable matrix equal to the current value of this one.
+   *
+   * @return An immutable matrix equal to this one.
+   */
+  def toMat2c: Mat2c = ComplexKernels.unpack2(this.data, 0)
+
+  /**
+   * Checks if this matrix is approximately equal to the given one using an internal epsilon.
+   *
+   * @param m The matrix.
+   * @return True if this matrix is approximately equal to the given one, otherwise false.
+   */
+  def ~=(m: Mat2c): Boolean = {
+    ComplexKernels.pack(m, this.operand, 0)
+    this.data.indices.forall(i => this.data(i) ~= this.operand(i))
+  }
+
+  /**
+   * Checks if this matrix is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param m The matrix.
+   * @return True if this matrix is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(m: Mat2c): Boolean = this ~= m
+
+  /**
+   * Returns a string representation of the current value of this matrix.
+   *
+   * @return A string representation of this matrix.
+   */
+  override def toString: String = this.toMat2c.toString
+
+  /**
+   * Returns the index of the real part of the element at the given row and column in the underlying array.
+   *
+   * @param row The row index.
+   * @param col The column index.
+   * @return The index of the given element in the underlying array.
+   */
+  private def index(row: Int, col: Int): Int = {
+    if (row < 0 || row >= 2 || col < 0 || col >= 2) {
+      throw new ArrayIndexOutOfBoundsException(s"Index ($row, $col) out of bounds for a 2x2 matrix")
+    }
+    2 * (row * 2 + col)
+  }
+
+  /**
+   * Adds the matrix stored in the given array multiplied by the given factor to this one.
+   *
+   * @param m The array containing the matrix to add.
+   * @param k The factor to multiply the given matrix by.
+   * @return This same object.
+   */
+  private def addScratch(m: Array[Double], k: Double): MutableMat2c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) += m(i) * k
+      i += 1
+    }
+    this
+  }
+}
@@ -0,0 +1,502 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+
+/**
+ * Mutable counterpart of [[Vec4c]].
+ *
+ * Unlike all other operations in this library, operations on a mutable vector modify the object on which they are invoked.
+ * This allows to accumulate values in a loop without allocating a new object at every iteration.
+ *
+ * Mutable vectors are not thread-safe.
+ *
+ * @constructor Constructs a mutable 4D vector with all components set to zero.
+ */
+class MutableVec4c {
+
+  /** Interleaved real and imaginary parts of the components of this vector */
+  private[cmplxlib] val data = new Array[Double](8)
+  /** Scratch space used to store a matrix operand */
+  private val matrix = new Array[Double](32)
+  /** Scratch space used to store a vector operand */
+  private val vector = new Array[Double](8)
+  /** Scratch space used to store the result of a matrix-vector product */
+  private val result = new Array[Double](8)
+
+  /**
+   * Constructs a mutable 4D vector from the given components.
+   *
+   * @param x The vector's x component.
+   * @param y The vector's y component.
+   * @param z The vector's z component.
+   * @param w The vector's w component.
+   */
+  def this(x: Complex, y: Complex, z: Complex, w: Complex) = {
+    this()
+    this.set(x, y, z, w)
+  }
+
+  /**
+   * Constructs a mutable 4D vector equal to the given vector.
+   *
+   * @param v The vector.
+   */
+  def this(v: Vec4c) = {
+    this()
+    this.set(v)
+  }
+
+  /**
+   * Returns the x component of this vector.
+   *
+   * @return The x component of this vector.
+   */
+  def x: Complex = this(0)
+
+  /**
+   * Returns the y component of this vector.
+   *
+   * @return The y component of this vector.
+   */
+  def y: Complex = this(1)
+
+  /**
+   * Returns the z component of this vector.
+   *
+   * @return The z component of this vector.
+   */
+  def z: Complex = this(2)
+
+  /**
+   * Returns the w component of this vector.
+   *
+   * @return The w component of this vector.
+   */
+  def w: Complex = this(3)
+
+  /**
+   * Returns the component of this vector at the given index.
+   *
+   * @param i The index of the requested component. Must be either 0, 1, 2, or 3.
+   * @return The component of this vector at the given index.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def apply(i: Int): Complex = Complex(this.data(i * 2), this.data(i * 2 + 1))
+
+  /**
+   * Sets the component of this vector at the given index to the complex number with the given real and imaginary part.
+   *
+   * @param i The index of the component to set. Must be either 0, 1, 2, or 3.
+   * @param a The real part of the component.
+   * @param b The imaginary part of the component.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def update(i: Int, a: Double, b: Double): Unit = {
+    this.data(i * 2) = a
+    this.data(i * 2 + 1) = b
+  }
+
+  /**
+   * Sets the component of this vector at the given index to the given complex number.
+   *
+   * @param i The index of the component to set. Must be either 0, 1, 2, or 3.
+   * @param z The value of the component.
+   * @throws ArrayIndexOutOfBoundsException If the given index is out of bounds.
+   */
+  def update(i: Int, z: Complex): Unit = this.update(i, z.a, z.b)
+
+  /**
+   * Sets the components of this vector.
+   *
+   * @param x The vector's x component.
+   * @param y The vector's y component.
+   * @param z The vector's z component.
+   * @param w The vector's w component.
+   * @return This same object.
+   */
+  def set(x: Complex, y: Complex, z: Complex, w: Complex): MutableVec4c = {
+    this.update(0, x)
+    this.update(1, y)
+    this.update(2, z)
+    this.update(3, w)
+    this
+  }
+
+  /**
+   * Sets this vector to the given one.
+   *
+   * @param v The vector.
+   * @return This same object.
+   */
+  def set(v: Vec4c): MutableVec4c = this.set(v.x, v.y, v.z, v.w)
+
+  /**
+   * Sets this vector to the given one.
+   *
+   * @param v The vector.
+   * @return This same object.
+   */
+  def set(v: MutableVec4c): MutableVec4c = {
+    System.arraycopy(v.data, 0, this.data, 0, 8)
+    this
+  }
+
+  /**
+   * Sets all the components of this vector to zero.
+   *
+   * @return This same object.
+   */
+  def setZero(): MutableVec4c = {
+    java.util.Arrays.fill(this.data, 0.0)
+    this
+  }
+
+  /**
+   * Adds the given vector to this one.
+   *
+   * @param v The vector to add.
+   * @return This same object.
+   */
+  def +=(v: Vec4c): MutableVec4c = {
+    ComplexKernels.pack(v, this.vector, 0)
+    this.addScratch(this.vector)
+  }
+
+  /**
+   * Adds the given vector to this one.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param v The vector to add.
+   * @return This same object.
+   */
+  def addAssign(v: Vec4c): MutableVec4c = this += v
+
+  /**
+   * Adds the given vector to this one.
+   *
+   * @param v The vector to add.
+   * @return This same object.
+   */
+  def +=(v: MutableVec4c): MutableVec4c = this.addScratch(v.data)
+
+  /**
+   * Adds the given vector to this one.
+   *
+   * This method can be used in place of the `+=` operator for better interoperability with Java.
+   *
+   * @param v The vector to add.
+   * @return This same object.
+   */
+  def addAssign(v: MutableVec4c): MutableVec4c = this += v
+
+  /**
+   * Subtracts the given vector from this one.
+   *
+   * @param v The vector to subtract.
+   * @return This same object.
+   */
+  def -=(v: Vec4c): MutableVec4c = {
+    ComplexKernels.pack(v, this.vector, 0)
+    this.subScratch(this.vector)
+  }
+
+  /**
+   * Subtracts the given vector from this one.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param v The vector to subtract.
+   * @return This same object.
+   */
+  def subAssign(v: Vec4c): MutableVec4c = this -= v
+
+  /**
+   * Subtracts the given vector from this one.
+   *
+   * @param v The vector to subtract.
+   * @return This same object.
+   */
+  def -=(v: MutableVec4c): MutableVec4c = this.subScratch(v.data)
+
+  /**
+   * Subtracts the given vector from this one.
+   *
+   * This method can be used in place of the `-=` operator for better interoperability with Java.
+   *
+   * @param v The vector to subtract.
+   * @return This same object.
+   */
+  def subAssign(v: MutableVec4c): MutableVec4c = this -= v
+
+  /**
+   * Multiplies this vector by the given scalar.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return This same object.
+   */
+  def *=(k: Complex): MutableVec4c = {
+    var i = 0
+    while (i < 8) {
+      val a = this.data(i)
+      val b = this.data(i + 1)
+      this.data(i) = a * k.a - b * k.b
+      this.data(i + 1) = a * k.b + b * k.a
+      i += 2
+    }
+    this
+  }
+
+  /**
+   * Multiplies this vector by the given scalar.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return This same object.
+   */
+  def mulAssign(k: Complex): MutableVec4c = this *= k
+
+  /**
+   * Multiplies this vector by the given scalar.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return This same object.
+   */
+  def *=(k: Double): MutableVec4c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) *= k
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Multiplies this vector by the given scalar.
+   *
+   * This method can be used in place of the `*=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return This same object.
+   */
+  def mulAssign(k: Double): MutableVec4c = this *= k
+
+  /**
+   * Divides this vector by the given scalar.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return This same object.
+   */
+  def /=(k: Complex): MutableVec4c = this *= k.inverse
+
+  /**
+   * Divides this vector by the given scalar.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return This same object.
+   */
+  def divAssign(k: Complex): MutableVec4c = this /= k
+
+  /**
+   * Divides this vector by the given scalar.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return This same object.
+   */
+  def /=(k: Double): MutableVec4c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) /= k
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Divides this vector by the given scalar.
+   *
+   * This method can be used in place of the `/=` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return This same object.
+   */
+  def divAssign(k: Double): MutableVec4c = this /= k
+
+  /**
+   * Sets this vector to the product of the given matrix by this vector.
+   *
+   * @param m The matrix to transform this vector by.
+   * @return This same object.
+   */
+  def transform(m: Mat4c): MutableVec4c = {
+    ComplexKernels.pack(m, this.matrix, 0)
+    ComplexKernels.transform(4, this.matrix, 0, this.data, 0, this.result, 0)
+    System.arraycopy(this.result, 0, this.data, 0, 8)
+    this
+  }
+
+  /**
+   * Adds the product of the given matrix by the given vector to this vector.
+   *
+   * This is equivalent to `this += m * v`, but does not allocate intermediate objects.
+   *
+   * @param m The matrix.
+   * @param v The vector.
+   * @return This same object.
+   */
+  def addProduct(m: Mat4c, v: Vec4c): MutableVec4c = {
+    ComplexKernels.pack(v, this.vector, 0)
+    this.addProductScratch(m, this.vector)
+  }
+
+  /**
+   * Adds the product of the given matrix by the given vector to this vector.
+   *
+   * This is equivalent to `this += m * v`, but does not allocate intermediate objects.
+   *
+   * @param m The matrix.
+   * @param v The vector.
+   * @return This same object.
+   */
+  def addProduct(m: Mat4c, v: MutableVec4c): MutableVec4c = this.addProductScratch(m, v.data)
+
+  /**
+   * Sets this vector to its complex conjugate.
+   *
+   * @return This same object.
+   * @see [[Vec4c.conjugate]]
+   */
+  def conjugateAssign(): MutableVec4c = {
+    var i = 1
+    while (i < 8) {
+      this.data(i) = -this.data(i)
+      i += 2
+    }
+    this
+  }
+
+  /**
+   * Returns the dot product between this vector and the given one.
+   *
+   * @param v The second vector.
+   * @return The dot product between this vector and the given one.
+   * @see [[Vec4c.dot]]
+   */
+  def dot(v: Vec4c): Complex = {
+    ComplexKernels.pack(v, this.vector, 0)
+    var re = 0.0
+    var im = 0.0
+    var i = 0
+    while (i < 8) {
+      re += this.data(i) * this.vector(i) + this.data(i + 1) * this.vector(i + 1)
+      im += this.data(i + 1) * this.vector(i) - this.data(i) * this.vector(i + 1)
+      i += 2
+    }
+    Complex(re, im)
+  }
+
+  /**
+   * Returns the squared length of this vector.
+   *
+   * @return The squared length of this vector.
+   * @see [[Vec4c.lengthSquared]]
+   */
+  def lengthSquared: Double = {
+    var res = 0.0
+    var i = 0
+    while (i < 8) {
+      res += this.data(i) * this.data(i)
+      i += 1
+    }
+    res
+  }
+
+  /**
+   * Returns the length of this vector.
+   *
+   * @return The length of this vector.
+   * @see [[Vec4c.length]]
+   */
+  def length: Double = math.sqrt(this.lengthSquared)
+
+  /**
+   * Returns an immutable vector equal to the current value of this one.
+   *
+   * @return An immutable vector equal to this one.
+   */
+  def toVec4c: Vec4c = Vec4c(this(0), this(1), this(2), this(3))
+
+  /**
+   * Checks if this vector is approximately equal to the given one using an internal epsilon.
+   *
+   * @param v The vector.
+   * @return True if this vector is approximately equal to the given one, otherwise false.
+   */
+  def ~=(v: Vec4c): Boolean = {
+    ComplexKernels.pack(v, this.vector, 0)
+    this.data.indices.forall(i => this.data(i) ~= this.vector(i))
+  }
+
+  /**
+   * Checks if this vector is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param v The vector.
+   * @return True if this vector is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(v: Vec4c): Boolean = this ~= v
+
+  /**
+   * Returns a string representation of the current value of this vector.
+   *
+   * @return A string representation of this vector.
+   */
+  override def toString: String = this.toVec4c.toString
+
+  /**
+   * Adds the vector stored in the given array to this one.
+   *
+   * @param v The array containing the vector to add.
+   * @return This same object.
+   */
+  private def addScratch(v: Array[Double]): MutableVec4c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) += v(i)
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Subtracts the vector stored in the given array from this one.
+   *
+   * @param v The array containing the vector to subtract.
+   * @return This same object.
+   */
+  private def subScratch(v: Array[Double]): MutableVec4c = {
+    var i = 0
+    while (i < 8) {
+      this.data(i) -= v(i)
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Adds the product of the given matrix by the vector stored in the given array to this vector.
+   *
+   * @param m The matrix.
+   * @param v The array containing the vector.
+   * @return This same object.
+   */
+  private def addProductScratch(m: Mat4c, v: Array[Double]): MutableVec4c = {
+    ComplexKernels.pack(m, this.matrix, 0)
+    ComplexKernels.transform(4, this.matrix, 0, v, 0, this.result, 0)
+    this.addScratch(this.result)
+  }
+}
@@ -0,0 +1,217 @@
+package io.github.scalamath.cmplxlib
+
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * An operation measured by [[Instrumentation]].
+ *
+ * When instrumentation is enabled, every call to an instrumented method increments striped counters with the number of
+ * calls and the time spent in the method, which can be read with [[Instrumentation.snapshot]], and emits an
+ * [[OperationEvent]] if a Java Flight Recorder recording is running.
+ *
+ * @param label The name of the operation.
+ */
+private[cmplxlib] final class Operation private(val label: String) {
+
+  /** The number of calls to this operation */
+  private val calls = new LongAdder()
+  /** The total time spent in this operation in nanoseconds */
+  private val elapsed = new LongAdder()
+
+  /**
+   * Records a call to this operation that started at the given time, if instrumentation is enabled.
+   *
+   * @param start The value returned by [[Operation.start]] when the operation started.
+   */
+  def stop(start: Long): Unit = {
+    if (Operation.Enabled) {
+      this.record(System.nanoTime() - start)
+    }
+  }
+
+  /**
+   * Records a call to this operation that lasted for the given time.
+   *
+   * @param duration The duration of the call in nanoseconds.
+   */
+  def record(duration: Long): Unit = {
+    this.calls.increment()
+    this.elapsed.add(duration)
+    OperationEvents.emit(this.label, duration)
+  }
+
+  /**
+   * Returns the number of calls to this operation.
+   *
+   * @return The number of calls to this operation.
+   */
+  def count: Long = this.calls.sum()
+
+  /**
+   * Returns the total time spent in this operation.
+   *
+   * @return The total time spent in this operation in nanoseconds.
+   */
+  def nanos: Long = this.elapsed.sum()
+
+  /**
+   * Resets the counters of this operation.
+   */
+  def reset(): Unit = {
+    this.calls.reset()
+    this.elapsed.reset()
+  }
+}
+
+/**
+ * The operations measured by [[Instrumentation]].
+ *
+ * Instrumentation is enabled by setting the `cmplxlib.instrumentation` system property to `true` when the JVM is
+ * started.
+ * When it is disabled, [[Operation.start]] and [[Operation.stop]] only check a flag and the classes of the `jdk.jfr`
+ * module are never loaded.
+ */
+private[cmplxlib] object Operation {
+
+  /** Name of the system property that enables instrumentation */
+  val Property: String = "cmplxlib.instrumentation"
+  /** True if instrumentation is enabled */
+  val Enabled: Boolean = java.lang.Boolean.getBoolean(this.Property)
+
+  /** `Complex.sqrt` */
+  val ComplexSqrt: Operation = new Operation("Complex.sqrt")
+
+  /** `Complex.exp` */
+  val ComplexExp: Operation = new Operation("Complex.exp")
+
+  /** `Complex.log` */
+  val ComplexLog: Operation = new Operation("Complex.log")
+
+  /** `Complex.pow` */
+  val ComplexPow: Operation = new Operation("Complex.pow")
+
+  /** `Complex.sin` */
+  val ComplexSin: Operation = new Operation("Complex.sin")
+
+  /** `Complex.cos` */
+  val ComplexCos: Operation = new Operation("Complex.cos")
+
+  /** `Complex.tan` */
+  val ComplexTan: Operation = new Operation("Complex.tan")
+
+  /** `Mat2c.inverse` */
+  val Mat2cInverse: Operation = new Operation("Mat2c.inverse")
+
+  /** `Mat2c.power` */
+  val Mat2cPower: Operation = new Operation("Mat2c.power")
+
+  /** `Mat2c.hermitianEigen` */
+  val Mat2cHermitianEigen: Operation = new Operation("Mat2c.hermitianEigen")
+
+  /** `Mat2c.expm` */
+  val Mat2cExpm: Operation = new Operation("Mat2c.expm")
+
+  /** `Mat2c.orthonormalized` */
+  val Mat2cOrthonormalized: Operation = new Operation("Mat2c.orthonormalized")
+
+  /** `Mat2x3c.orthonormalized` */
+  val Mat2x3cOrthonormalized: Operation = new Operation("Mat2x3c.orthonormalized")
+
+  /** `Mat3c.luDecomposition` */
+  val Mat3cLuDecomposition: Operation = new Operation("Mat3c.luDecomposition")
+
+  /** `Mat3c.qrDecomposition` */
+  val Mat3cQrDecomposition: Operation = new Operation("Mat3c.qrDecomposition")
+
+  /** `Mat3c.inverse` */
+  val Mat3cInverse: Operation = new Operation("Mat3c.inverse")
+
+  /** `Mat3c.power` */
+  val Mat3cPower: Operation = new Operation("Mat3c.power")
+
+  /** `Mat3c.hermitianEigen` */
+  val Mat3cHermitianEigen: Operation = new Operation("Mat3c.hermitianEigen")
+
+  /** `Mat3c.expm` */
+  val Mat3cExpm: Operation = new Operation("Mat3c.expm")
+
+  /** `Mat3c.orthonormalized` */
+  val Mat3cOrthonormalized: Operation = new Operation("Mat3c.orthonormalized")
+
+  /** `Mat3x4c.qrDecomposition` */
+  val Mat3x4cQrDecomposition: Operation = new Operation("Mat3x4c.qrDecomposition")
+
+  /** `Mat3x4c.orthonormalized` */
+  val Mat3x4cOrthonormalized: Operation = new Operation("Mat3x4c.orthonormalized")
+
+  /** `Mat4c.luDecomposition` */
+  val Mat4cLuDecomposition: Operation = new Operation("Mat4c.luDecomposition")
+
+  /** `Mat4c.qrDecomposition` */
+  val Mat4cQrDecomposition: Operation = new Operation("Mat4c.qrDecomposition")
+
+  /** `Mat4c.determinant` */
+  val Mat4cDeterminant: Operation = new Operation("Mat4c.determinant")
+
+  /** `Mat4c.inverse` */
+  val Mat4cInverse: Operation = new Operation("Mat4c.inverse")
+
+  /** `Mat4c.power` */
+  val Mat4cPower: Operation = new Operation("Mat4c.power")
+
+  /** `Mat4c.hermitianEigen` */
+  val Mat4cHermitianEigen: Operation = new Operation("Mat4c.hermitianEigen")
+
+  /** `Mat4c.expm` */
+  val Mat4cExpm: Operation = new Operation("Mat4c.expm")
+
+  /** `Mat4c.orthonormalized` */
+  val Mat4cOrthonormalized: Operation = new Operation("Mat4c.orthonormalized")
+
+  /** All the measured operations */
+  val values: Seq[Operation] = Seq(ComplexSqrt, ComplexExp, ComplexLog, ComplexPow, ComplexSin, ComplexCos, ComplexTan, Mat2cInverse, Mat2cPower, Mat2cHermitianEigen, Mat2cExpm, Mat2cOrthonormalized, Mat2x3cOrthonormalized, Mat3cLuDecomposition, Mat3cQrDecomposition, Mat3cInverse, Mat3cPower, Mat3cHermitianEigen, Mat3cExpm, Mat3cOrthonormalized, Mat3x4cQrDecomposition, Mat3x4cOrthonormalized, Mat4cLuDecomposition, Mat4cQrDecomposition, Mat4cDeterminant, Mat4cInverse, Mat4cPower, Mat4cHermitianEigen, Mat4cExpm, Mat4cOrthonormalized)
+
+  /**
+   * Returns the time at which an instrumented operation starts.
+   *
+   * @return The current value of `System.nanoTime`, or zero if instrumentation is disabled.
+   */
+  def start(): Long = if (this.Enabled) System.nanoTime() else 0L
+}
+
+/**
+ * Emits the flight recorder events of the measured operations.
+ *
+ * This object is only initialized when the first call is recorded, therefore the `jdk.jfr` module is not needed if
+ * instrumentation is disabled.
+ * If the module is not available, calls are still counted but no event is emitted.
+ */
+private object OperationEvents {
+
+  /** True if the flight recorder classes can be loaded */
+  private val available: Boolean = {
+    try {
+      new OperationEvent()
+      true
+    } catch {
+      case _: LinkageError => false
+    }
+  }
+
+  /**
+   * Emits an event for a call to the given operation if a recording that includes it is running.
+   *
+   * @param operation The name of the operation.
+   * @param duration The duration of the call in nanoseconds.
+   */
+  def emit(operation: String, duration: Long): Unit = {
+    if (this.available) {
+      val event = new OperationEvent()
+      if (event.isEnabled) {
+        event.operation = operation
+        event.elapsed = duration
+        event.commit()
+      }
+    }
+  }
+}
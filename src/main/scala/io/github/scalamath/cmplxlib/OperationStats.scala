@@ -0,0 +1,19 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * Number of calls and time spent in an operation measured by [[Instrumentation]].
+ *
+ * @constructor Constructs the statistics of an operation.
+ * @param operation The name of the operation, such as `Mat4c.inverse`.
+ * @param count The number of calls to the operation.
+ * @param totalNanos The total time spent in the operation in nanoseconds.
+ */
+case class OperationStats(operation: String, count: Long, totalNanos: Long) {
+
+  /**
+   * Returns the average time spent in a call to the operation.
+   *
+   * @return The average time of a call in nanoseconds, or zero if the operation was never called.
+   */
+  def meanNanos: Double = if (this.count == 0L) 0.0 else this.totalNanos.toDouble / this.count
+}
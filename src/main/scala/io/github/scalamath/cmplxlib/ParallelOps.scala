@@ -0,0 +1,429 @@
+package io.github.scalamath.cmplxlib
+
+import java.util.concurrent.{ForkJoinPool, RecursiveAction, RecursiveTask}
+
+/**
+ * Bulk operations on complex arrays, on batches of vectors, and on complex matrices executed in parallel on a fork-join
+ * pool.
+ *
+ * Operations split their input in halves until a range is not larger than the granularity, then process every range as
+ * a task of the given pool.
+ * Inputs that are not larger than the granularity are processed on the calling thread.
+ *
+ * Reductions use pairwise summation: every range is summed sequentially and partial sums are added in pairs following
+ * the same tree used to split the input.
+ * Since the way the input is split only depends on its length and on the granularity, the result of a reduction is
+ * deterministic and does not depend on the number of threads or on the order in which tasks are executed.
+ * Element-wise products and dot products of every range are computed with the [[ComplexBackend.current]] backend.
+ *
+ * @constructor Constructs an object to execute parallel operations with the given pool and granularity.
+ * @param pool The fork-join pool used to execute the tasks.
+ * @param granularity The maximum number of elements, of vectors for batched transforms, or of matrices for batched
+ *                    matrix products, processed by a single task. Must be positive.
+ */
+case class ParallelOps(pool: ForkJoinPool, granularity: Int) {
+  require(granularity > 0, s"Granularity must be positive: $granularity")
+
+  /**
+   * Returns the sum of all the elements of the given array.
+   *
+   * @param a The array.
+   * @return The sum of all the elements of the given array.
+   */
+  def sum(a: ComplexArray): Complex = {
+    val data = a.data
+    this.reduce(a.length, (from, until) => {
+      var re = 0.0
+      var im = 0.0
+      var i = 2 * from
+      while (i < 2 * until) {
+        re += data(i)
+        im += data(i + 1)
+        i += 2
+      }
+      Complex(re, im)
+    })
+  }
+
+  /**
+   * Returns the dot product between the two given arrays, that is the sum of the products between each element of the
+   * first array and the [[Complex.conjugate]] of the corresponding element of the second array.
+   *
+   * If the two arrays contain vectors stored as consecutive complex numbers, the result is the sum of the dot products
+   * between the vectors of the two arrays.
+   *
+   * @param a The first array.
+   * @param b The second array.
+   * @return The dot product between the two arrays.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   * @see [[Vec2c.dot]]
+   * @see [[Vec3c.dot]]
+   * @see [[Vec4c.dot]]
+   */
+  def dot(a: ComplexArray, b: ComplexArray): Complex = {
+    ParallelOps.checkLength(a, b)
+    val x = a.data
+    val y = b.data
+    this.reduce(a.length, (from, until) => ComplexBackend.current.conjugateDot(x, from, y, from, until - from))
+  }
+
+  /**
+   * Returns the sum of the products between each element of the first array and the corresponding element of the second
+   * array.
+   *
+   * @param a The first array.
+   * @param b The second array.
+   * @return The sum of the products between the elements of the two arrays.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   */
+  def sumOfProducts(a: ComplexArray, b: ComplexArray): Complex = {
+    ParallelOps.checkLength(a, b)
+    val x = a.data
+    val y = b.data
+    this.reduce(a.length, (from, until) => {
+      var re = 0.0
+      var im = 0.0
+      var i = 2 * from
+      while (i < 2 * until) {
+        re += x(i) * y(i) - x(i + 1) * y(i + 1)
+        im += x(i) * y(i + 1) + x(i + 1) * y(i)
+        i += 2
+      }
+      Complex(re, im)
+    })
+  }
+
+  /**
+   * Returns the element-wise sum of the two given arrays.
+   *
+   * @param a The first array.
+   * @param b The second array.
+   * @return The element-wise sum of the two arrays.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   * @see [[ComplexArray.+]]
+   */
+  def plus(a: ComplexArray, b: ComplexArray): ComplexArray = {
+    ParallelOps.checkLength(a, b)
+    val x = a.data
+    val y = b.data
+    val res = new ComplexArray(a.length)
+    val dst = res.data
+    this.forEach(a.length, (from, until) => {
+      var i = 2 * from
+      while (i < 2 * until) {
+        dst(i) = x(i) + y(i)
+        i += 1
+      }
+    })
+    res
+  }
+
+  /**
+   * Returns the element-wise difference between the two given arrays.
+   *
+   * @param a The first array.
+   * @param b The second array.
+   * @return The element-wise difference between the two arrays.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   * @see [[ComplexArray.-]]
+   */
+  def minus(a: ComplexArray, b: ComplexArray): ComplexArray = {
+    ParallelOps.checkLength(a, b)
+    val x = a.data
+    val y = b.data
+    val res = new ComplexArray(a.length)
+    val dst = res.data
+    this.forEach(a.length, (from, until) => {
+      var i = 2 * from
+      while (i < 2 * until) {
+        dst(i) = x(i) - y(i)
+        i += 1
+      }
+    })
+    res
+  }
+
+  /**
+   * Returns the element-wise product between the two given arrays.
+   *
+   * @param a The first array.
+   * @param b The second array.
+   * @return The element-wise product between the two arrays.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   * @see [[ComplexArray.*]]
+   */
+  def multiply(a: ComplexArray, b: ComplexArray): ComplexArray = {
+    ParallelOps.checkLength(a, b)
+    val x = a.data
+    val y = b.data
+    val res = new ComplexArray(a.length)
+    val dst = res.data
+    this.forEach(a.length, (from, until) => ComplexBackend.current.multiply(x, from, y, from, dst, from, until - from))
+    res
+  }
+
+  /**
+   * Returns the product between every element of the given array and the given complex number.
+   *
+   * @param a The array.
+   * @param z The complex number.
+   * @return The product between the array and the complex number.
+   * @see [[ComplexArray.*]]
+   */
+  def multiply(a: ComplexArray, z: Complex): ComplexArray = {
+    val x = a.data
+    val za = z.a
+    val zb = z.b
+    val res = new ComplexArray(a.length)
+    val dst = res.data
+    this.forEach(a.length, (from, until) => {
+      var i = 2 * from
+      while (i < 2 * until) {
+        val re = x(i) * za - x(i + 1) * zb
+        val im = x(i) * zb + x(i + 1) * za
+        dst(i) = re
+        dst(i + 1) = im
+        i += 2
+      }
+    })
+    res
+  }
+
+  /**
+   * Multiplies the given matrix by all the vectors in the given source array in parallel and writes the results into the
+   * given destination array.
+   *
+   * @param m The matrix.
+   * @param src The source array. Its length must be a multiple of 2.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[Mat2c.transformAll]]
+   */
+  def transformAll(m: Mat2c, src: ComplexArray, dst: ComplexArray): Unit = {
+    val count = ParallelOps.checkBatch(src, 2, dst, 2)
+    this.forEach(count, (from, until) => m.transformAll(src.data, from, dst.data, from, until - from))
+  }
+
+  /**
+   * Multiplies the given matrix by all the vectors in the given source array in parallel and writes the results into the
+   * given destination array.
+   *
+   * @param m The matrix.
+   * @param src The source array. Its length must be a multiple of 3.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[Mat3c.transformAll]]
+   */
+  def transformAll(m: Mat3c, src: ComplexArray, dst: ComplexArray): Unit = {
+    val count = ParallelOps.checkBatch(src, 3, dst, 3)
+    this.forEach(count, (from, until) => m.transformAll(src.data, from, dst.data, from, until - from))
+  }
+
+  /**
+   * Multiplies the given matrix by all the vectors in the given source array in parallel and writes the results into the
+   * given destination array.
+   *
+   * @param m The matrix.
+   * @param src The source array. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least the one of the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[Mat4c.transformAll]]
+   */
+  def transformAll(m: Mat4c, src: ComplexArray, dst: ComplexArray): Unit = {
+    val count = ParallelOps.checkBatch(src, 4, dst, 4)
+    this.forEach(count, (from, until) => m.transformAll(src.data, from, dst.data, from, until - from))
+  }
+
+  /**
+   * Multiplies the given matrix by all the vectors in the given source array in parallel and writes the results into the
+   * given destination array.
+   *
+   * @param m The matrix.
+   * @param src The source array. Its length must be a multiple of 3.
+   * @param dst The destination array. Its length must be at least 2 times the number of vectors in the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[Mat2x3c.transformAll]]
+   */
+  def transformAll(m: Mat2x3c, src: ComplexArray, dst: ComplexArray): Unit = {
+    val count = ParallelOps.checkBatch(src, 3, dst, 2)
+    this.forEach(count, (from, until) => m.transformAll(src.data, from, dst.data, from, until - from))
+  }
+
+  /**
+   * Multiplies the given matrix by all the vectors in the given source array in parallel and writes the results into the
+   * given destination array.
+   *
+   * @param m The matrix.
+   * @param src The source array. Its length must be a multiple of 4.
+   * @param dst The destination array. Its length must be at least 3 times the number of vectors in the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   * @see [[Mat3x4c.transformAll]]
+   */
+  def transformAll(m: Mat3x4c, src: ComplexArray, dst: ComplexArray): Unit = {
+    val count = ParallelOps.checkBatch(src, 4, dst, 3)
+    this.forEach(count, (from, until) => m.transformAll(src.data, from, dst.data, from, until - from))
+  }
+
+  /**
+   * Returns the product between the two given matrices.
+   *
+   * The rows of the result are split in ranges that are computed in parallel with the same cache-blocked algorithm used
+   * by [[ComplexMatrix.*]].
+   * Every range contains enough rows to hold at least [[granularity]] elements of the result and never less than
+   * [[ParallelOps.MinProductRows]] rows, so that every block of the right operand is reused for several rows.
+   *
+   * @param a The left operand.
+   * @param b The right operand. Its number of rows must be equal to the number of columns of the left operand.
+   * @return The product between the two matrices.
+   * @throws IllegalArgumentException if the number of rows of the right operand is not equal to the number of columns of
+   *                                  the left operand.
+   * @see [[ComplexMatrix.*]]
+   */
+  def multiply(a: ComplexMatrix, b: ComplexMatrix): ComplexMatrix = {
+    ComplexMatrix.checkProduct(a, b)
+    val res = new ComplexMatrix(a.rows, b.columns)
+    val rows = math.max(ParallelOps.MinProductRows, this.granularity / math.max(b.columns, 1))
+    this.forEach(a.rows, rows, (from, until) => {
+      ComplexKernels.gemm(a.rows, b.columns, a.columns, a.data, 0, b.data, 0, res.data, 0, from, until)
+    })
+    res
+  }
+
+  /**
+   * Computes the sum of the partial results of the given function over the range `[0, length)`.
+   *
+   * @param length Length of the range.
+   * @param leaf Function that computes the partial result over the range `[from, until)`.
+   * @return The sum of all the partial results.
+   */
+  private def reduce(length: Int, leaf: (Int, Int) => Complex): Complex = {
+    if (length <= this.granularity) {
+      leaf(0, length)
+    } else {
+      this.pool.invoke(new ParallelOps.Reduce(0, length, this.granularity, leaf))
+    }
+  }
+
+  /**
+   * Executes the given function over the range `[0, length)`.
+   *
+   * @param length Length of the range.
+   * @param leaf Function that processes the range `[from, until)`.
+   */
+  private[cmplxlib] def forEach(length: Int, leaf: (Int, Int) => Unit): Unit = this.forEach(length, this.granularity, leaf)
+
+  /**
+   * Executes the given function over the range `[0, length)` splitting it in ranges of at most the given length.
+   *
+   * @param length Length of the range.
+   * @param granularity Maximum length of a range that is not split.
+   * @param leaf Function that processes the range `[from, until)`.
+   */
+  private[cmplxlib] def forEach(length: Int, granularity: Int, leaf: (Int, Int) => Unit): Unit = {
+    if (length <= granularity) {
+      leaf(0, length)
+    } else {
+      this.pool.invoke(new ParallelOps.ForEach(0, length, granularity, leaf))
+    }
+  }
+}
+
+/**
+ * Default instance and factory methods for parallel operations.
+ */
+object ParallelOps {
+
+  /** The default granularity */
+  val DefaultGranularity: Int = 8192
+
+  /** The minimum number of rows of a range of the result of a parallel matrix product */
+  val MinProductRows: Int = 64
+
+  /** Parallel operations using the common pool and the default granularity */
+  val Default: ParallelOps = ParallelOps(ForkJoinPool.commonPool(), DefaultGranularity)
+
+  /** Parallel operations whose granularity is never exceeded, which process their whole input on the calling thread */
+  private[cmplxlib] val Sequential: ParallelOps = ParallelOps(ForkJoinPool.commonPool(), Int.MaxValue)
+
+  /**
+   * Constructs an object to execute parallel operations with the given pool and the default granularity.
+   *
+   * @param pool The fork-join pool used to execute the tasks.
+   * @return An object to execute parallel operations with the given pool.
+   */
+  def apply(pool: ForkJoinPool): ParallelOps = ParallelOps(pool, DefaultGranularity)
+
+  /**
+   * Checks that the two given arrays have the same length.
+   *
+   * @param a The first array.
+   * @param b The second array.
+   * @throws IllegalArgumentException if the two arrays do not have the same length.
+   */
+  private def checkLength(a: ComplexArray, b: ComplexArray): Unit = {
+    require(a.length == b.length, s"Arrays must have the same length: ${a.length} and ${b.length}")
+  }
+
+  /**
+   * Checks that the given arrays have a valid length for a batched transform.
+   *
+   * @param src The source array.
+   * @param srcSize Number of components of the source vectors.
+   * @param dst The destination array.
+   * @param dstSize Number of components of the resulting vectors.
+   * @return The number of vectors in the source array.
+   * @throws IllegalArgumentException if one of the arrays does not have a valid length.
+   */
+  private def checkBatch(src: ComplexArray, srcSize: Int, dst: ComplexArray, dstSize: Int): Int = {
+    require(src.length % srcSize == 0, s"Length of the source array is not a multiple of $srcSize: ${src.length}")
+    val count = src.length / srcSize
+    ComplexKernels.checkBatch(src.data, 0, srcSize, dst.data, 0, dstSize, count)
+    count
+  }
+
+  /**
+   * Task that sums the partial results of a function over a range by splitting the range in halves.
+   *
+   * @param from Start of the range, inclusive.
+   * @param until End of the range, exclusive.
+   * @param granularity Maximum length of a range that is not split.
+   * @param leaf Function that computes the partial result over a range.
+   */
+  private class Reduce(from: Int, until: Int, granularity: Int, leaf: (Int, Int) => Complex) extends RecursiveTask[Complex] {
+
+    override def compute(): Complex = {
+      if (this.until - this.from <= this.granularity) {
+        this.leaf(this.from, this.until)
+      } else {
+        val mid = (this.from + this.until) >>> 1
+        val left = new Reduce(this.from, mid, this.granularity, this.leaf)
+        left.fork()
+        val right = new Reduce(mid, this.until, this.granularity, this.leaf).compute()
+        left.join() + right
+      }
+    }
+  }
+
+  /**
+   * Task that executes a function over a range by splitting the range in halves.
+   *
+   * @param from Start of the range, inclusive.
+   * @param until End of the range, exclusive.
+   * @param granularity Maximum length of a range that is not split.
+   * @param leaf Function that processes a range.
+   */
+  private class ForEach(from: Int, until: Int, granularity: Int, leaf: (Int, Int) => Unit) extends RecursiveAction {
+
+    override def compute(): Unit = {
+      if (this.until - this.from <= this.granularity) {
+        this.leaf(this.from, this.until)
+      } else {
+        val mid = (this.from + this.until) >>> 1
+        val left = new ForEach(this.from, mid, this.granularity, this.leaf)
+        left.fork()
+        new ForEach(mid, this.until, this.granularity, this.leaf).compute()
+        left.join()
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package io.github.scalamath.cmplxlib
+
+import scala.collection.mutable.ArrayBuffer
+
+/**
+ * The sequence of the powers `M^0, M^1, M^2, ...` of a matrix `M`.
+ *
+ * Powers are computed incrementally by multiplying the previous power by `M` and are cached, so that every power is only
+ * computed once and requesting a power that has already been computed does not perform any multiplication.
+ * This makes power sequences more efficient than calling `power` with increasing exponents when all the powers up to a
+ * certain exponent are needed, for example when applying a propagator at every step of a simulation.
+ *
+ * Since powers are cached, the memory used by a power sequence grows with the highest exponent that was requested.
+ * The [[iterator]] can be used to iterate over the powers without caching them.
+ *
+ * Power sequences are not thread-safe.
+ *
+ * @constructor Constructs the power sequence of the given matrix.
+ * @param base The matrix `M`.
+ * @param identity The identity matrix, which is the first element of the sequence.
+ * @param multiply Function used to multiply two matrices.
+ * @tparam M The type of the matrix.
+ */
+class PowerSequence[M](val base: M, identity: M, multiply: (M, M) => M) {
+
+  /** Powers computed so far */
+  private val powers = ArrayBuffer(identity)
+
+  /**
+   * Returns the matrix `M` raised to the given power.
+   *
+   * All the powers up to the given exponent that have not been computed yet are computed and cached.
+   *
+   * @param exp The exponent. Must not be negative.
+   * @return The matrix `M` raised to the given power.
+   * @throws IllegalArgumentException if the given exponent is negative.
+   */
+  def apply(exp: Int): M = {
+    require(exp >= 0, s"Exponent must not be negative: $exp")
+    while (this.powers.length <= exp) {
+      this.powers += this.multiply(this.powers.last, this.base)
+    }
+    this.powers(exp)
+  }
+
+  /**
+   * Returns the number of powers that have been computed and cached.
+   *
+   * @return The number of powers that have been computed.
+   */
+  def computed: Int = this.powers.length
+
+  /**
+   * Returns the first `count` powers of `M`, from `M^0` to `M^(count - 1)`.
+   *
+   * @param count The number of powers to return.
+   * @return The first `count` powers of `M`.
+   */
+  def take(count: Int): Seq[M] = {
+    if (count > 0) {
+      this(count - 1)
+    }
+    this.powers.take(count).toSeq
+  }
+
+  /**
+   * Returns an infinite iterator over the powers `M^0, M^1, M^2, ...`.
+   *
+   * The iterator starts from the powers that have already been computed and computes the following ones incrementally
+   * without caching them, therefore iterating over a power sequence only holds the current power in memory.
+   *
+   * @return An iterator over the powers of `M`.
+   */
+  def iterator: Iterator[M] = new Iterator[M] {
+
+    /** Exponent of the next power */
+    private var exp = 0
+    /** The last power returned */
+    private var current: M = _
+
+    override def hasNext: Boolean = true
+
+    override def next(): M = {
+      this.current = if (this.exp < PowerSequence.this.powers.length) {
+        PowerSequence.this.powers(this.exp)
+      } else {
+        PowerSequence.this.multiply(this.current, PowerSequence.this.base)
+      }
+      this.exp += 1
+      this.current
+    }
+  }
+}
+
+/**
+ * Factory methods for power sequences.
+ */
+object PowerSequence {
+
+  /**
+   * Constructs the power sequence of the given matrix.
+   *
+   * @param m The matrix.
+   * @return The power sequence of the given matrix.
+   */
+  def apply(m: Mat2c): PowerSequence[Mat2c] = new PowerSequence[Mat2c](m, Mat2c.Identity, _ * _)
+
+  /**
+   * Constructs the power sequence of the given matrix.
+   *
+   * @param m The matrix.
+   * @return The power sequence of the given matrix.
+   */
+  def apply(m: Mat3c): PowerSequence[Mat3c] = new PowerSequence[Mat3c](m, Mat3c.Identity, _ * _)
+
+  /**
+   * Constructs the power sequence of the given matrix.
+   *
+   * @param m The matrix.
+   * @return The power sequence of the given matrix.
+   */
+  def apply(m: Mat4c): PowerSequence[Mat4c] = new PowerSequence[Mat4c](m, Mat4c.Identity, _ * _)
+}
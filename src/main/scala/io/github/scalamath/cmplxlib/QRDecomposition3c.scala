@@ -0,0 +1,102 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * QR decomposition of a 3x3 complex matrix computed with Householder reflections.
+ *
+ * The decomposition factors a matrix `M` as `M = Q * R`, where `Q` is a unitary matrix and `R` is an upper triangular
+ * matrix whose diagonal elements are real and non-negative.
+ * If `M` is not singular, the decomposition is unique and the columns of `Q` are the ones computed by the Gram-Schmidt
+ * procedure, but they are orthogonal up to rounding errors even if the columns of `M` are almost linearly dependent.
+ *
+ * Once the decomposition is computed, it can be used to solve linear systems without decomposing the matrix again.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ */
+class QRDecomposition3c private(qr: Array[Double], tau: Array[Double]) {
+
+  /**
+   * Returns the unitary factor `Q` of this decomposition.
+   *
+   * @return The unitary factor of this decomposition.
+   */
+  def q: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.orthogonalQR(3, 3, this.qr, 0, this.tau, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Returns the upper triangular factor `R` of this decomposition.
+   *
+   * @return The upper triangular factor of this decomposition.
+   */
+  def r: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.upperQR(3, 3, this.qr, 0, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Checks if the decomposed matrix is singular.
+   *
+   * A matrix is considered singular if the upper triangular factor of its decomposition has an element on its diagonal
+   * that is negligible compared to the largest one, since rounding errors rarely give an exact zero.
+   *
+   * @return True if the decomposed matrix is singular, otherwise false.
+   */
+  def isSingular: Boolean = ComplexKernels.isRankDeficientQR(3, 3, this.qr, 0)
+
+  /**
+   * Solves the linear system `M * x = b`, where `M` is the decomposed matrix, and returns the vector `x`.
+   *
+   * The result is undefined if the decomposed matrix is [[isSingular singular]].
+   *
+   * @param b The right-hand side of the system.
+   * @return The solution of the system.
+   */
+  def solve(b: Vec3c): Vec3c = {
+    val x = new Array[Double](6)
+    ComplexKernels.pack(b, x, 0)
+    ComplexKernels.solveQR(3, this.qr, 0, this.tau, x, 0, 2)
+    Vec3c(Complex(x(0), x(1)), Complex(x(2), x(3)), Complex(x(4), x(5)))
+  }
+
+  /**
+   * Solves the linear system `M * X = B`, where `M` is the decomposed matrix, and returns the matrix `X`.
+   *
+   * The result is undefined if the decomposed matrix is [[isSingular singular]].
+   *
+   * @param b The right-hand side of the system.
+   * @return The solution of the system.
+   */
+  def solve(b: Mat3c): Mat3c = {
+    val x = new Array[Double](18)
+    ComplexKernels.pack(b, x, 0)
+    var c = 0
+    while (c < 3) {
+      ComplexKernels.solveQR(3, this.qr, 0, this.tau, x, 2 * c, 6)
+      c += 1
+    }
+    ComplexKernels.unpack3(x, 0)
+  }
+}
+
+/**
+ * Factory methods for QR decompositions.
+ */
+object QRDecomposition3c {
+
+  /**
+   * Computes the QR decomposition of the given matrix.
+   *
+   * @param m The matrix to decompose.
+   * @return The QR decomposition of the given matrix.
+   */
+  def apply(m: Mat3c): QRDecomposition3c = {
+    val qr = new Array[Double](18)
+    val tau = new Array[Double](6)
+    ComplexKernels.pack(m, qr, 0)
+    ComplexKernels.decomposeQR(3, 3, qr, 0, tau)
+    new QRDecomposition3c(qr, tau)
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * QR decomposition of a 3x4 complex matrix computed with Householder reflections.
+ *
+ * The decomposition factors a matrix `M` as `M = Q * R`, where `Q` is a 3x3 unitary matrix and `R` is a 3x4 upper
+ * trapezoidal matrix, whose elements below the diagonal are zero and whose diagonal elements are real and non-negative.
+ * The columns of `Q` are orthogonal up to rounding errors even if the columns of `M` are almost linearly dependent.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ */
+class QRDecomposition3x4c private(qr: Array[Double], tau: Array[Double]) {
+
+  /**
+   * Returns the unitary factor `Q` of this decomposition.
+   *
+   * @return The unitary factor of this decomposition.
+   */
+  def q: Mat3c = {
+    val res = new Array[Double](18)
+    ComplexKernels.orthogonalQR(3, 4, this.qr, 0, this.tau, res, 0)
+    ComplexKernels.unpack3(res, 0)
+  }
+
+  /**
+   * Returns the upper trapezoidal factor `R` of this decomposition.
+   *
+   * @return The upper trapezoidal factor of this decomposition.
+   */
+  def r: Mat3x4c = {
+    val res = new Array[Double](24)
+    ComplexKernels.upperQR(3, 4, this.qr, 0, res, 0)
+    ComplexKernels.unpack3x4(res, 0)
+  }
+
+  /**
+   * Checks if the first three columns of the decomposed matrix are linearly dependent.
+   *
+   * The columns are considered linearly dependent if the upper trapezoidal factor of the decomposition has an element on
+   * its diagonal that is negligible compared to the largest one, since rounding errors rarely give an exact zero.
+   *
+   * @return True if the first three columns of the decomposed matrix are linearly dependent, otherwise false.
+   */
+  def isRankDeficient: Boolean = ComplexKernels.isRankDeficientQR(3, 4, this.qr, 0)
+}
+
+/**
+ * Factory methods for QR decompositions.
+ */
+object QRDecomposition3x4c {
+
+  /**
+   * Computes the QR decomposition of the given matrix.
+   *
+   * @param m The matrix to decompose.
+   * @return The QR decomposition of the given matrix.
+   */
+  def apply(m: Mat3x4c): QRDecomposition3x4c = {
+    val qr = new Array[Double](24)
+    val tau = new Array[Double](6)
+    ComplexKernels.pack(m, qr, 0)
+    ComplexKernels.decomposeQR(3, 4, qr, 0, tau)
+    new QRDecomposition3x4c(qr, tau)
+  }
+}
@@ -0,0 +1,175 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * Precomputed table of the `n`-th roots of unity `exp(2 * pi * i * k / n)` for `k` from `0` to `n - 1`.
+ *
+ * Tables are obtained with [[RootsOfUnity.apply]] and are stored in a cache of bounded size, so that repeated lookups of
+ * the same order do not compute any sine or cosine.
+ * Roots at `k = n / 4`, `k = n / 2`, and `k = 3n / 4` are exact and roots at `k` and `n - k` are exactly conjugate.
+ *
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @param order The order `n` of the roots of unity.
+ */
+final class RootsOfUnity private(val order: Int) {
+
+  /** Real parts of the roots */
+  private[cmplxlib] val cos = new Array[Double](this.order)
+  /** Imaginary parts of the roots */
+  private[cmplxlib] val sin = new Array[Double](this.order)
+
+  for (k <- 0 to this.order / 2) {
+    if (4L * k == this.order) {
+      this.cos(k) = 0.0
+      this.sin(k) = 1.0
+    } else if (2L * k == this.order) {
+      this.cos(k) = -1.0
+      this.sin(k) = 0.0
+    } else {
+      val angle = 2.0 * math.Pi * k / this.order
+      this.cos(k) = math.cos(angle)
+      this.sin(k) = math.sin(angle)
+    }
+    if (k > 0 && k < this.order - k) {
+      this.cos(this.order - k) = this.cos(k)
+      this.sin(this.order - k) = -this.sin(k)
+    }
+  }
+
+  /**
+   * Returns the real part of the root `exp(2 * pi * i * k / n)`.
+   *
+   * The index is reduced modulo the order, so any integer is a valid index.
+   *
+   * @param k Index of the root.
+   * @return The real part of the root.
+   */
+  def realAt(k: Int): Double = this.cos(Math.floorMod(k, this.order))
+
+  /**
+   * Returns the imaginary part of the root `exp(2 * pi * i * k / n)`.
+   *
+   * The index is reduced modulo the order, so any integer is a valid index.
+   *
+   * @param k Index of the root.
+   * @return The imaginary part of the root.
+   */
+  def imaginaryAt(k: Int): Double = this.sin(Math.floorMod(k, this.order))
+
+  /**
+   * Returns the root `exp(2 * pi * i * k / n)`.
+   *
+   * The index is reduced modulo the order, so any integer is a valid index.
+   *
+   * @param k Index of the root.
+   * @return The root at the given index.
+   */
+  def apply(k: Int): Complex = {
+    val i = Math.floorMod(k, this.order)
+    Complex(this.cos(i), this.sin(i))
+  }
+
+  /**
+   * Writes all the roots into the given array as interleaved real and imaginary parts.
+   *
+   * @param dst The destination array.
+   * @param offset Index of the first root in the destination array, which starts at index `2 * offset`.
+   * @throws IllegalArgumentException if the array is too small.
+   */
+  def copyTo(dst: Array[Double], offset: Int): Unit = {
+    require(offset >= 0 && 2L * (offset.toLong + this.order) <= dst.length, s"Array is too small for $order roots at offset $offset")
+    var k = 0
+    while (k < this.order) {
+      dst(2 * (offset + k)) = this.cos(k)
+      dst(2 * (offset + k) + 1) = this.sin(k)
+      k += 1
+    }
+  }
+
+  /**
+   * Returns a complex array containing all the roots.
+   *
+   * @return A complex array containing all the roots.
+   */
+  def toComplexArray: ComplexArray = {
+    val res = new ComplexArray(this.order)
+    this.copyTo(res.data, 0)
+    res
+  }
+}
+
+/**
+ * Cache of the tables of roots of unity.
+ *
+ * The cache keeps at most [[capacity]] tables and evicts the least recently used one when a table of a new order is
+ * requested.
+ * The number of hits and misses can be used to choose the capacity.
+ */
+object RootsOfUnity {
+
+  /** The default number of tables kept in the cache */
+  val DefaultCapacity: Int = 64
+
+  /** Cached tables */
+  private val cache = new LruCache[Integer, RootsOfUnity](DefaultCapacity)
+
+  /**
+   * Returns the table of the roots of unity of the given order.
+   *
+   * @param order The order of the roots. Must be positive.
+   * @return The table of the roots of unity of the given order.
+   * @throws IllegalArgumentException if the given order is not positive.
+   */
+  def apply(order: Int): RootsOfUnity = {
+    require(order > 0, s"Order must be positive: $order")
+    this.cache.getOrCreate(order, n => new RootsOfUnity(n))
+  }
+
+  /**
+   * Returns the maximum number of tables kept in the cache.
+   *
+   * @return The maximum number of tables kept in the cache.
+   */
+  def capacity: Int = this.cache.capacity
+
+  /**
+   * Sets the maximum number of tables kept in the cache.
+   *
+   * If the cache contains more tables, the least recently used ones are evicted.
+   *
+   * @param capacity The maximum number of tables. Must be positive.
+   * @throws IllegalArgumentException if the given capacity is not positive.
+   */
+  def setCapacity(capacity: Int): Unit = this.cache.setCapacity(capacity)
+
+  /**
+   * Returns the number of tables currently in the cache.
+   *
+   * @return The number of tables currently in the cache.
+   */
+  def cached: Int = this.cache.size
+
+  /**
+   * Returns the number of lookups that found the table in the cache.
+   *
+   * @return The number of cache hits.
+   */
+  def hits: Long = this.cache.hits
+
+  /**
+   * Returns the number of lookups that had to compute the table.
+   *
+   * @return The number of cache misses.
+   */
+  def misses: Long = this.cache.misses
+
+  /**
+   * Removes all the tables from the cache.
+   */
+  def clear(): Unit = this.cache.clear()
+
+  /**
+   * Resets the hit and miss counters.
+   */
+  def resetStatistics(): Unit = this.cache.resetStatistics()
+}
@@ -0,0 +1,374 @@
+package io.github.scalamath.cmplxlib
+
+/**
+ * The state of a register of qubits, represented by the `2^n` complex amplitudes of its basis states.
+ *
+ * Amplitudes are stored in a single array of interleaved real and imaginary parts, like in a [[ComplexArray]].
+ * Qubit `q` corresponds to bit `q` of the index of a basis state, therefore qubit `0` is the least significant one.
+ *
+ * Gates are [[Mat2c]] and [[Mat4c]] matrices applied in place to one or two target qubits.
+ * A gate is applied by iterating over the groups of amplitudes that only differ in the bits of the target qubits, whose
+ * indices are obtained by inserting the bits of the target qubits into a counter, without creating any vector or complex
+ * number for the amplitudes.
+ * The groups are independent from each other, therefore states with more than [[StateVector.ParallelQubits]] qubits
+ * apply gates in parallel with [[ParallelOps.Default]].
+ * The overloads that take a [[ParallelOps]] can be used to choose the pool and the granularity explicitly.
+ *
+ * State vectors are not thread-safe.
+ * Unlike the other types in this library, applying a gate modifies the state on which it is invoked.
+ *
+ * @constructor Constructs a state vector backed by the given array of interleaved real and imaginary parts.
+ * @param qubits The number of qubits.
+ * @param data The array of interleaved real and imaginary parts of the amplitudes.
+ */
+final class StateVector private(val qubits: Int, private[cmplxlib] val data: Array[Double]) {
+
+  /**
+   * Constructs the state of a register of the given number of qubits with all qubits set to zero.
+   *
+   * @param qubits The number of qubits. Must be between 1 and [[StateVector.MaxQubits]].
+   * @throws IllegalArgumentException if the number of qubits is out of range.
+   */
+  def this(qubits: Int) = {
+    this(StateVector.checkQubits(qubits), new Array[Double](2 << qubits))
+    this.data(0) = 1.0
+  }
+
+  /**
+   * Returns the number of amplitudes of this state, which is `2^qubits`.
+   *
+   * @return The number of amplitudes of this state.
+   */
+  def length: Int = 1 << this.qubits
+
+  /**
+   * Returns the amplitude of the basis state with the given index.
+   *
+   * @param index The index of the basis state.
+   * @return The amplitude of the basis state with the given index.
+   */
+  def apply(index: Int): Complex = Complex(this.data(2 * index), this.data(2 * index + 1))
+
+  /**
+   * Sets the amplitude of the basis state with the given index.
+   *
+   * The state is not normalized.
+   *
+   * @param index The index of the basis state.
+   * @param amplitude The new amplitude.
+   */
+  def update(index: Int, amplitude: Complex): Unit = {
+    this.data(2 * index) = amplitude.a
+    this.data(2 * index + 1) = amplitude.b
+  }
+
+  /**
+   * Returns the probability of measuring the basis state with the given index, which is the squared modulus of its
+   * amplitude.
+   *
+   * @param index The index of the basis state.
+   * @return The probability of measuring the basis state with the given index.
+   */
+  def probability(index: Int): Double = {
+    val re = this.data(2 * index)
+    val im = this.data(2 * index + 1)
+    re * re + im * im
+  }
+
+  /**
+   * Returns the probability of measuring the given qubit in the state `1`.
+   *
+   * @param qubit The index of the qubit.
+   * @return The probability of measuring the given qubit in the state `1`.
+   * @throws IllegalArgumentException if the given qubit is out of range.
+   */
+  def probabilityOfOne(qubit: Int): Double = {
+    this.checkTarget(qubit)
+    var sum = 0.0
+    var i = 0
+    while (i < this.length) {
+      if ((i & (1 << qubit)) != 0) {
+        sum += this.probability(i)
+      }
+      i += 1
+    }
+    sum
+  }
+
+  /**
+   * Returns the sum of the squared moduli of all the amplitudes, which is `1` for a normalized state.
+   *
+   * @return The squared norm of this state.
+   */
+  def squaredNorm: Double = {
+    var sum = 0.0
+    var i = 0
+    while (i < this.data.length) {
+      sum += this.data(i) * this.data(i)
+      i += 1
+    }
+    sum
+  }
+
+  /**
+   * Divides all the amplitudes by the norm of this state, so that the sum of their squared moduli is `1`.
+   *
+   * The result is undefined if all the amplitudes are zero.
+   *
+   * @return This state.
+   */
+  def normalize(): StateVector = {
+    val k = 1.0 / math.sqrt(this.squaredNorm)
+    var i = 0
+    while (i < this.data.length) {
+      this.data(i) *= k
+      i += 1
+    }
+    this
+  }
+
+  /**
+   * Applies the given single-qubit gate to the given qubit.
+   *
+   * States with more than [[StateVector.ParallelQubits]] qubits are processed in parallel with [[ParallelOps.Default]].
+   *
+   * @param gate The gate.
+   * @param target The index of the target qubit.
+   * @return This state.
+   * @throws IllegalArgumentException if the target qubit is out of range.
+   */
+  def applyGate(gate: Mat2c, target: Int): StateVector = this.applyGate(gate, target, StateVector.parallelOps(this.qubits))
+
+  /**
+   * Applies the given single-qubit gate to the given qubit, processing groups of amplitudes in parallel with the given
+   * parallel operations.
+   *
+   * @param gate The gate.
+   * @param target The index of the target qubit.
+   * @param parallel The parallel operations used to process groups of amplitudes.
+   * @return This state.
+   * @throws IllegalArgumentException if the target qubit is out of range.
+   */
+  def applyGate(gate: Mat2c, target: Int, parallel: ParallelOps): StateVector = {
+    this.checkTarget(target)
+    val data = this.data
+    val stride = 1 << target
+    val low = stride - 1
+    val u00r = gate.m00.a
+    val u00i = gate.m00.b
+    val u01r = gate.m01.a
+    val u01i = gate.m01.b
+    val u10r = gate.m10.a
+    val u10i = gate.m10.b
+    val u11r = gate.m11.a
+    val u11i = gate.m11.b
+    parallel.forEach(this.length >> 1, (from, until) => {
+      var k = from
+      while (k < until) {
+        // Index of the amplitude with the target bit set to zero
+        val i0 = 2 * (((k & ~low) << 1) | (k & low))
+        val i1 = i0 + 2 * stride
+        val ar = data(i0)
+        val ai = data(i0 + 1)
+        val br = data(i1)
+        val bi = data(i1 + 1)
+        data(i0) = u00r * ar - u00i * ai + u01r * br - u01i * bi
+        data(i0 + 1) = u00r * ai + u00i * ar + u01r * bi + u01i * br
+        data(i1) = u10r * ar - u10i * ai + u11r * br - u11i * bi
+        data(i1 + 1) = u10r * ai + u10i * ar + u11r * bi + u11i * br
+        k += 1
+      }
+    })
+    this
+  }
+
+  /**
+   * Applies the given two-qubit gate to the given qubits.
+   *
+   * The rows and columns of the gate correspond to the basis states `|00>, |01>, |10>, |11>` of the two target qubits,
+   * where the first target is the most significant bit.
+   * For example, a CNOT gate whose first row is `(1, 0, 0, 0)` and whose third row is `(0, 0, 0, 1)` uses the first target
+   * as the control qubit.
+   *
+   * States with more than [[StateVector.ParallelQubits]] qubits are processed in parallel with [[ParallelOps.Default]].
+   *
+   * @param gate The gate.
+   * @param first The index of the first target qubit.
+   * @param second The index of the second target qubit.
+   * @return This state.
+   * @throws IllegalArgumentException if one of the target qubits is out of range or if the two targets are equal.
+   */
+  def applyGate(gate: Mat4c, first: Int, second: Int): StateVector = this.applyGate(gate, first, second, StateVector.parallelOps(this.qubits))
+
+  /**
+   * Applies the given two-qubit gate to the given qubits, processing groups of amplitudes in parallel with the given
+   * parallel operations.
+   *
+   * The rows and columns of the gate correspond to the basis states `|00>, |01>, |10>, |11>` of the two target qubits,
+   * where the first target is the most significant bit.
+   *
+   * @param gate The gate.
+   * @param first The index of the first target qubit.
+   * @param second The index of the second target qubit.
+   * @param parallel The parallel operations used to process groups of amplitudes.
+   * @return This state.
+   * @throws IllegalArgumentException if one of the target qubits is out of range or if the two targets are equal.
+   */
+  def applyGate(gate: Mat4c, first: Int, second: Int, parallel: ParallelOps): StateVector = {
+    this.checkTarget(first)
+    this.checkTarget(second)
+    require(first != second, s"Target qubits must be different: $first and $second")
+    val data = this.data
+    val u = new Array[Double](32)
+    ComplexKernels.pack(gate, u, 0)
+    val lowMask = (1 << math.min(first, second)) - 1
+    val highMask = (1 << math.max(first, second)) - 1
+    // Offsets of the amplitudes of |00>, |01>, |10>, and |11> from the one of |00>
+    val offsets = Array(0, 2 << second, 2 << first, (2 << first) + (2 << second))
+    val o1 = offsets(1)
+    val o2 = offsets(2)
+    val o3 = offsets(3)
+    parallel.forEach(this.length >> 2, (from, until) => {
+      var k = from
+      while (k < until) {
+        // Insert a zero bit at the position of the lower target, then at the position of the higher one
+        val j = ((k & ~lowMask) << 1) | (k & lowMask)
+        val i0 = 2 * (((j & ~highMask) << 1) | (j & highMask))
+        val x0r = data(i0)
+        val x0i = data(i0 + 1)
+        val x1r = data(i0 + o1)
+        val x1i = data(i0 + o1 + 1)
+        val x2r = data(i0 + o2)
+        val x2i = data(i0 + o2 + 1)
+        val x3r = data(i0 + o3)
+        val x3i = data(i0 + o3 + 1)
+        var r = 0
+        while (r < 4) {
+          val g = 8 * r
+          val re = u(g) * x0r - u(g + 1) * x0i + u(g + 2) * x1r - u(g + 3) * x1i + u(g + 4) * x2r - u(g + 5) * x2i + u(g + 6) * x3r - u(g + 7) * x3i
+          val im = u(g) * x0i + u(g + 1) * x0r + u(g + 2) * x1i + u(g + 3) * x1r + u(g + 4) * x2i + u(g + 5) * x2r + u(g + 6) * x3i + u(g + 7) * x3r
+          val i = i0 + offsets(r)
+          data(i) = re
+          data(i + 1) = im
+          r += 1
+        }
+        k += 1
+      }
+    })
+    this
+  }
+
+  /**
+   * Returns a complex array containing a copy of the amplitudes of this state.
+   *
+   * @return A complex array containing the amplitudes of this state.
+   */
+  def toComplexArray: ComplexArray = ComplexArray.wrap(this.data.clone())
+
+  /**
+   * Returns a copy of this state.
+   *
+   * @return A copy of this state.
+   */
+  def copy: StateVector = new StateVector(this.qubits, this.data.clone())
+
+  /**
+   * Checks if this state has the same amplitudes as the given one within the tolerance used by [[Complex.~=]].
+   *
+   * @param that The other state.
+   * @return True if the two states have the same number of qubits and approximately equal amplitudes, otherwise false.
+   */
+  def ~=(that: StateVector): Boolean = this.qubits == that.qubits && (ComplexArray.wrap(this.data) ~= ComplexArray.wrap(that.data))
+
+  /**
+   * Checks if this state has the same amplitudes as the given one within the tolerance used by [[Complex.~=]].
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param that The other state.
+   * @return True if the two states have the same number of qubits and approximately equal amplitudes, otherwise false.
+   */
+  def equalsApprox(that: StateVector): Boolean = this ~= that
+
+  /**
+   * Returns a string representation of this state.
+   *
+   * @return A string representation of this state.
+   */
+  override def toString: String = s"StateVector(${this.qubits} qubits)"
+
+  /**
+   * Checks that the given qubit is in range.
+   *
+   * @param qubit The index of the qubit.
+   * @throws IllegalArgumentException if the given qubit is out of range.
+   */
+  private def checkTarget(qubit: Int): Unit = {
+    require(qubit >= 0 && qubit < this.qubits, s"Qubit $qubit is out of range for a state of ${this.qubits} qubits")
+  }
+}
+
+/**
+ * Constants and factory methods for state vectors.
+ */
+object StateVector {
+
+  /** The maximum number of qubits of a state vector, limited by the maximum length of an array */
+  val MaxQubits: Int = 29
+
+  /** States with more than this number of qubits apply gates in parallel by default */
+  val ParallelQubits: Int = 20
+
+  /**
+   * Constructs the basis state with the given index, in which the amplitude of that state is `1` and all the other
+   * amplitudes are zero.
+   *
+   * @param qubits The number of qubits. Must be between 1 and [[MaxQubits]].
+   * @param index The index of the basis state.
+   * @return The basis state with the given index.
+   * @throws IllegalArgumentException if the number of qubits or the index is out of range.
+   */
+  def basis(qubits: Int, index: Int): StateVector = {
+    val state = new StateVector(qubits)
+    require(index >= 0 && index < state.length, s"Index $index is out of range for a state of $qubits qubits")
+    state.data(0) = 0.0
+    state.data(2 * index) = 1.0
+    state
+  }
+
+  /**
+   * Constructs a state vector with a copy of the amplitudes in the given array.
+   *
+   * The state is not normalized.
+   *
+   * @param amplitudes The amplitudes. The length of the array must be a power of two between `2` and `2^MaxQubits`.
+   * @return A state vector with the given amplitudes.
+   * @throws IllegalArgumentException if the length of the array is not a valid number of amplitudes.
+   */
+  def fromAmplitudes(amplitudes: ComplexArray): StateVector = {
+    val length = amplitudes.length
+    require(length >= 2 && Integer.bitCount(length) == 1, s"Number of amplitudes must be a power of two: $length")
+    new StateVector(this.checkQubits(Integer.numberOfTrailingZeros(length)), amplitudes.data.clone())
+  }
+
+  /**
+   * Checks that the given number of qubits is in range.
+   *
+   * @param qubits The number of qubits.
+   * @return The given number of qubits.
+   * @throws IllegalArgumentException if the number of qubits is out of range.
+   */
+  private[cmplxlib] def checkQubits(qubits: Int): Int = {
+    require(qubits >= 1 && qubits <= MaxQubits, s"Number of qubits must be between 1 and $MaxQubits: $qubits")
+    qubits
+  }
+
+  /**
+   * Returns the parallel operations used by default for a state of the given number of qubits.
+   *
+   * @param qubits The number of qubits.
+   * @return [[ParallelOps.Default]] if the state has more than [[ParallelQubits]] qubits, otherwise parallel operations
+   *         that process all groups on the calling thread.
+   */
+  private def parallelOps(qubits: Int): ParallelOps = if (qubits > ParallelQubits) ParallelOps.Default else ParallelOps.Sequential
+}
@@ -277,6 +277,16 @@ case class Vec2c(x: Complex, y: Complex) {
    */
   def conjugate: Vec2c = Vec2c(this.x.conjugate, this.y.conjugate)
 
+  /**
+   * Returns an [[Expression]] whose result is this vector.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate vector.
+   *
+   * @return An expression whose result is this vector.
+   */
+  def lazily: Expression[Vec2c] = Expression(this, Expression.Vec2cShape)
+
   /**
    * Returns the dot product, or scalar product, between this vector and the given values.
    *
@@ -0,0 +1,802 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.FloatEqualsApprox
+import io.github.scalamath.vecmatlib.Vec2f
+
+/**
+ * A 2D single-precision complex vector.
+ *
+ * This class has the same operations as [[Vec2c]], but its components are [[Complex32]] numbers, which halves the memory
+ * needed to store large amounts of vectors.
+ * Vectors can be converted to double precision with [[toVec2c]] and from double precision with [[Vec2cf.fromVec2c]].
+ *
+ * @constructor Constructs a 2D vector from the two given components.
+ * @param x The vector's x component.
+ * @param y The vector's y component.
+ */
+case class Vec2cf(x: Complex32, y: Complex32) {
+
+  /**
+   * Adds the given values to the components of this vector and returns the result.
+   *
+   * @param x The x component to add.
+   * @param y The y component to add.
+   * @return The sum between this vector and the given values.
+   */
+  def +(x: Complex32, y: Complex32): Vec2cf = Vec2cf(this.x + x, this.y + y)
+
+  /**
+   * Adds the given values to the components of this vector and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param x The x component to add.
+   * @param y The y component to add.
+   * @return The sum between this vector and the given values.
+   */
+  def plus(x: Complex32, y: Complex32): Vec2cf = this + (x, y)
+
+  /**
+   * Adds the given vector to this one and returns the result.
+   *
+   * @param v The vector to add.
+   * @return The sum between this vector and the given one.
+   */
+  def +(v: Vec2cf): Vec2cf = this + (v.x, v.y)
+
+  /**
+   * Adds the given vector to this one and returns the result.
+   *
+   * This method can be used in place of the `+` operator for better interoperability with Java.
+   *
+   * @param v The vector to add.
+   * @return The sum between this vector and the given one.
+   */
+  def plus(v: Vec2cf): Vec2cf = this + v
+
+  /**
+   * Returns this same vector.
+   *
+   * The unary `+` operator does nothing, but can sometimes make the code more readable.
+   *
+   * @return This same vector.
+   */
+  def unary_+ : Vec2cf = this
+
+  /**
+   * Subtracts the given values from each component of this vector and returns the result.
+   *
+   * @param x The x component to subtract.
+   * @param y The y component to subtract.
+   * @return The subtraction between this vector and the given values.
+   */
+  def -(x: Complex32, y: Complex32): Vec2cf = Vec2cf(this.x - x, this.y - y)
+
+  /**
+   * Subtracts the given values from each component of this vector and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param x The x component to subtract.
+   * @param y The y component to subtract.
+   * @return The subtraction between this vector and the given values.
+   */
+  def minus(x: Complex32, y: Complex32): Vec2cf = this - (x, y)
+
+  /**
+   * Subtracts the given vector from this one and returns the result.
+   *
+   * @param v The vector to subtract.
+   * @return The subtraction between this vector and the given one.
+   */
+  def -(v: Vec2cf): Vec2cf = this - (v.x, v.y)
+
+  /**
+   * Subtracts the given vector from this one and returns the result.
+   *
+   * This method can be used in place of the `-` operator for better interoperability with Java.
+   *
+   * @param v The vector to subtract.
+   * @return The subtraction between this vector and the given one.
+   */
+  def minus(v: Vec2cf): Vec2cf = this - v
+
+  /**
+   * Returns the additive inverse of this vector.
+   *
+   * @return The additive inverse of this vector.
+   */
+  def unary_- : Vec2cf = Vec2cf(-this.x, -this.y)
+
+  /**
+   * Returns the additive inverse of this vector.
+   *
+   * This method can be used in place of the unary `-` operator for better interoperability with Java.
+   *
+   * @return The additive inverse of this vector.
+   */
+  def negated: Vec2cf = -this
+
+  /**
+   * Multiplies each component of this vector by the given values and returns the result.
+   *
+   * @param x Value to multiply the x component by.
+   * @param y Value to multiply the y component by.
+   * @return The component-wise multiplication between this vector and the given values.
+   */
+  def *(x: Complex32, y: Complex32): Vec2cf = Vec2cf(this.x * x, this.y * y)
+
+  /**
+   * Multiplies each component of this vector by the given values and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param x The value to multiply the x component by.
+   * @param y The value to multiply the y component by.
+   * @return The component-wise multiplication between this vector and the given values.
+   */
+  def multiply(x: Complex32, y: Complex32): Vec2cf = this * (x, y)
+
+  /**
+   * Multiplies each component of this vector by the components of the given ones and returns the result.
+   *
+   * @param v The vector to multiply this one by.
+   * @return The component-wise multiplication between this vector and the one.
+   */
+  def *(v: Vec2cf): Vec2cf = this * (v.x, v.y)
+
+  /**
+   * Multiplies each component of this vector by the components of the given ones and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param v The vector to multiply this one by.
+   * @return The component-wise multiplication between this vector and the one.
+   */
+  def multiply(v: Vec2cf): Vec2cf = this * v
+
+  /**
+   * Multiplies this vector by the given scalar and returns the result.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return The product between this vector and the given scalar.
+   */
+  def *(k: Complex32): Vec2cf = this * (k, k)
+
+  /**
+   * Multiplies this vector by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return The product between this vector and the given scalar.
+   */
+  def multipliedBy(k: Complex32): Vec2cf = this * k
+
+  /**
+   * Multiplies this vector by the given scalar and returns the result.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return The product between this vector and the given scalar.
+   */
+  def *(k: Float): Vec2cf = Vec2cf(this.x * k, this.y * k)
+
+  /**
+   * Multiplies this vector by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `*` operator for better interoperability with Java.
+   *
+   * @param k The scalar to multiply this vector by.
+   * @return The product between this vector and the given scalar.
+   */
+  def multipliedBy(k: Float): Vec2cf = this * k
+
+  /**
+   * Divides each component of this vector by the given values and returns the result.
+   *
+   * @param x The value to divide the x component by.
+   * @param y The value to divide the y component by.
+   * @return The component-wise division between this vector and the given values.
+   */
+  def /(x: Complex32, y: Complex32): Vec2cf = Vec2cf(this.x / x, this.y / y)
+
+  /**
+   * Divides each component of this vector by the given values and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param x The value to divide the x component by.
+   * @param y The value to divide the y component by.
+   * @return The component-wise division between this vector and the given values.
+   */
+  def divide(x: Complex32, y: Complex32): Vec2cf = this / (x, y)
+
+  /**
+   * Divides each component of this vector by the components of the given ones and returns the result.
+   *
+   * @param v The vector to divide this one by.
+   * @return The component-wise division between this vector and the one.
+   */
+  def /(v: Vec2cf): Vec2cf = this / (v.x, v.y)
+
+  /**
+   * Divides each component of this vector by the components of the given ones and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param v The vector to divide this one by.
+   * @return The component-wise division between this vector and the one.
+   */
+  def divide(v: Vec2cf): Vec2cf = this / v
+
+  /**
+   * Divides this vector by the given scalar and returns the result.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return The division between this vector and the given scalar.
+   */
+  def /(k: Complex32): Vec2cf = this / (k, k)
+
+  /**
+   * Divides this vector by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return The division between this vector and the given scalar.
+   */
+  def dividedBy(k: Complex32): Vec2cf = this / k
+
+  /**
+   * Divides this vector by the given scalar and returns the result.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return The division between this vector and the given scalar.
+   */
+  def /(k: Float): Vec2cf = Vec2cf(this.x / k, this.y / k)
+
+  /**
+   * Divides this vector by the given scalar and returns the result.
+   *
+   * This method can be used in place of the `/` operator for better interoperability with Java.
+   *
+   * @param k The scalar to divide this vector by.
+   * @return The division between this vector and the given scalar.
+   */
+  def dividedBy(k: Float): Vec2cf = this / k
+
+  /**
+   * Returns the inverse of this vector with respect to component-wise multiplication.
+   *
+   * @return The inverse of this vector.
+   * @see [[Complex32.inverse]]
+   */
+  def inverse: Vec2cf = Vec2cf(this.x.inverse, this.y.inverse)
+
+  /**
+   * Returns the conjugate of this complex vector.
+   *
+   * @return The conjugate of this complex vector.
+   * @see [[Complex32.conjugate]]
+   */
+  def conjugate: Vec2cf = Vec2cf(this.x.conjugate, this.y.conjugate)
+
+  /**
+   * Returns the dot product, or scalar product, between this vector and the given values.
+   *
+   * @param x The x component of the vector to multiply this one by.
+   * @param y The y component of the vector to multiply this one by.
+   * @return The dot product between this vector and the given values.
+   */
+  def dot(x: Complex32, y: Complex32): Complex32 = this.x * x.conjugate + this.y * y.conjugate
+
+  /**
+   * Returns the dot product, or scalar product, between this vector and the given one.
+   *
+   * @param v The second vector.
+   * @return The dot product between this vector and the given one.
+   */
+  def dot(v: Vec2cf): Complex32 = this.dot(v.x, v.y)
+
+  /**
+   * Returns the squared length, or magnitude, or modulus, of this vector.
+   *
+   * When comparing vectors by their length, it is more efficient to compare them by their squared length, since computing it does not require computing a square root.
+   *
+   * @return The squared length of this vector.
+   * @see [[length]]
+   */
+  def lengthSquared: Float = this.x.squaredModulus + this.y.squaredModulus
+
+  /**
+   * Returns the length, or magnitude, or modulus, of this vector.
+   *
+   * @return The length of this vector.
+   * @see [[lengthSquared]]
+   */
+  def length: Float = math.sqrt(this.lengthSquared).toFloat
+
+  /**
+   * Returns the result of scaling this vector to unit length.
+   * Equivalent to `v / v.length`.
+   *
+   * The resulting vector has the same direction as this one, but a length of `1.0f`.
+   *
+   * @return The result of scaling this vector to unit length.
+   * @see [[isNormalized]]
+   */
+  def normalized: Vec2cf = this / this.length
+
+  /**
+   * Checks if this vector is a unit vector by checking if its length is approximately equal to `1.0f`.
+   *
+   * @return True if this vector is a unit vector, otherwise false.
+   * @see [[normalized]]
+   */
+  def isNormalized: Boolean = this.lengthSquared ~= 1.0f
+
+  /**
+   * Returns a vector with the same direction as this one and a length not longer than the given limit.
+   * Returns this same vector if its length is smaller than the given limit.
+   *
+   * @param limit The maximum length of the resulting vector.
+   * @return A vector with the same direction as this one and a length not longer than the given limit.
+   */
+  def limitLength(limit: Float): Vec2cf = {
+    val length = this.length
+    if(length > 0.0f && limit < length) {
+      this / length * limit
+    } else {
+      this
+    }
+  }
+
+  /**
+   * Returns a vector whose components are the modulus, or the absolute value, of the components of this vector.
+   *
+   * Not to be confused with the [[length]] of the vector.
+   *
+   * @return A vector whose components are the modulus of the components of this vector.
+   * @see [[Complex32.modulus]]
+   */
+  def abs: Vec2f = Vec2f(this.x.modulus, this.y.modulus)
+
+  /**
+   * Returns a vector moved toward the given one by the given delta without going past the final value.
+   *
+   * @param to The final value of the vector.
+   * @param delta The fixed delta by which this vector is moved.
+   * @return A vector moved toward the given one by the given delta.
+   */
+  def moveToward(to: Vec2cf, delta: Float): Vec2cf = {
+    val vd = to - this
+    val length = vd.length
+    if(length <= delta) {
+      to
+    } else {
+      this + vd / length * delta
+    }
+  }
+
+  /**
+   * Computes the linear interpolation between this vector and the given one by the given weight and returns the result.
+   *
+   * The given weight must be in the `[0.0f, 1.0f]` range, representing the amount of interpolation.
+   *
+   * @param to The second vector.
+   * @param weight The weight of the interpolation between `0.0f` and `1.0f`.
+   * @return The result of linearly interpolating between this vector and the given one.
+   */
+  def lerp(to: Vec2cf, weight: Float): Vec2cf = this + (to - this) * weight
+
+  /**
+   * Computes the spherical linear interpolation between this vector and the given one by the given weight and returns the result.
+   *
+   * The given weight must be in the `[0.0f, 1.0f]` range, representing the amount of interpolation.
+   *
+   * If this vector or the given one are approximately zero, this method behaves like [[lerp]].
+   *
+   * @param to The second vector.
+   * @param weight The weight of the interpolation between `0.0f` and `1.0f`.
+   * @return The result of the spherical linear interpolation between this vector and the given one by the given weight.
+   */
+  def slerp(to: Vec2cf, weight: Float): Vec2cf = {
+    if((this.lengthSquared ~= 0.0f) || (to.lengthSquared ~= 0.0f)) {
+      this.lerp(to, weight)
+    } else {
+      this.rotated(this.angleTo(to) * weight) * (to.length / this.length)
+    }
+  }
+
+  /**
+   * Computes the normalized vector pointing from this one to the given one and returns the result.
+   *
+   * This method is equivalent to `(b - a).normalized`.
+   *
+   * @param v The second vector.
+   * @return The normalized vector pointing from this one to the given one.
+   */
+  def directionTo(v: Vec2cf): Vec2cf = (v - this).normalized
+
+  /**
+   * Computes the normalized vector pointing from this one to the one with the given components and returns the result.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @return The normalized vector pointing from this one to the one with the given components.
+   */
+  def directionTo(x: Complex32, y: Complex32): Vec2cf = this.directionTo(Vec2cf(x, y))
+
+  /**
+   * Returns the squared distance between the point represented by this vector and the point represented by the given one.
+   *
+   * This method is equivalent to `(b - a).lengthSquared`.
+   *
+   * @param v The second vector.
+   * @return The squared distance between this vector and the given one.
+   * @see [[lengthSquared]]
+   */
+  def distanceSquaredTo(v: Vec2cf): Float = (v - this).lengthSquared
+
+  /**
+   * Returns the squared distance between the point represented by this vector and the point represented by the given one.
+   *
+   * This method is equivalent to `(b - a).lengthSquared`.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @return The squared distance between this vector and the one with the given components.
+   * @see [[lengthSquared]]
+   */
+  def distanceSquaredTo(x: Complex32, y: Complex32): Float = this.distanceSquaredTo(Vec2cf(x, y))
+
+  /**
+   * Returns the distance between the point represented by this vector and the point represented by the given one.
+   *
+   * This method is equivalent to `(b - a).length`.
+   *
+   * @param v The second vector.
+   * @return The squared between this vector and the given one.
+   * @see [[length]]
+   */
+  def distanceTo(v: Vec2cf): Float = (v - this).length
+
+  /**
+   * Returns the distance between the point represented by this vector and the point represented by the given one.
+   *
+   * This method is equivalent to `(b - a).length`.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @return The squared between this vector and the one with the given components.
+   * @see [[length]]
+   */
+  def distanceTo(x: Complex32, y: Complex32): Float = this.distanceTo(Vec2cf(x, y))
+
+  /**
+   * Returns the angle in radians between this vector and the given one.
+   *
+   * @param v The second vector.
+   * @return The angle in radians between this vector and the given one.
+   */
+  def angleTo(v: Vec2cf): Float = math.acos(this.dot(v).real / (this.length * v.length)).toFloat
+
+  /**
+   * Returns the angle in radians between this vector and the one with the given components.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @return The angle in radians between this vector and the one with the given components.
+   */
+  def angleTo(x: Complex32, y: Complex32): Float = this.angleTo(Vec2cf(x, y))
+
+  /**
+   * Projects this vector on the given one and returns the result.
+   *
+   * @param v The second vector.
+   * @return The projection of this vector on the given one.
+   */
+  def project(v: Vec2cf): Vec2cf = v * (this.dot(v) / v.lengthSquared)
+
+  /**
+   * Projects this vector on the one with the given components and returns the result.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @return The projection of this vector on the one with the given components.
+   */
+  def project(x: Complex32, y: Complex32): Vec2cf = this.project(Vec2cf(x, y))
+
+  /**
+   * Reflects this vector by the given normal and returns the result.
+   *
+   * @param n The reflection normal.
+   * @return The reflection of this vector by the given normal.
+   */
+  def reflect(n: Vec2cf): Vec2cf = this - (n * (this.dot(n) * 2.0f))
+
+  /**
+   * Reflects this vector by the normal defined by the given components and returns the result.
+   *
+   * @param x The x component of the reflection normal.
+   * @param y The y component of the reflection normal.
+   * @return The reflection of this vector by the normal defined by the given components.
+   */
+  def reflect(x: Complex32, y: Complex32): Vec2cf = this.reflect(Vec2cf(x, y))
+
+  /**
+   * "Bounces" this vector on a plane defined by the given normal and returns the result.
+   *
+   * @param n The normal of the plane.
+   * @return A vector "bounced off" from a plane defined by the given normal.
+   */
+  def bounce(n: Vec2cf): Vec2cf = -this.reflect(n)
+
+  /**
+   * "Bounces" this vector on a plane defined by the normal defined by the given components and returns the result.
+   *
+   * @param x The x component of the plane's normal.
+   * @param y The y component of the plane's normal.
+   * @return A vector "bounced off" from a plane defined by the normal defined by the given components.
+   */
+  def bounce(x: Complex32, y: Complex32): Vec2cf = this.bounce(Vec2cf(x, y))
+
+  /**
+   * Slides this vector along a plane defined by the given normal and returns the result.
+   *
+   * @param n The normal of the plane.
+   * @return The result of sliding this vector along a plane defined by the given normal.
+   */
+  def slide(n: Vec2cf): Vec2cf = this - (n * this.dot(n))
+
+  /**
+   * Slides this vector along a plane defined by the normal defined by the given components and returns the result.
+   *
+   * @param x The x component of the plane's normal.
+   * @param y The y component of the plane's normal.
+   * @return The result of sliding this vector along a plane defined by the normal defined by the given components.
+   */
+  def slide(x: Complex32, y: Complex32): Vec2cf = this.slide(Vec2cf(x, y))
+
+  /**
+   * Returns a perpendicular vector rotated 90 degrees counter-clockwise compared to the original, with the same length.
+   *
+   * @return A vector perpendicular to this one with the same length.
+   */
+  def orthogonal: Vec2cf = Vec2cf(this.y, -this.x)
+
+  /**
+   * Rotates this vector by the given angle in radians and returns the result.
+   *
+   * @param angle The rotation angle in radians.
+   * @return This vector rotated by the given angle.
+   */
+  def rotated(angle: Float): Vec2cf = {
+    val sin = math.sin(angle).toFloat
+    val cos = math.cos(angle).toFloat
+    Vec2cf(this.x * cos - this.y * sin, this.x * sin + this.y * cos)
+  }
+
+  /**
+   * Returns the cross product, or vector product, between this vector and the vector defined by the given components.
+   *
+   * Since the cross product is only defined in three dimensions, this vector is considered to be laying on the xy plane, i.e. its z component is considered to be zero.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @param z The z component of the second vector.
+   * @return The cross product between this vector and the vector defined by the given components.
+   */
+  def cross(x: Complex32, y: Complex32, z: Complex32): Vec3cf = Vec3cf(this.y * z, z * this.x, this.x * y - this.y * x)
+
+  /**
+   * Returns the cross product, or vector product, between this vector and the given one.
+   *
+   * Since the cross product is only defined in three dimensions, this vector is considered to be laying on the xy plane, i.e. its z component is considered to be zero.
+   *
+   * @param v The second vector.
+   * @return The cross product between this vector and the given one.
+   */
+  def cross(v: Vec3cf): Vec3cf = this.cross(v.x, v.y, v.z)
+
+  /**
+   * Returns the cross product, or vector product, between this vector and the given one.
+   *
+   * Since the cross product is only defined in three dimensions, the two vectors are considered to be laying on the xy plane, i.e. their z component is considered to be zero.
+   *
+   * @param v The second vector.
+   * @return The cross product between this vector and the given one.
+   */
+  def cross(v: Vec2cf): Vec3cf = this.cross(v.x, v.y, 0.0f)
+
+  /**
+   * Returns the outer product between this vector and the given values.
+   *
+   * @param x The x component of the second vector.
+   * @param y The y component of the second vector.
+   * @return The outer product between this vector and the given values.
+   */
+  def outer(x: Complex32, y: Complex32): Mat2cf = Mat2cf(
+    this.x * x, this.x * y,
+    this.y * x, this.y * y
+  )
+
+  /**
+   * Returns the outer product between this vector and the given one.
+   *
+   * @param v The second vector.
+   * @return The outer product between this vector and the given one.
+   */
+  def outer(v: Vec2cf): Mat2cf = this.outer(v.x, v.y)
+
+  /**
+   * Checks if the components of this vector are equal to the given ones.
+   *
+   * @param x The x component.
+   * @param y The y component.
+   * @return True if the components of this vector are equal to the given ones, otherwise false.
+   */
+  def ==(x: Complex32, y: Complex32): Boolean = this.x == x && this.y == y
+
+  /**
+   * Checks if the components of this vector are equal to the given ones.
+   *
+   * This method can be used in place of the `==` operator for better interoperability with Java.
+   *
+   * @param x The x component.
+   * @param y The y component.
+   * @return True if the components of this vector are equal to the given ones, otherwise false.
+   */
+  def equals(x: Complex32, y: Complex32): Boolean = this == (x, y)
+
+  /**
+   * Checks if the components of this vector are approximately equal to the given ones using an internal epsilon.
+   *
+   * @param x The x component.
+   * @param y The y component.
+   * @return True if the components of this vector are approximately equal to the given ones, otherwise false.
+   */
+  def ~=(x: Complex32, y: Complex32): Boolean = (this.x ~= x) && (this.y ~= y)
+
+  /**
+   * Checks if the components of this vector are approximately equal to the given ones using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param x The x component.
+   * @param y The y component.
+   * @return True if the components of this vector are approximately equal to the given ones, otherwise false.
+   */
+  def equalsApprox(x: Complex32, y: Complex32): Boolean = this ~= (x, y)
+
+  /**
+   * Checks if this vector is approximately equal to the given one using an internal epsilon.
+   *
+   * @param v The second vector.
+   * @return True if this vector is approximately equal to the given one, otherwise false.
+   */
+  def ~=(v: Vec2cf): Boolean = this ~= (v.x, v.y)
+
+  /**
+   * Checks if this vector is approximately equal to the given one using an internal epsilon.
+   *
+   * This method can be used in place of the `~=` operator for better interoperability with Java.
+   *
+   * @param v The second vector.
+   * @return True if this vector is approximately equal to the given one, otherwise false.
+   */
+  def equalsApprox(v: Vec2cf): Boolean = this ~= v
+
+  /**
+   * Returns the component of this vector at the given index.
+   * `0` for `x`, `1` for `y`.
+   *
+   * @param i The index of the requested component. Must be either 0, or 1.
+   * @return The component of this vector at the given index.
+   * @throws MatchError If the given index is out of bounds.
+   */
+  def apply(i: Int): Complex32 = i match {
+    case 0 => this.x
+    case 1 => this.y
+  }
+
+  /**
+   * Returns a vector whose components are the real part of the components of this vector.
+   *
+   * @return A vector whose components are the real part of the components of this vector.
+   */
+  def real: Vec2f = Vec2f(this.x.real, this.y.real)
+
+  /**
+   * Returns a vector whose components are the imaginary part of the components of this vector.
+   *
+   * @return A vector whose components are the imaginary part of the components of this vector.
+   */
+  def imaginary: Vec2f = Vec2f(this.x.imaginary, this.y.imaginary)
+
+  /**
+   * Converts this vector to a double-precision vector.
+   *
+   * The conversion is exact.
+   *
+   * @return A double-precision vector equal to this one.
+   */
+  def toVec2c: Vec2c = Vec2c(this.x.toComplex, this.y.toComplex)
+}
+
+/**
+ * Constants and implicits for vectors.
+ */
+object Vec2cf {
+
+  /** Shorthand for `Vec2cf(0.0f, 0.0f)` */
+  val Zero: Vec2cf = Vec2cf(0.0f, 0.0f)
+
+  /**
+   * Converts the given double-precision vector to single precision.
+   *
+   * The real and imaginary part of every component are rounded to the nearest float.
+   *
+   * @param v The double-precision vector.
+   * @return The single-precision vector nearest to the given one.
+   */
+  def fromVec2c(v: Vec2c): Vec2cf = Vec2cf(Complex32.fromComplex(v.x), Complex32.fromComplex(v.y))
+
+  /**
+   * Allows to use the `*` and `/` operators with a scalar as `1.0f * vector`.
+   *
+   * @param self The scalar value.
+   */
+  implicit class ComplexExtender(val self: Complex32) extends AnyVal {
+
+    /**
+     * Multiplies the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the given vector.
+     */
+    def *(v: Vec2cf): Vec2cf = v * self
+
+    /**
+     * Multiplies the [[Vec2cf.inverse]] of the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the inverse of the given vector.
+     */
+    def /(v: Vec2cf): Vec2cf = v.inverse * self
+  }
+
+  /**
+   * Allows to use the `*` and `/` operators with a scalar as `1.0f * vector`.
+   *
+   * @param self The scalar value.
+   */
+  implicit class RealExtender(val self: Float) extends AnyVal {
+
+    /**
+     * Multiplies the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the given vector.
+     */
+    def *(v: Vec2cf): Vec2cf = v * self
+
+    /**
+     * Multiplies the [[Vec2cf.inverse]] of the given vector by this scalar and returns the result.
+     *
+     * @param v The vector to multiply.
+     * @return The product between this scalar and the inverse of the given vector.
+     */
+    def /(v: Vec2cf): Vec2cf = v.inverse * self
+  }
+
+  /**
+   * Implicit conversion from [[Vec2f]] to [[Vec2cf]].
+   */
+  implicit val vec2fToVec2cf: Vec2f => Vec2cf = v => Vec2cf(v.x, v.y)
+
+  /**
+   * Implicit conversion from [[Vec2cf]] to [[Vec2c]].
+   */
+  implicit val vec2cfToVec2c: Vec2cf => Vec2c = v => v.toVec2c
+}
@@ -301,6 +301,16 @@ case class Vec3c(x: Complex, y: Complex, z: Complex) {
    */
   def conjugate: Vec3c = Vec3c(this.x.conjugate, this.y.conjugate, this.z.conjugate)
 
+  /**
+   * Returns an [[Expression]] whose result is this vector.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate vector.
+   *
+   * @return An expression whose result is this vector.
+   */
+  def lazily: Expression[Vec3c] = Expression(this, Expression.Vec3cShape)
+
   /**
    * Returns the dot product, or scalar product, between this vector and the given values.
    *
@@ -326,6 +326,16 @@ case class Vec4c(x: Complex, y: Complex, z: Complex, w: Complex) {
    */
   def conjugate: Vec4c = Vec4c(this.x.conjugate, this.y.conjugate, this.z.conjugate, this.w.conjugate)
 
+  /**
+   * Returns an [[Expression]] whose result is this vector.
+   *
+   * Operations on the returned expression are recorded and computed in a single pass when the expression is evaluated,
+   * without creating any intermediate vector.
+   *
+   * @return An expression whose result is this vector.
+   */
+  def lazily: Expression[Vec4c] = Expression(this, Expression.Vec4cShape)
+
   /**
    * Returns the dot product, or scalar product, between this vector and the given values.
    *
@@ -0,0 +1,27 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class TestBinaryCodec {
+
+    @Test
+    public void testWriteAndReadVector() {
+        var buffer = ByteBuffer.allocate(BinaryCodec.Vec2cBytes());
+        var v = new Vec2c(new Complex(1.0, 2.0), new Complex(3.0, 4.0));
+        BinaryCodec.write(buffer, v);
+        buffer.flip();
+        Assert.assertEquals(v, BinaryCodec.readVec2c(buffer));
+    }
+
+    @Test
+    public void testWriteAndReadComplexArray() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var buffer = ByteBuffer.allocateDirect(32);
+        BinaryCodec.write(buffer, a);
+        buffer.flip();
+        Assert.assertEquals(a, BinaryCodec.readComplexArray(buffer, 2));
+    }
+}
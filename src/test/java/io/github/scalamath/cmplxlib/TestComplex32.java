@@ -0,0 +1,36 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestComplex32 {
+
+    @Test
+    public void testProductOfTwoComplexNumbers() {
+        var z = new Complex32(2.0f, 1.0f);
+        var w = new Complex32(1.5f, 2.0f);
+        Assert.assertEquals(new Complex32(1.0f, 5.5f), z.multiply(w));
+    }
+
+    @Test
+    public void testConvertToAndFromDoublePrecision() {
+        var z = new Complex32(0.5f, -1.25f);
+        Assert.assertEquals(new Complex(0.5, -1.25), z.toComplex());
+        Assert.assertEquals(z, Complex32.fromComplex(new Complex(0.5, -1.25)));
+    }
+
+    @Test
+    public void testMatrixTimesVector() {
+        var m = new Mat2cf(Complex32.One(), Complex32.I(), Complex32.Zero(), Complex32.One());
+        var v = new Vec2cf(new Complex32(1.0f, 0.0f), new Complex32(2.0f, 0.0f));
+        Assert.assertEquals(new Vec2cf(new Complex32(1.0f, 2.0f), new Complex32(2.0f, 0.0f)), m.multiply(v));
+        Assert.assertEquals(m.toMat2c().multiply(v.toVec2c()), m.multiply(v).toVec2c());
+    }
+
+    @Test
+    public void testComplexArray() {
+        var a = ComplexArray32.fromParts(new float[] {1.0f, 3.0f}, new float[] {2.0f, -1.0f});
+        Assert.assertEquals(new Complex32(3.0f, -1.0f), a.apply(1));
+        Assert.assertEquals(a, ComplexArray32.fromComplexArray(a.toComplexArray()));
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestComplexArray {
+
+    @Test
+    public void testSumOfTwoArrays() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var b = ComplexArray.fromParts(new double[] {0.5, 1.0}, new double[] {1.0, 2.0});
+        var res = ComplexArray.fromParts(new double[] {1.5, 4.0}, new double[] {3.0, 1.0});
+        Assert.assertEquals(res, a.plus(b));
+    }
+
+    @Test
+    public void testSubtractionOfTwoArrays() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var b = ComplexArray.fromParts(new double[] {0.5, 1.0}, new double[] {1.0, 2.0});
+        var res = ComplexArray.fromParts(new double[] {0.5, 2.0}, new double[] {1.0, -3.0});
+        Assert.assertEquals(res, a.minus(b));
+    }
+
+    @Test
+    public void testProductOfTwoArrays() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var b = ComplexArray.fromParts(new double[] {0.5, 1.0}, new double[] {1.0, 2.0});
+        var res = ComplexArray.fromParts(new double[] {-1.5, 5.0}, new double[] {2.0, 5.0});
+        Assert.assertEquals(res, a.multiply(b));
+    }
+
+    @Test
+    public void testArrayMultipliedByComplex() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var res = ComplexArray.fromParts(new double[] {-2.0, 1.0}, new double[] {1.0, 3.0});
+        Assert.assertEquals(res, a.multipliedBy(Complex.I()));
+    }
+
+    @Test
+    public void testArrayDividedByReal() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var res = ComplexArray.fromParts(new double[] {0.5, 1.5}, new double[] {1.0, -0.5});
+        Assert.assertEquals(res, a.dividedBy(2.0));
+    }
+
+    @Test
+    public void testConjugateArray() {
+        var a = new ComplexArray(2);
+        a.update(0, 1.0, 2.0);
+        a.update(1, new Complex(3.0, -1.0));
+        var res = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {-2.0, 1.0});
+        Assert.assertEquals(res, a.conjugate());
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestComplexBackend {
+
+    @Test
+    public void testCurrentBackendIsAvailable() {
+        Assert.assertTrue(ComplexBackend.available().contains(ComplexBackend.current()));
+    }
+
+    @Test
+    public void testSquaredModulus() {
+        var res = new double[2];
+        ComplexBackend.current().squaredModulus(new double[] {3.0, 4.0, 1.0, 1.0}, 0, res, 0, 2);
+        Assert.assertArrayEquals(new double[] {25.0, 2.0}, res, 0.0);
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestComplexBatch {
+
+    @Test
+    public void testExpOfArray() {
+        var data = new double[] {0.0, Math.PI, 1.0, 0.0};
+        ComplexBatch.Accurate().exp(data, 0, data, 0, 2);
+        Assert.assertEquals(-1.0, data[0], 1e-15);
+        Assert.assertEquals(0.0, data[1], 1e-15);
+        Assert.assertEquals(Math.E, data[2], 1e-15);
+        Assert.assertEquals(0.0, data[3], 0.0);
+    }
+
+    @Test
+    public void testFastSinOfComplexArray() {
+        var a = ComplexArray.fromParts(new double[] {0.5, -1.0}, new double[] {1.0, 2.0});
+        var res = ComplexBatch.Fast().sin(a);
+        for (int i = 0; i < a.length(); i++) {
+            Assert.assertTrue(res.apply(i).equalsApprox(Complex.sin(a.apply(i))));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestComplexMatrix {
+
+    @Test
+    public void testGetAndSetElements() {
+        var m = new ComplexMatrix(2, 3);
+        m.update(1, 2, new Complex(1.0, 2.0));
+        Assert.assertEquals(new Complex(1.0, 2.0), m.apply(1, 2));
+        Assert.assertEquals(0.0, m.realAt(0, 0), 0.0);
+    }
+
+    @Test
+    public void testProductOfTwoMatrices() {
+        var a = ComplexMatrix.wrap(2, 2, new double[] {1.0, 1.0, 2.0, 0.0, 0.0, 1.0, 1.0, 0.0});
+        var b = ComplexMatrix.identity(2).multipliedBy(new Complex(0.0, 2.0));
+        var res = ComplexMatrix.wrap(2, 2, new double[] {-2.0, 2.0, 0.0, 4.0, -2.0, 0.0, 0.0, 2.0});
+        Assert.assertEquals(res, a.multiply(b));
+    }
+
+    @Test
+    public void testConversionToMat2c() {
+        var m = new Mat2c(new Complex(1.0, 1.0), new Complex(2.0, 0.0), new Complex(0.0, 1.0), new Complex(1.0, 0.0));
+        Assert.assertEquals(m, ComplexMatrix.fromMat(m).toMat2c());
+    }
+}
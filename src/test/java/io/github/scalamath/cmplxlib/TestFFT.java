@@ -0,0 +1,22 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestFFT {
+
+    @Test
+    public void testForwardTransform() {
+        var a = ComplexArray.fromParts(new double[] {1.0, 2.0, 3.0, 4.0}, new double[] {0.0, 0.0, 0.0, 0.0});
+        FFT.apply(4).forward(a);
+        var res = ComplexArray.fromParts(new double[] {10.0, -2.0, -2.0, -2.0}, new double[] {0.0, 2.0, 0.0, -2.0});
+        Assert.assertTrue(res.equalsApprox(a));
+    }
+
+    @Test
+    public void testInverseTransform() {
+        var a = ComplexArray.fromParts(new double[] {10.0, -2.0, -2.0, -2.0}, new double[] {0.0, 2.0, 0.0, -2.0});
+        var res = ComplexArray.fromParts(new double[] {1.0, 2.0, 3.0, 4.0}, new double[] {0.0, 0.0, 0.0, 0.0});
+        Assert.assertTrue(res.equalsApprox(a.ifft()));
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestInstrumentation {
+
+    @Test
+    public void testStats() {
+        Instrumentation.reset();
+        var stats = Instrumentation.stats("Mat4c.power");
+        Assert.assertEquals("Mat4c.power", stats.operation());
+        Assert.assertEquals(0L, stats.count());
+        Assert.assertEquals(0.0, stats.meanNanos(), 0.0);
+    }
+
+    @Test
+    public void testSnapshot() {
+        Assert.assertEquals(Instrumentation.operations().size(), Instrumentation.snapshot().size());
+        Assert.assertEquals("cmplxlib.instrumentation", Instrumentation.Property());
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class TestMappedComplexArray {
+
+    @Test
+    public void testCreateAndReopen() throws IOException {
+        var path = Files.createTempFile("cmplxlib", ".bin");
+        try {
+            try (var a = MappedComplexArray.create(path, 3)) {
+                a.update(1, new Complex(1.0, 2.0));
+                a.mulAssign(new Complex(0.0, 1.0));
+            }
+            try (var a = MappedComplexArray.open(path)) {
+                Assert.assertEquals(3, a.length());
+                Assert.assertEquals(new Complex(-2.0, 1.0), a.apply(1));
+                Assert.assertEquals(new Complex(-2.0, 1.0), a.sum());
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testWindows() throws IOException {
+        var path = Files.createTempFile("cmplxlib", ".bin");
+        try (var a = MappedComplexArray.create(path, 5)) {
+            var count = new int[1];
+            a.foreachWindow(2, (from, window) -> {
+                count[0] += window.length();
+                return null;
+            });
+            Assert.assertEquals(5, count[0]);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -175,4 +175,15 @@ public class TestMat2c {
         );
         Assert.assertTrue(a.equalsApprox(b));
     }
+
+    @Test
+    public void testExpm() {
+        var m = new Mat2c(Complex.Zero(), Complex.One(), Complex.Zero(), Complex.Zero());
+        Assert.assertTrue(m.expm().equalsApprox(new Mat2c(Complex.One(), Complex.One(), Complex.Zero(), Complex.One())));
+        var src = new ComplexArray(8);
+        var dst = new ComplexArray(8);
+        Mat2c.expmAll(src, dst);
+        Assert.assertEquals(Complex.One(), dst.apply(0));
+        Assert.assertEquals(Complex.Zero(), dst.apply(1));
+    }
 }
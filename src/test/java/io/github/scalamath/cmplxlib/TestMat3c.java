@@ -202,4 +202,19 @@ public class TestMat3c {
         );
         Assert.assertTrue(a.equalsApprox(b));
     }
+
+    @Test
+    public void testHermitianEigen() {
+        var m = new Mat3c(
+            new Complex(2.0, 0.0), new Complex(1.0, -1.0), new Complex(0.0, 0.5),
+            new Complex(1.0, 1.0), new Complex(3.0, 0.0), new Complex(2.0, 0.0),
+            new Complex(0.0, -0.5), new Complex(2.0, 0.0), new Complex(-1.0, 0.0)
+        );
+        var eigen = m.hermitianEigen();
+        Assert.assertTrue(eigen.vectors().isUnitary(1e-13));
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(m.multiply(eigen.vector(i)).equalsApprox(eigen.vector(i).multipliedBy(eigen.value(i))));
+        }
+        Assert.assertTrue(eigen.value(0) <= eigen.value(1) && eigen.value(1) <= eigen.value(2));
+    }
 }
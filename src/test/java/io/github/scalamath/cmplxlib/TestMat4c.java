@@ -206,4 +206,49 @@ public class TestMat4c {
         );
         Assert.assertTrue(a.equalsApprox(b));
     }
+
+    @Test
+    public void testCachedMatrix() {
+        var m = new Mat4c(
+            new Complex(1.0, 2.0), new Complex(1.5, 1.0), new Complex(2.0, 1.0), new Complex(3.0, 0.0),
+            new Complex(0.5, 1.5), new Complex(3.0, 2.0), new Complex(1.0, 2.0), new Complex(2.0, 1.0),
+            new Complex(2.0, 3.0), new Complex(0.0, 1.0), new Complex(1.5, 2.5), new Complex(1.0, 0.0),
+            new Complex(3.0, 1.0), new Complex(2.0, 3.0), new Complex(2.5, 1.5), new Complex(0.0, 2.0)
+        );
+        var cached = m.cached();
+        Assert.assertEquals(m.inverse(), cached.inverse());
+        Assert.assertSame(cached.inverse(), cached.inverse());
+        Assert.assertEquals(m.determinant(), cached.determinant());
+        Assert.assertFalse(cached.isHermitian());
+    }
+
+    @Test
+    public void testQRDecomposition() {
+        var m = new Mat4c(
+            new Complex(1.0, 2.0), new Complex(1.5, 1.0), new Complex(2.0, 1.0), new Complex(3.0, 0.0),
+            new Complex(0.5, 1.5), new Complex(3.0, 2.0), new Complex(1.0, 2.0), new Complex(2.0, 1.0),
+            new Complex(2.0, 3.0), new Complex(0.0, 1.0), new Complex(1.5, 2.5), new Complex(1.0, 0.0),
+            new Complex(3.0, 1.0), new Complex(2.0, 3.0), new Complex(2.5, 1.5), new Complex(0.0, 2.0)
+        );
+        var qr = m.qrDecomposition();
+        Assert.assertTrue(qr.q().multiply(qr.r()).equalsApprox(m));
+        Assert.assertTrue(m.orthonormalized().isUnitary(1e-14));
+        Assert.assertFalse(qr.isSingular());
+    }
+
+    @Test
+    public void testProducts() {
+        var a = Mat4c.Identity().multipliedBy(2.0);
+        var b = Mat4c.Identity().multipliedBy(Complex.I());
+        var src = new ComplexArray(32);
+        var dst = new ComplexArray(32);
+        for (int i = 0; i < 4; i++) {
+            src.update(5 * i, a.apply(i, i));
+            src.update(16 + 5 * i, b.apply(i, i));
+        }
+        Assert.assertEquals(a.multiply(b), Mat4c.product(src));
+        Mat4c.prefixProducts(src, dst);
+        Assert.assertEquals(new Complex(2.0, 0.0), dst.apply(0));
+        Assert.assertEquals(new Complex(0.0, 2.0), dst.apply(16));
+    }
 }
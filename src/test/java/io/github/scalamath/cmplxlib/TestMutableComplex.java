@@ -0,0 +1,48 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestMutableComplex {
+
+    @Test
+    public void testAddAssign() {
+        var z = new MutableComplex(2.0, 1.0);
+        z.addAssign(1.5, 2.0).addAssign(new Complex(0.5, 1.0));
+        Assert.assertEquals(new Complex(4.0, 4.0), z.toComplex());
+    }
+
+    @Test
+    public void testSubAssign() {
+        var z = new MutableComplex(2.0, 1.0);
+        z.subAssign(1.5).subAssign(new Complex(0.5, 1.0));
+        Assert.assertEquals(new Complex(0.0, 0.0), z.toComplex());
+    }
+
+    @Test
+    public void testMulAssign() {
+        var z = new MutableComplex(2.0, 1.0);
+        z.mulAssign(1.0, 1.0);
+        Assert.assertEquals(new Complex(1.0, 3.0), z.toComplex());
+    }
+
+    @Test
+    public void testDivAssign() {
+        var z = new MutableComplex(1.0, 3.0);
+        z.divAssign(new Complex(1.0, 1.0));
+        Assert.assertTrue(z.equalsApprox(new Complex(2.0, 1.0)));
+    }
+
+    @Test
+    public void testMatrixAccumulator() {
+        var m = new Mat4c(
+            new Complex(1.0, 0.5), new Complex(0.0, 0.0), new Complex(2.0, 0.0), new Complex(0.0, 1.0),
+            new Complex(0.0, 0.0), new Complex(1.0, 0.0), new Complex(0.0, 0.0), new Complex(0.0, 0.0),
+            new Complex(0.0, 1.0), new Complex(0.0, 0.0), new Complex(1.0, 0.0), new Complex(0.0, 0.0),
+            new Complex(0.0, 0.0), new Complex(3.0, 0.0), new Complex(0.0, 0.0), new Complex(1.0, -1.0)
+        );
+        var acc = new MutableMat4c().setIdentity();
+        acc.mulAssign(m).mulAssign(m);
+        Assert.assertTrue(acc.equalsApprox(m.multiply(m)));
+    }
+}
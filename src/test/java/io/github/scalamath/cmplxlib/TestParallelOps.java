@@ -0,0 +1,33 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelOps {
+
+    @Test
+    public void testSumOfArray() {
+        var ops = new ParallelOps(ForkJoinPool.commonPool(), 1);
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0, 0.5}, new double[] {2.0, -1.0, 0.5});
+        Assert.assertEquals(new Complex(4.5, 1.5), ops.sum(a));
+    }
+
+    @Test
+    public void testDotProduct() {
+        var ops = ParallelOps.Default();
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var b = ComplexArray.fromParts(new double[] {0.5, 1.0}, new double[] {1.0, 2.0});
+        Assert.assertEquals(new Complex(3.5, -7.0), ops.dot(a, b));
+    }
+
+    @Test
+    public void testProductOfTwoArrays() {
+        var ops = new ParallelOps(ForkJoinPool.commonPool(), 1);
+        var a = ComplexArray.fromParts(new double[] {1.0, 3.0}, new double[] {2.0, -1.0});
+        var b = ComplexArray.fromParts(new double[] {0.5, 1.0}, new double[] {1.0, 2.0});
+        var res = ComplexArray.fromParts(new double[] {-1.5, 5.0}, new double[] {2.0, 5.0});
+        Assert.assertEquals(res, ops.multiply(a, b));
+    }
+}
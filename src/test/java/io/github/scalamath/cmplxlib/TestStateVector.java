@@ -0,0 +1,24 @@
+package io.github.scalamath.cmplxlib;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestStateVector {
+
+    @Test
+    public void testBellState() {
+        var h = new Mat2c(Complex.One(), Complex.One(), Complex.One(), Complex.One().negated()).dividedBy(Math.sqrt(2.0));
+        var cnot = new Mat4c(
+            Complex.One(), Complex.Zero(), Complex.Zero(), Complex.Zero(),
+            Complex.Zero(), Complex.One(), Complex.Zero(), Complex.Zero(),
+            Complex.Zero(), Complex.Zero(), Complex.Zero(), Complex.One(),
+            Complex.Zero(), Complex.Zero(), Complex.One(), Complex.Zero()
+        );
+        var state = new StateVector(2);
+        new Circuit(2).gate(h, 1).gate(cnot, 1, 0).fused().applyTo(state);
+        Assert.assertEquals(0.5, state.probability(0), 1e-15);
+        Assert.assertEquals(0.0, state.probability(1), 1e-15);
+        Assert.assertEquals(0.0, state.probability(2), 1e-15);
+        Assert.assertEquals(0.5, state.probability(3), 1e-15);
+    }
+}
@@ -144,4 +144,17 @@ public class TestVec4c {
         var b = new Vec4c(new Complex(1.0, 2.0), new Complex(3.0, 2.0), new Complex(1.0, 1.0), new Complex(0.0, 1.0));
         Assert.assertTrue(a.equalsApprox(b));
     }
+
+    @Test
+    public void testLazyExpression() {
+        var a = new Vec4c(new Complex(1.0, 2.0), new Complex(3.0, 2.0), new Complex(1.0, 1.0), new Complex(0.0, 1.0));
+        var b = new Vec4c(new Complex(0.0, 1.0), new Complex(1.0, 0.0), new Complex(2.0, 0.0), new Complex(1.0, -1.0));
+        var k = new Complex(0.0, 2.0);
+        var expression = a.lazily().multipliedBy(k).plus(b.lazily().conjugate()).minus(b);
+        Assert.assertEquals(a.multipliedBy(k).plus(b.conjugate()).minus(b), expression.evaluate());
+        var dst = new double[8];
+        expression.evaluate(dst, 0);
+        Assert.assertEquals(-4.0, dst[0], 0.0);
+        Assert.assertEquals(0.0, dst[1], 0.0);
+    }
 }
@@ -0,0 +1,141 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.nio.{BufferOverflowException, BufferUnderflowException, ByteBuffer, ByteOrder, ReadOnlyBufferException}
+
+class BinaryCodecSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  test("Complex number is written in little-endian order") {
+    val buffer = ByteBuffer.allocate(16)
+    BinaryCodec.write(buffer, Complex(1.0, 2.0))
+    assert(buffer.position() == 16)
+    assert(buffer.order() == ByteOrder.BIG_ENDIAN)
+    buffer.order(ByteOrder.LITTLE_ENDIAN)
+    assert(buffer.getDouble(0) == 1.0)
+    assert(buffer.getDouble(8) == 2.0)
+  }
+
+  test("Write and read a complex number") {
+    val buffer = ByteBuffer.allocate(BinaryCodec.ComplexBytes)
+    BinaryCodec.write(buffer, Complex(1.5, -2.0))
+    buffer.flip()
+    assert(BinaryCodec.readComplex(buffer) == Complex(1.5, -2.0))
+    assert(!buffer.hasRemaining)
+  }
+
+  test("Write and read vectors") {
+    val buffer = ByteBuffer.allocateDirect(BinaryCodec.Vec2cBytes + BinaryCodec.Vec3cBytes + BinaryCodec.Vec4cBytes)
+    val v2 = this.data.vec2c
+    val v3 = this.data.vec3c
+    val v4 = this.data.vec4c
+    BinaryCodec.write(buffer, v2)
+    BinaryCodec.write(buffer, v3)
+    BinaryCodec.write(buffer, v4)
+    buffer.flip()
+    assert(BinaryCodec.readVec2c(buffer) == v2)
+    assert(BinaryCodec.readVec3c(buffer) == v3)
+    assert(BinaryCodec.readVec4c(buffer) == v4)
+  }
+
+  test("Write and read matrices") {
+    val buffer = ByteBuffer.allocate(BinaryCodec.Mat2cBytes + BinaryCodec.Mat3cBytes + BinaryCodec.Mat4cBytes + BinaryCodec.Mat2x3cBytes + BinaryCodec.Mat3x4cBytes)
+    val m2 = this.data.mat2c
+    val m3 = this.data.mat3c
+    val m4 = this.data.mat4c
+    val m23 = this.data.mat2x3c
+    val m34 = this.data.mat3x4c
+    BinaryCodec.write(buffer, m2)
+    BinaryCodec.write(buffer, m3)
+    BinaryCodec.write(buffer, m4)
+    BinaryCodec.write(buffer, m23)
+    BinaryCodec.write(buffer, m34)
+    buffer.flip()
+    assert(BinaryCodec.readMat2c(buffer) == m2)
+    assert(BinaryCodec.readMat3c(buffer) == m3)
+    assert(BinaryCodec.readMat4c(buffer) == m4)
+    assert(BinaryCodec.readMat2x3c(buffer) == m23)
+    assert(BinaryCodec.readMat3x4c(buffer) == m34)
+  }
+
+  test("Matrices are written in row-major order") {
+    val buffer = ByteBuffer.allocate(BinaryCodec.Mat2cBytes)
+    BinaryCodec.write(buffer, Mat2c(Complex(1.0, 2.0), Complex(3.0, 4.0), Complex(5.0, 6.0), Complex(7.0, 8.0)))
+    buffer.flip()
+    assert(BinaryCodec.readComplexArray(buffer, 4) == ComplexArray(Complex(1.0, 2.0), Complex(3.0, 4.0), Complex(5.0, 6.0), Complex(7.0, 8.0)))
+  }
+
+  test("Write and read arrays of matrices") {
+    val matrices = Array.fill(100)(this.data.mat4c)
+    val buffer = ByteBuffer.allocateDirect(100 * BinaryCodec.Mat4cBytes)
+    BinaryCodec.write(buffer, matrices)
+    buffer.flip()
+    val res = new Array[Mat4c](100)
+    BinaryCodec.read(buffer, res)
+    assert(res sameElements matrices)
+  }
+
+  test("Array of vectors has the same encoding as a complex array") {
+    val vectors = Array.fill(10)(this.data.vec4c)
+    val buffer = ByteBuffer.allocate(10 * BinaryCodec.Vec4cBytes)
+    BinaryCodec.write(buffer, vectors)
+    buffer.flip()
+    val res = BinaryCodec.readComplexArray(buffer, 40)
+    assert(res == ComplexArray(vectors.flatMap(v => Seq(v.x, v.y, v.z, v.w)).toIndexedSeq: _*))
+  }
+
+  test("Write and read complex arrays") {
+    val a = this.data.complexArray(1000)
+    for (buffer <- Seq(ByteBuffer.allocate(16000), ByteBuffer.allocateDirect(16000))) {
+      BinaryCodec.write(buffer, a)
+      assert(buffer.position() == 16000)
+      buffer.flip()
+      val res = new ComplexArray(1000)
+      BinaryCodec.read(buffer, res)
+      assert(res == a)
+    }
+  }
+
+  test("Write and read part of a complex array") {
+    val a = ComplexArray(Complex(1.0, 2.0), Complex(3.0, 4.0), Complex(5.0, 6.0))
+    val buffer = ByteBuffer.allocate(32)
+    BinaryCodec.write(buffer, a, 1, 2)
+    buffer.flip()
+    val res = new ComplexArray(3)
+    BinaryCodec.read(buffer, res, 0, 2)
+    assert(res == ComplexArray(Complex(3.0, 4.0), Complex(5.0, 6.0), Complex.Zero))
+  }
+
+  test("Write and read a complex matrix") {
+    val m = ComplexMatrix.tabulate(3, 5)((r, c) => Complex(r, c))
+    val buffer = ByteBuffer.allocate(15 * BinaryCodec.ComplexBytes)
+    BinaryCodec.write(buffer, m)
+    buffer.flip()
+    assert(BinaryCodec.readComplexMatrix(buffer, 3, 5) == m)
+  }
+
+  test("Write to a buffer that is too small") {
+    val buffer = ByteBuffer.allocate(40)
+    buffer.position(10)
+    assertThrows[BufferOverflowException](BinaryCodec.write(buffer, Vec2c(Complex.One, Complex.I)))
+    assert(buffer.position() == 10)
+    assert(buffer.order() == ByteOrder.BIG_ENDIAN)
+  }
+
+  test("Read from a buffer that is too small") {
+    val buffer = ByteBuffer.allocate(40)
+    assertThrows[BufferUnderflowException](BinaryCodec.readComplexArray(buffer, 3))
+    assert(buffer.position() == 0)
+  }
+
+  test("Write to a read-only buffer") {
+    val buffer = ByteBuffer.allocate(16).asReadOnlyBuffer()
+    assertThrows[ReadOnlyBufferException](BinaryCodec.write(buffer, Complex.One))
+  }
+
+  test("Range out of the bounds of a complex array") {
+    assertThrows[IllegalArgumentException](BinaryCodec.write(ByteBuffer.allocate(64), new ComplexArray(3), 2, 2))
+  }
+}
@@ -0,0 +1,84 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class CachedMat3cSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat3c] = (a: Mat3c, b: Any) => b match {
+    case b: Mat3c => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec3c] = (a: Vec3c, b: Any) => b match {
+    case b: Vec3c => a ~= b
+    case _ => false
+  }
+
+  private val mat = Mat3c(
+    1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+    0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+    2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+  )
+
+  test("Cached values are equal to the ones computed by the matrix") {
+    val cached = this.mat.cached
+    assert(cached.determinant == this.mat.determinant)
+    assert(cached.adjugate == this.mat.adjugate)
+    assert(cached.inverse == this.mat.inverse)
+    assert(cached.conjugateTransposed == this.mat.conjugate.transposed)
+    assert(cached.isHermitian == this.mat.isHermitian)
+  }
+
+  test("Cached values are computed once") {
+    val cached = this.mat.cached
+    assert(cached.inverse eq cached.inverse)
+    assert(cached.adjugate eq cached.adjugate)
+    assert(cached.conjugateTransposed eq cached.conjugateTransposed)
+  }
+
+  test("LU decomposition is computed once") {
+    val cached = this.mat.cached
+    assert(cached.luDecomposition eq cached.luDecomposition)
+  }
+
+  test("Hermitian matrix") {
+    val cached = Mat3c(
+      2.0, 1.0 - I, 2.0 * I,
+      1.0 + I, 3.0, 0.5,
+      -2.0 * I, 0.5, 1.0
+    ).cached
+    assert(cached.isHermitian)
+    assert(!this.mat.cached.isHermitian)
+  }
+
+  test("Power of a cached matrix") {
+    val cached = this.mat.cached
+    for (exp <- -5 to 5) {
+      assert(cached.power(exp) === this.mat.power(exp))
+    }
+  }
+
+  test("Solve a linear system with a vector") {
+    val b = Vec3c(1.0 + I, 2.0, -I)
+    val x = this.mat.cached.solve(b)
+    assert(this.mat * x === b)
+  }
+
+  test("Solve a linear system with a matrix") {
+    val x = this.mat.cached.solve(this.mat.transposed)
+    assert(this.mat * x === this.mat.transposed)
+  }
+
+  test("Product of a cached matrix and a vector") {
+    val v = Vec3c(1.0 + I, 2.0, -I)
+    assert(this.mat.cached * v == this.mat * v)
+  }
+
+  test("Cached matrices wrapping equal matrices are equal") {
+    assert(this.mat.cached == this.mat.cached)
+    assert(this.mat.cached.hashCode == this.mat.cached.hashCode)
+    assert(this.mat.cached != this.mat.transposed.cached)
+  }
+}
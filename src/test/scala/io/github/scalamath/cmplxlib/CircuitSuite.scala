@@ -0,0 +1,72 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+class CircuitSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  private def randomCircuit(qubits: Int, gates: Int, pairs: Seq[(Int, Int)]): Circuit = {
+    (0 until gates).foldLeft(new Circuit(qubits)) { (circuit, _) =>
+      if (pairs.nonEmpty && this.data.random.nextBoolean()) {
+        val (first, second) = pairs(this.data.random.nextInt(pairs.length))
+        circuit.gate(this.data.mat4c / 4.0, first, second)
+      } else {
+        circuit.gate(this.data.mat2c / 2.0, this.data.random.nextInt(qubits))
+      }
+    }
+  }
+
+  test("Circuit applies its gates in order") {
+    val h = Mat2c(1.0, 1.0, 1.0, -1.0) / math.sqrt(2.0)
+    val x = Mat2c(0.0, 1.0, 1.0, 0.0)
+    val circuit = new Circuit(2).gate(h, 0).gate(x, 1)
+    val expected = new StateVector(2).applyGate(h, 0).applyGate(x, 1)
+    assert(circuit.size == 2)
+    assert(circuit.applyTo(new StateVector(2)) ~= expected)
+  }
+
+  test("Fused single-qubit gates") {
+    val circuit = this.randomCircuit(4, 40, Seq.empty)
+    val fused = circuit.fused
+    assert(fused.size <= 4)
+    val state = this.data.state(4)
+    assert(fused.applyTo(state.copy) ~= circuit.applyTo(state.copy))
+  }
+
+  test("Fused circuit is equivalent to the original one") {
+    val pairs = Seq((0, 1), (1, 0), (2, 3), (1, 4), (4, 2))
+    for (_ <- 0 until 10) {
+      val circuit = this.randomCircuit(5, 60, pairs)
+      val fused = circuit.fused
+      assert(fused.size < circuit.size)
+      val state = this.data.state(5)
+      assert(fused.applyTo(state.copy) ~= circuit.applyTo(state.copy))
+    }
+  }
+
+  test("Two-qubit gates on the same qubits are fused") {
+    val a = this.data.mat4c / 4.0
+    val b = this.data.mat4c / 4.0
+    val c = this.data.mat2c / 2.0
+    val circuit = new Circuit(3).gate(a, 0, 1).gate(c, 2).gate(b, 1, 0).gate(c, 0)
+    val fused = circuit.fused
+    assert(fused.size == 2)
+    val state = this.data.state(3)
+    assert(fused.applyTo(state.copy) ~= circuit.applyTo(state.copy))
+  }
+
+  test("Circuit applied to a larger state") {
+    val circuit = this.randomCircuit(2, 5, Seq((0, 1)))
+    val state = this.data.state(3)
+    assert(circuit.applyTo(state.copy) ~= circuit.fused.applyTo(state.copy))
+    assertThrows[IllegalArgumentException](circuit.applyTo(new StateVector(1)))
+  }
+
+  test("Gates with targets out of range") {
+    val circuit = new Circuit(2)
+    assertThrows[IllegalArgumentException](circuit.gate(Mat2c.Identity, 2))
+    assertThrows[IllegalArgumentException](circuit.gate(Mat4c.Identity, 0, 0))
+    assertThrows[IllegalArgumentException](circuit.gate(Mat4c.Identity, 0, 2))
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Complex32Suite extends AnyFunSuite {
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  test("Sum of two complex numbers") {
+    val z = Complex32(2.0f, 1.0f)
+    val w = Complex32(1.5f, 2.0f)
+    assert(z + w == Complex32(3.5f, 3.0f))
+  }
+
+  test("Sum of a complex number and a real number") {
+    val z = Complex32(2.0f, 1.0f)
+    assert(z + 1.5f == Complex32(3.5f, 1.0f))
+    assert(1.5f + z == Complex32(3.5f, 1.0f))
+  }
+
+  test("Subtraction of two complex numbers") {
+    val z = Complex32(2.0f, 1.0f)
+    val w = Complex32(1.5f, 2.0f)
+    assert(z - w == Complex32(0.5f, -1.0f))
+  }
+
+  test("Product of two complex numbers") {
+    val z = Complex32(2.0f, 1.0f)
+    val w = Complex32(1.5f, 2.0f)
+    assert(z * w == Complex32(1.0f, 5.5f))
+    assert(2.0f * z == Complex32(4.0f, 2.0f))
+  }
+
+  test("Division of two complex numbers") {
+    val z = Complex32(2.0f, 1.0f)
+    val w = Complex32(1.5f, 2.0f)
+    assert(z / w === Complex32.fromComplex(z.toComplex / w.toComplex))
+    assert(1.0f / z === Complex32(0.4f, -0.2f))
+  }
+
+  test("Division does not overflow") {
+    val z = Complex32(1e30f, 1e30f)
+    assert(z / z === Complex32.One)
+  }
+
+  test("Modulus does not overflow if the squared modulus is larger than the largest float") {
+    val z = Complex32(3e20f, 4e20f)
+    assert(z.squaredModulus == Float.PositiveInfinity)
+    assert(z.modulus == 5e20f)
+  }
+
+  test("Conjugate, argument, and inverse") {
+    val z = Complex32(1.0f, 1.0f)
+    assert(z.conjugate == Complex32(1.0f, -1.0f))
+    assert(z.arg == (math.Pi / 4.0).toFloat)
+    assert(z.inverse === Complex32(0.5f, -0.5f))
+  }
+
+  test("Transcendental functions are rounded from double precision") {
+    val z = Complex32(0.5f, -1.25f)
+    assert(Complex32.exp(z) == Complex32.fromComplex(Complex.exp(0.5, -1.25)))
+    assert(Complex32.log(z) == Complex32.fromComplex(Complex.log(0.5, -1.25)))
+    assert(Complex32.sqrt(z) == Complex32.fromComplex(Complex.sqrt(0.5, -1.25)))
+    assert(Complex32.sin(z) == Complex32.fromComplex(Complex.sin(0.5, -1.25)))
+    assert(Complex32.cos(z) == Complex32.fromComplex(Complex.cos(0.5, -1.25)))
+    assert(Complex32.tan(z) == Complex32.fromComplex(Complex.tan(0.5, -1.25)))
+    assert(Complex32.pow(z, I) == Complex32.fromComplex(Complex.pow(Complex(0.5, -1.25), Complex.I)))
+  }
+
+  test("Euler's identity") {
+    assert(Complex32.exp(I * math.Pi.toFloat) + 1.0f === Complex32.Zero)
+  }
+
+  test("Root of unity") {
+    assert(Complex32.rootOfUnity(1, 4) === I)
+  }
+
+  test("Convert to and from double precision") {
+    val z = Complex32(0.1f, -0.3f)
+    assert(z.toComplex == Complex(0.1f.toDouble, -0.3f.toDouble))
+    assert(Complex32.fromComplex(z.toComplex) == z)
+    assert(Complex32.fromComplex(Complex(0.1, -0.3)) == z)
+  }
+
+  test("Single-precision numbers are promoted to double precision") {
+    val z: Complex = Complex32(1.5f, 2.0f)
+    assert(z == Complex(1.5, 2.0))
+    assert(Complex(1.0, 1.0) + Complex32(1.5f, 2.0f) == Complex(2.5, 3.0))
+  }
+
+  test("Approximate equality uses a single-precision tolerance") {
+    val z = Complex32(1000.0f, 1.0f)
+    assert(z ~= Complex32(1000.001f, 1.000001f))
+    assert(!(z ~= Complex32(1000.1f, 1.0f)))
+  }
+
+  test("Complex number to string") {
+    assert(Complex32(1.5f, -2.0f).toString == "1.5 - 2.0i")
+    assert(Complex32.Zero.toString == "0.0")
+  }
+}
@@ -0,0 +1,58 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+class ComplexArray32Suite extends AnyFunSuite {
+
+  private val a = ComplexArray32(Complex32(1.0f, 2.0f), Complex32(-0.5f, 1.5f), Complex32(3.0f, -1.0f))
+  private val b = ComplexArray32(Complex32(2.0f, 0.5f), Complex32(1.0f, -1.0f), Complex32(-0.25f, 4.0f))
+
+  test("Complex array stores elements as interleaved floats") {
+    assert(this.a.length == 3)
+    assert(this.a(1) == Complex32(-0.5f, 1.5f))
+    assert(this.a.realAt(2) == 3.0f)
+    assert(this.a.imaginaryAt(2) == -1.0f)
+    assert(ComplexArray32.wrap(Array(1.0f, 2.0f, -0.5f, 1.5f)) == ComplexArray32(Complex32(1.0f, 2.0f), Complex32(-0.5f, 1.5f)))
+  }
+
+  test("Element-wise operations are equal to the ones of complex numbers") {
+    for (i <- 0 until this.a.length) {
+      assert((this.a + this.b)(i) == this.a(i) + this.b(i))
+      assert((this.a - this.b)(i) == this.a(i) - this.b(i))
+      assert((this.a * this.b)(i) == this.a(i) * this.b(i))
+      assert((this.a / this.b)(i) ~= this.a(i) / this.b(i))
+      assert((this.a * Complex32(0.5f, 2.0f))(i) == this.a(i) * Complex32(0.5f, 2.0f))
+      assert(this.a.conjugate(i) == this.a(i).conjugate)
+      assert(this.a.squaredModulus(i) == this.a(i).squaredModulus)
+    }
+  }
+
+  test("Division is rounded from double precision") {
+    val res = this.a / this.b
+    assert(res == ComplexArray32.fromComplexArray(this.a.toComplexArray / this.b.toComplexArray))
+  }
+
+  test("Dot product is accumulated in double precision") {
+    assert(this.a.dot(this.b) == Complex32.fromComplex(this.a.toComplexArray.dot(this.b.toComplexArray)))
+  }
+
+  test("Operations on arrays of different length throw") {
+    assertThrows[IllegalArgumentException](this.a + new ComplexArray32(2))
+    assertThrows[IllegalArgumentException](this.a.dot(new ComplexArray32(2)))
+  }
+
+  test("Fourier transform is rounded from double precision") {
+    assert(this.a.fft == ComplexArray32.fromComplexArray(this.a.toComplexArray.fft))
+    assert(this.a.fft.ifft ~= this.a)
+  }
+
+  test("Convert to and from double precision") {
+    assert(this.a.toComplexArray == ComplexArray(Complex(1.0, 2.0), Complex(-0.5, 1.5), Complex(3.0, -1.0)))
+    assert(ComplexArray32.fromComplexArray(this.a.toComplexArray) == this.a)
+    assert(ComplexArray32.fromComplexArray(ComplexArray(Complex(0.1, 0.2)))(0) == Complex32(0.1f, 0.2f))
+  }
+
+  test("Complex array to string") {
+    assert(this.a.toString == "[1.0 + 2.0i, -0.5 + 1.5i, 3.0 - 1.0i]")
+  }
+}
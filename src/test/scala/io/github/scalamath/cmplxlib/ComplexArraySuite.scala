@@ -0,0 +1,172 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class ComplexArraySuite extends AnyFunSuite {
+
+  implicit val equality: Equality[ComplexArray] = (a: ComplexArray, b: Any) => b match {
+    case b: ComplexArray => a ~= b
+    case _ => false
+  }
+
+  test("Construct an array of zeros") {
+    val array = new ComplexArray(3)
+    assert(array.length == 3)
+    assert(array(2) == Complex.Zero)
+  }
+
+  test("Access and update elements") {
+    val array = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    array(1) = 2.0 + 4.0 * I
+    array.update(0, 5.0, 6.0)
+    assert(array(0) == 5.0 + 6.0 * I)
+    assert(array(1) == 2.0 + 4.0 * I)
+    assert(array.realAt(1) == 2.0)
+    assert(array.imaginaryAt(1) == 4.0)
+  }
+
+  test("Sum of two arrays") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val b = ComplexArray(0.5 + 1.0 * I, 1.0 + 2.0 * I)
+    val res = ComplexArray(1.5 + 3.0 * I, 4.0 + I)
+    assert(a + b === res)
+  }
+
+  test("Sum of an array and a complex number") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray(2.0 + 3.0 * I, 4.0 + 0.0 * I)
+    assert(a + (1.0 + I) === res)
+  }
+
+  test("Subtraction of two arrays") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val b = ComplexArray(0.5 + 1.0 * I, 1.0 + 2.0 * I)
+    val res = ComplexArray(0.5 + 1.0 * I, 2.0 - 3.0 * I)
+    assert(a - b === res)
+  }
+
+  test("Unary minus") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray(-1.0 - 2.0 * I, -3.0 + I)
+    assert(-a === res)
+  }
+
+  test("Element-wise product of two arrays") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val b = ComplexArray(0.5 + 1.0 * I, 1.0 + 2.0 * I)
+    val res = ComplexArray((1.0 + 2.0 * I) * (0.5 + 1.0 * I), (3.0 - I) * (1.0 + 2.0 * I))
+    assert(a * b === res)
+  }
+
+  test("Array multiplied by a complex number") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray((1.0 + 2.0 * I) * (2.0 + I), (3.0 - I) * (2.0 + I))
+    assert(a * (2.0 + I) === res)
+  }
+
+  test("Array multiplied by a real number") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray(2.0 + 4.0 * I, 6.0 - 2.0 * I)
+    assert(a * 2.0 === res)
+  }
+
+  test("Dot product of two arrays") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val b = ComplexArray(0.5 + 1.0 * I, 1.0 + 2.0 * I)
+    assert(a.dot(b) == (1.0 + 2.0 * I) * (0.5 - 1.0 * I) + (3.0 - I) * (1.0 - 2.0 * I))
+  }
+
+  test("Element-wise division of two arrays") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val b = ComplexArray(0.5 + 1.0 * I, 1.0 + 2.0 * I)
+    val res = ComplexArray((1.0 + 2.0 * I) / (0.5 + 1.0 * I), (3.0 - I) / (1.0 + 2.0 * I))
+    assert(a / b === res)
+  }
+
+  test("Array divided by a complex number") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray((1.0 + 2.0 * I) / (2.0 + I), (3.0 - I) / (2.0 + I))
+    assert(a / (2.0 + I) === res)
+  }
+
+  test("Array divided by a real number") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray(0.5 + 1.0 * I, 1.5 - 0.5 * I)
+    assert(a / 2.0 === res)
+  }
+
+  test("Element-wise division of two arrays with large parts") {
+    val a = ComplexArray(Complex(1e300, 1e300), Complex(1e-300, 1e-300))
+    val b = ComplexArray(Complex(2e300, 2e300), Complex(1e-300, -1e-300))
+    assert(a / b == ComplexArray(Complex(0.5, 0.0), Complex(0.0, 1.0)))
+  }
+
+  test("Array divided by a complex number with large parts") {
+    val a = ComplexArray(Complex(1e300, 1e300), Complex(2e300, 0.0))
+    assert(a / Complex(2e300, 2e300) == ComplexArray(Complex(0.5, 0.0), Complex(0.5, -0.5)))
+  }
+
+  test("Operations between arrays of different lengths") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val b = ComplexArray(0.5 + 1.0 * I)
+    assertThrows[IllegalArgumentException](a + b)
+  }
+
+  test("Conjugate of an array") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val res = ComplexArray(1.0 - 2.0 * I, 3.0 + I)
+    assert(a.conjugate == res)
+  }
+
+  test("Modulus of the elements of an array") {
+    val a = ComplexArray(3.0 + 4.0 * I, 1.0 - I)
+    assert(a.squaredModulus sameElements Array(25.0, 2.0))
+    assert(a.modulus sameElements Array(5.0, math.sqrt(2.0)))
+  }
+
+  test("Modulus of the elements of an array with large and small parts") {
+    val a = ComplexArray(Complex(3e200, 4e200), Complex(3e-200, 4e-200))
+    val res = a.modulus
+    assert(math.abs(res(0) / 5e200 - 1.0) < 1e-15)
+    assert(math.abs(res(1) / 5e-200 - 1.0) < 1e-15)
+  }
+
+  test("Argument of the elements of an array") {
+    val a = ComplexArray(I, -1.0 + 0.0 * I)
+    assert(a.arg sameElements Array(math.Pi / 2.0, math.Pi))
+  }
+
+  test("Real and imaginary parts of an array") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    assert(a.real sameElements Array(1.0, 3.0))
+    assert(a.imaginary sameElements Array(2.0, -1.0))
+  }
+
+  test("Operations do not modify the array") {
+    val a = ComplexArray(1.0 + 2.0 * I, 3.0 - I)
+    val copy = a.copy
+    a * (2.0 + I)
+    a.conjugate
+    assert(a == copy)
+  }
+
+  test("Construct an array from real and imaginary parts") {
+    val a = ComplexArray.fromParts(Array(1.0, 3.0), Array(2.0, -1.0))
+    assert(a == ComplexArray(1.0 + 2.0 * I, 3.0 - I))
+  }
+
+  test("Convert from and to an array of complex numbers") {
+    val values = Array(1.0 + 2.0 * I, 3.0 - I)
+    assert(ComplexArray.fromArray(values).toArray sameElements values)
+  }
+
+  test("Wrap an array of interleaved values") {
+    val data = Array(1.0, 2.0, 3.0, -1.0)
+    val a = ComplexArray.wrap(data)
+    a(0) = Complex.I
+    assert(data sameElements Array(0.0, 1.0, 3.0, -1.0))
+    assertThrows[IllegalArgumentException](ComplexArray.wrap(Array(1.0, 2.0, 3.0)))
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+class ComplexBackendSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  test("Scalar backend is always available") {
+    assert(ComplexBackend.available.contains(ComplexBackend.Scalar))
+    assert(ComplexBackend.Scalar.name == "scalar")
+  }
+
+  test("Vector backend is available if the module is present") {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent) {
+      assert(ComplexBackend.Vector.map(_.name).contains("vector"))
+    }
+  }
+
+  test("Current backend is one of the available backends") {
+    assert(ComplexBackend.available.contains(ComplexBackend.current))
+  }
+
+  test("Select a backend that is not available") {
+    assertThrows[IllegalArgumentException](ComplexBackend.select("missing"))
+  }
+
+  test("Select a backend by name") {
+    val current = ComplexBackend.current
+    ComplexBackend.select(current.name)
+    assert(ComplexBackend.current == current)
+  }
+
+  for (backend <- ComplexBackend.available) {
+
+    test(s"Product with the ${backend.name} backend") {
+      val a = this.data.doubles(2 * 37)
+      val b = this.data.doubles(2 * 37)
+      val res = new Array[Double](2 * 35)
+      backend.multiply(a, 1, b, 2, res, 0, 35)
+      for (i <- 0 until 35) {
+        assert(Complex(res(2 * i), res(2 * i + 1)) == Complex(a(2 * i + 2), a(2 * i + 3)) * Complex(b(2 * i + 4), b(2 * i + 5)))
+      }
+    }
+
+    test(s"Product in place with the ${backend.name} backend") {
+      val a = this.data.doubles(2 * 21)
+      val b = this.data.doubles(2 * 21)
+      val expected = new Array[Double](2 * 21)
+      ComplexBackend.Scalar.multiply(a, 0, b, 0, expected, 0, 21)
+      backend.multiply(a, 0, b, 0, a, 0, 21)
+      assert(a sameElements expected)
+    }
+
+    test(s"Product and sum with the ${backend.name} backend") {
+      val a = this.data.doubles(2 * 29)
+      val b = this.data.doubles(2 * 29)
+      val dst = this.data.doubles(2 * 29)
+      val expected = dst.clone()
+      ComplexBackend.Scalar.multiplyAdd(a, 0, b, 0, expected, 0, 29)
+      backend.multiplyAdd(a, 0, b, 0, dst, 0, 29)
+      assert(dst sameElements expected)
+      assert(Complex(expected(2), expected(3)) == Complex(dst(2), dst(3)))
+    }
+
+    test(s"Conjugate dot product with the ${backend.name} backend") {
+      val a = this.data.doubles(2 * 43)
+      val b = this.data.doubles(2 * 43)
+      val expected = (0 until 41).map(i => Complex(a(2 * i + 2), a(2 * i + 3)) * Complex(b(2 * i), b(2 * i + 1)).conjugate).reduce(_ + _)
+      assert(backend.conjugateDot(a, 1, b, 0, 41) ~= expected)
+    }
+
+    test(s"Squared modulus with the ${backend.name} backend") {
+      val a = this.data.doubles(2 * 19)
+      val res = new Array[Double](20)
+      backend.squaredModulus(a, 0, res, 1, 19)
+      assert(res(0) == 0.0)
+      for (i <- 0 until 19) {
+        assert(res(i + 1) == Complex(a(2 * i), a(2 * i + 1)).squaredModulus)
+      }
+    }
+  }
+}
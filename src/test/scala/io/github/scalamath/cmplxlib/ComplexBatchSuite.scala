@@ -0,0 +1,107 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+class ComplexBatchSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  private def close(actual: Complex, expected: Complex, tolerance: Double): Boolean = {
+    (actual - expected).modulus <= tolerance * math.max(1.0, expected.modulus)
+  }
+
+  private def assertClose(actual: ComplexArray, expected: Int => Complex, tolerance: Double): Unit = {
+    for (i <- 0 until actual.length) {
+      assert(this.close(actual(i), expected(i), tolerance), s"at index $i: ${actual(i)} != ${expected(i)}")
+    }
+  }
+
+  private val functions: Seq[(String, (ComplexBatch, ComplexArray) => ComplexArray, Complex => Complex)] = Seq(
+    ("exp", (batch, a) => batch.exp(a), z => Complex.exp(z)),
+    ("log", (batch, a) => batch.log(a), z => Complex.log(z)),
+    ("sqrt", (batch, a) => batch.sqrt(a), z => Complex.sqrt(z)),
+    ("sin", (batch, a) => batch.sin(a), z => Complex.sin(z)),
+    ("cos", (batch, a) => batch.cos(a), z => Complex.cos(z)),
+    ("tan", (batch, a) => batch.tan(a), z => Complex.tan(z)),
+    ("pow", (batch, a) => batch.pow(a, Complex(1.5, -0.5)), z => Complex.pow(z, Complex(1.5, -0.5)))
+  )
+
+  for ((name, batch, scalar) <- this.functions) {
+    test(s"Accurate $name is equal to the scalar function up to rounding") {
+      val a = this.data.complexArray(1000) * 10.0
+      this.assertClose(batch(ComplexBatch.Accurate, a), i => scalar(a(i)), 1e-13)
+    }
+
+    test(s"Fast $name is within the documented tolerance of the accurate one") {
+      val a = this.data.complexArray(1000) * 10.0
+      val expected = batch(ComplexBatch.Accurate, a)
+      this.assertClose(batch(ComplexBatch.Fast, a), i => expected(i), ComplexBatch.FastTolerance)
+    }
+  }
+
+  test("Accurate sine and cosine of real numbers are within two ulps of the ones of the standard library") {
+    val xs = this.data.doubles(10000).map(_ * 1e6) ++ Array(0.0, -0.0, 1e-300, math.Pi / 4.0, math.Pi / 2.0, math.Pi, 1e5 * math.Pi, 1e7)
+    val res = ComplexBatch.Accurate.exp(ComplexArray.fromParts(new Array[Double](xs.length), xs))
+    for (i <- xs.indices) {
+      assert(math.abs(res.realAt(i) - math.cos(xs(i))) <= 2.0 * math.ulp(math.cos(xs(i))), s"cos(${xs(i)})")
+      assert(math.abs(res.imaginaryAt(i) - math.sin(xs(i))) <= 2.0 * math.ulp(math.sin(xs(i))), s"sin(${xs(i)})")
+    }
+  }
+
+  test("Fast sine and cosine of large real numbers are within the documented tolerance") {
+    val xs = this.data.doubles(10000).map(_ * 1e5)
+    val res = ComplexBatch.Fast.exp(ComplexArray.fromParts(new Array[Double](xs.length), xs))
+    for (i <- xs.indices) {
+      assert(math.abs(res.realAt(i) - math.cos(xs(i))) <= ComplexBatch.FastTolerance)
+      assert(math.abs(res.imaginaryAt(i) - math.sin(xs(i))) <= ComplexBatch.FastTolerance)
+    }
+  }
+
+  test("Hyperbolic functions with large imaginary parts") {
+    val a = ComplexArray(Complex(0.5, 30.0), Complex(0.5, -30.0), Complex(1.0, 400.0), Complex(-2.0, 709.5))
+    for ((batch, tolerance) <- Seq(ComplexBatch.Accurate -> 1e-13, ComplexBatch.Fast -> ComplexBatch.FastTolerance)) {
+      this.assertClose(batch.sin(a), i => Complex.sin(a(i)), tolerance)
+      this.assertClose(batch.cos(a), i => Complex.cos(a(i)), tolerance)
+      this.assertClose(batch.tan(a), i => Complex(0.0, math.signum(a(i).b)), tolerance)
+    }
+  }
+
+  test("Exponential of large and special values") {
+    val a = ComplexArray(Complex(700.0, 1.0), Complex(-700.0, 1.0), Complex(800.0, 0.0), Complex(Double.NaN, 0.0))
+    for ((batch, tolerance) <- Seq(ComplexBatch.Accurate -> 1e-13, ComplexBatch.Fast -> ComplexBatch.FastTolerance)) {
+      val res = batch.exp(a)
+      assert(this.close(res(0), Complex.exp(a(0)), tolerance))
+      assert(this.close(res(1), Complex.exp(a(1)), tolerance))
+      assert(res.realAt(2) == Double.PositiveInfinity)
+      assert(res.realAt(3).isNaN)
+    }
+  }
+
+  test("Square root of negative real numbers") {
+    val res = ComplexBatch.Accurate.sqrt(ComplexArray(Complex(-4.0, 0.0), Complex(4.0, 0.0), Complex(0.0, 2.0)))
+    assert(res == ComplexArray(Complex(0.0, 2.0), Complex(2.0, 0.0), Complex(1.0, 1.0)))
+  }
+
+  test("Batch functions with offsets") {
+    val src = this.data.complexArray(10) * 2.0
+    val dst = new ComplexArray(10)
+    ComplexBatch.Accurate.sin(src.data, 2, dst.data, 5, 4)
+    assert((0 until 5).forall(i => dst(i) == Complex.Zero))
+    assert((0 until 4).forall(i => this.close(dst(5 + i), Complex.sin(src(2 + i)), 1e-13)))
+    assert(dst(9) == Complex.Zero)
+  }
+
+  test("Batch functions in place") {
+    val a = this.data.complexArray(100) * 3.0
+    val expected = ComplexBatch.Accurate.tan(a)
+    ComplexBatch.Accurate.tan(a.data, 0, a.data, 0, a.length)
+    assert(a == expected)
+  }
+
+  test("Batch functions throw if the arrays are too small") {
+    val a = new Array[Double](8)
+    assertThrows[IllegalArgumentException](ComplexBatch.Accurate.exp(a, 1, a, 0, 4))
+    assertThrows[IllegalArgumentException](ComplexBatch.Fast.log(a, 0, new Array[Double](6), 0, 4))
+    assertThrows[IllegalArgumentException](ComplexBatch.Fast.cos(a, 0, a, 0, -1))
+  }
+}
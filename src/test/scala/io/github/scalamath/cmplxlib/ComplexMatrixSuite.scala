@@ -0,0 +1,165 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalatest.funsuite.AnyFunSuite
+
+class ComplexMatrixSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  private def naiveProduct(a: ComplexMatrix, b: ComplexMatrix): ComplexMatrix = ComplexMatrix.tabulate(a.rows, b.columns) { (r, c) =>
+    (0 until a.columns).foldLeft(Complex.Zero)((sum, k) => sum + a(r, k) * b(k, c))
+  }
+
+  test("Construct a matrix of zeros") {
+    val m = new ComplexMatrix(2, 3)
+    assert(m.rows == 2)
+    assert(m.columns == 3)
+    assert(!m.isSquare)
+    assert((0 until 2).forall(r => (0 until 3).forall(c => m(r, c) == Complex.Zero)))
+  }
+
+  test("Matrix with a negative size") {
+    assertThrows[IllegalArgumentException](new ComplexMatrix(-1, 2))
+  }
+
+  test("Get and set elements of a matrix") {
+    val m = new ComplexMatrix(2, 3)
+    m(1, 2) = Complex(1.0, 2.0)
+    m.update(0, 1, 3.0, -1.0)
+    assert(m(1, 2) == Complex(1.0, 2.0))
+    assert(m.realAt(0, 1) == 3.0)
+    assert(m.imaginaryAt(0, 1) == -1.0)
+  }
+
+  test("Element out of bounds") {
+    val m = new ComplexMatrix(2, 3)
+    assertThrows[IndexOutOfBoundsException](m(2, 0))
+    assertThrows[IndexOutOfBoundsException](m(0, 3))
+  }
+
+  test("Identity matrix") {
+    assert(ComplexMatrix.identity(4).toMat4c == Mat4c.Identity)
+  }
+
+  test("Sum of two matrices") {
+    val a = ComplexMatrix.fromMat(Mat2c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I))
+    val b = ComplexMatrix.fromMat(Mat2c(Complex.One, I, Complex(0.0, 2.0), Complex.One))
+    assert(a + b == ComplexMatrix.fromMat(Mat2c(Complex(2.0, 1.0), Complex(2.0, 1.0), Complex(3.0, 1.0), Complex(1.0, 1.0))))
+  }
+
+  test("Subtraction of two matrices") {
+    val a = ComplexMatrix.fromMat(Mat2c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I))
+    val b = ComplexMatrix.fromMat(Mat2c(Complex.One, I, Complex(0.0, 2.0), Complex.One))
+    assert(a - b == ComplexMatrix.fromMat(Mat2c(I, Complex(2.0, -1.0), Complex(3.0, -3.0), Complex(-1.0, 1.0))))
+  }
+
+  test("Sum of matrices of different sizes") {
+    assertThrows[IllegalArgumentException](new ComplexMatrix(2, 3) + new ComplexMatrix(3, 2))
+  }
+
+  test("Product between a matrix and a complex number") {
+    val m = Mat3c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I, Complex(0.5, 0.0), Complex(-1.0, 0.0), Complex(0.0, 2.0), Complex.One, Complex(1.0, -1.0))
+    assert((ComplexMatrix.fromMat(m) * Complex(2.0, -1.0)).toMat3c == m * Complex(2.0, -1.0))
+  }
+
+  test("Product between a matrix and a real number") {
+    val m = Mat3c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I, Complex(0.5, 0.0), Complex(-1.0, 0.0), Complex(0.0, 2.0), Complex.One, Complex(1.0, -1.0))
+    assert((ComplexMatrix.fromMat(m) * 2.0).toMat3c == m * 2.0)
+    assert((-ComplexMatrix.fromMat(m)).toMat3c == -m)
+  }
+
+  test("Product between a matrix and a vector") {
+    val m = ComplexMatrix.tabulate(2, 3)((r, c) => Complex(r + 1.0, c))
+    val v = ComplexArray(Complex(1.0, 0.0), Complex(0.0, 1.0), Complex(1.0, 1.0))
+    val res = ComplexArray(Complex(-1.0, 4.0), Complex(1.0, 6.0))
+    assert(m * v == res)
+  }
+
+  test("Product between a matrix and a vector of the wrong length") {
+    assertThrows[IllegalArgumentException](new ComplexMatrix(2, 3) * new ComplexArray(2))
+  }
+
+  test("Product between two fixed-size matrices") {
+    val a = Mat4c(
+      Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I,
+      Complex(0.5, 0.0), Complex(-1.0, 0.0), Complex(0.0, 2.0), Complex.One,
+      Complex(1.0, -1.0), Complex(2.0, 0.0), -I, Complex(3.0, 0.0),
+      Complex.One, Complex.One, Complex.One, Complex.One
+    )
+    val b = Mat4c(
+      Complex(2.0, 0.0), I, Complex(-1.0, 0.0), Complex(1.0, 1.0),
+      Complex.Zero, Complex.One, Complex(2.0, -1.0), Complex(3.0, 0.0),
+      I, I, Complex.One, Complex(0.5, 0.0),
+      Complex.One, Complex(2.0, 0.0), Complex(3.0, 0.0), Complex(4.0, 0.0)
+    )
+    assert((ComplexMatrix.fromMat(a) * ComplexMatrix.fromMat(b)).toMat4c ~= a * b)
+  }
+
+  test("Product between two rectangular matrices larger than a block") {
+    val a = this.data.complexMatrix(67, 300)
+    val b = this.data.complexMatrix(300, 259)
+    val res = a * b
+    assert(res.rows == 67)
+    assert(res.columns == 259)
+    assert(res ~= this.naiveProduct(a, b))
+  }
+
+  test("Product between matrices of incompatible sizes") {
+    assertThrows[IllegalArgumentException](new ComplexMatrix(2, 3) * new ComplexMatrix(2, 3))
+  }
+
+  test("Product with the identity matrix") {
+    val m = this.data.complexMatrix(33, 33)
+    assert(m * ComplexMatrix.identity(33) == m)
+    assert(ComplexMatrix.identity(33) * m == m)
+  }
+
+  test("Transposed and conjugate of a matrix") {
+    val m = Mat3c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I, Complex(0.5, 0.0), Complex(-1.0, 0.0), Complex(0.0, 2.0), Complex.One, Complex(1.0, -1.0))
+    assert(ComplexMatrix.fromMat(m).transposed.toMat3c == m.transposed)
+    assert(ComplexMatrix.fromMat(m).conjugate.toMat3c == m.conjugate)
+    val r = this.data.complexMatrix(3, 5)
+    assert(r.transposed.rows == 5)
+    assert(r.transposed(4, 2) == r(2, 4))
+  }
+
+  test("Rows and columns of a matrix") {
+    val m = ComplexMatrix.tabulate(2, 3)((r, c) => Complex(r, c))
+    assert(m.row(1) == ComplexArray(Complex(1.0, 0.0), Complex(1.0, 1.0), Complex(1.0, 2.0)))
+    assert(m.col(2) == ComplexArray(Complex(0.0, 2.0), Complex(1.0, 2.0)))
+  }
+
+  test("Conversion from and to fixed-size matrices") {
+    val m2 = Mat2c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I)
+    val m3 = Mat3c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I, Complex(0.5, 0.0), Complex(-1.0, 0.0), Complex(0.0, 2.0), Complex.One, Complex(1.0, -1.0))
+    assert(ComplexMatrix.fromMat(m2).toMat2c == m2)
+    assert(ComplexMatrix.fromMat(m3).toMat3c == m3)
+    assert(ComplexMatrix.fromMat(Mat4c.Identity).toMat4c == Mat4c.Identity)
+    assertThrows[IllegalArgumentException](ComplexMatrix.fromMat(m3).toMat2c)
+  }
+
+  test("Wrap an array of the wrong length") {
+    assertThrows[IllegalArgumentException](ComplexMatrix.wrap(2, 2, new Array[Double](6)))
+  }
+
+  test("Copy of a matrix") {
+    val m = this.data.complexMatrix(3, 3)
+    val copy = m.copy
+    copy(0, 0) = Complex.One
+    assert(m != copy)
+  }
+
+  test("Equality and hash code of matrices") {
+    val a = ComplexMatrix.tabulate(2, 3)((r, c) => Complex(r, c))
+    val b = ComplexMatrix.tabulate(2, 3)((r, c) => Complex(r, c))
+    assert(a == b)
+    assert(a.hashCode() == b.hashCode())
+    assert(a != ComplexMatrix.tabulate(3, 2)((r, c) => Complex(r, c)))
+  }
+
+  test("Matrix to string") {
+    val m = ComplexMatrix.fromMat(Mat2c(Complex(1.0, 1.0), Complex(2.0, 0.0), Complex(3.0, -1.0), I))
+    assert(m.toString == "[[1.0 + 1.0i, 2.0], [3.0 - 1.0i, i]]")
+  }
+}
@@ -140,6 +140,44 @@ class ComplexSuite extends AnyFunSuite {
     assert(z / (2.0, 2.0) == res)
   }
 
+  test("Division of complex numbers with large parts") {
+    val z = Complex(1e300, 1e300)
+    val w = Complex(2e300, 2e300)
+    assert(z / w == Complex(0.5, 0.0))
+  }
+
+  test("Division of complex numbers with small parts") {
+    val z = Complex(1e-300, 1e-300)
+    val w = Complex(1e-300, -1e-300)
+    assert(z / w == Complex(0.0, 1.0))
+  }
+
+  test("Division by a complex number with parts of very different magnitude") {
+    val res = Complex(1.0, 1.0) / Complex(1e200, 1e-200)
+    assert(math.abs(res.real / 1e-200 - 1.0) < 1e-15)
+    assert(math.abs(res.imaginary / 1e-200 - 1.0) < 1e-15)
+  }
+
+  test("Multiplicative inverse of a complex number with large parts") {
+    val z = Complex(1e300, 0.0)
+    assert(z.inverse == Complex(1e-300, 0.0))
+  }
+
+  test("Real number divided by a complex number") {
+    val z = Complex(2.0, 1.0)
+    assert(2.0 / z == Complex(0.8, -0.4))
+  }
+
+  test("Modulus of a complex number with large parts") {
+    val z = Complex(3e200, 4e200)
+    assert(math.abs(z.modulus / 5e200 - 1.0) < 1e-15)
+  }
+
+  test("Modulus of a complex number with small parts") {
+    val z = Complex(3e-200, 4e-200)
+    assert(math.abs(z.modulus / 5e-200 - 1.0) < 1e-15)
+  }
+
   test("Real and imaginary part of a complex number") {
     val z = Complex(3.0, 2.0)
     assert(z.real == 3.0)
@@ -190,6 +228,15 @@ class ComplexSuite extends AnyFunSuite {
     assert(z === w)
   }
 
+  test("Root of unity") {
+    val z = Complex.rootOfUnity(3, 8)
+    assert(z === Complex.fromPolar(1.0, 2.0 * math.Pi * 3.0 / 8.0))
+  }
+
+  test("Root of unity with a negative index") {
+    assert(Complex.rootOfUnity(-1, 4) == -Complex.I)
+  }
+
   test("Absolute value of a complex number given two values") {
     val abs = Complex.abs(3.0, 2.0)
     val res = math.sqrt(13.0)
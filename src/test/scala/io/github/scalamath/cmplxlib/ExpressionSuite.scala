@@ -0,0 +1,134 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+class ExpressionSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  test("Evaluate a single vector") {
+    val a = Vec2c(1.0 + 2.0 * Complex.I, -3.0 * Complex.I)
+    assert(a.lazily.evaluate == a)
+  }
+
+  test("Evaluate a single matrix") {
+    val m = this.data.mat4c
+    assert(m.lazily.evaluate == m)
+  }
+
+  test("Sum of vectors") {
+    val a = Vec3c(1.0, 2.0, 3.0)
+    val b = Vec3c(Complex.I, 2.0 * Complex.I, -1.0)
+    assert((a.lazily + b).evaluate == a + b)
+    assert((a.lazily + b.lazily).evaluate == a + b)
+  }
+
+  test("Subtraction of matrices") {
+    val a = Mat2c(1.0, 2.0, 3.0, 4.0)
+    val b = Mat2c(Complex.I, 1.0, -2.0, 0.5)
+    assert((a.lazily - b).evaluate == a - b)
+    assert((a.lazily - b.lazily).evaluate == a - b)
+  }
+
+  test("Negation of a vector") {
+    val a = Vec4c(1.0 + Complex.I, 2.0, -3.0 * Complex.I, 4.0)
+    assert((-a.lazily).evaluate == -a)
+    assert(a.lazily.negated.evaluate == -a)
+  }
+
+  test("Product of a vector and a scalar") {
+    val a = this.data.vec4c
+    val k = this.data.complex
+    assert((a.lazily * k).evaluate == a * k)
+    assert((a.lazily * 2.5).evaluate == a * 2.5)
+  }
+
+  test("Division of a matrix by a scalar") {
+    val a = Mat3c(1.0, 2.0, 3.0, Complex.I, 2.0 * Complex.I, 3.0 * Complex.I, -1.0, -2.0, -3.0)
+    assert((a.lazily / 2.0).evaluate == a / 2.0)
+    assert((a.lazily / Complex(0.0, 2.0)).evaluate ~= a / Complex(0.0, 2.0))
+  }
+
+  test("Conjugate of a matrix") {
+    val m = this.data.mat4c
+    assert(m.lazily.conjugate.evaluate == m.conjugate)
+    assert((m.lazily * Complex.I).conjugate.evaluate == (m * Complex.I).conjugate)
+  }
+
+  test("Linear combination of vectors") {
+    val a = this.data.vec4c
+    val b = this.data.vec4c
+    val c = this.data.vec4c
+    val k = this.data.complex
+    val j = this.data.complex
+    assert((a.lazily * k + b.lazily * j - c.lazily.conjugate).evaluate == a * k + b * j - c.conjugate)
+  }
+
+  test("Linear combination of matrices") {
+    val a = this.data.mat4c
+    val b = this.data.mat4c
+    val c = this.data.mat4c
+    val k = this.data.complex
+    val e = ((a.lazily * k - b.lazily.conjugate) / 3.0 + c.lazily * 2.0).conjugate
+    assert(e.evaluate ~= ((a * k - b.conjugate) / 3.0 + c * 2.0).conjugate)
+  }
+
+  test("Rectangular matrices") {
+    val a = Mat2x3c(1.0, 2.0, 3.0, 4.0, 5.0, 6.0)
+    val b = Mat3x4c(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0)
+    assert((a.lazily * Complex.I + a).evaluate == a * Complex.I + a)
+    assert((b.lazily - b.lazily.conjugate * 2.0).evaluate == b - b.conjugate * 2.0)
+  }
+
+  test("Operands that appear more than once give a single term") {
+    val a = this.data.vec4c
+    val b = this.data.vec4c
+    val e = a.lazily + b.lazily * 2.0 + a.lazily * Complex.I - b
+    assert(e.terms == 2)
+    assert(e.evaluate ~= a + b * 2.0 + a * Complex.I - b)
+    assert((a.lazily - a).evaluate == Vec4c.Zero)
+  }
+
+  test("Expressions are immutable") {
+    val a = Vec2c(1.0, 2.0)
+    val b = Vec2c(3.0, 4.0)
+    val e = a.lazily
+    val sum = e + b
+    assert((e * 2.0).evaluate == Vec2c(2.0, 4.0))
+    assert(e.evaluate == a)
+    assert(sum.evaluate == Vec2c(4.0, 6.0))
+    assert((sum + sum).evaluate == Vec2c(8.0, 12.0))
+  }
+
+  test("Infinite elements do not give NaN") {
+    val a = Vec2c(Complex(Double.PositiveInfinity, 0.0), Complex(1.0, Double.NegativeInfinity))
+    assert(a.lazily.evaluate == a)
+    assert((a.lazily * 2.0).evaluate == a * 2.0)
+    assert(a.lazily.conjugate.evaluate == a.conjugate)
+  }
+
+  test("Evaluate into an array") {
+    val a = Vec3c(1.0, Complex.I, 2.0)
+    val b = Vec3c(Complex.I, 1.0, -2.0)
+    val dst = Array.fill(10)(-1.0)
+    (a.lazily + b * 2.0).evaluate(dst, 1)
+    assert(dst sameElements Array(-1.0, -1.0, 1.0, 2.0, 2.0, 1.0, -2.0, 0.0, -1.0, -1.0))
+  }
+
+  test("Evaluate a matrix into a complex array") {
+    val m = this.data.mat4c
+    val dst = new ComplexArray(20)
+    (m.lazily * 2.0).evaluate(dst, 3)
+    assert(dst(2) == Complex.Zero)
+    assert((0 until 16).map(i => dst(3 + i)) == (for (r <- 0 until 4; c <- 0 until 4) yield (m * 2.0)(r, c)))
+  }
+
+  test("Evaluate into an array that is too small") {
+    assertThrows[IllegalArgumentException] {
+      Vec4c.Zero.lazily.evaluate(new Array[Double](8), 1)
+    }
+    assertThrows[IllegalArgumentException] {
+      Vec4c.Zero.lazily.evaluate(new ComplexArray(4), -1)
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class FFTSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  private def dft(a: ComplexArray, sign: Double): ComplexArray = {
+    val n = a.length
+    val res = new ComplexArray(n)
+    for (k <- 0 until n) {
+      var sum = Complex.Zero
+      for (j <- 0 until n) {
+        sum += a(j) * Complex.fromPolar(1.0, sign * 2.0 * math.Pi * ((j.toLong * k) % n) / n)
+      }
+      res(k) = sum
+    }
+    res
+  }
+
+  for (size <- Seq(1, 2, 4, 8, 64, 1024)) {
+    test(s"Radix-2 transform of size $size") {
+      val a = this.data.complexArray(size)
+      val expected = this.dft(a, -1.0)
+      val res = a.copy
+      FFT(size).forward(res)
+      assert(res ~= expected)
+    }
+  }
+
+  for (size <- Seq(3, 5, 6, 12, 17, 100, 1000)) {
+    test(s"Bluestein transform of size $size") {
+      val a = this.data.complexArray(size)
+      val expected = this.dft(a, -1.0)
+      val res = a.copy
+      FFT(size).forward(res)
+      assert(res ~= expected)
+    }
+  }
+
+  for (size <- Seq(1, 8, 12, 17, 256)) {
+    test(s"Inverse transform of size $size") {
+      val a = this.data.complexArray(size)
+      val expected = this.dft(a, 1.0) / size
+      val res = a.copy
+      FFT(size).inverse(res)
+      assert(res ~= expected)
+    }
+  }
+
+  for (size <- Seq(16, 30, 97)) {
+    test(s"Inverse of the forward transform of size $size") {
+      val a = this.data.complexArray(size)
+      val res = a.copy
+      FFT(size).forward(res)
+      FFT(size).inverse(res)
+      assert(res ~= a)
+    }
+  }
+
+  test("Transform of an impulse") {
+    val a = new ComplexArray(8)
+    a(0) = Complex.One
+    val res = a.fft
+    for (k <- 0 until 8) {
+      assert(res(k) ~= Complex.One)
+    }
+  }
+
+  test("Transform at an offset") {
+    val a = this.data.complexArray(10)
+    val data = Array.fill(2 * 13)(1.0)
+    System.arraycopy(a.data, 0, data, 6, 20)
+    FFT(10).forward(data, 3)
+    assert(ComplexArray.wrap(data.slice(6, 26)) ~= this.dft(a, -1.0))
+    assert(data.take(6).forall(_ == 1.0))
+  }
+
+  test("Parseval's theorem") {
+    val a = this.data.complexArray(45)
+    val energy = a.squaredModulus.sum
+    val transformEnergy = a.fft.squaredModulus.sum / 45
+    assert(energy ~= transformEnergy)
+  }
+
+  test("Complex array transform does not modify the array") {
+    val a = this.data.complexArray(12)
+    val copy = a.copy
+    a.fft
+    a.ifft
+    assert(a == copy)
+  }
+
+  test("Complex array inverse transform") {
+    val a = this.data.complexArray(20)
+    assert(a.fft.ifft ~= a)
+  }
+
+  test("Transforms are cached") {
+    assert(FFT(24) eq FFT(24))
+  }
+
+  test("Transform of an array with the wrong length") {
+    assertThrows[IllegalArgumentException] {
+      FFT(8).forward(new ComplexArray(7))
+    }
+  }
+
+  test("Transform of an array that is too small") {
+    assertThrows[IllegalArgumentException] {
+      FFT(8).forward(new Array[Double](20), 3)
+    }
+  }
+
+  test("Transform of size zero") {
+    assertThrows[IllegalArgumentException] {
+      FFT(0)
+    }
+  }
+
+  test("Transforms from many threads") {
+    val a = this.data.complexArray(300)
+    val expected = a.fft
+    val failures = new AtomicInteger()
+    val threads = Seq.fill(8)(new Thread(() => {
+      for (_ <- 0 until 20) {
+        if (a.fft != expected) {
+          failures.incrementAndGet()
+        }
+      }
+    }))
+    threads.foreach(_.start())
+    threads.foreach(_.join())
+    assert(failures.get() == 0)
+  }
+}
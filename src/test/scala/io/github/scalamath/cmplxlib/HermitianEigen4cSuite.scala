@@ -0,0 +1,31 @@
+package io.github.scalamath.cmplxlib
+
+class HermitianEigen4cSuite extends HermitianEigenSuite(4) {
+
+  override protected def eigen(m: IndexedSeq[Complex]): (IndexedSeq[Double], IndexedSeq[Complex]) = {
+    val eigen = TestData.mat4c(m).hermitianEigen
+    ((0 until 4).map(eigen.value), TestData.elements(eigen.vectors))
+  }
+
+  override protected def eigenAll(src: ComplexArray, values: Array[Double], vectors: ComplexArray): Unit = Mat4c.hermitianEigenAll(src, values, vectors)
+
+  test("Eigenvectors are the columns of the matrix of eigenvectors") {
+    val m = this.data.mat4c
+    val eigen = (m + m.conjugate.transposed).hermitianEigen
+    for (i <- 0 until 4) {
+      assert(TestData.elements(eigen.vector(i)) == TestData.column(4, TestData.elements(eigen.vectors), i))
+    }
+  }
+
+  test("Decomposition of a multiple of the identity") {
+    val eigen = (Mat4c.Identity * 2.5).hermitianEigen
+    assert((0 until 4).forall(i => eigen.value(i) == 2.5))
+    assert(eigen.vectors == Mat4c.Identity)
+  }
+
+  test("Decomposition of the zero matrix") {
+    val eigen = Mat4c.Zero.hermitianEigen
+    assert((0 until 4).forall(i => eigen.value(i) == 0.0))
+    assert(eigen.vectors.isUnitary(0.0))
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+/**
+ * Tests of the eigendecomposition of hermitian matrices that do not depend on the size of the matrices.
+ *
+ * Matrices are sequences of elements in row-major order, as described in [[TestData]].
+ *
+ * @param n The size of the matrices.
+ */
+abstract class HermitianEigenSuite(n: Int) extends AnyFunSuite {
+
+  protected val data = new TestData(42)
+
+  /** Computes the eigenvalues and the matrix of eigenvectors with the method under test */
+  protected def eigen(m: IndexedSeq[Complex]): (IndexedSeq[Double], IndexedSeq[Complex])
+
+  /** Computes the eigendecompositions of all the matrices in the source array with the method under test */
+  protected def eigenAll(src: ComplexArray, values: Array[Double], vectors: ComplexArray): Unit
+
+  private def randomHermitian: IndexedSeq[Complex] = {
+    val m = this.data.elements(this.n * this.n)
+    m.zip(TestData.conjugateTranspose(this.n, m)).map(p => p._1 + p._2)
+  }
+
+  /** Returns a random matrix with the given eigenvalues */
+  private def withEigenvalues(values: Seq[Double]): IndexedSeq[Complex] = {
+    val u = TestData.unitary(this.n, this.data.elements(this.n * this.n))
+    val d = TestData.diagonal(values.map(Complex(_, 0.0)))
+    TestData.multiply(this.n, TestData.multiply(this.n, u, d), TestData.conjugateTranspose(this.n, u))
+  }
+
+  /** Checks that the decomposition is correct up to the given tolerance relative to the norm of the matrix */
+  private def assertDecomposition(m: IndexedSeq[Complex], values: IndexedSeq[Double], vectors: IndexedSeq[Complex], tolerance: Double): Unit = {
+    val scale = math.max(TestData.maxModulus(m), Double.MinPositiveValue)
+    assert(TestData.isUnitary(this.n, vectors, 1e-13))
+    for (i <- 0 until this.n) {
+      val v = TestData.column(this.n, vectors, i)
+      val residual = TestData.transform(this.n, m, v).zip(v).map(p => p._1 - p._2 * values(i))
+      assert(residual.forall(_.modulus <= tolerance * scale), s"Residual of eigenvalue $i is $residual")
+      if (i > 0) assert(values(i - 1) <= values(i))
+    }
+  }
+
+  test("Decomposition of random hermitian matrices") {
+    for (_ <- 0 until 200) {
+      val m = this.randomHermitian
+      val (values, vectors) = this.eigen(m)
+      this.assertDecomposition(m, values, vectors, 1e-13)
+    }
+  }
+
+  test("Eigenvalues add up to the trace") {
+    val m = this.randomHermitian
+    val (values, _) = this.eigen(m)
+    assert(math.abs(values.sum - (0 until this.n).map(i => m(i * this.n + i).real).sum) < 1e-13)
+  }
+
+  test("Decomposition of a diagonal matrix") {
+    val diagonal = Seq(3.0, -1.0, 2.0, 0.5).take(this.n)
+    val m = TestData.diagonal(diagonal.map(Complex(_, 0.0)))
+    val (values, vectors) = this.eigen(m)
+    assert(values == diagonal.sorted)
+    this.assertDecomposition(m, values, vectors, 0.0)
+  }
+
+  test("Decomposition of matrices with repeated eigenvalues") {
+    for (_ <- 0 until 50) {
+      val m = this.withEigenvalues(Seq(1.0, 1.0, 2.0, 2.0).take(this.n))
+      val (values, vectors) = this.eigen(m)
+      this.assertDecomposition(m, values, vectors, 1e-13)
+      assert(math.abs(values(0) - 1.0) < 1e-13 && math.abs(values(1) - 1.0) < 1e-13)
+    }
+  }
+
+  test("Decomposition of matrices with close eigenvalues") {
+    for (_ <- 0 until 50) {
+      val m = this.withEigenvalues(Seq(1.0, 1.0 + 1e-10, 3.0, -2.0).take(this.n))
+      val (values, vectors) = this.eigen(m)
+      this.assertDecomposition(m, values, vectors, 1e-13)
+    }
+  }
+
+  test("Decomposition of very large and very small matrices") {
+    for (scale <- Seq(1e-300, 1e-150, 1e150, 1e300)) {
+      val m = this.randomHermitian.map(_ * scale)
+      val (values, vectors) = this.eigen(m)
+      this.assertDecomposition(m, values, vectors, 1e-13)
+    }
+  }
+
+  test("Batched decomposition is equal to the decomposition of every matrix") {
+    val matrices = Seq.fill(10)(this.randomHermitian)
+    val src = ComplexArray(matrices.flatten: _*)
+    val values = new Array[Double](this.n * matrices.length)
+    val vectors = new ComplexArray(src.length)
+    this.eigenAll(src, values, vectors)
+    val expected = matrices.map(this.eigen)
+    assert(values.toSeq == expected.flatMap(_._1))
+    assert(TestData.unpack(this.n * this.n, vectors) == expected.map(_._2))
+    this.eigenAll(src, values, src)
+    assert(src == vectors)
+  }
+
+  test("Batched decomposition with invalid arrays") {
+    val size = this.n * this.n
+    assertThrows[IllegalArgumentException](this.eigenAll(new ComplexArray(size + 1), new Array[Double](2 * this.n), new ComplexArray(2 * size)))
+    assertThrows[IllegalArgumentException](this.eigenAll(new ComplexArray(2 * size), new Array[Double](2 * this.n - 1), new ComplexArray(2 * size)))
+    assertThrows[IllegalArgumentException](this.eigenAll(new ComplexArray(2 * size), new Array[Double](2 * this.n), new ComplexArray(size)))
+  }
+}
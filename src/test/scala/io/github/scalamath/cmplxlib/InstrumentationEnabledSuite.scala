@@ -0,0 +1,50 @@
+package io.github.scalamath.cmplxlib
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordingFile
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.nio.file.Files
+import scala.jdk.CollectionConverters._
+
+/**
+ * Tests of the instrumented operations.
+ *
+ * The build runs this suite in its own JVM started with `-Dcmplxlib.instrumentation=true`, its tests are skipped if
+ * instrumentation is disabled.
+ */
+class InstrumentationEnabledSuite extends AnyFunSuite {
+
+  test("Operations are counted if instrumentation is enabled") {
+    assume(Instrumentation.enabled)
+    Instrumentation.reset()
+    Mat4c(2.0, 0.0, 0.0, 0.0, 0.0, 2.0, 0.0, 0.0, 0.0, 0.0, 2.0, 0.0, 0.0, 0.0, 0.0, 2.0).inverse
+    Complex.exp(Complex.I)
+    Complex.exp(Complex.One)
+    assert(Instrumentation.stats("Mat4c.inverse").count == 1L)
+    assert(Instrumentation.stats("Mat4c.luDecomposition").count == 1L)
+    assert(Instrumentation.stats("Complex.exp").count == 2L)
+    assert(Instrumentation.stats("Mat4c.inverse").totalNanos >= Instrumentation.stats("Mat4c.luDecomposition").totalNanos)
+    assert(Instrumentation.stats("Mat3c.inverse").count == 0L)
+    Instrumentation.reset()
+  }
+
+  test("Operations emit flight recorder events") {
+    assume(Instrumentation.enabled)
+    val recording = new Recording()
+    val file = Files.createTempFile("cmplxlib", ".jfr")
+    try {
+      recording.enable("io.github.scalamath.cmplxlib.Operation")
+      recording.start()
+      Mat2c(1.0, 2.0, 3.0, 4.0).expm
+      recording.stop()
+      recording.dump(file)
+      val events = RecordingFile.readAllEvents(file).asScala.filter(_.getEventType.getName == "io.github.scalamath.cmplxlib.Operation")
+      assert(events.exists(_.getString("operation") == "Mat2c.expm"))
+    } finally {
+      recording.close()
+      Files.deleteIfExists(file)
+      Instrumentation.reset()
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package io.github.scalamath.cmplxlib
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordingFile
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.nio.file.Files
+import scala.jdk.CollectionConverters._
+
+class InstrumentationSuite extends AnyFunSuite {
+
+  test("Instrumentation is enabled by the system property") {
+    assert(Instrumentation.enabled == java.lang.Boolean.getBoolean(Instrumentation.Property))
+  }
+
+  test("Snapshot contains all operations") {
+    val snapshot = Instrumentation.snapshot
+    assert(snapshot.map(_.operation) == Instrumentation.operations)
+    assert(Instrumentation.operations.contains("Mat4c.inverse"))
+    assert(Instrumentation.operations.contains("Complex.exp"))
+    assert(Instrumentation.operations.distinct == Instrumentation.operations)
+  }
+
+  test("Recorded calls are counted") {
+    Instrumentation.reset()
+    Operation.Mat4cInverse.record(100L)
+    Operation.Mat4cInverse.record(300L)
+    Operation.ComplexExp.record(5L)
+    assert(Instrumentation.stats("Mat4c.inverse") == OperationStats("Mat4c.inverse", 2L, 400L))
+    assert(Instrumentation.stats("Mat4c.inverse").meanNanos == 200.0)
+    assert(Instrumentation.stats("Complex.exp") == OperationStats("Complex.exp", 1L, 5L))
+    assert(Instrumentation.snapshot.filter(_.count > 0L).map(_.operation).toSet == Set("Mat4c.inverse", "Complex.exp"))
+    Instrumentation.reset()
+    assert(Instrumentation.snapshot.forall(stats => stats.count == 0L && stats.totalNanos == 0L))
+  }
+
+  test("Operations are not counted if instrumentation is disabled") {
+    assume(!Instrumentation.enabled)
+    Instrumentation.reset()
+    Mat4c(2.0, 0.0, 0.0, 0.0, 0.0, 2.0, 0.0, 0.0, 0.0, 0.0, 2.0, 0.0, 0.0, 0.0, 0.0, 2.0).inverse
+    Complex.exp(Complex.I)
+    assert(Instrumentation.stats("Mat4c.inverse").count == 0L)
+    assert(Instrumentation.stats("Mat4c.luDecomposition").count == 0L)
+    assert(Instrumentation.stats("Complex.exp").count == 0L)
+  }
+
+  test("Statistics of an operation that is not measured") {
+    assertThrows[IllegalArgumentException] {
+      Instrumentation.stats("Mat4c.transposed")
+    }
+  }
+
+  test("Mean time of an operation that was never called") {
+    assert(OperationStats("Mat2c.expm", 0L, 0L).meanNanos == 0.0)
+  }
+
+  test("Recorded calls emit flight recorder events") {
+    val recording = new Recording()
+    val file = Files.createTempFile("cmplxlib", ".jfr")
+    try {
+      recording.enable("io.github.scalamath.cmplxlib.Operation")
+      recording.start()
+      Operation.Mat3cExpm.record(1234L)
+      recording.stop()
+      recording.dump(file)
+      val events = RecordingFile.readAllEvents(file).asScala.filter(_.getEventType.getName == "io.github.scalamath.cmplxlib.Operation")
+      assert(events.exists(event => event.getString("operation") == "Mat3c.expm" && event.getDuration("elapsed").toNanos == 1234L))
+    } finally {
+      recording.close()
+      Files.deleteIfExists(file)
+      Instrumentation.reset()
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class LUDecomposition3cSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat3c] = (a: Mat3c, b: Any) => b match {
+    case b: Mat3c => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec3c] = (a: Vec3c, b: Any) => b match {
+    case b: Vec3c => a ~= b
+    case _ => false
+  }
+
+  implicit val complexEquality: Equality[Complex] = (a: Complex, b: Any) => b match {
+    case b: Complex => a ~= b
+    case _ => false
+  }
+
+  test("Product of the factors is equal to the permuted matrix") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val lu = mat.luDecomposition
+    assert(lu.permutation * mat === lu.lower * lu.upper)
+  }
+
+  test("Decomposition of a matrix that requires pivoting") {
+    val mat = Mat3c(
+      0.0, 1.0 + I, 2.0,
+      3.0 - I, 0.5, I,
+      1.0, 2.0 * I, 4.0
+    )
+    val lu = mat.luDecomposition
+    assert(lu.permutation * mat === lu.lower * lu.upper)
+    assert(lu.permutation != Mat3c.Identity)
+  }
+
+  test("Factors are triangular") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val lu = mat.luDecomposition
+    for (r <- 0 until 3; c <- 0 until 3) {
+      if (c > r) assert(lu.lower(r, c) == Complex.Zero)
+      if (c == r) assert(lu.lower(r, c) == Complex.One)
+      if (c < r) assert(lu.upper(r, c) == Complex.Zero)
+    }
+  }
+
+  test("Determinant from decomposition") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    assert(mat.luDecomposition.determinant === mat.determinant)
+  }
+
+  test("Determinant of a matrix that requires pivoting") {
+    val mat = Mat3c(
+      0.0, 1.0 + I, 2.0,
+      3.0 - I, 0.5, I,
+      1.0, 2.0 * I, 4.0
+    )
+    val lu = mat.luDecomposition
+    assert(lu.determinant === lu.upper.determinant * lu.permutation.determinant)
+  }
+
+  test("Inverse from decomposition") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val inv = mat.luDecomposition.inverse
+    assert(mat * inv === Mat3c.Identity)
+    assert(inv * mat === Mat3c.Identity)
+  }
+
+  test("Inverse is equal to the adjugate divided by the determinant") {
+    val mat = Mat3c(
+      0.0, 1.0 + I, 2.0,
+      3.0 - I, 0.5, I,
+      1.0, 2.0 * I, 4.0
+    )
+    assert(mat.luDecomposition.inverse === mat.adjugate / mat.determinant)
+  }
+
+  test("Solve a system with a vector right-hand side") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val b = Vec3c(1.0 + I, 2.0 - I, 0.5 * I)
+    val x = mat.luDecomposition.solve(b)
+    assert(mat * x === b)
+  }
+
+  test("Solve a system with a matrix right-hand side") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val b = Mat3c(
+      1.0 - I, 2.0, 0.5 * I,
+      3.0, 1.0 + I, 2.0,
+      I, 1.5, 2.0 - I
+    )
+    val x = mat.luDecomposition.solve(b)
+    assert(mat * x === b)
+  }
+
+  test("Decomposition of a non-singular matrix") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    assert(!mat.luDecomposition.isSingular)
+  }
+
+  test("Decomposition of a singular matrix") {
+    val mat = Mat3c(
+      1.0 + I, 2.0, 3.0 - I,
+      2.0 + 2.0 * I, 4.0, 6.0 - 2.0 * I,
+      I, 1.0, 2.0
+    )
+    val lu = mat.luDecomposition
+    assert(lu.isSingular)
+    assert(lu.determinant == Complex.Zero)
+  }
+
+  test("Decomposition of the zero matrix") {
+    val lu = Mat3c.Zero.luDecomposition
+    assert(lu.isSingular)
+    assert(lu.determinant == Complex.Zero)
+    assert(lu.permutation == Mat3c.Identity)
+  }
+}
@@ -0,0 +1,162 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class LUDecomposition4cSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat4c] = (a: Mat4c, b: Any) => b match {
+    case b: Mat4c => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec4c] = (a: Vec4c, b: Any) => b match {
+    case b: Vec4c => a ~= b
+    case _ => false
+  }
+
+  implicit val complexEquality: Equality[Complex] = (a: Complex, b: Any) => b match {
+    case b: Complex => a ~= b
+    case _ => false
+  }
+
+  test("Product of the factors is equal to the permuted matrix") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    val lu = mat.luDecomposition
+    assert(lu.permutation * mat === lu.lower * lu.upper)
+  }
+
+  test("Decomposition of a matrix that requires pivoting") {
+    val mat = Mat4c(
+      0.0, 1.0 + I, 2.0, 1.0,
+      3.0 - I, 0.5, I, 2.0,
+      1.0, 2.0 * I, 4.0, -I,
+      2.0, 1.0, 0.0, 1.0 + 3.0 * I
+    )
+    val lu = mat.luDecomposition
+    assert(lu.permutation * mat === lu.lower * lu.upper)
+    assert(lu.permutation != Mat4c.Identity)
+  }
+
+  test("Factors are triangular") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    val lu = mat.luDecomposition
+    for (r <- 0 until 4; c <- 0 until 4) {
+      if (c > r) assert(lu.lower(r, c) == Complex.Zero)
+      if (c == r) assert(lu.lower(r, c) == Complex.One)
+      if (c < r) assert(lu.upper(r, c) == Complex.Zero)
+    }
+  }
+
+  test("Determinant from decomposition") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    assert(mat.luDecomposition.determinant === 34.75 - 5.0 * I)
+  }
+
+  test("Determinant of a matrix that requires pivoting") {
+    val mat = Mat4c(
+      0.0, 1.0 + I, 2.0, 1.0,
+      3.0 - I, 0.5, I, 2.0,
+      1.0, 2.0 * I, 4.0, -I,
+      2.0, 1.0, 0.0, 1.0 + 3.0 * I
+    )
+    val lu = mat.luDecomposition
+    assert(lu.determinant === lu.upper.determinant * lu.permutation.determinant)
+  }
+
+  test("Inverse from decomposition") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    val inv = mat.luDecomposition.inverse
+    assert(mat * inv === Mat4c.Identity)
+    assert(inv * mat === Mat4c.Identity)
+  }
+
+  test("Inverse is equal to the adjugate divided by the determinant") {
+    val mat = Mat4c(
+      0.0, 1.0 + I, 2.0, 1.0,
+      3.0 - I, 0.5, I, 2.0,
+      1.0, 2.0 * I, 4.0, -I,
+      2.0, 1.0, 0.0, 1.0 + 3.0 * I
+    )
+    assert(mat.luDecomposition.inverse === mat.adjugate / mat.determinant)
+  }
+
+  test("Solve a system with a vector right-hand side") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    val b = Vec4c(1.0 + I, 2.0 - I, 0.5 * I, 3.0)
+    val x = mat.luDecomposition.solve(b)
+    assert(mat * x === b)
+  }
+
+  test("Solve a system with a matrix right-hand side") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    val b = Mat4c(
+      1.0 - I, 2.0, 0.5 * I, 1.0,
+      3.0, 1.0 + I, 2.0, -I,
+      I, 1.5, 2.0 - I, 0.5,
+      2.0, 0.0, 1.0, 1.0 + I
+    )
+    val x = mat.luDecomposition.solve(b)
+    assert(mat * x === b)
+  }
+
+  test("Decomposition of a non-singular matrix") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    assert(!mat.luDecomposition.isSingular)
+  }
+
+  test("Decomposition of a singular matrix") {
+    val mat = Mat4c(
+      1.0 + I, 2.0, 3.0 - I, 1.0,
+      0.5, I, 2.0, 1.0 + I,
+      2.0 + 2.0 * I, 4.0, 6.0 - 2.0 * I, 2.0,
+      I, 1.0, 2.0, 3.0
+    )
+    val lu = mat.luDecomposition
+    assert(lu.isSingular)
+    assert(lu.determinant == Complex.Zero)
+  }
+
+  test("Decomposition of the zero matrix") {
+    val lu = Mat4c.Zero.luDecomposition
+    assert(lu.isSingular)
+    assert(lu.determinant == Complex.Zero)
+    assert(lu.permutation == Mat4c.Identity)
+  }
+}
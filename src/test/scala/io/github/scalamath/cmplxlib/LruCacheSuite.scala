@@ -0,0 +1,68 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+class LruCacheSuite extends AnyFunSuite {
+
+  test("Values are created once") {
+    val cache = new LruCache[Integer, String](4)
+    var created = 0
+    val create = (k: Integer) => {
+      created += 1
+      k.toString
+    }
+    assert(cache.getOrCreate(1, create) == "1")
+    assert(cache.getOrCreate(1, create) == "1")
+    assert(created == 1)
+    assert(cache.hits == 1)
+    assert(cache.misses == 1)
+  }
+
+  test("Least recently used entry is evicted") {
+    val cache = new LruCache[Integer, String](2)
+    cache.getOrCreate(1, _.toString)
+    cache.getOrCreate(2, _.toString)
+    cache.getOrCreate(1, _.toString)
+    cache.getOrCreate(3, _.toString)
+    assert(cache.size == 2)
+    assert(cache.contains(1))
+    assert(!cache.contains(2))
+    assert(cache.contains(3))
+  }
+
+  test("Reducing the capacity evicts entries") {
+    val cache = new LruCache[Integer, String](4)
+    for (i <- 1 to 4) {
+      cache.getOrCreate(i, _.toString)
+    }
+    cache.setCapacity(2)
+    assert(cache.capacity == 2)
+    assert(cache.size == 2)
+    assert(cache.contains(3))
+    assert(cache.contains(4))
+  }
+
+  test("Values may be created recursively") {
+    val cache = new LruCache[Integer, String](4)
+    lazy val create: Integer => String = k => if (k == 0) "0" else cache.getOrCreate(k - 1, create) + k
+    assert(cache.getOrCreate(3, create) == "0123")
+    assert(cache.size == 4)
+  }
+
+  test("Clear the cache and the statistics") {
+    val cache = new LruCache[Integer, String](4)
+    cache.getOrCreate(1, _.toString)
+    cache.getOrCreate(1, _.toString)
+    cache.clear()
+    cache.resetStatistics()
+    assert(cache.size == 0)
+    assert(cache.hits == 0)
+    assert(cache.misses == 0)
+  }
+
+  test("Capacity must be positive") {
+    assertThrows[IllegalArgumentException] {
+      new LruCache[Integer, String](0)
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.nio.file.{Files, Path}
+import java.nio.{ByteBuffer, ReadOnlyBufferException}
+
+class MappedComplexArraySuite extends AnyFunSuite {
+
+  private def withFile(test: Path => Unit): Unit = {
+    val path = Files.createTempFile("cmplxlib", ".bin")
+    try test(path) finally Files.deleteIfExists(path)
+  }
+
+  private def sample(n: Int): ComplexArray = ComplexArray.fromArray(Array.tabulate(n)(i => Complex(i + 1.0, 0.5 * i - 3.0)))
+
+  private def slice(a: ComplexArray, from: Int, until: Int): ComplexArray = ComplexArray.fromArray(a.toArray.slice(from, until))
+
+  test("Create file of the given length with all zeros") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 10)
+      try {
+        assert(a.length == 10)
+        assert(Files.size(path) == 160)
+        assert((0L until 10L).forall(a(_) == Complex.Zero))
+      } finally a.close()
+    }
+  }
+
+  test("Set and get elements") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 4)
+      try {
+        a(1) = Complex(1.0, 2.0)
+        a(3) = Complex(3.0, -4.0)
+        assert(a(1) == Complex(1.0, 2.0))
+        assert(a.realAt(3) == 3.0)
+        assert(a.imaginaryAt(3) == -4.0)
+        assert(a(0) == Complex.Zero)
+      } finally a.close()
+    }
+  }
+
+  test("Access out of bounds throws") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 4)
+      try {
+        assertThrows[IndexOutOfBoundsException](a(4))
+        assertThrows[IndexOutOfBoundsException](a(-1))
+        assertThrows[IndexOutOfBoundsException](a(4) = Complex.One)
+      } finally a.close()
+    }
+  }
+
+  test("Elements are stored in the file in the format of the binary codec") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 3)
+      try {
+        a(0) = Complex(1.0, 2.0)
+        a(2) = Complex(5.0, 6.0)
+        a.force()
+      } finally a.close()
+      val buffer = ByteBuffer.wrap(Files.readAllBytes(path))
+      assert(BinaryCodec.readComplexArray(buffer, 3) == ComplexArray(Complex(1.0, 2.0), Complex.Zero, Complex(5.0, 6.0)))
+    }
+  }
+
+  test("Open file written by the binary codec") {
+    this.withFile { path =>
+      val expected = this.sample(5)
+      val buffer = ByteBuffer.allocate(80)
+      BinaryCodec.write(buffer, expected)
+      Files.write(path, buffer.array())
+      val a = MappedComplexArray.open(path)
+      try {
+        assert(a.length == 5)
+        assert(!a.isWritable)
+        assert((0 until 5).forall(i => a(i) == expected(i)))
+      } finally a.close()
+    }
+  }
+
+  test("Read-only array cannot be modified") {
+    this.withFile { path =>
+      Files.write(path, new Array[Byte](32))
+      val a = MappedComplexArray.open(path)
+      try {
+        assertThrows[ReadOnlyBufferException](a(0) = Complex.One)
+        assertThrows[ReadOnlyBufferException](a *= Complex.I)
+      } finally a.close()
+    }
+  }
+
+  test("Open file whose size is not a multiple of 16 bytes throws") {
+    this.withFile { path =>
+      Files.write(path, new Array[Byte](20))
+      assertThrows[IllegalArgumentException](MappedComplexArray.open(path))
+    }
+  }
+
+  test("Create array with negative length throws") {
+    this.withFile { path =>
+      assertThrows[IllegalArgumentException](MappedComplexArray.create(path, -1))
+    }
+  }
+
+  test("Changes are visible after reopening the file") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 2)
+      try a(1) = Complex(7.0, 8.0) finally a.close()
+      val b = MappedComplexArray.open(path, writable = true)
+      try {
+        assert(b.isWritable)
+        assert(b(1) == Complex(7.0, 8.0))
+      } finally b.close()
+    }
+  }
+
+  test("Copy ranges to and from complex arrays across segments") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 20, 3)
+      try {
+        val src = this.sample(20)
+        a.copyFrom(src, 2, 1, 15)
+        assert(a(0) == Complex.Zero)
+        assert((1 until 16).forall(i => a(i) == src(i + 1)))
+        assert(a(16) == Complex.Zero)
+        val dst = new ComplexArray(17)
+        a.copyTo(1, dst, 2, 15)
+        assert((2 until 17).forall(i => dst(i) == src(i)))
+      } finally a.close()
+    }
+  }
+
+  test("Copy out of bounds throws") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 4)
+      try {
+        assertThrows[IndexOutOfBoundsException](a.copyTo(2, new ComplexArray(4), 0, 3))
+        assertThrows[IndexOutOfBoundsException](a.copyFrom(new ComplexArray(2), 0, 0, 3))
+      } finally a.close()
+    }
+  }
+
+  test("Sum, dot product, and squared norm of mapped arrays") {
+    this.withFile { path1 =>
+      this.withFile { path2 =>
+        val x = this.sample(21)
+        val y = ComplexArray.fromArray(Array.tabulate(21)(i => Complex(1.0 - i, 2.0)))
+        val a = MappedComplexArray.create(path1, 21, 3)
+        val b = MappedComplexArray.create(path2, 21, 3)
+        try {
+          a.copyFrom(x, 0, 0, 21)
+          b.copyFrom(y, 0, 0, 21)
+          assert(a.sum ~= x.toArray.reduce(_ + _))
+          assert(a.dot(b) ~= x.dot(y))
+          assert(math.abs(a.squaredNorm - x.squaredModulus.sum) < 1e-9)
+        } finally {
+          a.close()
+          b.close()
+        }
+      }
+    }
+  }
+
+  test("Dot product of arrays of different length throws") {
+    this.withFile { path1 =>
+      this.withFile { path2 =>
+        val a = MappedComplexArray.create(path1, 3)
+        val b = MappedComplexArray.create(path2, 4)
+        try {
+          assertThrows[IllegalArgumentException](a.dot(b))
+        } finally {
+          a.close()
+          b.close()
+        }
+      }
+    }
+  }
+
+  test("Multiply mapped array in place") {
+    this.withFile { path =>
+      val x = this.sample(11)
+      val a = MappedComplexArray.create(path, 11, 2)
+      try {
+        a.copyFrom(x, 0, 0, 11)
+        assert((a *= Complex(1.0, 2.0)) eq a)
+        assert((0 until 11).forall(i => a(i) == x(i) * Complex(1.0, 2.0)))
+      } finally a.close()
+    }
+  }
+
+  test("Iterate over windows") {
+    this.withFile { path =>
+      val x = this.sample(10)
+      val a = MappedComplexArray.create(path, 10, 2)
+      try {
+        a.copyFrom(x, 0, 0, 10)
+        val windows = Seq.newBuilder[(Long, ComplexArray)]
+        a.foreachWindow(4)((from, window) => windows += ((from, window.copy)))
+        assert(windows.result() == Seq((0L, this.slice(x, 0, 4)), (4L, this.slice(x, 4, 8)), (8L, this.slice(x, 8, 10))))
+      } finally a.close()
+    }
+  }
+
+  test("Transform windows in place") {
+    this.withFile { path =>
+      val x = this.sample(9)
+      val a = MappedComplexArray.create(path, 9)
+      try {
+        a.copyFrom(x, 0, 0, 9)
+        a.transformWindows(3)((_, window) => FFT(3).forward(window))
+        val expected = x.copy
+        FFT(3).forward(expected.data, 0)
+        FFT(3).forward(expected.data, 3)
+        FFT(3).forward(expected.data, 6)
+        assert((0 until 9).forall(i => a(i) == expected(i)))
+      } finally a.close()
+    }
+  }
+
+  test("Window of non-positive size throws") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 4)
+      try {
+        assertThrows[IllegalArgumentException](a.foreachWindow(0)((_, _) => ()))
+      } finally a.close()
+    }
+  }
+
+  test("Empty mapped array") {
+    this.withFile { path =>
+      val a = MappedComplexArray.create(path, 0)
+      try {
+        assert(a.length == 0)
+        assert(a.sum == Complex.Zero)
+        assert(a.squaredNorm == 0.0)
+        a.foreachWindow(4)((_, _) => fail())
+      } finally a.close()
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package io.github.scalamath.cmplxlib
+
+class Mat2cExpmSuite extends MatrixExpmSuite(2) {
+
+  override protected def expm(m: IndexedSeq[Complex]): IndexedSeq[Complex] = TestData.elements(TestData.mat2c(m).expm)
+
+  override protected def expmAll(src: ComplexArray, dst: ComplexArray): Unit = Mat2c.expmAll(src, dst)
+
+  test("Exponential of the zero matrix") {
+    assert(Mat2c.Zero.expm == Mat2c.Identity)
+  }
+}
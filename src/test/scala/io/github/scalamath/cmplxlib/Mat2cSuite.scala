@@ -288,6 +288,80 @@ class Mat2cSuite extends AnyFunSuite {
     assert(mat.isHermitian)
   }
 
+  test("Matrix that is not hermitian") {
+    val mat = Mat2c(
+      1.0, 1.0 + I,
+      1.0 + I, 2.0
+    )
+    assert(!mat.isHermitian)
+    assert(mat.isSymmetric)
+    assert(!mat.isSkewSymmetric)
+  }
+
+  test("Symmetric and hermitian matrices within a tolerance") {
+    val mat = Mat2c(
+      1.0, 1.0 + I,
+      1.0 - (1.0 + 1e-12) * I, 2.0
+    )
+    assert(!mat.isHermitian)
+    assert(mat.isHermitian(1e-9))
+    assert(!mat.isSymmetric(1e-9))
+  }
+
+  test("Structural predicates with a negative tolerance") {
+    assertThrows[IllegalArgumentException] {
+      Mat2c.Identity.isHermitian(-1.0)
+    }
+  }
+
+  test("Diagonal matrix") {
+    val mat = Mat2c(
+      1.0 + I, 0.0,
+      0.0, 2.0 + I
+    )
+    assert(mat.isDiagonal)
+    assert(mat.isUpperTriangular)
+    assert(mat.isLowerTriangular)
+    assert(!(mat + Mat2c(
+      0.0, 0.0, 1.0, 0.0
+    )).isDiagonal)
+  }
+
+  test("Triangular matrices") {
+    val mat = Mat2c(
+      1.0 - I, 2.0 - I,
+      0.0, 3.0 - I
+    )
+    assert(mat.isUpperTriangular)
+    assert(!mat.isLowerTriangular)
+    assert(mat.isTriangular)
+    assert(mat.transposed.isLowerTriangular)
+    assert(mat.transposed.isTriangular)
+    assert(!(mat + mat.transposed).isTriangular)
+  }
+
+  test("Triangular matrix within a tolerance") {
+    val mat = Mat2c(
+      1.0, 1e-12 * I,
+      0.0, 1.0
+    )
+    assert(!mat.isDiagonal)
+    assert(mat.isDiagonal(1e-9))
+    assert(mat.isLowerTriangular(1e-9))
+  }
+
+  test("Unitary matrix") {
+    val mat = Mat2c(
+      Complex.exp(0.0, 2.0 * math.Pi * 0 / 2) / math.sqrt(2), Complex.exp(0.0, 2.0 * math.Pi * 0 / 2) / math.sqrt(2),
+      Complex.exp(0.0, 2.0 * math.Pi * 0 / 2) / math.sqrt(2), Complex.exp(0.0, 2.0 * math.Pi * 1 / 2) / math.sqrt(2)
+    )
+    assert(mat.isUnitary(1e-12))
+    assert(mat.conjugate.transposed.isUnitary(1e-12))
+    assert(Mat2c.Identity.isUnitary)
+    assert(!(mat * 2.0).isUnitary(1e-12))
+    assert(!(mat + Mat2c.Identity).isUnitary(1e-12))
+  }
+
   test("Matrix determinant") {
     val mat = Mat2c(
       1.0 + 2.0 * I, 1.5 + I,
@@ -329,6 +403,38 @@ class Mat2cSuite extends AnyFunSuite {
     assert(a.power(3) === a * a * a)
   }
 
+  test("Matrix power with a large exponent") {
+    val a = Mat2c(
+      I, 0.0,
+      0.0, -1.0
+    )
+    assert(a.power(1000001) == a)
+  }
+
+  test("Matrix power with an even exponent") {
+    val a = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    assert(a.power(6) === a * a * a * a * a * a)
+  }
+
+  test("Matrix power with exponent zero") {
+    val a = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    assert(a.power(0) == Mat2c.Identity)
+  }
+
+  test("Matrix power with a negative exponent") {
+    val a = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    assert(a.power(-2) === a.inverse * a.inverse)
+  }
+
   test("Matrix absolute value") {
     val mat = Mat2c(
       1.0 + 2.0 * I, 1.5 + I,
@@ -408,4 +514,81 @@ class Mat2cSuite extends AnyFunSuite {
     val col1 = Vec2c(1.5 + I, 3.0 + 2.0 * I)
     assert(Mat2c.fromColumns(col0, col1) == mat)
   }
+
+  private def packAll2(vectors: Vec2c*): Array[Double] = vectors.flatMap(v => Seq(v.x.a, v.x.b, v.y.a, v.y.b)).toArray
+
+  private def result2(array: Array[Double], i: Int): Vec2c = {
+    val off = 4 * i
+    Vec2c(Complex(array(off + 0), array(off + 1)), Complex(array(off + 2), array(off + 3)))
+  }
+
+  test("Transform all vectors in an array") {
+    val mat = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      2.0 + I, 3.0
+    )
+    val vectors = Seq(Vec2c(1.0 + I, 2.0 - I), Vec2c(0.5 * I, 3.0), Vec2c(-1.0 + 2.0 * I, I))
+    val src = this.packAll2(vectors: _*)
+    val dst = new Array[Double](12)
+    mat.transformAll(src, dst, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result2(dst, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in an array with offsets") {
+    val mat = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      2.0 + I, 3.0
+    )
+    val vectors = Seq(Vec2c(1.0 + I, 2.0 - I), Vec2c(0.5 * I, 3.0), Vec2c(-1.0 + 2.0 * I, I))
+    val src = this.packAll2(vectors: _*)
+    val dst = new Array[Double](16)
+    mat.transformAll(src, 1, dst, 2, 2)
+    assert(this.result2(dst, 0) == Vec2c.Zero)
+    assert(this.result2(dst, 1) == Vec2c.Zero)
+    assert(this.result2(dst, 2) == mat * vectors(1))
+    assert(this.result2(dst, 3) == mat * vectors(2))
+  }
+
+  test("Transform all vectors in an array in place") {
+    val mat = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      2.0 + I, 3.0
+    )
+    val vectors = Seq(Vec2c(1.0 + I, 2.0 - I), Vec2c(0.5 * I, 3.0), Vec2c(-1.0 + 2.0 * I, I))
+    val array = this.packAll2(vectors: _*)
+    mat.transformAll(array, array, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result2(array, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in a complex array") {
+    val mat = Mat2c(
+      1.0 + 2.0 * I, 1.5 + I,
+      2.0 + I, 3.0
+    )
+    val vectors = Seq(Vec2c(1.0 + I, 2.0 - I), Vec2c(0.5 * I, 3.0), Vec2c(-1.0 + 2.0 * I, I))
+    val src = ComplexArray.wrap(this.packAll2(vectors: _*))
+    val dst = new ComplexArray(6)
+    mat.transformAll(src, dst)
+    for (i <- vectors.indices) {
+      assert(Vec2c(dst(2 * i), dst(2 * i + 1)) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors with a destination that is too small") {
+    val mat = Mat2c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](12), new Array[Double](8), 0, 3)
+    }
+  }
+
+  test("Transform all vectors with a negative count") {
+    val mat = Mat2c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](12), new Array[Double](12), 0, -1)
+    }
+  }
 }
@@ -0,0 +1,101 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import io.github.scalamath.vecmatlib.Mat2f
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Mat2cfSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat2cf] = (a: Mat2cf, b: Any) => b match {
+    case b: Mat2cf => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec2cf] = (a: Vec2cf, b: Any) => b match {
+    case b: Vec2cf => a ~= b
+    case _ => false
+  }
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  private val a = Mat2cf(
+      1.0f + I, 2.0f,
+      0.5f * I, -1.0f + 2.0f * I
+    )
+
+  private val b = Mat2cf(
+      0.5f - I, 1.0f,
+      2.0f * I, 1.5f
+    )
+
+  test("Sum of two matrices is equal to the one computed in double precision") {
+    assert(this.a + this.b == Mat2cf.fromMat2c(this.a.toMat2c + this.b.toMat2c))
+  }
+
+  test("Product of two matrices is equal to the one computed in double precision") {
+    assert(this.a * this.b === Mat2cf.fromMat2c(this.a.toMat2c * this.b.toMat2c))
+  }
+
+  test("Product of a matrix and a vector is equal to the one computed in double precision") {
+    val v = Vec2cf(1.0f + I, 2.0f)
+    assert(this.a * v === Vec2cf.fromVec2c(this.a.toMat2c * v.toVec2c))
+  }
+
+  test("Product of a matrix and a scalar") {
+    assert(this.a * 2.0f == this.a + this.a)
+    assert(2.0f * this.a == this.a * 2.0f)
+    assert(I * this.a == this.a * I)
+  }
+
+  test("Determinant is equal to the one computed in double precision") {
+    assert(this.a.determinant === Complex32.fromComplex(this.a.toMat2c.determinant))
+  }
+
+  test("Product of a matrix and its inverse is the identity") {
+    assert(this.a * this.a.inverse === Mat2cf.Identity)
+  }
+
+  test("Power of a matrix") {
+    assert(this.a.power(0) == Mat2cf.Identity)
+    assert(this.a.power(3) === this.a * this.a * this.a)
+    assert(this.a.power(-1) === this.a.inverse)
+  }
+
+  test("Transposed and conjugate") {
+    assert(this.a.transposed.transposed == this.a)
+    assert(this.a.conjugate.toMat2c == this.a.toMat2c.conjugate)
+    assert((this.a + this.a.conjugate.transposed).isHermitian)
+  }
+
+  test("Structural predicates") {
+    val h = this.a + this.a.conjugate.transposed
+    assert(h.isHermitian(1e-6f))
+    assert(!this.a.isHermitian(1e-6f))
+    assert(Mat2cf.Identity.isDiagonal)
+    assert(Mat2cf.Identity.isUnitary)
+    assert(Mat2cf.Identity.isTriangular)
+    assert(!(this.a * 2.0f).isUnitary(1e-6f))
+    assertThrows[IllegalArgumentException] {
+      this.a.isSymmetric(-1.0f)
+    }
+  }
+
+  test("Convert to and from double precision") {
+    assert(Mat2cf.fromMat2c(this.a.toMat2c) == this.a)
+    assert(this.a.toMat2c.m00 == Complex(1.0, 1.0))
+  }
+
+  test("Single-precision matrices are promoted to double precision") {
+    val m: Mat2c = this.a
+    assert(m == this.a.toMat2c)
+  }
+
+  test("Implicit conversion from Mat2f") {
+    val m: Mat2cf = Mat2f(1.0f, 2.0f, 3.0f, 4.0f)
+    assert(m == Mat2cf(1.0f, 2.0f, 3.0f, 4.0f))
+  }
+}
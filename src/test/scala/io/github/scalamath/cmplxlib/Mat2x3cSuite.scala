@@ -328,4 +328,81 @@ class Mat2x3cSuite extends AnyFunSuite {
     val col2 = Vec2c(2.0 + I, 1.0 + 2.0 * I)
     assert(Mat2x3c.fromColumns(col0, col1, col2) == mat)
   }
+
+  private def packAll3(vectors: Vec3c*): Array[Double] = vectors.flatMap(v => Seq(v.x.a, v.x.b, v.y.a, v.y.b, v.z.a, v.z.b)).toArray
+
+  private def result2(array: Array[Double], i: Int): Vec2c = {
+    val off = 4 * i
+    Vec2c(Complex(array(off + 0), array(off + 1)), Complex(array(off + 2), array(off + 3)))
+  }
+
+  test("Transform all vectors in an array") {
+    val mat = Mat2x3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val src = this.packAll3(vectors: _*)
+    val dst = new Array[Double](12)
+    mat.transformAll(src, dst, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result2(dst, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in an array with offsets") {
+    val mat = Mat2x3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val src = this.packAll3(vectors: _*)
+    val dst = new Array[Double](16)
+    mat.transformAll(src, 1, dst, 2, 2)
+    assert(this.result2(dst, 0) == Vec2c.Zero)
+    assert(this.result2(dst, 1) == Vec2c.Zero)
+    assert(this.result2(dst, 2) == mat * vectors(1))
+    assert(this.result2(dst, 3) == mat * vectors(2))
+  }
+
+  test("Transform all vectors in an array in place") {
+    val mat = Mat2x3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val array = this.packAll3(vectors: _*)
+    mat.transformAll(array, array, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result2(array, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in a complex array") {
+    val mat = Mat2x3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val src = ComplexArray.wrap(this.packAll3(vectors: _*))
+    val dst = new ComplexArray(6)
+    mat.transformAll(src, dst)
+    for (i <- vectors.indices) {
+      assert(Vec2c(dst(2 * i), dst(2 * i + 1)) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors with a destination that is too small") {
+    val mat = Mat2x3c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](18), new Array[Double](8), 0, 3)
+    }
+  }
+
+  test("Transform all vectors with a negative count") {
+    val mat = Mat2x3c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](18), new Array[Double](12), 0, -1)
+    }
+  }
 }
@@ -0,0 +1,12 @@
+package io.github.scalamath.cmplxlib
+
+class Mat3cExpmSuite extends MatrixExpmSuite(3) {
+
+  override protected def expm(m: IndexedSeq[Complex]): IndexedSeq[Complex] = TestData.elements(TestData.mat3c(m).expm)
+
+  override protected def expmAll(src: ComplexArray, dst: ComplexArray): Unit = Mat3c.expmAll(src, dst)
+
+  test("Exponential of the zero matrix") {
+    assert(Mat3c.Zero.expm == Mat3c.Identity)
+  }
+}
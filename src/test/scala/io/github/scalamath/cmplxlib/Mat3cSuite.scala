@@ -336,6 +336,86 @@ class Mat3cSuite extends AnyFunSuite {
     assert(mat.isHermitian)
   }
 
+  test("Matrix that is not hermitian") {
+    val mat = Mat3c(
+      1.0, 1.0 + I, 1.0 + I,
+      1.0 + I, 2.0, 1.0 + I,
+      1.0 + I, 1.0 + I, 3.0
+    )
+    assert(!mat.isHermitian)
+    assert(mat.isSymmetric)
+    assert(!mat.isSkewSymmetric)
+  }
+
+  test("Symmetric and hermitian matrices within a tolerance") {
+    val mat = Mat3c(
+      1.0, 1.0 + I, 1.0 + I,
+      1.0 - (1.0 + 1e-12) * I, 2.0, 1.0 + I,
+      1.0 - (1.0 + 1e-12) * I, 1.0 - (1.0 + 1e-12) * I, 3.0
+    )
+    assert(!mat.isHermitian)
+    assert(mat.isHermitian(1e-9))
+    assert(!mat.isSymmetric(1e-9))
+  }
+
+  test("Structural predicates with a negative tolerance") {
+    assertThrows[IllegalArgumentException] {
+      Mat3c.Identity.isHermitian(-1.0)
+    }
+  }
+
+  test("Diagonal matrix") {
+    val mat = Mat3c(
+      1.0 + I, 0.0, 0.0,
+      0.0, 2.0 + I, 0.0,
+      0.0, 0.0, 3.0 + I
+    )
+    assert(mat.isDiagonal)
+    assert(mat.isUpperTriangular)
+    assert(mat.isLowerTriangular)
+    assert(!(mat + Mat3c(
+      0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0
+    )).isDiagonal)
+  }
+
+  test("Triangular matrices") {
+    val mat = Mat3c(
+      1.0 - I, 2.0 - I, 3.0 - I,
+      0.0, 3.0 - I, 4.0 - I,
+      0.0, 0.0, 5.0 - I
+    )
+    assert(mat.isUpperTriangular)
+    assert(!mat.isLowerTriangular)
+    assert(mat.isTriangular)
+    assert(mat.transposed.isLowerTriangular)
+    assert(mat.transposed.isTriangular)
+    assert(!(mat + mat.transposed).isTriangular)
+  }
+
+  test("Triangular matrix within a tolerance") {
+    val mat = Mat3c(
+      1.0, 1e-12 * I, 1e-12 * I,
+      0.0, 1.0, 1e-12 * I,
+      0.0, 0.0, 1.0
+    )
+    assert(!mat.isDiagonal)
+    assert(mat.isDiagonal(1e-9))
+    assert(mat.isLowerTriangular(1e-9))
+  }
+
+  test("Unitary matrix") {
+    val mat = Mat3c(
+      Complex.exp(0.0, 2.0 * math.Pi * 0 / 3) / math.sqrt(3), Complex.exp(0.0, 2.0 * math.Pi * 0 / 3) / math.sqrt(3), Complex.exp(0.0, 2.0 * math.Pi * 0 / 3) / math.sqrt(3),
+      Complex.exp(0.0, 2.0 * math.Pi * 0 / 3) / math.sqrt(3), Complex.exp(0.0, 2.0 * math.Pi * 1 / 3) / math.sqrt(3), Complex.exp(0.0, 2.0 * math.Pi * 2 / 3) / math.sqrt(3),
+      Complex.exp(0.0, 2.0 * math.Pi * 0 / 3) / math.sqrt(3), Complex.exp(0.0, 2.0 * math.Pi * 2 / 3) / math.sqrt(3), Complex.exp(0.0, 2.0 * math.Pi * 4 / 3) / math.sqrt(3)
+    )
+    assert(mat.isUnitary(1e-12))
+    assert(mat.conjugate.transposed.isUnitary(1e-12))
+    assert(Mat3c.Identity.isUnitary)
+    assert(!(mat * 2.0).isUnitary(1e-12))
+    assert(!(mat + Mat3c.Identity).isUnitary(1e-12))
+  }
+
   test("Matrix determinant") {
     val mat = Mat3c(
       1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
@@ -360,18 +440,14 @@ class Mat3cSuite extends AnyFunSuite {
     assert(mat.adjugate === res)
   }
 
-  ignore("Inverse matrix") {
+  test("Inverse matrix") {
     val mat = Mat3c(
       1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
       0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
       2.0 + 3.0 * I, I, 1.5 + 2.5 * I
     )
-    val res = Mat3c(
-      -0.42461 - 0.41230 * I, 0.15692 + 0.13230 * I, 0.33230 - 0.01846 * I,
-      -0.08 - 0.20923 * I, 0.31384 - 0.04307 * I, -0.10461 + 0.11692 * I,
-      0.53538 + 0.56 * I, -0.30153 - 0.19692 * I, -0.18153 - 0.26769 * I
-    )
-    assert(mat.inverse === res) // TODO: Precision
+    assert(mat * mat.inverse === Mat3c.Identity)
+    assert(mat.inverse * mat === Mat3c.Identity)
   }
 
   test("Matrix power") {
@@ -383,6 +459,42 @@ class Mat3cSuite extends AnyFunSuite {
     assert(a.power(3) == (a * a * a))
   }
 
+  test("Matrix power with a large exponent") {
+    val a = Mat3c(
+      I, 0.0, 0.0,
+      0.0, -1.0, 0.0,
+      0.0, 0.0, -I
+    )
+    assert(a.power(1000001) == a)
+  }
+
+  test("Matrix power with an even exponent") {
+    val a = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    assert(a.power(6) === a * a * a * a * a * a)
+  }
+
+  test("Matrix power with exponent zero") {
+    val a = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    assert(a.power(0) == Mat3c.Identity)
+  }
+
+  test("Matrix power with a negative exponent") {
+    val a = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    assert(a.power(-2) === a.inverse * a.inverse)
+  }
+
   test("Matrix absolute value") {
     val mat = Mat3c(
       1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
@@ -397,8 +509,18 @@ class Mat3cSuite extends AnyFunSuite {
     assert(mat.abs === res)
   }
 
-  ignore("Orthonormalized matrix") {
-    // TODO
+  test("Orthonormalized matrix") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val (c0, c1, c2) = (mat.col0, mat.col1, mat.col2)
+    val u1 = c1 - c1.project(c0)
+    val u2 = c2 - c2.project(c0) - c2.project(u1)
+    val res = mat.orthonormalized
+    assert(res.isUnitary(1e-14))
+    assert(res === Mat3c.fromColumns(c0.normalized, u1.normalized, u2.normalized))
   }
 
   test("Matrix equals approx") {
@@ -478,4 +600,85 @@ class Mat3cSuite extends AnyFunSuite {
     val col2 = Vec3c(2.0 + I, 1.0 + 2.0 * I, 1.5 + 2.5 * I)
     assert(Mat3c.fromColumns(col0, col1, col2) == mat)
   }
+
+  private def packAll3(vectors: Vec3c*): Array[Double] = vectors.flatMap(v => Seq(v.x.a, v.x.b, v.y.a, v.y.b, v.z.a, v.z.b)).toArray
+
+  private def result3(array: Array[Double], i: Int): Vec3c = {
+    val off = 6 * i
+    Vec3c(Complex(array(off + 0), array(off + 1)), Complex(array(off + 2), array(off + 3)), Complex(array(off + 4), array(off + 5)))
+  }
+
+  test("Transform all vectors in an array") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I,
+      1.0 + 2.0 * I, 2.0 + I, 2.0 + 3.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val src = this.packAll3(vectors: _*)
+    val dst = new Array[Double](18)
+    mat.transformAll(src, dst, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result3(dst, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in an array with offsets") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I,
+      1.0 + 2.0 * I, 2.0 + I, 2.0 + 3.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val src = this.packAll3(vectors: _*)
+    val dst = new Array[Double](24)
+    mat.transformAll(src, 1, dst, 2, 2)
+    assert(this.result3(dst, 0) == Vec3c.Zero)
+    assert(this.result3(dst, 1) == Vec3c.Zero)
+    assert(this.result3(dst, 2) == mat * vectors(1))
+    assert(this.result3(dst, 3) == mat * vectors(2))
+  }
+
+  test("Transform all vectors in an array in place") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I,
+      1.0 + 2.0 * I, 2.0 + I, 2.0 + 3.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val array = this.packAll3(vectors: _*)
+    mat.transformAll(array, array, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result3(array, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in a complex array") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      3.0, 0.5 + 1.5 * I, 3.0 + 2.0 * I,
+      1.0 + 2.0 * I, 2.0 + I, 2.0 + 3.0 * I
+    )
+    val vectors = Seq(Vec3c(1.0 + I, 2.0 - I, 0.5 * I), Vec3c(3.0, -1.0 + 2.0 * I, I), Vec3c(2.5, 1.0 - 0.5 * I, 0.5 + 0.5 * I))
+    val src = ComplexArray.wrap(this.packAll3(vectors: _*))
+    val dst = new ComplexArray(9)
+    mat.transformAll(src, dst)
+    for (i <- vectors.indices) {
+      assert(Vec3c(dst(3 * i), dst(3 * i + 1), dst(3 * i + 2)) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors with a destination that is too small") {
+    val mat = Mat3c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](18), new Array[Double](12), 0, 3)
+    }
+  }
+
+  test("Transform all vectors with a negative count") {
+    val mat = Mat3c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](18), new Array[Double](18), 0, -1)
+    }
+  }
 }
@@ -0,0 +1,103 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import io.github.scalamath.vecmatlib.Mat3f
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Mat3cfSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat3cf] = (a: Mat3cf, b: Any) => b match {
+    case b: Mat3cf => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec3cf] = (a: Vec3cf, b: Any) => b match {
+    case b: Vec3cf => a ~= b
+    case _ => false
+  }
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  private val a = Mat3cf(
+      1.0f + I, 2.0f, 0.5f * I,
+      -1.0f + 2.0f * I, 3.0f - I, 1.5f,
+      -0.25f * I, 2.0f + 2.0f * I, -1.0f
+    )
+
+  private val b = Mat3cf(
+      0.5f - I, 1.0f, 2.0f * I,
+      1.5f, -1.0f + I, 0.25f,
+      1.0f + 1.0f * I, -3.0f, 2.0f
+    )
+
+  test("Sum of two matrices is equal to the one computed in double precision") {
+    assert(this.a + this.b == Mat3cf.fromMat3c(this.a.toMat3c + this.b.toMat3c))
+  }
+
+  test("Product of two matrices is equal to the one computed in double precision") {
+    assert(this.a * this.b === Mat3cf.fromMat3c(this.a.toMat3c * this.b.toMat3c))
+  }
+
+  test("Product of a matrix and a vector is equal to the one computed in double precision") {
+    val v = Vec3cf(1.0f + I, 2.0f, -0.5f * I)
+    assert(this.a * v === Vec3cf.fromVec3c(this.a.toMat3c * v.toVec3c))
+  }
+
+  test("Product of a matrix and a scalar") {
+    assert(this.a * 2.0f == this.a + this.a)
+    assert(2.0f * this.a == this.a * 2.0f)
+    assert(I * this.a == this.a * I)
+  }
+
+  test("Determinant is equal to the one computed in double precision") {
+    assert(this.a.determinant === Complex32.fromComplex(this.a.toMat3c.determinant))
+  }
+
+  test("Product of a matrix and its inverse is the identity") {
+    assert(this.a * this.a.inverse === Mat3cf.Identity)
+  }
+
+  test("Power of a matrix") {
+    assert(this.a.power(0) == Mat3cf.Identity)
+    assert(this.a.power(3) === this.a * this.a * this.a)
+    assert(this.a.power(-1) === this.a.inverse)
+  }
+
+  test("Transposed and conjugate") {
+    assert(this.a.transposed.transposed == this.a)
+    assert(this.a.conjugate.toMat3c == this.a.toMat3c.conjugate)
+    assert((this.a + this.a.conjugate.transposed).isHermitian)
+  }
+
+  test("Structural predicates") {
+    val h = this.a + this.a.conjugate.transposed
+    assert(h.isHermitian(1e-6f))
+    assert(!this.a.isHermitian(1e-6f))
+    assert(Mat3cf.Identity.isDiagonal)
+    assert(Mat3cf.Identity.isUnitary)
+    assert(Mat3cf.Identity.isTriangular)
+    assert(!(this.a * 2.0f).isUnitary(1e-6f))
+    assertThrows[IllegalArgumentException] {
+      this.a.isSymmetric(-1.0f)
+    }
+  }
+
+  test("Convert to and from double precision") {
+    assert(Mat3cf.fromMat3c(this.a.toMat3c) == this.a)
+    assert(this.a.toMat3c.m00 == Complex(1.0, 1.0))
+  }
+
+  test("Single-precision matrices are promoted to double precision") {
+    val m: Mat3c = this.a
+    assert(m == this.a.toMat3c)
+  }
+
+  test("Implicit conversion from Mat3f") {
+    val m: Mat3cf = Mat3f(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f)
+    assert(m == Mat3cf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f))
+  }
+}
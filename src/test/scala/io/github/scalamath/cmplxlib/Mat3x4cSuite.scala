@@ -300,8 +300,22 @@ class Mat3x4cSuite extends AnyFunSuite {
     assert(mat.abs === res)
   }
 
-  ignore("Orthonormalized matrix") {
-    // TODO
+  test("Orthonormalized matrix") {
+    val mat = Mat3x4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0
+    )
+    val (c0, c1, c2) = (mat.col0, mat.col1, mat.col2)
+    val u1 = c1 - c1.project(c0)
+    val u2 = c2 - c2.project(c0) - c2.project(u1)
+    val res = mat.orthonormalized
+    val columns = Seq(res.col0, res.col1, res.col2)
+    for (i <- 0 until 3; j <- 0 until 3) {
+      assert(columns(i).dot(columns(j)) ~= (if (i == j) Complex.One else Complex.Zero))
+    }
+    assert(res.col3 == Vec3c.Zero)
+    assert(res === Mat3x4c.fromColumns(c0.normalized, u1.normalized, u2.normalized, Vec3c.Zero))
   }
 
   test("Matrix equals approx") {
@@ -385,4 +399,85 @@ class Mat3x4cSuite extends AnyFunSuite {
     val col3 = Vec3c(3.0, 2.0 + I, 1.0)
     assert(Mat3x4c.fromColumns(col0, col1, col2, col3) == mat)
   }
+
+  private def packAll4(vectors: Vec4c*): Array[Double] = vectors.flatMap(v => Seq(v.x.a, v.x.b, v.y.a, v.y.b, v.z.a, v.z.b, v.w.a, v.w.b)).toArray
+
+  private def result3(array: Array[Double], i: Int): Vec3c = {
+    val off = 6 * i
+    Vec3c(Complex(array(off + 0), array(off + 1)), Complex(array(off + 2), array(off + 3)), Complex(array(off + 4), array(off + 5)))
+  }
+
+  test("Transform all vectors in an array") {
+    val mat = Mat3x4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0
+    )
+    val vectors = Seq(Vec4c(1.0 + I, 2.0 - I, 0.5 * I, 3.0), Vec4c(-1.0 + 2.0 * I, I, 2.5, 1.0 - 0.5 * I), Vec4c(0.5 + 0.5 * I, -2.0, 1.5 * I, 2.0 + 3.0 * I))
+    val src = this.packAll4(vectors: _*)
+    val dst = new Array[Double](18)
+    mat.transformAll(src, dst, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result3(dst, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in an array with offsets") {
+    val mat = Mat3x4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0
+    )
+    val vectors = Seq(Vec4c(1.0 + I, 2.0 - I, 0.5 * I, 3.0), Vec4c(-1.0 + 2.0 * I, I, 2.5, 1.0 - 0.5 * I), Vec4c(0.5 + 0.5 * I, -2.0, 1.5 * I, 2.0 + 3.0 * I))
+    val src = this.packAll4(vectors: _*)
+    val dst = new Array[Double](24)
+    mat.transformAll(src, 1, dst, 2, 2)
+    assert(this.result3(dst, 0) == Vec3c.Zero)
+    assert(this.result3(dst, 1) == Vec3c.Zero)
+    assert(this.result3(dst, 2) == mat * vectors(1))
+    assert(this.result3(dst, 3) == mat * vectors(2))
+  }
+
+  test("Transform all vectors in an array in place") {
+    val mat = Mat3x4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0
+    )
+    val vectors = Seq(Vec4c(1.0 + I, 2.0 - I, 0.5 * I, 3.0), Vec4c(-1.0 + 2.0 * I, I, 2.5, 1.0 - 0.5 * I), Vec4c(0.5 + 0.5 * I, -2.0, 1.5 * I, 2.0 + 3.0 * I))
+    val array = this.packAll4(vectors: _*)
+    mat.transformAll(array, array, 0, 3)
+    for (i <- vectors.indices) {
+      assert(this.result3(array, i) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors in a complex array") {
+    val mat = Mat3x4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0
+    )
+    val vectors = Seq(Vec4c(1.0 + I, 2.0 - I, 0.5 * I, 3.0), Vec4c(-1.0 + 2.0 * I, I, 2.5, 1.0 - 0.5 * I), Vec4c(0.5 + 0.5 * I, -2.0, 1.5 * I, 2.0 + 3.0 * I))
+    val src = ComplexArray.wrap(this.packAll4(vectors: _*))
+    val dst = new ComplexArray(9)
+    mat.transformAll(src, dst)
+    for (i <- vectors.indices) {
+      assert(Vec3c(dst(3 * i), dst(3 * i + 1), dst(3 * i + 2)) == mat * vectors(i))
+    }
+  }
+
+  test("Transform all vectors with a destination that is too small") {
+    val mat = Mat3x4c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](24), new Array[Double](12), 0, 3)
+    }
+  }
+
+  test("Transform all vectors with a negative count") {
+    val mat = Mat3x4c.Zero
+    assertThrows[IllegalArgumentException] {
+      mat.transformAll(new Array[Double](24), new Array[Double](18), 0, -1)
+    }
+  }
 }
@@ -0,0 +1,12 @@
+package io.github.scalamath.cmplxlib
+
+class Mat4cExpmSuite extends MatrixExpmSuite(4) {
+
+  override protected def expm(m: IndexedSeq[Complex]): IndexedSeq[Complex] = TestData.elements(TestData.mat4c(m).expm)
+
+  override protected def expmAll(src: ComplexArray, dst: ComplexArray): Unit = Mat4c.expmAll(src, dst)
+
+  test("Exponential of the zero matrix") {
+    assert(Mat4c.Zero.expm == Mat4c.Identity)
+  }
+}
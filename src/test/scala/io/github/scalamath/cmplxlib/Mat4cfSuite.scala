@@ -0,0 +1,105 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import io.github.scalamath.vecmatlib.Mat4f
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Mat4cfSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat4cf] = (a: Mat4cf, b: Any) => b match {
+    case b: Mat4cf => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec4cf] = (a: Vec4cf, b: Any) => b match {
+    case b: Vec4cf => a ~= b
+    case _ => false
+  }
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  private val a = Mat4cf(
+      1.0f + I, 2.0f, 0.5f * I, -1.0f + 2.0f * I,
+      3.0f - I, 1.5f, -0.25f * I, 2.0f + 2.0f * I,
+      -1.0f, 0.75f + 0.5f * I, 4.0f, 1.0f - 3.0f * I,
+      0.5f, -2.0f * I, 1.25f + I, 3.0f
+    )
+
+  private val b = Mat4cf(
+      0.5f - I, 1.0f, 2.0f * I, 1.5f,
+      -1.0f + I, 0.25f, 1.0f + 1.0f * I, -3.0f,
+      2.0f, 0.5f * I, -0.75f, 1.0f - I,
+      3.0f * I, 1.0f, -1.5f + 0.5f * I, 2.5f
+    )
+
+  test("Sum of two matrices is equal to the one computed in double precision") {
+    assert(this.a + this.b == Mat4cf.fromMat4c(this.a.toMat4c + this.b.toMat4c))
+  }
+
+  test("Product of two matrices is equal to the one computed in double precision") {
+    assert(this.a * this.b === Mat4cf.fromMat4c(this.a.toMat4c * this.b.toMat4c))
+  }
+
+  test("Product of a matrix and a vector is equal to the one computed in double precision") {
+    val v = Vec4cf(1.0f + I, 2.0f, -0.5f * I, 3.0f)
+    assert(this.a * v === Vec4cf.fromVec4c(this.a.toMat4c * v.toVec4c))
+  }
+
+  test("Product of a matrix and a scalar") {
+    assert(this.a * 2.0f == this.a + this.a)
+    assert(2.0f * this.a == this.a * 2.0f)
+    assert(I * this.a == this.a * I)
+  }
+
+  test("Determinant is equal to the one computed in double precision") {
+    assert(this.a.determinant === Complex32.fromComplex(this.a.toMat4c.determinant))
+  }
+
+  test("Product of a matrix and its inverse is the identity") {
+    assert(this.a * this.a.inverse === Mat4cf.Identity)
+  }
+
+  test("Power of a matrix") {
+    assert(this.a.power(0) == Mat4cf.Identity)
+    assert(this.a.power(3) === this.a * this.a * this.a)
+    assert(this.a.power(-1) === this.a.inverse)
+  }
+
+  test("Transposed and conjugate") {
+    assert(this.a.transposed.transposed == this.a)
+    assert(this.a.conjugate.toMat4c == this.a.toMat4c.conjugate)
+    assert((this.a + this.a.conjugate.transposed).isHermitian)
+  }
+
+  test("Structural predicates") {
+    val h = this.a + this.a.conjugate.transposed
+    assert(h.isHermitian(1e-6f))
+    assert(!this.a.isHermitian(1e-6f))
+    assert(Mat4cf.Identity.isDiagonal)
+    assert(Mat4cf.Identity.isUnitary)
+    assert(Mat4cf.Identity.isTriangular)
+    assert(!(this.a * 2.0f).isUnitary(1e-6f))
+    assertThrows[IllegalArgumentException] {
+      this.a.isSymmetric(-1.0f)
+    }
+  }
+
+  test("Convert to and from double precision") {
+    assert(Mat4cf.fromMat4c(this.a.toMat4c) == this.a)
+    assert(this.a.toMat4c.m00 == Complex(1.0, 1.0))
+  }
+
+  test("Single-precision matrices are promoted to double precision") {
+    val m: Mat4c = this.a
+    assert(m == this.a.toMat4c)
+  }
+
+  test("Implicit conversion from Mat4f") {
+    val m: Mat4cf = Mat4f(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f, 10.0f, 11.0f, 12.0f, 13.0f, 14.0f, 15.0f, 16.0f)
+    assert(m == Mat4cf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f, 10.0f, 11.0f, 12.0f, 13.0f, 14.0f, 15.0f, 16.0f))
+  }
+}
@@ -0,0 +1,205 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.util.concurrent.ForkJoinPool
+
+class MatrixChainSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  /** Random unitary matrices, whose products never overflow nor underflow */
+  private def randomMat2c: Mat2c = {
+    val m = this.data.mat2c
+    ((m + m.conjugate.transposed) * Complex.I).expm
+  }
+
+  private def randomMat3c: Mat3c = {
+    val m = this.data.mat3c
+    ((m + m.conjugate.transposed) * Complex.I).expm
+  }
+
+  private def randomMat4c: Mat4c = {
+    val m = this.data.mat4c
+    ((m + m.conjugate.transposed) * Complex.I).expm
+  }
+
+  private def withPool[T](threads: Int)(body: ForkJoinPool => T): T = {
+    val pool = new ForkJoinPool(threads)
+    try body(pool) finally pool.shutdown()
+  }
+
+  test("Multiply all Mat2c") {
+    val a = Seq.fill(10)(this.randomMat2c)
+    val b = Seq.fill(10)(this.randomMat2c)
+    val dst = new ComplexArray(40)
+    Mat2c.multiplyAll(TestData.pack(a), TestData.pack(b), dst)
+    assert(TestData.unpackMat2c(dst) == a.zip(b).map(m => m._1 * m._2))
+  }
+
+  test("Multiply all Mat3c") {
+    val a = Seq.fill(10)(this.randomMat3c)
+    val b = Seq.fill(10)(this.randomMat3c)
+    val dst = new ComplexArray(90)
+    Mat3c.multiplyAll(TestData.pack(a), TestData.pack(b), dst)
+    assert(TestData.unpackMat3c(dst) == a.zip(b).map(m => m._1 * m._2))
+  }
+
+  test("Multiply all Mat4c") {
+    val a = Seq.fill(10)(this.randomMat4c)
+    val b = Seq.fill(10)(this.randomMat4c)
+    val dst = new ComplexArray(160)
+    Mat4c.multiplyAll(TestData.pack(a), TestData.pack(b), dst)
+    assert(TestData.unpackMat4c(dst) == a.zip(b).map(m => m._1 * m._2))
+  }
+
+  test("Multiply all Mat3c in place") {
+    val a = Seq.fill(10)(this.randomMat3c)
+    val b = Seq.fill(10)(this.randomMat3c)
+    val left = TestData.pack(a)
+    val right = TestData.pack(b)
+    Mat3c.multiplyAll(left, right, left)
+    assert(TestData.unpackMat3c(left) == a.zip(b).map(m => m._1 * m._2))
+    val other = TestData.pack(a)
+    Mat3c.multiplyAll(other, right, right)
+    assert(TestData.unpackMat3c(right) == a.zip(b).map(m => m._1 * m._2))
+  }
+
+  test("Multiply all Mat4c in parallel") {
+    val a = Seq.fill(100)(this.randomMat4c)
+    val b = Seq.fill(100)(this.randomMat4c)
+    val dst = new ComplexArray(1600)
+    this.withPool(4) { pool =>
+      Mat4c.multiplyAll(TestData.pack(a), TestData.pack(b), dst, ParallelOps(pool, 7))
+    }
+    assert(TestData.unpackMat4c(dst) == a.zip(b).map(m => m._1 * m._2))
+  }
+
+  test("Multiply all Mat2c with offsets") {
+    val a = Seq.fill(6)(this.randomMat2c)
+    val b = Seq.fill(6)(this.randomMat2c)
+    val dst = new Array[Double](8 * 5)
+    Mat2c.multiplyAll(TestData.pack(a).data, 1, TestData.pack(b).data, 2, dst, 1, 4)
+    val res = TestData.unpackMat2c(ComplexArray.wrap(dst))
+    assert(res.head == Mat2c.Zero)
+    assert(res.tail == (0 until 4).map(i => a(i + 1) * b(i + 2)))
+  }
+
+  test("Multiply all Mat3c with arrays of different lengths") {
+    assertThrows[IllegalArgumentException] {
+      Mat3c.multiplyAll(new ComplexArray(18), new ComplexArray(9), new ComplexArray(18))
+    }
+    assertThrows[IllegalArgumentException] {
+      Mat3c.multiplyAll(new ComplexArray(18), new ComplexArray(18), new ComplexArray(9))
+    }
+    assertThrows[IllegalArgumentException] {
+      Mat3c.multiplyAll(new ComplexArray(10), new ComplexArray(10), new ComplexArray(10))
+    }
+    assertThrows[IllegalArgumentException] {
+      Mat3c.multiplyAll(new Array[Double](36), 1, new Array[Double](36), 0, new Array[Double](36), 0, 2)
+    }
+  }
+
+  test("Product of Mat2c") {
+    val matrices = Seq.fill(20)(this.randomMat2c)
+    assert(Mat2c.product(TestData.pack(matrices)) == matrices.reduceLeft(_ * _))
+  }
+
+  test("Product of Mat3c") {
+    val matrices = Seq.fill(20)(this.randomMat3c)
+    assert(Mat3c.product(TestData.pack(matrices)) == matrices.reduceLeft(_ * _))
+  }
+
+  test("Product of Mat4c") {
+    val matrices = Seq.fill(20)(this.randomMat4c)
+    assert(Mat4c.product(TestData.pack(matrices)) == matrices.reduceLeft(_ * _))
+  }
+
+  test("Product of an empty chain is the identity") {
+    assert(Mat2c.product(new ComplexArray(0)) == Mat2c.Identity)
+    assert(Mat3c.product(new ComplexArray(0)) == Mat3c.Identity)
+    assert(Mat4c.product(new ComplexArray(0), ParallelOps.Default) == Mat4c.Identity)
+  }
+
+  test("Product of Mat3c in parallel") {
+    val matrices = Seq.fill(100)(this.randomMat3c)
+    val res = this.withPool(4)(pool => Mat3c.product(TestData.pack(matrices), ParallelOps(pool, 3)))
+    assert(res ~= matrices.reduceLeft(_ * _))
+  }
+
+  test("Product of Mat4c in parallel is deterministic") {
+    val src = TestData.pack(Seq.fill(100)(this.randomMat4c))
+    val res = this.withPool(1)(pool => Mat4c.product(src, ParallelOps(pool, 5)))
+    for (threads <- Seq(2, 4, 8)) {
+      this.withPool(threads) { pool =>
+        assert(Mat4c.product(src, ParallelOps(pool, 5)) == res)
+      }
+    }
+  }
+
+  test("Product of Mat2c is computed from left to right") {
+    val matrices = Seq(Mat2c(0.0, 1.0, 0.0, 0.0), Mat2c(0.0, 0.0, 1.0, 0.0))
+    assert(Mat2c.product(TestData.pack(matrices)) == Mat2c(1.0, 0.0, 0.0, 0.0))
+    assert(Mat2c.product(TestData.pack(matrices.reverse)) == Mat2c(0.0, 0.0, 0.0, 1.0))
+  }
+
+  test("Product of an array with an invalid length") {
+    assertThrows[IllegalArgumentException] {
+      Mat4c.product(new ComplexArray(17))
+    }
+  }
+
+  test("Prefix products of Mat2c") {
+    val matrices = Seq.fill(20)(this.randomMat2c)
+    val dst = new ComplexArray(80)
+    Mat2c.prefixProducts(TestData.pack(matrices), dst)
+    assert(TestData.unpackMat2c(dst) == matrices.tail.scanLeft(matrices.head)(_ * _))
+  }
+
+  test("Prefix products of Mat3c") {
+    val matrices = Seq.fill(20)(this.randomMat3c)
+    val dst = new ComplexArray(180)
+    Mat3c.prefixProducts(TestData.pack(matrices), dst)
+    assert(TestData.unpackMat3c(dst) == matrices.tail.scanLeft(matrices.head)(_ * _))
+  }
+
+  test("Prefix products of Mat4c in place") {
+    val matrices = Seq.fill(20)(this.randomMat4c)
+    val src = TestData.pack(matrices)
+    Mat4c.prefixProducts(src, src)
+    assert(TestData.unpackMat4c(src) == matrices.tail.scanLeft(matrices.head)(_ * _))
+  }
+
+  test("Prefix products of Mat3c in parallel") {
+    val matrices = Seq.fill(100)(this.randomMat3c)
+    val src = TestData.pack(matrices)
+    val dst = new ComplexArray(900)
+    this.withPool(4) { pool =>
+      Mat3c.prefixProducts(src, dst, ParallelOps(pool, 7))
+      Mat3c.prefixProducts(src, src, ParallelOps(pool, 7))
+    }
+    val expected = matrices.tail.scanLeft(matrices.head)(_ * _)
+    TestData.unpackMat3c(dst).zip(expected).foreach(m => assert(m._1 ~= m._2))
+    assert(TestData.unpackMat3c(src) == TestData.unpackMat3c(dst))
+  }
+
+  test("Prefix products of Mat2c in parallel are deterministic") {
+    val src = TestData.pack(Seq.fill(100)(this.randomMat2c))
+    val res = new ComplexArray(400)
+    this.withPool(1)(pool => Mat2c.prefixProducts(src, res, ParallelOps(pool, 6)))
+    for (threads <- Seq(2, 4, 8)) {
+      val dst = new ComplexArray(400)
+      this.withPool(threads)(pool => Mat2c.prefixProducts(src, dst, ParallelOps(pool, 6)))
+      assert(dst.toArray.sameElements(res.toArray))
+    }
+  }
+
+  test("Prefix products with a destination that is too small") {
+    assertThrows[IllegalArgumentException] {
+      Mat2c.prefixProducts(new ComplexArray(8), new ComplexArray(4))
+    }
+    assertThrows[IllegalArgumentException] {
+      Mat2c.prefixProducts(new ComplexArray(6), new ComplexArray(8))
+    }
+  }
+}
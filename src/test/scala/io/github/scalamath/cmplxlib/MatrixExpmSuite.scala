@@ -0,0 +1,105 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+/**
+ * Tests of the matrix exponential that do not depend on the size of the matrices.
+ *
+ * Matrices are sequences of elements in row-major order, as described in [[TestData]].
+ *
+ * @param n The size of the matrices.
+ */
+abstract class MatrixExpmSuite(n: Int) extends AnyFunSuite {
+
+  protected val data = new TestData(42)
+
+  /** Computes the exponential with the method under test */
+  protected def expm(m: IndexedSeq[Complex]): IndexedSeq[Complex]
+
+  /** Computes the exponentials of all the matrices in the source array with the method under test */
+  protected def expmAll(src: ComplexArray, dst: ComplexArray): Unit
+
+  private def randomMatrix(norm: Double): IndexedSeq[Complex] = this.data.elements(this.n * this.n).map(_ * (norm / this.n))
+
+  private def randomHermitian(norm: Double): IndexedSeq[Complex] = {
+    val m = this.randomMatrix(norm)
+    m.zip(TestData.conjugateTranspose(this.n, m)).map(p => (p._1 + p._2) / 2.0)
+  }
+
+  /** Exponential computed with a long Taylor series and scaling and squaring */
+  private def reference(m: IndexedSeq[Complex]): IndexedSeq[Complex] = {
+    val squarings = math.max(0, math.ceil(math.log(TestData.maxModulus(m) * this.n * 4.0) / math.log(2.0)).toInt)
+    val a = m.map(_ / math.pow(2.0, squarings))
+    var term = TestData.identity(this.n)
+    var sum = term
+    for (k <- 1 to 30) {
+      term = TestData.multiply(this.n, term, a).map(_ / k)
+      sum = sum.zip(term).map(p => p._1 + p._2)
+    }
+    (0 until squarings).foldLeft(sum)((s, _) => TestData.multiply(this.n, s, s))
+  }
+
+  private def assertClose(actual: IndexedSeq[Complex], expected: IndexedSeq[Complex], tolerance: Double): Unit = {
+    val error = TestData.maxModulus(actual.zip(expected).map(p => p._1 - p._2)) / math.max(1.0, TestData.maxModulus(expected))
+    assert(error <= tolerance, s"$actual != $expected")
+  }
+
+  test("Exponential of a diagonal matrix") {
+    val diagonal = (0 until this.n).map(k => Complex(0.5 * (k + 1), k))
+    this.assertClose(this.expm(TestData.diagonal(diagonal)), TestData.diagonal(diagonal.map(Complex.exp)), 1e-14)
+  }
+
+  test("Exponential of a nilpotent matrix") {
+    val shift = IndexedSeq.tabulate(this.n * this.n)(i => if (i % this.n == i / this.n + 1) Complex.One else Complex.Zero)
+    val expected = IndexedSeq.tabulate(this.n * this.n) { i =>
+      val k = i % this.n - i / this.n
+      if (k < 0) Complex.Zero else Complex(1.0 / (1 to k).product, 0.0)
+    }
+    this.assertClose(this.expm(shift), expected, 1e-15)
+  }
+
+  test("Exponential of random matrices") {
+    for (norm <- Seq(1e-3, 0.01, 0.2, 0.9, 2.0, 5.0, 20.0, 60.0); _ <- 0 until 10) {
+      val m = this.randomMatrix(norm)
+      this.assertClose(this.expm(m), this.reference(m), 1e-12)
+    }
+  }
+
+  test("Exponential of hermitian matrices") {
+    for (norm <- Seq(0.1, 1.0, 10.0)) {
+      val h = this.randomHermitian(norm)
+      val res = this.expm(h)
+      this.assertClose(res, this.reference(h), 1e-12)
+      assert(TestData.isHermitian(this.n, res, 1e-12 * TestData.maxModulus(res)))
+    }
+  }
+
+  test("Exponential of skew-hermitian matrices is unitary") {
+    for (t <- Seq(0.1, 1.0, 10.0, 100.0)) {
+      val m = this.randomHermitian(1.0).map(_ * Complex(0.0, -t))
+      val res = this.expm(m)
+      this.assertClose(res, this.reference(m), 1e-11)
+      assert(TestData.isUnitary(this.n, res, 1e-12))
+    }
+  }
+
+  test("Exponential of a matrix and of its negation are inverse") {
+    val m = this.randomMatrix(3.0)
+    this.assertClose(TestData.multiply(this.n, this.expm(m), this.expm(m.map(-_))), TestData.identity(this.n), 1e-12)
+  }
+
+  test("Batched exponential is equal to the exponential of every matrix") {
+    val matrices = Seq.fill(5)(this.randomMatrix(this.data.random.nextDouble() * 10.0))
+    val src = ComplexArray(matrices.flatten: _*)
+    val dst = new ComplexArray(src.length)
+    this.expmAll(src, dst)
+    assert(TestData.unpack(this.n * this.n, dst) == matrices.map(this.expm))
+    this.expmAll(src, src)
+    assert(src == dst)
+  }
+
+  test("Batched exponential with invalid arrays") {
+    assertThrows[IllegalArgumentException](this.expmAll(new ComplexArray(this.n * this.n + 1), new ComplexArray(this.n * this.n + 1)))
+    assertThrows[IllegalArgumentException](this.expmAll(new ComplexArray(2 * this.n * this.n), new ComplexArray(this.n * this.n)))
+  }
+}
@@ -0,0 +1,97 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalatest.funsuite.AnyFunSuite
+
+class MutableComplexSuite extends AnyFunSuite {
+
+  test("Construct a mutable complex number") {
+    assert(new MutableComplex().toComplex == Complex.Zero)
+    assert(new MutableComplex(2.0 + I).toComplex == 2.0 + I)
+  }
+
+  test("Set a mutable complex number") {
+    val z = new MutableComplex()
+    z.set(1.0, 2.0)
+    assert(z.toComplex == 1.0 + 2.0 * I)
+    z.set(3.0 - I)
+    assert(z.toComplex == 3.0 - I)
+  }
+
+  test("Add to a mutable complex number") {
+    val z = new MutableComplex(2.0, 1.0)
+    z += (1.5, 2.0)
+    z += 1.0
+    z += Complex(0.5, 0.5)
+    z += new MutableComplex(1.0, 1.0)
+    assert(z ~= Complex(6.0, 4.5))
+  }
+
+  test("Subtract from a mutable complex number") {
+    val z = new MutableComplex(2.0, 1.0)
+    z -= (1.5, 2.0)
+    z -= 1.0
+    z -= Complex(0.5, 0.5)
+    assert(z ~= Complex(-1.0, -1.5))
+  }
+
+  test("Multiply a mutable complex number") {
+    val z = new MutableComplex(2.0, 1.0)
+    z *= (1.0, 1.0)
+    assert(z ~= Complex(1.0, 3.0))
+    z *= 2.0
+    assert(z ~= Complex(2.0, 6.0))
+    z *= I
+    assert(z ~= Complex(-6.0, 2.0))
+  }
+
+  test("Divide a mutable complex number") {
+    val z = new MutableComplex(1.0, 3.0)
+    z /= Complex(1.0, 1.0)
+    assert(z ~= Complex(2.0, 1.0))
+    z /= 2.0
+    assert(z ~= Complex(1.0, 0.5))
+  }
+
+  test("Divide a mutable complex number with large and small parts") {
+    val z = new MutableComplex(1e300, 1e300)
+    z /= Complex(2e300, 2e300)
+    assert(z.toComplex == Complex(0.5, 0.0))
+    z.set(1e-300, 1e-300)
+    z /= (1e-300, -1e-300)
+    assert(z.toComplex == Complex(0.0, 1.0))
+  }
+
+  test("Accumulate products") {
+    val acc = new MutableComplex()
+    val values = Seq(1.0 + I, 2.0 - I, 0.5 * I)
+    values.foreach(z => acc.addProduct(z, z.conjugate))
+    assert(acc ~= values.map(z => z * z.conjugate).reduce(_ + _))
+  }
+
+  test("Conjugate and negate a mutable complex number") {
+    val z = new MutableComplex(2.0, 1.0)
+    z.conjugateAssign()
+    assert(z.toComplex == Complex(2.0, -1.0))
+    z.negateAssign()
+    assert(z.toComplex == Complex(-2.0, 1.0))
+  }
+
+  test("Modulus of a mutable complex number") {
+    val z = new MutableComplex(3.0, 4.0)
+    assert(z.squaredModulus == 25.0)
+    assert(z.modulus == 5.0)
+  }
+
+  test("Modulus of a mutable complex number with large parts") {
+    val z = new MutableComplex(3e200, 4e200)
+    assert(math.abs(z.modulus / 5e200 - 1.0) < 1e-15)
+  }
+
+  test("Conversion to an immutable complex number is a copy") {
+    val z = new MutableComplex(3.0, 4.0)
+    val w = z.toComplex
+    z += 1.0
+    assert(w == Complex(3.0, 4.0))
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalatest.funsuite.AnyFunSuite
+
+class MutableMat2cSuite extends AnyFunSuite {
+
+  private val a = Mat2c(0.0 + 0.0 * I, 1.0 + 1.0 * I, 2.0 + 1.0 * I, 3.0 + 2.0 * I)
+  private val b = Mat2c(0.0 - 0.0 * I, 2.0 - 0.0 * I, 1.0 - 0.0 * I, 3.0 - 1.0 * I)
+
+  test("Construct a mutable matrix") {
+    assert(new MutableMat2c().toMat2c == Mat2c.Zero)
+    assert(new MutableMat2c(a).toMat2c == a)
+    assert(new MutableMat2c().setIdentity().toMat2c == Mat2c.Identity)
+  }
+
+  test("Access and update elements") {
+    val m = new MutableMat2c(a)
+    m(0, 1) = 2.0 + I
+    m.update(1, 0, 3.0, 4.0)
+    assert(m(0, 1) == 2.0 + I)
+    assert(m(1, 0) == 3.0 + 4.0 * I)
+    assertThrows[ArrayIndexOutOfBoundsException](m(2, 0))
+  }
+
+  test("Add and subtract matrices") {
+    val m = new MutableMat2c(a)
+    m += b
+    assert(m ~= a + b)
+    m -= new MutableMat2c(b)
+    assert(m ~= a)
+  }
+
+  test("Multiply and divide by scalars") {
+    val m = new MutableMat2c(a)
+    m *= 2.0 + I
+    assert(m ~= a * (2.0 + I))
+    m /= 2.0 + I
+    assert(m ~= a)
+    m *= 2.0
+    m /= 4.0
+    assert(m ~= a * 0.5)
+  }
+
+  test("Matrix product") {
+    val m = new MutableMat2c(a)
+    m *= b
+    assert(m ~= a * b)
+    m *= new MutableMat2c(a)
+    assert(m ~= a * b * a)
+  }
+
+  test("Square a mutable matrix") {
+    val m = new MutableMat2c(a)
+    m *= m
+    assert(m ~= a * a)
+  }
+
+  test("Transposed and conjugate of a mutable matrix") {
+    val m = new MutableMat2c(a)
+    m.transposeAssign()
+    assert(m ~= a.transposed)
+    m.conjugateAssign()
+    assert(m ~= a.conjugate.transposed)
+  }
+}
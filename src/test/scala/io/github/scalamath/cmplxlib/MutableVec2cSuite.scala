@@ -0,0 +1,69 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalatest.funsuite.AnyFunSuite
+
+class MutableVec2cSuite extends AnyFunSuite {
+
+  private val a = Vec2c(1.0 + 0.5 * I, 2.0 + 1.5 * I)
+  private val b = Vec2c(2.0 - 1.0 * I, 1.0 - 2.0 * I)
+  private val m = Mat2c(0.0 + 0.0 * I, 1.0 + 1.0 * I, 2.0 + 1.0 * I, 3.0 + 2.0 * I)
+
+  test("Construct a mutable vector") {
+    assert(new MutableVec2c().toVec2c == Vec2c.Zero)
+    assert(new MutableVec2c(a).toVec2c == a)
+  }
+
+  test("Access and update components") {
+    val v = new MutableVec2c(a)
+    v(0) = 2.0 + I
+    v.update(1, 3.0, 4.0)
+    assert(v(0) == 2.0 + I)
+    assert(v.y == 3.0 + 4.0 * I)
+  }
+
+  test("Add and subtract vectors") {
+    val v = new MutableVec2c(a)
+    v += b
+    assert(v ~= a + b)
+    v -= new MutableVec2c(b)
+    assert(v ~= a)
+  }
+
+  test("Multiply and divide by scalars") {
+    val v = new MutableVec2c(a)
+    v *= 2.0 + I
+    assert(v ~= a * (2.0 + I))
+    v /= 2.0 + I
+    assert(v ~= a)
+    v *= 2.0
+    v /= 4.0
+    assert(v ~= a * 0.5)
+  }
+
+  test("Transform a mutable vector by a matrix") {
+    val v = new MutableVec2c(a)
+    v.transform(m)
+    assert(v ~= m * a)
+  }
+
+  test("Accumulate matrix-vector products") {
+    val acc = new MutableVec2c()
+    acc.addProduct(m, a)
+    acc.addProduct(m, new MutableVec2c(b))
+    assert(acc ~= m * a + m * b)
+  }
+
+  test("Conjugate of a mutable vector") {
+    val v = new MutableVec2c(a)
+    v.conjugateAssign()
+    assert(v ~= a.conjugate)
+  }
+
+  test("Dot product and length of a mutable vector") {
+    val v = new MutableVec2c(a)
+    assert(v.dot(b) ~= a.dot(b))
+    assert(v.length ~= a.length)
+  }
+}
@@ -0,0 +1,164 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.util.concurrent.ForkJoinPool
+
+class ParallelOpsSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  private def withPool[T](threads: Int)(body: ForkJoinPool => T): T = {
+    val pool = new ForkJoinPool(threads)
+    try body(pool) finally pool.shutdown()
+  }
+
+  test("Sum of a small array") {
+    val a = ComplexArray(Complex(1.0, 2.0), Complex(3.0, -1.0), Complex(0.5, 0.5))
+    assert(ParallelOps.Default.sum(a) == Complex(4.5, 1.5))
+  }
+
+  test("Sum of a large array") {
+    val a = this.data.complexArray(10000)
+    val expected = a.toArray.foldLeft(Complex.Zero)(_ + _)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 64).sum(a) ~= expected)
+    }
+  }
+
+  test("Sum is deterministic") {
+    val a = this.data.complexArray(10000)
+    val res = this.withPool(1)(pool => ParallelOps(pool, 64).sum(a))
+    for (threads <- Seq(2, 4, 8)) {
+      this.withPool(threads) { pool =>
+        assert(ParallelOps(pool, 64).sum(a) == res)
+      }
+    }
+  }
+
+  test("Dot product is the sum of the dot products of vectors") {
+    val vectors1 = Seq.fill(1000)(this.data.vec3c)
+    val vectors2 = Seq.fill(1000)(this.data.vec3c)
+    val a = ComplexArray(vectors1.flatMap(v => Seq(v.x, v.y, v.z)): _*)
+    val b = ComplexArray(vectors2.flatMap(v => Seq(v.x, v.y, v.z)): _*)
+    val expected = vectors1.zip(vectors2).map(v => v._1.dot(v._2)).foldLeft(Complex.Zero)(_ + _)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 100).dot(a, b) ~= expected)
+    }
+  }
+
+  test("Dot product is deterministic") {
+    val a = this.data.complexArray(5000)
+    val b = this.data.complexArray(5000)
+    val res = this.withPool(1)(pool => ParallelOps(pool, 32).dot(a, b))
+    this.withPool(8) { pool =>
+      assert(ParallelOps(pool, 32).dot(a, b) == res)
+    }
+  }
+
+  test("Sum of products") {
+    val a = this.data.complexArray(5000)
+    val b = this.data.complexArray(5000)
+    val expected = a.toArray.zip(b.toArray).map(z => z._1 * z._2).foldLeft(Complex.Zero)(_ + _)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 128).sumOfProducts(a, b) ~= expected)
+    }
+  }
+
+  test("Sum of arrays with different lengths") {
+    assertThrows[IllegalArgumentException] {
+      ParallelOps.Default.sumOfProducts(new ComplexArray(3), new ComplexArray(4))
+    }
+  }
+
+  test("Element-wise sum") {
+    val a = this.data.complexArray(3000)
+    val b = this.data.complexArray(3000)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 100).plus(a, b) == a + b)
+    }
+  }
+
+  test("Element-wise difference") {
+    val a = this.data.complexArray(3000)
+    val b = this.data.complexArray(3000)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 100).minus(a, b) == a - b)
+    }
+  }
+
+  test("Element-wise product") {
+    val a = this.data.complexArray(3000)
+    val b = this.data.complexArray(3000)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 100).multiply(a, b) == a * b)
+    }
+  }
+
+  test("Product with a complex number") {
+    val a = this.data.complexArray(3000)
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 100).multiply(a, Complex(0.5, -2.0)) == a * Complex(0.5, -2.0))
+    }
+  }
+
+  test("Parallel transform of 4D vectors") {
+    val m = Mat4c(
+      Complex(1.0, 2.0), Complex(1.5, 1.0), Complex(2.0, 1.0), Complex(3.0, 0.0),
+      Complex(0.5, 1.5), Complex(3.0, 2.0), Complex(1.0, 2.0), Complex(2.0, 1.0),
+      Complex(2.0, 3.0), Complex(0.0, 1.0), Complex(1.5, 2.5), Complex(1.0, 0.0),
+      Complex(3.0, 1.0), Complex(2.0, 3.0), Complex(2.5, 1.5), Complex(0.0, 2.0)
+    )
+    val src = this.data.complexArray(4 * 1000)
+    val expected = new ComplexArray(4 * 1000)
+    val res = new ComplexArray(4 * 1000)
+    m.transformAll(src, expected)
+    this.withPool(4) { pool =>
+      ParallelOps(pool, 50).transformAll(m, src, res)
+    }
+    assert(res == expected)
+  }
+
+  test("Parallel transform of 4D vectors to 3D vectors") {
+    val m = Mat3x4c(
+      Complex(1.0, 2.0), Complex(1.5, 1.0), Complex(2.0, 1.0), Complex(3.0, 0.0),
+      Complex(0.5, 1.5), Complex(3.0, 2.0), Complex(1.0, 2.0), Complex(2.0, 1.0),
+      Complex(2.0, 3.0), Complex(0.0, 1.0), Complex(1.5, 2.5), Complex(1.0, 0.0)
+    )
+    val src = this.data.complexArray(4 * 1000)
+    val expected = new ComplexArray(3 * 1000)
+    val res = new ComplexArray(3 * 1000)
+    m.transformAll(src, expected)
+    this.withPool(4) { pool =>
+      ParallelOps(pool, 50).transformAll(m, src, res)
+    }
+    assert(res == expected)
+  }
+
+  test("Parallel transform with a destination that is too small") {
+    assertThrows[IllegalArgumentException] {
+      ParallelOps.Default.transformAll(Mat2c.Identity, new ComplexArray(20), new ComplexArray(10))
+    }
+  }
+
+  test("Parallel matrix product") {
+    val a = this.data.complexMatrix(300, 130)
+    val b = this.data.complexMatrix(130, 270)
+    val expected = a * b
+    this.withPool(4) { pool =>
+      assert(ParallelOps(pool, 1).multiply(a, b) == expected)
+    }
+  }
+
+  test("Parallel product of matrices of incompatible sizes") {
+    assertThrows[IllegalArgumentException] {
+      ParallelOps.Default.multiply(new ComplexMatrix(2, 3), new ComplexMatrix(2, 3))
+    }
+  }
+
+  test("Granularity must be positive") {
+    assertThrows[IllegalArgumentException] {
+      ParallelOps(ForkJoinPool.commonPool(), 0)
+    }
+  }
+}
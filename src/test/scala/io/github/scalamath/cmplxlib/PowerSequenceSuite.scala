@@ -0,0 +1,108 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class PowerSequenceSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat2c] = (a: Mat2c, b: Any) => b match {
+    case b: Mat2c => a ~= b
+    case _ => false
+  }
+
+  private val mat = Mat2c(
+    1.0 + 2.0 * I, 1.5 + I,
+    0.5 + 1.5 * I, 3.0 + 2.0 * I
+  )
+
+  test("First element is the identity") {
+    val powers = PowerSequence(this.mat)
+    assert(powers(0) == Mat2c.Identity)
+  }
+
+  test("Second element is the matrix") {
+    val powers = PowerSequence(this.mat)
+    assert(powers(1) == this.mat)
+  }
+
+  test("Powers are equal to the matrix power") {
+    val powers = PowerSequence(this.mat)
+    for (exp <- 0 to 10) {
+      assert(powers(exp) === this.mat.power(exp))
+    }
+  }
+
+  test("Powers are computed incrementally") {
+    val powers = PowerSequence(this.mat)
+    assert(powers.computed == 1)
+    powers(5)
+    assert(powers.computed == 6)
+    powers(3)
+    assert(powers.computed == 6)
+  }
+
+  test("Powers are cached") {
+    val powers = PowerSequence(this.mat)
+    assert(powers(4) eq powers(4))
+  }
+
+  test("Negative exponent") {
+    val powers = PowerSequence(this.mat)
+    assertThrows[IllegalArgumentException] {
+      powers(-1)
+    }
+  }
+
+  test("Take the first powers") {
+    val powers = PowerSequence(this.mat)
+    val res = powers.take(4)
+    assert(res.length == 4)
+    assert(res.head == Mat2c.Identity)
+    assert(res(3) === this.mat * this.mat * this.mat)
+  }
+
+  test("Take zero powers") {
+    val powers = PowerSequence(this.mat)
+    assert(powers.take(0).isEmpty)
+  }
+
+  test("Iterate over the powers") {
+    val powers = PowerSequence(this.mat)
+    val res = powers.iterator.take(6).toSeq
+    for (exp <- 0 until 6) {
+      assert(res(exp) === this.mat.power(exp))
+    }
+  }
+
+  test("Iterating does not cache powers") {
+    val powers = PowerSequence(this.mat)
+    powers(2)
+    val it = powers.iterator
+    for (exp <- 0 until 8) {
+      assert(it.next() === this.mat.power(exp))
+    }
+    assert(powers.computed == 3)
+  }
+
+  test("Power sequence of a 3x3 matrix") {
+    val mat = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+    )
+    val powers = PowerSequence(mat)
+    assert(powers(3) ~= mat * mat * mat)
+  }
+
+  test("Power sequence of a 4x4 matrix") {
+    val mat = Mat4c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0,
+      3.0 + I, 2.0 + 3.0 * I, 2.5 + 1.5 * I, 2.0 * I
+    )
+    val powers = PowerSequence(mat)
+    assert(powers(3) ~= mat * mat * mat)
+  }
+}
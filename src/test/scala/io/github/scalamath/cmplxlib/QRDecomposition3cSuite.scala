@@ -0,0 +1,132 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class QRDecomposition3cSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat3c] = (a: Mat3c, b: Any) => b match {
+    case b: Mat3c => a ~= b
+    case _ => false
+  }
+
+  implicit val vectorEquality: Equality[Vec3c] = (a: Vec3c, b: Any) => b match {
+    case b: Vec3c => a ~= b
+    case _ => false
+  }
+
+  private val matrix = Mat3c(
+      1.0 + 2.0 * I, 1.5 + I, 2.0 + I,
+      0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I,
+      2.0 + 3.0 * I, I, 1.5 + 2.5 * I
+  )
+
+  /** Orthonormalization with the classical Gram-Schmidt procedure */
+  private def gramSchmidt(m: Mat3c): Mat3c = {
+    var (v0, v1, v2) = (m.col0, m.col1, m.col2)
+    v1 = v1 - v1.project(v0)
+    v2 = v2 - v2.project(v0) - v2.project(v1)
+    Mat3c.fromColumns(v0.normalized, v1.normalized, v2.normalized)
+  }
+
+  test("Product of the factors is equal to the matrix") {
+    val qr = this.matrix.qrDecomposition
+    assert(qr.q * qr.r === this.matrix)
+  }
+
+  test("Unitary factor is unitary") {
+    assert(this.matrix.qrDecomposition.q.isUnitary(1e-14))
+  }
+
+  test("Upper triangular factor is triangular with a real non-negative diagonal") {
+    val r = this.matrix.qrDecomposition.r
+    assert(r.isUpperTriangular)
+    for (i <- 0 until 3) {
+      assert(r(i, i).b == 0.0)
+      assert(r(i, i).a > 0.0)
+    }
+  }
+
+  test("Unitary factor is equal to the result of the Gram-Schmidt procedure") {
+    assert(this.matrix.orthonormalized === this.gramSchmidt(this.matrix))
+    assert(this.matrix.orthonormalized == this.matrix.qrDecomposition.q)
+  }
+
+  test("Orthonormalization of almost linearly dependent columns") {
+    val m = Mat3c(
+      1.0 + I, 2.0, 1.0 + I + 1e-9,
+      2.0, 1.0 - I, 2.0,
+      0.5 * I, 3.0, 0.5 * I - 1e-9
+    )
+    val qr = m.qrDecomposition
+    assert(m.orthonormalized.isUnitary(1e-14))
+    assert(qr.q * qr.r === m)
+  }
+
+  test("Solve a system with a vector right-hand side") {
+    val b = Vec3c(1.0 + I, 2.0, -I)
+    val x = this.matrix.qrDecomposition.solve(b)
+    assert(this.matrix * x === b)
+    assert(x === this.matrix.luDecomposition.solve(b))
+  }
+
+  test("Solve a system with a matrix right-hand side") {
+    val b = this.matrix.conjugate + Mat3c.Identity
+    val x = this.matrix.qrDecomposition.solve(b)
+    assert(this.matrix * x === b)
+    assert(this.matrix.qrDecomposition.solve(Mat3c.Identity) === this.matrix.inverse)
+  }
+
+  test("Decomposition of a non-singular matrix") {
+    assert(!this.matrix.qrDecomposition.isSingular)
+  }
+
+  test("Decomposition of a singular matrix") {
+    val m = Mat3c(
+      1.0 + I, 2.0, 3.0 - I,
+      2.0 + 2.0 * I, 4.0, 6.0 - 2.0 * I,
+      0.5, I, 2.0
+    )
+    val qr = m.qrDecomposition
+    assert(qr.isSingular)
+    assert(qr.q.isUnitary(1e-14))
+    assert(qr.q * qr.r === m)
+  }
+
+  test("Decomposition of the zero matrix") {
+    val qr = Mat3c.Zero.qrDecomposition
+    assert(qr.isSingular)
+    assert(qr.q == Mat3c.Identity)
+    assert(qr.r == Mat3c.Zero)
+  }
+
+  test("Decomposition of the identity matrix") {
+    val qr = Mat3c.Identity.qrDecomposition
+    assert(qr.q == Mat3c.Identity)
+    assert(qr.r == Mat3c.Identity)
+  }
+
+  test("Batched decomposition is equal to the decomposition of every matrix") {
+    val matrices = Seq(this.matrix, this.matrix.conjugate, Mat3c.Identity, this.matrix * 2.0 + Mat3c.Identity)
+    val src = new ComplexArray(9 * matrices.length)
+    for ((m, i) <- matrices.zipWithIndex; r <- 0 until 3; c <- 0 until 3) {
+      src(9 * i + 3 * r + c) = m(r, c)
+    }
+    val q = new ComplexArray(src.length)
+    val r = new ComplexArray(src.length)
+    Mat3c.decomposeQRAll(src, q, r)
+    for ((m, i) <- matrices.zipWithIndex; row <- 0 until 3; col <- 0 until 3) {
+      assert(q(9 * i + 3 * row + col) == m.qrDecomposition.q(row, col))
+      assert(r(9 * i + 3 * row + col) == m.qrDecomposition.r(row, col))
+    }
+    Mat3c.decomposeQRAll(src, q, src)
+    assert(src == r)
+  }
+
+  test("Batched decomposition with invalid arrays") {
+    assertThrows[IllegalArgumentException](Mat3c.decomposeQRAll(new ComplexArray(10), new ComplexArray(10), new ComplexArray(10)))
+    assertThrows[IllegalArgumentException](Mat3c.decomposeQRAll(new ComplexArray(18), new ComplexArray(9), new ComplexArray(18)))
+    assertThrows[IllegalArgumentException](Mat3c.decomposeQRAll(new ComplexArray(18), new ComplexArray(18), new ComplexArray(9)))
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex.I
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class QRDecomposition3x4cSuite extends AnyFunSuite {
+
+  implicit val matrixEquality: Equality[Mat3x4c] = (a: Mat3x4c, b: Any) => b match {
+    case b: Mat3x4c => a ~= b
+    case _ => false
+  }
+
+  private val matrix = Mat3x4c(
+    1.0 + 2.0 * I, 1.5 + I, 2.0 + I, 3.0,
+    0.5 + 1.5 * I, 3.0 + 2.0 * I, 1.0 + 2.0 * I, 2.0 + I,
+    2.0 + 3.0 * I, I, 1.5 + 2.5 * I, 1.0
+  )
+
+  test("Product of the factors is equal to the matrix") {
+    val qr = this.matrix.qrDecomposition
+    assert(qr.q * qr.r === this.matrix)
+  }
+
+  test("Unitary factor is unitary") {
+    assert(this.matrix.qrDecomposition.q.isUnitary(1e-14))
+  }
+
+  test("Upper factor is trapezoidal with a real non-negative diagonal") {
+    val r = this.matrix.qrDecomposition.r
+    for (row <- 0 until 3; col <- 0 until row) {
+      assert(r(row, col) == Complex.Zero)
+    }
+    for (i <- 0 until 3) {
+      assert(r(i, i).b == 0.0)
+      assert(r(i, i).a > 0.0)
+    }
+  }
+
+  test("Orthonormalized matrix contains the unitary factor and a zero column") {
+    val q = this.matrix.qrDecomposition.q
+    assert(this.matrix.orthonormalized == Mat3x4c.fromColumns(q.col0, q.col1, q.col2, Vec3c.Zero))
+    val c0 = this.matrix.col0.normalized
+    assert(this.matrix.orthonormalized.col0 ~= c0)
+  }
+
+  test("Decomposition of a matrix with linearly dependent columns") {
+    val m = Mat3x4c(
+      1.0 + I, 2.0 + 2.0 * I, 3.0, 1.0,
+      2.0, 4.0, 0.5, I,
+      -I, -2.0 * I, 1.0, 2.0
+    )
+    val qr = m.qrDecomposition
+    assert(qr.isRankDeficient)
+    assert(qr.q.isUnitary(1e-14))
+    assert(qr.q * qr.r === m)
+    assert(!this.matrix.qrDecomposition.isRankDeficient)
+  }
+
+  test("Batched decomposition is equal to the decomposition of every matrix") {
+    val matrices = Seq(this.matrix, this.matrix.conjugate, this.matrix * 2.0)
+    val src = new ComplexArray(12 * matrices.length)
+    for ((m, i) <- matrices.zipWithIndex; r <- 0 until 3; c <- 0 until 4) {
+      src(12 * i + 4 * r + c) = m(r, c)
+    }
+    val q = new ComplexArray(9 * matrices.length)
+    val r = new ComplexArray(12 * matrices.length)
+    Mat3x4c.decomposeQRAll(src, q, r)
+    for ((m, i) <- matrices.zipWithIndex; row <- 0 until 3; col <- 0 until 4) {
+      if (col < 3) assert(q(9 * i + 3 * row + col) == m.qrDecomposition.q(row, col))
+      assert(r(12 * i + 4 * row + col) == m.qrDecomposition.r(row, col))
+    }
+  }
+
+  test("Batched decomposition with invalid arrays") {
+    assertThrows[IllegalArgumentException](Mat3x4c.decomposeQRAll(new ComplexArray(13), new ComplexArray(13), new ComplexArray(13)))
+    assertThrows[IllegalArgumentException](Mat3x4c.decomposeQRAll(new ComplexArray(24), new ComplexArray(9), new ComplexArray(24)))
+  }
+}
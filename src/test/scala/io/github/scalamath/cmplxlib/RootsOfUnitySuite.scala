@@ -0,0 +1,85 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.DoubleEqualsApprox
+import org.scalatest.funsuite.AnyFunSuite
+
+class RootsOfUnitySuite extends AnyFunSuite {
+
+  test("Roots are equal to the complex numbers in polar form") {
+    val roots = RootsOfUnity(7)
+    for (k <- 0 until 7) {
+      val z = Complex.fromPolar(1.0, 2.0 * math.Pi * k / 7.0)
+      assert(roots(k) ~= z)
+      assert(roots.realAt(k) ~= z.a)
+      assert(roots.imaginaryAt(k) ~= z.b)
+    }
+  }
+
+  test("Roots at the quarter points are exact") {
+    val roots = RootsOfUnity(8)
+    assert(roots(0) == Complex.One)
+    assert(roots(2) == Complex.I)
+    assert(roots(4) == -Complex.One)
+    assert(roots(6) == -Complex.I)
+  }
+
+  test("Roots are symmetric") {
+    val roots = RootsOfUnity(12)
+    for (k <- 1 until 12) {
+      assert(roots(12 - k) == roots(k).conjugate)
+    }
+  }
+
+  test("Indices are reduced modulo the order") {
+    val roots = RootsOfUnity(5)
+    assert(roots(7) == roots(2))
+    assert(roots(-1) == roots(4))
+  }
+
+  test("Roots of order one") {
+    assert(RootsOfUnity(1)(0) == Complex.One)
+  }
+
+  test("Copy the roots into an array") {
+    val roots = RootsOfUnity(4)
+    val array = new Array[Double](10)
+    roots.copyTo(array, 1)
+    assert(array.toSeq == Seq(0.0, 0.0, 1.0, 0.0, 0.0, 1.0, -1.0, 0.0, 0.0, -1.0))
+  }
+
+  test("Copy the roots into an array that is too small") {
+    assertThrows[IllegalArgumentException] {
+      RootsOfUnity(4).copyTo(new Array[Double](8), 1)
+    }
+  }
+
+  test("Roots as a complex array") {
+    val array = RootsOfUnity(3).toComplexArray
+    assert(array.length == 3)
+    assert(array(1) ~= Complex.fromPolar(1.0, 2.0 * math.Pi / 3.0))
+  }
+
+  test("Sum of the roots is zero") {
+    val array = RootsOfUnity(9).toComplexArray
+    assert(array.toArray.foldLeft(Complex.Zero)(_ + _) ~= Complex.Zero)
+  }
+
+  test("Tables are cached") {
+    assert(RootsOfUnity(10) eq RootsOfUnity(10))
+  }
+
+  test("Hits and misses are counted") {
+    val misses = RootsOfUnity.misses
+    RootsOfUnity(9973)
+    assert(RootsOfUnity.misses > misses)
+    val hits = RootsOfUnity.hits
+    RootsOfUnity(9973)
+    assert(RootsOfUnity.hits > hits)
+  }
+
+  test("Order must be positive") {
+    assertThrows[IllegalArgumentException] {
+      RootsOfUnity(0)
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package io.github.scalamath.cmplxlib
+
+import org.scalatest.funsuite.AnyFunSuite
+
+import java.util.concurrent.ForkJoinPool
+
+class StateVectorSuite extends AnyFunSuite {
+
+  private val data = new TestData(42)
+
+  private val hadamard = Mat2c(1.0, 1.0, 1.0, -1.0) / math.sqrt(2.0)
+
+  private val cnot = Mat4c(
+    1.0, 0.0, 0.0, 0.0,
+    0.0, 1.0, 0.0, 0.0,
+    0.0, 0.0, 0.0, 1.0,
+    0.0, 0.0, 1.0, 0.0
+  )
+
+  test("New state has all qubits set to zero") {
+    val state = new StateVector(3)
+    assert(state.length == 8)
+    assert(state(0) == Complex.One)
+    assert((1 until 8).forall(i => state(i) == Complex.Zero))
+    assert(state.squaredNorm == 1.0)
+  }
+
+  test("Basis state") {
+    val state = StateVector.basis(3, 5)
+    assert(state(5) == Complex.One)
+    assert(state.probability(5) == 1.0)
+    assert(state.probabilityOfOne(0) == 1.0)
+    assert(state.probabilityOfOne(1) == 0.0)
+    assert(state.probabilityOfOne(2) == 1.0)
+  }
+
+  test("Hadamard gate") {
+    val state = new StateVector(1).applyGate(this.hadamard, 0)
+    assert(state(0) ~= Complex(1.0 / math.sqrt(2.0), 0.0))
+    assert(state(1) ~= Complex(1.0 / math.sqrt(2.0), 0.0))
+  }
+
+  test("Bell state") {
+    val state = new StateVector(2).applyGate(this.hadamard, 1).applyGate(this.cnot, 1, 0)
+    assert(math.abs(state.probability(0) - 0.5) < 1e-15)
+    assert(state.probability(1) == 0.0)
+    assert(state.probability(2) == 0.0)
+    assert(math.abs(state.probability(3) - 0.5) < 1e-15)
+  }
+
+  test("Single-qubit gates are equal to multiplying pairs of amplitudes") {
+    for (target <- 0 until 5) {
+      val state = this.data.state(5)
+      val gate = this.data.mat2c
+      val expected = state.copy
+      for (i <- 0 until 32 if (i & (1 << target)) == 0) {
+        val j = i | (1 << target)
+        val v = gate * Vec2c(state(i), state(j))
+        expected(i) = v.x
+        expected(j) = v.y
+      }
+      assert(state.applyGate(gate, target) ~= expected)
+    }
+  }
+
+  test("Two-qubit gates are equal to multiplying groups of amplitudes") {
+    for (first <- 0 until 4; second <- 0 until 4 if first != second) {
+      val state = this.data.state(4)
+      val gate = this.data.mat4c
+      val expected = state.copy
+      for (i <- 0 until 16 if (i & ((1 << first) | (1 << second))) == 0) {
+        val (i01, i10, i11) = (i | (1 << second), i | (1 << first), i | (1 << first) | (1 << second))
+        val v = gate * Vec4c(state(i), state(i01), state(i10), state(i11))
+        expected(i) = v.x
+        expected(i01) = v.y
+        expected(i10) = v.z
+        expected(i11) = v.w
+      }
+      assert(state.applyGate(gate, first, second) ~= expected)
+    }
+  }
+
+  test("Parallel gates are equal to sequential gates") {
+    val parallel = ParallelOps(ForkJoinPool.commonPool(), 16)
+    val state = this.data.state(10)
+    val other = state.copy
+    val gate1 = this.data.mat2c
+    val gate2 = this.data.mat4c
+    state.applyGate(gate1, 3).applyGate(gate2, 7, 2)
+    other.applyGate(gate1, 3, parallel).applyGate(gate2, 7, 2, parallel)
+    assert(state.toComplexArray == other.toComplexArray)
+  }
+
+  test("Unitary gates preserve the norm") {
+    val state = this.data.state(6)
+    state.applyGate(this.hadamard, 2).applyGate(this.cnot, 0, 5).applyGate(this.hadamard, 5)
+    assert(math.abs(state.squaredNorm - 1.0) < 1e-12)
+  }
+
+  test("Gates with targets out of range") {
+    val state = new StateVector(3)
+    assertThrows[IllegalArgumentException](state.applyGate(this.hadamard, 3))
+    assertThrows[IllegalArgumentException](state.applyGate(this.hadamard, -1))
+    assertThrows[IllegalArgumentException](state.applyGate(this.cnot, 1, 1))
+    assertThrows[IllegalArgumentException](state.applyGate(this.cnot, 0, 3))
+  }
+
+  test("Invalid number of qubits or amplitudes") {
+    assertThrows[IllegalArgumentException](new StateVector(0))
+    assertThrows[IllegalArgumentException](new StateVector(StateVector.MaxQubits + 1))
+    assertThrows[IllegalArgumentException](StateVector.basis(2, 4))
+    assertThrows[IllegalArgumentException](StateVector.fromAmplitudes(new ComplexArray(6)))
+  }
+
+  test("Amplitudes are copied") {
+    val amplitudes = ComplexArray(Complex.One, Complex.Zero)
+    val state = StateVector.fromAmplitudes(amplitudes)
+    state.applyGate(this.hadamard, 0)
+    assert(amplitudes(0) == Complex.One)
+    assert(state.toComplexArray != amplitudes)
+  }
+}
@@ -0,0 +1,149 @@
+package io.github.scalamath.cmplxlib
+
+import scala.util.Random
+
+/**
+ * Generator of random inputs shared by the test suites.
+ *
+ * Every suite should create its own instance, so that its inputs do not depend on the order in which suites run.
+ *
+ * @param seed Seed of the random generator.
+ */
+class TestData(seed: Long) {
+
+  /** The random generator */
+  val random: Random = new Random(seed)
+
+  /** Returns a random number in `[-1, 1)` */
+  def double: Double = this.random.nextDouble() * 2.0 - 1.0
+
+  /** Returns a random complex number whose real and imaginary parts are in `[-1, 1)` */
+  def complex: Complex = Complex(this.double, this.double)
+
+  /** Returns an array of the given number of random numbers in `[-1, 1)` */
+  def doubles(length: Int): Array[Double] = Array.fill(length)(this.double)
+
+  /** Returns an array of the given number of random complex numbers */
+  def complexArray(length: Int): ComplexArray = ComplexArray.wrap(this.doubles(2 * length))
+
+  /** Returns a random matrix of the given size */
+  def complexMatrix(rows: Int, columns: Int): ComplexMatrix = ComplexMatrix.wrap(rows, columns, this.doubles(2 * rows * columns))
+
+  /** Returns the given number of random complex numbers */
+  def elements(count: Int): IndexedSeq[Complex] = IndexedSeq.fill(count)(this.complex)
+
+  /** Returns a random vector */
+  def vec2c: Vec2c = Vec2c(this.complex, this.complex)
+
+  /** Returns a random vector */
+  def vec3c: Vec3c = Vec3c(this.complex, this.complex, this.complex)
+
+  /** Returns a random vector */
+  def vec4c: Vec4c = Vec4c(this.complex, this.complex, this.complex, this.complex)
+
+  /** Returns a random matrix */
+  def mat2c: Mat2c = TestData.mat2c(this.elements(4))
+
+  /** Returns a random matrix */
+  def mat3c: Mat3c = TestData.mat3c(this.elements(9))
+
+  /** Returns a random matrix */
+  def mat4c: Mat4c = TestData.mat4c(this.elements(16))
+
+  /** Returns a random matrix */
+  def mat2x3c: Mat2x3c = Mat2x3c(this.complex, this.complex, this.complex, this.complex, this.complex, this.complex)
+
+  /** Returns a random matrix */
+  def mat3x4c: Mat3x4c = Mat3x4c.fromRows(this.vec4c, this.vec4c, this.vec4c)
+
+  /** Returns a random normalized state of the given number of qubits */
+  def state(qubits: Int): StateVector = StateVector.fromAmplitudes(this.complexArray(1 << qubits)).normalize()
+}
+
+/**
+ * Helpers that treat square matrices of any size as sequences of elements in row-major order, which allows to share
+ * tests between [[Mat2c]], [[Mat3c]], and [[Mat4c]].
+ */
+object TestData {
+
+  /** Returns the elements of the given vector or matrix in row-major order */
+  def elements(m: Product): IndexedSeq[Complex] = m.productIterator.map(_.asInstanceOf[Complex]).toIndexedSeq
+
+  /** Returns the 2x2 matrix with the given elements in row-major order */
+  def mat2c(e: Seq[Complex]): Mat2c = Mat2c(e(0), e(1), e(2), e(3))
+
+  /** Returns the 3x3 matrix with the given elements in row-major order */
+  def mat3c(e: Seq[Complex]): Mat3c = Mat3c(e(0), e(1), e(2), e(3), e(4), e(5), e(6), e(7), e(8))
+
+  /** Returns the 4x4 matrix with the given elements in row-major order */
+  def mat4c(e: Seq[Complex]): Mat4c = Mat4c(e(0), e(1), e(2), e(3), e(4), e(5), e(6), e(7), e(8), e(9), e(10), e(11), e(12), e(13), e(14), e(15))
+
+  /** Returns an array containing the elements of all the given vectors or matrices */
+  def pack(values: Seq[Product]): ComplexArray = ComplexArray(values.flatMap(this.elements): _*)
+
+  /** Splits the given array into groups of the given number of elements */
+  def unpack(size: Int, a: ComplexArray): IndexedSeq[IndexedSeq[Complex]] = a.toArray.toIndexedSeq.grouped(size).toIndexedSeq
+
+  /** Returns the 2x2 matrices contained in the given array */
+  def unpackMat2c(a: ComplexArray): IndexedSeq[Mat2c] = this.unpack(4, a).map(this.mat2c)
+
+  /** Returns the 3x3 matrices contained in the given array */
+  def unpackMat3c(a: ComplexArray): IndexedSeq[Mat3c] = this.unpack(9, a).map(this.mat3c)
+
+  /** Returns the 4x4 matrices contained in the given array */
+  def unpackMat4c(a: ComplexArray): IndexedSeq[Mat4c] = this.unpack(16, a).map(this.mat4c)
+
+  /** Returns the `n`x`n` identity matrix */
+  def identity(n: Int): IndexedSeq[Complex] = IndexedSeq.tabulate(n * n)(i => if (i / n == i % n) Complex.One else Complex.Zero)
+
+  /** Returns the `n`x`n` diagonal matrix with the given diagonal */
+  def diagonal(values: Seq[Complex]): IndexedSeq[Complex] = {
+    val n = values.length
+    IndexedSeq.tabulate(n * n)(i => if (i / n == i % n) values(i / n) else Complex.Zero)
+  }
+
+  /** Returns the product of two `n`x`n` matrices */
+  def multiply(n: Int, a: IndexedSeq[Complex], b: IndexedSeq[Complex]): IndexedSeq[Complex] = {
+    IndexedSeq.tabulate(n * n)(i => (0 until n).map(k => a(i / n * n + k) * b(k * n + i % n)).foldLeft(Complex.Zero)(_ + _))
+  }
+
+  /** Returns the product of an `n`x`n` matrix and a vector */
+  def transform(n: Int, a: IndexedSeq[Complex], v: IndexedSeq[Complex]): IndexedSeq[Complex] = {
+    IndexedSeq.tabulate(n)(r => (0 until n).map(k => a(r * n + k) * v(k)).foldLeft(Complex.Zero)(_ + _))
+  }
+
+  /** Returns the conjugate transpose of an `n`x`n` matrix */
+  def conjugateTranspose(n: Int, a: IndexedSeq[Complex]): IndexedSeq[Complex] = IndexedSeq.tabulate(n * n)(i => a(i % n * n + i / n).conjugate)
+
+  /** Returns column `c` of an `n`x`n` matrix */
+  def column(n: Int, a: IndexedSeq[Complex], c: Int): IndexedSeq[Complex] = IndexedSeq.tabulate(n)(r => a(r * n + c))
+
+  /** Returns the largest modulus of the given elements */
+  def maxModulus(a: Seq[Complex]): Double = a.map(_.modulus).max
+
+  /** Checks if the real and imaginary parts of corresponding elements differ by at most the given tolerance */
+  def close(a: Seq[Complex], b: Seq[Complex], tolerance: Double): Boolean = a.zip(b).forall { case (x, y) =>
+    ComplexKernels.close(x.a, y.a, tolerance) && ComplexKernels.close(x.b, y.b, tolerance)
+  }
+
+  /** Checks if an `n`x`n` matrix is hermitian within the given tolerance */
+  def isHermitian(n: Int, a: IndexedSeq[Complex], tolerance: Double): Boolean = this.close(a, this.conjugateTranspose(n, a), tolerance)
+
+  /** Checks if an `n`x`n` matrix is unitary within the given tolerance */
+  def isUnitary(n: Int, a: IndexedSeq[Complex], tolerance: Double): Boolean = {
+    this.close(this.multiply(n, a, this.conjugateTranspose(n, a)), this.identity(n), tolerance)
+  }
+
+  /** Returns a unitary matrix obtained by orthonormalizing the columns of the given `n`x`n` matrix */
+  def unitary(n: Int, a: IndexedSeq[Complex]): IndexedSeq[Complex] = {
+    val columns = (0 until n).foldLeft(IndexedSeq.empty[IndexedSeq[Complex]]) { (previous, c) =>
+      val v = previous.foldLeft(this.column(n, a, c)) { (v, q) =>
+        val dot = q.zip(v).map(p => p._1.conjugate * p._2).foldLeft(Complex.Zero)(_ + _)
+        v.zip(q).map(p => p._1 - p._2 * dot)
+      }
+      val norm = math.sqrt(v.map(_.squaredModulus).sum)
+      previous :+ v.map(_ / norm)
+    }
+    IndexedSeq.tabulate(n * n)(i => columns(i % n)(i / n))
+  }
+}
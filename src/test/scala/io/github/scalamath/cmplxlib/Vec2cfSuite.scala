@@ -0,0 +1,72 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import io.github.scalamath.vecmatlib.Vec2f
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Vec2cfSuite extends AnyFunSuite {
+
+  implicit val vectorEquality: Equality[Vec2cf] = (a: Vec2cf, b: Any) => b match {
+    case b: Vec2cf => a ~= b
+    case _ => false
+  }
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  test("Sum of two vectors") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    val b = Vec2cf(0.5f - I, 1.5f * I)
+    assert(a + b == Vec2cf(1.5f, 2.0f + 4.5f * I))
+  }
+
+  test("Product of a vector and a scalar") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    assert(a * 2.0f == Vec2cf((1.0f + I) * 2.0f, (2.0f + 3.0f * I) * 2.0f))
+    assert(2.0f * a == a * 2.0f)
+    assert(I * a == a * I)
+  }
+
+  test("Dot product is equal to the one computed in double precision") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    val b = Vec2cf(0.5f - I, 1.5f * I)
+    assert(a.dot(b) === Complex32.fromComplex(a.toVec2c.dot(b.toVec2c)))
+  }
+
+  test("Length of a vector") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    assert(a.length == a.toVec2c.length.toFloat)
+    assert(a.normalized.isNormalized)
+  }
+
+  test("Outer product is equal to the one computed in double precision") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    val b = Vec2cf(0.5f - I, 1.5f * I)
+    assert(a.outer(b) == Mat2cf.fromMat2c(a.toVec2c.outer(b.toVec2c)))
+  }
+
+  test("Convert to and from double precision") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    assert(a.toVec2c == Vec2c(1.0 + Complex.I, 2.0 + 3.0 * Complex.I))
+    assert(Vec2cf.fromVec2c(a.toVec2c) == a)
+  }
+
+  test("Single-precision vectors are promoted to double precision") {
+    val a: Vec2c = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    assert(a == Vec2cf(1.0f + I, 2.0f + 3.0f * I).toVec2c)
+  }
+
+  test("Implicit conversion from Vec2f") {
+    val a: Vec2cf = Vec2f(1.0f, 2.0f)
+    assert(a == Vec2cf(1.0f, 2.0f))
+  }
+
+  test("Approximate equality uses a single-precision tolerance") {
+    val a = Vec2cf(1.0f + I, 2.0f + 3.0f * I)
+    assert(a ~= a * 1.000001f)
+    assert(!(a ~= a * 1.001f))
+  }
+}
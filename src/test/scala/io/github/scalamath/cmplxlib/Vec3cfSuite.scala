@@ -0,0 +1,78 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import io.github.scalamath.vecmatlib.Vec3f
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Vec3cfSuite extends AnyFunSuite {
+
+  implicit val vectorEquality: Equality[Vec3cf] = (a: Vec3cf, b: Any) => b match {
+    case b: Vec3cf => a ~= b
+    case _ => false
+  }
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  test("Sum of two vectors") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    val b = Vec3cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I)
+    assert(a + b == Vec3cf(1.5f, 2.0f + 4.5f * I, 1.0f + 2.25f * I))
+  }
+
+  test("Product of a vector and a scalar") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    assert(a * 2.0f == Vec3cf((1.0f + I) * 2.0f, (2.0f + 3.0f * I) * 2.0f, (3.0f + 2.0f * I) * 2.0f))
+    assert(2.0f * a == a * 2.0f)
+    assert(I * a == a * I)
+  }
+
+  test("Dot product is equal to the one computed in double precision") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    val b = Vec3cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I)
+    assert(a.dot(b) === Complex32.fromComplex(a.toVec3c.dot(b.toVec3c)))
+  }
+
+  test("Cross product is equal to the one computed in double precision") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    val b = Vec3cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I)
+    assert(a.cross(b) === Vec3cf.fromVec3c(a.toVec3c.cross(b.toVec3c)))
+  }
+
+  test("Length of a vector") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    assert(a.length == a.toVec3c.length.toFloat)
+    assert(a.normalized.isNormalized)
+  }
+
+  test("Outer product is equal to the one computed in double precision") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    val b = Vec3cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I)
+    assert(a.outer(b) == Mat3cf.fromMat3c(a.toVec3c.outer(b.toVec3c)))
+  }
+
+  test("Convert to and from double precision") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    assert(a.toVec3c == Vec3c(1.0 + Complex.I, 2.0 + 3.0 * Complex.I, 3.0 + 2.0 * Complex.I))
+    assert(Vec3cf.fromVec3c(a.toVec3c) == a)
+  }
+
+  test("Single-precision vectors are promoted to double precision") {
+    val a: Vec3c = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    assert(a == Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I).toVec3c)
+  }
+
+  test("Implicit conversion from Vec3f") {
+    val a: Vec3cf = Vec3f(1.0f, 2.0f, 3.0f)
+    assert(a == Vec3cf(1.0f, 2.0f, 3.0f))
+  }
+
+  test("Approximate equality uses a single-precision tolerance") {
+    val a = Vec3cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I)
+    assert(a ~= a * 1.000001f)
+    assert(!(a ~= a * 1.001f))
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.scalamath.cmplxlib
+
+import io.github.scalamath.cmplxlib.Complex32.I
+import io.github.scalamath.vecmatlib.Vec4f
+import org.scalactic.Equality
+import org.scalatest.funsuite.AnyFunSuite
+
+class Vec4cfSuite extends AnyFunSuite {
+
+  implicit val vectorEquality: Equality[Vec4cf] = (a: Vec4cf, b: Any) => b match {
+    case b: Vec4cf => a ~= b
+    case _ => false
+  }
+
+  implicit val numberEquality: Equality[Complex32] = (a: Complex32, b: Any) => b match {
+    case b: Complex32 => a ~= b
+    case _ => false
+  }
+
+  test("Sum of two vectors") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    val b = Vec4cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I, 1.0f)
+    assert(a + b == Vec4cf(1.5f, 2.0f + 4.5f * I, 1.0f + 2.25f * I, 1.0f + 4.0f * I))
+  }
+
+  test("Product of a vector and a scalar") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    assert(a * 2.0f == Vec4cf((1.0f + I) * 2.0f, (2.0f + 3.0f * I) * 2.0f, (3.0f + 2.0f * I) * 2.0f, (4.0f * I) * 2.0f))
+    assert(2.0f * a == a * 2.0f)
+    assert(I * a == a * I)
+  }
+
+  test("Dot product is equal to the one computed in double precision") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    val b = Vec4cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I, 1.0f)
+    assert(a.dot(b) === Complex32.fromComplex(a.toVec4c.dot(b.toVec4c)))
+  }
+
+  test("Length of a vector") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    assert(a.length == a.toVec4c.length.toFloat)
+    assert(a.normalized.isNormalized)
+  }
+
+  test("Outer product is equal to the one computed in double precision") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    val b = Vec4cf(0.5f - I, 1.5f * I, -2.0f + 0.25f * I, 1.0f)
+    assert(a.outer(b) == Mat4cf.fromMat4c(a.toVec4c.outer(b.toVec4c)))
+  }
+
+  test("Convert to and from double precision") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    assert(a.toVec4c == Vec4c(1.0 + Complex.I, 2.0 + 3.0 * Complex.I, 3.0 + 2.0 * Complex.I, 4.0 * Complex.I))
+    assert(Vec4cf.fromVec4c(a.toVec4c) == a)
+  }
+
+  test("Single-precision vectors are promoted to double precision") {
+    val a: Vec4c = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    assert(a == Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I).toVec4c)
+  }
+
+  test("Implicit conversion from Vec4f") {
+    val a: Vec4cf = Vec4f(1.0f, 2.0f, 3.0f, 4.0f)
+    assert(a == Vec4cf(1.0f, 2.0f, 3.0f, 4.0f))
+  }
+
+  test("Approximate equality uses a single-precision tolerance") {
+    val a = Vec4cf(1.0f + I, 2.0f + 3.0f * I, 3.0f + 2.0f * I, 4.0f * I)
+    assert(a ~= a * 1.000001f)
+    assert(!(a ~= a * 1.001f))
+  }
+}